@@ -3,7 +3,12 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.application;
 
+import java.util.List;
+
 import gov.sandia.cf.dao.IDaoManager;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.IEntity;
+import gov.sandia.cf.tools.RscTools;
 
 /**
  * The abstract class to extend for every application service
@@ -55,4 +60,26 @@ public abstract class AApplication implements IApplication {
 		return appMgr.getDaoManager();
 	}
 
+	/**
+	 * Check that all the entities can be deleted: not null and already persisted.
+	 * 
+	 * @param entities         the entities to delete
+	 * @param entityNullMsgKey the message key if an entity is null
+	 * @param idNullMsgKey     the message key if an entity id is null
+	 * @throws CredibilityException if an entity or its id is null
+	 */
+	protected static void checkDeleteAll(List<? extends IEntity<?, ?>> entities, String entityNullMsgKey,
+			String idNullMsgKey) throws CredibilityException {
+		if (entities == null) {
+			return;
+		}
+		for (IEntity<?, ?> entity : entities) {
+			if (entity == null) {
+				throw new CredibilityException(RscTools.getString(entityNullMsgKey));
+			} else if (entity.getId() == null) {
+				throw new CredibilityException(RscTools.getString(idNullMsgKey));
+			}
+		}
+	}
+
 }
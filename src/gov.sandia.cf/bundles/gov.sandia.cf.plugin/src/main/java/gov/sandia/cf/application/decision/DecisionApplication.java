@@ -14,6 +14,7 @@ import org.slf4j.LoggerFactory;
 
 import gov.sandia.cf.application.AApplication;
 import gov.sandia.cf.application.IApplicationManager;
+import gov.sandia.cf.application.global.IReorderApp;
 import gov.sandia.cf.application.imports.IImportApplication;
 import gov.sandia.cf.dao.IDecisionConstraintRepository;
 import gov.sandia.cf.dao.IDecisionParamRepository;
@@ -239,9 +240,9 @@ public class DecisionApplication extends AApplication implements IDecisionApplic
 	@Override
 	public void deleteAllDecisionValue(List<DecisionValue> values) throws CredibilityException {
 		if (values != null) {
-			for (DecisionValue value : values) {
-				deleteDecisionValue(value);
-			}
+			checkDeleteAll(values, RscConst.EX_DECISION_DELETE_DECISIONVALUE_NULL,
+					RscConst.EX_DECISION_DELETE_DECISIONVALUE_IDNULL);
+			getAppMgr().getDaoManager().getRepository(IDecisionValueRepository.class).deleteAll(values);
 		}
 	}
 
@@ -310,9 +311,9 @@ public class DecisionApplication extends AApplication implements IDecisionApplic
 	@Override
 	public void deleteAllDecisionSelectValue(List<DecisionSelectValue> selectValues) throws CredibilityException {
 		if (selectValues != null) {
-			for (DecisionSelectValue select : selectValues) {
-				deleteDecisionSelectValue(select);
-			}
+			checkDeleteAll(selectValues, RscConst.EX_DECISION_DELETE_SELECTVALUE_NULL,
+					RscConst.EX_DECISION_DELETE_SELECTVALUE_IDNULL);
+			getDaoManager().getRepository(IDecisionSelectValueRepository.class).deleteAll(selectValues);
 		}
 	}
 
@@ -337,9 +338,9 @@ public class DecisionApplication extends AApplication implements IDecisionApplic
 	@Override
 	public void deleteAllDecisionConstraint(List<DecisionConstraint> contraints) throws CredibilityException {
 		if (contraints != null) {
-			for (DecisionConstraint select : contraints) {
-				deleteDecisionConstraint(select);
-			}
+			checkDeleteAll(contraints, RscConst.EX_DECISION_DELETE_CONSTRAINT_NULL,
+					RscConst.EX_DECISION_DELETE_CONSTRAINT_IDNULL);
+			getDaoManager().getRepository(IDecisionConstraintRepository.class).deleteAll(contraints);
 		}
 	}
 
@@ -412,23 +413,12 @@ public class DecisionApplication extends AApplication implements IDecisionApplic
 		sameGroupDecisionList
 				.sort(Comparator.comparing(Decision::getGeneratedId, new StringWithNumberAndNullableComparator()));
 
-		// set id for parents
-		int index = 1;
-		for (Decision decision : sameGroupDecisionList) {
-
-			String elementId = IDTools.generateAlphabeticId(index - 1);
-			decision.setGeneratedId(elementId);
-			updateDecision(decision, user);
-
-			if (decision.getChildren() != null && !decision.getChildren().isEmpty()) {
-				reorderDecisionAtSameLevel(decision.getChildren().get(0), user);
-			}
-
-			// refresh group
-			refresh(decision);
+		// set id for parents and children in one transaction
+		getAppMgr().getService(IReorderApp.class).reorderTree(IDecisionRepository.class, sameGroupDecisionList, null, 0,
+				Decision::getChildren);
 
-			index++;
-		}
+		// refresh groups
+		sameGroupDecisionList.forEach(this::refresh);
 	}
 
 	/**
@@ -452,7 +442,7 @@ public class DecisionApplication extends AApplication implements IDecisionApplic
 				.sort(Comparator.comparing(Decision::getGeneratedId, new StringWithNumberAndNullableComparator()));
 
 		// apply reordering
-		applyReorderFromList(sameGroupDecisionList, toMove, user);
+		applyReorderFromList(sameGroupDecisionList, toMove);
 	}
 
 	/**
@@ -485,7 +475,7 @@ public class DecisionApplication extends AApplication implements IDecisionApplic
 		List<Decision> reorderedList = IDTools.reorderList(sameGroupDecisionList, toMove, newIndex);
 
 		// apply reordering
-		applyReorderFromList(reorderedList, toMove, user);
+		applyReorderFromList(reorderedList, toMove);
 	}
 
 	/**
@@ -493,35 +483,16 @@ public class DecisionApplication extends AApplication implements IDecisionApplic
 	 *
 	 * @param orderedList the ordered list
 	 * @param toMove      the to move
-	 * @param user        the user
 	 * @throws CredibilityException the credibility exception
 	 */
-	private void applyReorderFromList(List<Decision> orderedList, Decision toMove, User user)
-			throws CredibilityException {
-
-		// set id for parents
-		int index = 1;
-		final String groupIdLabel = toMove.getParent() == null ? RscTools.empty() : toMove.getParent().getGeneratedId();
-		for (Decision decision : orderedList) {
-			String elementId = null;
-			if (toMove.getParent() == null) {
-				elementId = IDTools.generateAlphabeticId(index - 1);
-			} else if (toMove.getLevel() % 2 == 0) {
-				elementId = groupIdLabel + IDTools.generateAlphabeticId(index - 1);
-			} else {
-				elementId = groupIdLabel + index;
-			}
-			decision.setGeneratedId(elementId);
-			updateDecision(decision, user);
+	private void applyReorderFromList(List<Decision> orderedList, Decision toMove) throws CredibilityException {
 
-			if (decision.getChildren() != null && !decision.getChildren().isEmpty()) {
-				reorderDecisionAtSameLevel(decision.getChildren().get(0), user);
-			}
-
-			index++;
-		}
+		// set id for the group and children in one transaction
+		Decision parent = toMove.getParent();
+		getAppMgr().getService(IReorderApp.class).reorderTree(IDecisionRepository.class, orderedList,
+				parent != null ? parent.getGeneratedId() : null, toMove.getLevel(), Decision::getChildren);
 
 		// refresh group
-		refresh(toMove.getParent());
+		refresh(parent);
 	}
 }
@@ -5,6 +5,7 @@ package gov.sandia.cf.application.decision;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -169,12 +170,22 @@ public class ImportDecisionApp extends AApplication implements IImportDecisionAp
 		List<?> toAdd = getAppMgr().getService(IImportApplication.class).getChangesToAdd(paramList,
 				getDaoManager().getRepository(IDecisionParamRepository.class).findAll());
 
-		// For each parameters
-		for (DecisionParam parameter : toAdd.stream().map(DecisionParam.class::cast).collect(Collectors.toList())) {
+		List<DecisionParam> parameters = toAdd.stream().map(DecisionParam.class::cast).collect(Collectors.toList());
+
+		// create the parameters in one transaction
+		List<DecisionParam> toCreate = new ArrayList<>();
+		for (DecisionParam parameter : parameters) {
 			DecisionParam p = parameter.copy();
 			p.setModel(model);
-			DecisionParam parameterCreated = getAppMgr().getDaoManager().getRepository(IDecisionParamRepository.class)
-					.create(p);
+			toCreate.add(p);
+		}
+		List<DecisionParam> created = getAppMgr().getDaoManager().getRepository(IDecisionParamRepository.class)
+				.createAll(toCreate);
+
+		// For each parameters
+		for (int i = 0; i < parameters.size(); i++) {
+			DecisionParam parameter = parameters.get(i);
+			DecisionParam parameterCreated = created.get(i);
 
 			// Import select values
 			if (parameter.getParameterValueList() != null) {
@@ -213,12 +224,14 @@ public class ImportDecisionApp extends AApplication implements IImportDecisionAp
 						.findBy(EntityFilterBuilder.get(GenericParameterSelectValue.Filter.PARAMETER, param)));
 
 		// For each parameter values
+		List<DecisionSelectValue> toCreate = new ArrayList<>();
 		for (DecisionSelectValue parameterValue : toAdd.stream().map(DecisionSelectValue.class::cast)
 				.collect(Collectors.toList())) {
 			DecisionSelectValue pv = parameterValue.copy();
 			pv.setParameter(param);
-			getAppMgr().getDaoManager().getRepository(IDecisionSelectValueRepository.class).create(pv);
+			toCreate.add(pv);
 		}
+		getAppMgr().getDaoManager().getRepository(IDecisionSelectValueRepository.class).createAll(toCreate);
 
 		// refresh the parameter
 		getDaoManager().getRepository(IDecisionParamRepository.class).refresh(param);
@@ -244,12 +257,14 @@ public class ImportDecisionApp extends AApplication implements IImportDecisionAp
 						.findBy(EntityFilterBuilder.get(GenericParameterConstraint.Filter.PARAMETER, param)));
 
 		// For each parameter values
+		List<DecisionConstraint> toCreate = new ArrayList<>();
 		for (DecisionConstraint parameterValue : toAdd.stream().map(DecisionConstraint.class::cast)
 				.collect(Collectors.toList())) {
 			DecisionConstraint pv = parameterValue.copy();
 			pv.setParameter(param);
-			getAppMgr().getDaoManager().getRepository(IDecisionConstraintRepository.class).create(pv);
+			toCreate.add(pv);
 		}
+		getAppMgr().getDaoManager().getRepository(IDecisionConstraintRepository.class).createAll(toCreate);
 
 		// refresh the parameter
 		getDaoManager().getRepository(IDecisionParamRepository.class).refresh(param);
@@ -0,0 +1,62 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application.global;
+
+import java.util.List;
+import java.util.function.Function;
+
+import gov.sandia.cf.application.IApplication;
+import gov.sandia.cf.application.Service;
+import gov.sandia.cf.dao.ICRUDRepository;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.IEntity;
+import gov.sandia.cf.model.ISortableByIdEntity;
+
+/**
+ * Interface to manage the reordering of the entities sorted by generated id.
+ * The generated ids are computed in memory and only the entities with a new
+ * generated id are updated, in one transaction.
+ *
+ * @author Didier Verstraete
+ *
+ */
+@Service
+public interface IReorderApp extends IApplication {
+
+	/**
+	 * Set the generated ids of the ordered entities and of their descendants:
+	 * <ul>
+	 * <li>for the root entities: A, B, C...</li>
+	 * <li>for an even level: the parent generated id followed by A, B, C...</li>
+	 * <li>for an odd level: the parent generated id followed by 1, 2, 3...</li>
+	 * </ul>
+	 * The children are ordered by their current generated id.
+	 *
+	 * @param <E>               the entity type
+	 * @param repositoryClass   the repository of the entities
+	 * @param orderedList       the entities of the same parent, in the new order
+	 * @param parentGeneratedId the generated id of the parent, or null for the root
+	 *                          entities
+	 * @param level             the level of the ordered entities
+	 * @param children          the children getter
+	 * @return the entities updated
+	 * @throws CredibilityException if an error occured while updating the entities
+	 */
+	<E extends IEntity<E, Integer> & ISortableByIdEntity> List<E> reorderTree(
+			Class<? extends ICRUDRepository<E, Integer>> repositoryClass, List<E> orderedList,
+			String parentGeneratedId, int level, Function<E, List<E>> children) throws CredibilityException;
+
+	/**
+	 * Set the generated ids of the ordered entities: 1, 2, 3...
+	 *
+	 * @param <E>             the entity type
+	 * @param repositoryClass the repository of the entities
+	 * @param orderedList     the entities in the new order
+	 * @return the entities updated
+	 * @throws CredibilityException if an error occured while updating the entities
+	 */
+	<E extends IEntity<E, Integer> & ISortableByIdEntity> List<E> reorderNumbered(
+			Class<? extends ICRUDRepository<E, Integer>> repositoryClass, List<E> orderedList)
+			throws CredibilityException;
+}
@@ -0,0 +1,168 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application.global;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.sandia.cf.application.AApplication;
+import gov.sandia.cf.application.ApplicationManager;
+import gov.sandia.cf.dao.ICRUDRepository;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.IEntity;
+import gov.sandia.cf.model.ISortableByIdEntity;
+import gov.sandia.cf.model.comparator.StringWithNumberAndNullableComparator;
+import gov.sandia.cf.tools.IDTools;
+
+/**
+ * Manage the reordering of the entities sorted by generated id
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class ReorderApp extends AApplication implements IReorderApp {
+
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(ReorderApp.class);
+
+	/**
+	 * The constructor
+	 */
+	public ReorderApp() {
+		super();
+	}
+
+	/**
+	 * The constructor
+	 *
+	 * @param appMgr the application manager
+	 */
+	public ReorderApp(ApplicationManager appMgr) {
+		super(appMgr);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <E extends IEntity<E, Integer> & ISortableByIdEntity> List<E> reorderTree(
+			Class<? extends ICRUDRepository<E, Integer>> repositoryClass, List<E> orderedList,
+			String parentGeneratedId, int level, Function<E, List<E>> children) throws CredibilityException {
+
+		List<E> changedList = new ArrayList<>();
+		generateTreeIds(orderedList, parentGeneratedId, level, children, changedList);
+
+		return updateAll(repositoryClass, changedList);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <E extends IEntity<E, Integer> & ISortableByIdEntity> List<E> reorderNumbered(
+			Class<? extends ICRUDRepository<E, Integer>> repositoryClass, List<E> orderedList)
+			throws CredibilityException {
+
+		List<E> changedList = new ArrayList<>();
+		if (orderedList != null) {
+			int index = 1;
+			for (E entity : orderedList) {
+				setGeneratedId(entity, String.valueOf(index), changedList);
+				index++;
+			}
+		}
+
+		return updateAll(repositoryClass, changedList);
+	}
+
+	/**
+	 * Set the generated ids of the ordered entities and of their descendants
+	 *
+	 * @param <E>               the entity type
+	 * @param orderedList       the entities of the same parent, in the new order
+	 * @param parentGeneratedId the generated id of the parent, or null for the root
+	 *                          entities
+	 * @param level             the level of the ordered entities
+	 * @param children          the children getter
+	 * @param changedList       the entities with a new generated id
+	 */
+	private static <E extends ISortableByIdEntity> void generateTreeIds(List<E> orderedList, String parentGeneratedId,
+			int level, Function<E, List<E>> children, List<E> changedList) {
+
+		if (orderedList == null) {
+			return;
+		}
+
+		int index = 1;
+		for (E entity : orderedList) {
+
+			String generatedId = null;
+			if (parentGeneratedId == null) {
+				generatedId = IDTools.generateAlphabeticId(index - 1);
+			} else if (level % 2 == 0) {
+				generatedId = parentGeneratedId + IDTools.generateAlphabeticId(index - 1);
+			} else {
+				generatedId = parentGeneratedId + index;
+			}
+			setGeneratedId(entity, generatedId, changedList);
+
+			// the children keep their order
+			List<E> childList = children != null ? children.apply(entity) : null;
+			if (childList != null && !childList.isEmpty()) {
+				List<E> sortedChildList = new ArrayList<>(childList);
+				sortedChildList.sort(Comparator.comparing(ISortableByIdEntity::getGeneratedId,
+						new StringWithNumberAndNullableComparator()));
+				generateTreeIds(sortedChildList, generatedId, level + 1, children, changedList);
+			}
+
+			index++;
+		}
+	}
+
+	/**
+	 * Set the generated id of the entity if changed
+	 *
+	 * @param <E>         the entity type
+	 * @param entity      the entity
+	 * @param generatedId the new generated id
+	 * @param changedList the entities with a new generated id
+	 */
+	private static <E extends ISortableByIdEntity> void setGeneratedId(E entity, String generatedId,
+			List<E> changedList) {
+		if (entity != null && !Objects.equals(entity.getGeneratedId(), generatedId)) {
+			entity.setGeneratedId(generatedId);
+			changedList.add(entity);
+		}
+	}
+
+	/**
+	 * Update the changed entities in one transaction
+	 *
+	 * @param <E>             the entity type
+	 * @param repositoryClass the repository of the entities
+	 * @param changedList     the entities with a new generated id
+	 * @return the entities updated
+	 * @throws CredibilityException if an error occured while updating the entities
+	 */
+	private <E extends IEntity<E, Integer> & ISortableByIdEntity> List<E> updateAll(
+			Class<? extends ICRUDRepository<E, Integer>> repositoryClass, List<E> changedList)
+			throws CredibilityException {
+
+		if (changedList.isEmpty()) {
+			return changedList;
+		}
+
+		logger.debug("Reordering {} entities", changedList.size()); //$NON-NLS-1$
+
+		return getDaoManager().getRepository(repositoryClass).updateAll(changedList);
+	}
+}
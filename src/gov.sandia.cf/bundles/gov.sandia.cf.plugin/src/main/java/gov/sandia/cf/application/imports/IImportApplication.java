@@ -6,6 +6,8 @@ package gov.sandia.cf.application.imports;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 import gov.sandia.cf.application.IApplication;
 import gov.sandia.cf.application.Service;
@@ -36,6 +38,21 @@ public interface IImportApplication extends IApplication {
 	<M extends IImportable<M>> Map<ImportActionType, List<?>> analyzeImport(List<M> newImportableList,
 			List<M> existingImportableList);
 
+	/**
+	 * Analyze the new importables one by one, without collecting them. Each new
+	 * importable is given to the consumer as TO_ADD or TO_UPDATE once analyzed.
+	 * When the stream is consumed, the existing importables are given as
+	 * NO_CHANGES or TO_DELETE. The consumer receives the same elements as the
+	 * analysis map of {@link #analyzeImport(List, List)}.
+	 *
+	 * @param <M>                    the importable model
+	 * @param newImportables         the new importable stream
+	 * @param existingImportableList the existing importable list
+	 * @param consumer               the analysis consumer
+	 */
+	<M extends IImportable<M>> void analyzeImport(Stream<M> newImportables, List<M> existingImportableList,
+			BiConsumer<ImportActionType, M> consumer);
+
 	/**
 	 * Get the changes to add.
 	 * 
@@ -0,0 +1,131 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application.imports;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import gov.sandia.cf.model.IImportable;
+import gov.sandia.cf.model.ImportActionType;
+
+/**
+ * Compares new importables to the existing ones. The existing importables are
+ * indexed by import key (see {@link IImportable#getImportKey()}), so each new
+ * importable is only compared to the existing importables with the same key.
+ *
+ * The new importables are analyzed one by one with {@link #analyze}, then the
+ * unchanged and deleted existing importables are available.
+ *
+ * @author Didier Verstraete
+ *
+ * @param <M> the importable model
+ */
+class ImportAnalyzer<M extends IImportable<M>> {
+
+	/**
+	 * The existing importables
+	 */
+	private final List<M> existingList;
+
+	/**
+	 * The existing importables indexed by import key
+	 */
+	private final Map<Object, List<M>> existingByKey;
+
+	/**
+	 * The import keys of the existing importables matching a new importable key
+	 */
+	private final Set<Object> matchedKeys;
+
+	/**
+	 * The existing importables same as a new importable
+	 */
+	private final Set<M> unchanged;
+
+	/**
+	 * Constructor
+	 *
+	 * @param existingImportableList the existing importable list
+	 */
+	ImportAnalyzer(List<M> existingImportableList) {
+		this.existingList = new ArrayList<>();
+		this.existingByKey = new HashMap<>();
+		this.matchedKeys = new HashSet<>();
+		this.unchanged = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		if (existingImportableList != null) {
+			for (M existing : existingImportableList) {
+				if (existing != null) {
+					existingList.add(existing);
+					existingByKey.computeIfAbsent(existing.getImportKey(), k -> new ArrayList<>()).add(existing);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Analyze a new importable.
+	 *
+	 * @param newImportable the new importable
+	 * @return TO_ADD if no existing importable has the same key, NO_CHANGES if an
+	 *         existing importable is the same, TO_UPDATE otherwise.
+	 */
+	ImportActionType analyze(M newImportable) {
+
+		Object key = newImportable.getImportKey();
+		List<M> sameKeyList = existingByKey.get(key);
+
+		if (sameKeyList == null) {
+			return ImportActionType.TO_ADD;
+		}
+
+		matchedKeys.add(key);
+
+		boolean sameMatch = false;
+		for (M existing : sameKeyList) {
+			if (existing.sameAs(newImportable)) {
+				unchanged.add(existing);
+			}
+			if (newImportable.sameAs(existing)) {
+				sameMatch = true;
+			}
+		}
+
+		return sameMatch ? ImportActionType.NO_CHANGES : ImportActionType.TO_UPDATE;
+	}
+
+	/**
+	 * @return the existing importables same as an analyzed new importable, in the
+	 *         existing list order
+	 */
+	List<M> getNoChanges() {
+		List<M> noChanges = new ArrayList<>();
+		for (M existing : existingList) {
+			if (unchanged.contains(existing)) {
+				noChanges.add(existing);
+			}
+		}
+		return noChanges;
+	}
+
+	/**
+	 * @return the existing importables without any analyzed new importable having
+	 *         the same key, in the existing list order
+	 */
+	List<M> getToDelete() {
+		List<M> toDelete = new ArrayList<>();
+		for (M existing : existingList) {
+			if (!unchanged.contains(existing) && !matchedKeys.contains(existing.getImportKey())) {
+				toDelete.add(existing);
+			}
+		}
+		return toDelete;
+	}
+}
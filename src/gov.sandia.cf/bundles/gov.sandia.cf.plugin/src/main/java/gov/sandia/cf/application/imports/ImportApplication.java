@@ -5,13 +5,17 @@ package gov.sandia.cf.application.imports;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -109,54 +113,39 @@ public class ImportApplication extends AApplication implements IImportApplicatio
 
 		logger.debug("Analyzing class import."); //$NON-NLS-1$
 
-		Map<ImportActionType, List<?>> questionsAnalysis = new EnumMap<>(ImportActionType.class);
-		List<M> toAdd = new ArrayList<>();
-		List<M> toDelete = new ArrayList<>();
-		List<M> toUpdate = new ArrayList<>();
-		List<M> noChanges = new ArrayList<>();
-
-		if (existingImportableList == null || existingImportableList.isEmpty()) {
-			// new elements TO ADD
-			if (newImportableList != null && !newImportableList.isEmpty()) {
-				toAdd.addAll(newImportableList);
-			}
-		} else if (newImportableList == null || newImportableList.isEmpty()) {
-			// elements TO DELETE
-			toDelete.addAll(existingImportableList);
-		} else {
-			// search elements TO DELETE in the existing elements
-			for (M existing : existingImportableList) {
-				boolean sameMatch = newImportableList.stream().anyMatch(existing::sameAs);
-				boolean sameKey = newImportableList.stream().anyMatch(existing::sameKey);
-
-				if (sameMatch) {
-					noChanges.add(existing);
-				} else if (!sameKey) {
-					toDelete.add(existing);
-				}
-			}
+		Map<ImportActionType, List<M>> analysis = new EnumMap<>(ImportActionType.class);
+		analysis.put(ImportActionType.TO_ADD, new ArrayList<>());
+		analysis.put(ImportActionType.TO_DELETE, new ArrayList<>());
+		analysis.put(ImportActionType.NO_CHANGES, new ArrayList<>());
+		analysis.put(ImportActionType.TO_UPDATE, new ArrayList<>());
 
-			// search elements TO ADD in the new elements
-			for (M newElement : newImportableList) {
-				boolean sameMatch = existingImportableList.stream().anyMatch(newElement::sameAs);
-				boolean sameKey = existingImportableList.stream().anyMatch(newElement::sameKey);
+		analyzeImport(newImportableList != null ? newImportableList.stream() : null, existingImportableList,
+				(action, importable) -> analysis.get(action).add(importable));
 
-				if (!sameMatch) {
-					if (sameKey) {
-						toUpdate.add(newElement);
-					} else {
-						toAdd.add(newElement);
-					}
+		return new EnumMap<>(analysis);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public <M extends IImportable<M>> void analyzeImport(Stream<M> newImportables, List<M> existingImportableList,
+			BiConsumer<ImportActionType, M> consumer) {
+
+		// index the existing elements by key
+		ImportAnalyzer<M> analyzer = new ImportAnalyzer<>(existingImportableList);
+
+		// search elements TO ADD and TO UPDATE in the new elements
+		if (newImportables != null) {
+			newImportables.filter(Objects::nonNull).forEach(newElement -> {
+				ImportActionType action = analyzer.analyze(newElement);
+				if (action != ImportActionType.NO_CHANGES) {
+					consumer.accept(action, newElement);
 				}
-			}
+			});
 		}
 
-		questionsAnalysis.put(ImportActionType.TO_ADD, toAdd);
-		questionsAnalysis.put(ImportActionType.TO_DELETE, toDelete);
-		questionsAnalysis.put(ImportActionType.NO_CHANGES, noChanges);
-		questionsAnalysis.put(ImportActionType.TO_UPDATE, toUpdate);
-
-		return questionsAnalysis;
+		// search elements with NO CHANGES and TO DELETE in the existing elements
+		analyzer.getNoChanges().forEach(existing -> consumer.accept(ImportActionType.NO_CHANGES, existing));
+		analyzer.getToDelete().forEach(existing -> consumer.accept(ImportActionType.TO_DELETE, existing));
 	}
 
 	/** {@inheritDoc} */
@@ -164,15 +153,16 @@ public class ImportApplication extends AApplication implements IImportApplicatio
 	public <M extends IImportable<M>> List<?> getChangesToAdd(List<M> newImportableList,
 			List<M> existingImportableList) {
 
-		// analyze changes
-		Map<ImportActionType, List<?>> analyzeImport = analyzeImport(newImportableList, existingImportableList);
-
 		// get list to add
-		List<?> toAdd = analyzeImport != null && analyzeImport.containsKey(ImportActionType.TO_ADD)
-				? analyzeImport.get(ImportActionType.TO_ADD)
-				: null;
+		List<M> toAdd = new ArrayList<>();
+		analyzeImport(newImportableList != null ? newImportableList.stream() : null, existingImportableList,
+				(action, importable) -> {
+					if (ImportActionType.TO_ADD.equals(action)) {
+						toAdd.add(importable);
+					}
+				});
 
-		return toAdd != null ? toAdd : new ArrayList<>();
+		return toAdd;
 	}
 
 	/** {@inheritDoc} */
@@ -356,14 +346,18 @@ public class ImportApplication extends AApplication implements IImportApplicatio
 		if (list1 == null) {
 			return list2 == null;
 		} else if (list2 != null) {
-			for (M column1 : list1) {
-				boolean contains = false;
-				for (M column2 : list2) {
-					if (column1.sameAs(column2)) {
-						contains = true;
-						break;
-					}
+
+			// index the second list by key
+			Map<Object, List<M>> list2ByKey = new HashMap<>();
+			for (M column2 : list2) {
+				if (column2 != null) {
+					list2ByKey.computeIfAbsent(column2.getImportKey(), k -> new ArrayList<>()).add(column2);
 				}
+			}
+
+			for (M column1 : list1) {
+				boolean contains = list2ByKey.getOrDefault(column1.getImportKey(), Collections.emptyList()).stream()
+						.anyMatch(column1::sameAs);
 
 				if (!contains) {
 					return false;
@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 
 import gov.sandia.cf.application.AApplication;
 import gov.sandia.cf.application.ApplicationManager;
+import gov.sandia.cf.application.pcmm.IPCMMAggregateApp;
 import gov.sandia.cf.dao.IPCMMAssessmentRepository;
 import gov.sandia.cf.dao.IPCMMEvidenceRepository;
 import gov.sandia.cf.model.dto.configuration.PCMMSpecification;
@@ -56,6 +57,7 @@ public class MigrationApplication extends AApplication implements IMigrationAppl
 
 		if (assessmentsCleared) {
 			logger.info("The PCMMAssessment table contains bad assessments. The database has been cleared."); //$NON-NLS-1$
+			getAppMgr().getService(IPCMMAggregateApp.class).clearAggregationCache();
 		}
 
 		return assessmentsCleared;
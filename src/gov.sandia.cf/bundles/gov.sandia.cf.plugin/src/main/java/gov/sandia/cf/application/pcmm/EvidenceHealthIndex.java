@@ -0,0 +1,363 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application.pcmm;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.sandia.cf.model.FormFieldType;
+import gov.sandia.cf.model.PCMMEvidence;
+
+/**
+ * The evidence health index keeps the number of evidence error and warning
+ * notifications, so they can be read without scanning all the evidence files.
+ *
+ * The index is built from the evidence list: the duplicates are computed in
+ * memory and the evidence files are checked in parallel by a bounded scanner
+ * pool, once per path. Then it is updated path by path when an evidence file
+ * changes in the workspace, and rebuilt when the evidence list changes.
+ *
+ * The file states (existence and modification date) are cached by path and
+ * kept up to date with the workspace changes, so a rebuild only checks the new
+ * paths. The cache is kept in memory for the editor session and not saved with
+ * the model: the files can change while the editor is closed, and checking a
+ * saved modification date costs the same file access as the scan itself.
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class EvidenceHealthIndex {
+
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(EvidenceHealthIndex.class);
+
+	/** The max number of evidence files checked at the same time. */
+	private static final int MAX_SCANNERS = 8;
+
+	/** The idle scanner thread keep alive time in seconds. */
+	private static final long SCANNER_KEEP_ALIVE = 30L;
+
+	/** The scanner thread name. */
+	private static final String THREAD_NAME = "CF Evidence Scanner"; //$NON-NLS-1$
+
+	/** The scanner pool, shared by the indexes and blocked by the file accesses. */
+	private static final ThreadPoolExecutor SCANNERS = createScanners();
+
+	/** The evidence health by evidence id. */
+	private Map<Integer, EvidenceHealth> healthById;
+
+	/** The evidence ids by file path. */
+	private Map<String, List<Integer>> idsByPath;
+
+	/** The file state by file path, kept between two rebuilds. */
+	private Map<String, FileState> fileByPath;
+
+	private int errorCount;
+
+	private int warningCount;
+
+	private boolean valid;
+
+	/**
+	 * Instantiates an empty and invalid evidence health index.
+	 */
+	public EvidenceHealthIndex() {
+		this.healthById = new HashMap<>();
+		this.idsByPath = new HashMap<>();
+		this.fileByPath = new HashMap<>();
+		this.valid = false;
+	}
+
+	/**
+	 * @return true if the index is up to date with the evidence list
+	 */
+	public synchronized boolean isValid() {
+		return valid;
+	}
+
+	/**
+	 * Mark the index to rebuild, after an evidence list change.
+	 */
+	public synchronized void invalidate() {
+		valid = false;
+	}
+
+	/**
+	 * @return the number of evidence error notifications
+	 */
+	public synchronized int getErrorCount() {
+		return errorCount;
+	}
+
+	/**
+	 * @return the number of evidence warning notifications
+	 */
+	public synchronized int getWarningCount() {
+		return warningCount;
+	}
+
+	/**
+	 * @return the scanner pool
+	 */
+	private static ThreadPoolExecutor createScanners() {
+		ThreadPoolExecutor scanners = new ThreadPoolExecutor(MAX_SCANNERS, MAX_SCANNERS, SCANNER_KEEP_ALIVE,
+				TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, THREAD_NAME);
+					thread.setDaemon(true);
+					return thread;
+				});
+		scanners.allowCoreThreadTimeOut(true);
+		return scanners;
+	}
+
+	/**
+	 * Rebuild the index.
+	 *
+	 * @param evidenceList the evidence list
+	 */
+	public synchronized void rebuild(List<PCMMEvidence> evidenceList) {
+
+		healthById.clear();
+		idsByPath.clear();
+		errorCount = 0;
+		warningCount = 0;
+
+		List<PCMMEvidence> evidences = evidenceList == null ? new ArrayList<>()
+				: evidenceList.stream().filter(evidence -> evidence != null && evidence.getTag() == null)
+						.collect(Collectors.toList());
+
+		// check each new evidence file once, in parallel
+		List<String> paths = evidences.stream().filter(evidence -> FormFieldType.LINK_FILE.equals(evidence.getType()))
+				.map(PCMMEvidence::getPath).filter(Objects::nonNull).distinct().collect(Collectors.toList());
+		fileByPath.keySet().retainAll(paths);
+		boolean scanned = scan(paths.stream().filter(path -> !fileByPath.containsKey(path))
+				.collect(Collectors.toList()));
+
+		// group the evidence with the same value to find the duplicates
+		Map<String, List<PCMMEvidence>> evidencesByValue = evidences.stream()
+				.filter(evidence -> evidence.getValue() != null)
+				.collect(Collectors.groupingBy(PCMMEvidence::getValue));
+
+		for (PCMMEvidence evidence : evidences) {
+			EvidenceHealth health = new EvidenceHealth(evidence);
+			computeDuplicate(health, evidencesByValue.get(evidence.getValue()));
+			computeFile(health);
+			healthById.put(evidence.getId(), health);
+			add(health, 1);
+
+			if (FormFieldType.LINK_FILE.equals(evidence.getType()) && evidence.getPath() != null) {
+				idsByPath.computeIfAbsent(evidence.getPath(), key -> new ArrayList<>()).add(evidence.getId());
+			}
+		}
+
+		// the files not checked are missing until the next rebuild
+		valid = scanned;
+
+		logger.debug("Evidence health index built: {} evidence, {} files, {} errors, {} warnings", //$NON-NLS-1$
+				healthById.size(), fileByPath.size(), errorCount, warningCount);
+	}
+
+	/**
+	 * Check again the file and update the evidence linked to it.
+	 *
+	 * @param path the workspace file path
+	 */
+	public synchronized void fileChanged(String path) {
+
+		List<Integer> ids = idsByPath.get(path);
+		if (!valid || ids == null) {
+			// check it again at the next rebuild
+			fileByPath.remove(path);
+			return;
+		}
+
+		fileByPath.put(path, FileState.of(path));
+		for (Integer id : ids) {
+			EvidenceHealth health = healthById.get(id);
+			add(health, -1);
+			computeFile(health);
+			add(health, 1);
+		}
+	}
+
+	/**
+	 * Check the files in the scanner pool and cache their state.
+	 *
+	 * @param paths the workspace file paths
+	 * @return false if the current thread has been interrupted before the end of
+	 *         the scan
+	 */
+	private boolean scan(List<String> paths) {
+		if (paths.isEmpty()) {
+			return true;
+		}
+
+		List<Callable<FileState>> tasks = paths.stream().map(path -> (Callable<FileState>) () -> FileState.of(path))
+				.collect(Collectors.toList());
+		try {
+			List<Future<FileState>> states = SCANNERS.invokeAll(tasks);
+			for (int i = 0; i < paths.size(); i++) {
+				try {
+					fileByPath.put(paths.get(i), states.get(i).get());
+				} catch (ExecutionException e) {
+					logger.warn("Impossible to check the evidence file {}: {}", paths.get(i), e.getMessage()); //$NON-NLS-1$
+				}
+			}
+		} catch (InterruptedException e) {
+			logger.warn("Evidence files check interrupted"); //$NON-NLS-1$
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Compute the duplicate notification like
+	 * {@link IPCMMEvidenceApp#getDuplicatedEvidenceNotification}: an evidence with
+	 * the same path and section is an error for the same PCMM element or
+	 * subelement, a warning otherwise.
+	 *
+	 * @param health        the evidence health
+	 * @param sameValueList the evidence with the same value
+	 */
+	private static void computeDuplicate(EvidenceHealth health, List<PCMMEvidence> sameValueList) {
+		if (sameValueList == null) {
+			return;
+		}
+
+		PCMMEvidence evidence = health.evidence;
+		for (PCMMEvidence other : sameValueList) {
+			if (Objects.equals(other.getId(), evidence.getId()) || !isSameSection(evidence, other)) {
+				continue;
+			}
+			if ((other.getElement() != null && evidence.getElement() != null
+					&& other.getElement().getId().equals(evidence.getElement().getId()))
+					|| (other.getSubelement() != null && evidence.getSubelement() != null
+							&& other.getSubelement().getId().equals(evidence.getSubelement().getId()))) {
+				health.duplicateError = true;
+			}
+			if (other.getElement() != null || other.getSubelement() != null) {
+				health.duplicateWarning = true;
+			}
+		}
+	}
+
+	/**
+	 * @param evidence the evidence
+	 * @param other    the other evidence
+	 * @return true if both evidence have the same section, a blank section
+	 *         matching an empty or null section
+	 */
+	private static boolean isSameSection(PCMMEvidence evidence, PCMMEvidence other) {
+		if (StringUtils.isBlank(evidence.getSection())) {
+			return other.getSection() == null || other.getSection().isEmpty();
+		}
+		return evidence.getSection().equals(other.getSection());
+	}
+
+	/**
+	 * Compute the file notification like
+	 * {@link IPCMMEvidenceApp#getEvidenceNotifications}.
+	 *
+	 * @param health the evidence health
+	 */
+	private void computeFile(EvidenceHealth health) {
+		PCMMEvidence evidence = health.evidence;
+		health.fileMissing = false;
+		health.fileChanged = false;
+
+		if (FormFieldType.LINK_FILE.equals(evidence.getType())) {
+			FileState file = evidence.getPath() != null ? fileByPath.get(evidence.getPath()) : null;
+			if (file == null || !file.exists) {
+				health.fileMissing = true;
+			} else {
+				health.fileChanged = null != evidence.getDateFile()
+						&& !evidence.getDateFile().equals(new Date(file.lastModified));
+			}
+		}
+	}
+
+	/**
+	 * Add the evidence notifications to the counts.
+	 *
+	 * @param health the evidence health
+	 * @param sign   1 to add, -1 to remove
+	 */
+	private void add(EvidenceHealth health, int sign) {
+		errorCount += sign * ((health.duplicateError ? 1 : 0) + (health.fileMissing ? 1 : 0));
+		warningCount += sign
+				* ((!health.duplicateError && health.duplicateWarning ? 1 : 0) + (health.fileChanged ? 1 : 0));
+	}
+
+	/**
+	 * The notifications of an evidence.
+	 */
+	private static class EvidenceHealth {
+		private final PCMMEvidence evidence;
+		private boolean duplicateError;
+		private boolean duplicateWarning;
+		private boolean fileMissing;
+		private boolean fileChanged;
+
+		EvidenceHealth(PCMMEvidence evidence) {
+			this.evidence = evidence;
+		}
+	}
+
+	/**
+	 * The state of an evidence file.
+	 */
+	private static class FileState {
+		private final boolean exists;
+		private final long lastModified;
+
+		FileState(boolean exists, long lastModified) {
+			this.exists = exists;
+			this.lastModified = lastModified;
+		}
+
+		/**
+		 * @param path the workspace file path
+		 * @return the file state
+		 */
+		static FileState of(String path) {
+			IFile iFile = null;
+			try {
+				iFile = ResourcesPlugin.getWorkspace().getRoot().getFile(new Path(path));
+			} catch (IllegalArgumentException e) {
+				logger.info("Path: {} is not a valid path:\n{}", path, e.getMessage(), e); //$NON-NLS-1$
+			}
+
+			if (iFile == null || !iFile.exists()) {
+				return new FileState(false, 0);
+			}
+
+			IPath location = iFile.getRawLocation();
+			File file = location != null ? location.makeAbsolute().toFile() : null;
+			return new FileState(true, file != null ? file.lastModified() : 0);
+		}
+	}
+}
@@ -125,4 +125,25 @@ public interface IPCMMAggregateApp extends IApplication {
 	 */
 	PCMMAggregationLevel getClosestLevelForCode(PCMMSpecification configuration, List<PCMMLevel> levels, int code);
 
+	/**
+	 * Add or update the assessment in the maintained aggregations.
+	 * 
+	 * @param assessment the added or updated assessment
+	 */
+	void addToAggregation(PCMMAssessment assessment);
+
+	/**
+	 * Remove the assessment from the maintained aggregations.
+	 * 
+	 * @param assessment the deleted assessment
+	 */
+	void removeFromAggregation(PCMMAssessment assessment);
+
+	/**
+	 * Clear the maintained aggregations and levels. They are reloaded at the next
+	 * aggregation. It must be called when the PCMM elements, sub-elements, levels
+	 * or roles change.
+	 */
+	void clearAggregationCache();
+
 }
@@ -96,6 +96,15 @@ public interface IPCMMApplication extends IApplication {
 	 */
 	PCMMElement addElement(PCMMElement element) throws CredibilityException;
 
+	/**
+	 * Add all the elements in one transaction
+	 * 
+	 * @param elements the elements to add
+	 * @return the new elements created
+	 * @throws CredibilityException if an error occured while adding new elements
+	 */
+	List<PCMMElement> addAllElements(List<PCMMElement> elements) throws CredibilityException;
+
 	/**
 	 * @param element the element to update
 	 * @return the updated element
@@ -155,6 +164,17 @@ public interface IPCMMApplication extends IApplication {
 	 */
 	PCMMLevelDescriptor addLevelDescriptor(PCMMLevelDescriptor levelDescriptor) throws CredibilityException;
 
+	/**
+	 * Add all the level descriptors in one transaction
+	 * 
+	 * @param levelDescriptors the levelDescriptors to add
+	 * @return the new levelDescriptors created
+	 * @throws CredibilityException if an error occured while adding new
+	 *                              levelDescriptors
+	 */
+	List<PCMMLevelDescriptor> addAllLevelDescriptors(List<PCMMLevelDescriptor> levelDescriptors)
+			throws CredibilityException;
+
 	/**
 	 * @param levelDescriptor the levelDescriptor to update
 	 * @return the updated levelDescriptor
@@ -186,6 +206,16 @@ public interface IPCMMApplication extends IApplication {
 	 */
 	PCMMSubelement addSubelement(PCMMSubelement subelement) throws CredibilityException;
 
+	/**
+	 * Add all the subelements in one transaction
+	 * 
+	 * @param subelements the subelements to add
+	 * @return the new subelements created
+	 * @throws CredibilityException if an error occured while adding new
+	 *                              subelements
+	 */
+	List<PCMMSubelement> addAllSubelements(List<PCMMSubelement> subelements) throws CredibilityException;
+
 	/**
 	 * @param subelement the subelement to update
 	 * @return the updated subelement
@@ -259,7 +289,9 @@ public interface IPCMMApplication extends IApplication {
 
 	/**
 	 * 
-	 * Creates a new tag for the current evidence and assessments
+	 * Creates a new tag for the current evidence and assessments. The tag gets the
+	 * next version number: the current evidence and assessments are shared with
+	 * the tag and only copied into it when they are updated or deleted.
 	 * 
 	 * @param newTag contains the tag information
 	 * @return the current tag
@@ -99,7 +99,8 @@ public interface IPCMMAssessmentApp extends IApplication {
 	/**
 	 * @param tagList the tag list
 	 * @return the assessments associated to the tags in parameter. If the tag list
-	 *         is null, return empty list.
+	 *         is null, return empty list. The active assessments shared with a
+	 *         copy-on-write tag are returned as detached copies tagged with it.
 	 * @throws CredibilityException if a parameter is not valid.
 	 */
 	List<PCMMAssessment> getAssessmentByTag(List<Tag> tagList) throws CredibilityException;
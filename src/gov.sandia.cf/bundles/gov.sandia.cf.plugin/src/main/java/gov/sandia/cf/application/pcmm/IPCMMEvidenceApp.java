@@ -55,7 +55,8 @@ public interface IPCMMEvidenceApp extends IApplication {
 	/**
 	 * @param tagList the tag list
 	 * @return the list of evidence associated to the tags in parameter. If the tag
-	 *         list is null, return nothing.
+	 *         list is null, return nothing. The active evidence shared with a
+	 *         copy-on-write tag are returned as detached copies tagged with it.
 	 * @throws CredibilityException if a parameter is not valid.
 	 */
 	List<PCMMEvidence> getEvidenceByTag(List<Tag> tagList) throws CredibilityException;
@@ -163,6 +164,13 @@ public interface IPCMMEvidenceApp extends IApplication {
 	 */
 	boolean evidenceChanged(PCMMEvidence evidence);
 
+	/**
+	 * Check again the evidence linked to a file that changed in the workspace.
+	 *
+	 * @param path the workspace file path
+	 */
+	void evidenceFileChanged(String path);
+
 	/**
 	 * Reorder evidence.
 	 *
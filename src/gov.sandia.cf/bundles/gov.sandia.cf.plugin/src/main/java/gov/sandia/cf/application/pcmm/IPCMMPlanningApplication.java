@@ -333,7 +333,8 @@ public interface IPCMMPlanningApplication extends IApplication {
 
 	/**
 	 * Duplicate all active values and items and associate them to the tag in
-	 * parameter.
+	 * parameter. Nothing is duplicated for a copy-on-write tag: the active values
+	 * and items are copied into the tag when they change.
 	 * 
 	 * @param newTag the new tag to apply
 	 * @throws CredibilityException if an eror occured
@@ -0,0 +1,47 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application.pcmm;
+
+import gov.sandia.cf.application.IApplication;
+import gov.sandia.cf.application.Service;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.Model;
+import gov.sandia.cf.model.PCMMElement;
+import gov.sandia.cf.model.Tag;
+import gov.sandia.cf.model.dto.configuration.PCMMSpecification;
+
+/**
+ * The PCMM progress service: the evidence and assessment coverage of the
+ * elements is counted for all the elements at once with aggregate queries, and
+ * kept until the PCMM evidence, assessments, elements or subelements change.
+ *
+ * @author Didier Verstraete
+ *
+ */
+@Service
+public interface IPCMMProgressApp extends IApplication {
+
+	/**
+	 * @param model         the model
+	 * @param configuration the pcmm specification
+	 * @return the current progress for all the PCMM Elements
+	 * @throws CredibilityException if a parameter is not valid.
+	 */
+	int computeCurrentProgress(Model model, PCMMSpecification configuration) throws CredibilityException;
+
+	/**
+	 * @param element       the element
+	 * @param selectedTag   the tag selected
+	 * @param configuration the pcmm specification
+	 * @return the progress of the PCMM Element in parameter for the tag.
+	 * @throws CredibilityException if a parameter is not valid.
+	 */
+	int computeProgressByElement(PCMMElement element, Tag selectedTag, PCMMSpecification configuration)
+			throws CredibilityException;
+
+	/**
+	 * Clear the counted coverage, after a PCMM change.
+	 */
+	void invalidate();
+}
@@ -7,6 +7,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -26,6 +27,7 @@ import gov.sandia.cf.dao.IPCMMOptionRepository;
 import gov.sandia.cf.dao.IPCMMPlanningParamRepository;
 import gov.sandia.cf.dao.IPCMMPlanningQuestionRepository;
 import gov.sandia.cf.dao.IPCMMSubelementRepository;
+import gov.sandia.cf.dao.IRoleRepository;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.CFFeature;
 import gov.sandia.cf.model.IAssessable;
@@ -259,6 +261,9 @@ public class ImportPCMMApp extends AApplication implements IImportPCMMApp {
 
 			// import PCMM planning feature if present
 			importPCMMPlanning(model, pcmmSpecs.getPlanningFields(), pcmmSpecs.getPlanningQuestions());
+
+			// the aggregation elements and levels changed
+			getAppMgr().getService(IPCMMAggregateApp.class).clearAggregationCache();
 		}
 	}
 
@@ -279,9 +284,8 @@ public class ImportPCMMApp extends AApplication implements IImportPCMMApp {
 
 				logger.info("Importing PCMM Role into database..."); //$NON-NLS-1$
 
-				for (Role role : toAdd.stream().map(Role.class::cast).collect(Collectors.toList())) {
-					getAppMgr().getService(IPCMMApplication.class).addRole(role);
-				}
+				getDaoManager().getRepository(IRoleRepository.class)
+						.createAll(toAdd.stream().map(Role.class::cast).collect(Collectors.toList()));
 			}
 		}
 	}
@@ -303,10 +307,8 @@ public class ImportPCMMApp extends AApplication implements IImportPCMMApp {
 
 				logger.info("Importing PCMM Level colors into database..."); //$NON-NLS-1$
 
-				for (PCMMLevelColor levelColor : toAdd.stream().map(PCMMLevelColor.class::cast)
-						.collect(Collectors.toList())) {
-					getAppMgr().getService(IPCMMApplication.class).addLevelColor(levelColor);
-				}
+				getDaoManager().getRepository(IPCMMLevelColorRepository.class)
+						.createAll(toAdd.stream().map(PCMMLevelColor.class::cast).collect(Collectors.toList()));
 			}
 		}
 	}
@@ -331,25 +333,34 @@ public class ImportPCMMApp extends AApplication implements IImportPCMMApp {
 
 				logger.info("Importing PCMM elements into database..."); //$NON-NLS-1$
 
-				for (PCMMElement element : toAdd.stream().map(PCMMElement.class::cast).collect(Collectors.toList())) {
+				List<PCMMElement> elementsToAdd = toAdd.stream().map(PCMMElement.class::cast)
+						.collect(Collectors.toList());
+				Map<PCMMElement, List<PCMMSubelement>> subelementMap = new IdentityHashMap<>();
+				Map<PCMMElement, List<PCMMLevel>> levelMap = new IdentityHashMap<>();
+				for (PCMMElement element : elementsToAdd) {
 
-					List<PCMMSubelement> subelementList = new ArrayList<>(element.getSubElementList());
-					List<PCMMLevel> levelList = new ArrayList<>(element.getLevelList());
+					subelementMap.put(element, new ArrayList<>(element.getSubElementList()));
+					levelMap.put(element, new ArrayList<>(element.getLevelList()));
 
 					// set element attributes
 					element.setModel(model);
 					element.setSubElementList(null);
 					element.setLevelList(null);
 					element.setEvidenceList(null);
-					PCMMElement createdElement = getAppMgr().getService(IPCMMApplication.class).addElement(element);
+				}
+
+				// create the elements in one transaction
+				getAppMgr().getService(IPCMMApplication.class).addAllElements(elementsToAdd);
+
+				for (PCMMElement createdElement : elementsToAdd) {
 
 					// create subelements
-					importPCMMSubelements(subelementList, createdElement);
+					importPCMMSubelements(subelementMap.get(createdElement), createdElement);
 
 					// create levels (if PCMM Mode is simplified)
-					importPCMMLevels(levelList, createdElement, null);
+					importPCMMLevels(levelMap.get(createdElement), createdElement, null);
 
-					getDaoManager().getRepository(IPCMMElementRepository.class).refresh(element);
+					getDaoManager().getRepository(IPCMMElementRepository.class).refresh(createdElement);
 				}
 			}
 		}
@@ -466,9 +477,8 @@ public class ImportPCMMApp extends AApplication implements IImportPCMMApp {
 
 			logger.info("Importing PCMM options into database..."); //$NON-NLS-1$
 
-			for (PCMMOption option : toAdd.stream().map(PCMMOption.class::cast).collect(Collectors.toList())) {
-				getAppMgr().getService(IPCMMApplication.class).addPCMMOption(option);
-			}
+			getDaoManager().getRepository(IPCMMOptionRepository.class)
+					.createAll(toAdd.stream().map(PCMMOption.class::cast).collect(Collectors.toList()));
 		}
 	}
 
@@ -495,22 +505,28 @@ public class ImportPCMMApp extends AApplication implements IImportPCMMApp {
 
 			logger.info("Importing PCMM subelements into database..."); //$NON-NLS-1$
 
-			for (PCMMSubelement subelement : toAdd.stream().map(PCMMSubelement.class::cast)
-					.collect(Collectors.toList())) {
+			List<PCMMSubelement> subelementsToAdd = toAdd.stream().map(PCMMSubelement.class::cast)
+					.collect(Collectors.toList());
+			Map<PCMMSubelement, List<PCMMLevel>> levelMap = new IdentityHashMap<>();
+			for (PCMMSubelement subelement : subelementsToAdd) {
 
-				List<PCMMLevel> subelementlevelList = new ArrayList<>(subelement.getLevelList());
+				levelMap.put(subelement, new ArrayList<>(subelement.getLevelList()));
 
 				// set element attributes
 				subelement.setElement(createdElement);
 				subelement.setEvidenceList(null);
 				subelement.setLevelList(null);
-				PCMMSubelement createdSubelement = getAppMgr().getService(IPCMMApplication.class)
-						.addSubelement(subelement);
+			}
+
+			// create the subelements in one transaction
+			getAppMgr().getService(IPCMMApplication.class).addAllSubelements(subelementsToAdd);
+
+			for (PCMMSubelement createdSubelement : subelementsToAdd) {
 
 				// import levels
-				importPCMMLevels(subelementlevelList, null, createdSubelement);
+				importPCMMLevels(levelMap.get(createdSubelement), null, createdSubelement);
 
-				getDaoManager().getRepository(IPCMMSubelementRepository.class).refresh(subelement);
+				getDaoManager().getRepository(IPCMMSubelementRepository.class).refresh(createdSubelement);
 			}
 		}
 	}
@@ -544,19 +560,32 @@ public class ImportPCMMApp extends AApplication implements IImportPCMMApp {
 
 			logger.info("Importing PCMM levels into database..."); //$NON-NLS-1$
 
-			for (PCMMLevel level : toAdd.stream().map(PCMMLevel.class::cast).collect(Collectors.toList())) {
+			List<PCMMLevel> levelsToAdd = toAdd.stream().map(PCMMLevel.class::cast).collect(Collectors.toList());
+			Map<PCMMLevel, List<PCMMLevelDescriptor>> levelDescMap = new IdentityHashMap<>();
+
+			for (PCMMLevel level : levelsToAdd) {
 
-				List<PCMMLevelDescriptor> levelDescList = new ArrayList<>(level.getLevelDescriptorList());
+				levelDescMap.put(level, new ArrayList<>(level.getLevelDescriptorList()));
 
 				// set level attributes
 				level.setElement(element);
 				level.setSubelement(subelement);
 				level.setLevelDescriptorList(null);
-				PCMMLevel createdLevel = getAppMgr().getService(IPCMMApplication.class).addLevel(level);
+			}
 
-				// import level descriptors
-				importPCMMLevelDescriptors(levelDescList, createdLevel);
+			getDaoManager().getRepository(IPCMMLevelRepository.class).createAll(levelsToAdd);
 
+			// import level descriptors (the levels are new, all the descriptors are added)
+			List<PCMMLevelDescriptor> levelDescToAdd = new ArrayList<>();
+			for (PCMMLevel level : levelsToAdd) {
+				for (PCMMLevelDescriptor levelDesc : levelDescMap.get(level)) {
+					levelDesc.setLevel(level);
+					levelDescToAdd.add(levelDesc);
+				}
+			}
+			getAppMgr().getService(IPCMMApplication.class).addAllLevelDescriptors(levelDescToAdd);
+
+			for (PCMMLevel level : levelsToAdd) {
 				getDaoManager().getRepository(IPCMMLevelRepository.class).refresh(level);
 			}
 		}
@@ -585,13 +614,12 @@ public class ImportPCMMApp extends AApplication implements IImportPCMMApp {
 
 			logger.info("Importing PCMM level descriptors into database..."); //$NON-NLS-1$
 
-			for (PCMMLevelDescriptor levelDesc : toAdd.stream().map(PCMMLevelDescriptor.class::cast)
-					.collect(Collectors.toList())) {
+			List<PCMMLevelDescriptor> levelDescToAdd = toAdd.stream().map(PCMMLevelDescriptor.class::cast)
+					.collect(Collectors.toList());
 
-				// set level desc attributes
-				levelDesc.setLevel(level);
-				getAppMgr().getService(IPCMMApplication.class).addLevelDescriptor(levelDesc);
-			}
+			// set level desc attributes
+			levelDescToAdd.forEach(levelDesc -> levelDesc.setLevel(level));
+			getAppMgr().getService(IPCMMApplication.class).addAllLevelDescriptors(levelDescToAdd);
 		}
 	}
 }
@@ -10,12 +10,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import gov.sandia.cf.application.AApplication;
+import gov.sandia.cf.dao.IPCMMAssessmentRepository;
 import gov.sandia.cf.dao.IPCMMLevelRepository;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.IAssessable;
@@ -45,6 +47,17 @@ public class PCMMAggregateApp extends AApplication implements IPCMMAggregateApp
 	 */
 	private static final Logger logger = LoggerFactory.getLogger(PCMMAggregateApp.class);
 
+	/**
+	 * The level caches by PCMM specification, kept for the life of the
+	 * specification
+	 */
+	private final Map<PCMMSpecification, PCMMLevelCache> levelCaches = new WeakHashMap<>();
+
+	/**
+	 * The maintained aggregation models by filters
+	 */
+	private final Map<Map<EntityFilter, Integer>, PCMMAggregationModel> aggregationModels = new HashMap<>();
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -56,19 +69,15 @@ public class PCMMAggregateApp extends AApplication implements IPCMMAggregateApp
 		List<PCMMElement> elements = getAppMgr().getService(IPCMMApplication.class).getElementList(model);
 
 		if (elements != null) {
-			isCompleteAggregation = true;
-			for (PCMMElement element : elements) {
-				for (PCMMSubelement sub : element.getSubElementList()) {
-					Map<EntityFilter, Object> filters = new HashMap<>();
-					filters.put(PCMMAssessment.Filter.TAG, tag);
-					List<PCMMAssessment> assessmentBySubelement = getAppMgr().getService(IPCMMAssessmentApp.class)
-							.getAssessmentBySubelement(sub, filters);
-					if (assessmentBySubelement == null || assessmentBySubelement.isEmpty()) {
-						isCompleteAggregation = false;
-						break;
-					}
-				}
-			}
+
+			// check that every current sub-element is assessed in the maintained model
+			Map<EntityFilter, Object> filters = new HashMap<>();
+			filters.put(PCMMAssessment.Filter.TAG, tag);
+			PCMMAggregationModel aggregationModel = getAggregationModel(filters);
+
+			isCompleteAggregation = elements.stream().filter(Objects::nonNull)
+					.flatMap(element -> element.getSubElementList().stream()).filter(Objects::nonNull)
+					.allMatch(subelement -> aggregationModel.isSubelementAssessed(subelement.getId()));
 		}
 
 		return isCompleteAggregation;
@@ -85,17 +94,14 @@ public class PCMMAggregateApp extends AApplication implements IPCMMAggregateApp
 		List<PCMMElement> elements = getAppMgr().getService(IPCMMApplication.class).getElementList(model);
 
 		if (elements != null) {
-			isCompleteAggregation = true;
-			for (PCMMElement element : elements) {
-				Map<EntityFilter, Object> filters = new HashMap<>();
-				filters.put(PCMMAssessment.Filter.TAG, tag);
-				List<PCMMAssessment> assessmentByElement = getAppMgr().getService(IPCMMAssessmentApp.class)
-						.getAssessmentByElement(element, filters);
-				if (assessmentByElement == null || assessmentByElement.isEmpty()) {
-					isCompleteAggregation = false;
-					break;
-				}
-			}
+
+			// check that every current element is assessed in the maintained model
+			Map<EntityFilter, Object> filters = new HashMap<>();
+			filters.put(PCMMAssessment.Filter.TAG, tag);
+			PCMMAggregationModel aggregationModel = getAggregationModel(filters);
+
+			isCompleteAggregation = elements.stream().filter(Objects::nonNull)
+					.allMatch(element -> aggregationModel.isElementAssessed(element.getId()));
 		}
 
 		return isCompleteAggregation;
@@ -117,7 +123,17 @@ public class PCMMAggregateApp extends AApplication implements IPCMMAggregateApp
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_AGGREGATESUBELT_CONFLEVELCOLORLISTNULL));
 		}
 
-		return aggregateSubelements(configuration, aggregateAssessments(configuration, elements, filters));
+		// get the maintained aggregated codes of the sub-elements
+		Map<PCMMElement, PCMMAggregation<PCMMElement>> aggegationMap = new HashMap<>();
+		PCMMAggregationModel model = getAggregationModel(filters);
+		for (PCMMElement element : elements) {
+			if (element != null && element.getSubElementList() != null && !element.getSubElementList().isEmpty()) {
+				aggegationMap.put(element, getAggregation(configuration, element,
+						model.getSubelementCodesOfElement(element.getId()), null));
+			}
+		}
+
+		return aggegationMap;
 	}
 
 	/**
@@ -140,73 +156,38 @@ public class PCMMAggregateApp extends AApplication implements IPCMMAggregateApp
 		}
 
 		// get the data used to compute the aggregation
-		Map<PCMMElement, Integer> mapNbElement = new HashMap<>();
-		Map<PCMMElement, Integer> mapSum = new HashMap<>();
+		Map<PCMMElement, PCMMLevelAccumulator> accumulators = new HashMap<>();
 		for (PCMMAggregation<PCMMSubelement> aggregSub : mapAggregationBySubelement.values()) {
 
 			if (aggregSub.getItem() != null && aggregSub.getItem().getElement() != null) {
-				// Get element
-				PCMMElement elementTmp = aggregSub.getItem().getElement();
-
-				// the sum of the level codes
-				int sum = 0;
-				if (aggregSub.getLevel() != null && aggregSub.getLevel().getCode() != null) {
-					sum = aggregSub.getLevel().getCode();
-				}
-
-				// the number of element
-				int nbElement = 0;
-				if (aggregSub.getLevel() != null && aggregSub.getLevel().getCode() != null) {
-					nbElement = 1;
-				}
-
-				if (!mapNbElement.containsKey(elementTmp)) {
-
-					// initialize element maps
-					mapNbElement.put(elementTmp, nbElement);
-					mapSum.put(elementTmp, sum);
-
-				} else {
-
-					// add an element level to the maps
-					mapNbElement.put(elementTmp, mapNbElement.get(elementTmp) + nbElement);
-					mapSum.put(elementTmp, mapSum.get(elementTmp) + sum);
 
+				// add the sub-element level code to its element
+				PCMMLevelAccumulator accumulator = accumulators.computeIfAbsent(aggregSub.getItem().getElement(),
+						k -> new PCMMLevelAccumulator());
+				if (aggregSub.getLevel() != null) {
+					accumulator.add(aggregSub.getLevel().getCode());
 				}
 			}
 		}
 
 		// aggregate the result
-		for (Entry<PCMMElement, Integer> entry : mapNbElement.entrySet()) {
-
-			if (entry != null) {
-
-				PCMMElement elementTmp = entry.getKey();
-				int nbAggregation = entry.getValue();
+		PCMMLevelCache levelCache = getLevelCache(configuration);
+		for (Entry<PCMMElement, PCMMLevelAccumulator> entry : accumulators.entrySet()) {
 
-				if (elementTmp != null) {
-					// retrieve the sum and the number of elements
-					int sum = mapSum.get(elementTmp);
+			PCMMElement elementTmp = entry.getKey();
 
-					// create the aggregation result
-					PCMMAggregation<PCMMElement> aggregation = new PCMMAggregation<>();
-					aggregation.setItem(elementTmp);
+			// create the aggregation result
+			PCMMAggregation<PCMMElement> aggregation = new PCMMAggregation<>();
+			aggregation.setItem(elementTmp);
 
-					// aggregate
-					if (nbAggregation > 0) {
-						float average = (((float) sum) / ((float) nbAggregation));
-						int code = (int) Math.ceil((double) average); // round to the highest closest int
-
-						// Set level
-						List<PCMMLevel> levels = getDaoManager().getRepository(IPCMMLevelRepository.class)
-								.findByPCMMElement(elementTmp);
-						aggregation.setLevel(getClosestLevelForCode(configuration, levels, code));
-					}
-
-					// put the aggregation in the map to return
-					aggegationMap.put(elementTmp, aggregation);
-				}
+			// aggregate
+			Integer code = entry.getValue().getCode();
+			if (code != null) {
+				aggregation.setLevel(getClosestLevelForCode(configuration, levelCache.getLevels(elementTmp), code));
 			}
+
+			// put the aggregation in the map to return
+			aggegationMap.put(elementTmp, aggregation);
 		}
 
 		return aggegationMap;
@@ -226,8 +207,10 @@ public class PCMMAggregateApp extends AApplication implements IPCMMAggregateApp
 		if (elements == null) {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_AGGREGATESUBELT_ELTLISTNULL));
 		} else {
+			// get the maintained aggregation of all the sub-elements
+			PCMMAggregationModel model = getAggregationModel(filters);
 			for (PCMMElement element : elements) {
-				aggegation.putAll(aggregateAssessments(configuration, element, filters));
+				aggegation.putAll(aggregateSubelementAssessments(configuration, element, model));
 			}
 		}
 		return aggegation;
@@ -243,17 +226,36 @@ public class PCMMAggregateApp extends AApplication implements IPCMMAggregateApp
 
 		logger.debug("Aggregating assessments for PCMM subelements"); //$NON-NLS-1$
 
-		Map<PCMMSubelement, PCMMAggregation<PCMMSubelement>> aggegation = new HashMap<>();
-
 		// check element
 		if (element == null) {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_AGGREGATESUBELT_ELTNULL));
-		} else {
-			if (element.getSubElementList() != null) {
-				for (PCMMSubelement subelt : element.getSubElementList()) {
-					aggegation.put(subelt, aggregateAssessments(configuration, subelt, getAppMgr()
-							.getService(IPCMMAssessmentApp.class).getAssessmentBySubelement(subelt, filters)));
+		}
+
+		return aggregateSubelementAssessments(configuration, element, getAggregationModel(filters));
+	}
+
+	/**
+	 * Aggregate the assessments of the element sub-elements.
+	 * 
+	 * @param configuration the pcmm specification
+	 * @param element       the element
+	 * @param model         the aggregation model
+	 * @return the sub-element aggregation of the element in parameter
+	 * @throws CredibilityException if a parameter is not valid
+	 */
+	private Map<PCMMSubelement, PCMMAggregation<PCMMSubelement>> aggregateSubelementAssessments(
+			PCMMSpecification configuration, PCMMElement element, PCMMAggregationModel model)
+			throws CredibilityException {
+
+		Map<PCMMSubelement, PCMMAggregation<PCMMSubelement>> aggegation = new HashMap<>();
+
+		if (element != null && element.getSubElementList() != null) {
+			for (PCMMSubelement subelt : element.getSubElementList()) {
+				if (subelt == null) {
+					throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_AGGREGATESUBELT_ITEMNULL));
 				}
+				aggegation.put(subelt, getAggregation(configuration, subelt,
+						model.getSubelementCodes(subelt.getId()), model.getSubelementComments(subelt.getId())));
 			}
 		}
 		return aggegation;
@@ -274,9 +276,14 @@ public class PCMMAggregateApp extends AApplication implements IPCMMAggregateApp
 		if (elements == null) {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_AGGREGATESUBELT_ELTLISTNULL));
 		} else {
+			// get the maintained aggregation of all the elements
+			PCMMAggregationModel model = getAggregationModel(filters);
 			for (PCMMElement element : elements) {
-				aggegation.put(element, aggregateAssessments(configuration, element,
-						getAppMgr().getService(IPCMMAssessmentApp.class).getAssessmentByElement(element, filters)));
+				if (element == null) {
+					throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_AGGREGATESUBELT_ITEMNULL));
+				}
+				aggegation.put(element, getAggregation(configuration, element, model.getElementCodes(element.getId()),
+						model.getElementComments(element.getId())));
 			}
 		}
 		return aggegation;
@@ -298,42 +305,77 @@ public class PCMMAggregateApp extends AApplication implements IPCMMAggregateApp
 		}
 
 		if (assessmentList != null) {
-			int sum = 0;
-			int nbAssessments = 0;
-			aggregation = new PCMMAggregation<>();
+			PCMMLevelAccumulator accumulator = new PCMMLevelAccumulator();
 			ArrayList<String> commentList = new ArrayList<>();
 			for (PCMMAssessment assessmt : assessmentList) {
 				// compute the aggregation
 				PCMMLevel level = assessmt.getLevel();
-				if (level != null && level.getCode() != null) {
-					sum += level.getCode();
-					nbAssessments++;
+				if (level != null) {
+					accumulator.add(level.getCode());
 				}
 				commentList.add(StringTools.clearHtml(assessmt.getComment()));
 			}
 
 			// fill the aggregation
-			aggregation.setCommentList(commentList);
-			aggregation.setItem(item);
-			if (nbAssessments > 0) {
-				double average = (((double) sum) / ((double) nbAssessments));
-				int code = (int) Math.ceil(average); // round to the closest int
-
-				// Get fresh levels
-				List<PCMMLevel> levels = new ArrayList<>();
-				if (item instanceof PCMMElement) {
-					levels = getDaoManager().getRepository(IPCMMLevelRepository.class)
-							.findByPCMMElement((PCMMElement) item);
-				} else if (item instanceof PCMMSubelement) {
-					levels = getDaoManager().getRepository(IPCMMLevelRepository.class)
-							.findByPCMMSubelement((PCMMSubelement) item);
-				}
-				aggregation.setLevel(getClosestLevelForCode(configuration, levels, code));
-			}
+			aggregation = getAggregation(configuration, item, accumulator, commentList);
 		}
 		return aggregation;
 	}
 
+	/**
+	 * Create the aggregation of the item from its level codes.
+	 * 
+	 * @param <T>           the pcmm type
+	 * @param configuration the pcmm specification
+	 * @param item          the item to aggregate
+	 * @param codes         the level codes (can be null)
+	 * @param commentList   the comment list (can be null)
+	 * @return the aggregation of the item
+	 */
+	private <T extends IAssessable> PCMMAggregation<T> getAggregation(PCMMSpecification configuration, T item,
+			PCMMLevelAccumulator codes, List<String> commentList) {
+
+		PCMMAggregation<T> aggregation = new PCMMAggregation<>();
+		aggregation.setCommentList(commentList);
+		aggregation.setItem(item);
+		Integer code = codes != null ? codes.getCode() : null;
+		if (code != null) {
+			List<PCMMLevel> levels = getLevelCache(configuration).getLevels(item);
+			aggregation.setLevel(getClosestLevelForCode(configuration, levels, code));
+		}
+		return aggregation;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addToAggregation(PCMMAssessment assessment) {
+		if (assessment != null) {
+			aggregationModels.values().forEach(model -> model.put(assessment));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeFromAggregation(PCMMAssessment assessment) {
+		if (assessment != null) {
+			aggregationModels.values().forEach(model -> model.remove(assessment.getId()));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clearAggregationCache() {
+		logger.debug("Clearing the PCMM aggregation cache"); //$NON-NLS-1$
+		aggregationModels.clear();
+		levelCaches.clear();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -376,6 +418,65 @@ public class PCMMAggregateApp extends AApplication implements IPCMMAggregateApp
 		return aggLevel;
 	}
 
+	/**
+	 * Get the maintained aggregation model of the filters. The model is loaded
+	 * with one query the first time, then updated with the assessment changes. If
+	 * the filters can not be maintained, a new model is loaded and not kept.
+	 * 
+	 * @param filters the filters
+	 * @return the aggregation model
+	 */
+	private PCMMAggregationModel getAggregationModel(Map<EntityFilter, Object> filters) {
+
+		Map<EntityFilter, Integer> key = PCMMAggregationModel.getKey(filters);
+		PCMMAggregationModel model = key != null ? aggregationModels.get(key) : null;
+
+		if (model == null) {
+			model = new PCMMAggregationModel(key != null ? key : new HashMap<>());
+
+			// the element and sub-element filters are ignored
+			Map<EntityFilter, Object> setFilters = filters != null ? new HashMap<>(filters) : new HashMap<>();
+			setFilters.remove(PCMMAssessment.Filter.ELEMENT);
+			setFilters.remove(PCMMAssessment.Filter.SUBELEMENT);
+			List<PCMMAssessment> assessments = getDaoManager().getRepository(IPCMMAssessmentRepository.class)
+					.findBy(setFilters);
+			if (assessments != null) {
+				assessments.forEach(model::put);
+			}
+
+			if (key != null) {
+				aggregationModels.put(key, model);
+			}
+		}
+
+		return model;
+	}
+
+	/**
+	 * @param assessment the assessment
+	 * @return the assessment sub-element id, or null
+	 */
+	static Integer getSubelementId(PCMMAssessment assessment) {
+		return assessment.getSubelement() != null ? assessment.getSubelement().getId() : null;
+	}
+
+	/**
+	 * @param assessment the assessment
+	 * @return the assessment element id, or null
+	 */
+	static Integer getElementId(PCMMAssessment assessment) {
+		return assessment.getElement() != null ? assessment.getElement().getId() : null;
+	}
+
+	/**
+	 * @param configuration the pcmm specification
+	 * @return the level cache of the specification
+	 */
+	private PCMMLevelCache getLevelCache(PCMMSpecification configuration) {
+		return levelCaches.computeIfAbsent(configuration,
+				k -> new PCMMLevelCache(getDaoManager().getRepository(IPCMMLevelRepository.class)));
+	}
+
 	/**
 	 * @return a level comparator based on the level code
 	 */
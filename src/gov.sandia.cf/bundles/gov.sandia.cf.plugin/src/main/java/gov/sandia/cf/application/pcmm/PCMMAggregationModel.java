@@ -0,0 +1,386 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application.pcmm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import gov.sandia.cf.model.IEntity;
+import gov.sandia.cf.model.ITagVersioned;
+import gov.sandia.cf.model.PCMMAssessment;
+import gov.sandia.cf.model.query.EntityFilter;
+import gov.sandia.cf.tools.StringTools;
+
+/**
+ * The maintained aggregation of the assessments matching a set of filters. The
+ * level code sums and counts are kept by sub-element and by element, and
+ * updated with the delta of each assessment added, updated or deleted instead
+ * of being recomputed from all the assessments:
+ * <ul>
+ * <li>by sub-element: the assessment level codes (DEFAULT mode),</li>
+ * <li>by element: the assessment level codes (SIMPLIFIED mode),</li>
+ * <li>by element of the sub-elements: the aggregated level codes of the
+ * sub-elements (DEFAULT mode).</li>
+ * </ul>
+ *
+ * Only the tag and role filters are maintained, the element and sub-element
+ * filters being ignored.
+ *
+ * @author Didier Verstraete
+ *
+ */
+class PCMMAggregationModel {
+
+	/** The filters of the model: the filter and its entity id. */
+	private final Map<EntityFilter, Integer> key;
+
+	/** The assessment records by assessment id. */
+	private final Map<Integer, AssessmentRecord> records;
+
+	/** The assessments by sub-element id. */
+	private final Map<Integer, ItemAggregate> bySubelement;
+
+	/** The assessments by element id. */
+	private final Map<Integer, ItemAggregate> byElement;
+
+	/** The aggregated sub-element codes by element id. */
+	private final Map<Integer, PCMMLevelAccumulator> subelementCodesByElement;
+
+	/**
+	 * Instantiates a new empty aggregation model.
+	 *
+	 * @param key the filters of the model
+	 */
+	PCMMAggregationModel(Map<EntityFilter, Integer> key) {
+		this.key = key;
+		this.records = new HashMap<>();
+		this.bySubelement = new HashMap<>();
+		this.byElement = new HashMap<>();
+		this.subelementCodesByElement = new HashMap<>();
+	}
+
+	/**
+	 * Get the model key of the filters. The model key contains the id of the tag
+	 * and role filters, a null value filtering the assessments without tag or
+	 * role. The copy-on-write tags are not maintained: their assessments are
+	 * shared with the current ones.
+	 *
+	 * @param filters the filters
+	 * @return the model key, or null if a filter can not be maintained
+	 */
+	static Map<EntityFilter, Integer> getKey(Map<EntityFilter, Object> filters) {
+
+		Map<EntityFilter, Integer> modelKey = new HashMap<>();
+		if (filters == null) {
+			return modelKey;
+		}
+
+		for (Entry<EntityFilter, Object> filter : filters.entrySet()) {
+			EntityFilter field = filter.getKey();
+			Object value = filter.getValue();
+			if (PCMMAssessment.Filter.ELEMENT.equals(field) || PCMMAssessment.Filter.SUBELEMENT.equals(field)) {
+				continue;
+			}
+			if (!PCMMAssessment.Filter.TAG.equals(field) && !PCMMAssessment.Filter.ROLECREATION.equals(field)) {
+				return null;
+			}
+			if (value == null) {
+				modelKey.put(field, null);
+			} else if (ITagVersioned.isCopyOnWrite(value)) {
+				// the view of a copy-on-write tag is not maintained
+				return null;
+			} else if (value instanceof IEntity && ((IEntity<?, ?>) value).getId() instanceof Integer) {
+				modelKey.put(field, (Integer) ((IEntity<?, ?>) value).getId());
+			} else {
+				return null;
+			}
+		}
+
+		return modelKey;
+	}
+
+	/**
+	 * Add the assessment, or update it if it is already in the model. The
+	 * assessment is removed if it does not match the model filters anymore.
+	 *
+	 * @param assessment the assessment
+	 */
+	void put(PCMMAssessment assessment) {
+
+		if (assessment == null || assessment.getId() == null) {
+			return;
+		}
+
+		AssessmentRecord record = new AssessmentRecord(assessment);
+		if (!record.matches(key)) {
+			remove(assessment.getId());
+			return;
+		}
+
+		AssessmentRecord previous = records.put(record.id, record);
+		if (previous != null) {
+			removeFromItems(previous, record);
+		}
+		addToItems(record);
+	}
+
+	/**
+	 * Remove the assessment from the model.
+	 *
+	 * @param assessmentId the assessment id
+	 */
+	void remove(Integer assessmentId) {
+		AssessmentRecord previous = assessmentId != null ? records.remove(assessmentId) : null;
+		if (previous != null) {
+			removeFromItems(previous, null);
+		}
+	}
+
+	/**
+	 * @param subelementId the sub-element id
+	 * @return the level code sum and count of the sub-element assessments, or null
+	 */
+	PCMMLevelAccumulator getSubelementCodes(Integer subelementId) {
+		ItemAggregate aggregate = bySubelement.get(subelementId);
+		return aggregate != null ? aggregate.codes : null;
+	}
+
+	/**
+	 * @param subelementId the sub-element id
+	 * @return the cleared comments of the sub-element assessments
+	 */
+	List<String> getSubelementComments(Integer subelementId) {
+		ItemAggregate aggregate = bySubelement.get(subelementId);
+		return aggregate != null ? new ArrayList<>(aggregate.comments.values()) : new ArrayList<>();
+	}
+
+	/**
+	 * @param elementId the element id
+	 * @return the level code sum and count of the element assessments, or null
+	 */
+	PCMMLevelAccumulator getElementCodes(Integer elementId) {
+		ItemAggregate aggregate = byElement.get(elementId);
+		return aggregate != null ? aggregate.codes : null;
+	}
+
+	/**
+	 * @param elementId the element id
+	 * @return the cleared comments of the element assessments
+	 */
+	List<String> getElementComments(Integer elementId) {
+		ItemAggregate aggregate = byElement.get(elementId);
+		return aggregate != null ? new ArrayList<>(aggregate.comments.values()) : new ArrayList<>();
+	}
+
+	/**
+	 * @param elementId the element id
+	 * @return the aggregated code sum and count of the element sub-elements, or
+	 *         null
+	 */
+	PCMMLevelAccumulator getSubelementCodesOfElement(Integer elementId) {
+		return subelementCodesByElement.get(elementId);
+	}
+
+	/**
+	 * @param subelementId the sub-element id
+	 * @return true if the sub-element has at least one assessment, otherwise false
+	 */
+	boolean isSubelementAssessed(Integer subelementId) {
+		return bySubelement.containsKey(subelementId);
+	}
+
+	/**
+	 * @param elementId the element id
+	 * @return true if the element has at least one assessment, otherwise false
+	 */
+	boolean isElementAssessed(Integer elementId) {
+		return byElement.containsKey(elementId);
+	}
+
+	/**
+	 * Add the record to its sub-element and element.
+	 *
+	 * @param record the record
+	 */
+	private void addToItems(AssessmentRecord record) {
+		if (record.subelementId != null) {
+			Integer previousCode = getCode(bySubelement.get(record.subelementId));
+			bySubelement.computeIfAbsent(record.subelementId, k -> new ItemAggregate()).add(record);
+			updateSubelementCode(record.parentElementId, previousCode, getCode(bySubelement.get(record.subelementId)));
+		}
+		if (record.elementId != null) {
+			byElement.computeIfAbsent(record.elementId, k -> new ItemAggregate()).add(record);
+		}
+	}
+
+	/**
+	 * Remove the previous record from its sub-element and element. The comment
+	 * position is kept if the record is replaced in the same item.
+	 *
+	 * @param previous    the previous record
+	 * @param replacement the replacing record, or null
+	 */
+	private void removeFromItems(AssessmentRecord previous, AssessmentRecord replacement) {
+		if (previous.subelementId != null) {
+			Integer previousCode = getCode(bySubelement.get(previous.subelementId));
+			removeFromItem(bySubelement, previous.subelementId, previous,
+					replacement != null && previous.subelementId.equals(replacement.subelementId));
+			updateSubelementCode(previous.parentElementId, previousCode,
+					getCode(bySubelement.get(previous.subelementId)));
+		}
+		if (previous.elementId != null) {
+			removeFromItem(byElement, previous.elementId, previous,
+					replacement != null && previous.elementId.equals(replacement.elementId));
+		}
+	}
+
+	/**
+	 * Remove the previous record from the item, and the item if it has no more
+	 * assessment.
+	 *
+	 * @param items        the items
+	 * @param itemId       the item id
+	 * @param previous     the previous record
+	 * @param keepPosition the record is replaced in the same item
+	 */
+	private static void removeFromItem(Map<Integer, ItemAggregate> items, Integer itemId, AssessmentRecord previous,
+			boolean keepPosition) {
+		ItemAggregate aggregate = items.get(itemId);
+		if (aggregate == null) {
+			return;
+		}
+		aggregate.remove(previous, keepPosition);
+		if (aggregate.comments.isEmpty()) {
+			items.remove(itemId);
+		}
+	}
+
+	/**
+	 * Replace the sub-element aggregated code in its element.
+	 *
+	 * @param elementId    the element id of the sub-element
+	 * @param previousCode the previous aggregated code
+	 * @param code         the new aggregated code
+	 */
+	private void updateSubelementCode(Integer elementId, Integer previousCode, Integer code) {
+		if (elementId == null || Objects.equals(previousCode, code)) {
+			return;
+		}
+		PCMMLevelAccumulator codes = subelementCodesByElement.computeIfAbsent(elementId,
+				k -> new PCMMLevelAccumulator());
+		codes.remove(previousCode);
+		codes.add(code);
+		if (!codes.hasCode()) {
+			subelementCodesByElement.remove(elementId);
+		}
+	}
+
+	/**
+	 * @param aggregate the item aggregate
+	 * @return the aggregated code of the item, or null
+	 */
+	private static Integer getCode(ItemAggregate aggregate) {
+		return aggregate != null ? aggregate.codes.getCode() : null;
+	}
+
+	/**
+	 * The assessment data used by the aggregation, kept to compute the delta when
+	 * the assessment changes.
+	 */
+	private static class AssessmentRecord {
+
+		/** The assessment id. */
+		private final Integer id;
+
+		/** The sub-element id. */
+		private final Integer subelementId;
+
+		/** The element id of the sub-element. */
+		private final Integer parentElementId;
+
+		/** The element id. */
+		private final Integer elementId;
+
+		/** The level code. */
+		private final Integer code;
+
+		/** The cleared comment. */
+		private final String comment;
+
+		/** The tag id. */
+		private final Integer tagId;
+
+		/** The role id. */
+		private final Integer roleId;
+
+		/**
+		 * Instantiates a new assessment record.
+		 *
+		 * @param assessment the assessment
+		 */
+		AssessmentRecord(PCMMAssessment assessment) {
+			this.id = assessment.getId();
+			this.subelementId = PCMMAggregateApp.getSubelementId(assessment);
+			this.parentElementId = assessment.getSubelement() != null
+					&& assessment.getSubelement().getElement() != null
+							? assessment.getSubelement().getElement().getId()
+							: null;
+			this.elementId = PCMMAggregateApp.getElementId(assessment);
+			this.code = assessment.getLevel() != null ? assessment.getLevel().getCode() : null;
+			this.comment = StringTools.clearHtml(assessment.getComment());
+			this.tagId = assessment.getTag() != null ? assessment.getTag().getId() : null;
+			this.roleId = assessment.getRoleCreation() != null ? assessment.getRoleCreation().getId() : null;
+		}
+
+		/**
+		 * @param modelKey the model key
+		 * @return true if the record matches the model filters
+		 */
+		boolean matches(Map<EntityFilter, Integer> modelKey) {
+			if (modelKey.containsKey(PCMMAssessment.Filter.TAG)
+					&& !Objects.equals(modelKey.get(PCMMAssessment.Filter.TAG), tagId)) {
+				return false;
+			}
+			return !modelKey.containsKey(PCMMAssessment.Filter.ROLECREATION)
+					|| Objects.equals(modelKey.get(PCMMAssessment.Filter.ROLECREATION), roleId);
+		}
+	}
+
+	/**
+	 * The level codes and comments of the assessments of an element or
+	 * sub-element.
+	 */
+	private static class ItemAggregate {
+
+		/** The level code sum and count. */
+		private final PCMMLevelAccumulator codes = new PCMMLevelAccumulator();
+
+		/** The comments by assessment id, in insertion order. */
+		private final Map<Integer, String> comments = new LinkedHashMap<>();
+
+		/**
+		 * @param record the record to add
+		 */
+		void add(AssessmentRecord record) {
+			codes.add(record.code);
+			comments.put(record.id, record.comment);
+		}
+
+		/**
+		 * @param record       the record to remove
+		 * @param keepPosition keep the comment position for the replacing record
+		 */
+		void remove(AssessmentRecord record, boolean keepPosition) {
+			codes.remove(record.code);
+			if (!keepPosition) {
+				comments.remove(record.id);
+			}
+		}
+	}
+}
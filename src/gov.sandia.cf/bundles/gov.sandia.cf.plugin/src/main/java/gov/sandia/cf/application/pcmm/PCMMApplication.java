@@ -359,9 +359,8 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 	@Override
 	public void deleteAllPCMMOptions(List<PCMMOption> options) throws CredibilityException {
 		if (options != null) {
-			for (PCMMOption option : options) {
-				deletePCMMOption(option);
-			}
+			checkDeleteAll(options, RscConst.EX_PCMM_DELETEPCMMOPTION_NULL, RscConst.EX_PCMM_DELETEPCMMOPTION_IDNULL);
+			getDaoManager().getRepository(IPCMMOptionRepository.class).deleteAll(options);
 		}
 	}
 
@@ -405,9 +404,25 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_ADDELT_ELTNULL));
 		}
 
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
 		return getDaoManager().getRepository(IPCMMElementRepository.class).create(element);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<PCMMElement> addAllElements(List<PCMMElement> elements) throws CredibilityException {
+
+		// check parameters
+		if (elements == null || elements.contains(null)) {
+			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_ADDELT_ELTNULL));
+		}
+
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
+		return getDaoManager().getRepository(IPCMMElementRepository.class).createAll(elements);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -421,7 +436,13 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_UPDATEELT_IDNULL));
 		}
 
-		return getDaoManager().getRepository(IPCMMElementRepository.class).update(element);
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
+		PCMMElement updated = getDaoManager().getRepository(IPCMMElementRepository.class).update(element);
+
+		// the element model or sub-elements can change
+		getAppMgr().getService(IPCMMAggregateApp.class).clearAggregationCache();
+
+		return updated;
 	}
 
 	/**
@@ -437,7 +458,11 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_DELETEELT_IDNULL));
 		}
 
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
 		getDaoManager().getRepository(IPCMMElementRepository.class).delete(element);
+
+		// the element assessments and levels are deleted
+		getAppMgr().getService(IPCMMAggregateApp.class).clearAggregationCache();
 	}
 
 	/**
@@ -465,7 +490,12 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_ADDLEVEL_LEVELNULL));
 		}
 
-		return getDaoManager().getRepository(IPCMMLevelRepository.class).create(level);
+		PCMMLevel created = getDaoManager().getRepository(IPCMMLevelRepository.class).create(level);
+
+		// the aggregation levels changed
+		getAppMgr().getService(IPCMMAggregateApp.class).clearAggregationCache();
+
+		return created;
 	}
 
 	/**
@@ -481,7 +511,12 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_UPDATELEVEL_IDNULL));
 		}
 
-		return getDaoManager().getRepository(IPCMMLevelRepository.class).update(level);
+		PCMMLevel updated = getDaoManager().getRepository(IPCMMLevelRepository.class).update(level);
+
+		// the aggregation levels changed
+		getAppMgr().getService(IPCMMAggregateApp.class).clearAggregationCache();
+
+		return updated;
 	}
 
 	/**
@@ -498,6 +533,9 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 		}
 
 		getDaoManager().getRepository(IPCMMLevelRepository.class).delete(level);
+
+		// the aggregation levels changed
+		getAppMgr().getService(IPCMMAggregateApp.class).clearAggregationCache();
 	}
 
 	/**
@@ -525,6 +563,41 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_ADDLEVELDESC_LEVELDESCNULL));
 		}
 
+		// Check value length
+		truncateLevelDescriptorValue(levelDescriptor);
+
+		// Save
+		return getDaoManager().getRepository(IPCMMLevelDescRepository.class).create(levelDescriptor);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<PCMMLevelDescriptor> addAllLevelDescriptors(List<PCMMLevelDescriptor> levelDescriptors)
+			throws CredibilityException {
+
+		// check parameters
+		if (levelDescriptors == null || levelDescriptors.contains(null)) {
+			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_ADDLEVELDESC_LEVELDESCNULL));
+		}
+
+		// Check value length
+		for (PCMMLevelDescriptor levelDescriptor : levelDescriptors) {
+			truncateLevelDescriptorValue(levelDescriptor);
+		}
+
+		// Save
+		return getDaoManager().getRepository(IPCMMLevelDescRepository.class).createAll(levelDescriptors);
+	}
+
+	/**
+	 * Truncate the level descriptor value if it is longer than the max size
+	 * 
+	 * @param levelDescriptor the level descriptor
+	 */
+	private void truncateLevelDescriptorValue(PCMMLevelDescriptor levelDescriptor) {
+
 		// the max size of the descriptor
 		int maxValueSize = 1500;
 
@@ -539,9 +612,6 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 
 		// Set value
 		levelDescriptor.setValue(finalValue);
-
-		// Save
-		return getDaoManager().getRepository(IPCMMLevelDescRepository.class).create(levelDescriptor);
 	}
 
 	/**
@@ -616,9 +686,25 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_ADDSUBELT_SUBELTNULL));
 		}
 
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
 		return getDaoManager().getRepository(IPCMMSubelementRepository.class).create(subelement);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<PCMMSubelement> addAllSubelements(List<PCMMSubelement> subelements) throws CredibilityException {
+
+		// check parameters
+		if (subelements == null || subelements.contains(null)) {
+			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_ADDSUBELT_SUBELTNULL));
+		}
+
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
+		return getDaoManager().getRepository(IPCMMSubelementRepository.class).createAll(subelements);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -632,7 +718,13 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_UPDATESUBELT_IDNULL));
 		}
 
-		return getDaoManager().getRepository(IPCMMSubelementRepository.class).update(subelement);
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
+		PCMMSubelement updated = getDaoManager().getRepository(IPCMMSubelementRepository.class).update(subelement);
+
+		// the sub-element can be moved to another element
+		getAppMgr().getService(IPCMMAggregateApp.class).clearAggregationCache();
+
+		return updated;
 	}
 
 	/**
@@ -648,7 +740,11 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_DELETESUBELT_IDNULL));
 		}
 
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
 		getDaoManager().getRepository(IPCMMSubelementRepository.class).delete(subelement);
+
+		// the sub-element assessments and levels are deleted
+		getAppMgr().getService(IPCMMAggregateApp.class).clearAggregationCache();
 	}
 
 	/**
@@ -717,6 +813,9 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 		}
 
 		getDaoManager().getRepository(IRoleRepository.class).delete(role);
+
+		// the role assessments are deleted
+		getAppMgr().getService(IPCMMAggregateApp.class).clearAggregationCache();
 	}
 
 	/**
@@ -779,36 +878,30 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 
 		newTag.setDateTag(DateTools.getCurrentDate());
 
+		/*
+		 * copy-on-write tag: the active evidence, assessments and planning values are
+		 * not copied. They are part of the tag until they are updated or deleted, and
+		 * then copied into the tag by their repository.
+		 */
+		Integer lastVersion = getDaoManager().getRepository(ITagRepository.class).findLastVersionNumber();
+		newTag.setVersionNumber(lastVersion != null ? lastVersion + 1 : 1);
+
 		// create tag
 		Tag createdTag = getDaoManager().getRepository(ITagRepository.class).create(newTag);
 
-		// copy and tag active evidence
-		for (PCMMEvidence evidence : getAppMgr().getService(IPCMMEvidenceApp.class).getActiveEvidenceList()) {
-			PCMMEvidence copy = evidence.copy();
-			copy = getDaoManager().getRepository(IPCMMEvidenceRepository.class).create(copy);
-			copy.setTag(createdTag);
-			getDaoManager().getRepository(IPCMMEvidenceRepository.class).update(copy);
-
-			// refresh the evidence in the entity manager
-			if (evidence.getElement() != null) {
-				getDaoManager().getRepository(IPCMMElementRepository.class).refresh(evidence.getElement());
+		// tag pcmm planning, the tag and its partial copies are deleted if it fails
+		try {
+			getAppMgr().getService(IPCMMPlanningApplication.class).tagCurrent(createdTag);
+		} catch (CredibilityException | RuntimeException e) {
+			logger.error("Tag {} failed, deleting it: {}", createdTag.getName(), e.getMessage()); //$NON-NLS-1$
+			try {
+				deleteTag(createdTag);
+			} catch (CredibilityException | RuntimeException deleteException) {
+				e.addSuppressed(deleteException);
 			}
-			if (evidence.getSubelement() != null) {
-				getDaoManager().getRepository(IPCMMSubelementRepository.class).refresh(evidence.getSubelement());
-			}
-		}
-
-		// copy and tag active assessments
-		for (PCMMAssessment assessment : getAppMgr().getService(IPCMMAssessmentApp.class).getActiveAssessmentList()) {
-			PCMMAssessment copy = assessment.copy();
-			copy = getDaoManager().getRepository(IPCMMAssessmentRepository.class).create(copy);
-			copy.setTag(createdTag);
-			getDaoManager().getRepository(IPCMMAssessmentRepository.class).update(copy);
+			throw e;
 		}
 
-		// copy and tag pcmm planning
-		getAppMgr().getService(IPCMMPlanningApplication.class).tagCurrent(createdTag);
-
 		return createdTag;
 	}
 
@@ -849,13 +942,13 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_DELETETAG_IDNULL));
 		}
 
-		// delete the associated evidence
-		getAppMgr().getService(IPCMMEvidenceApp.class)
-				.deleteEvidence(getAppMgr().getService(IPCMMEvidenceApp.class).getEvidenceByTag(tag));
+		// delete the associated evidence (not the active ones shared with the tag)
+		getAppMgr().getService(IPCMMEvidenceApp.class).deleteEvidence(
+				getDaoManager().getRepository(IPCMMEvidenceRepository.class).findCopiesByTag(tag));
 
-		// delete the associated assessments
-		getAppMgr().getService(IPCMMAssessmentApp.class)
-				.deleteAssessment(getAppMgr().getService(IPCMMAssessmentApp.class).getAssessmentByTag(tag));
+		// delete the associated assessments (not the active ones shared with the tag)
+		getAppMgr().getService(IPCMMAssessmentApp.class).deleteAssessment(
+				getDaoManager().getRepository(IPCMMAssessmentRepository.class).findCopiesByTag(tag));
 
 		// delete PCMM Planning items and values associated to this tag
 		getAppMgr().getService(IPCMMPlanningApplication.class).deleteTagged(tag);
@@ -1037,9 +1130,7 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 
 		if (evidenceList != null) {
 			for (PCMMEvidence evidence : evidenceList) {
-				if (((selectedTag == null || selectedTag.getId() == null) && evidence.getTag() == null)
-						|| (evidence.getTag() != null && selectedTag != null
-								&& evidence.getTag().getId().equals(selectedTag.getId()))) {
+				if (evidence.isInTag(selectedTag)) {
 					max++;
 					break;
 				}
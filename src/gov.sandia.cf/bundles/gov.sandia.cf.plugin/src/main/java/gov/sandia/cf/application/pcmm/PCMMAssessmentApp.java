@@ -14,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import gov.sandia.cf.application.AApplication;
 import gov.sandia.cf.dao.IPCMMAssessmentRepository;
 import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.ITagVersioned;
 import gov.sandia.cf.model.PCMMAssessment;
 import gov.sandia.cf.model.PCMMElement;
 import gov.sandia.cf.model.PCMMSubelement;
@@ -117,8 +118,8 @@ public class PCMMAssessmentApp extends AApplication implements IPCMMAssessmentAp
 		List<PCMMAssessment> pcmmAssessmentList = new ArrayList<>();
 		if (tagList != null) {
 			for (Tag tag : tagList) {
-				pcmmAssessmentList
-						.addAll(getDaoManager().getRepository(IPCMMAssessmentRepository.class).findByTag(tag));
+				pcmmAssessmentList.addAll(ITagVersioned.detachShared(tag,
+						getDaoManager().getRepository(IPCMMAssessmentRepository.class).findByTag(tag)));
 			}
 		}
 
@@ -156,7 +157,13 @@ public class PCMMAssessmentApp extends AApplication implements IPCMMAssessmentAp
 		assessment.setDateCreation(DateTools.getCurrentDate());
 
 		// create
-		return getDaoManager().getRepository(IPCMMAssessmentRepository.class).create(assessment);
+		PCMMAssessment created = getDaoManager().getRepository(IPCMMAssessmentRepository.class).create(assessment);
+
+		// apply the change to the aggregation and the progress
+		getAppMgr().getService(IPCMMAggregateApp.class).addToAggregation(created);
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
+
+		return created;
 	}
 
 	/**
@@ -181,7 +188,13 @@ public class PCMMAssessmentApp extends AApplication implements IPCMMAssessmentAp
 		assessment.setDateUpdate(DateTools.getCurrentDate());
 
 		// update
-		return getDaoManager().getRepository(IPCMMAssessmentRepository.class).update(assessment);
+		PCMMAssessment updated = getDaoManager().getRepository(IPCMMAssessmentRepository.class).update(assessment);
+
+		// apply the change to the aggregation and the progress
+		getAppMgr().getService(IPCMMAggregateApp.class).addToAggregation(updated);
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
+
+		return updated;
 	}
 
 	/**
@@ -199,6 +212,10 @@ public class PCMMAssessmentApp extends AApplication implements IPCMMAssessmentAp
 
 		// delete
 		getDaoManager().getRepository(IPCMMAssessmentRepository.class).delete(assessment);
+
+		// apply the change to the aggregation and the progress
+		getAppMgr().getService(IPCMMAggregateApp.class).removeFromAggregation(assessment);
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
 	}
 
 	/**
@@ -19,10 +19,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import gov.sandia.cf.application.AApplication;
+import gov.sandia.cf.application.global.IReorderApp;
 import gov.sandia.cf.dao.IPCMMEvidenceRepository;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.FormFieldType;
 import gov.sandia.cf.model.IAssessable;
+import gov.sandia.cf.model.ITagVersioned;
 import gov.sandia.cf.model.NotificationType;
 import gov.sandia.cf.model.PCMMElement;
 import gov.sandia.cf.model.PCMMEvidence;
@@ -50,6 +52,11 @@ public class PCMMEvidenceApp extends AApplication implements IPCMMEvidenceApp {
 	 */
 	private static final Logger logger = LoggerFactory.getLogger(PCMMEvidenceApp.class);
 
+	/**
+	 * the evidence error and warning counts, rebuilt when the evidence list changes
+	 */
+	private final EvidenceHealthIndex healthIndex = new EvidenceHealthIndex();
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -97,7 +104,8 @@ public class PCMMEvidenceApp extends AApplication implements IPCMMEvidenceApp {
 		List<PCMMEvidence> pcmmEvidenceList = new ArrayList<>();
 		if (tagList != null) {
 			for (Tag tag : tagList) {
-				pcmmEvidenceList.addAll(getDaoManager().getRepository(IPCMMEvidenceRepository.class).findByTag(tag));
+				pcmmEvidenceList.addAll(ITagVersioned.detachShared(tag,
+						getDaoManager().getRepository(IPCMMEvidenceRepository.class).findByTag(tag)));
 			}
 		}
 
@@ -166,6 +174,8 @@ public class PCMMEvidenceApp extends AApplication implements IPCMMEvidenceApp {
 			evidence.setName(split[split.length - 1]);
 		}
 		// create
+		healthIndex.invalidate();
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
 		return getDaoManager().getRepository(IPCMMEvidenceRepository.class).create(evidence);
 	}
 
@@ -320,6 +330,8 @@ public class PCMMEvidenceApp extends AApplication implements IPCMMEvidenceApp {
 		}
 
 		// update
+		healthIndex.invalidate();
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
 		return getDaoManager().getRepository(IPCMMEvidenceRepository.class).update(evidenceFound);
 	}
 
@@ -360,6 +372,8 @@ public class PCMMEvidenceApp extends AApplication implements IPCMMEvidenceApp {
 		}
 
 		// update
+		healthIndex.invalidate();
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
 		return getDaoManager().getRepository(IPCMMEvidenceRepository.class).update(evidence);
 	}
 
@@ -376,6 +390,8 @@ public class PCMMEvidenceApp extends AApplication implements IPCMMEvidenceApp {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_DELETEEVIDENCE_IDNULL));
 		}
 
+		healthIndex.invalidate();
+		getAppMgr().getService(IPCMMProgressApp.class).invalidate();
 		getDaoManager().getRepository(IPCMMEvidenceRepository.class).delete(evidence);
 	}
 
@@ -574,46 +590,35 @@ public class PCMMEvidenceApp extends AApplication implements IPCMMEvidenceApp {
 	 * 
 	 */
 	public int findEvidenceErrorNotification() throws CredibilityException {
-		// Initialize
-		int count = 0;
-
-		// Get all notifications
-		Map<PCMMEvidence, Map<NotificationType, List<String>>> evidencesNotifications = getAllEvidenceNotifications();
-		for (Map.Entry<PCMMEvidence, Map<NotificationType, List<String>>> entry : evidencesNotifications.entrySet()) {
-
-			// Get error notifications
-			// Increment count if not empty
-			if (entry.getValue().containsKey(NotificationType.ERROR)
-					&& !entry.getValue().get(NotificationType.ERROR).isEmpty()) {
-				count += entry.getValue().get(NotificationType.ERROR).size();
-			}
-		}
-
-		// Result
-		return count;
+		return getEvidenceHealthIndex().getErrorCount();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public int findEvidenceWarningNotification() throws CredibilityException {
-		// Initialize
-		int count = 0;
+		return getEvidenceHealthIndex().getWarningCount();
+	}
 
-		// Get all notifications
-		Map<PCMMEvidence, Map<NotificationType, List<String>>> evidencesNotifications = getAllEvidenceNotifications();
-		for (Map.Entry<PCMMEvidence, Map<NotificationType, List<String>>> entry : evidencesNotifications.entrySet()) {
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evidenceFileChanged(String path) {
+		healthIndex.fileChanged(path);
+	}
 
-			// Get error notifications
-			// Increment count if not empty
-			if (entry.getValue().containsKey(NotificationType.WARN)
-					&& !entry.getValue().get(NotificationType.WARN).isEmpty()) {
-				count += entry.getValue().get(NotificationType.WARN).size();
+	/**
+	 * @return the evidence health index, rebuilt if the evidence list changed
+	 * @throws CredibilityException if an error occured while getting the evidence
+	 */
+	private EvidenceHealthIndex getEvidenceHealthIndex() throws CredibilityException {
+		synchronized (healthIndex) {
+			if (!healthIndex.isValid()) {
+				healthIndex.rebuild(getAllEvidence());
 			}
 		}
-
-		// Result
-		return count;
+		return healthIndex;
 	}
 
 	/**
@@ -653,13 +658,8 @@ public class PCMMEvidenceApp extends AApplication implements IPCMMEvidenceApp {
 		// reorder
 		List<PCMMEvidence> reorderedList = IDTools.reorderList(sameAssessableEvidenceList, toMove, newIndex);
 
-		// set generated id
-		int index = 1;
-		for (PCMMEvidence evidence : reorderedList) {
-			evidence.setGeneratedId(String.valueOf(index));
-			getDaoManager().getRepository(IPCMMEvidenceRepository.class).update(evidence);
-			index++;
-		}
+		// set generated id in one transaction
+		getAppMgr().getService(IReorderApp.class).reorderNumbered(IPCMMEvidenceRepository.class, reorderedList);
 
 		// refresh
 		getAppMgr().getService(IPCMMApplication.class).refreshElement(element);
@@ -0,0 +1,68 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application.pcmm;
+
+/**
+ * The sum and count of level codes used to compute an aggregated level code:
+ * the average of the codes rounded to the highest closest int.
+ *
+ * @author Didier Verstraete
+ *
+ */
+class PCMMLevelAccumulator {
+
+	/** The sum of the level codes. */
+	private int sum;
+
+	/** The number of level codes. */
+	private int count;
+
+	/**
+	 * Add a level code. A null code is ignored.
+	 *
+	 * @param code the level code
+	 */
+	void add(Integer code) {
+		if (code != null) {
+			sum += code;
+			count++;
+		}
+	}
+
+	/**
+	 * Remove a level code previously added. A null code is ignored.
+	 *
+	 * @param code the level code
+	 */
+	void remove(Integer code) {
+		if (code != null && count > 0) {
+			sum -= code;
+			count--;
+		}
+	}
+
+	/**
+	 * @return the number of level codes
+	 */
+	int getCount() {
+		return count;
+	}
+
+	/**
+	 * @return true if there is at least one level code
+	 */
+	boolean hasCode() {
+		return count > 0;
+	}
+
+	/**
+	 * @return the aggregated code, or null if there is no level code
+	 */
+	Integer getCode() {
+		if (count <= 0) {
+			return null;
+		}
+		return (int) Math.ceil(((double) sum) / ((double) count)); // round to the highest closest int
+	}
+}
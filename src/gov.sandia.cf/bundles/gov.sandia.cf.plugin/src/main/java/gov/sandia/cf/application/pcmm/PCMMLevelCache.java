@@ -0,0 +1,93 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application.pcmm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.sandia.cf.dao.IPCMMLevelRepository;
+import gov.sandia.cf.model.IAssessable;
+import gov.sandia.cf.model.PCMMElement;
+import gov.sandia.cf.model.PCMMLevel;
+import gov.sandia.cf.model.PCMMSubelement;
+
+/**
+ * The PCMM levels by element and sub-element, used by the aggregation. All the
+ * levels are loaded with one query, then an element or sub-element not found is
+ * loaded with its own query and kept.
+ *
+ * @author Didier Verstraete
+ *
+ */
+class PCMMLevelCache {
+
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(PCMMLevelCache.class);
+
+	/** The level repository. */
+	private final IPCMMLevelRepository levelRepository;
+
+	/** The levels by element id. */
+	private final Map<Integer, List<PCMMLevel>> levelsByElement;
+
+	/** The levels by sub-element id. */
+	private final Map<Integer, List<PCMMLevel>> levelsBySubelement;
+
+	/**
+	 * Load all the levels.
+	 *
+	 * @param levelRepository the level repository
+	 */
+	PCMMLevelCache(IPCMMLevelRepository levelRepository) {
+		this.levelRepository = levelRepository;
+		this.levelsByElement = new HashMap<>();
+		this.levelsBySubelement = new HashMap<>();
+
+		List<PCMMLevel> levels = levelRepository.findAll();
+		if (levels != null) {
+			for (PCMMLevel level : levels) {
+				if (level == null) {
+					continue;
+				}
+				if (level.getElement() != null) {
+					levelsByElement.computeIfAbsent(level.getElement().getId(), k -> new ArrayList<>()).add(level);
+				}
+				if (level.getSubelement() != null) {
+					levelsBySubelement.computeIfAbsent(level.getSubelement().getId(), k -> new ArrayList<>())
+							.add(level);
+				}
+			}
+			logger.debug("{} PCMM levels loaded", levels.size()); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * @param item the element or sub-element
+	 * @return a copy of the item levels, or an empty list
+	 */
+	List<PCMMLevel> getLevels(IAssessable item) {
+
+		List<PCMMLevel> levels = null;
+
+		if (item instanceof PCMMElement && ((PCMMElement) item).getId() != null) {
+			PCMMElement element = (PCMMElement) item;
+			levels = levelsByElement.computeIfAbsent(element.getId(),
+					k -> levelRepository.findByPCMMElement(element));
+		} else if (item instanceof PCMMSubelement && ((PCMMSubelement) item).getId() != null) {
+			PCMMSubelement subelement = (PCMMSubelement) item;
+			levels = levelsBySubelement.computeIfAbsent(subelement.getId(),
+					k -> levelRepository.findByPCMMSubelement(subelement));
+		}
+
+		// the levels are sorted by the caller
+		return levels != null ? new ArrayList<>(levels) : new ArrayList<>();
+	}
+}
@@ -31,6 +31,7 @@ import gov.sandia.cf.model.GenericValue;
 import gov.sandia.cf.model.GenericValueTaggable;
 import gov.sandia.cf.model.IAssessable;
 import gov.sandia.cf.model.IGenericTableValue;
+import gov.sandia.cf.model.ITagVersioned;
 import gov.sandia.cf.model.Model;
 import gov.sandia.cf.model.PCMMElement;
 import gov.sandia.cf.model.PCMMMode;
@@ -45,6 +46,7 @@ import gov.sandia.cf.model.PCMMSubelement;
 import gov.sandia.cf.model.Tag;
 import gov.sandia.cf.model.User;
 import gov.sandia.cf.model.query.EntityFilter;
+import gov.sandia.cf.model.query.NullParameter;
 import gov.sandia.cf.tools.DateTools;
 import gov.sandia.cf.tools.RscConst;
 import gov.sandia.cf.tools.RscTools;
@@ -296,23 +298,31 @@ public class PCMMPlanningApplication extends AApplication implements IPCMMPlanni
 		// refresh entity
 		getDaoManager().getRepository(IPCMMPlanningParamRepository.class).refresh(planningParam);
 
-		// filters
+		// filters: the active values are copied on write into the tags when deleted,
+		// they are deleted before the tagged values
+		Map<EntityFilter, Object> activeFilters = new HashMap<>();
+		activeFilters.put(GenericValue.Filter.PARAMETER, planningParam);
+		activeFilters.put(GenericValueTaggable.Filter.TAG, NullParameter.NULL);
 		Map<EntityFilter, Object> filters = new HashMap<>();
 		filters.put(GenericValue.Filter.PARAMETER, planningParam);
 
 		// delete values
-		List<PCMMPlanningValue> values = getPlanningValueBy(filters);
-		if (values != null) {
-			for (PCMMPlanningValue value : values) {
-				deletePlanningValue(value);
+		for (Map<EntityFilter, Object> valueFilters : List.of(activeFilters, filters)) {
+			List<PCMMPlanningValue> values = getPlanningValueBy(valueFilters);
+			if (values != null) {
+				for (PCMMPlanningValue value : values) {
+					deletePlanningValue(value);
+				}
 			}
 		}
 
 		// delete table items associated
-		List<PCMMPlanningTableItem> items = getPlanningTableItemBy(filters);
-		if (items != null) {
-			for (PCMMPlanningTableItem item : items) {
-				deletePlanningTableItem(item);
+		for (Map<EntityFilter, Object> itemFilters : List.of(activeFilters, filters)) {
+			List<PCMMPlanningTableItem> items = getPlanningTableItemBy(itemFilters);
+			if (items != null) {
+				for (PCMMPlanningTableItem item : items) {
+					deletePlanningTableItem(item);
+				}
 			}
 		}
 
@@ -452,13 +462,19 @@ public class PCMMPlanningApplication extends AApplication implements IPCMMPlanni
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMMPLANNING_DELETEQUESTION_IDNULL));
 		}
 
-		// delete values
+		// delete values: the active values are copied on write into the tags when
+		// deleted, they are deleted before the tagged values
+		Map<EntityFilter, Object> activeFilters = new HashMap<>();
+		activeFilters.put(GenericValue.Filter.PARAMETER, question);
+		activeFilters.put(GenericValueTaggable.Filter.TAG, NullParameter.NULL);
 		Map<EntityFilter, Object> filters = new HashMap<>();
 		filters.put(GenericValue.Filter.PARAMETER, question);
-		List<PCMMPlanningQuestionValue> values = getPlanningQuestionValueBy(filters);
-		if (values != null) {
-			for (PCMMPlanningQuestionValue value : values) {
-				deletePlanningQuestionValue(value);
+		for (Map<EntityFilter, Object> valueFilters : List.of(activeFilters, filters)) {
+			List<PCMMPlanningQuestionValue> values = getPlanningQuestionValueBy(valueFilters);
+			if (values != null) {
+				for (PCMMPlanningQuestionValue value : values) {
+					deletePlanningQuestionValue(value);
+				}
 			}
 		}
 
@@ -531,7 +547,7 @@ public class PCMMPlanningApplication extends AApplication implements IPCMMPlanni
 		List<PCMMPlanningValue> toReturn = new ArrayList<>();
 		if (tagList != null) {
 			for (Tag tag : tagList) {
-				toReturn.addAll(getPlanningValueByElement(element, mode, tag));
+				toReturn.addAll(ITagVersioned.detachShared(tag, getPlanningValueByElement(element, mode, tag)));
 			}
 		}
 
@@ -613,7 +629,8 @@ public class PCMMPlanningApplication extends AApplication implements IPCMMPlanni
 		List<PCMMPlanningQuestionValue> toReturn = new ArrayList<>();
 		if (tagList != null) {
 			for (Tag tag : tagList) {
-				toReturn.addAll(getPlanningQuestionsValueByElement(element, mode, tag));
+				toReturn.addAll(
+						ITagVersioned.detachShared(tag, getPlanningQuestionsValueByElement(element, mode, tag)));
 			}
 		}
 
@@ -680,13 +697,42 @@ public class PCMMPlanningApplication extends AApplication implements IPCMMPlanni
 		List<PCMMPlanningTableItem> toReturn = new ArrayList<>();
 		if (tagList != null) {
 			for (Tag tag : tagList) {
-				toReturn.addAll(getPlanningTableItemByElement(element, mode, tag));
+				toReturn.addAll(detachSharedItems(tag, getPlanningTableItemByElement(element, mode, tag)));
 			}
 		}
 
 		return toReturn;
 	}
 
+	/**
+	 * Get the table items of the tag view as tagged items: the active items shared
+	 * with the tag are replaced by detached copies tagged with the tag, with a copy
+	 * of their values.
+	 *
+	 * @param tag   the tag
+	 * @param items the table items of the tag view
+	 * @return the tagged table items
+	 */
+	private static List<PCMMPlanningTableItem> detachSharedItems(Tag tag, List<PCMMPlanningTableItem> items) {
+		if (!ITagVersioned.isCopyOnWrite(tag) || items == null) {
+			return items;
+		}
+		return items.stream().map(item -> {
+			if (item == null || item.getTag() != null) {
+				return item;
+			}
+			PCMMPlanningTableItem copy = item.copy();
+			copy.setTag(tag);
+			copy.setValueList(item.getValueList().stream().filter(PCMMPlanningTableValue.class::isInstance)
+					.map(PCMMPlanningTableValue.class::cast).map(value -> {
+						PCMMPlanningTableValue valueCopy = value.copy();
+						valueCopy.setItem(copy);
+						return valueCopy;
+					}).collect(Collectors.toList()));
+			return copy;
+		}).collect(Collectors.toList());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -789,6 +835,15 @@ public class PCMMPlanningApplication extends AApplication implements IPCMMPlanni
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMMPLANNING_TAG_IDNULL));
 		}
 
+		/*
+		 * copy-on-write tag: the active planning values and table items are not
+		 * copied. They are part of the tag until they are updated or deleted, and then
+		 * copied into the tag by their repository.
+		 */
+		if (ITagVersioned.isCopyOnWrite(newTag)) {
+			return;
+		}
+
 		// copy and tag active Planning Questions
 		Map<EntityFilter, Object> filters = new HashMap<>();
 		filters.put(GenericValueTaggable.Filter.TAG, null);
@@ -842,18 +897,26 @@ public class PCMMPlanningApplication extends AApplication implements IPCMMPlanni
 		Map<EntityFilter, Object> filters = new HashMap<>();
 		filters.put(GenericValueTaggable.Filter.TAG, tagToDelete);
 
+		// the view of a copy-on-write tag contains the active values shared with it:
+		// only the values copied into the tag are deleted
+
 		// delete Planning Questions associated to the tag to delete
 		for (PCMMPlanningQuestionValue answer : getPlanningQuestionValueBy(filters)) {
-			getDaoManager().getRepository(IPCMMPlanningQuestionValueRepository.class).delete(answer);
+			if (answer.getTag() != null) {
+				getDaoManager().getRepository(IPCMMPlanningQuestionValueRepository.class).delete(answer);
+			}
 		}
 
 		// delete Planning Parameters associated to the tag to delete
 		for (PCMMPlanningValue value : getPlanningValueBy(filters)) {
-			getDaoManager().getRepository(IPCMMPlanningValueRepository.class).delete(value);
+			if (value.getTag() != null) {
+				getDaoManager().getRepository(IPCMMPlanningValueRepository.class).delete(value);
+			}
 		}
 
 		// delete Planning Table items and values associated to the tag to delete
-		for (PCMMPlanningTableItem item : getPlanningTableItemBy(filters)) {
+		for (PCMMPlanningTableItem item : getPlanningTableItemBy(filters).stream().filter(i -> i.getTag() != null)
+				.collect(Collectors.toList())) {
 
 			// delete Planning Table items associated to the tag to delete. The planning
 			// table values associated to the item will be deleted automatically because of
@@ -0,0 +1,194 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application.pcmm;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.sandia.cf.application.AApplication;
+import gov.sandia.cf.dao.IPCMMAssessmentRepository;
+import gov.sandia.cf.dao.IPCMMEvidenceRepository;
+import gov.sandia.cf.dao.IPCMMSubelementRepository;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.Model;
+import gov.sandia.cf.model.PCMMElement;
+import gov.sandia.cf.model.PCMMMode;
+import gov.sandia.cf.model.Tag;
+import gov.sandia.cf.model.dto.configuration.PCMMSpecification;
+import gov.sandia.cf.tools.RscConst;
+import gov.sandia.cf.tools.RscTools;
+
+/**
+ * Manage the PCMM progress: the evidence and assessment coverage is counted by
+ * element for a tag and a mode with one aggregate query each, instead of
+ * loading the evidence and assessments of each element. The coverage is kept
+ * until {@link #invalidate()} is called by the PCMM services changing the
+ * evidence, assessments, elements or subelements.
+ *
+ * The planning progress is still computed element by element.
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class PCMMProgressApp extends AApplication implements IPCMMProgressApp {
+
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(PCMMProgressApp.class);
+
+	/** The coverage by mode and by tag id (null for the current data). */
+	private final Map<PCMMMode, Map<Integer, Coverage>> coverages = new EnumMap<>(PCMMMode.class);
+
+	/** The number of subelements by element id, or null if not counted. */
+	private Map<Integer, Integer> subelementCountByElement;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int computeCurrentProgress(Model model, PCMMSpecification configuration) throws CredibilityException {
+
+		// check parameters
+		if (configuration == null) {
+			return 0;
+		}
+
+		int cpt = 0;
+		Tag tag = null; // the current progress is not for a specific tag
+		List<PCMMElement> elementList = getAppMgr().getService(IPCMMApplication.class).getElementList(model);
+		if (elementList != null && !elementList.isEmpty()) {
+			for (PCMMElement element : elementList) {
+				cpt += computeProgressByElement(element, tag, configuration);
+			}
+			cpt = (cpt / elementList.size());
+		}
+
+		return cpt;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int computeProgressByElement(PCMMElement element, Tag selectedTag, PCMMSpecification configuration)
+			throws CredibilityException {
+
+		// check parameters
+		if (element == null) {
+			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_PROGRESS_COMPUTE_ELTNULL));
+		}
+		if (configuration == null) {
+			throw new CredibilityException(RscTools.getString(RscConst.EX_PCMM_PROGRESS_COMPUTE_CONFNULL));
+		}
+
+		PCMMMode mode = configuration.getMode();
+		float cptGlobal = 0F;
+
+		if (mode != null && (Boolean.TRUE.equals(configuration.isPcmmEvidenceEnabled())
+				|| Boolean.TRUE.equals(configuration.isPcmmAssessEnabled()))) {
+
+			Coverage coverage = getCoverage(selectedTag, mode);
+			int max = PCMMMode.DEFAULT.equals(mode) ? getSubelementCount(element) : 1;
+
+			// evidence progress
+			if (Boolean.TRUE.equals(configuration.isPcmmEvidenceEnabled())) {
+				int cpt = coverage.evidenceByElement.getOrDefault(element.getId(), 0);
+				cptGlobal += max > 0 ? ((float) cpt / (float) max) * PCMMApplication.PCMM_PROGRESS_EVIDENCE_DEFAULT_WEIGHT
+						: 0;
+			}
+
+			// assess progress
+			if (Boolean.TRUE.equals(configuration.isPcmmAssessEnabled())) {
+				int cpt = coverage.assessmentByElement.getOrDefault(element.getId(), 0);
+				cptGlobal += max > 0 ? ((float) cpt / (float) max) * PCMMApplication.PCMM_PROGRESS_ASSESS_DEFAULT_WEIGHT
+						: 0;
+			}
+		}
+
+		// planning progress
+		if (Boolean.TRUE.equals(configuration.isPcmmPlanningEnabled())) {
+			int cpt = getAppMgr().getService(IPCMMPlanningApplication.class).computePlanningProgress(element,
+					selectedTag, mode);
+			int max = getAppMgr().getService(IPCMMPlanningApplication.class).computePlanningMaxProgress(element, mode);
+			cptGlobal += max > 0 ? ((float) cpt / (float) max) * PCMMApplication.PCMM_PROGRESS_PLANNING_DEFAULT_WEIGHT
+					: 0;
+		}
+
+		return Math.round(cptGlobal);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void invalidate() {
+		coverages.clear();
+		subelementCountByElement = null;
+	}
+
+	/**
+	 * Get the coverage of the tag and mode, counted if needed.
+	 *
+	 * @param tag  the tag
+	 * @param mode the PCMM mode
+	 * @return the coverage
+	 */
+	private synchronized Coverage getCoverage(Tag tag, PCMMMode mode) {
+
+		Integer tagId = tag != null ? tag.getId() : null;
+		Map<Integer, Coverage> coverageByTag = coverages.computeIfAbsent(mode, key -> new HashMap<>());
+
+		Coverage coverage = coverageByTag.get(tagId);
+		if (coverage == null) {
+			coverage = new Coverage(
+					getDaoManager().getRepository(IPCMMEvidenceRepository.class).countProgressByElement(tag, mode),
+					getDaoManager().getRepository(IPCMMAssessmentRepository.class).countProgressByElement(tag,
+							mode));
+			coverageByTag.put(tagId, coverage);
+			logger.debug("PCMM progress counted for tag {} in mode {}", tagId, mode); //$NON-NLS-1$
+		}
+
+		return coverage;
+	}
+
+	/**
+	 * @param element the element
+	 * @return the number of subelements of the element, counted for all the
+	 *         elements if needed
+	 */
+	private synchronized int getSubelementCount(PCMMElement element) {
+		if (subelementCountByElement == null) {
+			subelementCountByElement = getDaoManager().getRepository(IPCMMSubelementRepository.class)
+					.countByElement();
+		}
+		return subelementCountByElement.getOrDefault(element.getId(), 0);
+	}
+
+	/**
+	 * The evidence and assessment coverage of the elements for a tag and a mode.
+	 */
+	private static class Coverage {
+
+		/** The evidence progress by element id. */
+		private final Map<Integer, Integer> evidenceByElement;
+
+		/** The assessment progress by element id. */
+		private final Map<Integer, Integer> assessmentByElement;
+
+		/**
+		 * @param evidenceByElement   the evidence progress by element id
+		 * @param assessmentByElement the assessment progress by element id
+		 */
+		Coverage(Map<Integer, Integer> evidenceByElement, Map<Integer, Integer> assessmentByElement) {
+			this.evidenceByElement = evidenceByElement;
+			this.assessmentByElement = assessmentByElement;
+		}
+	}
+}
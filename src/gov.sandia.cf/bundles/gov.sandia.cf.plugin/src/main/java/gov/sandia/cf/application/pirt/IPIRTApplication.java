@@ -5,6 +5,8 @@ package gov.sandia.cf.application.pirt;
 
 import java.util.List;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+
 import gov.sandia.cf.application.IApplication;
 import gov.sandia.cf.application.Service;
 import gov.sandia.cf.exceptions.CredibilityException;
@@ -87,6 +89,22 @@ public interface IPIRTApplication extends IApplication {
 	QuantityOfInterest tagQoI(QuantityOfInterest qoi, String tagDescriptionn, User currentUser)
 			throws CredibilityException;
 
+	/**
+	 * Makes a copy of @param qoi and marks the copied qoi as tagged. The whole qoi
+	 * tree is copied in one transaction: nothing is tagged if an error occurs or
+	 * if the progress monitor is cancelled.
+	 * 
+	 * @param qoi             the qoi to tag
+	 * @param tagDescription  the tag description
+	 * @param currentUser     the current user
+	 * @param progressMonitor the progress monitor (can be null)
+	 * @return the tagged qoi
+	 * @throws CredibilityException if an error occurs while tagging qoi or if the
+	 *                              tagging is cancelled
+	 */
+	QuantityOfInterest tagQoI(QuantityOfInterest qoi, String tagDescription, User currentUser,
+			IProgressMonitor progressMonitor) throws CredibilityException;
+
 	/**
 	 * Makes a copy of @param qoi
 	 * 
@@ -19,6 +19,11 @@ import gov.sandia.cf.application.ApplicationManager;
 import gov.sandia.cf.application.global.IGlobalApplication;
 import gov.sandia.cf.application.imports.IImportApplication;
 import gov.sandia.cf.dao.IPIRTAdequacyColumnGuidelineRepository;
+import gov.sandia.cf.dao.IPIRTAdequacyColumnRepository;
+import gov.sandia.cf.dao.IPIRTAdequacyLevelGuidelineRepository;
+import gov.sandia.cf.dao.IPIRTDescriptionHeaderRepository;
+import gov.sandia.cf.dao.IPIRTLevelDifferenceColorRepository;
+import gov.sandia.cf.dao.IPIRTLevelImportanceRepository;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.CFFeature;
 import gov.sandia.cf.model.IImportable;
@@ -266,10 +271,8 @@ public class ImportPIRTApp extends AApplication implements IImportPIRTApp {
 			if (toAdd != null && !toAdd.isEmpty()) {
 				logger.info("Importing PIRT Colors into database..."); //$NON-NLS-1$
 
-				for (PIRTLevelDifferenceColor color : toAdd.stream().map(PIRTLevelDifferenceColor.class::cast)
-						.collect(Collectors.toList())) {
-					getAppMgr().getService(IPIRTApplication.class).addPIRTLevelDifferenceColor(color);
-				}
+				getDaoManager().getRepository(IPIRTLevelDifferenceColorRepository.class).createAll(
+						toAdd.stream().map(PIRTLevelDifferenceColor.class::cast).collect(Collectors.toList()));
 			}
 
 		}
@@ -292,10 +295,8 @@ public class ImportPIRTApp extends AApplication implements IImportPIRTApp {
 
 				logger.info("Importing PIRT Columns into database..."); //$NON-NLS-1$
 
-				for (PIRTAdequacyColumn column : toAdd.stream().map(PIRTAdequacyColumn.class::cast)
-						.collect(Collectors.toList())) {
-					getAppMgr().getService(IPIRTApplication.class).addPIRTAdequacyColumn(column);
-				}
+				getDaoManager().getRepository(IPIRTAdequacyColumnRepository.class)
+						.createAll(toAdd.stream().map(PIRTAdequacyColumn.class::cast).collect(Collectors.toList()));
 			}
 		}
 	}
@@ -317,10 +318,8 @@ public class ImportPIRTApp extends AApplication implements IImportPIRTApp {
 
 				logger.info("Importing PIRT Headers into database..."); //$NON-NLS-1$
 
-				for (PIRTDescriptionHeader header : toAdd.stream().map(PIRTDescriptionHeader.class::cast)
-						.collect(Collectors.toList())) {
-					getAppMgr().getService(IPIRTApplication.class).addPIRTDescriptionHeader(header);
-				}
+				getDaoManager().getRepository(IPIRTDescriptionHeaderRepository.class)
+						.createAll(toAdd.stream().map(PIRTDescriptionHeader.class::cast).collect(Collectors.toList()));
 			}
 		}
 	}
@@ -356,10 +355,8 @@ public class ImportPIRTApp extends AApplication implements IImportPIRTApp {
 
 				logger.info("Importing PIRT Levels into database..."); //$NON-NLS-1$
 
-				for (PIRTLevelImportance value : toAdd.stream().map(PIRTLevelImportance.class::cast)
-						.collect(Collectors.toList())) {
-					getAppMgr().getService(IPIRTApplication.class).addPIRTLevelImportance(value);
-				}
+				getDaoManager().getRepository(IPIRTLevelImportanceRepository.class)
+						.createAll(toAdd.stream().map(PIRTLevelImportance.class::cast).collect(Collectors.toList()));
 			}
 		}
 	}
@@ -376,22 +373,28 @@ public class ImportPIRTApp extends AApplication implements IImportPIRTApp {
 
 			logger.info("Importing PIRT Guidelines into database..."); //$NON-NLS-1$
 
+			List<PIRTAdequacyColumnGuideline> guidelinesToCreate = new ArrayList<>();
+			List<PIRTAdequacyColumnLevelGuideline> levelGuidelines = new ArrayList<>();
 			for (PIRTAdequacyColumnGuideline value : columnGuidelines) {
 
 				// get level guidelines
-				List<PIRTAdequacyColumnLevelGuideline> levelGuidelines = value.getLevelGuidelines();
+				if (value.getLevelGuidelines() != null) {
+					levelGuidelines.addAll(value.getLevelGuidelines());
+				}
 
 				// add column guideline
 				if (toAdd != null && toAdd.contains(value)) {
 					value.setLevelGuidelines(null);
-					getAppMgr().getService(IPIRTApplication.class).addPIRTAdequacyColumnGuideline(value);
-				}
-
-				if (levelGuidelines != null) {
-					importPIRTLevelGuidelines(levelGuidelines);
+					guidelinesToCreate.add(value);
 				}
 			}
 
+			// create the column guidelines in one transaction
+			getDaoManager().getRepository(IPIRTAdequacyColumnGuidelineRepository.class).createAll(guidelinesToCreate);
+
+			// import the level guidelines once their column guidelines exist
+			importPIRTLevelGuidelines(levelGuidelines);
+
 		}
 	}
 
@@ -409,6 +412,7 @@ public class ImportPIRTApp extends AApplication implements IImportPIRTApp {
 					getAppMgr().getService(IPIRTApplication.class).getPIRTAdequacyColumnLevelGuideline());
 
 			if (toAdd != null && !toAdd.isEmpty()) {
+				List<PIRTAdequacyColumnLevelGuideline> levelGuidelinesToCreate = new ArrayList<>();
 				for (PIRTAdequacyColumnLevelGuideline levelGuideline : toAdd.stream()
 						.map(PIRTAdequacyColumnLevelGuideline.class::cast).collect(Collectors.toList())) {
 
@@ -421,8 +425,7 @@ public class ImportPIRTApp extends AApplication implements IImportPIRTApp {
 						levelGuideline.setAdequacyColumnGuideline(pirtGuideline);
 
 						// add level guideline
-						getAppMgr().getService(IPIRTApplication.class)
-								.addPIRTAdequacyColumnLevelGuideline(levelGuideline);
+						levelGuidelinesToCreate.add(levelGuideline);
 
 					} else {
 						logger.warn(
@@ -430,6 +433,10 @@ public class ImportPIRTApp extends AApplication implements IImportPIRTApp {
 								levelGuideline.getAbstract());
 					}
 				}
+
+				// create the level guidelines in one transaction
+				getDaoManager().getRepository(IPIRTAdequacyLevelGuidelineRepository.class)
+						.createAll(levelGuidelinesToCreate);
 			}
 		}
 	}
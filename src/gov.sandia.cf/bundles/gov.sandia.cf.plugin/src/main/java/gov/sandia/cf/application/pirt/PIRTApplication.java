@@ -14,16 +14,20 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import gov.sandia.cf.application.AApplication;
 import gov.sandia.cf.application.ApplicationManager;
 import gov.sandia.cf.application.global.IGlobalApplication;
+import gov.sandia.cf.application.global.IReorderApp;
 import gov.sandia.cf.application.imports.IImportApplication;
 import gov.sandia.cf.application.qoiplanning.IQoIPlanningApplication;
 import gov.sandia.cf.dao.IARGParametersQoIOptionRepository;
 import gov.sandia.cf.dao.IARGParametersRepository;
+import gov.sandia.cf.dao.EntityCopyTransaction;
 import gov.sandia.cf.dao.ICriterionRepository;
 import gov.sandia.cf.dao.INativeQueryRepository;
 import gov.sandia.cf.dao.IPIRTAdequacyColumnGuidelineRepository;
@@ -233,11 +237,22 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 	@Override
 	public QuantityOfInterest tagQoI(QuantityOfInterest qoi, String tagDescription, User currentUser)
 			throws CredibilityException {
+		return tagQoI(qoi, tagDescription, currentUser, new NullProgressMonitor());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public QuantityOfInterest tagQoI(QuantityOfInterest qoi, String tagDescription, User currentUser,
+			IProgressMonitor progressMonitor) throws CredibilityException {
 
 		if (qoi == null) {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PIRT_TAG_QOINULL));
 		} else if (qoi.getModel() == null) {
 			throw new CredibilityException(RscTools.getString(RscConst.EX_PIRT_TAG_MODELNULL));
+		} else if (qoi.getUserCreation() == null) {
+			throw new CredibilityException(RscTools.getString(RscConst.EX_PIRT_ADDQOI_USERNULL));
 		}
 
 		// Create a QoI copy
@@ -256,63 +271,116 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 		taggedQoi.setTagDescription(tagDescription);
 		taggedQoi.setTagUserCreation(currentUser);
 
-		// Copy QoI Planning values before save
-		if (qoi.getQoiPlanningList() != null) {
-			List<QoIPlanningValue> qoiPlanningListCopied = new ArrayList<>();
-			for (QoIPlanningValue qoiPlanningValue : qoi.getQoiPlanningList()) {
-				QoIPlanningValue qoiPlanningCopied = qoiPlanningValue.copy();
-				qoiPlanningCopied.setQoi(taggedQoi);
-				qoiPlanningListCopied.add(qoiPlanningCopied);
-			}
-			taggedQoi.setQoiPlanningList(qoiPlanningListCopied);
+		// copy the whole qoi tree in one transaction
+		IProgressMonitor monitor = progressMonitor != null ? progressMonitor : new NullProgressMonitor();
+		monitor.beginTask(RscTools.getString(RscConst.MSG_QOIHOMEVIEW_TAG_PROGRESS, qoi.getSymbol()),
+				countQoITree(qoi));
+		try {
+			return copyQoITree(qoi, taggedQoi, qoi.getUserCreation(), true, monitor);
+		} finally {
+			monitor.done();
 		}
+	}
 
-		// Save
-		taggedQoi = addQoI(taggedQoi, qoi.getUserCreation());
+	/**
+	 * Copy the qoi and its planning values, headers, phenomenon groups, phenomena
+	 * and criteria in one transaction. Nothing is copied if an error occurs or if
+	 * the progress monitor is cancelled.
+	 * 
+	 * @param qoi            the qoi to copy
+	 * @param qoiCopy        the qoi copy to persist
+	 * @param user           the creation user of the copied qoi
+	 * @param keepHeaderUser keep the creation user of the qoi headers, otherwise
+	 *                       set it to the user in parameter
+	 * @param monitor        the progress monitor
+	 * @return the qoi copied
+	 * @throws CredibilityException if an error occured or if the copy is
+	 *                              cancelled
+	 */
+	private QuantityOfInterest copyQoITree(QuantityOfInterest qoi, QuantityOfInterest qoiCopy, User user,
+			boolean keepHeaderUser, IProgressMonitor monitor) throws CredibilityException {
+
+		try (EntityCopyTransaction transaction = new EntityCopyTransaction(getDaoManager(),
+				count -> monitor.worked(1))) {
+			transaction.begin();
+
+			// set the creation fields
+			if (qoiCopy.getCreationDate() == null) {
+				qoiCopy.setCreationDate(DateTools.getCurrentDate());
+			}
+			qoiCopy.setUserCreation(user);
+			if (qoiCopy.getParent() != null) {
+				qoiCopy.setSymbol(qoiCopy.getParent().getSymbol());
+			}
+			qoiCopy.setQoiPlanningList(new ArrayList<>());
+			transaction.copy(qoiCopy);
+
+			// copy QoI Planning values
+			if (qoi.getQoiPlanningList() != null) {
+				for (QoIPlanningValue qoiPlanningValue : qoi.getQoiPlanningList()) {
+					QoIPlanningValue qoiPlanningCopied = qoiPlanningValue.copy();
+					qoiPlanningCopied.setQoi(qoiCopy);
+					qoiPlanningCopied.setDateCreation(DateTools.getCurrentDate());
+					qoiPlanningCopied.setUserCreation(user);
+					qoiCopy.getQoiPlanningList().add(transaction.copy(qoiPlanningCopied));
+				}
+			}
 
-		// Copy QoI headers
-		if (qoi.getQoiHeaderList() != null) {
-			List<QoIHeader> qoiHeaderListCopied = new ArrayList<>();
-			for (QoIHeader qoiHeader : qoi.getQoiHeaderList()) {
-				QoIHeader qoiHeaderCopied = qoiHeader.copy();
-				qoiHeaderCopied.setQoi(taggedQoi);
-				qoiHeaderCopied = addQoIHeader(qoiHeaderCopied, qoiHeader.getUserCreation());
-				qoiHeaderListCopied.add(qoiHeaderCopied);
+			// copy QoI headers
+			if (qoi.getQoiHeaderList() != null) {
+				List<QoIHeader> qoiHeaderListCopied = new ArrayList<>();
+				for (QoIHeader qoiHeader : qoi.getQoiHeaderList()) {
+					QoIHeader qoiHeaderCopied = qoiHeader.copy();
+					qoiHeaderCopied.setQoi(qoiCopy);
+					if (qoiHeaderCopied.getCreationDate() == null) {
+						qoiHeaderCopied.setCreationDate(DateTools.getCurrentDate());
+					}
+					qoiHeaderCopied.setUserCreation(keepHeaderUser ? qoiHeader.getUserCreation() : user);
+					qoiHeaderListCopied.add(transaction.copy(qoiHeaderCopied));
+				}
+				qoiCopy.setQoiHeaderList(qoiHeaderListCopied);
 			}
-			taggedQoi.setQoiHeaderList(qoiHeaderListCopied);
-		}
 
-		// Copy phenomena groups
-		if (qoi.getPhenomenonGroupList() != null) {
-			List<PhenomenonGroup> groupListCopied = new ArrayList<>();
-			for (PhenomenonGroup group : qoi.getPhenomenonGroupList()) {
-				groupListCopied.add(copyPhenomenonGroup(group, taggedQoi));
+			// copy phenomena groups
+			if (qoi.getPhenomenonGroupList() != null) {
+				List<PhenomenonGroup> groupListCopied = new ArrayList<>();
+				for (PhenomenonGroup group : qoi.getPhenomenonGroupList()) {
+					groupListCopied.add(copyPhenomenonGroup(transaction, group, qoiCopy, monitor));
+				}
+				qoiCopy.setPhenomenonGroupList(groupListCopied);
 			}
-			taggedQoi.setPhenomenonGroupList(groupListCopied);
+
+			transaction.commit();
 		}
 
-		return taggedQoi;
+		return qoiCopy;
 	}
 
 	/**
-	 * @param group     the group to copy
-	 * @param qoiParent the qoi to associate
+	 * @param transaction the copy transaction
+	 * @param group       the group to copy
+	 * @param qoiParent   the qoi to associate
+	 * @param monitor     the progress monitor
 	 * @return the phenomenon group copied
-	 * @throws CredibilityException if an error occured
+	 * @throws CredibilityException if an error occured or if the copy is
+	 *                              cancelled
 	 */
-	private PhenomenonGroup copyPhenomenonGroup(PhenomenonGroup group, QuantityOfInterest qoiParent)
-			throws CredibilityException {
+	private PhenomenonGroup copyPhenomenonGroup(EntityCopyTransaction transaction, PhenomenonGroup group,
+			QuantityOfInterest qoiParent, IProgressMonitor monitor) throws CredibilityException {
 
 		if (group != null) {
 			PhenomenonGroup groupCopied = group.copy();
 			groupCopied.setQoi(qoiParent);
-			groupCopied = addPhenomenonGroup(groupCopied);
+			groupCopied = transaction.copy(groupCopied);
 
 			// copy phenomenon
 			if (group.getPhenomenonList() != null) {
 				List<Phenomenon> phenomenonListCopied = new ArrayList<>();
 				for (Phenomenon phenomenon : group.getPhenomenonList()) {
-					phenomenonListCopied.add(copyPhenomenon(phenomenon, groupCopied));
+					if (monitor.isCanceled()) {
+						throw new CredibilityException(RscTools.getString(RscConst.EX_PIRT_TAG_CANCELLED));
+					}
+					phenomenonListCopied.add(copyPhenomenon(transaction, phenomenon, groupCopied));
 				}
 				groupCopied.setPhenomenonList(phenomenonListCopied);
 			}
@@ -323,18 +391,20 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 	}
 
 	/**
+	 * @param transaction the copy transaction
 	 * @param phenomenon  the phenomenon to copy
 	 * @param groupParent the group to associate
 	 * @return the phenomenon copied
 	 * @throws CredibilityException if an error occured
 	 */
-	private Phenomenon copyPhenomenon(Phenomenon phenomenon, PhenomenonGroup groupParent) throws CredibilityException {
+	private Phenomenon copyPhenomenon(EntityCopyTransaction transaction, Phenomenon phenomenon,
+			PhenomenonGroup groupParent) throws CredibilityException {
 
 		if (phenomenon != null) {
 
 			Phenomenon phenomenonCopied = phenomenon.copy();
 			phenomenonCopied.setPhenomenonGroup(groupParent);
-			phenomenonCopied = addPhenomenon(phenomenonCopied);
+			phenomenonCopied = transaction.copy(phenomenonCopied);
 
 			// copy criterion
 			if (phenomenon.getCriterionList() != null) {
@@ -343,8 +413,7 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 					if (criterion != null) {
 						Criterion criterionCopied = criterion.copy();
 						criterionCopied.setPhenomenon(phenomenonCopied);
-						criterionCopied = addCriterion(criterionCopied);
-						criterionListCopied.add(criterionCopied);
+						criterionListCopied.add(transaction.copy(criterionCopied));
 					}
 				}
 				phenomenonCopied.setCriterionList(criterionListCopied);
@@ -355,6 +424,30 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 		return null;
 	}
 
+	/**
+	 * @param qoi the qoi
+	 * @return the number of entities to copy to copy the qoi tree
+	 */
+	private static int countQoITree(QuantityOfInterest qoi) {
+		int count = 1;
+		count += qoi.getQoiPlanningList() != null ? qoi.getQoiPlanningList().size() : 0;
+		count += qoi.getQoiHeaderList() != null ? qoi.getQoiHeaderList().size() : 0;
+		if (qoi.getPhenomenonGroupList() != null) {
+			for (PhenomenonGroup group : qoi.getPhenomenonGroupList()) {
+				count++;
+				if (group != null && group.getPhenomenonList() != null) {
+					for (Phenomenon phenomenon : group.getPhenomenonList()) {
+						count++;
+						if (phenomenon != null && phenomenon.getCriterionList() != null) {
+							count += phenomenon.getCriterionList().size();
+						}
+					}
+				}
+			}
+		}
+		return count;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -378,42 +471,13 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 		duplicatedQoi.setCreationDate(DateTools.getCurrentDate());
 		duplicatedQoi.setUserCreation(user);
 
-		// Copy QoI Planning values before save
-		if (qoi.getQoiPlanningList() != null) {
-			List<QoIPlanningValue> qoiPlanningListCopied = new ArrayList<>();
-			for (QoIPlanningValue qoiPlanningValue : qoi.getQoiPlanningList()) {
-				QoIPlanningValue qoiPlanningCopied = qoiPlanningValue.copy();
-				qoiPlanningCopied.setQoi(duplicatedQoi);
-				qoiPlanningListCopied.add(qoiPlanningCopied);
-			}
-			duplicatedQoi.setQoiPlanningList(qoiPlanningListCopied);
-		}
-
-		// Save
-		duplicatedQoi = addQoI(duplicatedQoi, user);
-
-		// Copy qoi headers
-		if (qoi.getQoiHeaderList() != null) {
-			List<QoIHeader> qoiHeaderListCopied = new ArrayList<>();
-			for (QoIHeader qoiHeader : qoi.getQoiHeaderList()) {
-				QoIHeader qoiHeaderCopied = qoiHeader.copy();
-				qoiHeaderCopied.setQoi(duplicatedQoi);
-				qoiHeaderCopied = addQoIHeader(qoiHeaderCopied, user);
-				qoiHeaderListCopied.add(qoiHeaderCopied);
-			}
-			duplicatedQoi.setQoiHeaderList(qoiHeaderListCopied);
-		}
-
-		// copy phenomena groups
-		if (qoi.getPhenomenonGroupList() != null) {
-			List<PhenomenonGroup> groupListCopied = new ArrayList<>();
-			for (PhenomenonGroup group : qoi.getPhenomenonGroupList()) {
-				groupListCopied.add(copyPhenomenonGroup(group, duplicatedQoi));
-			}
-			duplicatedQoi.setPhenomenonGroupList(groupListCopied);
+		// check the qoi symbol
+		if (duplicatedQoi.getParent() == null && existsQoISymbol((Integer[]) null, duplicatedQoi.getSymbol())) {
+			throw new CredibilityException(RscTools.getString(RscConst.EX_PIRT_ADDQOI_NAMEDUPLICATED));
 		}
 
-		return duplicatedQoi;
+		// copy the whole qoi tree in one transaction
+		return copyQoITree(qoi, duplicatedQoi, user, false, new NullProgressMonitor());
 	}
 
 	/**
@@ -1020,9 +1084,9 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 	public void deleteAllPIRTAdequacyColumnGuideline(List<PIRTAdequacyColumnGuideline> pirtGuidelines)
 			throws CredibilityException {
 		if (pirtGuidelines != null) {
-			for (PIRTAdequacyColumnGuideline guideline : pirtGuidelines) {
-				deletePIRTAdequacyColumnGuideline(guideline);
-			}
+			checkDeleteAll(pirtGuidelines, RscConst.EX_PIRT_DELETEPIRTADEQCOLUMNGUIDELINE_COLUMNNULL,
+					RscConst.EX_PIRT_DELETEPIRTADEQCOLUMNGUIDELINE_IDNULL);
+			getDaoManager().getRepository(IPIRTAdequacyColumnGuidelineRepository.class).deleteAll(pirtGuidelines);
 		}
 	}
 
@@ -1147,9 +1211,9 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 	@Override
 	public void deleteAllPIRTAdequacyColumn(List<PIRTAdequacyColumn> pirtAdequacyColumns) throws CredibilityException {
 		if (pirtAdequacyColumns != null) {
-			for (PIRTAdequacyColumn column : pirtAdequacyColumns) {
-				deletePIRTAdequacyColumn(column);
-			}
+			checkDeleteAll(pirtAdequacyColumns, RscConst.EX_PIRT_DELETEPIRTADEQCOLUMN_COLUMNNULL,
+					RscConst.EX_PIRT_DELETEPIRTADEQCOLUMN_IDNULL);
+			getDaoManager().getRepository(IPIRTAdequacyColumnRepository.class).deleteAll(pirtAdequacyColumns);
 		}
 	}
 
@@ -1212,9 +1276,9 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 	@Override
 	public void deleteAllPIRTDescriptionHeader(List<PIRTDescriptionHeader> pirtHeaders) throws CredibilityException {
 		if (pirtHeaders != null) {
-			for (PIRTDescriptionHeader header : pirtHeaders) {
-				deletePIRTDescriptionHeader(header);
-			}
+			checkDeleteAll(pirtHeaders, RscConst.EX_PIRT_DELETEPIRTDESCHEADER_COLUMNNULL,
+					RscConst.EX_PIRT_DELETEPIRTDESCHEADER_IDNULL);
+			getDaoManager().getRepository(IPIRTDescriptionHeaderRepository.class).deleteAll(pirtHeaders);
 		}
 	}
 
@@ -1278,9 +1342,9 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 	public void deleteAllPIRTLevelDifferenceColor(List<PIRTLevelDifferenceColor> pirtColors)
 			throws CredibilityException {
 		if (pirtColors != null) {
-			for (PIRTLevelDifferenceColor color : pirtColors) {
-				deletePIRTLevelDifferenceColor(color);
-			}
+			checkDeleteAll(pirtColors, RscConst.EX_PIRT_DELETEPIRTLEVELDIFFCOLOR_COLUMNNULL,
+					RscConst.EX_PIRT_DELETEPIRTLEVELDIFFCOLOR_IDNULL);
+			getDaoManager().getRepository(IPIRTLevelDifferenceColorRepository.class).deleteAll(pirtColors);
 		}
 	}
 
@@ -1344,9 +1408,9 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 	@Override
 	public void deleteAllPIRTLevelImportance(List<PIRTLevelImportance> pirtLevels) throws CredibilityException {
 		if (pirtLevels != null) {
-			for (PIRTLevelImportance level : pirtLevels) {
-				deletePIRTLevelImportance(level);
-			}
+			checkDeleteAll(pirtLevels, RscConst.EX_PIRT_DELETEPIRTLEVELIMPORTANCE_COLUMNNULL,
+					RscConst.EX_PIRT_DELETEPIRTLEVELIMPORTANCE_IDNULL);
+			getDaoManager().getRepository(IPIRTLevelImportanceRepository.class).deleteAll(pirtLevels);
 		}
 	}
 
@@ -1428,23 +1492,12 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 		sameGroupQuantityOfInterestList.sort(
 				Comparator.comparing(QuantityOfInterest::getGeneratedId, new StringWithNumberAndNullableComparator()));
 
-		// set id for parents
-		int index = 1;
-		for (QuantityOfInterest qoi : sameGroupQuantityOfInterestList) {
+		// set id for parents and children in one transaction
+		getAppMgr().getService(IReorderApp.class).reorderTree(IQuantityOfInterestRepository.class,
+				sameGroupQuantityOfInterestList, null, 0, QuantityOfInterest::getChildren);
 
-			String elementId = IDTools.generateAlphabeticId(index - 1);
-			qoi.setGeneratedId(elementId);
-			updateQoI(qoi, user);
-
-			if (qoi.getChildren() != null && !qoi.getChildren().isEmpty()) {
-				reorderQuantityOfInterestAtSameLevel(qoi.getChildren().get(0), user);
-			}
-
-			// refresh group
-			refresh(qoi);
-
-			index++;
-		}
+		// refresh groups
+		sameGroupQuantityOfInterestList.forEach(this::refresh);
 	}
 
 	/**
@@ -1505,32 +1558,8 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 		sameGroupQuantityOfInterestList.sort(
 				Comparator.comparing(QuantityOfInterest::getGeneratedId, new StringWithNumberAndNullableComparator()));
 
-		// set id for parents
-		int index = 1;
-		final String groupIdLabel = toMove.getParent() == null ? RscTools.empty() : toMove.getParent().getGeneratedId();
-		for (QuantityOfInterest qoi : sameGroupQuantityOfInterestList) {
-
-			String elementId = null;
-			if (toMove.getParent() == null) {
-				elementId = IDTools.generateAlphabeticId(index - 1);
-			} else if (toMove.getLevel() % 2 == 0) {
-				elementId = groupIdLabel + IDTools.generateAlphabeticId(index - 1);
-			} else {
-				elementId = groupIdLabel + index;
-			}
-
-			qoi.setGeneratedId(elementId);
-			updateQoI(qoi, user);
-
-			if (qoi.getChildren() != null && !qoi.getChildren().isEmpty()) {
-				reorderQuantityOfInterestAtSameLevel(qoi.getChildren().get(0), user);
-			}
-
-			index++;
-		}
-
-		// refresh group
-		refresh(toMove.getParent());
+		// apply reordering
+		applyQoIReorderFromList(sameGroupQuantityOfInterestList, toMove);
 	}
 
 	/**
@@ -1564,30 +1593,27 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 		// reorder
 		List<QuantityOfInterest> reorderedList = IDTools.reorderList(sameGroupQuantityOfInterestList, toMove, newIndex);
 
-		// set id for parents
-		int index = 1;
-		final String groupIdLabel = toMove.getParent() == null ? RscTools.empty() : toMove.getParent().getGeneratedId();
-		for (QuantityOfInterest qoi : reorderedList) {
-			String elementId = null;
-			if (toMove.getParent() == null) {
-				elementId = IDTools.generateAlphabeticId(index - 1);
-			} else if (toMove.getLevel() % 2 == 0) {
-				elementId = groupIdLabel + IDTools.generateAlphabeticId(index - 1);
-			} else {
-				elementId = groupIdLabel + index;
-			}
-			qoi.setGeneratedId(elementId);
-			updateQoI(qoi, user);
+		// apply reordering
+		applyQoIReorderFromList(reorderedList, toMove);
+	}
 
-			if (qoi.getChildren() != null && !qoi.getChildren().isEmpty()) {
-				reorderQuantityOfInterestAtSameLevel(qoi.getChildren().get(0), user);
-			}
+	/**
+	 * Apply the QoI reorder from list.
+	 *
+	 * @param orderedList the ordered list
+	 * @param toMove      the to move
+	 * @throws CredibilityException the credibility exception
+	 */
+	private void applyQoIReorderFromList(List<QuantityOfInterest> orderedList, QuantityOfInterest toMove)
+			throws CredibilityException {
 
-			index++;
-		}
+		// set id for the group and children in one transaction
+		QuantityOfInterest parent = toMove.getParent();
+		getAppMgr().getService(IReorderApp.class).reorderTree(IQuantityOfInterestRepository.class, orderedList,
+				parent != null ? parent.getGeneratedId() : null, toMove.getLevel(), QuantityOfInterest::getChildren);
 
 		// refresh group
-		refresh(toMove.getParent());
+		refresh(parent);
 	}
 
 	/**
@@ -5,6 +5,7 @@ package gov.sandia.cf.application.qoiplanning;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -171,13 +172,22 @@ public class ImportQoIPlanningApp extends AApplication implements IImportQoIPlan
 		List<?> toAdd = getAppMgr().getService(IImportApplication.class).getChangesToAdd(paramList,
 				getDaoManager().getRepository(IQoIPlanningParamRepository.class).findAll());
 
-		// For each parameters
-		for (QoIPlanningParam parameter : toAdd.stream().map(QoIPlanningParam.class::cast)
-				.collect(Collectors.toList())) {
+		List<QoIPlanningParam> parameters = toAdd.stream().map(QoIPlanningParam.class::cast).collect(Collectors.toList());
+
+		// create the parameters in one transaction
+		List<QoIPlanningParam> toCreate = new ArrayList<>();
+		for (QoIPlanningParam parameter : parameters) {
 			QoIPlanningParam p = parameter.copy();
 			p.setModel(model);
-			QoIPlanningParam parameterCreated = getAppMgr().getDaoManager()
-					.getRepository(IQoIPlanningParamRepository.class).create(p);
+			toCreate.add(p);
+		}
+		List<QoIPlanningParam> created = getAppMgr().getDaoManager().getRepository(IQoIPlanningParamRepository.class)
+				.createAll(toCreate);
+
+		// For each parameters
+		for (int i = 0; i < parameters.size(); i++) {
+			QoIPlanningParam parameter = parameters.get(i);
+			QoIPlanningParam parameterCreated = created.get(i);
 
 			// Import select values
 			if (parameter.getParameterValueList() != null) {
@@ -217,12 +227,14 @@ public class ImportQoIPlanningApp extends AApplication implements IImportQoIPlan
 						.findBy(EntityFilterBuilder.get(GenericParameterSelectValue.Filter.PARAMETER, param)));
 
 		// For each parameter values
+		List<QoIPlanningSelectValue> toCreate = new ArrayList<>();
 		for (QoIPlanningSelectValue parameterValue : toAdd.stream().map(QoIPlanningSelectValue.class::cast)
 				.collect(Collectors.toList())) {
 			QoIPlanningSelectValue pv = parameterValue.copy();
 			pv.setParameter(param);
-			getAppMgr().getDaoManager().getRepository(IQoIPlanningSelectValueRepository.class).create(pv);
+			toCreate.add(pv);
 		}
+		getAppMgr().getDaoManager().getRepository(IQoIPlanningSelectValueRepository.class).createAll(toCreate);
 
 		// refresh the parameter
 		getDaoManager().getRepository(IQoIPlanningParamRepository.class).refresh(param);
@@ -248,12 +260,14 @@ public class ImportQoIPlanningApp extends AApplication implements IImportQoIPlan
 						.findBy(EntityFilterBuilder.get(GenericParameterConstraint.Filter.PARAMETER, param)));
 
 		// For each parameter values
+		List<QoIPlanningConstraint> toCreate = new ArrayList<>();
 		for (QoIPlanningConstraint parameterValue : toAdd.stream().map(QoIPlanningConstraint.class::cast)
 				.collect(Collectors.toList())) {
 			QoIPlanningConstraint pv = parameterValue.copy();
 			pv.setParameter(param);
-			getAppMgr().getDaoManager().getRepository(IQoIPlanningConstraintRepository.class).create(pv);
+			toCreate.add(pv);
 		}
+		getAppMgr().getDaoManager().getRepository(IQoIPlanningConstraintRepository.class).createAll(toCreate);
 
 		// refresh the parameter
 		getDaoManager().getRepository(IQoIPlanningParamRepository.class).refresh(param);
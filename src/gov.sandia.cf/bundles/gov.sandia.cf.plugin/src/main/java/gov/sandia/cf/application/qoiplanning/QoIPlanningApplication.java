@@ -124,9 +124,9 @@ public class QoIPlanningApplication extends AApplication implements IQoIPlanning
 	@Override
 	public void deleteAllQoIPlanningValue(List<QoIPlanningValue> values) throws CredibilityException {
 		if (values != null) {
-			for (QoIPlanningValue value : values) {
-				deleteQoIPlanningValue(value);
-			}
+			checkDeleteAll(values, RscConst.EX_QOIPLANNING_DELETE_QOIPLANNINGVALUE_NULL,
+					RscConst.EX_QOIPLANNING_DELETE_QOIPLANNINGVALUE_IDNULL);
+			getAppMgr().getDaoManager().getRepository(IQoIPlanningValueRepository.class).deleteAll(values);
 		}
 	}
 
@@ -196,9 +196,9 @@ public class QoIPlanningApplication extends AApplication implements IQoIPlanning
 	@Override
 	public void deleteAllQoIPlanningSelectValue(List<QoIPlanningSelectValue> selectValues) throws CredibilityException {
 		if (selectValues != null) {
-			for (QoIPlanningSelectValue select : selectValues) {
-				deleteQoIPlanningSelectValue(select);
-			}
+			checkDeleteAll(selectValues, RscConst.EX_QOIPLANNING_DELETE_QOIPLANNINGSELECTVALUE_NULL,
+					RscConst.EX_QOIPLANNING_DELETE_QOIPLANNINGSELECTVALUE_IDNULL);
+			getDaoManager().getRepository(IQoIPlanningSelectValueRepository.class).deleteAll(selectValues);
 		}
 	}
 
@@ -225,9 +225,9 @@ public class QoIPlanningApplication extends AApplication implements IQoIPlanning
 	@Override
 	public void deleteAllQoIPlanningConstraint(List<QoIPlanningConstraint> contraints) throws CredibilityException {
 		if (contraints != null) {
-			for (QoIPlanningConstraint select : contraints) {
-				deleteQoIPlanningConstraint(select);
-			}
+			checkDeleteAll(contraints, RscConst.EX_QOIPLANNING_DELETE_QOIPLANNINGCONSTRAINT_NULL,
+					RscConst.EX_QOIPLANNING_DELETE_QOIPLANNINGCONSTRAINT_IDNULL);
+			getDaoManager().getRepository(IQoIPlanningConstraintRepository.class).deleteAll(contraints);
 		}
 	}
 
@@ -0,0 +1,132 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application.report;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import gov.sandia.cf.model.ARGParameters;
+import gov.sandia.cf.model.dto.arg.ARGType;
+
+/**
+ * The cache of the ARG types and version found with the ARG installation, to
+ * not launch the ARG python scripts each time they are needed.
+ *
+ * The entries are keyed by the ARG executable path, the pre-script path and
+ * their last modification dates: a changed installation is discovered again.
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class ARGDiscoveryCache {
+
+	/** The max number of cached ARG installations. */
+	private static final int MAX_ENTRIES = 16;
+
+	/** The key separator. */
+	private static final String KEY_SEPARATOR = "|"; //$NON-NLS-1$
+
+	/** The ARG types by installation key. */
+	private final Map<String, ARGType> typesByKey = new ConcurrentHashMap<>();
+
+	/** The ARG version by installation key. */
+	private final Map<String, String> versionByKey = new ConcurrentHashMap<>();
+
+	/**
+	 * @param argParameters the ARG parameters
+	 * @return the cached ARG types, or null if not found
+	 */
+	public ARGType getTypes(ARGParameters argParameters) {
+		return argParameters != null ? typesByKey.get(getKey(argParameters)) : null;
+	}
+
+	/**
+	 * Cache the ARG types. Empty types are not cached, they are discovered again.
+	 *
+	 * @param argParameters the ARG parameters
+	 * @param argTypes      the ARG types
+	 */
+	public void putTypes(ARGParameters argParameters, ARGType argTypes) {
+		if (argParameters == null || argTypes == null
+				|| (isEmpty(argTypes.getBackendTypes()) && isEmpty(argTypes.getReportTypes()))) {
+			return;
+		}
+		put(typesByKey, getKey(argParameters), argTypes);
+	}
+
+	/**
+	 * @param argParameters the ARG parameters
+	 * @return the cached ARG version, or null if not found
+	 */
+	public String getVersion(ARGParameters argParameters) {
+		return argParameters != null ? versionByKey.get(getKey(argParameters)) : null;
+	}
+
+	/**
+	 * Cache the ARG version. A blank version is not cached, it is discovered again.
+	 *
+	 * @param argParameters the ARG parameters
+	 * @param argVersion    the ARG version
+	 */
+	public void putVersion(ARGParameters argParameters, String argVersion) {
+		if (argParameters == null || StringUtils.isBlank(argVersion)) {
+			return;
+		}
+		put(versionByKey, getKey(argParameters), argVersion);
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public void clear() {
+		typesByKey.clear();
+		versionByKey.clear();
+	}
+
+	/**
+	 * @param argParameters the ARG parameters
+	 * @return the ARG installation key
+	 */
+	private static String getKey(ARGParameters argParameters) {
+		return argParameters.getArgExecPath() + KEY_SEPARATOR + lastModified(argParameters.getArgExecPath())
+				+ KEY_SEPARATOR + argParameters.getArgPreScript() + KEY_SEPARATOR
+				+ lastModified(argParameters.getArgPreScript());
+	}
+
+	/**
+	 * @param path the file path
+	 * @return the file last modification date, or 0 if the file does not exist
+	 */
+	private static long lastModified(String path) {
+		return StringUtils.isBlank(path) ? 0L : new File(path).lastModified();
+	}
+
+	/**
+	 * Put the value in the cache. The cache is cleared when full, the ARG
+	 * installations rarely change.
+	 *
+	 * @param <T>   the value type
+	 * @param cache the cache
+	 * @param key   the key
+	 * @param value the value
+	 */
+	private static <T> void put(Map<String, T> cache, String key, T value) {
+		if (cache.size() >= MAX_ENTRIES && !cache.containsKey(key)) {
+			cache.clear();
+		}
+		cache.put(key, value);
+	}
+
+	/**
+	 * @param list the list
+	 * @return true if the list is null or empty
+	 */
+	private static boolean isEmpty(List<String> list) {
+		return list == null || list.isEmpty();
+	}
+}
@@ -80,6 +80,18 @@ public interface IReportARGApplication extends IApplication {
 	 */
 	Map<String, Object> generateStructure(Map<ExportOptions, Object> options) throws CredibilityException, IOException;
 
+	/**
+	 * Generate Credibility Report structure data into the structure YML file. The
+	 * chapters are written as soon as they are generated.
+	 * 
+	 * @param structureFile the structure file to populate
+	 * @param options       the options containing the data
+	 * @throws CredibilityException if an error occurs during CF variable parsing
+	 * @throws IOException          if a file read/write error occurs
+	 */
+	void generateStructureFile(File structureFile, Map<ExportOptions, Object> options)
+			throws CredibilityException, IOException;
+
 	/**
 	 * @param level the level to get section for
 	 * @return the section type associated to the level specified. If out of limits,
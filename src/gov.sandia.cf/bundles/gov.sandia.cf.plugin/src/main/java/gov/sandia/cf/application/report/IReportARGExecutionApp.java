@@ -5,6 +5,7 @@ package gov.sandia.cf.application.report;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -85,6 +86,21 @@ public interface IReportARGExecutionApp extends IApplication {
 	void generateReportARG(ARGParameters argParameters, StringBuilder errorLog, StringBuilder infoLog,
 			IProgressMonitor progressMonitor) throws CredibilityException;
 
+	/**
+	 * Launch generation ARG command, the ARG output lines are streamed to the
+	 * console while the command runs.
+	 *
+	 * @param argParameters   The ARG parameters
+	 * @param errorLog        the error logger
+	 * @param infoLog         the info logger
+	 * @param console         the console line consumer, called from a background
+	 *                        thread (can be null)
+	 * @param progressMonitor the progress monitor
+	 * @throws CredibilityException if an error occurs during report generation
+	 */
+	void generateReportARG(ARGParameters argParameters, StringBuilder errorLog, StringBuilder infoLog,
+			Consumer<String> console, IProgressMonitor progressMonitor) throws CredibilityException;
+
 	/**
 	 * Checks if is enabled.
 	 *
@@ -6,8 +6,6 @@ package gov.sandia.cf.application.report;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.StringWriter;
-import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -15,14 +13,18 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.nodes.Tag;
 
 import gov.sandia.cf.application.AApplication;
 import gov.sandia.cf.application.ApplicationManager;
@@ -35,6 +37,7 @@ import gov.sandia.cf.constants.arg.ARGVersion;
 import gov.sandia.cf.constants.arg.YmlARGParameterSchema;
 import gov.sandia.cf.constants.arg.YmlARGStructure;
 import gov.sandia.cf.constants.configuration.ExportOptions;
+import gov.sandia.cf.dao.IDBManager;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.ARGParameters;
 import gov.sandia.cf.model.FormFieldType;
@@ -49,7 +52,6 @@ import gov.sandia.cf.tools.CFVariableResolver;
 import gov.sandia.cf.tools.FileTools;
 import gov.sandia.cf.tools.GsonTools;
 import gov.sandia.cf.tools.MathTools;
-import gov.sandia.cf.tools.RscConst;
 import gov.sandia.cf.tools.RscTools;
 import gov.sandia.cf.tools.StringTools;
 import gov.sandia.cf.tools.WorkspaceTools;
@@ -79,6 +81,11 @@ public class ReportARGApplication extends AApplication implements IReportARGAppl
 		LEVEL_SECTION.put(3, YmlARGStructure.ARG_STRUCTURE_N_SUBSUBSECTION);
 	}
 
+	/**
+	 * The chapter generation thread name
+	 */
+	private static final String CHAPTER_THREAD_NAME = "CF Report Chapter Generator"; //$NON-NLS-1$
+
 	/**
 	 * The default figure witdh
 	 */
@@ -207,35 +214,30 @@ public class ReportARGApplication extends AApplication implements IReportARGAppl
 	public void copyReportStructureContentIntoFile(File structureFile, Map<String, Object> structure)
 			throws CredibilityException, IOException {
 
-		// Check file exists
-		if (structureFile == null || !structureFile.exists()) {
-			throw new CredibilityException(RscTools.getString(RscConst.EX_CONFREPORT_YAML_STRUCTURE_FILE_NOTEXISTS));
-		}
-
-		// YML reader
-		Yaml yaml = new Yaml();
-
 		if (structure == null) {
 			structure = new LinkedHashMap<>();
 		}
 
-		// remove non-printable characters
-		structure = StringTools.removeNonPrintableChars(structure);
+		// write the structure, the non-printable characters are removed
+		try (ReportStructureWriter writer = new ReportStructureWriter(structureFile)) {
+			writer.writeStructure(structure);
+		}
+	}
 
-		try (Writer writer = new StringWriter()) {
+	/** {@inheritDoc} */
+	@Override
+	public void generateStructureFile(File structureFile, Map<ExportOptions, Object> options)
+			throws CredibilityException, IOException {
 
-			// Dump map objects to yml string
-			yaml.dump(structure, writer);
+		try (ReportStructureWriter writer = new ReportStructureWriter(structureFile)) {
 
-			// check for binary content generated
-			if (writer.toString().contains("!!" + Tag.BINARY)) { //$NON-NLS-1$
-				throw new CredibilityException(RscTools
-						.getString(RscConst.ERR_REPORTVIEW_GENERATE_REPORT_ARGPARAM_STRUCTUREFILE_SPECIALCHARS));
-			}
+			// Set version
+			writer.writeVersion();
 
-			// write in file
-			boolean append = false;
-			FileTools.writeStringInFile(structureFile, writer.toString(), append);
+			// Generate and write chapters one feature after the other
+			generateStructureChapters(options, writer::writeChapters);
+
+			writer.endChapters();
 		}
 	}
 
@@ -532,6 +534,27 @@ public class ReportARGApplication extends AApplication implements IReportARGAppl
 		// Initialize
 		List<Map<String, Object>> chapters = new ArrayList<>();
 
+		generateStructureChapters(options, chapters::addAll);
+
+		// Result
+		return chapters;
+	}
+
+	/**
+	 * Generate the report content, and give the chapters of each feature to the
+	 * consumer in the report order: planning, PIRT, PCMM and custom ending. The
+	 * features are generated in parallel, each one with an entity manager bound
+	 * to its worker thread.
+	 * 
+	 * @param options          the generation options
+	 * @param chaptersConsumer the chapters consumer
+	 * @throws CredibilityException if an error occurs during CF variable parsing
+	 * @throws IOException          if an error occurs during custom structure file
+	 *                              parsing or chapters consumption
+	 */
+	private void generateStructureChapters(Map<ExportOptions, Object> options, ChaptersConsumer chaptersConsumer)
+			throws CredibilityException, IOException {
+
 		// Has options
 		if (options != null) {
 
@@ -545,29 +568,120 @@ public class ReportARGApplication extends AApplication implements IReportARGAppl
 			boolean includeCustomEnding = options.containsKey(ExportOptions.CUSTOM_ENDING_INCLUDE)
 					&& (boolean) options.get(ExportOptions.CUSTOM_ENDING_INCLUDE);
 
+			// Chapter generators in the report order
+			Map<String, ChaptersGenerator> generators = new LinkedHashMap<>();
+
 			// Planning sections
 			if (includePlanning) {
-				getAppMgr().getService(IReportARGPlanningApp.class).generateStructurePlanning(chapters, options);
+				generators.put("Planning", chapters -> getAppMgr().getService(IReportARGPlanningApp.class) //$NON-NLS-1$
+						.generateStructurePlanning(chapters, options));
 			}
 
 			// PIRT sections
 			if (includePIRT) {
-				getAppMgr().getService(IReportARGPIRTApp.class).generateStructurePIRT(chapters, options);
+				generators.put("PIRT", chapters -> getAppMgr().getService(IReportARGPIRTApp.class) //$NON-NLS-1$
+						.generateStructurePIRT(chapters, options));
 			}
 
 			// PCMM sections
 			if (includePCMM && options.containsKey(ExportOptions.PCMM_TAG)) {
-				getAppMgr().getService(IReportARGPCMMApp.class).generateStructurePCMM(chapters, options);
+				generators.put("PCMM", chapters -> getAppMgr().getService(IReportARGPCMMApp.class) //$NON-NLS-1$
+						.generateStructurePCMM(chapters, options));
 			}
 
 			// Custom ending
 			if (includeCustomEnding) {
-				appendCustomEndingStructureFile(chapters, options);
+				generators.put("Custom ending", //$NON-NLS-1$
+						chapters -> appendCustomEndingStructureFile(chapters, options));
+			}
+
+			if (generators.isEmpty()) {
+				return;
+			}
+
+			// Generate the chapters in parallel and consume them in order
+			ExecutorService executor = Executors.newFixedThreadPool(generators.size(), runnable -> {
+				Thread thread = new Thread(runnable, CHAPTER_THREAD_NAME);
+				thread.setDaemon(true);
+				return thread;
+			});
+			try {
+				List<Future<List<Map<String, Object>>>> futures = new ArrayList<>();
+				for (Entry<String, ChaptersGenerator> generator : generators.entrySet()) {
+					futures.add(executor.submit(() -> generateChapters(generator.getKey(), generator.getValue())));
+				}
+				for (Future<List<Map<String, Object>>> future : futures) {
+					chaptersConsumer.accept(getChapters(future));
+				}
+			} finally {
+				executor.shutdownNow();
 			}
 		}
+	}
 
-		// Result
-		return chapters;
+	/**
+	 * Generate the chapters of a feature with an entity manager bound to the
+	 * current thread.
+	 * 
+	 * @param chapter   the chapter name
+	 * @param generator the chapters generator
+	 * @return the generated chapters
+	 * @throws CredibilityException if an error occurs during CF variable parsing
+	 * @throws IOException          if an error occurs during custom structure file
+	 *                              parsing
+	 */
+	private List<Map<String, Object>> generateChapters(String chapter, ChaptersGenerator generator)
+			throws CredibilityException, IOException {
+		IDBManager dbManager = getDaoManager().getDbManager();
+		dbManager.openThreadEntityManager();
+		try {
+			long start = System.currentTimeMillis();
+			List<Map<String, Object>> chapters = new ArrayList<>();
+			generator.generate(chapters);
+			logChapterTime(chapter, start);
+			return chapters;
+		} finally {
+			dbManager.closeThreadEntityManager();
+		}
+	}
+
+	/**
+	 * Wait for the generated chapters.
+	 * 
+	 * @param future the future chapters
+	 * @return the generated chapters
+	 * @throws CredibilityException if an error occurs during CF variable parsing
+	 * @throws IOException          if an error occurs during custom structure file
+	 *                              parsing or if the generation is interrupted
+	 */
+	private static List<Map<String, Object>> getChapters(Future<List<Map<String, Object>>> future)
+			throws CredibilityException, IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CredibilityException) {
+				throw (CredibilityException) e.getCause();
+			} else if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			} else if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+
+	/**
+	 * Log the chapter generation time.
+	 * 
+	 * @param chapter the chapter name
+	 * @param start   the generation start time in milliseconds
+	 */
+	private static void logChapterTime(String chapter, long start) {
+		logger.info("ARG report {} chapter generated in {} ms", chapter, //$NON-NLS-1$
+				System.currentTimeMillis() - start);
 	}
 
 	/**
@@ -1047,4 +1161,32 @@ public class ReportARGApplication extends AApplication implements IReportARGAppl
 		return null;
 	}
 
+
+	/**
+	 * The generator of the report chapters of a feature.
+	 */
+	@FunctionalInterface
+	private interface ChaptersGenerator {
+
+		/**
+		 * @param chapters the chapters to fill
+		 * @throws CredibilityException if an error occurs during CF variable parsing
+		 * @throws IOException          if an error occurs during file parsing
+		 */
+		void generate(List<Map<String, Object>> chapters) throws CredibilityException, IOException;
+	}
+
+	/**
+	 * The consumer of the generated report chapters.
+	 */
+	@FunctionalInterface
+	private interface ChaptersConsumer {
+
+		/**
+		 * @param chapters the generated chapters
+		 * @throws CredibilityException if the chapters can not be consumed
+		 * @throws IOException          if a write error occurs
+		 */
+		void accept(List<Map<String, Object>> chapters) throws CredibilityException, IOException;
+	}
 }
@@ -12,12 +12,12 @@ import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.yaml.snakeyaml.Yaml;
@@ -31,6 +31,7 @@ import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.ARGParameters;
 import gov.sandia.cf.model.dto.arg.ARGType;
 import gov.sandia.cf.tools.FileTools;
+import gov.sandia.cf.tools.ProcessExecutor;
 import gov.sandia.cf.tools.RscConst;
 import gov.sandia.cf.tools.RscTools;
 import gov.sandia.cf.tools.RuntimeTools;
@@ -54,6 +55,17 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 	 */
 	private static final String CMD_PYTHON_DEFAULT = "python"; //$NON-NLS-1$
 
+	/**
+	 * The timeout of the ARG types and version queries in milliseconds
+	 */
+	private static final long ARG_QUERY_TIMEOUT = 60000L;
+
+	/**
+	 * The ARG types and version cache, shared by the cf files: the ARG
+	 * installation does not depend on them
+	 */
+	private static final ARGDiscoveryCache DISCOVERY_CACHE = new ARGDiscoveryCache();
+
 	/**
 	 * The constructor
 	 */
@@ -130,6 +142,13 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 			return argTypes;
 		}
 
+		// the ARG installation has already been queried
+		ARGType cachedTypes = DISCOVERY_CACHE.getTypes(argParameters);
+		if (cachedTypes != null) {
+			logger.debug("ARG types found in cache for {}", argParameters.getArgExecPath()); //$NON-NLS-1$
+			return cachedTypes;
+		}
+
 		// create log builder to get the current result from log
 		StringBuilder logBuilder = new StringBuilder();
 
@@ -147,10 +166,10 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 		String argSetEnvScriptPath = argParameters.getArgPreScript();
 		if (argSetEnvScriptPath != null && !argSetEnvScriptPath.isEmpty()) {
 			monitor.subTask(RscTools.getString(RscConst.MSG_REPORTARGEXEC_GETARGTYPES_JOB_EXECWITHPRESCRIPT));
-			executeCommandWithPreScript(argParameters, command, errorLog, logBuilder, new NullProgressMonitor());
+			executeCommandWithPreScript(argParameters, command, errorLog, logBuilder, ARG_QUERY_TIMEOUT, null, monitor);
 		} else {
 			monitor.subTask(RscTools.getString(RscConst.MSG_REPORTARGEXEC_GETARGTYPES_JOB_EXEC));
-			executeCommandWithoutPreScript(command, errorLog, logBuilder, new NullProgressMonitor());
+			executeCommandWithoutPreScript(command, errorLog, logBuilder, ARG_QUERY_TIMEOUT, null, monitor);
 		}
 
 		// get the arg types from python console log
@@ -178,6 +197,8 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 		// append to main log
 		infoLog.append(logBuilder);
 
+		DISCOVERY_CACHE.putTypes(argParameters, argTypes);
+
 		return argTypes;
 	}
 
@@ -191,6 +212,13 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 			return RscTools.empty();
 		}
 
+		// the ARG installation has already been queried
+		String cachedVersion = DISCOVERY_CACHE.getVersion(argParameters);
+		if (cachedVersion != null) {
+			logger.debug("ARG version found in cache for {}", argParameters.getArgExecPath()); //$NON-NLS-1$
+			return cachedVersion;
+		}
+
 		// create log builder to get the current result from log
 		StringBuilder logBuilder = new StringBuilder();
 
@@ -209,10 +237,10 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 		String argSetEnvScriptPath = argParameters.getArgPreScript();
 		if (argSetEnvScriptPath != null && !argSetEnvScriptPath.isEmpty()) {
 			monitor.subTask(RscTools.getString(RscConst.MSG_REPORTARGEXEC_GETARGVERSION_JOB_EXECWITHPRESCRIPT));
-			executeCommandWithPreScript(argParameters, command, errorLog, logBuilder, monitor);
+			executeCommandWithPreScript(argParameters, command, errorLog, logBuilder, ARG_QUERY_TIMEOUT, null, monitor);
 		} else {
 			monitor.subTask(RscTools.getString(RscConst.MSG_REPORTARGEXEC_GETARGVERSION_JOB_EXEC));
-			executeCommandWithoutPreScript(command, errorLog, logBuilder, monitor);
+			executeCommandWithoutPreScript(command, errorLog, logBuilder, ARG_QUERY_TIMEOUT, null, monitor);
 		}
 
 		// get the arg version from python console log
@@ -225,9 +253,12 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 		// append log
 		infoLog.append(logBuilder);
 
-		return argVersionLog.isPresent()
+		String argVersion = argVersionLog.isPresent()
 				? argVersionLog.get().substring(ARGQueryVersionConstants.VERSION_KEYWORD.length())
 				: RscTools.empty();
+		DISCOVERY_CACHE.putVersion(argParameters, argVersion);
+
+		return argVersion;
 	}
 
 	/**
@@ -236,6 +267,15 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 	@Override
 	public void generateReportARG(ARGParameters argParameters, StringBuilder errorLog, StringBuilder infoLog,
 			IProgressMonitor progressMonitor) throws CredibilityException {
+		generateReportARG(argParameters, errorLog, infoLog, null, progressMonitor);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void generateReportARG(ARGParameters argParameters, StringBuilder errorLog, StringBuilder infoLog,
+			Consumer<String> console, IProgressMonitor progressMonitor) throws CredibilityException {
 
 		if (argParameters == null) {
 			logger.error("Report generation error: the arg parameters are null."); //$NON-NLS-1$
@@ -260,9 +300,11 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 		// Generate commands
 		String argSetEnvScriptPath = argParameters.getArgPreScript();
 		if (argSetEnvScriptPath != null && !argSetEnvScriptPath.isEmpty()) {
-			executeCommandWithPreScript(argParameters, command, errorLog, infoLog, progressMonitor);
+			executeCommandWithPreScript(argParameters, command, errorLog, infoLog, ProcessExecutor.NO_TIMEOUT, console,
+					progressMonitor);
 		} else {
-			executeCommandWithoutPreScript(command, errorLog, infoLog, progressMonitor);
+			executeCommandWithoutPreScript(command, errorLog, infoLog, ProcessExecutor.NO_TIMEOUT, console,
+					progressMonitor);
 		}
 	}
 
@@ -272,11 +314,13 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 	 * @param command         the command
 	 * @param errorLog        the error log
 	 * @param infoLog         the info log
+	 * @param timeout         the timeout in milliseconds
+	 * @param console         the console line consumer (can be null)
 	 * @param progressMonitor the progress monitor
 	 * @throws CredibilityException the credibility exception
 	 */
 	private void executeCommandWithoutPreScript(String command, StringBuilder errorLog, StringBuilder infoLog,
-			IProgressMonitor progressMonitor) throws CredibilityException {
+			long timeout, Consumer<String> console, IProgressMonitor progressMonitor) throws CredibilityException {
 
 		if (StringUtils.isBlank(command)) {
 			logger.error("Command execution error: the command is blank."); //$NON-NLS-1$
@@ -284,7 +328,7 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 		}
 
 		// Run process
-		int returnCode = RuntimeTools.execute(errorLog, infoLog, command, false, progressMonitor);
+		int returnCode = RuntimeTools.execute(errorLog, infoLog, command, false, timeout, console, progressMonitor);
 
 		if (returnCode != RuntimeTools.OK_CODE) {
 			throw new CredibilityException(errorLog.toString());
@@ -298,11 +342,14 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 	 * @param command         the command
 	 * @param errorLog        the error log
 	 * @param infoLog         the info log
+	 * @param timeout         the timeout in milliseconds
+	 * @param console         the console line consumer (can be null)
 	 * @param progressMonitor the progress monitor
 	 * @throws CredibilityException the credibility exception
 	 */
 	private void executeCommandWithPreScript(ARGParameters argParameters, final String command, StringBuilder errorLog,
-			StringBuilder infoLog, IProgressMonitor progressMonitor) throws CredibilityException {
+			StringBuilder infoLog, long timeout, Consumer<String> console, IProgressMonitor progressMonitor)
+			throws CredibilityException {
 
 		if (argParameters == null) {
 			logger.error("Report generation error: the arg parameters are null."); //$NON-NLS-1$
@@ -349,7 +396,7 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 
 			// execute script file
 			int returnCode = RuntimeTools.execute(errorLogTmp, infoLog,
-					RuntimeTools.getScriptFileCmd(scriptFile.getPath()), false, progressMonitor);
+					RuntimeTools.getScriptFileCmd(scriptFile.getPath()), false, timeout, console, progressMonitor);
 
 			errorLog.append(errorLogTmp);
 
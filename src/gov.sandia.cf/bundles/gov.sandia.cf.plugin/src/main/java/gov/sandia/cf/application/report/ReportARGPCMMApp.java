@@ -5,13 +5,21 @@ package gov.sandia.cf.application.report;
 
 import java.io.File;
 import java.text.MessageFormat;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -55,6 +63,21 @@ public class ReportARGPCMMApp extends AApplication implements IReportARGPCMMApp
 	 */
 	private static final Logger logger = LoggerFactory.getLogger(ReportARGPCMMApp.class);
 
+	/** The max number of element sections generated at the same time. */
+	private static final int MAX_GENERATORS = 4;
+
+	/** The idle generator thread keep alive time in seconds. */
+	private static final long GENERATOR_KEEP_ALIVE = 30L;
+
+	/** The generator thread name. */
+	private static final String THREAD_NAME = "CF Report PCMM Generator"; //$NON-NLS-1$
+
+	/**
+	 * The element section generators, blocked by the evidence file accesses: the
+	 * common fork join pool is not used to not starve the other parallel tasks.
+	 */
+	private static final ThreadPoolExecutor GENERATORS = createGenerators();
+
 	/**
 	 * The constructor
 	 */
@@ -71,6 +94,20 @@ public class ReportARGPCMMApp extends AApplication implements IReportARGPCMMApp
 		super(appMgr);
 	}
 
+	/**
+	 * @return the element section generator pool
+	 */
+	private static ThreadPoolExecutor createGenerators() {
+		ThreadPoolExecutor generators = new ThreadPoolExecutor(MAX_GENERATORS, MAX_GENERATORS, GENERATOR_KEEP_ALIVE,
+				TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, THREAD_NAME);
+					thread.setDaemon(true);
+					return thread;
+				});
+		generators.allowCoreThreadTimeOut(true);
+		return generators;
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public void generateStructurePCMM(List<Map<String, Object>> chapters, Map<ExportOptions, Object> options)
@@ -287,7 +324,8 @@ public class ReportARGPCMMApp extends AApplication implements IReportARGPCMMApp
 	}
 
 	/**
-	 * Generate PCMM Evidence sections
+	 * Generate PCMM Evidence sections. The element sections are generated in
+	 * parallel from data snapshots, and added in the elements order.
 	 * 
 	 * @param sections the current report sections
 	 * @param options  the export options
@@ -310,121 +348,139 @@ public class ReportARGPCMMApp extends AApplication implements IReportARGPCMMApp
 		}
 
 		// Check data not empties
-		if (elementList != null && !elementList.isEmpty()) {
-
-			// Generate section for each element
-			for (PCMMElement pcmmElement : elementList) {
-
-				// Initialize
-				List<Map<String, Object>> subsections = new ArrayList<>();
+		if (elementList == null || elementList.isEmpty()) {
+			return;
+		}
 
-				// Get evidences
-				List<PCMMEvidence> evidence = null;
-				Map<PCMMElement, List<PCMMEvidence>> evidencesByElement = (Map<PCMMElement, List<PCMMEvidence>>) options
-						.get(ExportOptions.PCMM_EVIDENCE_LIST);
-				if (evidencesByElement != null) {
-					evidence = evidencesByElement.get(pcmmElement);
-				}
-				ARGParameters argParameters = (ARGParameters) options.get(ExportOptions.ARG_PARAMETERS);
+		Map<PCMMElement, List<PCMMEvidence>> evidencesByElement = (Map<PCMMElement, List<PCMMEvidence>>) options
+				.get(ExportOptions.PCMM_EVIDENCE_LIST);
+		ARGParameters argParameters = (ARGParameters) options.get(ExportOptions.ARG_PARAMETERS);
+		boolean defaultMode = options.get(ExportOptions.PCMM_MODE) == PCMMMode.DEFAULT;
+		IReportARGApplication reportApp = getAppMgr().getService(IReportARGApplication.class);
+
+		// Read the data in the current thread: the lazy relationships of the entities
+		// can not be loaded concurrently
+		List<Callable<Map<String, Object>>> elementTasks = new ArrayList<>();
+		for (PCMMElement pcmmElement : elementList) {
+			EvidenceSnapshot snapshot = new EvidenceSnapshot(pcmmElement,
+					evidencesByElement != null ? evidencesByElement.get(pcmmElement) : null, defaultMode);
+			elementTasks.add(() -> generateStructureSectionPCMMEvidenceElement(reportApp, snapshot, argParameters));
+		}
 
-				// Generate evidences sections
-				if (options.get(ExportOptions.PCMM_MODE) == PCMMMode.DEFAULT) {
-					generateStructureSectionsPCMMEvidenceDefault(subsections, pcmmElement, evidence, argParameters);
+		// Generate the element sections in parallel
+		long start = System.currentTimeMillis();
+		try {
+			for (Future<Map<String, Object>> elementSection : GENERATORS.invokeAll(elementTasks)) {
+				sections.add(elementSection.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CredibilityException(e.getMessage(), e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CredibilityException) {
+				throw (CredibilityException) e.getCause();
+			} else if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new CredibilityException(e.getCause().getMessage(), e.getCause());
+		}
+		logger.debug("PCMM evidence sections of {} elements generated in {} ms", elementTasks.size(), //$NON-NLS-1$
+				System.currentTimeMillis() - start);
+	}
 
-				} else {
-					generateStructureSectionsPCMMEvidenceSimplified(subsections, pcmmElement, evidence, argParameters);
-				}
+	/**
+	 * Generate the evidence section of a PCMM element
+	 * 
+	 * @param reportApp     the report application
+	 * @param snapshot      the element evidence snapshot
+	 * @param argParameters the arg parameters
+	 * @return the element section
+	 * @throws CredibilityException if an error occurs during CF variable parsing
+	 */
+	private static Map<String, Object> generateStructureSectionPCMMEvidenceElement(IReportARGApplication reportApp,
+			EvidenceSnapshot snapshot, ARGParameters argParameters) throws CredibilityException {
 
-				// Add subsections
-				StringBuilder sectionTitle = new StringBuilder();
-				sectionTitle.append(pcmmElement.getName());
-				sectionTitle.append(" (").append(pcmmElement.getAbbreviation()).append(")"); //$NON-NLS-1$ //$NON-NLS-2$
-				Map<String, Object> section = getAppMgr().getService(IReportARGApplication.class)
-						.generateSection(sectionTitle.toString(), null, subsections, null);
+		// Initialize
+		List<Map<String, Object>> subsections = new ArrayList<>();
 
-				// Add section
-				sections.add(section);
-			}
+		// Generate evidences sections
+		if (snapshot.isDefaultMode()) {
+			generateStructureSectionsPCMMEvidenceDefault(reportApp, subsections, snapshot, argParameters);
+		} else {
+			generateStructureSectionsPCMMEvidenceSimplified(reportApp, subsections, snapshot, argParameters);
 		}
+
+		// Add subsections
+		return reportApp.generateSection(snapshot.getTitle(), null, subsections, null);
 	}
 
 	/**
 	 * Generate sub-element sections evidence (PCMMMode.DEFAULT)
 	 *
+	 * @param reportApp     the report application
 	 * @param subsections   the current report sections
-	 * @param pcmmElement   the pcmm element associated
-	 * @param evidence      the evidence to generate
+	 * @param snapshot      the element evidence snapshot
 	 * @param argParameters the arg parameters
 	 * @throws CredibilityException if an error occurs during CF variable parsing
 	 */
-	private void generateStructureSectionsPCMMEvidenceDefault(List<Map<String, Object>> subsections,
-			PCMMElement pcmmElement, List<PCMMEvidence> evidence, ARGParameters argParameters)
+	private static void generateStructureSectionsPCMMEvidenceDefault(IReportARGApplication reportApp,
+			List<Map<String, Object>> subsections, EvidenceSnapshot snapshot, ARGParameters argParameters)
 			throws CredibilityException {
 
-		if (subsections == null || pcmmElement == null || evidence == null) {
+		if (subsections == null || !snapshot.hasEvidence()) {
 			return;
 		}
 
 		// Get sub-elements
-		if (pcmmElement.getSubElementList() != null && !pcmmElement.getSubElementList().isEmpty()) {
-			for (PCMMSubelement pcmmSubelement : pcmmElement.getSubElementList()) {
-				// Sub-element sections
-				List<Map<String, Object>> evidenceSections = new ArrayList<>();
-
-				// Generate evidences
-				for (PCMMEvidence pcmmEvidence : evidence.stream().sorted(
-						Comparator.comparing(PCMMEvidence::getGeneratedId, new StringWithNumberAndNullableComparator()))
-						.collect(Collectors.toList())) {
-					if (pcmmEvidence.getSubelement().getId().equals(pcmmSubelement.getId())) {
-						generateStructureSectionPCMMEvidence(evidenceSections, pcmmEvidence, argParameters);
-					}
-				}
+		for (Entry<String, List<PCMMEvidence>> subelementEvidence : snapshot.getEvidenceBySubelement()) {
+			// Sub-element sections
+			List<Map<String, Object>> evidenceSections = new ArrayList<>();
 
-				// Add sub-section
-				Map<String, Object> subsection = getAppMgr().getService(IReportARGApplication.class)
-						.generateSubSection(pcmmSubelement.getName(), null, evidenceSections, null);
-				subsections.add(subsection);
+			// Generate evidences
+			for (PCMMEvidence pcmmEvidence : subelementEvidence.getValue()) {
+				generateStructureSectionPCMMEvidence(reportApp, evidenceSections, pcmmEvidence, argParameters);
 			}
+
+			// Add sub-section
+			subsections.add(reportApp.generateSubSection(subelementEvidence.getKey(), null, evidenceSections, null));
 		}
 	}
 
 	/**
 	 * Generate sub-element sections evidence (PCMMMode.SIMPLIFIED)
 	 *
+	 * @param reportApp        the report application
 	 * @param evidenceSections the evidence sections
-	 * @param pcmmElement      the pcmm element associated
-	 * @param evidence         the evidence to generate
+	 * @param snapshot         the element evidence snapshot
 	 * @param argParameters    the arg parameters
 	 * @throws CredibilityException if an error occurs during CF variable parsing
 	 */
-	private void generateStructureSectionsPCMMEvidenceSimplified(List<Map<String, Object>> evidenceSections,
-			PCMMElement pcmmElement, List<PCMMEvidence> evidence, ARGParameters argParameters)
+	private static void generateStructureSectionsPCMMEvidenceSimplified(IReportARGApplication reportApp,
+			List<Map<String, Object>> evidenceSections, EvidenceSnapshot snapshot, ARGParameters argParameters)
 			throws CredibilityException {
 
-		if (evidenceSections == null || pcmmElement == null || evidence == null) {
+		if (evidenceSections == null || !snapshot.hasEvidence()) {
 			return;
 		}
 
 		// Generate evidences
-		for (PCMMEvidence pcmmEvidence : evidence.stream()
-				.sorted(Comparator.comparing(PCMMEvidence::getGeneratedId, new StringWithNumberAndNullableComparator()))
-				.collect(Collectors.toList())) {
-			if (pcmmEvidence.getElement().getId().equals(pcmmElement.getId())) {
-				generateStructureSectionPCMMEvidence(evidenceSections, pcmmEvidence, argParameters);
-			}
+		for (PCMMEvidence pcmmEvidence : snapshot.getElementEvidence()) {
+			generateStructureSectionPCMMEvidence(reportApp, evidenceSections, pcmmEvidence, argParameters);
 		}
 	}
 
 	/**
 	 * Generate evidence section with evidence values
 	 * 
+	 * @param reportApp        the report application
 	 * @param evidenceSections the report sections
 	 * @param pcmmEvidence     the evidence to generate evidence for
 	 * @param argParameters    the arg parameters
 	 * @throws CredibilityException if an error occurs during CF variable parsing
 	 */
-	private void generateStructureSectionPCMMEvidence(List<Map<String, Object>> evidenceSections,
-			PCMMEvidence pcmmEvidence, ARGParameters argParameters) throws CredibilityException {
+	private static void generateStructureSectionPCMMEvidence(IReportARGApplication reportApp,
+			List<Map<String, Object>> evidenceSections, PCMMEvidence pcmmEvidence, ARGParameters argParameters)
+			throws CredibilityException {
 
 		if (evidenceSections == null || argParameters == null || pcmmEvidence == null) {
 			return;
@@ -438,25 +494,22 @@ public class ReportARGPCMMApp extends AApplication implements IReportARGPCMMApp
 				: null;
 
 		// Display file path from type
-		String linkPath = computeLinkPath(pcmmEvidence, argParameters);
+		String linkPath = computeLinkPath(reportApp, pcmmEvidence, argParameters);
 
 		// Display evidence description
 		if (!StringUtils.isBlank(pcmmEvidence.getDescription())) {
-			listSection.add(getAppMgr().getService(IReportARGApplication.class)
-					.generateHtmlParagraph(pcmmEvidence.getDescription()));
+			listSection.add(reportApp.generateHtmlParagraph(pcmmEvidence.getDescription()));
 		}
 
 		if (linkPath == null) {
-			listSection.add(getAppMgr().getService(IReportARGApplication.class)
-					.generateParagraph(getAppMgr().getService(IReportARGApplication.class).generateLabelValue(null,
-							pcmmEvidence.getPath() + " " + linkSection))); //$NON-NLS-1$
+			listSection.add(reportApp.generateParagraph(
+					reportApp.generateLabelValue(null, pcmmEvidence.getPath() + " " + linkSection))); //$NON-NLS-1$
 		} else {
 
 			// inline images
 			if (new File(CFVariableResolver.resolveAll(argParameters.getOutput()), linkPath).isFile()
 					&& FileTools.isImage(linkPath)) {
-				listSection.add(getAppMgr().getService(IReportARGApplication.class).generateImage(null, linkPath,
-						getLinkCaption(pcmmEvidence), null));
+				listSection.add(reportApp.generateImage(null, linkPath, getLinkCaption(pcmmEvidence), null));
 			}
 
 			// #434: if the inline word doc option is selected and it is a word doc and the
@@ -464,10 +517,9 @@ public class ReportARGPCMMApp extends AApplication implements IReportARGPCMMApp
 			else if (new File(CFVariableResolver.resolveAll(argParameters.getOutput()), linkPath).isFile()
 					&& FileTools.isWordDocument(linkPath) && Boolean.TRUE.equals(argParameters.getInlineWordDoc())
 					&& argParameters.getBackendType().equals(ARGBackendDefault.WORD.getBackend())) {
-				listSection.add(getAppMgr().getService(IReportARGApplication.class).generateInlining(null, linkPath));
+				listSection.add(reportApp.generateInlining(null, linkPath));
 			} else {
-				listSection.add(getAppMgr().getService(IReportARGApplication.class).generateHyperlink(null, linkSection,
-						linkPath, linkPath));
+				listSection.add(reportApp.generateHyperlink(null, linkSection, linkPath, linkPath));
 			}
 		}
 
@@ -476,19 +528,20 @@ public class ReportARGPCMMApp extends AApplication implements IReportARGPCMMApp
 	}
 
 	/**
+	 * @param reportApp     the report application
 	 * @param pcmmEvidence  the evidence to generate evidence for
 	 * @param argParameters the arg parameters
 	 * @return the linkPath as string
 	 * @throws CredibilityException if an error occurs during CF variable parsing
 	 */
-	private String computeLinkPath(PCMMEvidence pcmmEvidence, ARGParameters argParameters) throws CredibilityException {
+	private static String computeLinkPath(IReportARGApplication reportApp, PCMMEvidence pcmmEvidence,
+			ARGParameters argParameters) throws CredibilityException {
 
 		String linkPath = null;
 
 		if (pcmmEvidence.getType().equals(FormFieldType.LINK_FILE)) {
 			// Display relative path
-			linkPath = getAppMgr().getService(IReportARGApplication.class).getLinkPathRelativeToOutputDir(argParameters,
-					pcmmEvidence.getPath());
+			linkPath = reportApp.getLinkPathRelativeToOutputDir(argParameters, pcmmEvidence.getPath());
 		} else {
 			// Display URL
 			linkPath = pcmmEvidence.getPath();
@@ -503,7 +556,7 @@ public class ReportARGPCMMApp extends AApplication implements IReportARGPCMMApp
 	 * @param pcmmEvidence the pcmm evidence
 	 * @return the link caption
 	 */
-	private String getLinkCaption(PCMMEvidence pcmmEvidence) {
+	private static String getLinkCaption(PCMMEvidence pcmmEvidence) {
 
 		if (pcmmEvidence != null && FormFieldType.LINK_FILE.equals(pcmmEvidence.getType())
 				&& FileTools.isImage(pcmmEvidence.getPath())) {
@@ -965,4 +1018,96 @@ public class ReportARGPCMMApp extends AApplication implements IReportARGPCMMApp
 			}
 		}
 	}
+
+	/**
+	 * The evidence of a PCMM element read before the report generation, sorted by
+	 * generated id and grouped by sub-element.
+	 */
+	private static class EvidenceSnapshot {
+
+		/** The element section title. */
+		private final String title;
+
+		/** The default mode. */
+		private final boolean defaultMode;
+
+		/** The element evidence (PCMMMode.SIMPLIFIED). */
+		private final List<PCMMEvidence> elementEvidence;
+
+		/** The evidence by sub-element name in the sub-elements order (PCMMMode.DEFAULT). */
+		private final List<Entry<String, List<PCMMEvidence>>> evidenceBySubelement;
+
+		/**
+		 * Read the element data.
+		 *
+		 * @param pcmmElement the pcmm element
+		 * @param evidence    the element evidence
+		 * @param defaultMode the default mode
+		 */
+		EvidenceSnapshot(PCMMElement pcmmElement, List<PCMMEvidence> evidence, boolean defaultMode) {
+
+			this.title = pcmmElement.getName() + " (" + pcmmElement.getAbbreviation() + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+			this.defaultMode = defaultMode;
+			this.elementEvidence = new ArrayList<>();
+			this.evidenceBySubelement = evidence != null ? new ArrayList<>() : null;
+
+			if (evidence == null) {
+				return;
+			}
+
+			List<PCMMEvidence> sortedEvidence = evidence.stream()
+					.sorted(Comparator.comparing(PCMMEvidence::getGeneratedId,
+							new StringWithNumberAndNullableComparator()))
+					.collect(Collectors.toList());
+
+			if (defaultMode) {
+				if (pcmmElement.getSubElementList() != null) {
+					for (PCMMSubelement pcmmSubelement : pcmmElement.getSubElementList()) {
+						evidenceBySubelement.add(new SimpleImmutableEntry<>(pcmmSubelement.getName(),
+								sortedEvidence.stream()
+										.filter(e -> e.getSubelement().getId().equals(pcmmSubelement.getId()))
+										.collect(Collectors.toList())));
+					}
+				}
+			} else {
+				sortedEvidence.stream().filter(e -> e.getElement().getId().equals(pcmmElement.getId()))
+						.forEach(elementEvidence::add);
+			}
+		}
+
+		/**
+		 * @return the element section title
+		 */
+		String getTitle() {
+			return title;
+		}
+
+		/**
+		 * @return true if the PCMM mode is the default one
+		 */
+		boolean isDefaultMode() {
+			return defaultMode;
+		}
+
+		/**
+		 * @return true if the element evidence have been given
+		 */
+		boolean hasEvidence() {
+			return evidenceBySubelement != null;
+		}
+
+		/**
+		 * @return the element evidence (PCMMMode.SIMPLIFIED)
+		 */
+		List<PCMMEvidence> getElementEvidence() {
+			return elementEvidence;
+		}
+
+		/**
+		 * @return the evidence by sub-element name (PCMMMode.DEFAULT)
+		 */
+		List<Entry<String, List<PCMMEvidence>>> getEvidenceBySubelement() {
+			return evidenceBySubelement;
+		}
+	}
 }
@@ -0,0 +1,253 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application.report;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.DumperOptions.FlowStyle;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.representer.Represent;
+import org.yaml.snakeyaml.representer.Representer;
+
+import gov.sandia.cf.constants.arg.ARGVersion;
+import gov.sandia.cf.constants.arg.YmlARGStructure;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.tools.RscConst;
+import gov.sandia.cf.tools.RscTools;
+import gov.sandia.cf.tools.StringTools;
+
+/**
+ * The ARG report structure file writer. The chapters are written to the file
+ * as soon as they are generated, and released. The non-printable characters
+ * are removed from the strings while they are written.
+ *
+ * The written file has the same content as the one dumped from the whole
+ * structure map, in block style:
+ *
+ * <pre>
+ * version: ...
+ * chapters:
+ * - n: chapter
+ *   ...
+ * </pre>
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class ReportStructureWriter implements Closeable {
+
+	/** The YAML key separator. */
+	private static final String KEY_SEPARATOR = ":"; //$NON-NLS-1$
+
+	/** The YAML empty list. */
+	private static final String EMPTY_LIST = " []"; //$NON-NLS-1$
+
+	/** The YAML line separator. */
+	private static final String LINE_SEPARATOR = "\n"; //$NON-NLS-1$
+
+	/** The file writer. */
+	private final Writer writer;
+
+	/** The YAML dumper. */
+	private final Yaml yaml;
+
+	/** The representer removing the non-printable characters. */
+	private final SanitizingRepresenter representer;
+
+	/** The chapters key has been written. */
+	private boolean chaptersStarted;
+
+	/**
+	 * Open the structure file to write. The file content is replaced.
+	 *
+	 * @param structureFile the structure file
+	 * @throws CredibilityException if the file does not exist
+	 * @throws IOException          if the file can not be opened
+	 */
+	public ReportStructureWriter(File structureFile) throws CredibilityException, IOException {
+
+		// Check file exists
+		if (structureFile == null || !structureFile.exists()) {
+			throw new CredibilityException(RscTools.getString(RscConst.EX_CONFREPORT_YAML_STRUCTURE_FILE_NOTEXISTS));
+		}
+
+		this.writer = new BufferedWriter(
+				new OutputStreamWriter(Files.newOutputStream(structureFile.toPath()), Charset.defaultCharset()));
+		// the block style is needed to concatenate the top level entries
+		DumperOptions options = new DumperOptions();
+		options.setDefaultFlowStyle(FlowStyle.BLOCK);
+		this.representer = new SanitizingRepresenter();
+		this.yaml = new Yaml(representer, options);
+		this.chaptersStarted = false;
+	}
+
+	/**
+	 * Write the structure version. It must be written before the chapters.
+	 *
+	 * @throws CredibilityException if binary content is generated
+	 */
+	public void writeVersion() throws CredibilityException {
+		writeEntry(YmlARGStructure.ARG_STRUCTURE_VERSION_KEY, ARGVersion.ARG_VERSION);
+	}
+
+	/**
+	 * Write the chapters at the end of the structure file.
+	 *
+	 * @param chapters the chapters
+	 * @throws CredibilityException if binary content is generated
+	 * @throws IOException          if a write error occurs
+	 */
+	public void writeChapters(Collection<Map<String, Object>> chapters) throws CredibilityException, IOException {
+		if (chapters == null) {
+			return;
+		}
+		for (Map<String, Object> chapter : chapters) {
+			writeChapter(chapter);
+		}
+	}
+
+	/**
+	 * Write the chapter at the end of the structure file.
+	 *
+	 * @param chapter the chapter
+	 * @throws CredibilityException if binary content is generated
+	 * @throws IOException          if a write error occurs
+	 */
+	public void writeChapter(Map<String, Object> chapter) throws CredibilityException, IOException {
+		if (!chaptersStarted) {
+			writer.write(YmlARGStructure.ARG_STRUCTURE_CHAPTERS_KEY + KEY_SEPARATOR + LINE_SEPARATOR);
+			chaptersStarted = true;
+		}
+		dump(Collections.singletonList(chapter));
+	}
+
+	/**
+	 * Write the structure map. The chapters are written one by one.
+	 *
+	 * @param structure the structure map
+	 * @throws CredibilityException if binary content is generated
+	 * @throws IOException          if a write error occurs
+	 */
+	@SuppressWarnings("unchecked")
+	public void writeStructure(Map<String, Object> structure) throws CredibilityException, IOException {
+
+		if (structure == null || structure.isEmpty()) {
+			dump(Collections.emptyMap());
+			return;
+		}
+
+		Object chapters = null;
+		for (Map.Entry<String, Object> entry : structure.entrySet()) {
+			if (YmlARGStructure.ARG_STRUCTURE_CHAPTERS_KEY.equals(entry.getKey())
+					&& entry.getValue() instanceof Collection) {
+				chapters = entry.getValue();
+			} else {
+				writeEntry(entry.getKey(), entry.getValue());
+			}
+		}
+
+		if (chapters != null) {
+			writeChapters((Collection<Map<String, Object>>) chapters);
+			endChapters();
+		}
+	}
+
+	/**
+	 * End the chapters: an empty chapter list is written if no chapter has been
+	 * written.
+	 *
+	 * @throws IOException if a write error occurs
+	 */
+	public void endChapters() throws IOException {
+		if (!chaptersStarted) {
+			writer.write(YmlARGStructure.ARG_STRUCTURE_CHAPTERS_KEY + KEY_SEPARATOR + EMPTY_LIST + LINE_SEPARATOR);
+			chaptersStarted = true;
+		}
+	}
+
+	/**
+	 * Write a top level entry.
+	 *
+	 * @param key   the key
+	 * @param value the value
+	 * @throws CredibilityException if binary content is generated
+	 */
+	private void writeEntry(String key, Object value) throws CredibilityException {
+		dump(Collections.singletonMap(key, value));
+	}
+
+	/**
+	 * Dump the object to the file. The write errors are thrown by the YAML dumper
+	 * as YAMLException.
+	 *
+	 * @param data the object to dump
+	 * @throws CredibilityException if binary content is generated
+	 */
+	private void dump(Object data) throws CredibilityException {
+		yaml.dump(data, writer);
+
+		// check for binary content generated
+		if (representer.hasBinaryContent()) {
+			throw new CredibilityException(
+					RscTools.getString(RscConst.ERR_REPORTVIEW_GENERATE_REPORT_ARGPARAM_STRUCTUREFILE_SPECIALCHARS));
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+
+	/**
+	 * The YAML representer removing the non-printable characters of the strings
+	 * and detecting the binary content.
+	 */
+	private static class SanitizingRepresenter extends Representer {
+
+		/** The binary content has been represented. */
+		private boolean binaryContent;
+
+		/**
+		 * Instantiates a new sanitizing representer.
+		 */
+		SanitizingRepresenter() {
+			super();
+			binaryContent = false;
+
+			Represent representString = this.representers.get(String.class);
+			this.representers.put(String.class, data -> {
+				String string = (String) data;
+				if (StringTools.hasNonPrintableChars(string)) {
+					string = StringTools.removeNonPrintableChars(string);
+				}
+				return representString.representData(string);
+			});
+
+			Represent representBinary = this.representers.get(byte[].class);
+			this.representers.put(byte[].class, data -> {
+				binaryContent = true;
+				return representBinary.representData(data);
+			});
+		}
+
+		/**
+		 * @return true if binary content has been represented
+		 */
+		boolean hasBinaryContent() {
+			return binaryContent;
+		}
+	}
+}
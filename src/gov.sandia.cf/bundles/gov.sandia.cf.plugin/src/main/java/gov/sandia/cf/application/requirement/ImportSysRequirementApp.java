@@ -5,6 +5,7 @@ package gov.sandia.cf.application.requirement;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -174,13 +175,23 @@ public class ImportSysRequirementApp extends AApplication implements IImportSysR
 		List<?> toAdd = getAppMgr().getService(IImportApplication.class).getChangesToAdd(requirementParamList,
 				getDaoManager().getRepository(ISystemRequirementParamRepository.class).findAll());
 
-		// For each parameters
-		for (SystemRequirementParam parameter : toAdd.stream().map(SystemRequirementParam.class::cast)
-				.collect(Collectors.toList())) {
+		List<SystemRequirementParam> parameters = toAdd.stream().map(SystemRequirementParam.class::cast)
+				.collect(Collectors.toList());
+
+		// create the parameters in one transaction
+		List<SystemRequirementParam> toCreate = new ArrayList<>();
+		for (SystemRequirementParam parameter : parameters) {
 			SystemRequirementParam p = parameter.copy();
 			p.setModel(model);
-			SystemRequirementParam parameterCreated = getAppMgr().getDaoManager()
-					.getRepository(ISystemRequirementParamRepository.class).create(p);
+			toCreate.add(p);
+		}
+		List<SystemRequirementParam> created = getAppMgr().getDaoManager()
+				.getRepository(ISystemRequirementParamRepository.class).createAll(toCreate);
+
+		// For each parameters
+		for (int i = 0; i < parameters.size(); i++) {
+			SystemRequirementParam parameter = parameters.get(i);
+			SystemRequirementParam parameterCreated = created.get(i);
 
 			// For each parameter values
 			if (parameter.getParameterValueList() != null) {
@@ -220,12 +231,14 @@ public class ImportSysRequirementApp extends AApplication implements IImportSysR
 						EntityFilterBuilder.get(GenericParameterSelectValue.Filter.PARAMETER, requirementParam)));
 
 		// For each parameter values
+		List<SystemRequirementSelectValue> toCreate = new ArrayList<>();
 		for (SystemRequirementSelectValue parameterValue : toAdd.stream().map(SystemRequirementSelectValue.class::cast)
 				.collect(Collectors.toList())) {
 			SystemRequirementSelectValue pv = parameterValue.copy();
 			pv.setParameter(requirementParam);
-			getAppMgr().getDaoManager().getRepository(ISystemRequirementSelectValueRepository.class).create(pv);
+			toCreate.add(pv);
 		}
+		getAppMgr().getDaoManager().getRepository(ISystemRequirementSelectValueRepository.class).createAll(toCreate);
 
 		// refresh the parameter
 		getDaoManager().getRepository(ISystemRequirementParamRepository.class).refresh(requirementParam);
@@ -251,12 +264,14 @@ public class ImportSysRequirementApp extends AApplication implements IImportSysR
 						.findBy(EntityFilterBuilder.get(GenericParameterConstraint.Filter.PARAMETER, param)));
 
 		// For each parameter values
+		List<SystemRequirementConstraint> toCreate = new ArrayList<>();
 		for (SystemRequirementConstraint parameterValue : toAdd.stream().map(SystemRequirementConstraint.class::cast)
 				.collect(Collectors.toList())) {
 			SystemRequirementConstraint pv = parameterValue.copy();
 			pv.setParameter(param);
-			getAppMgr().getDaoManager().getRepository(ISystemRequirementConstraintRepository.class).create(pv);
+			toCreate.add(pv);
 		}
+		getAppMgr().getDaoManager().getRepository(ISystemRequirementConstraintRepository.class).createAll(toCreate);
 
 		// refresh the parameter
 		getDaoManager().getRepository(ISystemRequirementParamRepository.class).refresh(param);
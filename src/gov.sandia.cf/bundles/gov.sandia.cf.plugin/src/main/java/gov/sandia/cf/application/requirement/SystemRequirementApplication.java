@@ -15,6 +15,7 @@ import org.slf4j.LoggerFactory;
 
 import gov.sandia.cf.application.AApplication;
 import gov.sandia.cf.application.ApplicationManager;
+import gov.sandia.cf.application.global.IReorderApp;
 import gov.sandia.cf.application.imports.IImportApplication;
 import gov.sandia.cf.dao.ISystemRequirementParamRepository;
 import gov.sandia.cf.dao.ISystemRequirementRepository;
@@ -232,9 +233,9 @@ public class SystemRequirementApplication extends AApplication implements ISyste
 	@Override
 	public void deleteAllRequirementValue(List<SystemRequirementValue> values) throws CredibilityException {
 		if (values != null) {
-			for (SystemRequirementValue value : values) {
-				deleteRequirementValue(value);
-			}
+			checkDeleteAll(values, RscConst.EX_SYSREQUIREMENT_DELETE_REQUIREMENTVALUE_NULL,
+					RscConst.EX_SYSREQUIREMENT_DELETE_REQUIREMENTVALUE_IDNULL);
+			getAppMgr().getDaoManager().getRepository(ISystemRequirementValueRepository.class).deleteAll(values);
 		}
 	}
 
@@ -301,9 +302,9 @@ public class SystemRequirementApplication extends AApplication implements ISyste
 	public void deleteAllRequirementSelectValue(List<SystemRequirementSelectValue> selectValues)
 			throws CredibilityException {
 		if (selectValues != null) {
-			for (SystemRequirementSelectValue select : selectValues) {
-				deleteRequirementSelectValue(select);
-			}
+			checkDeleteAll(selectValues, RscConst.EX_SYSREQUIREMENT_DELETE_REQUIREMENTSELECTVALUE_NULL,
+					RscConst.EX_SYSREQUIREMENT_DELETE_REQUIREMENTSELECTVALUE_IDNULL);
+			getDaoManager().getRepository(ISystemRequirementSelectValueRepository.class).deleteAll(selectValues);
 		}
 	}
 
@@ -420,23 +421,12 @@ public class SystemRequirementApplication extends AApplication implements ISyste
 		sameGroupSystemRequirementList.sort(
 				Comparator.comparing(SystemRequirement::getGeneratedId, new StringWithNumberAndNullableComparator()));
 
-		// set id for parents
-		int index = 1;
-		for (SystemRequirement systemRequirement : sameGroupSystemRequirementList) {
+		// set id for parents and children in one transaction
+		getAppMgr().getService(IReorderApp.class).reorderTree(ISystemRequirementRepository.class,
+				sameGroupSystemRequirementList, null, 0, SystemRequirement::getChildren);
 
-			String elementId = IDTools.generateAlphabeticId(index - 1);
-			systemRequirement.setGeneratedId(elementId);
-			updateRequirement(systemRequirement, user);
-
-			if (systemRequirement.getChildren() != null && !systemRequirement.getChildren().isEmpty()) {
-				reorderSystemRequirementAtSameLevel(systemRequirement.getChildren().get(0), user);
-			}
-
-			// refresh group
-			refresh(systemRequirement);
-
-			index++;
-		}
+		// refresh groups
+		sameGroupSystemRequirementList.forEach(this::refresh);
 	}
 
 	/**
@@ -461,7 +451,7 @@ public class SystemRequirementApplication extends AApplication implements ISyste
 				Comparator.comparing(SystemRequirement::getGeneratedId, new StringWithNumberAndNullableComparator()));
 
 		// apply reordering
-		applyReorderFromList(sameGroupSystemRequirementList, toMove, user);
+		applyReorderFromList(sameGroupSystemRequirementList, toMove);
 	}
 
 	/**
@@ -496,7 +486,7 @@ public class SystemRequirementApplication extends AApplication implements ISyste
 		List<SystemRequirement> reorderedList = IDTools.reorderList(sameGroupSystemRequirementList, toMove, newIndex);
 
 		// apply reordering
-		applyReorderFromList(reorderedList, toMove, user);
+		applyReorderFromList(reorderedList, toMove);
 	}
 
 	/**
@@ -504,37 +494,17 @@ public class SystemRequirementApplication extends AApplication implements ISyste
 	 *
 	 * @param orderedList the ordered list
 	 * @param toMove      the to move
-	 * @param user        the user
 	 * @throws CredibilityException the credibility exception
 	 */
-	private void applyReorderFromList(List<SystemRequirement> orderedList, SystemRequirement toMove, User user)
+	private void applyReorderFromList(List<SystemRequirement> orderedList, SystemRequirement toMove)
 			throws CredibilityException {
 
-		// set id for parents
-		int index = 1;
-		final String groupIdLabel = toMove.getParent() == null ? RscTools.empty() : toMove.getParent().getGeneratedId();
-		for (SystemRequirement systemRequirement : orderedList) {
-
-			String elementId = null;
-			if (toMove.getParent() == null) {
-				elementId = IDTools.generateAlphabeticId(index - 1);
-			} else if (toMove.getLevel() % 2 == 0) {
-				elementId = groupIdLabel + IDTools.generateAlphabeticId(index - 1);
-			} else {
-				elementId = groupIdLabel + index;
-			}
-
-			systemRequirement.setGeneratedId(elementId);
-			updateRequirement(systemRequirement, user);
-
-			if (systemRequirement.getChildren() != null && !systemRequirement.getChildren().isEmpty()) {
-				reorderSystemRequirementAtSameLevel(systemRequirement.getChildren().get(0), user);
-			}
-
-			index++;
-		}
+		// set id for the group and children in one transaction
+		SystemRequirement parent = toMove.getParent();
+		getAppMgr().getService(IReorderApp.class).reorderTree(ISystemRequirementRepository.class, orderedList,
+				parent != null ? parent.getGeneratedId() : null, toMove.getLevel(), SystemRequirement::getChildren);
 
 		// refresh group
-		refresh(toMove.getParent());
+		refresh(parent);
 	}
 }
@@ -5,7 +5,9 @@ package gov.sandia.cf.application.uncertainty;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -200,13 +202,23 @@ public class ImportUncertaintyApp extends AApplication implements IImportUncerta
 		List<?> toAdd = getAppMgr().getService(IImportApplication.class).getChangesToAdd(uncertaintyParamList,
 				getDaoManager().getRepository(IUncertaintyParamRepository.class).findAll());
 
-		// For each parameters
-		for (UncertaintyParam parameter : toAdd.stream().map(UncertaintyParam.class::cast)
-				.collect(Collectors.toList())) {
+		List<UncertaintyParam> parameters = toAdd.stream().map(UncertaintyParam.class::cast)
+				.collect(Collectors.toList());
+
+		// create the parameters in one transaction
+		List<UncertaintyParam> toCreate = new ArrayList<>();
+		for (UncertaintyParam parameter : parameters) {
 			UncertaintyParam p = parameter.copy();
 			p.setModel(model);
-			UncertaintyParam parameterCreated = getAppMgr().getDaoManager()
-					.getRepository(IUncertaintyParamRepository.class).create(p);
+			toCreate.add(p);
+		}
+		List<UncertaintyParam> created = getAppMgr().getDaoManager().getRepository(IUncertaintyParamRepository.class)
+				.createAll(toCreate);
+
+		// For each parameters
+		for (int i = 0; i < parameters.size(); i++) {
+			UncertaintyParam parameter = parameters.get(i);
+			UncertaintyParam parameterCreated = created.get(i);
 
 			// For each parameter values
 			if (parameter.getParameterValueList() != null) {
@@ -234,6 +246,7 @@ public class ImportUncertaintyApp extends AApplication implements IImportUncerta
 		logger.info("Importing Uncertainty Parameters to update into database..."); //$NON-NLS-1$
 
 		// For each parameters
+		Map<UncertaintyParam, UncertaintyParam> toUpdateByImport = new LinkedHashMap<>();
 		for (UncertaintyParam toImport : uncertaintyParamList) {
 
 			// find
@@ -250,8 +263,16 @@ public class ImportUncertaintyApp extends AApplication implements IImportUncerta
 			toUpdate.setRequired(toImport.getRequired());
 			toUpdate.setType(toImport.getType());
 			toUpdate.setDefaultValue(toImport.getDefaultValue());
+			toUpdateByImport.put(toImport, toUpdate);
+		}
 
-			getDaoManager().getRepository(IUncertaintyParamRepository.class).update(toUpdate);
+		// update the parameters in one transaction
+		getDaoManager().getRepository(IUncertaintyParamRepository.class)
+				.updateAll(new ArrayList<>(toUpdateByImport.values()));
+
+		for (Map.Entry<UncertaintyParam, UncertaintyParam> entry : toUpdateByImport.entrySet()) {
+			UncertaintyParam toImport = entry.getKey();
+			UncertaintyParam toUpdate = entry.getValue();
 
 			// For each parameter values
 			if (toImport.getParameterValueList() != null) {
@@ -318,12 +339,14 @@ public class ImportUncertaintyApp extends AApplication implements IImportUncerta
 							EntityFilterBuilder.get(GenericParameterSelectValue.Filter.PARAMETER, uncertaintyParam)));
 
 			// For each parameter values
+			List<UncertaintySelectValue> toCreate = new ArrayList<>();
 			for (UncertaintySelectValue parameterValue : toAdd.stream().map(UncertaintySelectValue.class::cast)
 					.collect(Collectors.toList())) {
 				UncertaintySelectValue pv = parameterValue.copy();
 				pv.setParameter(uncertaintyParam);
-				getAppMgr().getDaoManager().getRepository(IUncertaintySelectValueRepository.class).create(pv);
+				toCreate.add(pv);
 			}
+			getAppMgr().getDaoManager().getRepository(IUncertaintySelectValueRepository.class).createAll(toCreate);
 
 			// refresh the parameter
 			getDaoManager().getRepository(IUncertaintyParamRepository.class).refresh(uncertaintyParam);
@@ -348,12 +371,14 @@ public class ImportUncertaintyApp extends AApplication implements IImportUncerta
 						.findBy(EntityFilterBuilder.get(GenericParameterConstraint.Filter.PARAMETER, param)));
 
 		// For each parameter values
+		List<UncertaintyConstraint> toCreate = new ArrayList<>();
 		for (UncertaintyConstraint parameterValue : toAdd.stream().map(UncertaintyConstraint.class::cast)
 				.collect(Collectors.toList())) {
 			UncertaintyConstraint pv = parameterValue.copy();
 			pv.setParameter(param);
-			getAppMgr().getDaoManager().getRepository(IUncertaintyConstraintRepository.class).create(pv);
+			toCreate.add(pv);
 		}
+		getAppMgr().getDaoManager().getRepository(IUncertaintyConstraintRepository.class).createAll(toCreate);
 
 		// refresh the parameter
 		getDaoManager().getRepository(IUncertaintyParamRepository.class).refresh(param);
@@ -393,33 +418,39 @@ public class ImportUncertaintyApp extends AApplication implements IImportUncerta
 			throw new CredibilityException(RscTools.getString(RscConst.ERR_IMPORT_UNCERTAINTY_APP_USER_NULL));
 		}
 
-		// For each value
+		// create the uncertainties of this level in one transaction
+		List<Uncertainty> toCreate = new ArrayList<>();
 		for (Uncertainty uncertainty : uncertaintyList) {
 
 			// set values
-			Uncertainty toCreate = new Uncertainty();
-			toCreate.setModel(model);
-			toCreate.setCreationDate(DateTools.getCurrentDate());
-			toCreate.setUserCreation(user);
-			toCreate.setName(uncertainty.getName());
-			toCreate.setParent(parent);
-			toCreate.setValues(null);
+			Uncertainty newUncertainty = new Uncertainty();
+			newUncertainty.setModel(model);
+			newUncertainty.setCreationDate(DateTools.getCurrentDate());
+			newUncertainty.setUserCreation(user);
+			newUncertainty.setName(uncertainty.getName());
+			newUncertainty.setParent(parent);
+			newUncertainty.setValues(null);
+			toCreate.add(newUncertainty);
+		}
+		List<Uncertainty> created = getAppMgr().getDaoManager().getRepository(IUncertaintyRepository.class)
+				.createAll(toCreate);
 
-			Uncertainty created = getAppMgr().getDaoManager().getRepository(IUncertaintyRepository.class)
-					.create(toCreate);
+		// For each value
+		for (int i = 0; i < uncertaintyList.size(); i++) {
+			Uncertainty uncertainty = uncertaintyList.get(i);
 
 			// Import values
 			if (uncertainty.getValues() != null) {
-				importUncertaintyValues(created, user, uncertainty.getValues());
+				importUncertaintyValues(created.get(i), user, uncertainty.getValues());
 			}
 
 			// import children
 			if (uncertainty.getChildren() != null && !uncertainty.getChildren().isEmpty()) {
-				importUncertainties(model, user, created, uncertainty.getChildren());
+				importUncertainties(model, user, created.get(i), uncertainty.getChildren());
 			}
-
-			getAppMgr().getDaoManager().getRepository(IUncertaintyRepository.class).refresh(parent);
 		}
+
+		getAppMgr().getDaoManager().getRepository(IUncertaintyRepository.class).refresh(parent);
 	}
 
 	/** {@inheritDoc} */
@@ -437,6 +468,7 @@ public class ImportUncertaintyApp extends AApplication implements IImportUncerta
 			logger.info("Importing Uncertainty values into database..."); //$NON-NLS-1$
 
 			// For each value
+			List<UncertaintyValue> valuesToCreate = new ArrayList<>();
 			for (UncertaintyValue value : values) {
 
 				// create value
@@ -467,10 +499,12 @@ public class ImportUncertaintyApp extends AApplication implements IImportUncerta
 
 				toCreate.setValue(stringValue);
 
-				// create
-				getAppMgr().getDaoManager().getRepository(IUncertaintyValueRepository.class).create(toCreate);
+				valuesToCreate.add(toCreate);
 			}
 
+			// create the values in one transaction
+			getAppMgr().getDaoManager().getRepository(IUncertaintyValueRepository.class).createAll(valuesToCreate);
+
 			// refresh the parameter
 			getDaoManager().getRepository(IUncertaintyRepository.class).refresh(uncertainty);
 		}
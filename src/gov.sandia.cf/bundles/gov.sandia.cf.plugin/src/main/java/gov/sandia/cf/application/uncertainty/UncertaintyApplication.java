@@ -15,6 +15,7 @@ import org.slf4j.LoggerFactory;
 
 import gov.sandia.cf.application.AApplication;
 import gov.sandia.cf.application.ApplicationManager;
+import gov.sandia.cf.application.global.IReorderApp;
 import gov.sandia.cf.application.imports.IImportApplication;
 import gov.sandia.cf.dao.IUncertaintyConstraintRepository;
 import gov.sandia.cf.dao.IUncertaintyParamRepository;
@@ -296,9 +297,9 @@ public class UncertaintyApplication extends AApplication implements IUncertainty
 	@Override
 	public void deleteAllUncertaintyValue(List<UncertaintyValue> values) throws CredibilityException {
 		if (values != null) {
-			for (UncertaintyValue value : values) {
-				deleteUncertaintyValue(value);
-			}
+			checkDeleteAll(values, RscConst.EX_UNCERTAINTY_DELETE_UNCERTAINTYVALUE_NULL,
+					RscConst.EX_UNCERTAINTY_DELETE_UNCERTAINTYVALUE_IDNULL);
+			getAppMgr().getDaoManager().getRepository(IUncertaintyValueRepository.class).deleteAll(values);
 		}
 	}
 
@@ -362,9 +363,9 @@ public class UncertaintyApplication extends AApplication implements IUncertainty
 	@Override
 	public void deleteAllUncertaintySelectValue(List<UncertaintySelectValue> selectValues) throws CredibilityException {
 		if (selectValues != null) {
-			for (UncertaintySelectValue select : selectValues) {
-				deleteUncertaintySelectValue(select);
-			}
+			checkDeleteAll(selectValues, RscConst.EX_UNCERTAINTY_DELETE_UNCERTAINTYSELECTVALUE_NULL,
+					RscConst.EX_UNCERTAINTY_DELETE_UNCERTAINTYSELECTVALUE_IDNULL);
+			getDaoManager().getRepository(IUncertaintySelectValueRepository.class).deleteAll(selectValues);
 		}
 	}
 
@@ -391,9 +392,9 @@ public class UncertaintyApplication extends AApplication implements IUncertainty
 	@Override
 	public void deleteAllUncertaintyConstraint(List<UncertaintyConstraint> constraints) throws CredibilityException {
 		if (constraints != null) {
-			for (UncertaintyConstraint select : constraints) {
-				deleteUncertaintyConstraint(select);
-			}
+			checkDeleteAll(constraints, RscConst.EX_UNCERTAINTY_DELETE_UNCERTAINTYCONSTRAINT_NULL,
+					RscConst.EX_UNCERTAINTY_DELETE_UNCERTAINTYCONSTRAINT_IDNULL);
+			getDaoManager().getRepository(IUncertaintyConstraintRepository.class).deleteAll(constraints);
 		}
 	}
 
@@ -459,23 +460,12 @@ public class UncertaintyApplication extends AApplication implements IUncertainty
 		sameGroupUncertaintyList
 				.sort(Comparator.comparing(Uncertainty::getGeneratedId, new StringWithNumberAndNullableComparator()));
 
-		// set id for parents
-		int index = 1;
-		for (Uncertainty uncertainty : sameGroupUncertaintyList) {
-
-			String elementId = IDTools.generateAlphabeticId(index - 1);
-			uncertainty.setGeneratedId(elementId);
-			updateUncertainty(uncertainty, user);
+		// set id for parents and children in one transaction
+		getAppMgr().getService(IReorderApp.class).reorderTree(IUncertaintyRepository.class,
+				sameGroupUncertaintyList, null, 0, Uncertainty::getChildren);
 
-			if (uncertainty.getChildren() != null && !uncertainty.getChildren().isEmpty()) {
-				reorderUncertaintyAtSameLevel(uncertainty.getChildren().get(0), user);
-			}
-
-			// refresh group
-			refresh(uncertainty);
-
-			index++;
-		}
+		// refresh groups
+		sameGroupUncertaintyList.forEach(this::refresh);
 	}
 
 	/**
@@ -500,7 +490,7 @@ public class UncertaintyApplication extends AApplication implements IUncertainty
 				.sort(Comparator.comparing(Uncertainty::getGeneratedId, new StringWithNumberAndNullableComparator()));
 
 		// apply reordering to elements
-		applyReorderFromList(sameGroupUncertaintyList, toMove, user);
+		applyReorderFromList(sameGroupUncertaintyList, toMove);
 	}
 
 	/**
@@ -534,7 +524,7 @@ public class UncertaintyApplication extends AApplication implements IUncertainty
 		List<Uncertainty> reorderedList = IDTools.reorderList(sameGroupUncertaintyList, toMove, newIndex);
 
 		// apply reordering to elements
-		applyReorderFromList(reorderedList, toMove, user);
+		applyReorderFromList(reorderedList, toMove);
 	}
 
 	/**
@@ -542,37 +532,16 @@ public class UncertaintyApplication extends AApplication implements IUncertainty
 	 *
 	 * @param orderedList the ordered list
 	 * @param toMove      the to move
-	 * @param user        the user
 	 * @throws CredibilityException the credibility exception
 	 */
-	private void applyReorderFromList(List<Uncertainty> orderedList, Uncertainty toMove, User user)
-			throws CredibilityException {
-
-		// set id for parents
-		int index = 1;
-		final String groupIdLabel = toMove.getParent() == null ? RscTools.empty() : toMove.getParent().getGeneratedId();
-		for (Uncertainty uncertainty : orderedList) {
-
-			String elementId = null;
-			if (toMove.getParent() == null) {
-				elementId = IDTools.generateAlphabeticId(index - 1);
-			} else if (toMove.getLevel() % 2 == 0) {
-				elementId = groupIdLabel + IDTools.generateAlphabeticId(index - 1);
-			} else {
-				elementId = groupIdLabel + index;
-			}
-
-			uncertainty.setGeneratedId(elementId);
-			updateUncertainty(uncertainty, user);
+	private void applyReorderFromList(List<Uncertainty> orderedList, Uncertainty toMove) throws CredibilityException {
 
-			if (uncertainty.getChildren() != null && !uncertainty.getChildren().isEmpty()) {
-				reorderUncertaintyAtSameLevel(uncertainty.getChildren().get(0), user);
-			}
-
-			index++;
-		}
+		// set id for the group and children in one transaction
+		Uncertainty parent = toMove.getParent();
+		getAppMgr().getService(IReorderApp.class).reorderTree(IUncertaintyRepository.class, orderedList,
+				parent != null ? parent.getGeneratedId() : null, toMove.getLevel(), Uncertainty::getChildren);
 
 		// refresh group
-		refresh(toMove.getParent());
+		refresh(parent);
 	}
 }
@@ -53,6 +53,13 @@ public abstract class AbstractCRUDRepository<E, I> implements ICRUDRepository<E,
 	private static final String QUERY_ORDER_BY_DIR = "ASC"; //$NON-NLS-1$
 	private static final String QUERY_SELECT_ALL = "SELECT " + ALIAS + " FROM {0} " + ALIAS; //$NON-NLS-1$ //$NON-NLS-2$
 	private static final String FIELD_EMPTY = ""; //$NON-NLS-1$
+	private static final String MSG_CONSTRAINT_VIOLATED = "One or more Bean Validation constraints were violated:"; //$NON-NLS-1$
+
+	/**
+	 * The number of entities written by a batch operation before flushing the
+	 * pending statements to the database
+	 */
+	public static final int BATCH_FLUSH_SIZE = 100;
 
 	/**
 	 * Query find id by field
@@ -69,6 +76,11 @@ public abstract class AbstractCRUDRepository<E, I> implements ICRUDRepository<E,
 	 */
 	private EntityManager entityManager;
 
+	/**
+	 * the cache of the findBy query plans
+	 */
+	private final QueryPlanCache queryPlanCache = new QueryPlanCache();
+
 	/**
 	 * the entity class to retrieve the entity specifications, fields and methods
 	 * using Java reflection
@@ -107,21 +119,54 @@ public abstract class AbstractCRUDRepository<E, I> implements ICRUDRepository<E,
 			getEntityManager().getTransaction().commit();
 		} catch (ConstraintViolationException e) {
 
-			// construct error message
-			StringBuilder str = new StringBuilder("One or more Bean Validation constraints were violated:"); //$NON-NLS-1$
-			for (ConstraintViolation<?> c : e.getConstraintViolations()) {
-				str.append("\n- ").append(RscTools.getString(c.getMessageTemplate())); //$NON-NLS-1$
+			// rollback
+			rollback();
+
+			// rethrow
+			throw new CredibilityException(getConstraintViolationMessage(e), e);
+		}
+		return entity;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<E> createAll(List<E> entities) throws CredibilityException {
+
+		if (entities == null || entities.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		getEntityManager().getTransaction().begin();
+		try {
+			int count = 0;
+			for (E entity : entities) {
+				getEntityManager().persist(entity);
+				if (++count % BATCH_FLUSH_SIZE == 0) {
+					getEntityManager().flush();
+				}
 			}
+			getEntityManager().getTransaction().commit();
+		} catch (ConstraintViolationException e) {
 
 			// rollback
-			if (getEntityManager().getTransaction().isActive()) {
-				getEntityManager().getTransaction().rollback();
-			}
+			rollback();
 
 			// rethrow
-			throw new CredibilityException(str.toString(), e);
+			throw new CredibilityException(getConstraintViolationMessage(e), e);
+		} catch (RuntimeException e) {
+
+			// rollback
+			rollback();
+
+			// rethrow
+			throw new CredibilityException(e);
 		}
-		return entity;
+
+		logger.debug("{} {} created in one transaction", entities.size(), entityClass.getSimpleName()); //$NON-NLS-1$
+
+		return entities;
 	}
 
 	/**
@@ -179,6 +224,78 @@ public abstract class AbstractCRUDRepository<E, I> implements ICRUDRepository<E,
 		return queryString;
 	}
 
+	/**
+	 * Build the findBy query string.
+	 * 
+	 * @param filters             the filters
+	 * @param order               the order
+	 * @param paramSuffixVariable the suffix to use in the query to retrieve the
+	 *                            values
+	 * @return the query string
+	 */
+	private String getFindByQuery(Map<EntityFilter, Object> filters, Map<EntityFilter, String> order,
+			String paramSuffixVariable) {
+
+		// Prepare query string
+		String queryString = MessageFormat.format(QUERY_SELECT_ALL, entityClass.getSimpleName());
+
+		// Has filters
+		queryString = addWhereFiltersToQuery(filters, queryString, paramSuffixVariable);
+
+		// Order by
+		if (order != null && !order.isEmpty()) {
+			queryString += " " + QUERY_ORDER_BY_KEY + " " //$NON-NLS-1$ //$NON-NLS-2$
+					+ order.entrySet().stream()
+							.map(field -> ALIAS + "." + field.getKey().getField() + " " //$NON-NLS-1$ //$NON-NLS-2$
+									+ ((field.getValue() != null) ? field.getValue() : QUERY_ORDER_BY_DIR))
+							.collect(Collectors.joining(", ")); //$NON-NLS-1$
+		}
+
+		return queryString;
+	}
+
+	/**
+	 * Get the plan key of the findBy query: the filtered fields with their
+	 * null-ness, and the order. The filters with the same plan key give the same
+	 * query string.
+	 * 
+	 * @param filters the filters
+	 * @param order   the order
+	 * @return the plan key
+	 */
+	private String getFindByPlanKey(Map<EntityFilter, Object> filters, Map<EntityFilter, String> order) {
+
+		StringBuilder key = new StringBuilder();
+
+		if (filters != null) {
+			for (Entry<EntityFilter, Object> filter : filters.entrySet()) {
+				key.append(filter.getKey().getField());
+				if (null == filter.getValue() || filter.getValue().equals(NullParameter.NULL)) {
+					key.append(" IS NULL,"); //$NON-NLS-1$
+				} else if (filter.getValue().equals(NullParameter.NOT_NULL)) {
+					key.append(" IS NOT NULL,"); //$NON-NLS-1$
+				} else {
+					key.append("=?,"); //$NON-NLS-1$
+				}
+			}
+		}
+
+		if (order != null && !order.isEmpty()) {
+			key.append(QUERY_ORDER_BY_KEY);
+			order.forEach((EntityFilter field, String direction) -> key.append(' ').append(field.getField())
+					.append(' ').append((direction != null) ? direction : QUERY_ORDER_BY_DIR));
+		}
+
+		return key.toString();
+	}
+
+	/**
+	 * @return the cache of the findBy query plans of this repository
+	 */
+	public QueryPlanCache getQueryPlanCache() {
+		return queryPlanCache;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -192,27 +309,12 @@ public abstract class AbstractCRUDRepository<E, I> implements ICRUDRepository<E,
 	 */
 	@Override
 	public List<E> findBy(Map<EntityFilter, Object> filters, Map<EntityFilter, String> order) {
-		// Prepare query string
-		String queryString = MessageFormat.format(QUERY_SELECT_ALL, entityClass.getSimpleName());
 
 		String paramSuffixVariable = "Param";//$NON-NLS-1$
 
-		// Has filters
-		queryString = addWhereFiltersToQuery(filters, queryString, paramSuffixVariable);
-
-		// Order by
-		if (order != null && !order.isEmpty()) {
-			StringBuilder orderBy = new StringBuilder();
-			orderBy.append(" " + QUERY_ORDER_BY_KEY + " "); //$NON-NLS-1$ //$NON-NLS-2$
-			order.forEach((EntityFilter field, String direction) -> {
-				orderBy.append(ALIAS + "." + field.getField()); //$NON-NLS-1$
-				orderBy.append(" " + ((direction != null) ? direction : QUERY_ORDER_BY_DIR)); //$NON-NLS-1$
-			});
-			queryString += orderBy.toString();
-		}
-
-		// Create Query
-		TypedQuery<E> query = getEntityManager().createQuery(queryString, entityClass);
+		// Create Query from the cached plan, the query string is built on cache miss
+		TypedQuery<E> query = queryPlanCache.createQuery(getEntityManager(), entityClass,
+				getFindByPlanKey(filters, order), () -> getFindByQuery(filters, order, paramSuffixVariable));
 
 		// Add parameters if has filters
 		if (null != filters && !filters.isEmpty()) {
@@ -240,6 +342,37 @@ public abstract class AbstractCRUDRepository<E, I> implements ICRUDRepository<E,
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void deleteAll(List<E> entities) {
+
+		if (entities == null || entities.isEmpty()) {
+			return;
+		}
+
+		// merge before the transaction as delete does
+		List<E> toDelete = entities.stream().filter(Objects::nonNull).map(this::merge).collect(Collectors.toList());
+
+		getEntityManager().getTransaction().begin();
+		try {
+			int count = 0;
+			for (E entity : toDelete) {
+				getEntityManager().remove(entity);
+				if (++count % BATCH_FLUSH_SIZE == 0) {
+					getEntityManager().flush();
+				}
+			}
+			getEntityManager().getTransaction().commit();
+		} catch (RuntimeException e) {
+			rollback();
+			throw e;
+		}
+
+		logger.debug("{} {} deleted in one transaction", toDelete.size(), entityClass.getSimpleName()); //$NON-NLS-1$
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -250,16 +383,8 @@ public abstract class AbstractCRUDRepository<E, I> implements ICRUDRepository<E,
 
 		if (entityUpdated != null) {
 
-			I id = getEntityId(entityUpdated);
-			String idFieldName = getEntityIdFieldName();
-
 			// get actual entity from database
-			entityToUpdate = findById(id);
-
-			if (entityToUpdate == null) {
-				throw new CredibilityException(
-						RscTools.getString(RscConst.EX_DAO_CRUD_ENTITYNOTFOUND, idFieldName, id));
-			}
+			entityToUpdate = findEntityToUpdate(entityUpdated);
 
 			/*
 			 * between entityManager transaction begin and commit, all setted values are
@@ -268,63 +393,160 @@ public abstract class AbstractCRUDRepository<E, I> implements ICRUDRepository<E,
 			getEntityManager().getTransaction().begin();
 
 			// update all fields except @Id of selected entity
-			for (Field field : entityUpdated.getClass().getDeclaredFields()) {
+			copyFields(entityUpdated, entityToUpdate);
+
+			/*
+			 * commit transaction to persist entityToUpdate modifications
+			 */
+			commitUpdate();
+		}
+		return entityToUpdate;
+	}
 
-				// ignore static fields and id
-				/* id field must not be updated */
-				if (!java.lang.reflect.Modifier.isStatic(field.getModifiers())
-						&& !field.getName().equals(idFieldName)) {
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<E> updateAll(List<E> entitiesUpdated) throws CredibilityException {
 
-					PropertyDescriptor pdEntityUpdated;
-					PropertyDescriptor pdObjectToUpdate;
+		List<E> entitiesToUpdate = new ArrayList<>();
 
-					try {
+		if (entitiesUpdated == null || entitiesUpdated.isEmpty()) {
+			return entitiesToUpdate;
+		}
 
-						pdEntityUpdated = new PropertyDescriptor(field.getName(), entityUpdated.getClass());
-						pdObjectToUpdate = new PropertyDescriptor(field.getName(), entityToUpdate.getClass());
+		// get actual entities from database before opening the transaction
+		for (E entityUpdated : entitiesUpdated) {
+			if (entityUpdated != null) {
+				entitiesToUpdate.add(findEntityToUpdate(entityUpdated));
+			}
+		}
 
-						// set entityToUpdate with entityUpdated values
-						pdObjectToUpdate.getWriteMethod().invoke(entityToUpdate,
-								pdEntityUpdated.getReadMethod().invoke(entityUpdated));
+		/*
+		 * between entityManager transaction begin and commit, all setted values are
+		 * automatically persisted in database
+		 */
+		getEntityManager().getTransaction().begin();
 
-					} catch (IntrospectionException | IllegalAccessException | IllegalArgumentException
-							| InvocationTargetException e) {
-						logger.error(e.getMessage(), e);
-					}
+		int index = 0;
+		for (E entityUpdated : entitiesUpdated) {
+			if (entityUpdated != null) {
+				copyFields(entityUpdated, entitiesToUpdate.get(index));
+				if (++index % BATCH_FLUSH_SIZE == 0) {
+					getEntityManager().flush();
 				}
 			}
+		}
 
-			/*
-			 * commit transaction to persist entityToUpdate modifications
-			 */
-			try {
-				getEntityManager().getTransaction().commit();
-			} catch (RollbackException e) {
-
-				// construct error message
-				StringBuilder str = new StringBuilder(); // $NON-NLS-1$
-				if (e.getCause() instanceof ConstraintViolationException) {
-					str.append("One or more Bean Validation constraints were violated:"); //$NON-NLS-1$
-					for (ConstraintViolation<?> c : ((ConstraintViolationException) e.getCause())
-							.getConstraintViolations()) {
-						str.append("\n- ").append(RscTools.getString(c.getMessageTemplate())); //$NON-NLS-1$
-					}
-				}
+		/*
+		 * commit transaction to persist all the modifications at once
+		 */
+		commitUpdate();
 
-				// rollback
-				if (getEntityManager().getTransaction().isActive()) {
-					getEntityManager().getTransaction().rollback();
-				}
+		logger.debug("{} {} updated in one transaction", entitiesToUpdate.size(), entityClass.getSimpleName()); //$NON-NLS-1$
 
-				// rethrow
-				if (e.getCause() instanceof ConstraintViolationException) {
-					throw new CredibilityException(str.toString(), e.getCause());
-				} else {
-					throw new CredibilityException(e.getCause());
+		return entitiesToUpdate;
+	}
+
+	/**
+	 * @param entityUpdated the entity with the updated values
+	 * @return the managed entity to update with the same id
+	 * @throws CredibilityException if the entity is not found in database
+	 */
+	private E findEntityToUpdate(E entityUpdated) throws CredibilityException {
+
+		I id = getEntityId(entityUpdated);
+
+		E entityToUpdate = findById(id);
+
+		if (entityToUpdate == null) {
+			throw new CredibilityException(
+					RscTools.getString(RscConst.EX_DAO_CRUD_ENTITYNOTFOUND, getEntityIdFieldName(), id));
+		}
+
+		return entityToUpdate;
+	}
+
+	/**
+	 * Set all the fields except @Id of the entity to update with the updated
+	 * entity values
+	 * 
+	 * @param entityUpdated  the entity with the updated values
+	 * @param entityToUpdate the managed entity to update
+	 */
+	private void copyFields(E entityUpdated, E entityToUpdate) {
+
+		String idFieldName = getEntityIdFieldName();
+
+		for (Field field : entityUpdated.getClass().getDeclaredFields()) {
+
+			// ignore static fields and id
+			/* id field must not be updated */
+			if (!java.lang.reflect.Modifier.isStatic(field.getModifiers()) && !field.getName().equals(idFieldName)) {
+
+				PropertyDescriptor pdEntityUpdated;
+				PropertyDescriptor pdObjectToUpdate;
+
+				try {
+
+					pdEntityUpdated = new PropertyDescriptor(field.getName(), entityUpdated.getClass());
+					pdObjectToUpdate = new PropertyDescriptor(field.getName(), entityToUpdate.getClass());
+
+					// set entityToUpdate with entityUpdated values
+					pdObjectToUpdate.getWriteMethod().invoke(entityToUpdate,
+							pdEntityUpdated.getReadMethod().invoke(entityUpdated));
+
+				} catch (IntrospectionException | IllegalAccessException | IllegalArgumentException
+						| InvocationTargetException e) {
+					logger.error(e.getMessage(), e);
 				}
 			}
 		}
-		return entityToUpdate;
+	}
+
+	/**
+	 * Commit the current update transaction
+	 * 
+	 * @throws CredibilityException if the commit failed, the transaction is rolled
+	 *                              back
+	 */
+	private void commitUpdate() throws CredibilityException {
+		try {
+			getEntityManager().getTransaction().commit();
+		} catch (RollbackException e) {
+
+			// rollback
+			rollback();
+
+			// rethrow
+			if (e.getCause() instanceof ConstraintViolationException) {
+				throw new CredibilityException(
+						getConstraintViolationMessage((ConstraintViolationException) e.getCause()), e.getCause());
+			} else {
+				throw new CredibilityException(e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Rollback the current transaction if active
+	 */
+	private void rollback() {
+		if (getEntityManager().getTransaction().isActive()) {
+			getEntityManager().getTransaction().rollback();
+		}
+	}
+
+	/**
+	 * @param e the constraint violation exception
+	 * @return the error message listing the violated constraints
+	 */
+	static String getConstraintViolationMessage(ConstraintViolationException e) {
+		StringBuilder str = new StringBuilder(MSG_CONSTRAINT_VIOLATED);
+		for (ConstraintViolation<?> c : e.getConstraintViolations()) {
+			str.append("\n- ").append(RscTools.getString(c.getMessageTemplate())); //$NON-NLS-1$
+		}
+		return str.toString();
 	}
 
 	/**
@@ -26,7 +26,8 @@ public class CredibilityDaoRuntimeException extends RuntimeException {
 		NOT_DAOCRUD_IMPLEMENTATION(
 				"The found class {0} implementing interface {1} is not a valid DAO repository class. It must extend AbstractCRUDRepository class."), //$NON-NLS-1$
 		NOT_INTERFACE("Please specify a repository interface instead of a repository class"), //$NON-NLS-1$
-		NOT_FOUND("The specified interface {0} does not have an associated class for instantiation"); //$NON-NLS-1$
+		NOT_FOUND("The specified interface {0} does not have an associated class for instantiation"), //$NON-NLS-1$
+		DB_NOT_INITIALIZED("The database is not initialized"); //$NON-NLS-1$
 
 		private String message;
 
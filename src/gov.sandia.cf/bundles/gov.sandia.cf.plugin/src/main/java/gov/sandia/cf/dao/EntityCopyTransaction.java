@@ -0,0 +1,154 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.dao;
+
+import java.util.function.IntConsumer;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import javax.persistence.RollbackException;
+import javax.validation.ConstraintViolationException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.IEntity;
+
+/**
+ * The transaction used to copy a tree of entities (tagging, snapshots...). All
+ * the copies are persisted in one transaction: the pending inserts are flushed
+ * by batch of {@link AbstractCRUDRepository#BATCH_FLUSH_SIZE} entities, and
+ * nothing is kept if the copy fails or is cancelled. The copied children are
+ * linked by the caller to their copied parents.
+ *
+ * <pre>
+ * try (EntityCopyTransaction transaction = new EntityCopyTransaction(daoManager, count -> monitor.worked(1))) {
+ * 	transaction.begin();
+ * 	transaction.copy(copy);
+ * 	...
+ * 	transaction.commit();
+ * }
+ * </pre>
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class EntityCopyTransaction implements AutoCloseable {
+
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(EntityCopyTransaction.class);
+
+	/** The entity manager. */
+	private final EntityManager entityManager;
+
+	/** The progress callback receiving the number of entities copied. */
+	private final IntConsumer progress;
+
+	/** The number of entities copied. */
+	private int count;
+
+	/**
+	 * Instantiates a new entity copy transaction.
+	 *
+	 * @param daoManager the dao manager
+	 * @param progress   the progress callback receiving the number of entities
+	 *                   copied (can be null)
+	 */
+	public EntityCopyTransaction(IDaoManager daoManager, IntConsumer progress) {
+		this.entityManager = daoManager.getEntityManager();
+		this.progress = progress;
+		this.count = 0;
+	}
+
+	/**
+	 * Begin the transaction.
+	 */
+	public void begin() {
+		entityManager.getTransaction().begin();
+	}
+
+	/**
+	 * Persist the copy.
+	 *
+	 * @param <E>  the entity type
+	 * @param copy the copy to persist
+	 * @return the persisted copy
+	 * @throws CredibilityException if the copy is not valid. The transaction is
+	 *                              rolled back.
+	 */
+	public <E extends IEntity<E, ?>> E copy(E copy) throws CredibilityException {
+
+		if (copy == null) {
+			return null;
+		}
+
+		try {
+			entityManager.persist(copy);
+			if (++count % AbstractCRUDRepository.BATCH_FLUSH_SIZE == 0) {
+				entityManager.flush();
+			}
+		} catch (ConstraintViolationException e) {
+			rollback();
+			throw new CredibilityException(AbstractCRUDRepository.getConstraintViolationMessage(e), e);
+		} catch (PersistenceException e) {
+			rollback();
+			throw new CredibilityException(e);
+		}
+
+		if (progress != null) {
+			progress.accept(count);
+		}
+
+		return copy;
+	}
+
+	/**
+	 * @return the number of entities copied
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Commit all the copies.
+	 *
+	 * @throws CredibilityException if the commit failed. The transaction is
+	 *                              rolled back.
+	 */
+	public void commit() throws CredibilityException {
+		try {
+			entityManager.getTransaction().commit();
+		} catch (RollbackException e) {
+			rollback();
+			if (e.getCause() instanceof ConstraintViolationException) {
+				throw new CredibilityException(AbstractCRUDRepository
+						.getConstraintViolationMessage((ConstraintViolationException) e.getCause()), e.getCause());
+			}
+			throw new CredibilityException(e.getCause());
+		}
+
+		logger.debug("{} entities copied in one transaction", count); //$NON-NLS-1$
+	}
+
+	/**
+	 * Rollback the transaction if it is still active: none of the copies is kept.
+	 */
+	public void rollback() {
+		if (entityManager.getTransaction().isActive()) {
+			logger.debug("Copy of {} entities rolled back", count); //$NON-NLS-1$
+			entityManager.getTransaction().rollback();
+		}
+	}
+
+	/**
+	 * Rollback the transaction if it has not been committed.
+	 */
+	@Override
+	public void close() {
+		rollback();
+	}
+}
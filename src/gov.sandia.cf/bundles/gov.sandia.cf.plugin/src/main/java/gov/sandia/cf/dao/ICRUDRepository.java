@@ -29,6 +29,18 @@ public interface ICRUDRepository<E, I> extends IRepository {
 	 */
 	public E create(E entity) throws CredibilityException;
 
+	/**
+	 * Persists all the entities in database in one transaction. The pending
+	 * statements are flushed periodically to keep the batches bounded.
+	 * 
+	 * @param entities the entities to create
+	 * @return the created entities
+	 * @throws CredibilityException throw credibility exception if one of the
+	 *                              entities to create does not fit expected
+	 *                              entity criteria. Nothing is created.
+	 */
+	public List<E> createAll(List<E> entities) throws CredibilityException;
+
 	/**
 	 * @return all the entity from database
 	 */
@@ -62,6 +74,13 @@ public interface ICRUDRepository<E, I> extends IRepository {
 	 */
 	public void delete(E entity);
 
+	/**
+	 * Deletes all the param entities from database in one transaction
+	 * 
+	 * @param entities the entities to delete
+	 */
+	public void deleteAll(List<E> entities);
+
 	/**
 	 * Updates the param entityUpdated and persist modifications in database. The
 	 * entity must exists in database and the entityUpdated must have the id field
@@ -75,6 +94,19 @@ public interface ICRUDRepository<E, I> extends IRepository {
 	 */
 	public E update(E entityUpdated) throws CredibilityException;
 
+	/**
+	 * Updates all the param entities and persist modifications in database in one
+	 * transaction. The entities must exist in database and have the id field set.
+	 * 
+	 * @param entitiesUpdated the entities to update
+	 * @throws CredibilityException throw credibility exception if one of the
+	 *                              entities to update does not fit expected
+	 *                              entity criteria. Nothing is updated.
+	 * 
+	 * @return the entities updated
+	 */
+	public List<E> updateAll(List<E> entitiesUpdated) throws CredibilityException;
+
 	/**
 	 * Refresh the entity after update.
 	 * 
@@ -3,6 +3,7 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.dao;
 
+import java.io.File;
 import java.io.IOException;
 import java.sql.SQLException;
 
@@ -42,6 +43,41 @@ public interface IDBManager {
 	 */
 	public EntityManager getEntityManager();
 
+	/**
+	 * Open an entity manager bound to the current thread. Until it is closed, all
+	 * the repository calls from this thread use it with its own pooled connection
+	 * instead of the shared entity manager. Calls can be nested, the entity
+	 * manager is closed with the last
+	 * {@link IDBManager#closeThreadEntityManager()} call.
+	 * 
+	 * The entities loaded in this thread are not managed by the shared entity
+	 * manager. It is meant for background reads (aggregation, report generation,
+	 * etc.).
+	 */
+	public void openThreadEntityManager();
+
+	/**
+	 * Close the entity manager bound to the current thread, if any.
+	 */
+	public void closeThreadEntityManager();
+
+	/**
+	 * @return true if an entity manager is bound to the current thread, otherwise
+	 *         false
+	 */
+	public boolean hasThreadEntityManager();
+
+	/**
+	 * Copy the database files into a directory as a consistent snapshot, while the
+	 * database stays opened. The database writes of all the connections are
+	 * blocked during the copy.
+	 *
+	 * @param directory the directory to copy the database files into
+	 * @throws CredibilityException if an error occured while copying the database
+	 *                              files
+	 */
+	public void backup(File directory) throws CredibilityException;
+
 	/**
 	 * 
 	 * @return the database directory path
@@ -4,6 +4,7 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 package gov.sandia.cf.dao;
 
 import java.util.List;
+import java.util.Map;
 
 import gov.sandia.cf.model.PCMMAssessment;
 import gov.sandia.cf.model.PCMMElement;
@@ -56,10 +57,20 @@ public interface IPCMMAssessmentRepository extends ICRUDRepository<PCMMAssessmen
 	/**
 	 * @param tag the tag filter
 	 * @return the assessments associated to the tag in parameter. If the tag is
-	 *         null, return the list of active assessments (non-tagged)
+	 *         null, return the list of active assessments (non-tagged). If the tag
+	 *         is a copy-on-write tag, the active assessments shared with the tag
+	 *         are returned too.
 	 */
 	List<PCMMAssessment> findByTag(Tag tag);
 
+	/**
+	 * @param tag the tag filter
+	 * @return the assessments copied into the tag in parameter, without the active
+	 *         assessments shared with a copy-on-write tag. If the tag is null,
+	 *         return the list of active assessments (non-tagged)
+	 */
+	List<PCMMAssessment> findCopiesByTag(Tag tag);
+
 	/**
 	 * Clear multiple assessments peer
 	 * 
@@ -87,4 +98,15 @@ public interface IPCMMAssessmentRepository extends ICRUDRepository<PCMMAssessmen
 	 * @param tag        the tag
 	 */
 	public void clearAssessment(Role role, User user, PCMMSubelement subelement, Tag tag);
+
+	/**
+	 * Count the progress of the elements with one aggregate query.
+	 * 
+	 * @param tag  the tag (null for the current assessments)
+	 * @param mode the PCMM mode
+	 * @return by element id, the number of subelements with assessments in DEFAULT
+	 *         mode, or 1 if the element has assessments in SIMPLIFIED mode. The
+	 *         elements without assessments are not in the map.
+	 */
+	Map<Integer, Integer> countProgressByElement(Tag tag, PCMMMode mode);
 }
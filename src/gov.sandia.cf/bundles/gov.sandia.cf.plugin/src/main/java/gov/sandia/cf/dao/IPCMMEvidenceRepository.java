@@ -4,8 +4,10 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 package gov.sandia.cf.dao;
 
 import java.util.List;
+import java.util.Map;
 
 import gov.sandia.cf.model.PCMMEvidence;
+import gov.sandia.cf.model.PCMMMode;
 import gov.sandia.cf.model.Tag;
 
 /**
@@ -25,14 +27,35 @@ public interface IPCMMEvidenceRepository extends ICRUDRepository<PCMMEvidence, I
 	/**
 	 * @param tag the tag to find
 	 * @return a list of evidence linked to the tag in parameter. If the tag is
-	 *         null, return the list of active evidence (non-tagged)
+	 *         null, return the list of active evidence (non-tagged). If the tag is
+	 *         a copy-on-write tag, the active evidence shared with the tag are
+	 *         returned too.
 	 */
 	List<PCMMEvidence> findByTag(Tag tag);
 
+	/**
+	 * @param tag the tag to find
+	 * @return the list of evidence copied into the tag in parameter, without the
+	 *         active evidence shared with a copy-on-write tag. If the tag is null,
+	 *         return the list of active evidence (non-tagged)
+	 */
+	List<PCMMEvidence> findCopiesByTag(Tag tag);
+
 	/**
 	 * If needed, change the evidence path containing "\\" to "/"
 	 * 
 	 * @return true if the evidence needs to be cleared, otherwise false.
 	 */
 	boolean clearEvidencePath();
+
+	/**
+	 * Count the progress of the elements with one aggregate query.
+	 * 
+	 * @param tag  the tag (null for the current evidence)
+	 * @param mode the PCMM mode
+	 * @return by element id, the number of subelements with evidence in DEFAULT
+	 *         mode, or 1 if the element has evidence in SIMPLIFIED mode. The
+	 *         elements without evidence are not in the map.
+	 */
+	Map<Integer, Integer> countProgressByElement(Tag tag, PCMMMode mode);
 }
@@ -3,6 +3,8 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.dao;
 
+import java.util.Map;
+
 import gov.sandia.cf.model.PCMMSubelement;
 
 /**
@@ -14,4 +16,10 @@ import gov.sandia.cf.model.PCMMSubelement;
 @Repository
 public interface IPCMMSubelementRepository extends ICRUDRepository<PCMMSubelement, Integer> {
 
+	/**
+	 * Count the subelements with one aggregate query.
+	 * 
+	 * @return the number of subelements by element id
+	 */
+	Map<Integer, Integer> countByElement();
 }
@@ -14,4 +14,9 @@ import gov.sandia.cf.model.Tag;
 @Repository
 public interface ITagRepository extends ICRUDRepository<Tag, Integer> {
 
+	/**
+	 * @return the last version number of the copy-on-write tags, or null if there
+	 *         is none
+	 */
+	Integer findLastVersionNumber();
 }
@@ -0,0 +1,136 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.dao;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+
+import org.eclipse.persistence.jpa.JpaHelper;
+import org.eclipse.persistence.sessions.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The cache of the JPQL query plans built at runtime. The first time a query
+ * plan is used, its JPQL string is built and parsed, and the query is
+ * registered as a named query in the entity manager factory. The next queries
+ * with the same plan, from any repository of the factory, are created from the
+ * named query, without building and parsing the JPQL string again.
+ *
+ * The plan key must identify the JPQL string: the query parameters are bound
+ * to the created query and are not part of the plan.
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class QueryPlanCache {
+
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(QueryPlanCache.class);
+
+	/** The named query names by plan key. */
+	private final Map<String, String> plans;
+
+	/** The number of queries created from a cached plan. */
+	private final AtomicLong hitCount;
+
+	/** The number of queries built and parsed. */
+	private final AtomicLong missCount;
+
+	/**
+	 * Instantiates a new empty query plan cache.
+	 */
+	public QueryPlanCache() {
+		this.plans = new ConcurrentHashMap<>();
+		this.hitCount = new AtomicLong();
+		this.missCount = new AtomicLong();
+	}
+
+	/**
+	 * Create the query of the plan. The query is created from the named query if
+	 * the plan is registered in the entity manager factory, by this cache or by the
+	 * cache of another repository, otherwise the JPQL string is built, parsed and
+	 * registered as a named query.
+	 *
+	 * @param <T>           the result type
+	 * @param entityManager the entity manager
+	 * @param resultClass   the result class
+	 * @param planKey       the plan key
+	 * @param jpql          the JPQL string builder, called on cache miss only
+	 * @return the query to bind the parameters to
+	 */
+	public <T> TypedQuery<T> createQuery(EntityManager entityManager, Class<T> resultClass, String planKey,
+			Supplier<String> jpql) {
+
+		String name = plans.get(planKey);
+		if (name == null) {
+			name = getQueryName(resultClass, planKey);
+		}
+
+		// look up the session queries: a failed createNamedQuery would mark the
+		// active transaction as rollback only
+		Session session = JpaHelper.getEntityManager(entityManager).getServerSession();
+		if (session.getQuery(name) != null) {
+			plans.putIfAbsent(planKey, name);
+			hitCount.incrementAndGet();
+			return entityManager.createNamedQuery(name, resultClass);
+		}
+
+		missCount.incrementAndGet();
+		TypedQuery<T> query = entityManager.createQuery(jpql.get(), resultClass);
+		entityManager.getEntityManagerFactory().addNamedQuery(name, query);
+		plans.put(planKey, name);
+		logger.debug("Query plan cached: {}", name); //$NON-NLS-1$
+
+		return query;
+	}
+
+	/**
+	 * Get the named query name of the plan.
+	 *
+	 * @param resultClass the result class
+	 * @param planKey     the plan key
+	 * @return the named query name
+	 */
+	private static String getQueryName(Class<?> resultClass, String planKey) {
+		return resultClass.getName() + "[" + planKey + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * @return the number of queries created from a cached plan
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * @return the number of queries built and parsed
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * @return the number of cached plans
+	 */
+	public int size() {
+		return plans.size();
+	}
+
+	/**
+	 * Clear the cached plans and the counters.
+	 */
+	public void clear() {
+		plans.clear();
+		hitCount.set(0);
+		missCount.set(0);
+	}
+}
@@ -8,18 +8,25 @@ import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.text.MessageFormat;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
 import javax.persistence.PersistenceException;
 
+import org.eclipse.persistence.config.BatchWriting;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import gov.sandia.cf.dao.CredibilityDaoRuntimeException;
+import gov.sandia.cf.dao.CredibilityDaoRuntimeException.CredibilityDaoRuntimeMessage;
 import gov.sandia.cf.dao.IDBManager;
 import gov.sandia.cf.exceptions.CredibilityDatabaseInvalidException;
 import gov.sandia.cf.exceptions.CredibilityException;
@@ -88,6 +95,26 @@ public class HSQLDBDaoManager implements IDBManager {
 	 */
 	public static final String QUERY_SHUTDOWN = "SHUTDOWN";//$NON-NLS-1$
 
+	/**
+	 * query backup, the directory path must end with a path separator
+	 */
+	public static final String QUERY_BACKUP = "BACKUP DATABASE TO ''{0}'' BLOCKING AS FILES";//$NON-NLS-1$
+
+	/**
+	 * The JDBC connection pools bounds. The shared entity manager keeps one
+	 * connection, the others are used by the thread entity managers.
+	 */
+	public static final int CONNECTION_POOL_MIN = 1;
+	/** The JDBC connection pools max size */
+	public static final int CONNECTION_POOL_MAX = 8;
+	/**
+	 * The JDBC batch writing size, must be consistent with
+	 * {@link gov.sandia.cf.dao.AbstractCRUDRepository#BATCH_FLUSH_SIZE}
+	 */
+	public static final int BATCH_WRITING_SIZE = 100;
+	/** The default JDBC connection pool name */
+	private static final String CONNECTION_POOL_DEFAULT = PersistenceUnitProperties.CONNECTION_POOL + "default."; //$NON-NLS-1$
+
 	/**
 	 * The database filepath
 	 */
@@ -99,10 +126,27 @@ public class HSQLDBDaoManager implements IDBManager {
 	private EntityManagerFactory factory;
 
 	/**
-	 * The database entity manager
+	 * The database entity manager shared by all the threads without their own
+	 * entity manager
 	 */
 	private EntityManager entityManager;
 
+	/**
+	 * The entity manager given to the repositories. It routes the calls to the
+	 * current thread entity manager.
+	 */
+	private EntityManager routingEntityManager;
+
+	/**
+	 * The entity manager bound to the current thread
+	 */
+	private final ThreadLocal<ThreadEntityManager> threadEntityManager = new ThreadLocal<>();
+
+	/**
+	 * The opened thread entity managers, to close them with the database
+	 */
+	private final Set<EntityManager> threadEntityManagers = ConcurrentHashMap.newKeySet();
+
 	/**
 	 * The entity persist unit
 	 */
@@ -129,9 +173,69 @@ public class HSQLDBDaoManager implements IDBManager {
 	 */
 	@Override
 	public EntityManager getEntityManager() {
-		synchronized (entityManager) {
-			return entityManager;
+		return routingEntityManager;
+	}
+
+	/**
+	 * @return the entity manager bound to the current thread if there is one,
+	 *         otherwise the shared entity manager
+	 */
+	private EntityManager getCurrentEntityManager() {
+		ThreadEntityManager current = threadEntityManager.get();
+		return current != null ? current.entityManager : entityManager;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void openThreadEntityManager() {
+		ThreadEntityManager current = threadEntityManager.get();
+		if (current != null) {
+			current.depth++;
+			return;
+		}
+
+		if (factory == null || !factory.isOpen()) {
+			throw new CredibilityDaoRuntimeException(CredibilityDaoRuntimeMessage.DB_NOT_INITIALIZED);
 		}
+
+		EntityManager newEntityManager = factory.createEntityManager();
+		threadEntityManagers.add(newEntityManager);
+		threadEntityManager.set(new ThreadEntityManager(newEntityManager));
+		logger.debug("Thread entity manager opened for {}", Thread.currentThread().getName()); //$NON-NLS-1$
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void closeThreadEntityManager() {
+		ThreadEntityManager current = threadEntityManager.get();
+		if (current == null) {
+			return;
+		}
+		if (--current.depth > 0) {
+			return;
+		}
+
+		threadEntityManager.remove();
+		threadEntityManagers.remove(current.entityManager);
+		if (current.entityManager.isOpen()) {
+			if (current.entityManager.getTransaction().isActive()) {
+				current.entityManager.getTransaction().rollback();
+			}
+			current.entityManager.close();
+		}
+		logger.debug("Thread entity manager closed for {}", Thread.currentThread().getName()); //$NON-NLS-1$
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasThreadEntityManager() {
+		return threadEntityManager.get() != null;
 	}
 
 	/**
@@ -179,9 +283,28 @@ public class HSQLDBDaoManager implements IDBManager {
 		// setting database path property
 		Map<String, String> properties = new HashMap<>();
 		properties.put(JDBC_URL, connectionUrl);
+
+		// bounded JDBC connection pools shared by the entity managers
+		String poolMin = String.valueOf(CONNECTION_POOL_MIN);
+		String poolMax = String.valueOf(CONNECTION_POOL_MAX);
+		properties.put(CONNECTION_POOL_DEFAULT + PersistenceUnitProperties.CONNECTION_POOL_INITIAL, poolMin);
+		properties.put(CONNECTION_POOL_DEFAULT + PersistenceUnitProperties.CONNECTION_POOL_MIN, poolMin);
+		properties.put(CONNECTION_POOL_DEFAULT + PersistenceUnitProperties.CONNECTION_POOL_MAX, poolMax);
+		properties.put(PersistenceUnitProperties.CONNECTION_POOL_READ + PersistenceUnitProperties.CONNECTION_POOL_INITIAL,
+				poolMin);
+		properties.put(PersistenceUnitProperties.CONNECTION_POOL_READ + PersistenceUnitProperties.CONNECTION_POOL_MIN,
+				poolMin);
+		properties.put(PersistenceUnitProperties.CONNECTION_POOL_READ + PersistenceUnitProperties.CONNECTION_POOL_MAX,
+				poolMax);
+
+		// group the statements of a transaction in JDBC batches
+		properties.put(PersistenceUnitProperties.BATCH_WRITING, BatchWriting.JDBC);
+		properties.put(PersistenceUnitProperties.BATCH_WRITING_SIZE, String.valueOf(BATCH_WRITING_SIZE));
+
 		factory = Persistence.createEntityManagerFactory(entityPersistUnit, properties);
 		try {
 			entityManager = factory.createEntityManager();
+			routingEntityManager = ThreadEntityManagerRouter.newRoutingEntityManager(this::getCurrentEntityManager);
 		} catch (PersistenceException e) {
 			throw new CredibilityDatabaseInvalidException(e);
 		} catch (Exception e) {
@@ -197,6 +320,15 @@ public class HSQLDBDaoManager implements IDBManager {
 	@Override
 	public void close() throws CredibilityException {
 
+		// closing thread entity managers still opened
+		for (EntityManager toClose : threadEntityManagers) {
+			if (toClose.isOpen()) {
+				toClose.close();
+			}
+		}
+		threadEntityManagers.clear();
+		threadEntityManager.remove();
+
 		// closing entity manager (database connection)
 		if (entityManager != null && entityManager.isOpen()) {
 			synchronized (entityManager) {
@@ -233,6 +365,36 @@ public class HSQLDBDaoManager implements IDBManager {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void backup(File directory) throws CredibilityException {
+
+		if (factory == null || !factory.isOpen() || directory == null) {
+			return;
+		}
+
+		// the backup runs on its own connection and blocks the writes of the others
+		// until the files are copied
+		String path = directory.getAbsolutePath().replace('\\', '/').replace("'", "''") //$NON-NLS-1$ //$NON-NLS-2$
+				+ FileTools.PATH_SEPARATOR;
+		EntityManager backupEm = factory.createEntityManager();
+		try {
+			backupEm.getTransaction().begin();
+			backupEm.createNativeQuery(MessageFormat.format(QUERY_BACKUP, path)).executeUpdate();
+			backupEm.getTransaction().commit();
+			logger.debug("Backup of database {} into {}", databaseDirectoryPath, directory); //$NON-NLS-1$
+		} catch (Exception e) {
+			if (backupEm.getTransaction().isActive()) {
+				backupEm.getTransaction().rollback();
+			}
+			throw new CredibilityException(e);
+		} finally {
+			backupEm.close();
+		}
+	}
+
 	/**
 	 * Create a new database stored in filepath location (full path must be
 	 * specified). The database name is specified by default.
@@ -261,4 +423,18 @@ public class HSQLDBDaoManager implements IDBManager {
 		File file = new File(databaseDirectoryPath);
 		return file.exists();
 	}
+
+	/**
+	 * The entity manager bound to a thread and its opening count
+	 */
+	private static class ThreadEntityManager {
+
+		private final EntityManager entityManager;
+		private int depth;
+
+		ThreadEntityManager(EntityManager entityManager) {
+			this.entityManager = entityManager;
+			this.depth = 1;
+		}
+	}
 }
@@ -0,0 +1,76 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.dao.hsqldb;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+import javax.persistence.EntityManager;
+
+/**
+ * Routes every entity manager call to the entity manager of the calling thread.
+ *
+ * The repositories keep a single entity manager reference for their whole life.
+ * Giving them the routing proxy allows a background thread to open its own
+ * entity manager (and pooled JDBC connection) without changing the
+ * repositories.
+ *
+ * @author Didier Verstraete
+ *
+ */
+class ThreadEntityManagerRouter implements InvocationHandler {
+
+	/**
+	 * The current thread entity manager supplier
+	 */
+	private final Supplier<EntityManager> currentEntityManager;
+
+	/**
+	 * Constructor
+	 *
+	 * @param currentEntityManager the current thread entity manager supplier
+	 */
+	private ThreadEntityManagerRouter(Supplier<EntityManager> currentEntityManager) {
+		this.currentEntityManager = currentEntityManager;
+	}
+
+	/**
+	 * Create a new routing entity manager
+	 *
+	 * @param currentEntityManager the current thread entity manager supplier
+	 * @return the routing entity manager
+	 */
+	static EntityManager newRoutingEntityManager(Supplier<EntityManager> currentEntityManager) {
+		return (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(),
+				new Class<?>[] { EntityManager.class }, new ThreadEntityManagerRouter(currentEntityManager));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+		// object methods are answered by the proxy itself
+		if (method.getDeclaringClass() == Object.class) {
+			switch (method.getName()) {
+			case "equals": //$NON-NLS-1$
+				return proxy == args[0];
+			case "hashCode": //$NON-NLS-1$
+				return System.identityHashCode(proxy);
+			default:
+				return ThreadEntityManagerRouter.class.getSimpleName();
+			}
+		}
+
+		try {
+			return method.invoke(currentEntityManager.get(), args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.dao.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.persistence.EntityManager;
+
+import gov.sandia.cf.dao.AbstractCRUDRepository;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.GenericValueTaggable;
+import gov.sandia.cf.model.ITagVersioned;
+import gov.sandia.cf.model.Tag;
+import gov.sandia.cf.model.query.EntityFilter;
+import gov.sandia.cf.model.query.NullParameter;
+
+/**
+ * The taggable value repository: the current values are shared with the
+ * copy-on-write tags, and copied into them before they are updated or deleted.
+ *
+ * @author Didier Verstraete
+ *
+ * @param <E> the taggable value type
+ */
+public abstract class AbstractTaggableValueRepository<E extends GenericValueTaggable<?, E>>
+		extends AbstractCRUDRepository<E, Integer> {
+
+	/**
+	 * The copy-on-write of the current values into the tags
+	 */
+	private final TagCopyOnWrite<E> copyOnWrite;
+
+	/**
+	 * empty constructor: if using, must call setEntityManager later
+	 *
+	 * @param entityClass the entity class
+	 * @param copyOnWrite the copy-on-write of the current values
+	 */
+	protected AbstractTaggableValueRepository(Class<E> entityClass, TagCopyOnWrite<E> copyOnWrite) {
+		super(entityClass);
+		this.copyOnWrite = copyOnWrite;
+	}
+
+	/**
+	 * constructor
+	 *
+	 * @param entityManager the entity manager
+	 * @param entityClass   the entity class
+	 * @param copyOnWrite   the copy-on-write of the current values
+	 */
+	protected AbstractTaggableValueRepository(EntityManager entityManager, Class<E> entityClass,
+			TagCopyOnWrite<E> copyOnWrite) {
+		super(entityManager, entityClass);
+		this.copyOnWrite = copyOnWrite;
+	}
+
+	/**
+	 * Get the values of the tag view.
+	 *
+	 * @param tag   the tag (null for the current values)
+	 * @param query the query of the values tagged with the tag (null tag for the
+	 *              current values)
+	 * @return the values copied into the tag and the current values shared with
+	 *         it for a copy-on-write tag, the values tagged with the tag otherwise
+	 */
+	protected List<E> findInTag(Tag tag, Function<Tag, List<E>> query) {
+		if (TagCopyOnWrite.isCopyOnWrite(getEntityManager(), tag)) {
+			return ITagVersioned.asOfTag(tag, query.apply(tag), query.apply(null));
+		}
+		return query.apply(tag);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The filter on a copy-on-write tag returns the view of the tag.
+	 */
+	@Override
+	public List<E> findBy(Map<EntityFilter, Object> filters, Map<EntityFilter, String> order) {
+
+		Object tag = filters != null ? filters.get(GenericValueTaggable.Filter.TAG) : null;
+		if (!TagCopyOnWrite.isCopyOnWrite(getEntityManager(), tag)) {
+			return super.findBy(filters, order);
+		}
+
+		Map<EntityFilter, Object> currentFilters = new HashMap<>(filters);
+		currentFilters.put(GenericValueTaggable.Filter.TAG, NullParameter.NULL);
+
+		return ITagVersioned.asOfTag((Tag) tag, super.findBy(filters, order), super.findBy(currentFilters, order));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E create(E entity) throws CredibilityException {
+		copyOnWrite.beforeCreate(getEntityManager(), Collections.singletonList(entity));
+		return super.create(entity);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<E> createAll(List<E> entities) throws CredibilityException {
+		if (entities != null) {
+			copyOnWrite.beforeCreate(getEntityManager(), entities);
+		}
+		return super.createAll(entities);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E update(E entityUpdated) throws CredibilityException {
+		copyOnWrite.beforeUpdate(getEntityManager(), Collections.singletonList(entityUpdated));
+		return super.update(entityUpdated);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<E> updateAll(List<E> entitiesUpdated) throws CredibilityException {
+		copyOnWrite.beforeUpdate(getEntityManager(), entitiesUpdated);
+		return super.updateAll(entitiesUpdated);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void delete(E entity) {
+		copyOnWrite.beforeDelete(getEntityManager(), Collections.singletonList(entity));
+		super.delete(entity);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void deleteAll(List<E> entities) {
+		copyOnWrite.beforeDelete(getEntityManager(), entities);
+		super.deleteAll(entities);
+	}
+}
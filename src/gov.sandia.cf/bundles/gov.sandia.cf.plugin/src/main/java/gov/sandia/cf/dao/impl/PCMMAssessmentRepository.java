@@ -6,8 +6,10 @@ package gov.sandia.cf.dao.impl;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
@@ -18,6 +20,8 @@ import org.slf4j.LoggerFactory;
 
 import gov.sandia.cf.dao.AbstractCRUDRepository;
 import gov.sandia.cf.dao.IPCMMAssessmentRepository;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.ITagVersioned;
 import gov.sandia.cf.model.PCMMAssessment;
 import gov.sandia.cf.model.PCMMElement;
 import gov.sandia.cf.model.PCMMMode;
@@ -75,6 +79,26 @@ public class PCMMAssessmentRepository extends AbstractCRUDRepository<PCMMAssessm
 			+ " FROM PCMMAssessment a LEFT JOIN a.tag t GROUP BY a.roleCreation, a.userCreation, a.element, t" //$NON-NLS-1$
 			+ " HAVING COUNT(a.id) > 1"; //$NON-NLS-1$
 
+	/**
+	 * Query count the subelements with assessments by element: {0} the tag condition
+	 */
+	private static final String QUERY_COUNT_SUBELEMENTS_BY_ELEMENT = "SELECT s.element.id, COUNT(DISTINCT s.id) FROM PCMMAssessment e" //$NON-NLS-1$
+			+ " JOIN e.subelement s WHERE {0} GROUP BY s.element.id"; //$NON-NLS-1$
+
+	/**
+	 * Query count the assessments by element: {0} the tag condition
+	 */
+	private static final String QUERY_COUNT_BY_ELEMENT = "SELECT el.id, COUNT(e.id) FROM PCMMAssessment e JOIN e.element el" //$NON-NLS-1$
+			+ " WHERE {0} GROUP BY el.id"; //$NON-NLS-1$
+
+	/**
+	 * The copy-on-write of the current assessments into the tags: the columns of
+	 * the assessment copy
+	 */
+	private static final TagCopyOnWrite<PCMMAssessment> COPY_ON_WRITE = new TagCopyOnWrite<>("PCMMASSESSMENT", //$NON-NLS-1$
+			"DATE_CREATION", "DATE_UPDATE", "COMMENT", "PCMMELEMENT_ID", "PCMMSUBELEMENT_ID", "ROLE_CREATION_ID", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+			"USER_CREATION_ID", "PCMMLEVEL_ID"); //$NON-NLS-1$ //$NON-NLS-2$
+
 	/**
 	 * empty constructor: if using, must call setEntityManager later
 	 */
@@ -114,6 +138,22 @@ public class PCMMAssessmentRepository extends AbstractCRUDRepository<PCMMAssessm
 			return new ArrayList<>();
 		}
 
+		if (TagCopyOnWrite.isCopyOnWrite(getEntityManager(), tag)) {
+			return ITagVersioned.asOfTag(tag, findCopiesByElementAndTagInSubelement(elt, tag),
+					findCopiesByElementAndTagInSubelement(elt, null));
+		}
+
+		return findCopiesByElementAndTagInSubelement(elt, tag);
+	}
+
+	/**
+	 * @param elt the element
+	 * @param tag the tag
+	 * @return the assessments of the element sub-elements copied into the tag, or
+	 *         the active ones if the tag is null
+	 */
+	private List<PCMMAssessment> findCopiesByElementAndTagInSubelement(PCMMElement elt, Tag tag) {
+
 		List<PCMMAssessment> returnedAssessments = null;
 
 		if (tag == null) {
@@ -207,6 +247,116 @@ public class PCMMAssessmentRepository extends AbstractCRUDRepository<PCMMAssessm
 		return findBy(filters);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<PCMMAssessment> findCopiesByTag(Tag tag) {
+
+		HashMap<EntityFilter, Object> filters = new HashMap<>();
+		filters.put(PCMMAssessment.Filter.TAG, tag);
+
+		return super.findBy(filters, null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<Integer, Integer> countProgressByElement(Tag tag, PCMMMode mode) {
+
+		Map<Integer, Integer> progressByElement = new HashMap<>();
+
+		if (PCMMMode.DEFAULT.equals(mode)) {
+			// the number of subelements with assessments
+			TagCopyOnWrite.createQueryInTag(getEntityManager(), QUERY_COUNT_SUBELEMENTS_BY_ELEMENT, "e", tag, //$NON-NLS-1$
+					Object[].class).getResultList()
+					.forEach(row -> progressByElement.put((Integer) row[0], ((Number) row[1]).intValue()));
+		} else if (PCMMMode.SIMPLIFIED.equals(mode)) {
+			// 1 if the element has assessments
+			TagCopyOnWrite.createQueryInTag(getEntityManager(), QUERY_COUNT_BY_ELEMENT, "e", tag, Object[].class) //$NON-NLS-1$
+					.getResultList()
+					.forEach(row -> progressByElement.put((Integer) row[0], ((Number) row[1]).intValue() > 0 ? 1 : 0));
+		}
+
+		return progressByElement;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * The filter on a copy-on-write tag returns the view of the tag.
+	 */
+	@Override
+	public List<PCMMAssessment> findBy(Map<EntityFilter, Object> filters, Map<EntityFilter, String> order) {
+
+		Object tag = filters != null ? filters.get(PCMMAssessment.Filter.TAG) : null;
+		if (!TagCopyOnWrite.isCopyOnWrite(getEntityManager(), tag)) {
+			return super.findBy(filters, order);
+		}
+
+		Map<EntityFilter, Object> currentFilters = new HashMap<>(filters);
+		currentFilters.put(PCMMAssessment.Filter.TAG, NullParameter.NULL);
+
+		return ITagVersioned.asOfTag((Tag) tag, super.findBy(filters, order), super.findBy(currentFilters, order));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PCMMAssessment create(PCMMAssessment entity) throws CredibilityException {
+		COPY_ON_WRITE.beforeCreate(getEntityManager(), Collections.singletonList(entity));
+		return super.create(entity);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<PCMMAssessment> createAll(List<PCMMAssessment> entities) throws CredibilityException {
+		if (entities != null) {
+			COPY_ON_WRITE.beforeCreate(getEntityManager(), entities);
+		}
+		return super.createAll(entities);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PCMMAssessment update(PCMMAssessment entityUpdated) throws CredibilityException {
+		COPY_ON_WRITE.beforeUpdate(getEntityManager(), Collections.singletonList(entityUpdated));
+		return super.update(entityUpdated);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<PCMMAssessment> updateAll(List<PCMMAssessment> entitiesUpdated) throws CredibilityException {
+		COPY_ON_WRITE.beforeUpdate(getEntityManager(), entitiesUpdated);
+		return super.updateAll(entitiesUpdated);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void delete(PCMMAssessment entity) {
+		COPY_ON_WRITE.beforeDelete(getEntityManager(), Collections.singletonList(entity));
+		super.delete(entity);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void deleteAll(List<PCMMAssessment> entities) {
+		COPY_ON_WRITE.beforeDelete(getEntityManager(), entities);
+		super.deleteAll(entities);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -278,8 +428,13 @@ public class PCMMAssessmentRepository extends AbstractCRUDRepository<PCMMAssessm
 	 * {@inheritDoc}
 	 */
 	public void clearAssessment(Role role, User user, PCMMElement element, Tag tag) {
-		// Get assessments to clear
-		List<PCMMAssessment> assessments = findByRoleAndUserAndEltAndTag(role, user, element, tag);
+		// Get assessments to clear, without the active ones shared with a tag
+		HashMap<EntityFilter, Object> filters = new HashMap<>();
+		filters.put(PCMMAssessment.Filter.TAG, tag);
+		filters.put(PCMMAssessment.Filter.ROLECREATION, role);
+		filters.put(PCMMAssessment.Filter.USERCREATION, user);
+		filters.put(PCMMAssessment.Filter.ELEMENT, element);
+		List<PCMMAssessment> assessments = super.findBy(filters, null);
 
 		// Get the first assessment id
 		Integer id = (!assessments.isEmpty()) ? assessments.get(0).getId() : -1;
@@ -296,8 +451,13 @@ public class PCMMAssessmentRepository extends AbstractCRUDRepository<PCMMAssessm
 	 * {@inheritDoc}
 	 */
 	public void clearAssessment(Role role, User user, PCMMSubelement subelement, Tag tag) {
-		// Get assessments to clear
-		List<PCMMAssessment> assessments = findByRoleAndUserAndSubeltAndTag(role, user, subelement, tag);
+		// Get assessments to clear, without the active ones shared with a tag
+		HashMap<EntityFilter, Object> filters = new HashMap<>();
+		filters.put(PCMMAssessment.Filter.TAG, tag);
+		filters.put(PCMMAssessment.Filter.ROLECREATION, role);
+		filters.put(PCMMAssessment.Filter.USERCREATION, user);
+		filters.put(PCMMAssessment.Filter.SUBELEMENT, subelement);
+		List<PCMMAssessment> assessments = super.findBy(filters, null);
 
 		// Delete assessments
 		Integer id = (!assessments.isEmpty()) ? assessments.get(0).getId() : -1;
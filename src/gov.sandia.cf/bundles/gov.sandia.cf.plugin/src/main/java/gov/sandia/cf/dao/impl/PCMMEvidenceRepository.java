@@ -3,7 +3,12 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.dao.impl;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
@@ -15,8 +20,12 @@ import gov.sandia.cf.dao.AbstractCRUDRepository;
 import gov.sandia.cf.dao.IPCMMEvidenceRepository;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.FormFieldType;
+import gov.sandia.cf.model.ITagVersioned;
 import gov.sandia.cf.model.PCMMEvidence;
+import gov.sandia.cf.model.PCMMMode;
 import gov.sandia.cf.model.Tag;
+import gov.sandia.cf.model.query.EntityFilter;
+import gov.sandia.cf.model.query.NullParameter;
 
 /**
  * Model entity repository
@@ -48,6 +57,26 @@ public class PCMMEvidenceRepository extends AbstractCRUDRepository<PCMMEvidence,
 	 */
 	public static final String QUERY_FIND_NUMBER_DUPLICATES = "SELECT e.path, count(e.path) FROM PCMMEvidence e GROUP BY e.path HAVING count(e.path) > 1"; //$NON-NLS-1$
 
+	/**
+	 * Query count the subelements with evidence by element: {0} the tag condition
+	 */
+	private static final String QUERY_COUNT_SUBELEMENTS_BY_ELEMENT = "SELECT s.element.id, COUNT(DISTINCT s.id) FROM PCMMEvidence e" //$NON-NLS-1$
+			+ " JOIN e.subelement s WHERE {0} GROUP BY s.element.id"; //$NON-NLS-1$
+
+	/**
+	 * Query count the evidence by element: {0} the tag condition
+	 */
+	private static final String QUERY_COUNT_BY_ELEMENT = "SELECT el.id, COUNT(e.id) FROM PCMMEvidence e JOIN e.element el" //$NON-NLS-1$
+			+ " WHERE {0} GROUP BY el.id"; //$NON-NLS-1$
+
+	/**
+	 * The copy-on-write of the current evidence into the tags: the columns of the
+	 * evidence copy
+	 */
+	private static final TagCopyOnWrite<PCMMEvidence> COPY_ON_WRITE = new TagCopyOnWrite<>("PCMMEVIDENCE", //$NON-NLS-1$
+			"NAME", "DATE_CREATION", "DATE_UPDATE", "DATE_FILE", "DESCRIPTION", "SECTION", "VALUE", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+			"USER_CREATION_ID", "ROLE_CREATION_ID", "PCMMELEMENT_ID", "PCMMSUBELEMENT_ID"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
 	/**
 	 * empty constructor: if using, must call setEntityManager later
 	 */
@@ -80,6 +109,19 @@ public class PCMMEvidenceRepository extends AbstractCRUDRepository<PCMMEvidence,
 	@Override
 	public List<PCMMEvidence> findByTag(Tag tag) {
 
+		if (TagCopyOnWrite.isCopyOnWrite(getEntityManager(), tag)) {
+			return ITagVersioned.asOfTag(tag, findCopiesByTag(tag), findAllActive());
+		}
+
+		return findCopiesByTag(tag);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<PCMMEvidence> findCopiesByTag(Tag tag) {
+
 		List<PCMMEvidence> evidenceList = null;
 
 		if (tag == null) {
@@ -97,6 +139,127 @@ public class PCMMEvidenceRepository extends AbstractCRUDRepository<PCMMEvidence,
 		return evidenceList;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<Integer, Integer> countProgressByElement(Tag tag, PCMMMode mode) {
+
+		Map<Integer, Integer> progressByElement = new HashMap<>();
+
+		if (PCMMMode.DEFAULT.equals(mode)) {
+			// the number of subelements with evidence
+			TagCopyOnWrite.createQueryInTag(getEntityManager(), QUERY_COUNT_SUBELEMENTS_BY_ELEMENT, "e", tag, //$NON-NLS-1$
+					Object[].class).getResultList()
+					.forEach(row -> progressByElement.put((Integer) row[0], ((Number) row[1]).intValue()));
+		} else if (PCMMMode.SIMPLIFIED.equals(mode)) {
+			// 1 if the element has evidence
+			TagCopyOnWrite.createQueryInTag(getEntityManager(), QUERY_COUNT_BY_ELEMENT, "e", tag, Object[].class) //$NON-NLS-1$
+					.getResultList()
+					.forEach(row -> progressByElement.put((Integer) row[0], ((Number) row[1]).intValue() > 0 ? 1 : 0));
+		}
+
+		return progressByElement;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * The filter on a copy-on-write tag returns the view of the tag.
+	 */
+	@Override
+	public List<PCMMEvidence> findBy(Map<EntityFilter, Object> filters, Map<EntityFilter, String> order) {
+
+		Object tag = filters != null ? filters.get(PCMMEvidence.Filter.TAG) : null;
+		if (!TagCopyOnWrite.isCopyOnWrite(getEntityManager(), tag)) {
+			return super.findBy(filters, order);
+		}
+
+		Map<EntityFilter, Object> currentFilters = new HashMap<>(filters);
+		currentFilters.put(PCMMEvidence.Filter.TAG, NullParameter.NULL);
+
+		return ITagVersioned.asOfTag((Tag) tag, super.findBy(filters, order), super.findBy(currentFilters, order));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PCMMEvidence create(PCMMEvidence entity) throws CredibilityException {
+		COPY_ON_WRITE.beforeCreate(getEntityManager(), Collections.singletonList(entity));
+		return super.create(entity);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<PCMMEvidence> createAll(List<PCMMEvidence> entities) throws CredibilityException {
+		if (entities != null) {
+			COPY_ON_WRITE.beforeCreate(getEntityManager(), entities);
+		}
+		return super.createAll(entities);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PCMMEvidence update(PCMMEvidence entityUpdated) throws CredibilityException {
+		int copied = COPY_ON_WRITE.beforeUpdate(getEntityManager(), Collections.singletonList(entityUpdated));
+		PCMMEvidence updated = super.update(entityUpdated);
+		refreshAssessables(copied, Collections.singletonList(updated));
+		return updated;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<PCMMEvidence> updateAll(List<PCMMEvidence> entitiesUpdated) throws CredibilityException {
+		int copied = COPY_ON_WRITE.beforeUpdate(getEntityManager(), entitiesUpdated);
+		List<PCMMEvidence> updated = super.updateAll(entitiesUpdated);
+		refreshAssessables(copied, updated);
+		return updated;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void delete(PCMMEvidence entity) {
+		int copied = COPY_ON_WRITE.beforeDelete(getEntityManager(), Collections.singletonList(entity));
+		super.delete(entity);
+		refreshAssessables(copied, Collections.singletonList(entity));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void deleteAll(List<PCMMEvidence> entities) {
+		int copied = COPY_ON_WRITE.beforeDelete(getEntityManager(), entities);
+		super.deleteAll(entities);
+		refreshAssessables(copied, entities);
+	}
+
+	/**
+	 * Refresh the element and subelement of the evidence if rows have been copied
+	 * on write into the tags: their evidence list does not contain the copies yet.
+	 *
+	 * @param copied       the number of rows copied
+	 * @param evidenceList the evidence updated or deleted
+	 */
+	private void refreshAssessables(int copied, List<PCMMEvidence> evidenceList) {
+		if (copied <= 0 || evidenceList == null) {
+			return;
+		}
+		evidenceList.stream().filter(Objects::nonNull)
+				.flatMap(evidence -> Stream.of(evidence.getElement(), evidence.getSubelement()))
+				.filter(Objects::nonNull).distinct().filter(getEntityManager()::contains)
+				.forEach(getEntityManager()::refresh);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
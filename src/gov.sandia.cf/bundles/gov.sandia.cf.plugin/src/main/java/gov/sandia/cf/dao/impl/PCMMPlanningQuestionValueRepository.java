@@ -13,7 +13,6 @@ import javax.persistence.TypedQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import gov.sandia.cf.dao.AbstractCRUDRepository;
 import gov.sandia.cf.dao.IPCMMPlanningQuestionValueRepository;
 import gov.sandia.cf.model.PCMMElement;
 import gov.sandia.cf.model.PCMMPlanningQuestion;
@@ -26,7 +25,7 @@ import gov.sandia.cf.model.Tag;
  * @author Didier Verstraete
  *
  */
-public class PCMMPlanningQuestionValueRepository extends AbstractCRUDRepository<PCMMPlanningQuestionValue, Integer>
+public class PCMMPlanningQuestionValueRepository extends AbstractTaggableValueRepository<PCMMPlanningQuestionValue>
 		implements IPCMMPlanningQuestionValueRepository {
 	/**
 	 * the logger
@@ -58,11 +57,19 @@ public class PCMMPlanningQuestionValueRepository extends AbstractCRUDRepository<
 	 */
 	public static final String QUERY_FIND_ALL_BY_ELEMENT_IN_SUBELT_IN_PARAMETER = "SELECT q FROM PCMMPlanningQuestionValue q WHERE q.parameter.subelement.element = :{0} and q.tag = :{1}"; //$NON-NLS-1$
 
+	/**
+	 * The copy-on-write of the current question values into the tags: the columns
+	 * of the question value copy
+	 */
+	private static final TagCopyOnWrite<PCMMPlanningQuestionValue> COPY_ON_WRITE = new TagCopyOnWrite<>(
+			"PCMM_PLANNING_QUESTION_VALUE", "VALUE", "DATE_CREATION", "DATE_UPDATE", "USER_CREATION_ID", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			"USER_UPDATE_ID", "PARAMETER_ID"); //$NON-NLS-1$ //$NON-NLS-2$
+
 	/**
 	 * Empty constructor: if using, must call setEntityManager later
 	 */
 	public PCMMPlanningQuestionValueRepository() {
-		super(PCMMPlanningQuestionValue.class);
+		super(PCMMPlanningQuestionValue.class, COPY_ON_WRITE);
 	}
 
 	/**
@@ -72,7 +79,7 @@ public class PCMMPlanningQuestionValueRepository extends AbstractCRUDRepository<
 	 *                      queries (must not be null)
 	 */
 	public PCMMPlanningQuestionValueRepository(EntityManager entityManager) {
-		super(entityManager, PCMMPlanningQuestionValue.class);
+		super(entityManager, PCMMPlanningQuestionValue.class, COPY_ON_WRITE);
 	}
 
 	/**
@@ -103,6 +110,15 @@ public class PCMMPlanningQuestionValueRepository extends AbstractCRUDRepository<
 	 */
 	@Override
 	public List<PCMMPlanningQuestionValue> findByElement(PCMMElement element, Tag selectedTag) {
+		return findInTag(selectedTag, tag -> findTaggedByElement(element, tag));
+	}
+
+	/**
+	 * @param element     the element
+	 * @param selectedTag the tag (null for the current question values)
+	 * @return the question values of the element tagged with the tag
+	 */
+	private List<PCMMPlanningQuestionValue> findTaggedByElement(PCMMElement element, Tag selectedTag) {
 
 		// check params
 		if (element == null) {
@@ -137,6 +153,15 @@ public class PCMMPlanningQuestionValueRepository extends AbstractCRUDRepository<
 	 */
 	@Override
 	public List<PCMMPlanningQuestionValue> findByElementInSubelement(PCMMElement element, Tag selectedTag) {
+		return findInTag(selectedTag, tag -> findTaggedByElementInSubelement(element, tag));
+	}
+
+	/**
+	 * @param element     the element
+	 * @param selectedTag the tag (null for the current question values)
+	 * @return the question values of the element tagged with the tag
+	 */
+	private List<PCMMPlanningQuestionValue> findTaggedByElementInSubelement(PCMMElement element, Tag selectedTag) {
 
 		// check params
 		if (element == null) {
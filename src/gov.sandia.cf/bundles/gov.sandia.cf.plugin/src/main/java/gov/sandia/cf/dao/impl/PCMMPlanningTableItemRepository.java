@@ -13,7 +13,6 @@ import javax.persistence.TypedQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import gov.sandia.cf.dao.AbstractCRUDRepository;
 import gov.sandia.cf.dao.IPCMMPlanningTableItemRepository;
 import gov.sandia.cf.model.PCMMElement;
 import gov.sandia.cf.model.PCMMPlanningTableItem;
@@ -25,7 +24,7 @@ import gov.sandia.cf.model.Tag;
  * @author Didier Verstraete
  *
  */
-public class PCMMPlanningTableItemRepository extends AbstractCRUDRepository<PCMMPlanningTableItem, Integer>
+public class PCMMPlanningTableItemRepository extends AbstractTaggableValueRepository<PCMMPlanningTableItem>
 		implements IPCMMPlanningTableItemRepository {
 	/**
 	 * the logger
@@ -41,11 +40,21 @@ public class PCMMPlanningTableItemRepository extends AbstractCRUDRepository<PCMM
 	 */
 	public static final String QUERY_FIND_ALL_BY_ELEMENT_IN_SUBELT = "SELECT v FROM PCMMPlanningTableItem v WHERE v.subelement.element = :{0} AND v.tag = :{1}"; //$NON-NLS-1$
 
+	/**
+	 * The copy-on-write of the current table items into the tags: the columns of
+	 * the table item copy, and of the copy of its table values
+	 */
+	static final TagCopyOnWrite<PCMMPlanningTableItem> COPY_ON_WRITE = new TagCopyOnWrite<PCMMPlanningTableItem>(
+			"PCMM_PLANNING_TABLE_ITEM", "VALUE", "DATE_CREATION", "DATE_UPDATE", "USER_CREATION_ID", "USER_UPDATE_ID", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+			"PARAMETER_ID", "PCMMELEMENT_ID", "PCMMSUBELEMENT_ID") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			.withChildren("PCMM_PLANNING_TABLE_VALUE", "ITEM_ID", "VALUE", "DATE_CREATION", "DATE_UPDATE", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+					"USER_CREATION_ID", "USER_UPDATE_ID", "PARAMETER_ID"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
 	/**
 	 * Empty constructor: if using, must call setEntityManager later
 	 */
 	public PCMMPlanningTableItemRepository() {
-		super(PCMMPlanningTableItem.class);
+		super(PCMMPlanningTableItem.class, COPY_ON_WRITE);
 	}
 
 	/**
@@ -55,7 +64,7 @@ public class PCMMPlanningTableItemRepository extends AbstractCRUDRepository<PCMM
 	 *                      queries (must not be null)
 	 */
 	public PCMMPlanningTableItemRepository(EntityManager entityManager) {
-		super(entityManager, PCMMPlanningTableItem.class);
+		super(entityManager, PCMMPlanningTableItem.class, COPY_ON_WRITE);
 	}
 
 	/**
@@ -63,6 +72,15 @@ public class PCMMPlanningTableItemRepository extends AbstractCRUDRepository<PCMM
 	 */
 	@Override
 	public List<PCMMPlanningTableItem> findByElementInSubelement(PCMMElement element, Tag selectedTag) {
+		return findInTag(selectedTag, tag -> findTaggedByElementInSubelement(element, tag));
+	}
+
+	/**
+	 * @param element     the element
+	 * @param selectedTag the tag (null for the current table items)
+	 * @return the table items of the element tagged with the tag
+	 */
+	private List<PCMMPlanningTableItem> findTaggedByElementInSubelement(PCMMElement element, Tag selectedTag) {
 
 		// check params
 		if (element == null) {
@@ -3,14 +3,23 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.dao.impl;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 import javax.persistence.EntityManager;
 
 import gov.sandia.cf.dao.AbstractCRUDRepository;
 import gov.sandia.cf.dao.IPCMMPlanningTableValueRepository;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.PCMMPlanningTableItem;
 import gov.sandia.cf.model.PCMMPlanningTableValue;
 
 /**
- * PCMMPlanningTableValueRepository entity repository
+ * PCMMPlanningTableValueRepository entity repository. The table values are not
+ * tagged: before a value of a current table item is created, updated or
+ * deleted, the item is copied with its values into the tags sharing it.
  * 
  * @author Didier Verstraete
  *
@@ -35,4 +44,75 @@ public class PCMMPlanningTableValueRepository extends AbstractCRUDRepository<PCM
 		super(entityManager, PCMMPlanningTableValue.class);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PCMMPlanningTableValue create(PCMMPlanningTableValue entity) throws CredibilityException {
+		copyItemsOnWrite(Collections.singletonList(entity));
+		return super.create(entity);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<PCMMPlanningTableValue> createAll(List<PCMMPlanningTableValue> entities)
+			throws CredibilityException {
+		copyItemsOnWrite(entities);
+		return super.createAll(entities);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PCMMPlanningTableValue update(PCMMPlanningTableValue entityUpdated) throws CredibilityException {
+		copyItemsOnWrite(Collections.singletonList(entityUpdated));
+		return super.update(entityUpdated);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<PCMMPlanningTableValue> updateAll(List<PCMMPlanningTableValue> entitiesUpdated)
+			throws CredibilityException {
+		copyItemsOnWrite(entitiesUpdated);
+		return super.updateAll(entitiesUpdated);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void delete(PCMMPlanningTableValue entity) {
+		copyItemsOnWrite(Collections.singletonList(entity));
+		super.delete(entity);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void deleteAll(List<PCMMPlanningTableValue> entities) {
+		copyItemsOnWrite(entities);
+		super.deleteAll(entities);
+	}
+
+	/**
+	 * Copy the current table items of the values into the tags sharing them, with
+	 * their stored values.
+	 *
+	 * @param values the values to write
+	 */
+	private void copyItemsOnWrite(List<PCMMPlanningTableValue> values) {
+		if (values == null) {
+			return;
+		}
+		List<PCMMPlanningTableItem> items = values.stream().filter(Objects::nonNull)
+				.map(PCMMPlanningTableValue::getItem).filter(Objects::nonNull).distinct()
+				.collect(Collectors.toList());
+		PCMMPlanningTableItemRepository.COPY_ON_WRITE.beforeUpdate(getEntityManager(), items);
+	}
 }
\ No newline at end of file
@@ -13,7 +13,6 @@ import javax.persistence.TypedQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import gov.sandia.cf.dao.AbstractCRUDRepository;
 import gov.sandia.cf.dao.IPCMMPlanningValueRepository;
 import gov.sandia.cf.model.PCMMElement;
 import gov.sandia.cf.model.PCMMPlanningValue;
@@ -25,7 +24,7 @@ import gov.sandia.cf.model.Tag;
  * @author Didier Verstraete
  *
  */
-public class PCMMPlanningValueRepository extends AbstractCRUDRepository<PCMMPlanningValue, Integer>
+public class PCMMPlanningValueRepository extends AbstractTaggableValueRepository<PCMMPlanningValue>
 		implements IPCMMPlanningValueRepository {
 
 	/**
@@ -43,11 +42,19 @@ public class PCMMPlanningValueRepository extends AbstractCRUDRepository<PCMMPlan
 	 */
 	public static final String QUERY_FIND_ALL_BY_ELEMENT_IN_SUBELT = "SELECT v FROM PCMMPlanningValue v WHERE v.subelement.element = :{0} AND v.tag = :{1}"; //$NON-NLS-1$
 
+	/**
+	 * The copy-on-write of the current values into the tags: the columns of the
+	 * value copy
+	 */
+	private static final TagCopyOnWrite<PCMMPlanningValue> COPY_ON_WRITE = new TagCopyOnWrite<>("PCMM_PLANNING_VALUE", //$NON-NLS-1$
+			"VALUE", "DATE_CREATION", "DATE_UPDATE", "USER_CREATION_ID", "USER_UPDATE_ID", "PARAMETER_ID", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+			"PCMMELEMENT_ID", "PCMMSUBELEMENT_ID"); //$NON-NLS-1$ //$NON-NLS-2$
+
 	/**
 	 * Empty constructor: if using, must call setEntityManager later
 	 */
 	public PCMMPlanningValueRepository() {
-		super(PCMMPlanningValue.class);
+		super(PCMMPlanningValue.class, COPY_ON_WRITE);
 	}
 
 	/**
@@ -57,7 +64,7 @@ public class PCMMPlanningValueRepository extends AbstractCRUDRepository<PCMMPlan
 	 *                      queries (must not be null)
 	 */
 	public PCMMPlanningValueRepository(EntityManager entityManager) {
-		super(entityManager, PCMMPlanningValue.class);
+		super(entityManager, PCMMPlanningValue.class, COPY_ON_WRITE);
 	}
 
 	/**
@@ -65,6 +72,15 @@ public class PCMMPlanningValueRepository extends AbstractCRUDRepository<PCMMPlan
 	 */
 	@Override
 	public List<PCMMPlanningValue> findByElementInSubelement(PCMMElement element, Tag selectedTag) {
+		return findInTag(selectedTag, tag -> findTaggedByElementInSubelement(element, tag));
+	}
+
+	/**
+	 * @param element     the element
+	 * @param selectedTag the tag (null for the current values)
+	 * @return the values of the element tagged with the tag
+	 */
+	private List<PCMMPlanningValue> findTaggedByElementInSubelement(PCMMElement element, Tag selectedTag) {
 
 		// check params
 		if (element == null) {
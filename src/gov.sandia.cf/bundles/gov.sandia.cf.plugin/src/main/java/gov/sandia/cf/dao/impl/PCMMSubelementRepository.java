@@ -3,6 +3,9 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.dao.impl;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import javax.persistence.EntityManager;
 
 import gov.sandia.cf.dao.AbstractCRUDRepository;
@@ -18,6 +21,11 @@ import gov.sandia.cf.model.PCMMSubelement;
 public class PCMMSubelementRepository extends AbstractCRUDRepository<PCMMSubelement, Integer>
 		implements IPCMMSubelementRepository {
 
+	/**
+	 * Query count the subelements by element
+	 */
+	private static final String QUERY_COUNT_BY_ELEMENT = "SELECT s.element.id, COUNT(s.id) FROM PCMMSubelement s GROUP BY s.element.id"; //$NON-NLS-1$
+
 	/**
 	 * empty constructor: if using, must call setEntityManager later
 	 */
@@ -36,4 +44,14 @@ public class PCMMSubelementRepository extends AbstractCRUDRepository<PCMMSubelem
 		super(entityManager, PCMMSubelement.class);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<Integer, Integer> countByElement() {
+		Map<Integer, Integer> countByElement = new HashMap<>();
+		getEntityManager().createQuery(QUERY_COUNT_BY_ELEMENT, Object[].class).getResultList()
+				.forEach(row -> countByElement.put((Integer) row[0], ((Number) row[1]).intValue()));
+		return countByElement;
+	}
+}
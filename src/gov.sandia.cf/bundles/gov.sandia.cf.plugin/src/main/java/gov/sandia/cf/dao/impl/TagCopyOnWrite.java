@@ -0,0 +1,303 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.dao.impl;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityTransaction;
+import javax.persistence.FlushModeType;
+import javax.persistence.PersistenceException;
+import javax.persistence.TypedQuery;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.sandia.cf.model.IEntity;
+import gov.sandia.cf.model.ITagVersioned;
+import gov.sandia.cf.model.Tag;
+
+/**
+ * The copy-on-write of the current entities shared with the copy-on-write tags
+ * (tags with a version number). Tagging does not copy the current entities:
+ * <ul>
+ * <li>a created current entity gets the version number of the next tag,</li>
+ * <li>before a current entity is updated or deleted, its database row is copied
+ * into each tag still sharing it, and it gets the version number of the next
+ * tag,</li>
+ * <li>the view of a tag is made of the entities copied into the tag and of the
+ * current entities still shared with the tag.</li>
+ * </ul>
+ *
+ * The rows are copied in the database with one native INSERT ... SELECT per
+ * entity. The copy reads the database row, and not the entity, which can
+ * already contain the pending modifications. The child rows of the entity (the
+ * values of a table item for example) can be copied with it, linked to the
+ * copies of their parent.
+ *
+ * @author Didier Verstraete
+ *
+ * @param <E> the entity type
+ */
+public class TagCopyOnWrite<E extends IEntity<E, Integer> & ITagVersioned> {
+
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(TagCopyOnWrite.class);
+
+	/**
+	 * Query copy the current row into the tags sharing it: {0} the table, {1} the
+	 * copied columns, {2} the copied columns of the source row
+	 */
+	private static final String QUERY_COPY = "INSERT INTO {0} ({1}, TAG_ID) SELECT {2}, t.ID FROM {0} s, TAG t" //$NON-NLS-1$
+			+ " WHERE s.ID = ?1 AND s.TAG_ID IS NULL AND t.VERSION_NUMBER >= COALESCE(s.TAG_VERSION, 0)"; //$NON-NLS-1$
+
+	/**
+	 * Query find the greatest id of the table: {0} the table
+	 */
+	private static final String QUERY_MAX_ID = "SELECT MAX(ID) FROM {0}"; //$NON-NLS-1$
+
+	/**
+	 * Query copy the child rows of the current row into the copies of the current
+	 * row (the parent rows created after the greatest id): {0} the child table,
+	 * {1} the copied columns, {2} the parent column, {3} the copied columns of the
+	 * source row, {4} the parent table
+	 */
+	private static final String QUERY_COPY_CHILDREN = "INSERT INTO {0} ({1}, {2}) SELECT {3}, c.ID FROM {0} s, {4} c" //$NON-NLS-1$
+			+ " WHERE s.{2} = ?1 AND c.ID > ?2"; //$NON-NLS-1$
+
+	/**
+	 * Query update the tag version of the current row: {0} the table
+	 */
+	private static final String QUERY_UPDATE_TAG_VERSION = "UPDATE {0} SET TAG_VERSION = ?1 WHERE ID = ?2"; //$NON-NLS-1$
+
+	/**
+	 * The tag parameter
+	 */
+	private static final String PARAM_TAG = "tag"; //$NON-NLS-1$
+
+	/**
+	 * The tag version parameter
+	 */
+	private static final String PARAM_TAG_VERSION = "tagVersion"; //$NON-NLS-1$
+
+	/**
+	 * Condition of the current entities: {0} the entity alias
+	 */
+	private static final String TAG_CURRENT = "{0}.tag IS NULL"; //$NON-NLS-1$
+
+	/**
+	 * Condition of the entities copied into a tag: {0} the entity alias
+	 */
+	private static final String TAG_COPY = "{0}.tag = :" + PARAM_TAG; //$NON-NLS-1$
+
+	/**
+	 * Condition of the entities of a copy-on-write tag view: {0} the entity alias
+	 */
+	private static final String TAG_COPY_ON_WRITE = "({0}.tag = :" + PARAM_TAG + " OR ({0}.tag IS NULL AND ({0}.tagVersion IS NULL" //$NON-NLS-1$ //$NON-NLS-2$
+			+ " OR {0}.tagVersion <= :" + PARAM_TAG_VERSION + ")))"; //$NON-NLS-1$ //$NON-NLS-2$
+
+	/** The copy query. */
+	private final String copyQuery;
+
+	/** The tag version update query. */
+	private final String updateTagVersionQuery;
+
+	/** The entity table. */
+	private final String table;
+
+	/** The greatest id query (null without child rows). */
+	private String maxIdQuery;
+
+	/** The child rows copy query (null without child rows). */
+	private String copyChildrenQuery;
+
+	/**
+	 * Instantiates a new tag copy-on-write.
+	 *
+	 * @param table   the entity table
+	 * @param columns the columns copied into the tags (the same fields as the
+	 *                entity copy)
+	 */
+	public TagCopyOnWrite(String table, String... columns) {
+		this.copyQuery = MessageFormat.format(QUERY_COPY, table, String.join(", ", columns), //$NON-NLS-1$
+				Arrays.stream(columns).map(column -> "s." + column).collect(Collectors.joining(", "))); //$NON-NLS-1$ //$NON-NLS-2$
+		this.updateTagVersionQuery = MessageFormat.format(QUERY_UPDATE_TAG_VERSION, table);
+		this.table = table;
+	}
+
+	/**
+	 * Copy the child rows of the entities with them.
+	 *
+	 * @param childTable   the child table
+	 * @param parentColumn the child column referencing the entity
+	 * @param columns      the columns of the child rows copied
+	 * @return this copy-on-write
+	 */
+	public TagCopyOnWrite<E> withChildren(String childTable, String parentColumn, String... columns) {
+		this.maxIdQuery = MessageFormat.format(QUERY_MAX_ID, table);
+		this.copyChildrenQuery = MessageFormat.format(QUERY_COPY_CHILDREN, childTable, String.join(", ", columns), //$NON-NLS-1$
+				parentColumn, Arrays.stream(columns).map(column -> "s." + column).collect(Collectors.joining(", ")), //$NON-NLS-1$ //$NON-NLS-2$
+				table);
+		return this;
+	}
+
+	/**
+	 * @param entityManager the entity manager
+	 * @param tagFilter     the tag filter value
+	 * @return true if the tag filter is an existing copy-on-write tag (the view of
+	 *         a deleted tag is empty)
+	 */
+	public static boolean isCopyOnWrite(EntityManager entityManager, Object tagFilter) {
+		return ITagVersioned.isCopyOnWrite(tagFilter)
+				&& entityManager.find(Tag.class, ((Tag) tagFilter).getId()) != null;
+	}
+
+	/**
+	 * Create a query on the entities of the tag view: {0} in the query string is
+	 * replaced by the condition on the tag of the entity alias. The entities of a
+	 * copy-on-write tag are the entities copied into the tag and the current
+	 * entities still shared with the tag.
+	 *
+	 * @param <T>           the result type
+	 * @param entityManager the entity manager
+	 * @param query         the query string containing the {0} tag condition
+	 * @param alias         the entity alias
+	 * @param tag           the tag (null for the current entities)
+	 * @param resultClass   the result class
+	 * @return the query
+	 */
+	public static <T> TypedQuery<T> createQueryInTag(EntityManager entityManager, String query, String alias, Tag tag,
+			Class<T> resultClass) {
+
+		TypedQuery<T> typedQuery;
+		if (tag == null || tag.getId() == null) {
+			typedQuery = entityManager.createQuery(MessageFormat.format(query, MessageFormat.format(TAG_CURRENT, alias)),
+					resultClass);
+		} else if (isCopyOnWrite(entityManager, tag)) {
+			typedQuery = entityManager.createQuery(
+					MessageFormat.format(query, MessageFormat.format(TAG_COPY_ON_WRITE, alias)), resultClass);
+			typedQuery.setParameter(PARAM_TAG, tag);
+			typedQuery.setParameter(PARAM_TAG_VERSION, tag.getVersionNumber());
+		} else {
+			typedQuery = entityManager.createQuery(MessageFormat.format(query, MessageFormat.format(TAG_COPY, alias)),
+					resultClass);
+			typedQuery.setParameter(PARAM_TAG, tag);
+		}
+
+		return typedQuery;
+	}
+
+	/**
+	 * Set the version number of the next tag to the created current entities.
+	 *
+	 * @param entityManager the entity manager
+	 * @param entities      the entities to create
+	 */
+	public void beforeCreate(EntityManager entityManager, Collection<E> entities) {
+		Integer lastVersion = TagRepository.findLastVersionNumber(entityManager);
+		int nextVersion = lastVersion != null ? lastVersion + 1 : 1;
+		entities.stream().filter(entity -> entity != null && entity.getTag() == null)
+				.forEach(entity -> entity.setTagVersion(nextVersion));
+	}
+
+	/**
+	 * Copy the current entities into the tags sharing them before they are
+	 * updated, and set them the version number of the next tag.
+	 *
+	 * @param entityManager the entity manager
+	 * @param entities      the entities to update
+	 * @return the number of rows copied
+	 */
+	public int beforeUpdate(EntityManager entityManager, Collection<E> entities) {
+		Integer lastVersion = TagRepository.findLastVersionNumber(entityManager);
+		if (lastVersion == null || entities == null) {
+			return 0;
+		}
+		int count = copy(entityManager, entities, lastVersion);
+		entities.stream().filter(entity -> entity != null && entity.getTag() == null)
+				.forEach(entity -> entity.setTagVersion(lastVersion + 1));
+		return count;
+	}
+
+	/**
+	 * Copy the current entities into the tags sharing them before they are
+	 * deleted.
+	 *
+	 * @param entityManager the entity manager
+	 * @param entities      the entities to delete
+	 * @return the number of rows copied
+	 */
+	public int beforeDelete(EntityManager entityManager, Collection<E> entities) {
+		Integer lastVersion = TagRepository.findLastVersionNumber(entityManager);
+		if (lastVersion == null || entities == null) {
+			return 0;
+		}
+		return copy(entityManager, entities, lastVersion);
+	}
+
+	/**
+	 * Copy the current entities into the tags sharing them.
+	 *
+	 * @param entityManager the entity manager
+	 * @param entities      the entities
+	 * @param lastVersion   the version number of the last tag
+	 * @return the number of rows copied
+	 */
+	private int copy(EntityManager entityManager, Collection<E> entities, int lastVersion) {
+
+		// only the current entities written before the last tag are shared
+		List<Integer> sharedIds = entities.stream()
+				.filter(entity -> entity != null && entity.getId() != null && entity.getTag() == null
+						&& (entity.getTagVersion() == null || entity.getTagVersion() <= lastVersion))
+				.map(E::getId).distinct().collect(Collectors.toList());
+		if (sharedIds.isEmpty()) {
+			return 0;
+		}
+
+		/*
+		 * the native queries must not flush the pending modifications of the entities
+		 * before the rows are copied
+		 */
+		EntityTransaction transaction = entityManager.getTransaction();
+		boolean owner = !transaction.isActive();
+		if (owner) {
+			transaction.begin();
+		}
+		int count = 0;
+		try {
+			for (Integer id : sharedIds) {
+				Object maxId = copyChildrenQuery != null
+						? entityManager.createNativeQuery(maxIdQuery).setFlushMode(FlushModeType.COMMIT)
+								.getSingleResult()
+						: null;
+				count += entityManager.createNativeQuery(copyQuery).setFlushMode(FlushModeType.COMMIT)
+						.setParameter(1, id).executeUpdate();
+				if (maxId instanceof Number) {
+					// the copies of the row are the rows created after the greatest id
+					entityManager.createNativeQuery(copyChildrenQuery).setFlushMode(FlushModeType.COMMIT)
+							.setParameter(1, id).setParameter(2, ((Number) maxId).intValue()).executeUpdate();
+				}
+				entityManager.createNativeQuery(updateTagVersionQuery).setFlushMode(FlushModeType.COMMIT)
+						.setParameter(1, lastVersion + 1).setParameter(2, id).executeUpdate();
+			}
+			if (owner) {
+				transaction.commit();
+			}
+			logger.debug("{} rows copied on write for {} current entities", count, sharedIds.size()); //$NON-NLS-1$
+		} catch (PersistenceException e) {
+			if (owner && transaction.isActive()) {
+				transaction.rollback();
+			}
+			throw e;
+		}
+
+		return count;
+	}
+}
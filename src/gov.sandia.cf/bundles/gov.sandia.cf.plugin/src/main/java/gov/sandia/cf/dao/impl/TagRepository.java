@@ -4,6 +4,7 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 package gov.sandia.cf.dao.impl;
 
 import javax.persistence.EntityManager;
+import javax.persistence.FlushModeType;
 
 import gov.sandia.cf.dao.AbstractCRUDRepository;
 import gov.sandia.cf.dao.ITagRepository;
@@ -17,6 +18,11 @@ import gov.sandia.cf.model.Tag;
  */
 public class TagRepository extends AbstractCRUDRepository<Tag, Integer> implements ITagRepository {
 
+	/**
+	 * Query find the last version number of the copy-on-write tags
+	 */
+	public static final String QUERY_FIND_LAST_VERSION_NUMBER = "SELECT MAX(t.versionNumber) FROM Tag t"; //$NON-NLS-1$
+
 	/**
 	 * empty constructor: if using, must call setEntityManager later
 	 */
@@ -35,4 +41,21 @@ public class TagRepository extends AbstractCRUDRepository<Tag, Integer> implemen
 		super(entityManager, Tag.class);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer findLastVersionNumber() {
+		return findLastVersionNumber(getEntityManager());
+	}
+
+	/**
+	 * @param entityManager the entity manager
+	 * @return the last version number of the copy-on-write tags, or null if there
+	 *         is none
+	 */
+	static Integer findLastVersionNumber(EntityManager entityManager) {
+		return entityManager.createQuery(QUERY_FIND_LAST_VERSION_NUMBER, Integer.class)
+				.setFlushMode(FlushModeType.COMMIT).getSingleResult();
+	}
+}
@@ -26,6 +26,7 @@ import gov.sandia.cf.model.Model;
 import gov.sandia.cf.model.OpenLinkBrowserOption;
 import gov.sandia.cf.model.Role;
 import gov.sandia.cf.model.User;
+import gov.sandia.cf.model.dto.ModelDto;
 import gov.sandia.cf.model.dto.configuration.DecisionSpecification;
 import gov.sandia.cf.model.dto.configuration.PCMMSpecification;
 import gov.sandia.cf.model.dto.configuration.PIRTQuery;
@@ -36,6 +37,8 @@ import gov.sandia.cf.model.dto.configuration.UncertaintySpecification;
 import gov.sandia.cf.parts.services.setup.ISetupService;
 import gov.sandia.cf.preferences.PrefTools;
 import gov.sandia.cf.tools.CFVariableResolver;
+import gov.sandia.cf.web.WebEntityChange;
+import gov.sandia.cf.web.WebappConstants;
 import gov.sandia.cf.web.services.authentication.IAuthenticationService;
 import gov.sandia.cf.web.services.global.IModelWebClient;
 
@@ -144,12 +147,38 @@ public class CFCache {
 	public void refreshModel() throws CredibilityException {
 		if (credibilityEditor.isWebConnection()) {
 			this.model = credibilityEditor.getWebClient().getService(IModelWebClient.class)
-					.loadModel(getCFClientSetup().getModelId());
+					.refreshModel(getCFClientSetup().getModelId());
 		} else {
 			this.model = credibilityEditor.getAppMgr().getService(IGlobalApplication.class).loadModel();
 		}
 	}
 
+	/**
+	 * Web only.
+	 * 
+	 * Patch the cached data with an entity change sent by the server, instead of
+	 * reloading it. Must be called in the UI thread, where the cached data is read.
+	 * 
+	 * @param change the entity change
+	 * @return true if the cached data has been patched
+	 */
+	public boolean applyEntityChange(WebEntityChange change) {
+		if (change == null || model == null) {
+			return false;
+		}
+
+		if (change.is(WebappConstants.CF_WEB_CONST_DATA_MODEL, WebEntityChange.ACTION_UPDATED)) {
+			ModelDto modelDto = change.getValue(ModelDto.class);
+			if (modelDto != null && model.getId() != null && model.getId().equals(modelDto.getId())) {
+				model.setApplication(modelDto.getApplication());
+				model.setContact(modelDto.getContact());
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	/**
 	 * @return the CF Global Configuration
 	 */
@@ -0,0 +1,183 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.launcher;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.swt.widgets.Display;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.sandia.cf.constants.CredibilityFrameworkConstants;
+import gov.sandia.cf.dao.IDBManager;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.tools.DateTools;
+import gov.sandia.cf.tools.RscConst;
+import gov.sandia.cf.tools.RscTools;
+import gov.sandia.cf.tools.WorkspaceTools;
+
+/**
+ * The background save of a credibility editor. The database is copied with its
+ * writes blocked, then the snapshot is zipped into the cf file while the
+ * credibility process can be changed again against the live database.
+ *
+ * The save jobs of the same editor are run one after the other. They do not use
+ * a scheduling rule, the workspace refresh of the cf file needs its own. The
+ * editor is set as not dirty at the end of the save only if it has not been
+ * changed since the save has been requested.
+ *
+ * @author Didier Verstraete
+ */
+public class CFSaveJob extends Job {
+
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(CFSaveJob.class);
+
+	/** The number of bytes in a megabyte. */
+	private static final double MEGABYTE = 1024d * 1024d;
+
+	/** The editor. */
+	private final CredibilityEditor editor;
+
+	/** The editor modification count when the save has been requested. */
+	private final long modificationCount;
+
+	/**
+	 * Instantiates a new save job.
+	 *
+	 * @param editor            the editor to save
+	 * @param modificationCount the editor modification count when the save is
+	 *                          requested
+	 */
+	public CFSaveJob(CredibilityEditor editor, long modificationCount) {
+		super(RscTools.getString(RscConst.MSG_EDITOR_SAVE_BEGINTASK, editor.getInputFile().getName()));
+		this.editor = editor;
+		this.modificationCount = modificationCount;
+		setSystem(false);
+		setUser(false);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean belongsTo(Object family) {
+		return family == editor;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+
+		IFile inputFile = editor.getInputFile();
+		CFTmpFolderManager cfTmpFolderMgr = editor.getCfTmpFolderMgr();
+		if (inputFile == null || !inputFile.exists() || cfTmpFolderMgr == null) {
+			return Status.CANCEL_STATUS;
+		}
+
+		// one save at a time for the editor working directory
+		synchronized (cfTmpFolderMgr) {
+			return save(inputFile, cfTmpFolderMgr, monitor);
+		}
+	}
+
+	/**
+	 * Save the editor working directory into the cf file.
+	 *
+	 * @param inputFile      the cf file
+	 * @param cfTmpFolderMgr the editor working directory manager
+	 * @param monitor        the progress monitor
+	 * @return the save status
+	 */
+	private IStatus save(IFile inputFile, CFTmpFolderManager cfTmpFolderMgr, IProgressMonitor monitor) {
+
+		SubMonitor subMonitor = SubMonitor.convert(monitor,
+				RscTools.getString(RscConst.MSG_EDITOR_SAVE_BEGINTASK, inputFile), 10);
+		long start = System.currentTimeMillis();
+
+		try {
+
+			// snapshot the database, blocking its writes during the copy
+			subMonitor.subTask(RscTools.getString(RscConst.MSG_EDITOR_SAVE_SNAPSHOTTASK));
+			IDBManager dbManager = editor.getAppMgr() != null && editor.getAppMgr().getDaoManager() != null
+					? editor.getAppMgr().getDaoManager().getDbManager()
+					: null;
+			File snapshot = cfTmpFolderMgr.snapshotDatabase(dbManager);
+			long snapshotTime = System.currentTimeMillis() - start;
+			subMonitor.worked(2);
+
+			if (subMonitor.isCanceled()) {
+				cfTmpFolderMgr.deleteDatabaseSnapshot();
+				return Status.CANCEL_STATUS;
+			}
+
+			// zip the snapshot to the cf file: the new zip replaces the cf file atomically,
+			// so the current cf file is kept if the save fails
+			subMonitor.subTask(RscTools.getString(RscConst.MSG_EDITOR_SAVE_ZIPTASK));
+			cfTmpFolderMgr.saveToZip(snapshot);
+			subMonitor.worked(7);
+
+			cfTmpFolderMgr.deleteDatabaseSnapshot();
+			subMonitor.worked(1);
+
+			logThroughput(inputFile, snapshotTime, System.currentTimeMillis() - start);
+
+			// set dirty state of the editor if it has not been changed meanwhile
+			asyncExec(() -> {
+				if (!editor.isDisposed() && editor.getModificationCount() == modificationCount) {
+					editor.setDirty(false);
+				}
+			});
+
+		} catch (CoreException | IOException | CredibilityException e) {
+			logger.error(e.getMessage(), e);
+			asyncExec(() -> MessageDialog.openError(editor.getEditorShell(),
+					RscTools.getString(RscConst.ERR_CREDIBILITYEDITOR_TITLE),
+					RscTools.getString(RscConst.ERR_CREDIBILITYEDITOR_SAVING) + inputFile + RscTools.carriageReturn()
+							+ e.getMessage()));
+			return new Status(IStatus.ERROR, CredibilityFrameworkConstants.CF_PLUGIN_NAME, e.getMessage(), e);
+		} finally {
+			subMonitor.done();
+		}
+
+		return Status.OK_STATUS;
+	}
+
+	/**
+	 * Log the save duration and throughput.
+	 *
+	 * @param inputFile    the saved file
+	 * @param snapshotTime the snapshot duration in milliseconds
+	 * @param totalTime    the save duration in milliseconds
+	 */
+	private static void logThroughput(IFile inputFile, long snapshotTime, long totalTime) {
+		File file = WorkspaceTools.toFile(inputFile);
+		double sizeMB = file != null ? file.length() / MEGABYTE : 0d;
+		double throughput = totalTime > 0 ? sizeMB * 1000d / totalTime : 0d;
+		logger.info("{} saved at: {} ({} MB in {} ms, snapshot {} ms, {} MB/s)", //$NON-NLS-1$
+				inputFile.getFullPath(), DateTools.getDateFormattedDateTime(), String.format("%.2f", sizeMB), //$NON-NLS-1$
+				totalTime, snapshotTime, String.format("%.2f", throughput)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Run in the UI thread if the display is still available.
+	 *
+	 * @param runnable the runnable
+	 */
+	private static void asyncExec(Runnable runnable) {
+		Display display = Display.getDefault();
+		if (display != null && !display.isDisposed()) {
+			display.asyncExec(runnable);
+		}
+	}
+}
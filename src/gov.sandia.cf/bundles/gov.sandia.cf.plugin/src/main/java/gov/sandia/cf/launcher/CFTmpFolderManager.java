@@ -7,8 +7,9 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -22,6 +23,7 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import gov.sandia.cf.dao.IDBManager;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.tools.DateTools;
 import gov.sandia.cf.tools.FileTools;
@@ -63,6 +65,9 @@ public class CFTmpFolderManager {
 	/** The Constant CREDIBILITY_SAVE_FOLDER_NAME. */
 	public static final String CREDIBILITY_SAVE_FOLDER_NAME = "save"; //$NON-NLS-1$
 
+	/** The Constant DATABASE_LOCK_FILE_SUFFIX. */
+	private static final String DATABASE_LOCK_FILE_SUFFIX = ".lck"; //$NON-NLS-1$
+
 	/** The editor. */
 	private CredibilityEditor editor;
 
@@ -282,13 +287,18 @@ public class CFTmpFolderManager {
 	}
 
 	/**
-	 * Save to zip.
+	 * Save to zip. The working directory content is zipped directly into the cf
+	 * file, with the database folder in parameter as "data". The unchanged entries
+	 * of the cf file are reused and the cf file is replaced atomically.
 	 *
+	 * @param databaseFolder the database folder to save: the current database
+	 *                       folder or a snapshot of it
 	 * @throws CredibilityException the credibility exception
 	 * @throws IOException          Signals that an I/O exception has occurred.
 	 * @throws CoreException        the core exception
+	 * @see #snapshotDatabase(IDBManager)
 	 */
-	public void saveToZip() throws CredibilityException, IOException, CoreException {
+	public void saveToZip(File databaseFolder) throws CredibilityException, IOException, CoreException {
 
 		File tmpFolder = getTempFolder();
 
@@ -296,52 +306,94 @@ public class CFTmpFolderManager {
 			return;
 		}
 
-		// prepare save folder to zip
-		File saveFolder = new File(tmpFolder, CREDIBILITY_SAVE_FOLDER_NAME);
-		if (saveFolder.exists()) {
-			FileTools.deleteDirectoryRecursively(saveFolder);
-			logger.debug("Delete existing 'save' directory"); //$NON-NLS-1$
+		if (!tmpFolder.exists()) {
+			throw new CredibilityException(RscTools.getString(RscConst.EX_CREDEDITOR_SAVE_TMPFOLDERNULL,
+					editor.getInputFile().getFullPath(), tmpFolder));
 		}
-		Files.createDirectory(saveFolder.toPath());
-		logger.debug("Create 'save' directory"); //$NON-NLS-1$
 
-		// copy content except "data" and "save"
+		// content except "data" and "save"
+		Map<String, File> sources = new LinkedHashMap<>();
 		File[] listFilesExceptData = tmpFolder.listFiles(pathname -> pathname != null && pathname.getName() != null
 				&& !pathname.getName().startsWith(CREDIBILITY_DATABASE_FOLDER_DEFAULT_NAME)
 				&& !pathname.getName().startsWith(CREDIBILITY_SAVE_FOLDER_NAME));
-		if (listFilesExceptData != null && listFilesExceptData.length > 0) {
-			logger.debug("Copy extra content into 'save' directory"); //$NON-NLS-1$
+		if (listFilesExceptData != null) {
 			for (File source : listFilesExceptData) {
-				FileTools.copyDirectory(source, saveFolder.toPath().resolve(source.toPath().getFileName()).toFile());
+				sources.put(source.getName(), source);
 			}
 		}
 
-		// copy latest data folder to "data" in the save folder
-		// the .cf file must have a clean "data" folder
-		File currentDatabaseFolder = getCurrentDatabaseFolder();
-		if (currentDatabaseFolder != null) {
-			logger.debug("Copy data content into 'save' directory"); //$NON-NLS-1$
-			FileTools.copyDirectory(currentDatabaseFolder,
-					new File(saveFolder, CREDIBILITY_DATABASE_FOLDER_DEFAULT_NAME));
+		// database folder as "data": the .cf file must have a clean "data" folder
+		if (databaseFolder != null && databaseFolder.exists()) {
+			sources.put(CREDIBILITY_DATABASE_FOLDER_DEFAULT_NAME, databaseFolder);
 		}
 
 		// zip cf content to cf file
-		if (tmpFolder.exists()) {
-			File[] listFiles = saveFolder.listFiles();
-			if (listFiles != null && listFiles.length > 0) {
-				logger.debug("Zip 'save' directory content into {}", editor.getInputFile().getFullPath()); //$NON-NLS-1$
-				ZipTools.zipFile(Arrays.asList(listFiles), editor.getInputFile().getFullPath());
-			} else {
-				logger.warn("The cf working directory is empty. There is nothing to save."); //$NON-NLS-1$
-			}
+		if (sources.isEmpty()) {
+			logger.warn("The cf working directory is empty. There is nothing to save."); //$NON-NLS-1$
+			return;
+		}
+		logger.debug("Zip working directory content into {}", editor.getInputFile().getFullPath()); //$NON-NLS-1$
+		ZipTools.zipIncremental(sources, WorkspaceTools.toFile(editor.getInputFile()));
+
+		// refresh cf file in workspace
+		WorkspaceTools.refreshPath(editor.getInputFile().getFullPath());
+	}
+
+	/**
+	 * Snapshot the current database into the 'save' directory. The opened database
+	 * copies its files itself and blocks the writes meanwhile, so the snapshot is
+	 * consistent. The copy is fast compared to the zip, and the database can be
+	 * changed again as soon as it is done. A closed database is copied directly.
+	 *
+	 * @param dbManager the database manager of the current database
+	 * @return the database snapshot folder
+	 * @throws CredibilityException if the database backup failed
+	 * @throws IOException          Signals that an I/O exception has occurred.
+	 */
+	public File snapshotDatabase(IDBManager dbManager) throws CredibilityException, IOException {
+
+		File databaseFolder = getCurrentDatabaseFolder();
+		File tmpFolder = getTempFolder();
+		if (databaseFolder == null || !databaseFolder.exists() || tmpFolder == null) {
+			return databaseFolder;
+		}
+
+		deleteDatabaseSnapshot();
+		File snapshotFolder = new File(new File(tmpFolder, CREDIBILITY_SAVE_FOLDER_NAME),
+				CREDIBILITY_DATABASE_FOLDER_DEFAULT_NAME);
+		Files.createDirectories(snapshotFolder.toPath());
+
+		if (dbManager != null) {
+			dbManager.backup(snapshotFolder);
 		} else {
-			throw new CredibilityException(RscTools.getString(RscConst.EX_CREDEDITOR_SAVE_TMPFOLDERNULL,
-					editor.getInputFile().getFullPath(), tmpFolder));
+			// copy the database files, except the lock file and the temporary directory
+			File[] databaseFiles = databaseFolder.listFiles(file -> file.isFile()
+					&& !file.getName().endsWith(DATABASE_LOCK_FILE_SUFFIX));
+			if (databaseFiles != null) {
+				for (File databaseFile : databaseFiles) {
+					Files.copy(databaseFile.toPath(), new File(snapshotFolder, databaseFile.getName()).toPath(),
+							StandardCopyOption.COPY_ATTRIBUTES);
+				}
+			}
 		}
 
-		// delete save folder
-		FileTools.deleteDirectoryRecursively(saveFolder);
-		logger.debug("Delete 'save' directory"); //$NON-NLS-1$
+		logger.debug("Database {} snapshot into {}", databaseFolder, snapshotFolder); //$NON-NLS-1$
+
+		return snapshotFolder;
+	}
+
+	/**
+	 * Delete the database snapshot, if any.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public void deleteDatabaseSnapshot() throws IOException {
+		File tmpFolder = getTempFolder();
+		File saveFolder = tmpFolder != null ? new File(tmpFolder, CREDIBILITY_SAVE_FOLDER_NAME) : null;
+		if (saveFolder != null && saveFolder.exists()) {
+			FileTools.deleteDirectoryRecursively(saveFolder);
+			logger.debug("Delete existing 'save' directory"); //$NON-NLS-1$
+		}
 	}
 
 	/**
@@ -76,7 +76,8 @@ public class CFWebBackendLoader {
 			editor.setInError();
 		} else {
 
-			// load the message broker
+			// load the message broker, the editor patches the cache before the views
+			editor.getWebMsgMgr().addListener(editor);
 			editor.getWebMsgMgr().start();
 
 			// If the user is loaded, the method will load the views.
@@ -84,10 +85,10 @@ public class CFWebBackendLoader {
 			// CONCURRENCY SUPPORT: subscribe to the model channel
 			editor.getWebMsgMgr().subscribeToModel(editor.getCache().getModel());
 
-			// ping server to get connection status
+			// ping server in background to follow the connection status
 			editor.setPingMgr(new PingManager(webClientManager, Display.getCurrent()));
-			editor.getPingMgr().start();
 			editor.getPingMgr().addListener(editor);
+			editor.getPingMgr().start();
 
 			// TODO
 //			cache.refreshGlobalConfiguration();
@@ -11,18 +11,19 @@ import java.sql.SQLException;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
-import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.resource.LocalResourceManager;
 import org.eclipse.jface.resource.ResourceManager;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Shell;
@@ -47,13 +48,18 @@ import gov.sandia.cf.exceptions.CredibilityMigrationException;
 import gov.sandia.cf.parts.services.ClientServiceManager;
 import gov.sandia.cf.parts.services.IClientServiceManager;
 import gov.sandia.cf.parts.ui.MainViewManager;
+import gov.sandia.cf.preferences.PrefTools;
 import gov.sandia.cf.tools.DateTools;
 import gov.sandia.cf.tools.FileTools;
 import gov.sandia.cf.tools.RscConst;
 import gov.sandia.cf.tools.RscTools;
 import gov.sandia.cf.tools.WorkspaceTools;
+import gov.sandia.cf.web.IWebEventListener;
 import gov.sandia.cf.web.WebClientException;
 import gov.sandia.cf.web.WebClientRuntimeException;
+import gov.sandia.cf.web.WebEntityChange;
+import gov.sandia.cf.web.WebEvent;
+import gov.sandia.cf.web.WebappConstants;
 import gov.sandia.cf.web.message.IMessageManager;
 import gov.sandia.cf.web.services.IWebClientManager;
 import gov.sandia.cf.web.services.status.IConnectionStatusListener;
@@ -66,7 +72,7 @@ import gov.sandia.cf.web.services.status.IPingManager;
  * @author Didier Verstraete
  *
  */
-public class CredibilityEditor extends EditorPart implements Listener, IConnectionStatusListener {
+public class CredibilityEditor extends EditorPart implements Listener, IConnectionStatusListener, IWebEventListener {
 
 	/**
 	 * the logger
@@ -76,6 +82,9 @@ public class CredibilityEditor extends EditorPart implements Listener, IConnecti
 	/** The Constant CREDIBILITY_CONF_FILE_NAME. */
 	public static final String CREDIBILITY_SETUP_FILE_NAME = "setup.yml"; //$NON-NLS-1$
 
+	/** One minute in milliseconds, the autosave interval unit. */
+	private static final int ONE_MINUTE = 60 * 1000;
+
 	/**
 	 * The GUI resource manager
 	 */
@@ -111,11 +120,27 @@ public class CredibilityEditor extends EditorPart implements Listener, IConnecti
 	 */
 	private boolean dirty;
 
+	/**
+	 * The number of changes since the editor has been opened, to know if it has
+	 * been changed during a save
+	 */
+	private long modificationCount;
+
 	/**
 	 * Editor in error
 	 */
 	private boolean toClose;
 
+	/**
+	 * Editor disposed
+	 */
+	private boolean disposed;
+
+	/**
+	 * The autosave task
+	 */
+	private final Runnable autosave = this::autosave;
+
 	/**
 	 * the cf cache
 	 */
@@ -208,6 +233,7 @@ public class CredibilityEditor extends EditorPart implements Listener, IConnecti
 				new CFWebBackendLoader().load(this);
 			} else {
 				new CFLocalFileLoader().load(this);
+				scheduleAutosave();
 			}
 
 		} catch (CredibilityMigrationException | CredibilityException | CredibilityDatabaseInvalidException
@@ -322,6 +348,19 @@ public class CredibilityEditor extends EditorPart implements Listener, IConnecti
 	@Override
 	public void dispose() {
 
+		// stop autosave and wait for the running save
+		disposed = true;
+		Display display = Display.getCurrent();
+		if (display != null) {
+			display.timerExec(-1, autosave);
+		}
+		try {
+			Job.getJobManager().join(this, null);
+		} catch (InterruptedException e) {
+			logger.warn("Interrupted while waiting for the save of {}", inputFile, e); //$NON-NLS-1$
+			Thread.currentThread().interrupt();
+		}
+
 		// CONCURRENCY SUPPORT: unsubscribe to the message broker
 		if (isWebConnection()) {
 			if (webMsgMgr != null)
@@ -483,6 +522,20 @@ public class CredibilityEditor extends EditorPart implements Listener, IConnecti
 		return toClose;
 	}
 
+	/**
+	 * @return the number of changes since the editor has been opened
+	 */
+	long getModificationCount() {
+		return modificationCount;
+	}
+
+	/**
+	 * @return true if the editor has been disposed
+	 */
+	boolean isDisposed() {
+		return disposed;
+	}
+
 	/**
 	 * @return the resource manager to handle SWT resources binded to the OS (fonts,
 	 *         colors, images, cursors...)
@@ -491,63 +544,51 @@ public class CredibilityEditor extends EditorPart implements Listener, IConnecti
 		return resourceManager;
 	}
 
-	/** {@inheritDoc} */
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The save runs in background (see {@link CFSaveJob}): the editor stays usable
+	 * while the cf file is written.
+	 */
 	@Override
 	public void doSave(IProgressMonitor monitor) {
 
 		if (inputFile != null && inputFile.exists()) { // the input file can change if the file has been renamed
 
 			logger.debug("Begin save {} into {}", cfTmpFolderMgr.getTempFolderPath(), inputFile.getFullPath()); //$NON-NLS-1$
-			monitor.beginTask(RscTools.getString(RscConst.MSG_EDITOR_SAVE_BEGINTASK, inputFile), 4);
-			int cptTask = 1;
-
-			// save current cf data as a zip file
-			String oldCfFileName = inputFile.getName() + CFTmpFolderManager.OLD_FILENAME_SUFFIX
-					+ DateTools.getDateFormattedDateTimeHash();
-			IPath oldCfFilePath = cfProjectPath.append(oldCfFileName);
-
-			try {
+			new CFSaveJob(this, modificationCount).schedule();
+		}
 
-				// copy current cf file
-				logger.debug("Save current {} file as {}", inputFile.getName(), oldCfFileName); //$NON-NLS-1$
-				monitor.subTask(RscTools.getString(RscConst.MSG_EDITOR_SAVE_COPYTASK));
-				inputFile.copy(oldCfFilePath, IResource.FORCE, new NullProgressMonitor());
+		if (monitor != null) {
+			monitor.done();
+		}
+	}
 
-				// delete the current cf file without workspace method to not trigger delete
-				// events that will delete database and close connection
-				logger.debug("Delete {} file", inputFile.getName()); //$NON-NLS-1$
-				Files.delete(WorkspaceTools.toFile(inputFile).toPath());
-				monitor.worked(cptTask);
-
-				// zip cf content to cf file
-				logger.debug("Save temporary folder {} as a zip into {}", cfTmpFolderMgr.getTempFolderPath(), //$NON-NLS-1$
-						inputFile.getName());
-				monitor.subTask(RscTools.getString(RscConst.MSG_EDITOR_SAVE_ZIPTASK));
-				cfTmpFolderMgr.saveToZip();
-				cptTask++;
-				monitor.worked(cptTask);
-
-				// remove old cf file
-				logger.debug("Delete saved file {}", oldCfFileName); //$NON-NLS-1$
-				monitor.subTask(RscTools.getString(RscConst.MSG_EDITOR_SAVE_REMOVEOLDTASK));
-				WorkspaceTools.getFileInWorkspaceForPath(oldCfFilePath).delete(IResource.FORCE,
-						new NullProgressMonitor());
-				cptTask++;
-				monitor.worked(cptTask);
-
-				logger.info("{} saved at: {}", inputFile.getFullPath(), DateTools.getDateFormattedDateTime()); //$NON-NLS-1$
-				monitor.done();
-
-			} catch (CoreException | IOException | CredibilityException e) {
-				logger.error(e.getMessage(), e);
-				MessageDialog.openError(getSite().getShell(), RscTools.getString(RscConst.ERR_CREDIBILITYEDITOR_TITLE),
-						RscTools.getString(RscConst.ERR_CREDIBILITYEDITOR_SAVING) + inputFile
-								+ RscTools.carriageReturn() + e.getMessage());
-			}
+	/**
+	 * Save the editor if it is dirty, then schedule the next autosave.
+	 */
+	private void autosave() {
+		if (disposed) {
+			return;
+		}
+		if (PrefTools.getGlobalAutosaveInterval() > 0 && isDirty() && !toClose) {
+			logger.debug("Autosave {}", inputFile); //$NON-NLS-1$
+			doSave(new NullProgressMonitor());
+		}
+		scheduleAutosave();
+	}
 
-			// set dirty state of the editor
-			setDirty(false);
+	/**
+	 * Schedule the next autosave with the autosave interval preference. If the
+	 * autosave is disabled, the preference is checked again later.
+	 */
+	private void scheduleAutosave() {
+		Display display = Display.getCurrent();
+		if (disposed || display == null) {
+			return;
 		}
+		int interval = PrefTools.getGlobalAutosaveInterval();
+		display.timerExec(Math.max(1, interval) * ONE_MINUTE, autosave);
 	}
 
 	/** {@inheritDoc} */
@@ -562,6 +603,9 @@ public class CredibilityEditor extends EditorPart implements Listener, IConnecti
 	 * @param dirty the dirty state to set
 	 */
 	public void setDirty(boolean dirty) {
+		if (dirty) {
+			modificationCount++;
+		}
 		this.dirty = dirty;
 		firePropertyChange(IEditorPart.PROP_DIRTY);
 		getViewMgr().refreshSaveState();
@@ -638,6 +682,10 @@ public class CredibilityEditor extends EditorPart implements Listener, IConnecti
 
 	@Override
 	public void connectionLost() {
+		if (pingMgr != null) {
+			logger.warn("Connection to the server lost, ping latency: {}", pingMgr.getLatencyHistogram()); //$NON-NLS-1$
+		}
+
 		// refresh connection status
 		getViewMgr().refreshSaveState();
 
@@ -667,6 +715,60 @@ public class CredibilityEditor extends EditorPart implements Listener, IConnecti
 		}
 	}
 
+	@Override
+	public void handle(WebEvent e) {
+		// the web events are handled by the views
+	}
+
+	@Override
+	public void handleError(Throwable error) {
+		logger.error("Web event error: {}", error.getMessage()); //$NON-NLS-1$
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Patch the cache with the change, in the UI thread where the cache is read.
+	 * The open views handle the change themselves.
+	 */
+	@Override
+	public void handleEntityChange(WebEntityChange change) {
+		if (change == null || getEditorShell() == null || getEditorShell().isDisposed()) {
+			return;
+		}
+
+		getEditorShell().getDisplay().asyncExec(() -> {
+			if (getCache().applyEntityChange(change)) {
+				logger.debug("Cache patched with {} {}", change.getEntity(), change.getAction()); //$NON-NLS-1$
+			} else if (change.is(WebappConstants.CF_WEB_CONST_DATA_MODEL, WebEntityChange.ACTION_DELETED)) {
+				logger.warn("The model has been deleted on the server"); //$NON-NLS-1$
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * The missed events are not available anymore: reload the model, subscribe
+	 * again (the server may have restarted) and reload the active view.
+	 */
+	@Override
+	public void handleResync() {
+		if (getEditorShell() == null || getEditorShell().isDisposed()) {
+			return;
+		}
+
+		getEditorShell().getDisplay().asyncExec(() -> {
+			try {
+				getCache().refreshModel();
+				webMsgMgr.subscribeToModel(getCache().getModel());
+			} catch (CredibilityException | WebClientException e) {
+				logger.error("An error occured during resync: {}", e.getMessage(), e); //$NON-NLS-1$
+			}
+			getViewMgr().reloadActiveView();
+		});
+	}
+
 	/**
 	 * Checks if is connected.
 	 *
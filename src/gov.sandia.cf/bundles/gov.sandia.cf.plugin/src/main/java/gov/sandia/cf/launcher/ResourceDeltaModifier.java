@@ -237,6 +237,7 @@ public class ResourceDeltaModifier implements IResourceDeltaVisitor {
 		List<ACredibilityView<?>> viewsToReload = new ArrayList<>();
 
 		for (CredibilityEditor editor : openedEditors) {
+			updateEvidenceHealth(res, editor);
 			viewsToReload.addAll(getViewsImpactedInCredibilityEditor(res, editor));
 		}
 
@@ -245,6 +246,21 @@ public class ResourceDeltaModifier implements IResourceDeltaVisitor {
 		}
 	}
 
+	/**
+	 * Update the evidence error and warning counts of the editor for the file
+	 * changed.
+	 *
+	 * @param res    the resource changed
+	 * @param editor the credibility editor
+	 */
+	private void updateEvidenceHealth(IResource res, CredibilityEditor editor) {
+		if (res instanceof IFile && res.getFullPath() != null && editor != null && editor.getAppMgr() != null
+				&& editor.getAppMgr().getService(IPCMMEvidenceApp.class) != null) {
+			editor.getAppMgr().getService(IPCMMEvidenceApp.class)
+					.evidenceFileChanged(res.getFullPath().toPortableString());
+		}
+	}
+
 	/**
 	 * @param res
 	 * @param editor
@@ -135,6 +135,14 @@ public class DecisionParam extends GenericParameter<DecisionParam>
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public boolean sameAs(DecisionParam importable) {
@@ -3,6 +3,7 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.model;
 
+import javax.persistence.Column;
 import javax.persistence.FetchType;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
@@ -19,7 +20,8 @@ import gov.sandia.cf.model.query.EntityFilter;
  *
  */
 @MappedSuperclass
-public abstract class GenericValueTaggable<P extends GenericParameter<P>, E> extends GenericValue<P, E> {
+public abstract class GenericValueTaggable<P extends GenericParameter<P>, E> extends GenericValue<P, E>
+		implements ITagVersioned {
 
 	/**
 	 * serialVersionUID
@@ -59,16 +61,33 @@ public abstract class GenericValueTaggable<P extends GenericParameter<P>, E> ext
 	@JoinColumn(name = "TAG_ID")
 	private Tag tag;
 
-	@SuppressWarnings("javadoc")
+	/**
+	 * The tagVersion field linked to TAG_VERSION column: the version number of the
+	 * first copy-on-write tag containing the current value.
+	 */
+	@Column(name = "TAG_VERSION")
+	private Integer tagVersion;
+
+	@Override
 	public Tag getTag() {
 		return tag;
 	}
 
-	@SuppressWarnings("javadoc")
+	@Override
 	public void setTag(Tag tag) {
 		this.tag = tag;
 	}
 
+	@Override
+	public Integer getTagVersion() {
+		return tagVersion;
+	}
+
+	@Override
+	public void setTagVersion(Integer tagVersion) {
+		this.tagVersion = tagVersion;
+	}
+
 	@Override
 	public String toString() {
 		return "GenericValueTaggable [tag=" + tag + ", [" + super.toString() + "]]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
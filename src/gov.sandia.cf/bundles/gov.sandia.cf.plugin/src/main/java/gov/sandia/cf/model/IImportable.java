@@ -19,7 +19,17 @@ public interface IImportable<M> {
 	 * @return true, if successful
 	 */
 	boolean sameKey(M newImportable);
-	
+
+	/**
+	 * Gets the import key. Two importables have equal keys if and only if they
+	 * have the same key (see {@link #sameKey(Object)}), and importables that are
+	 * the same (see {@link #sameAs(Object)}) must have equal keys. It allows the
+	 * import analysis to index the importables by key.
+	 *
+	 * @return the import key (can be null)
+	 */
+	Object getImportKey();
+
 	/**
 	 * Same as.
 	 *
@@ -0,0 +1,117 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The Interface ITagVersioned: the tagged entities shared with the
+ * copy-on-write tags. A current entity (without tag) is part of the
+ * copy-on-write tags taken after it has been written, until it changes.
+ *
+ * @author Didier Verstraete
+ */
+public interface ITagVersioned {
+
+	/**
+	 * Gets the tag.
+	 *
+	 * @return the tag, or null for the current entity
+	 */
+	Tag getTag();
+
+	/**
+	 * Sets the tag.
+	 *
+	 * @param tag the new tag
+	 */
+	void setTag(Tag tag);
+
+	/**
+	 * Gets the tag version: the version number of the first copy-on-write tag
+	 * containing the current entity.
+	 *
+	 * @return the tag version, or null if the entity has been written before the
+	 *         first copy-on-write tag
+	 */
+	Integer getTagVersion();
+
+	/**
+	 * Sets the tag version.
+	 *
+	 * @param tagVersion the new tag version
+	 */
+	void setTagVersion(Integer tagVersion);
+
+	/**
+	 * Checks if the entity is part of the tag view.
+	 *
+	 * @param tag the tag, or null for the current view
+	 * @return true if the entity is tagged with this tag, or is a current entity
+	 *         shared with this copy-on-write tag
+	 */
+	default boolean isInTag(Tag tag) {
+		if (tag == null || tag.getId() == null) {
+			return getTag() == null;
+		}
+		if (getTag() != null) {
+			return tag.getId().equals(getTag().getId());
+		}
+		return tag.getVersionNumber() != null
+				&& (getTagVersion() == null || getTagVersion() <= tag.getVersionNumber());
+	}
+
+	/**
+	 * @param tagFilter the tag filter value
+	 * @return true if the tag filter is a copy-on-write tag
+	 */
+	static boolean isCopyOnWrite(Object tagFilter) {
+		return tagFilter instanceof Tag && ((Tag) tagFilter).getId() != null
+				&& ((Tag) tagFilter).getVersionNumber() != null;
+	}
+
+	/**
+	 * Get the view of the tag.
+	 *
+	 * @param <E>     the entity type
+	 * @param tag     the copy-on-write tag
+	 * @param tagged  the entities copied into the tag
+	 * @param current the current entities
+	 * @return the entities copied into the tag and the current entities shared
+	 *         with the tag
+	 */
+	static <E extends ITagVersioned> List<E> asOfTag(Tag tag, List<E> tagged, List<E> current) {
+		List<E> view = tagged != null ? new ArrayList<>(tagged) : new ArrayList<>();
+		if (current != null) {
+			current.stream().filter(entity -> entity != null && entity.isInTag(tag)).forEach(view::add);
+		}
+		return view;
+	}
+
+	/**
+	 * Get the view of the tag as tagged entities: the current entities shared with
+	 * the tag are replaced by detached copies tagged with the tag (to be exported
+	 * with the tag data for example).
+	 *
+	 * @param <E>  the entity type
+	 * @param tag  the tag
+	 * @param view the view of the tag
+	 * @return the tagged entities of the view
+	 */
+	static <E extends IEntity<E, Integer> & ITagVersioned> List<E> detachShared(Tag tag, List<E> view) {
+		if (!isCopyOnWrite(tag) || view == null) {
+			return view;
+		}
+		return view.stream().map(entity -> {
+			if (entity == null || entity.getTag() != null) {
+				return entity;
+			}
+			E copy = entity.copy();
+			copy.setTag(tag);
+			return copy;
+		}).collect(Collectors.toList());
+	}
+}
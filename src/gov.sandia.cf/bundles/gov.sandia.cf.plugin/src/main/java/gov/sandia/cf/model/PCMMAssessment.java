@@ -29,7 +29,7 @@ import gov.sandia.cf.tools.RscConst;
  */
 @Entity
 @Table(name = "PCMMASSESSMENT")
-public class PCMMAssessment implements Serializable, IEntity<PCMMAssessment, Integer> {
+public class PCMMAssessment implements Serializable, IEntity<PCMMAssessment, Integer>, ITagVersioned {
 
 	/**
 	 * serialVersionUID
@@ -137,6 +137,13 @@ public class PCMMAssessment implements Serializable, IEntity<PCMMAssessment, Int
 	@JoinColumn(name = "TAG_ID")
 	private Tag tag;
 
+	/**
+	 * The tagVersion field linked to TAG_VERSION column: the version number of the
+	 * first copy-on-write tag containing the current assessment.
+	 */
+	@Column(name = "TAG_VERSION")
+	private Integer tagVersion;
+
 	public Integer getId() {
 		return id;
 	}
@@ -235,6 +242,16 @@ public class PCMMAssessment implements Serializable, IEntity<PCMMAssessment, Int
 		this.tag = tag;
 	}
 
+	@Override
+	public Integer getTagVersion() {
+		return tagVersion;
+	}
+
+	@Override
+	public void setTagVersion(Integer tagVersion) {
+		this.tagVersion = tagVersion;
+	}
+
 	/**
 	 * Create a copy of current entity with id null and referenced entity or entity
 	 * list null
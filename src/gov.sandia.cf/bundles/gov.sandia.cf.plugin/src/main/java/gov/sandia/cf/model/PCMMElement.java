@@ -199,6 +199,14 @@ public class PCMMElement
 		return newImportable != null && StringTools.equals(getAbbreviation(), newImportable.getAbbreviation());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getAbbreviation();
+	}
+
 	@Override
 	public boolean sameAs(PCMMElement newImportable) {
 
@@ -33,7 +33,7 @@ import gov.sandia.cf.tools.RscTools;
  */
 @Entity
 @Table(name = "PCMMEVIDENCE")
-public class PCMMEvidence implements Serializable, IEntity<PCMMEvidence, Integer>, ISortableByIdEntity {
+public class PCMMEvidence implements Serializable, IEntity<PCMMEvidence, Integer>, ISortableByIdEntity, ITagVersioned {
 
 	private static final long serialVersionUID = 1L;
 
@@ -167,6 +167,13 @@ public class PCMMEvidence implements Serializable, IEntity<PCMMEvidence, Integer
 	@JoinColumn(name = "TAG_ID")
 	private Tag tag;
 
+	/**
+	 * The tagVersion field linked to TAG_VERSION column: the version number of the
+	 * first copy-on-write tag containing the current evidence.
+	 */
+	@Column(name = "TAG_VERSION")
+	private Integer tagVersion;
+
 	public Integer getId() {
 		return id;
 	}
@@ -381,6 +388,16 @@ public class PCMMEvidence implements Serializable, IEntity<PCMMEvidence, Integer
 		this.tag = tag;
 	}
 
+	@Override
+	public Integer getTagVersion() {
+		return tagVersion;
+	}
+
+	@Override
+	public void setTagVersion(Integer tagVersion) {
+		this.tagVersion = tagVersion;
+	}
+
 	/**
 	 * Create a copy of current entity with id null and referenced entity or entity
 	 * list null
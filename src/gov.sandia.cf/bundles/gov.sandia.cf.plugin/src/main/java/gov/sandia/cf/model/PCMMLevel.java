@@ -174,6 +174,14 @@ public class PCMMLevel implements Serializable, IEntity<PCMMLevel, Integer>, IIm
 		return newImportable != null && Objects.equals(getCode(), newImportable.getCode());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getCode();
+	}
+
 	@Override
 	public boolean sameAs(PCMMLevel importable) {
 
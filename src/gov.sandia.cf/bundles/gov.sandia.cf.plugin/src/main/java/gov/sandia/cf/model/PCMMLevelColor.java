@@ -159,6 +159,14 @@ public class PCMMLevelColor implements Serializable, IEntity<PCMMLevelColor, Int
 		return StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	@Override
 	public boolean sameAs(PCMMLevelColor newImportable) {
 
@@ -136,6 +136,14 @@ public class PCMMLevelDescriptor
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	@Override
 	public boolean sameAs(PCMMLevelDescriptor importable) {
 
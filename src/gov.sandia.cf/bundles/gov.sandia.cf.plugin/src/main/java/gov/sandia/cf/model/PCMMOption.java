@@ -98,6 +98,14 @@ public class PCMMOption implements IImportable<PCMMOption>, Serializable, IEntit
 		return newPhase != null && Objects.equals(getPhase(), newPhase.getPhase());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getPhase();
+	}
+
 	@Override
 	public boolean sameAs(PCMMOption newPhase) {
 		if (newPhase == null) {
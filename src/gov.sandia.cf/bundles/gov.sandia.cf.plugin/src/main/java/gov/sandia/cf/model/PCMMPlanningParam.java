@@ -141,6 +141,14 @@ public class PCMMPlanningParam extends GenericParameter<PCMMPlanningParam>
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public boolean sameAs(PCMMPlanningParam importable) {
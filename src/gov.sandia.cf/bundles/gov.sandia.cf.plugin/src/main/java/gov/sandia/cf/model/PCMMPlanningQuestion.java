@@ -159,6 +159,14 @@ public class PCMMPlanningQuestion extends GenericParameter<PCMMPlanningQuestion>
 		return StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public boolean sameAs(PCMMPlanningQuestion importable) {
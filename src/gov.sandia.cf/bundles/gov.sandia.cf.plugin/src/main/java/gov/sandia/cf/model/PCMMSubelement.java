@@ -166,6 +166,14 @@ public class PCMMSubelement
 		return newImportable != null && StringTools.equals(getCode(), newImportable.getCode());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getCode();
+	}
+
 	@Override
 	public boolean sameAs(PCMMSubelement importable) {
 
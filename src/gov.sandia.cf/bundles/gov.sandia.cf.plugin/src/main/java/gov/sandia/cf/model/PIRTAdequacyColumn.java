@@ -160,6 +160,14 @@ public class PIRTAdequacyColumn implements Serializable, IEntity<PIRTAdequacyCol
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	@Override
 	public boolean sameAs(PIRTAdequacyColumn newImportable) {
 
@@ -162,6 +162,14 @@ public class PIRTAdequacyColumnGuideline implements Serializable, IEntity<PIRTAd
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	@Override
 	public boolean sameAs(PIRTAdequacyColumnGuideline newImportable) {
 
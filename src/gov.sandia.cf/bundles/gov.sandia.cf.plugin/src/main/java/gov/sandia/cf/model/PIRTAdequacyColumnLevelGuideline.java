@@ -4,6 +4,7 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 package gov.sandia.cf.model;
 
 import java.io.Serializable;
+import java.util.Arrays;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -168,6 +169,15 @@ public class PIRTAdequacyColumnLevelGuideline implements Serializable,
 		return sameName && sameGuideline;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		PIRTAdequacyColumnGuideline guideline = getAdequacyColumnGuideline();
+		return Arrays.asList(getName(), guideline != null, guideline != null ? guideline.getImportKey() : null);
+	}
+
 	@Override
 	public boolean sameAs(PIRTAdequacyColumnLevelGuideline importable) {
 
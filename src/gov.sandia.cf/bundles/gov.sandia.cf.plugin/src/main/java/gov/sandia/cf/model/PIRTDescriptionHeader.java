@@ -143,6 +143,14 @@ public class PIRTDescriptionHeader implements Serializable, IEntity<PIRTDescript
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	@Override
 	public boolean sameAs(PIRTDescriptionHeader newImportable) {
 
@@ -194,6 +194,14 @@ public class PIRTLevelDifferenceColor
 		return newImportable != null && StringTools.equals(getDescription(), newImportable.getDescription());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getDescription();
+	}
+
 	@Override
 	public boolean sameAs(PIRTLevelDifferenceColor newImportable) {
 
@@ -223,6 +223,14 @@ public class PIRTLevelImportance implements Serializable, IEntity<PIRTLevelImpor
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	@Override
 	public boolean sameAs(PIRTLevelImportance newImportable) {
 
@@ -64,6 +64,14 @@ public class QoIPlanningConstraint extends GenericParameterConstraint<QoIPlannin
 		return StringTools.equals(getRule(), importable.getRule());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getRule();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
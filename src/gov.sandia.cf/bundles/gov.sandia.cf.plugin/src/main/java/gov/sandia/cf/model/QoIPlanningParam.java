@@ -133,6 +133,14 @@ public class QoIPlanningParam extends GenericParameter<QoIPlanningParam>
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public boolean sameAs(QoIPlanningParam importable) {
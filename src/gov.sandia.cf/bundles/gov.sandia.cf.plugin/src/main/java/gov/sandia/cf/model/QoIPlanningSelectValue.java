@@ -59,6 +59,14 @@ public class QoIPlanningSelectValue extends GenericParameterSelectValue<QoIPlann
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -101,6 +101,14 @@ public class Role implements Serializable, IEntity<Role, Integer>, IImportable<R
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	@Override
 	public boolean sameAs(Role newImportable) {
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
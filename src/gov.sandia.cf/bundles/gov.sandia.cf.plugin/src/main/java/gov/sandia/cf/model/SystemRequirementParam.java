@@ -138,6 +138,14 @@ public class SystemRequirementParam extends GenericParameter<SystemRequirementPa
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
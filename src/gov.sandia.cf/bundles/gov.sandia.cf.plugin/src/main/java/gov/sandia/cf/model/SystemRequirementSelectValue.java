@@ -59,6 +59,14 @@ public class SystemRequirementSelectValue extends GenericParameterSelectValue<Sy
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -46,7 +46,8 @@ public class Tag implements Serializable, IEntity<Tag, Integer> {
 		NAME("name"), //$NON-NLS-1$
 		DESCRIPTION("description"), //$NON-NLS-1$
 		DATE_TAG("dateTag"), //$NON-NLS-1$
-		USERCREATION("userCreation"); //$NON-NLS-1$
+		USERCREATION("userCreation"), //$NON-NLS-1$
+		VERSION_NUMBER("versionNumber"); //$NON-NLS-1$
 
 		private String field;
 
@@ -98,6 +99,15 @@ public class Tag implements Serializable, IEntity<Tag, Integer> {
 	@NotNull(message = RscConst.EX_TAG_USERCREATION_NULL)
 	private User userCreation;
 
+	/**
+	 * The versionNumber field linked to VERSION_NUMBER column: the version of the
+	 * copy-on-write tags. The current PCMM evidence and assessments written before
+	 * the tag are part of it, and are copied into it only when they change. The
+	 * tags without version number have a full copy of the tagged data.
+	 */
+	@Column(name = "VERSION_NUMBER")
+	private Integer versionNumber;
+
 	public Integer getId() {
 		return id;
 	}
@@ -146,6 +156,16 @@ public class Tag implements Serializable, IEntity<Tag, Integer> {
 		this.userCreation = userCreation;
 	}
 
+	@SuppressWarnings("javadoc")
+	public Integer getVersionNumber() {
+		return versionNumber;
+	}
+
+	@SuppressWarnings("javadoc")
+	public void setVersionNumber(Integer versionNumber) {
+		this.versionNumber = versionNumber;
+	}
+
 	/**
 	 * Create a copy of current entity with id null and referenced entity or entity
 	 * list null
@@ -353,6 +353,14 @@ public class Uncertainty implements Serializable, IGenericTableItem, IEntity<Unc
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	@Override
 	public boolean sameAs(Uncertainty newImportable) {
 		if (newImportable == null) {
@@ -59,6 +59,14 @@ public class UncertaintyConstraint extends GenericParameterConstraint<Uncertaint
 		return newImportable != null && StringTools.equals(getRule(), newImportable.getRule());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getRule();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -139,6 +139,14 @@ public class UncertaintyParam extends GenericParameter<UncertaintyParam>
 		return newImportable != null && StringTools.equals(getName(), newImportable.getName());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getImportKey() {
+		return getName();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
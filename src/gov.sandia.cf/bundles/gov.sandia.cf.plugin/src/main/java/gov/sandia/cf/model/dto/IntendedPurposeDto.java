@@ -38,6 +38,9 @@ public class IntendedPurposeDto implements Serializable {
 	/** The dateUpdate field linked to DATE_UPDATE column. */
 	private Date dateUpdate;
 
+	/** The entity version on the server. */
+	private Long entityVersion;
+
 	/**
 	 * Gets the id.
 	 *
@@ -146,4 +149,22 @@ public class IntendedPurposeDto implements Serializable {
 		this.dateUpdate = Optional.ofNullable(dateUpdate).map(Date::getTime).map(Date::new).orElse(dateUpdate);
 	}
 
+	/**
+	 * Gets the entity version.
+	 *
+	 * @return the entity version
+	 */
+	public Long getEntityVersion() {
+		return entityVersion;
+	}
+
+	/**
+	 * Sets the entity version.
+	 *
+	 * @param entityVersion the new entity version
+	 */
+	public void setEntityVersion(Long entityVersion) {
+		this.entityVersion = entityVersion;
+	}
+
 }
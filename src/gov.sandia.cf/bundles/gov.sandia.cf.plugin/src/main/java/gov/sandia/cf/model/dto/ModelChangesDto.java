@@ -0,0 +1,60 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.model.dto;
+
+import java.io.Serializable;
+
+/**
+ * The Class ModelChangesDto: the model entities updated on the server since
+ * the versions known by the client. An entity not updated is null.
+ *
+ * @author Didier Verstraete
+ */
+public class ModelChangesDto implements Serializable {
+
+	/** serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** The model. */
+	private ModelDto model;
+
+	/** The intended purpose. */
+	private IntendedPurposeDto intendedPurpose;
+
+	/**
+	 * Gets the model.
+	 *
+	 * @return the model
+	 */
+	public ModelDto getModel() {
+		return model;
+	}
+
+	/**
+	 * Sets the model.
+	 *
+	 * @param model the new model
+	 */
+	public void setModel(ModelDto model) {
+		this.model = model;
+	}
+
+	/**
+	 * Gets the intended purpose.
+	 *
+	 * @return the intended purpose
+	 */
+	public IntendedPurposeDto getIntendedPurpose() {
+		return intendedPurpose;
+	}
+
+	/**
+	 * Sets the intended purpose.
+	 *
+	 * @param intendedPurpose the new intended purpose
+	 */
+	public void setIntendedPurpose(IntendedPurposeDto intendedPurpose) {
+		this.intendedPurpose = intendedPurpose;
+	}
+}
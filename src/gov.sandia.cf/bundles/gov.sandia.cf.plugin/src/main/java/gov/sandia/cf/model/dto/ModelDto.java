@@ -5,11 +5,14 @@ package gov.sandia.cf.model.dto;
 
 import java.io.Serializable;
 
+import com.google.gson.annotations.JsonAdapter;
+
 /**
  * The Class ModelDto.
  *
  * @author Didier Verstraete
  */
+@JsonAdapter(ModelDtoTypeAdapter.class)
 public class ModelDto implements Serializable {
 
 	/** serialVersionUID. */
@@ -24,6 +27,9 @@ public class ModelDto implements Serializable {
 	/** The contact. */
 	private String contact;
 
+	/** The entity version on the server. */
+	private Long entityVersion;
+
 	/**
 	 * Gets the id.
 	 *
@@ -78,4 +84,22 @@ public class ModelDto implements Serializable {
 		this.contact = contact;
 	}
 
+	/**
+	 * Gets the entity version.
+	 *
+	 * @return the entity version
+	 */
+	public Long getEntityVersion() {
+		return entityVersion;
+	}
+
+	/**
+	 * Sets the entity version.
+	 *
+	 * @param entityVersion the new entity version
+	 */
+	public void setEntityVersion(Long entityVersion) {
+		this.entityVersion = entityVersion;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.model.dto;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * The Gson type adapter of the model DTO: the fields are read and written
+ * directly from and to the JSON stream without reflection. The unknown fields
+ * sent by the server are skipped, and the null fields are not written.
+ *
+ * @author Didier Verstraete
+ */
+public class ModelDtoTypeAdapter extends TypeAdapter<ModelDto> {
+
+	/** The id field. */
+	static final String ID = "id"; //$NON-NLS-1$
+
+	/** The application field. */
+	static final String APPLICATION = "application"; //$NON-NLS-1$
+
+	/** The contact field. */
+	static final String CONTACT = "contact"; //$NON-NLS-1$
+
+	/** The entity version field. */
+	static final String ENTITY_VERSION = "entityVersion"; //$NON-NLS-1$
+
+	/** {@inheritDoc} */
+	@Override
+	public void write(JsonWriter out, ModelDto value) throws IOException {
+
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		out.name(ID).value(value.getId());
+		out.name(APPLICATION).value(value.getApplication());
+		out.name(CONTACT).value(value.getContact());
+		out.name(ENTITY_VERSION).value(value.getEntityVersion());
+		out.endObject();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ModelDto read(JsonReader in) throws IOException {
+
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		ModelDto dto = new ModelDto();
+		in.beginObject();
+		while (in.hasNext()) {
+			String name = in.nextName();
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				continue;
+			}
+			switch (name) {
+			case ID:
+				dto.setId(in.nextInt());
+				break;
+			case APPLICATION:
+				dto.setApplication(in.nextString());
+				break;
+			case CONTACT:
+				dto.setContact(in.nextString());
+				break;
+			case ENTITY_VERSION:
+				dto.setEntityVersion(in.nextLong());
+				break;
+			default:
+				in.skipValue();
+				break;
+			}
+		}
+		in.endObject();
+
+		return dto;
+	}
+}
@@ -0,0 +1,123 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The Class ModelPageDto: one page of the model list.
+ *
+ * @author Didier Verstraete
+ */
+public class ModelPageDto implements Serializable {
+
+	/** serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** The page content. */
+	private List<ModelDto> content;
+
+	/** The page number. */
+	private int page;
+
+	/** The page size. */
+	private int size;
+
+	/** The total number of models. */
+	private long totalElements;
+
+	/** The total number of pages. */
+	private int totalPages;
+
+	/**
+	 * Gets the content.
+	 *
+	 * @return the content
+	 */
+	public List<ModelDto> getContent() {
+		return content;
+	}
+
+	/**
+	 * Sets the content.
+	 *
+	 * @param content the new content
+	 */
+	public void setContent(List<ModelDto> content) {
+		this.content = content;
+	}
+
+	/**
+	 * Gets the page number.
+	 *
+	 * @return the page number
+	 */
+	public int getPage() {
+		return page;
+	}
+
+	/**
+	 * Sets the page number.
+	 *
+	 * @param page the new page number
+	 */
+	public void setPage(int page) {
+		this.page = page;
+	}
+
+	/**
+	 * Gets the page size.
+	 *
+	 * @return the page size
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Sets the page size.
+	 *
+	 * @param size the new page size
+	 */
+	public void setSize(int size) {
+		this.size = size;
+	}
+
+	/**
+	 * Gets the total number of models.
+	 *
+	 * @return the total number of models
+	 */
+	public long getTotalElements() {
+		return totalElements;
+	}
+
+	/**
+	 * Sets the total number of models.
+	 *
+	 * @param totalElements the new total number of models
+	 */
+	public void setTotalElements(long totalElements) {
+		this.totalElements = totalElements;
+	}
+
+	/**
+	 * Gets the total number of pages.
+	 *
+	 * @return the total number of pages
+	 */
+	public int getTotalPages() {
+		return totalPages;
+	}
+
+	/**
+	 * Sets the total number of pages.
+	 *
+	 * @param totalPages the new total number of pages
+	 */
+	public void setTotalPages(int totalPages) {
+		this.totalPages = totalPages;
+	}
+}
@@ -6,6 +6,7 @@ package gov.sandia.cf.parts.ui;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.swt.widgets.Control;
 
+import gov.sandia.cf.web.WebEntityChange;
 import gov.sandia.cf.web.WebEvent;
 
 /**
@@ -137,4 +138,9 @@ public abstract class AViewController<M extends IViewManager, V extends ICredibi
 		// default implement is doing nothing. To override.
 	}
 
+	@Override
+	public void handleEntityChange(WebEntityChange change) {
+		// default implement is doing nothing. To override.
+	}
+
 }
@@ -5,6 +5,7 @@ package gov.sandia.cf.parts.ui;
 
 import org.eclipse.swt.widgets.Control;
 
+import gov.sandia.cf.web.WebEntityChange;
 import gov.sandia.cf.web.WebEvent;
 
 /**
@@ -79,6 +80,13 @@ public interface IViewController {
 	 */
 	void handleWebEvent(WebEvent e);
 
+	/**
+	 * Handle web entity change.
+	 *
+	 * @param change the entity change
+	 */
+	void handleEntityChange(WebEntityChange change);
+
 	/**
 	 * Set the view changed properties and mechanisms
 	 */
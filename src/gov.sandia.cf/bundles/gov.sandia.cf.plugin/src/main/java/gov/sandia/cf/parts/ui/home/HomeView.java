@@ -37,6 +37,7 @@ import gov.sandia.cf.application.intendedpurpose.IIntendedPurposeApp;
 import gov.sandia.cf.application.pcmm.IPCMMApplication;
 import gov.sandia.cf.application.pcmm.IPCMMEvidenceApp;
 import gov.sandia.cf.application.pcmm.IPCMMPlanningApplication;
+import gov.sandia.cf.application.pcmm.IPCMMProgressApp;
 import gov.sandia.cf.application.pirt.IPIRTApplication;
 import gov.sandia.cf.application.qoiplanning.IQoIPlanningApplication;
 import gov.sandia.cf.application.report.IReportARGExecutionApp;
@@ -1116,7 +1117,7 @@ public class HomeView extends ACredibilityView<HomeViewController> {
 				.computeMaxProgress(configuration);
 		try {
 			currentPCMMProgress = getViewController().getViewManager().getAppManager()
-					.getService(IPCMMApplication.class).computeCurrentProgress(model, configuration);
+					.getService(IPCMMProgressApp.class).computeCurrentProgress(model, configuration);
 		} catch (CredibilityException e) {
 			logger.error(RscTools.getString(RscConst.ERR_HOMEVIEW_PCMM_PROGRESS_ERROR), e);
 			MessageDialog.openError(getShell(), RscTools.getString(RscConst.MSG_HOMEVIEW_DIALOG_TITLE),
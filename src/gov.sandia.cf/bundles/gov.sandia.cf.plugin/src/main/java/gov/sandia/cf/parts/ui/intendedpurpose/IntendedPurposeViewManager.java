@@ -22,6 +22,7 @@ import gov.sandia.cf.parts.ui.ICredibilityView;
 import gov.sandia.cf.parts.ui.IViewManager;
 import gov.sandia.cf.parts.ui.MainViewManager;
 import gov.sandia.cf.web.IWebEventListener;
+import gov.sandia.cf.web.WebEntityChange;
 import gov.sandia.cf.web.WebEvent;
 
 /**
@@ -156,6 +157,16 @@ public class IntendedPurposeViewManager extends AViewManager implements Listener
 		intendedPurposeViewCtrl.handleWebEvent(e);
 	}
 
+	/**
+	 * Handle web entity change.
+	 *
+	 * @param change the entity change
+	 */
+	@Override
+	public void handleEntityChange(WebEntityChange change) {
+		intendedPurposeViewCtrl.handleEntityChange(change);
+	}
+
 	/**
 	 * Handle web event error.
 	 *
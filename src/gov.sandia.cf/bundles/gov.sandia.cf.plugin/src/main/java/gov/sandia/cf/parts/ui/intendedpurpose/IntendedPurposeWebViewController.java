@@ -12,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import gov.sandia.cf.application.intendedpurpose.IIntendedPurposeApp;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.IntendedPurpose;
+import gov.sandia.cf.model.Model;
 import gov.sandia.cf.model.Notification;
 import gov.sandia.cf.model.dto.EntityLockInfo;
 import gov.sandia.cf.model.dto.IntendedPurposeDto;
@@ -21,10 +22,12 @@ import gov.sandia.cf.tools.GsonTools;
 import gov.sandia.cf.tools.RscConst;
 import gov.sandia.cf.tools.RscTools;
 import gov.sandia.cf.web.WebClientRuntimeException;
+import gov.sandia.cf.web.WebEntityChange;
 import gov.sandia.cf.web.WebEvent;
 import gov.sandia.cf.web.WebNotification;
 import gov.sandia.cf.web.WebNotificationMapper;
 import gov.sandia.cf.web.WebappConstants;
+import gov.sandia.cf.web.services.LockHeartbeat;
 import gov.sandia.cf.web.services.intendedpurpose.IIntendedPurposeWebClient;
 import gov.sandia.cf.web.services.intendedpurpose.IntendedPurposeMapper;
 
@@ -45,6 +48,9 @@ public class IntendedPurposeWebViewController extends
 	/** The lock token. */
 	private String lockToken;
 
+	/** The lock heartbeat, renewing the lock while editing. */
+	private LockHeartbeat lockHeartbeat;
+
 	/** The locked. */
 	private boolean locked;
 
@@ -104,6 +110,61 @@ public class IntendedPurposeWebViewController extends
 		getView().setLinkReference(intendedPurpose.getReference());
 	}
 
+	/**
+	 * Start renewing the lock periodically.
+	 */
+	private void startLockHeartbeat() {
+		stopLockHeartbeat();
+
+		Model model = getViewManager().getCache().getModel();
+		String token = lockToken;
+		IIntendedPurposeWebClient webClient = getViewManager().getWebClient()
+				.getService(IIntendedPurposeWebClient.class);
+		lockHeartbeat = new LockHeartbeat(() -> webClient.renewLock(model, token), error -> {
+			if (getView() != null && !getView().isDisposed()) {
+				getView().getDisplay().asyncExec(() -> lockLost(token, error));
+			}
+		});
+	}
+
+	/**
+	 * The lock has expired without being renewed: the changes can not be saved
+	 * anymore. Warn the user and return to the VIEW mode.
+	 *
+	 * @param token the lost lock token
+	 * @param error the last renewal error
+	 */
+	private void lockLost(String token, Exception error) {
+		if (getView() == null || getView().isDisposed() || !StringUtils.equals(token, lockToken)) {
+			return;
+		}
+
+		releaseLockToken();
+		getView().displayWarning(RscTools.getString(RscConst.MSG_INTENDEDPURPOSE_TITLE),
+				RscTools.getString(RscConst.ERR_INTENDEDPURPOSE_LOCK_LOST) + RscTools.CARRIAGE_RETURN
+						+ error.getMessage());
+		getView().setViewMode(ViewMode.VIEW);
+		getView().reload();
+	}
+
+	/**
+	 * Stop renewing the lock.
+	 */
+	private void stopLockHeartbeat() {
+		if (lockHeartbeat != null) {
+			lockHeartbeat.stop();
+			lockHeartbeat = null;
+		}
+	}
+
+	/**
+	 * Forget the lock token and stop renewing it.
+	 */
+	private void releaseLockToken() {
+		lockToken = null;
+		stopLockHeartbeat();
+	}
+
 	/**
 	 * Checks if is locked.
 	 *
@@ -137,6 +198,7 @@ public class IntendedPurposeWebViewController extends
 					lockToken = "MyLOCK"; //$NON-NLS-1$
 					lockToken = getViewManager().getWebClient().getService(IIntendedPurposeWebClient.class).lock(
 							getViewManager().getCache().getModel(), getViewManager().getCache().getUser().getUserID());
+					startLockHeartbeat();
 				}
 			}
 
@@ -146,13 +208,13 @@ public class IntendedPurposeWebViewController extends
 
 		} catch (WebClientRuntimeException e) {
 			lockView();
-			lockToken = null;
+			releaseLockToken();
 			logger.error(e.getMessage(), e);
 		} catch (CredibilityException e) {
 			getView().displayWarning(RscTools.getString(RscConst.MSG_INTENDEDPURPOSE_TITLE),
 					RscTools.getString(RscConst.ERR_INTENDEDPURPOSE_LOCK) + RscTools.CARRIAGE_RETURN + e.getMessage());
 			lockView();
-			lockToken = null;
+			releaseLockToken();
 			logger.error(e.getMessage(), e);
 		}
 	}
@@ -166,7 +228,7 @@ public class IntendedPurposeWebViewController extends
 			if (getViewManager().isWebConnection()) {
 				getViewManager().getWebClient().getService(IIntendedPurposeWebClient.class)
 						.unlock(getViewManager().getCache().getModel(), lockToken);
-				lockToken = null;
+				releaseLockToken();
 			}
 
 			// return to the VIEW mode
@@ -199,7 +261,7 @@ public class IntendedPurposeWebViewController extends
 			try {
 				getViewManager().getAppManager().getService(IIntendedPurposeWebClient.class)
 						.unlock(getViewManager().getCache().getModel(), lockToken);
-				lockToken = null;
+				releaseLockToken();
 
 			} catch (WebClientRuntimeException e) {
 				logger.error(e.getMessage(), e);
@@ -271,7 +333,7 @@ public class IntendedPurposeWebViewController extends
 
 				// set save state
 				getViewManager().viewChanged();
-				lockToken = null;
+				releaseLockToken();
 
 			} catch (CredibilityException e) {
 				logger.error("An error occured while updating the intended purpose", e); //$NON-NLS-1$
@@ -362,15 +424,21 @@ public class IntendedPurposeWebViewController extends
 					}
 				});
 			}
-		} else if (WebappConstants.CF_WEB_CONST_DATA_INTENDEDPURPOSE.equals(e.id)) {
+		}
+	}
 
-			// reload the view if the data comes from the server
-			if (lockToken == null) {
-				IntendedPurposeDto intendedPurposeDto = GsonTools.getFromGson(e.data.toString(),
-						IntendedPurposeDto.class);
-				intendedPurpose = IntendedPurposeMapper.toApp(intendedPurposeDto);
-				getView().getDisplay().syncExec(() -> getView().reload());
-			}
+	@Override
+	public void handleEntityChange(WebEntityChange change) {
+
+		if (getView() == null || getView().isDisposed()) {
+			return;
+		}
+
+		// patch the view with the data coming from the server
+		if (change.is(WebappConstants.CF_WEB_CONST_DATA_INTENDEDPURPOSE, WebEntityChange.ACTION_UPDATED)
+				&& lockToken == null) {
+			intendedPurpose = IntendedPurposeMapper.toApp(change.getValue(IntendedPurposeDto.class));
+			getView().getDisplay().syncExec(() -> getView().reload());
 		}
 	}
 }
@@ -23,9 +23,7 @@ import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TextCellEditor;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.TreeViewerColumn;
-import org.eclipse.jface.viewers.ViewerCell;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.custom.TreeEditor;
 import org.eclipse.swt.events.MouseAdapter;
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.graphics.Color;
@@ -35,10 +33,8 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.layout.RowLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
-import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Listener;
-import org.eclipse.swt.widgets.TreeItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,12 +59,12 @@ import gov.sandia.cf.parts.theme.ButtonTheme;
 import gov.sandia.cf.parts.theme.ConstantTheme;
 import gov.sandia.cf.parts.theme.IconTheme;
 import gov.sandia.cf.parts.tools.FontTools;
-import gov.sandia.cf.parts.tools.ViewTools;
 import gov.sandia.cf.parts.ui.pcmm.editors.PCMMAggregateViewerCellModifier;
 import gov.sandia.cf.parts.ui.pcmm.editors.PCMMAssessTreeContentProvider;
 import gov.sandia.cf.parts.ui.pcmm.editors.PCMMAssessTreeSimplifiedContentProvider;
-import gov.sandia.cf.parts.viewer.TableFactory;
+import gov.sandia.cf.parts.viewer.ActionColumnSupport;
 import gov.sandia.cf.parts.viewer.TreeViewerHideSelection;
+import gov.sandia.cf.parts.viewer.editors.ActionColumnLabelProvider;
 import gov.sandia.cf.parts.viewer.editors.AutoResizeViewerLayout;
 import gov.sandia.cf.parts.viewer.editors.ColumnViewerSupport;
 import gov.sandia.cf.tools.ColorTools;
@@ -94,12 +90,6 @@ public class PCMMAggregateView extends ACredibilityPCMMView<PCMMAggregateViewCon
 	 */
 	private TreeViewer treeViewerPCMM;
 
-	/**
-	 * Table editors
-	 */
-	private Map<TreeItem, TreeEditor> openEvidenceEditors;
-	private Map<TreeItem, TreeEditor> viewDetailsEditors;
-
 	/**
 	 * The assess table composite
 	 */
@@ -114,10 +104,6 @@ public class PCMMAggregateView extends ACredibilityPCMMView<PCMMAggregateViewCon
 	public PCMMAggregateView(PCMMAggregateViewController viewController, int style) {
 		super(viewController, viewController.getViewManager(), style);
 
-		// Make sure you dispose these buttons when viewer input changes
-		openEvidenceEditors = new HashMap<>();
-		viewDetailsEditors = new HashMap<>();
-
 		// create the view
 		renderPage();
 	}
@@ -184,14 +170,6 @@ public class PCMMAggregateView extends ACredibilityPCMMView<PCMMAggregateViewCon
 			}
 			treeViewerPCMM = null;
 		}
-		if (openEvidenceEditors != null) {
-			openEvidenceEditors.forEach((item, editor) -> ViewTools.disposeViewerEditor(editor));
-			openEvidenceEditors.clear();
-		}
-		if (viewDetailsEditors != null) {
-			viewDetailsEditors.forEach((item, editor) -> ViewTools.disposeViewerEditor(editor));
-			viewDetailsEditors.clear();
-		}
 
 		// render the main table
 		renderMainTable();
@@ -210,7 +188,8 @@ public class PCMMAggregateView extends ACredibilityPCMMView<PCMMAggregateViewCon
 
 		// viewer general properties initialization
 		treeViewerPCMM = new TreeViewerHideSelection(compositeTable,
-				SWT.BORDER | SWT.V_SCROLL | SWT.H_SCROLL | SWT.FULL_SELECTION);
+				SWT.VIRTUAL | SWT.BORDER | SWT.V_SCROLL | SWT.H_SCROLL | SWT.FULL_SELECTION);
+		treeViewerPCMM.setUseHashlookup(true);
 		GridData gdTablePCMM = new GridData(SWT.FILL, SWT.FILL, true, true, 1, 1);
 		treeViewerPCMM.getTree().setLayoutData(gdTablePCMM);
 		treeViewerPCMM.getTree().setHeaderVisible(true);
@@ -222,6 +201,10 @@ public class PCMMAggregateView extends ACredibilityPCMMView<PCMMAggregateViewCon
 				- 2 * ((GridLayout) compositeTable.getLayout()).horizontalSpacing;
 		List<String> columnProperties = new ArrayList<>();
 
+		// Action icons drawn in the cells
+		ActionColumnSupport actionSupport = ActionColumnSupport.enableFor(treeViewerPCMM,
+				getViewController().getViewManager().getRscMgr());
+
 		// Tree - Columns - Id
 		TreeViewerColumn idColumn = new TreeViewerColumn(treeViewerPCMM, SWT.CENTER);
 		idColumn.setLabelProvider(new ColumnLabelProvider() {
@@ -456,66 +439,7 @@ public class PCMMAggregateView extends ACredibilityPCMMView<PCMMAggregateViewCon
 		// Tree - Column - Action Open Evidence PCMMAggregateView
 		TreeViewerColumn actionOpenEvidenceColumn = new TreeViewerColumn(treeViewerPCMM, SWT.CENTER);
 		actionOpenEvidenceColumn.getColumn().setText(RscTools.getString(RscConst.MSG_BTN_OPEN));
-		actionOpenEvidenceColumn.setLabelProvider(new ColumnLabelProvider() {
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object element = cell.getElement();
-
-				// Button Open for PCMM Aggregate
-				if ((element instanceof PCMMSubelement && PCMMMode.DEFAULT == pcmmConfiguration.getMode())
-						|| (element instanceof PCMMElement && PCMMMode.SIMPLIFIED == pcmmConfiguration.getMode())) {
-
-					// Open editor
-					TreeEditor editor = null;
-
-					if (!openEvidenceEditors.containsKey(item)) {
-
-						// Button
-						ButtonTheme btnOpenItem = TableFactory
-								.createOpenButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-
-						// Open - Listener
-						btnOpenItem.addListener(SWT.Selection, event -> {
-							/**
-							 * Check the PCMM mode
-							 */
-							if (PCMMMode.DEFAULT.equals(pcmmConfiguration.getMode())) {
-								// get the selected sub-element to associate the evidence with
-								PCMMSubelement subelementSelected = (PCMMSubelement) element;
-								if (null != subelementSelected) {
-									PCMMEvidenceListDialog evidencesDialog = new PCMMEvidenceListDialog(
-											getViewController().getViewManager(), getShell(), subelementSelected,
-											getViewController().getViewManager().getSelectedTag());
-									evidencesDialog.openDialog();
-								}
-							} else if (PCMMMode.SIMPLIFIED.equals(pcmmConfiguration.getMode())) {
-								// get the selected element to associate the evidence with
-								PCMMElement elementSelected = (PCMMElement) element;
-								if (null != elementSelected) {
-									PCMMEvidenceListDialog evidencesDialog = new PCMMEvidenceListDialog(
-											getViewController().getViewManager(), getShell(), elementSelected,
-											getViewController().getViewManager().getSelectedTag());
-									evidencesDialog.openDialog();
-								}
-							}
-						});
-
-						// Draw cell
-						editor = new TreeEditor(item.getParent());
-						editor.grabHorizontal = true;
-						editor.grabVertical = true;
-						editor.setEditor(btnOpenItem, item, cell.getColumnIndex());
-
-						openEvidenceEditors.put(item, editor);
-					}
-				} else {
-					cell.setBackground(getBackground(element));
-					cell.setForeground(getForeground(element));
-				}
-			}
-
+		actionOpenEvidenceColumn.setLabelProvider(new ActionColumnLabelProvider() {
 			@Override
 			public Color getBackground(Object element) {
 				return getTreeCellBackgroud(element);
@@ -526,6 +450,26 @@ public class PCMMAggregateView extends ACredibilityPCMMView<PCMMAggregateViewCon
 				return getTreeCellForeground(element);
 			}
 		});
+		actionSupport.addAction(actionOpenEvidenceColumn, IconTheme.ICON_NAME_OPEN,
+				ConstantTheme.COLOR_NAME_PRIMARY_LIGHT, element -> isAggregatedElement(element, pcmmConfiguration),
+				element -> {
+					/**
+					 * Check the PCMM mode
+					 */
+					if (PCMMMode.DEFAULT.equals(pcmmConfiguration.getMode())) {
+						// get the selected sub-element to associate the evidence with
+						PCMMEvidenceListDialog evidencesDialog = new PCMMEvidenceListDialog(
+								getViewController().getViewManager(), getShell(), (PCMMSubelement) element,
+								getViewController().getViewManager().getSelectedTag());
+						evidencesDialog.openDialog();
+					} else if (PCMMMode.SIMPLIFIED.equals(pcmmConfiguration.getMode())) {
+						// get the selected element to associate the evidence with
+						PCMMEvidenceListDialog evidencesDialog = new PCMMEvidenceListDialog(
+								getViewController().getViewManager(), getShell(), (PCMMElement) element,
+								getViewController().getViewManager().getSelectedTag());
+						evidencesDialog.openDialog();
+					}
+				});
 		viewerLayout.addColumnData(
 				new ColumnPixelData(PartsResourceConstants.PCMM_VIEW_TABLEASSESS_ACTIONCOLUMN_WIDTH, true));
 		columnProperties.add(RscTools.getString(RscConst.MSG_BTN_OPEN));
@@ -595,61 +539,7 @@ public class PCMMAggregateView extends ACredibilityPCMMView<PCMMAggregateViewCon
 		// Tree - Column - View Details PCMMAggregateView
 		TreeViewerColumn actionViewDetailsColumn = new TreeViewerColumn(treeViewerPCMM, SWT.CENTER);
 		actionViewDetailsColumn.getColumn().setText(RscTools.getString(RscConst.MSG_PCMMASSESS_TABLE_COL_VIEW));
-		actionViewDetailsColumn.setLabelProvider(new ColumnLabelProvider() {
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object element = cell.getElement();
-
-				// Button View Details for PCMM Aggregate
-				if (((element instanceof PCMMSubelement && PCMMMode.DEFAULT == pcmmConfiguration.getMode())
-						|| (element instanceof PCMMElement && PCMMMode.SIMPLIFIED == pcmmConfiguration.getMode()))
-						&& hasAssessment(element)) {
-
-					// View editor
-					TreeEditor editor = null;
-
-					if (!viewDetailsEditors.containsKey(item)) {
-
-						// Button
-						ButtonTheme btnViewItem = TableFactory
-								.createViewButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-
-						// Footer buttons - Delete- Listener
-						btnViewItem.addListener(SWT.Selection, event -> {
-							/**
-							 * Check the PCMM mode
-							 */
-							if (PCMMMode.DEFAULT.equals(pcmmConfiguration.getMode())) {
-								// get the selected sub-element to associate the evidence with
-								PCMMSubelement subelementSelected = (PCMMSubelement) element;
-								if (null != subelementSelected) {
-									showAggregationDetails(subelementSelected);
-								}
-							} else if (PCMMMode.SIMPLIFIED.equals(pcmmConfiguration.getMode())) {
-								// get the selected element to associate the evidence with
-								PCMMElement elementSelected = (PCMMElement) element;
-								if (null != elementSelected) {
-									showAggregationDetails(elementSelected);
-								}
-							}
-						});
-
-						// Draw cell
-						editor = new TreeEditor(item.getParent());
-						editor.grabHorizontal = true;
-						editor.grabVertical = true;
-						editor.setEditor(btnViewItem, item, cell.getColumnIndex());
-
-						viewDetailsEditors.put(item, editor);
-					}
-				} else {
-					cell.setBackground(getBackground(element));
-					cell.setForeground(getForeground(element));
-				}
-			}
-
+		actionViewDetailsColumn.setLabelProvider(new ActionColumnLabelProvider() {
 			@Override
 			public Color getBackground(Object element) {
 				return getTreeCellBackgroud(element);
@@ -660,6 +550,20 @@ public class PCMMAggregateView extends ACredibilityPCMMView<PCMMAggregateViewCon
 				return getTreeCellForeground(element);
 			}
 		});
+		actionSupport.addAction(actionViewDetailsColumn, IconTheme.ICON_NAME_VIEW, ConstantTheme.COLOR_NAME_BLUE,
+				element -> isAggregatedElement(element, pcmmConfiguration) && hasAssessment(element), element -> {
+					/**
+					 * Check the PCMM mode
+					 */
+					if (PCMMMode.DEFAULT.equals(pcmmConfiguration.getMode())) {
+						// get the selected sub-element to associate the evidence with
+						showAggregationDetails((PCMMSubelement) element);
+					} else if (PCMMMode.SIMPLIFIED.equals(pcmmConfiguration.getMode())) {
+						// get the selected element to associate the evidence with
+						showAggregationDetails((PCMMElement) element);
+					}
+				});
+		actionSupport.setKeyboardAction(actionViewDetailsColumn);
 		viewerLayout.addColumnData(
 				new ColumnPixelData(PartsResourceConstants.PCMM_VIEW_TABLEASSESS_ACTIONCOLUMN_WIDTH, true));
 		columnProperties.add(RscTools.getString(RscConst.MSG_BTN_VIEW));
@@ -678,20 +582,8 @@ public class PCMMAggregateView extends ACredibilityPCMMView<PCMMAggregateViewCon
 		treeViewerPCMM.getTree()
 				.setHeaderForeground(ColorTools.toColor(getViewController().getViewManager().getRscMgr(),
 						ConstantTheme.getColor(ConstantTheme.COLOR_NAME_WHITE)));
-		treeViewerPCMM.getTree().addListener(SWT.MeasureItem, new Listener() {
-
-			private TreeItem previousItem = null;
-
-			@Override
-			public void handleEvent(Event event) {
-				event.height = PartsResourceConstants.TABLE_ROW_HEIGHT;
-				TreeItem item = (TreeItem) event.item;
-				if (item != null && !item.equals(previousItem)) {
-					previousItem = item;
-					refreshTableButtons(item);
-				}
-			}
-		});
+		treeViewerPCMM.getTree().addListener(SWT.MeasureItem,
+				event -> event.height = PartsResourceConstants.TABLE_ROW_HEIGHT);
 
 		// Set Editor
 		treeViewerPCMM.setCellEditors(new CellEditor[] { new TextCellEditor(treeViewerPCMM.getTree()),
@@ -809,16 +701,6 @@ public class PCMMAggregateView extends ACredibilityPCMMView<PCMMAggregateViewCon
 		return treeViewerPCMM;
 	}
 
-	/**
-	 * Refresh the table buttons
-	 * 
-	 * @param item
-	 */
-	private void refreshTableButtons(TreeItem item) {
-		ViewTools.refreshTreeEditor(openEvidenceEditors.get(item));
-		ViewTools.refreshTreeEditor(viewDetailsEditors.get(item));
-	}
-
 	/**
 	 * Refreshes the view
 	 */
@@ -1023,6 +905,17 @@ public class PCMMAggregateView extends ACredibilityPCMMView<PCMMAggregateViewCon
 		}
 	}
 
+	/**
+	 * @param element           the tree element
+	 * @param pcmmConfiguration the PCMM configuration
+	 * @return true if the element is aggregated in the PCMM mode: the
+	 *         sub-elements in default mode, the elements in simplified mode
+	 */
+	private boolean isAggregatedElement(Object element, PCMMSpecification pcmmConfiguration) {
+		return (element instanceof PCMMSubelement && PCMMMode.DEFAULT == pcmmConfiguration.getMode())
+				|| (element instanceof PCMMElement && PCMMMode.SIMPLIFIED == pcmmConfiguration.getMode());
+	}
+
 	/**
 	 * @param element
 	 * @return true if the element in parameter has assessments, otherwise false
@@ -64,18 +64,9 @@ public class PCMMEvidenceTreeSimplifiedContentProvider implements ITreeContentPr
 
 			List<PCMMEvidence> evidenceToDisplay = new ArrayList<>();
 
-			// add evidence for tag null
-			if (viewManager.getSelectedTag() == null || viewManager.getSelectedTag().getId() == null) {
-				evidenceToDisplay.addAll(((PCMMElement) parentElement).getEvidenceList().stream()
-						.filter(evidence -> (evidence.getTag() == null)).collect(Collectors.toList()));
-			}
-			// add evidence for tag not null
-			else {
-				evidenceToDisplay.addAll(((PCMMElement) parentElement).getEvidenceList().stream()
-						.filter(evidence -> (evidence.getTag() != null
-								&& viewManager.getSelectedTag().getId().equals(evidence.getTag().getId())))
-						.collect(Collectors.toList()));
-			}
+			// add evidence of the selected tag (the current evidence if there is no tag)
+			evidenceToDisplay.addAll(((PCMMElement) parentElement).getEvidenceList().stream()
+					.filter(evidence -> evidence.isInTag(viewManager.getSelectedTag())).collect(Collectors.toList()));
 
 			// sort by generated id (user choice)
 			evidenceToDisplay.sort(
@@ -20,10 +20,8 @@ import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TreeViewerColumn;
-import org.eclipse.jface.viewers.ViewerCell;
 import org.eclipse.jface.window.ToolTip;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.custom.TreeEditor;
 import org.eclipse.swt.dnd.DND;
 import org.eclipse.swt.dnd.DragSourceAdapter;
 import org.eclipse.swt.dnd.DragSourceEvent;
@@ -35,10 +33,8 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.layout.RowLayout;
 import org.eclipse.swt.widgets.Composite;
-import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Tree;
-import org.eclipse.swt.widgets.TreeItem;
 
 import gov.sandia.cf.model.Criterion;
 import gov.sandia.cf.model.PIRTAdequacyColumn;
@@ -51,7 +47,6 @@ import gov.sandia.cf.parts.listeners.ViewerSelectionKeepBackgroundColor;
 import gov.sandia.cf.parts.theme.ButtonTheme;
 import gov.sandia.cf.parts.theme.ConstantTheme;
 import gov.sandia.cf.parts.theme.IconTheme;
-import gov.sandia.cf.parts.tools.ViewTools;
 import gov.sandia.cf.parts.ui.ACredibilitySubView;
 import gov.sandia.cf.parts.ui.MainViewManager;
 import gov.sandia.cf.parts.ui.pirt.editors.PIRTAdequacyColumnLabelProvider;
@@ -63,12 +58,13 @@ import gov.sandia.cf.parts.ui.pirt.editors.PIRTPhenTreePhenomenaContentProvider;
 import gov.sandia.cf.parts.ui.pirt.editors.PIRTPhenomenonDropSupport;
 import gov.sandia.cf.parts.ui.pirt.editors.PIRTPhenomenonImportanceCellEditor;
 import gov.sandia.cf.parts.ui.pirt.editors.PIRTPhenomenonLevelCellEditor;
+import gov.sandia.cf.parts.viewer.ActionColumnSupport;
 import gov.sandia.cf.parts.viewer.PIRTPhenomenaTreePhenomena;
 import gov.sandia.cf.parts.viewer.PIRTQoITableQoI;
-import gov.sandia.cf.parts.viewer.TableFactory;
 import gov.sandia.cf.parts.viewer.TableHeaderBar;
 import gov.sandia.cf.parts.viewer.TreeViewerHideSelection;
 import gov.sandia.cf.parts.viewer.TreeViewerID;
+import gov.sandia.cf.parts.viewer.editors.ActionColumnLabelProvider;
 import gov.sandia.cf.parts.viewer.editors.AutoResizeViewerLayout;
 import gov.sandia.cf.parts.viewer.editors.ColumnViewerSupport;
 import gov.sandia.cf.parts.widgets.FancyToolTipSupport;
@@ -96,14 +92,6 @@ public class PIRTPhenomenaView extends ACredibilitySubView<PIRTPhenomenaViewCont
 	 */
 	private TreeViewerID treeViewer;
 
-	/**
-	 * Table buttons
-	 */
-	private Map<TreeItem, TreeEditor> addEditors;
-	private Map<TreeItem, TreeEditor> viewEditors;
-	private Map<TreeItem, TreeEditor> editEditors;
-	private Map<TreeItem, TreeEditor> deleteEditors;
-
 	/**
 	 * The assess table composite
 	 */
@@ -129,12 +117,6 @@ public class PIRTPhenomenaView extends ACredibilitySubView<PIRTPhenomenaViewCont
 	public PIRTPhenomenaView(PIRTPhenomenaViewController viewController, Composite parent, int style) {
 		super(viewController, parent, style);
 
-		// Make sure you dispose these buttons when viewer input changes
-		addEditors = new HashMap<>();
-		viewEditors = new HashMap<>();
-		editEditors = new HashMap<>();
-		deleteEditors = new HashMap<>();
-
 		// Override title
 		this.setTitle(this.getTitle());
 
@@ -414,7 +396,8 @@ public class PIRTPhenomenaView extends ACredibilitySubView<PIRTPhenomenaViewCont
 	private void renderMainTableInit() {
 		// Create
 		treeViewer = new TreeViewerID(compositeTable,
-				SWT.BORDER | SWT.V_SCROLL | SWT.H_SCROLL | SWT.FULL_SELECTION | SWT.MULTI);
+				SWT.VIRTUAL | SWT.BORDER | SWT.V_SCROLL | SWT.H_SCROLL | SWT.FULL_SELECTION | SWT.MULTI);
+		treeViewer.setUseHashlookup(true);
 		GridData gdViewer = new GridData(SWT.FILL, SWT.FILL, true, true, 1, 1);
 
 		Tree tree = treeViewer.getTree();
@@ -450,40 +433,20 @@ public class PIRTPhenomenaView extends ACredibilitySubView<PIRTPhenomenaViewCont
 		Tree tree = treeViewer.getTree();
 		AutoResizeViewerLayout treeViewerLayout = (AutoResizeViewerLayout) tree.getLayout();
 
+		// Action icons drawn in the cells
+		ActionColumnSupport actionSupport = ActionColumnSupport.enableFor(treeViewer,
+				getViewController().getViewManager().getRscMgr());
+
 		// Tree - Column - Action Add
 		if (!getViewController().isTagged()) {
 			TreeViewerColumn addColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 			addColumn.getColumn().setText(RscTools.getString(RscConst.MSG_BTN_ADD));
-			addColumn.setLabelProvider(new ColumnLabelProvider() {
-				@Override
-				public void update(ViewerCell cell) {
-					// Get item
-					TreeItem item = (TreeItem) cell.getItem();
-					Object element = cell.getElement();
-
-					// View editor
-					TreeEditor editor = null;
-
-					if (element instanceof PhenomenonGroup && !addEditors.containsKey(item)) {
-
-						// Button
-						ButtonTheme btnAddItem = TableFactory
-								.createAddButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-						btnAddItem.addListener(SWT.Selection, event -> {
-							getViewController().addPhenomenonAction((PhenomenonGroup) element);
-							treeViewer.refresh(item);
-						});
-
-						// Draw cell
-						editor = new TreeEditor(item.getParent());
-						editor.grabHorizontal = true;
-						editor.grabVertical = true;
-						editor.setEditor(btnAddItem, item, cell.getColumnIndex());
-
-						addEditors.put(item, editor);
-					}
-				}
-			});
+			addColumn.setLabelProvider(new ActionColumnLabelProvider());
+			actionSupport.addAction(addColumn, IconTheme.ICON_NAME_ADD, ConstantTheme.COLOR_NAME_GREEN,
+					PhenomenonGroup.class::isInstance, element -> {
+						getViewController().addPhenomenonAction((PhenomenonGroup) element);
+						treeViewer.refresh(element);
+					});
 			treeViewerLayout.addColumnData(new ColumnPixelData(PartsResourceConstants.TABLE_ACTIONCOLUMN_WIDTH, true));
 			columnProperties.add(RscTools.getString(RscConst.MSG_BTN_ADD));
 		}
@@ -491,34 +454,10 @@ public class PIRTPhenomenaView extends ACredibilitySubView<PIRTPhenomenaViewCont
 		// Actions view details
 		TreeViewerColumn actionViewColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 		actionViewColumn.getColumn().setText(PIRTPhenomenaTreePhenomena.getColumnActionViewProperty());
-		actionViewColumn.setLabelProvider(new ColumnLabelProvider() {
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object data = item.getData();
-				Object element = cell.getElement();
-
-				// View editor
-				TreeEditor editor = null;
-
-				if (!viewEditors.containsKey(element)) {
-
-					// Button
-					ButtonTheme btnViewItem = TableFactory
-							.createViewButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-					btnViewItem.addListener(SWT.Selection, event -> getViewController().viewElement(data));
-
-					// Draw cell
-					editor = new TreeEditor(item.getParent());
-					editor.grabHorizontal = true;
-					editor.grabVertical = true;
-					editor.setEditor(btnViewItem, item, cell.getColumnIndex());
-
-					viewEditors.put(item, editor);
-				}
-			}
-		});
+		actionViewColumn.setLabelProvider(new ActionColumnLabelProvider());
+		actionSupport.addAction(actionViewColumn, IconTheme.ICON_NAME_VIEW, ConstantTheme.COLOR_NAME_BLUE,
+				element -> getViewController().viewElement(element));
+		actionSupport.setKeyboardAction(actionViewColumn);
 		treeViewerLayout.addColumnData(
 				new ColumnPixelData(PartsResourceConstants.PIRT_PHEN_TABLEPHEN_ACTION_COLUMN_WIDTH, true));
 		columnProperties.add(PIRTPhenomenaTreePhenomena.getColumnActionViewProperty());
@@ -527,34 +466,9 @@ public class PIRTPhenomenaView extends ACredibilitySubView<PIRTPhenomenaViewCont
 		if (!getViewController().isTagged()) {
 			TreeViewerColumn actionEditColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 			actionEditColumn.getColumn().setText(PIRTPhenomenaTreePhenomena.getColumnActionEditProperty());
-			actionEditColumn.setLabelProvider(new ColumnLabelProvider() {
-				@Override
-				public void update(ViewerCell cell) {
-					// Get item
-					TreeItem item = (TreeItem) cell.getItem();
-					Object data = item.getData();
-					Object element = cell.getElement();
-
-					// Edit editor
-					TreeEditor editor = null;
-
-					if (!editEditors.containsKey(element)) {
-
-						// Button
-						ButtonTheme btnEditItem = TableFactory
-								.createEditButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-						btnEditItem.addListener(SWT.Selection, event -> getViewController().updateElement(data));
-
-						// Draw cell
-						editor = new TreeEditor(item.getParent());
-						editor.grabHorizontal = true;
-						editor.grabVertical = true;
-						editor.setEditor(btnEditItem, item, cell.getColumnIndex());
-
-						editEditors.put(item, editor);
-					}
-				}
-			});
+			actionEditColumn.setLabelProvider(new ActionColumnLabelProvider());
+			actionSupport.addAction(actionEditColumn, IconTheme.ICON_NAME_EDIT, ConstantTheme.COLOR_NAME_GREEN,
+					element -> getViewController().updateElement(element));
 			treeViewerLayout.addColumnData(
 					new ColumnPixelData(PartsResourceConstants.PIRT_PHEN_TABLEPHEN_ACTION_COLUMN_WIDTH, true));
 			columnProperties.add(PIRTPhenomenaTreePhenomena.getColumnActionEditProperty());
@@ -564,33 +478,9 @@ public class PIRTPhenomenaView extends ACredibilitySubView<PIRTPhenomenaViewCont
 		if (!getViewController().isTagged()) {
 			TreeViewerColumn actionDeleteColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 			actionDeleteColumn.getColumn().setText(PIRTQoITableQoI.getColumnActionDeleteProperty());
-			actionDeleteColumn.setLabelProvider(new ColumnLabelProvider() {
-				@Override
-				public void update(ViewerCell cell) {
-					// Get item
-					TreeItem item = (TreeItem) cell.getItem();
-					Object element = cell.getElement();
-
-					// Delete Button
-					TreeEditor editor = null;
-
-					if (!deleteEditors.containsKey(element)) {
-
-						// Button
-						ButtonTheme btnDeleteItem = TableFactory
-								.createDeleteButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-						btnDeleteItem.addListener(SWT.Selection, event -> getViewController().deleteElement(element));
-
-						// Draw cell
-						editor = new TreeEditor(item.getParent());
-						editor.grabHorizontal = true;
-						editor.grabVertical = true;
-						editor.setEditor(btnDeleteItem, item, cell.getColumnIndex());
-
-						deleteEditors.put(item, editor);
-					}
-				}
-			});
+			actionDeleteColumn.setLabelProvider(new ActionColumnLabelProvider());
+			actionSupport.addAction(actionDeleteColumn, IconTheme.ICON_NAME_DELETE, ConstantTheme.COLOR_NAME_RED,
+					element -> getViewController().deleteElement(element));
 			treeViewerLayout.addColumnData(
 					new ColumnPixelData(PartsResourceConstants.PIRT_PHEN_TABLEPHEN_ACTION_COLUMN_WIDTH, true));
 			columnProperties.add(PIRTPhenomenaTreePhenomena.getColumnActionDeleteProperty());
@@ -604,20 +494,7 @@ public class PIRTPhenomenaView extends ACredibilitySubView<PIRTPhenomenaViewCont
 		// Get tree
 		Tree tree = treeViewer.getTree();
 
-		tree.addListener(SWT.MeasureItem, new Listener() {
-
-			private TreeItem previousItem = null;
-
-			@Override
-			public void handleEvent(Event event) {
-				event.height = PartsResourceConstants.TABLE_ROW_HEIGHT;
-				TreeItem item = (TreeItem) event.item;
-				if (item != null && !item.equals(previousItem)) {
-					previousItem = item;
-					refreshTableButtons(item);
-				}
-			}
-		});
+		tree.addListener(SWT.MeasureItem, event -> event.height = PartsResourceConstants.TABLE_ROW_HEIGHT);
 
 		// tree view on double click
 		ColumnViewerSupport.enableDoubleClickEditing(treeViewer);
@@ -775,12 +652,6 @@ public class PIRTPhenomenaView extends ACredibilitySubView<PIRTPhenomenaViewCont
 		}
 		treeViewer = null;
 
-		// Refresh
-		ViewTools.refreshTableEditors(addEditors);
-		ViewTools.refreshTableEditors(editEditors);
-		ViewTools.refreshTableEditors(viewEditors);
-		ViewTools.refreshTableEditors(deleteEditors);
-
 		// render the main table
 		renderMainTable();
 
@@ -788,18 +659,6 @@ public class PIRTPhenomenaView extends ACredibilitySubView<PIRTPhenomenaViewCont
 		compositeTable.layout();
 	}
 
-	/**
-	 * Refresh the table buttons
-	 * 
-	 * @param item
-	 */
-	private void refreshTableButtons(TreeItem item) {
-		ViewTools.refreshTreeEditor(addEditors.get(item));
-		ViewTools.refreshTreeEditor(editEditors.get(item));
-		ViewTools.refreshTreeEditor(viewEditors.get(item));
-		ViewTools.refreshTreeEditor(deleteEditors.get(item));
-	}
-
 	/** {@inheritDoc} */
 	@Override
 	public void reload() {
@@ -532,8 +532,7 @@ public class PIRTPhenomenaViewController extends AViewController<PIRTViewManager
 				if (tagQoIDialog.getReturnCode() == Window.OK) {
 
 					// tag qoi in database
-					getViewManager().getAppManager().getService(IPIRTApplication.class).tagQoI(qoiSelected,
-							tagDescription, getViewManager().getCache().getUser());
+					TagQoIRunnable.tag(getView().getShell(), getViewManager(), qoiSelected, tagDescription);
 
 					// refresh view
 					getViewManager().reloadQOIView();
@@ -327,8 +327,7 @@ public class PIRTQoIViewController extends AViewController<PIRTViewManager, PIRT
 					if (tagQoIDialog.getReturnCode() == Window.OK) {
 
 						// tag qoi in database
-						getViewManager().getAppManager().getService(IPIRTApplication.class).tagQoI(qoiSelected,
-								tagDescription, getViewManager().getCache().getUser());
+						TagQoIRunnable.tag(getView().getShell(), getViewManager(), qoiSelected, tagDescription);
 
 						// fire view change to save credibility file
 						getViewManager().viewChanged();
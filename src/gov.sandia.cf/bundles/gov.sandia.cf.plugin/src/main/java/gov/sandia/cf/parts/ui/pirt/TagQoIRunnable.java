@@ -0,0 +1,105 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.parts.ui.pirt;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jface.dialogs.ProgressMonitorDialog;
+import org.eclipse.jface.operation.IRunnableWithProgress;
+import org.eclipse.swt.widgets.Shell;
+
+import gov.sandia.cf.application.global.IUserApplication;
+import gov.sandia.cf.application.pirt.IPIRTApplication;
+import gov.sandia.cf.dao.IDBManager;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.QuantityOfInterest;
+import gov.sandia.cf.model.User;
+import gov.sandia.cf.parts.ui.IViewManager;
+import gov.sandia.cf.tools.RscConst;
+import gov.sandia.cf.tools.RscTools;
+
+/**
+ * The tag QoI runnable task: the QoI tree is tagged with the progress shown in
+ * a cancellable progress dialog.
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class TagQoIRunnable implements IRunnableWithProgress {
+
+	private IViewManager viewManager;
+	private QuantityOfInterest qoi;
+	private String tagDescription;
+	private User user;
+
+	/**
+	 * @param viewManager    the view manager
+	 * @param qoi            the qoi to tag
+	 * @param tagDescription the tag description
+	 */
+	public TagQoIRunnable(IViewManager viewManager, QuantityOfInterest qoi, String tagDescription) {
+		this.viewManager = viewManager;
+		this.qoi = qoi;
+		this.tagDescription = tagDescription;
+		this.user = viewManager.getCache().getUser();
+	}
+
+	/**
+	 * Tag the qoi. The qoi tree is read and copied with an entity manager bound to
+	 * the running thread: the tag transaction is not shared with the views.
+	 */
+	@Override
+	public void run(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
+		IDBManager dbManager = viewManager.getAppManager().getDaoManager().getDbManager();
+		dbManager.openThreadEntityManager();
+		try {
+			// load the qoi and the user with the thread entity manager
+			QuantityOfInterest qoiToTag = qoi != null && qoi.getId() != null
+					? viewManager.getAppManager().getService(IPIRTApplication.class).getQoIById(qoi.getId())
+					: qoi;
+			User currentUser = user != null && user.getId() != null
+					? viewManager.getAppManager().getService(IUserApplication.class).getUserById(user.getId())
+					: user;
+
+			viewManager.getAppManager().getService(IPIRTApplication.class).tagQoI(qoiToTag, tagDescription,
+					currentUser, monitor);
+		} catch (CredibilityException e) {
+			throw new InvocationTargetException(e, e.getMessage());
+		} finally {
+			dbManager.closeThreadEntityManager();
+		}
+	}
+
+	/**
+	 * Tag the qoi in a progress dialog. The runnable is forked: the dialog stays
+	 * responsive and the views do not run in the tag transaction. The qoi is
+	 * refreshed once tagged.
+	 *
+	 * @param shell          the parent shell
+	 * @param viewManager    the view manager
+	 * @param qoi            the qoi to tag
+	 * @param tagDescription the tag description
+	 * @throws CredibilityException if the tagging failed or has been cancelled
+	 */
+	public static void tag(Shell shell, IViewManager viewManager, QuantityOfInterest qoi, String tagDescription)
+			throws CredibilityException {
+		try {
+			new ProgressMonitorDialog(shell).run(true, true, new TagQoIRunnable(viewManager, qoi, tagDescription));
+		} catch (InvocationTargetException e) {
+			if (e.getCause() instanceof CredibilityException) {
+				throw (CredibilityException) e.getCause();
+			}
+			throw new CredibilityException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CredibilityException(RscTools.getString(RscConst.EX_PIRT_TAG_CANCELLED), e);
+		}
+
+		// the tagged qoi has been added by the thread entity manager
+		if (qoi != null && qoi.getId() != null) {
+			viewManager.getAppManager().getService(IPIRTApplication.class).refresh(qoi);
+		}
+	}
+}
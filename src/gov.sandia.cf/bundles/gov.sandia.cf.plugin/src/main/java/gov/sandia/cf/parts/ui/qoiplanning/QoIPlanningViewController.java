@@ -20,6 +20,7 @@ import gov.sandia.cf.model.QuantityOfInterest;
 import gov.sandia.cf.parts.constants.ViewMode;
 import gov.sandia.cf.parts.ui.AViewController;
 import gov.sandia.cf.parts.ui.pirt.IQoIViewController;
+import gov.sandia.cf.parts.ui.pirt.TagQoIRunnable;
 import gov.sandia.cf.parts.ui.pirt.dialogs.QoIDialog;
 import gov.sandia.cf.parts.ui.pirt.dialogs.QoITagDialog;
 import gov.sandia.cf.tools.RscConst;
@@ -349,8 +350,7 @@ public class QoIPlanningViewController extends AViewController<QoIPlanningViewMa
 					if (tagQoIDialog.getReturnCode() == Window.OK) {
 
 						// tag qoi in database
-						getViewManager().getAppManager().getService(IPIRTApplication.class).tagQoI(qoiSelected,
-								tagDescription, getViewManager().getCache().getUser());
+						TagQoIRunnable.tag(getView().getShell(), getViewManager(), qoiSelected, tagDescription);
 
 						// fire view change to save credibility file
 						getViewManager().viewChanged();
@@ -12,6 +12,7 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
@@ -28,6 +29,7 @@ import gov.sandia.cf.application.report.IReportARGApplication;
 import gov.sandia.cf.application.report.IReportARGExecutionApp;
 import gov.sandia.cf.constants.arg.ARGBackendDefault;
 import gov.sandia.cf.constants.configuration.ExportOptions;
+import gov.sandia.cf.dao.IDBManager;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.ARGParameters;
 import gov.sandia.cf.parts.ui.IViewManager;
@@ -54,6 +56,7 @@ public class GenerateARGReportRunnable implements IRunnableWithProgress {
 	private Map<ExportOptions, Object> options;
 	private StringBuilder errorLog;
 	private StringBuilder infoLog;
+	private Consumer<String> console;
 
 	/**
 	 * @param viewManager   the view manager
@@ -64,19 +67,42 @@ public class GenerateARGReportRunnable implements IRunnableWithProgress {
 	 */
 	public GenerateARGReportRunnable(IViewManager viewManager, ARGParameters argParameters,
 			Map<ExportOptions, Object> options, StringBuilder errorLog, StringBuilder infoLog) {
+		this(viewManager, argParameters, options, errorLog, infoLog, null);
+	}
+
+	/**
+	 * @param viewManager   the view manager
+	 * @param argParameters the ARG parameters
+	 * @param options       the ARG options to construct the structure file
+	 * @param errorLog      the error log
+	 * @param infoLog       the info log
+	 * @param console       the console receiving the ARG output lines during the
+	 *                      generation (can be null)
+	 */
+	public GenerateARGReportRunnable(IViewManager viewManager, ARGParameters argParameters,
+			Map<ExportOptions, Object> options, StringBuilder errorLog, StringBuilder infoLog,
+			Consumer<String> console) {
 		this.viewManager = viewManager;
 		this.argParameters = argParameters;
 		this.options = options;
 		this.errorLog = errorLog;
 		this.infoLog = infoLog;
+		this.console = console;
 	}
 
 	/**
-	 * Run the generation
+	 * Run the generation. The data is read with an entity manager bound to the
+	 * running thread so that the generation does not wait for the UI edits.
 	 */
 	@Override
 	public void run(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
-		generateReport(monitor);
+		IDBManager dbManager = viewManager.getAppManager().getDaoManager().getDbManager();
+		dbManager.openThreadEntityManager();
+		try {
+			generateReport(monitor);
+		} finally {
+			dbManager.closeThreadEntityManager();
+		}
 	}
 
 	/**
@@ -163,24 +189,18 @@ public class GenerateARGReportRunnable implements IRunnableWithProgress {
 
 		try {
 
-			// Generate structure data
-			progressMonitor
-					.subTask(RscTools.getString(RscConst.MSG_REPORTVIEW_GENERATE_REPORT_TASK_STRUCTUREFILE_SUB1));
-			options.put(ExportOptions.ARG_PARAMETERS, argParameters);
-			Map<String, Object> structure = viewManager.getAppManager().getService(IReportARGApplication.class)
-					.generateStructure(options);
-
 			// Create file
 			progressMonitor
 					.subTask(RscTools.getString(RscConst.MSG_REPORTVIEW_GENERATE_REPORT_TASK_STRUCTUREFILE_SUB2));
 			File structureFile = viewManager.getAppManager().getService(IReportARGApplication.class)
 					.createReportStructureFile(argParameters);
 
-			// put data into YML
+			// Generate structure data into YML
 			progressMonitor
-					.subTask(RscTools.getString(RscConst.MSG_REPORTVIEW_GENERATE_REPORT_TASK_STRUCTUREFILE_SUB3));
-			viewManager.getAppManager().getService(IReportARGApplication.class)
-					.copyReportStructureContentIntoFile(structureFile, structure);
+					.subTask(RscTools.getString(RscConst.MSG_REPORTVIEW_GENERATE_REPORT_TASK_STRUCTUREFILE_SUB1));
+			options.put(ExportOptions.ARG_PARAMETERS, argParameters);
+			viewManager.getAppManager().getService(IReportARGApplication.class).generateStructureFile(structureFile,
+					options);
 
 			// Return if file exist
 			return structureFile;
@@ -249,7 +269,7 @@ public class GenerateARGReportRunnable implements IRunnableWithProgress {
 			// Run process
 			progressMonitor.subTask(RscTools.getString(RscConst.MSG_REPORTVIEW_GENERATE_REPORT_TASK_GENREPORT));
 			viewManager.getAppManager().getService(IReportARGExecutionApp.class).generateReportARG(parameters, errorLog,
-					infoLog, progressMonitor);
+					infoLog, console, progressMonitor);
 			progressMonitor.worked(50);
 
 			// check for user cancellation
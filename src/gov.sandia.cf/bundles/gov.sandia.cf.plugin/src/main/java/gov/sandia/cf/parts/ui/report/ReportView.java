@@ -174,6 +174,9 @@ public class ReportView extends ACredibilitySubView<ReportViewController> implem
 
 		// create the view
 		renderPage();
+
+		// stop the ARG queries with the view
+		addListener(SWT.Dispose, event -> getViewController().cancelARGJobs());
 	}
 
 	/**
@@ -1090,6 +1093,18 @@ public class ReportView extends ACredibilitySubView<ReportViewController> implem
 		getTxtConsole().setTopIndex(getTxtConsole().getTextWidget().getLineCount() - 1);
 	}
 
+	/**
+	 * Append the output at the end of the console.
+	 *
+	 * @param output the output
+	 */
+	void appendInConsole(String output) {
+		if (getTxtConsole() != null) {
+			getTxtConsole().getTextWidget().append(output);
+			getTxtConsole().setTopIndex(getTxtConsole().getTextWidget().getLineCount() - 1);
+		}
+	}
+
 	/**
 	 * Refresh PIRT.
 	 */
@@ -12,12 +12,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
@@ -98,6 +98,18 @@ public class ReportViewController extends AViewController<ReportViewManager, Rep
 
 	private boolean asyncDataLoading = false;
 
+	/** The number of ARG queries running in background. */
+	private int argJobCount = 0;
+
+	/** The ARG types query job. */
+	private Job argTypesJob;
+
+	/** The ARG version query job. */
+	private Job argVersionJob;
+
+	/** The ARG parameters need to be refreshed once the ARG types are loaded. */
+	private boolean argParametersRefreshNeeded = false;
+
 	/**
 	 * Instantiates a new report view controller.
 	 *
@@ -142,120 +154,191 @@ public class ReportViewController extends AViewController<ReportViewManager, Rep
 			}
 		}
 
-		// execute asynchronously data loading
-		Display.getCurrent().asyncExec(() -> {
-			startAsyncDataLoading();
-
-			// reload combo-box parameters
-			reloadARGTypes(new NullProgressMonitor());
-			reloadARGVersion(new NullProgressMonitor());
-
+		// refresh the view in small batches: the UI events are handled between them
+		final Display display = Display.getCurrent();
+		startAsyncDataLoading();
+		asyncRefresh(display, () -> {
 			// reload execution environment
 			getView().refreshARGSetup();
-
-			// reload
 			getView().refreshARGParameters();
-			getView().refreshPlanning();
-			reloadPIRT();
-			reloadPCMM();
+		});
+		asyncRefresh(display, () -> getView().refreshPlanning());
+		asyncRefresh(display, this::reloadPIRT);
+		asyncRefresh(display, this::reloadPCMM);
+		asyncRefresh(display, () -> {
 			getView().refreshCustomEnding();
-
 			stopAsyncDataLoading();
 		});
+
+		// reload combo-box parameters in background: the ARG python scripts can take
+		// several seconds
+		argParametersRefreshNeeded = true;
+		reloadARGTypesJob();
+		reloadARGVersionJob();
 	}
 
 	/**
-	 * Reload ARG types job.
+	 * Reload ARG types job. The ARG types are retrieved in background, the previous
+	 * retrieval is cancelled.
 	 */
 	void reloadARGTypesJob() {
-		Display.getCurrent().asyncExec(() -> {
-			startAsyncDataLoading();
-
-			try {
-				StringBuilder consoleLog = new StringBuilder();
-
-				argTypes = getViewManager().getAppManager().getService(IReportARGExecutionApp.class).getARGTypes(
-						computeARGParametersForExecution(argParameters), consoleLog, consoleLog,
-						new NullProgressMonitor());
-
-				getView().logInConsole(consoleLog.toString());
-
-				getView().refreshARGParametersARGTypes();
-
-			} catch (Exception e) {
-				logger.warn(e.getMessage());
-			}
-
-			stopAsyncDataLoading();
-		});
+		if (argTypesJob != null) {
+			argTypesJob.cancel();
+		}
+		argTypesJob = scheduleARGJob(RscConst.MSG_REPORTARGEXEC_GETARGTYPES_JOB_INIT,
+				(argApp, parameters, log, monitor) -> {
+					ARGType loadedTypes = argApp.getARGTypes(parameters, log, log, monitor);
+					return () -> {
+						argTypes = loadedTypes;
+
+						// the first time, the parameters selection needs the loaded types
+						if (argParametersRefreshNeeded) {
+							argParametersRefreshNeeded = false;
+							getView().refreshARGParameters();
+						} else {
+							getView().refreshARGParametersARGTypes();
+						}
+					};
+				});
 	}
 
 	/**
-	 * Reload the ARG parameters : if not present, add default data.
-	 *
-	 * @param monitor the monitor
+	 * Reload ARG version job. The ARG version is retrieved in background, the
+	 * previous retrieval is cancelled.
 	 */
-	void reloadARGTypes(IProgressMonitor monitor) {
+	void reloadARGVersionJob() {
+		if (argVersionJob != null) {
+			argVersionJob.cancel();
+		}
+		argVersionJob = scheduleARGJob(RscConst.MSG_REPORTARGEXEC_GETARGVERSION_JOB_INIT,
+				(argApp, parameters, log, monitor) -> {
+					String loadedVersion = argApp.getARGVersion(parameters, log, log, monitor);
+					return () -> {
+						argVersion = loadedVersion;
+						getView().refreshARGSetupARGVersion();
+					};
+				});
+	}
 
+	/**
+	 * Schedule a job to query the ARG installation. The query runs in background
+	 * and the view is updated in the UI thread, unless the job has been cancelled
+	 * or the view disposed meanwhile. A query failure is shown in a warning
+	 * dialog.
+	 *
+	 * @param titleKey the job title key
+	 * @param query    the ARG query returning the view update
+	 * @return the scheduled job, or null if the ARG parameters can not be resolved
+	 */
+	private Job scheduleARGJob(String titleKey, ARGQuery query) {
+
+		// resolve the service and the parameters in the UI thread, the application
+		// manager services are not thread-safe
+		final Display display = Display.getCurrent();
+		final IReportARGExecutionApp argApp = getViewManager().getAppManager()
+				.getService(IReportARGExecutionApp.class);
+		final ARGParameters parameters;
 		try {
-			StringBuilder consoleLog = new StringBuilder();
-
-			argTypes = getViewManager().getAppManager().getService(IReportARGExecutionApp.class)
-					.getARGTypes(computeARGParametersForExecution(argParameters), consoleLog, consoleLog, monitor);
-
-			getView().logInConsole(consoleLog.toString());
-
-		} catch (Exception e) {
+			parameters = computeARGParametersForExecution(argParameters);
+		} catch (CredibilityException e) {
 			logger.warn(RscTools.getString(RscConst.EX_ARG_COMMAND_EXCEPTION), e);
 			MessageDialog.openWarning(getView().getShell(), RscTools.getString(RscConst.MSG_REPORTVIEW_TITLE),
 					RscTools.getString(RscConst.EX_ARG_COMMAND_EXCEPTION));
+			return null;
 		}
-	}
 
-	/**
-	 * Reload ARG version job.
-	 */
-	void reloadARGVersionJob() {
-		Display.getCurrent().asyncExec(() -> {
-			startAsyncDataLoading();
+		argJobCount++;
 
+		Job job = Job.create(RscTools.getString(titleKey), monitor -> {
+			StringBuilder consoleLog = new StringBuilder();
+			Runnable viewUpdate = null;
+			boolean failed = false;
 			try {
-				StringBuilder consoleLog = new StringBuilder();
-
-				argVersion = getViewManager().getAppManager().getService(IReportARGExecutionApp.class).getARGVersion(
-						computeARGParametersForExecution(argParameters), consoleLog, consoleLog,
-						new NullProgressMonitor());
-
-				getView().logInConsole(consoleLog.toString());
-
-				getView().refreshARGSetupARGVersion();
-
+				viewUpdate = query.execute(argApp, parameters, consoleLog, monitor);
 			} catch (Exception e) {
-				logger.warn(e.getMessage());
+				logger.warn(RscTools.getString(RscConst.EX_ARG_COMMAND_EXCEPTION), e);
+				failed = true;
 			}
 
-			stopAsyncDataLoading();
+			final Runnable update = monitor.isCanceled() ? null : viewUpdate;
+			final boolean warning = failed && !monitor.isCanceled();
+			display.asyncExec(() -> argJobCount--);
+			asyncRefresh(display, () -> {
+				if (consoleLog.length() > 0) {
+					getView().logInConsole(consoleLog.toString());
+				}
+				if (update != null) {
+					update.run();
+				}
+				if (warning) {
+					MessageDialog.openWarning(getView().getShell(), RscTools.getString(RscConst.MSG_REPORTVIEW_TITLE),
+							RscTools.getString(RscConst.EX_ARG_COMMAND_EXCEPTION));
+				}
+			});
+
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
 		});
+		job.setSystem(true);
+		job.schedule();
+
+		return job;
 	}
 
 	/**
-	 * Reload ARG version.
+	 * Refresh the view in the UI thread, if it is not disposed meanwhile.
 	 *
-	 * @param monitor the monitor
+	 * @param display the display
+	 * @param refresh the view refresh
 	 */
-	void reloadARGVersion(IProgressMonitor monitor) {
-		try {
-			StringBuilder consoleLog = new StringBuilder();
-
-			argVersion = getViewManager().getAppManager().getService(IReportARGExecutionApp.class)
-					.getARGVersion(computeARGParametersForExecution(argParameters), consoleLog, consoleLog, monitor);
+	private void asyncRefresh(Display display, Runnable refresh) {
+		display.asyncExec(() -> {
+			if (getView() != null && !getView().isDisposed()) {
+				refresh.run();
+			}
+		});
+	}
 
-			getView().logInConsole(consoleLog.toString());
+	/**
+	 * Create a console consumer streaming the process output lines to the view
+	 * console. The lines received from the reader threads are buffered and
+	 * appended in one UI update, a new update is only posted once the previous one
+	 * has been run.
+	 *
+	 * @param display the display
+	 * @return the console line consumer
+	 */
+	private Consumer<String> consoleStream(Display display) {
+		final StringBuilder pending = new StringBuilder();
+		return line -> {
+			boolean postUpdate;
+			synchronized (pending) {
+				postUpdate = pending.length() == 0;
+				pending.append(line).append(RscTools.CARRIAGE_RETURN);
+			}
+			if (postUpdate) {
+				display.asyncExec(() -> {
+					String output;
+					synchronized (pending) {
+						output = pending.toString();
+						pending.setLength(0);
+					}
+					if (getView() != null && !getView().isDisposed()) {
+						getView().appendInConsole(output);
+					}
+				});
+			}
+		};
+	}
 
-		} catch (Exception e) {
-			logger.warn(RscTools.getString(RscConst.EX_ARG_COMMAND_EXCEPTION), e);
-			MessageDialog.openWarning(getView().getShell(), RscTools.getString(RscConst.MSG_REPORTVIEW_TITLE),
-					RscTools.getString(RscConst.EX_ARG_COMMAND_EXCEPTION));
+	/**
+	 * Cancel the ARG queries running in background.
+	 */
+	void cancelARGJobs() {
+		if (argTypesJob != null) {
+			argTypesJob.cancel();
+		}
+		if (argVersionJob != null) {
+			argVersionJob.cancel();
 		}
 	}
 
@@ -314,7 +397,7 @@ public class ReportViewController extends AViewController<ReportViewManager, Rep
 	 * @return true, if is data loading
 	 */
 	boolean isAsyncDataLoading() {
-		return asyncDataLoading;
+		return asyncDataLoading || argJobCount > 0;
 	}
 
 	/**
@@ -324,6 +407,26 @@ public class ReportViewController extends AViewController<ReportViewManager, Rep
 		return argVersion;
 	}
 
+	/**
+	 * An ARG installation query, run in background.
+	 */
+	@FunctionalInterface
+	private interface ARGQuery {
+
+		/**
+		 * Query the ARG installation.
+		 *
+		 * @param argApp     the ARG execution application, resolved in the UI thread
+		 * @param parameters the ARG parameters for execution
+		 * @param log        the console log
+		 * @param monitor    the progress monitor
+		 * @return the view update to run in the UI thread
+		 * @throws Exception if the query failed
+		 */
+		Runnable execute(IReportARGExecutionApp argApp, ARGParameters parameters, StringBuilder log,
+				IProgressMonitor monitor) throws Exception;
+	}
+
 	/**
 	 * Gets the pirt control map.
 	 *
@@ -761,7 +864,7 @@ public class ReportViewController extends AViewController<ReportViewManager, Rep
 					monitor -> {
 						try {
 							new GenerateARGReportRunnable(viewManager, argParametersForExecution, userSelection,
-									errorLog, consoleLog).run(monitor);
+									errorLog, consoleLog, consoleStream(display)).run(monitor);
 
 							// write log in console
 							display.asyncExec(() -> {
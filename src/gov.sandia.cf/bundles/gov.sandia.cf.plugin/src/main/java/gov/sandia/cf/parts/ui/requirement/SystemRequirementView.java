@@ -18,10 +18,8 @@ import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TreeViewerColumn;
-import org.eclipse.jface.viewers.ViewerCell;
 import org.eclipse.jface.window.ToolTip;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.custom.TreeEditor;
 import org.eclipse.swt.dnd.DND;
 import org.eclipse.swt.dnd.DragSourceAdapter;
 import org.eclipse.swt.dnd.DragSourceEvent;
@@ -34,10 +32,8 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.layout.RowData;
 import org.eclipse.swt.layout.RowLayout;
 import org.eclipse.swt.widgets.Composite;
-import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Tree;
-import org.eclipse.swt.widgets.TreeItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,10 +44,10 @@ import gov.sandia.cf.parts.listeners.ViewerSelectionKeepBackgroundColor;
 import gov.sandia.cf.parts.theme.ButtonTheme;
 import gov.sandia.cf.parts.theme.ConstantTheme;
 import gov.sandia.cf.parts.theme.IconTheme;
-import gov.sandia.cf.parts.tools.ViewTools;
 import gov.sandia.cf.parts.ui.ACredibilitySubView;
 import gov.sandia.cf.parts.ui.MainViewManager;
 import gov.sandia.cf.parts.ui.requirement.editors.SystemRequirementTreeContentProvider;
+import gov.sandia.cf.parts.viewer.ActionColumnSupport;
 import gov.sandia.cf.parts.viewer.TableFactory;
 import gov.sandia.cf.parts.viewer.TreeViewerID;
 import gov.sandia.cf.parts.viewer.editors.AutoResizeViewerLayout;
@@ -87,15 +83,6 @@ public class SystemRequirementView extends ACredibilitySubView<SystemRequirement
 	 */
 	private TreeViewerID treeViewer;
 
-	/**
-	 * Button list
-	 */
-	private Map<TreeItem, TreeEditor> openEditors;
-	private Map<TreeItem, TreeEditor> viewEditors;
-	private Map<TreeItem, TreeEditor> addEditors;
-	private Map<TreeItem, TreeEditor> editEditors;
-	private Map<TreeItem, TreeEditor> deleteEditors;
-
 	/**
 	 * The constructor.
 	 *
@@ -105,13 +92,6 @@ public class SystemRequirementView extends ACredibilitySubView<SystemRequirement
 	public SystemRequirementView(SystemRequirementViewController viewController, int style) {
 		super(viewController, viewController.getViewManager(), style);
 
-		// Make sure you dispose these buttons when viewer input changes
-		this.openEditors = new HashMap<>();
-		this.viewEditors = new HashMap<>();
-		this.addEditors = new HashMap<>();
-		this.editEditors = new HashMap<>();
-		this.deleteEditors = new HashMap<>();
-
 		// create the view
 		renderPage();
 	}
@@ -363,7 +343,8 @@ public class SystemRequirementView extends ACredibilitySubView<SystemRequirement
 	private void renderMainTableInit() {
 		// Tree - Create
 		treeViewer = new TreeViewerID(compositeTable,
-				SWT.BORDER | SWT.V_SCROLL | SWT.H_SCROLL | SWT.FULL_SELECTION | SWT.MULTI);
+				SWT.VIRTUAL | SWT.BORDER | SWT.V_SCROLL | SWT.H_SCROLL | SWT.FULL_SELECTION | SWT.MULTI);
+		treeViewer.setUseHashlookup(true);
 		GridData gdViewer = new GridData(SWT.FILL, SWT.FILL, true, true, 1, 1);
 
 		Tree tree = treeViewer.getTree();
@@ -399,83 +380,28 @@ public class SystemRequirementView extends ACredibilitySubView<SystemRequirement
 		Tree tree = treeViewer.getTree();
 		AutoResizeViewerLayout treeViewerLayout = (AutoResizeViewerLayout) tree.getLayout();
 
+		// Action icons drawn in the cells
+		ActionColumnSupport actionSupport = ActionColumnSupport.enableFor(treeViewer,
+				getViewController().getViewManager().getRscMgr());
+
 		// Tree - Column - Action Add
 		TreeViewerColumn addColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 		addColumn.getColumn().setText(RscTools.getString(RscConst.MSG_BTN_ADD));
-		addColumn.setLabelProvider(new SystemRequirementColumnLabelProvider() {
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object element = cell.getElement();
-
-				// View editor
-				TreeEditor editor = null;
-
-				if (!addEditors.containsKey(item)) {
-
-					// Button
-					ButtonTheme btnAddItem = TableFactory
-							.createAddButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-					btnAddItem.addListener(SWT.Selection, event -> {
-						getViewController().addRequirement((SystemRequirement) element);
-						treeViewer.refresh(item);
-					});
-
-					// Draw cell
-					editor = new TreeEditor(item.getParent());
-					editor.grabHorizontal = true;
-					editor.grabVertical = true;
-					editor.setEditor(btnAddItem, item, cell.getColumnIndex());
-
-					addEditors.put(item, editor);
-				}
-				// set cell background
-				cell.setBackground(getBackground(element));
-				cell.setForeground(getForeground(element));
-			}
-		});
+		addColumn.setLabelProvider(new SystemRequirementActionColumnLabelProvider());
+		actionSupport.addAction(addColumn, IconTheme.ICON_NAME_ADD, ConstantTheme.COLOR_NAME_GREEN,
+				SystemRequirement.class::isInstance, element -> {
+					getViewController().addRequirement((SystemRequirement) element);
+					treeViewer.refresh(element);
+				});
 		treeViewerLayout.addColumnData(new ColumnPixelData(PartsResourceConstants.TABLE_ACTIONCOLUMN_WIDTH, true));
 		columnProperties.add(RscTools.getString(RscConst.MSG_BTN_ADD));
 
 		// Tree - Column - Action Open
 		TreeViewerColumn openColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 		openColumn.getColumn().setText(RscTools.getString(RscConst.MSG_BTN_OPEN));
-		openColumn.setLabelProvider(new SystemRequirementColumnLabelProvider() {
-
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object element = cell.getElement();
-
-				// Open editor
-				TreeEditor editor = null;
-
-				// Button Open for SystemRequirement
-				if (element instanceof SystemRequirement && !openEditors.containsKey(item)) {
-
-					// Button
-					ButtonTheme btnViewItem = TableFactory
-							.createOpenButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-
-					// Open - Listener
-					btnViewItem.addListener(SWT.Selection,
-							event -> getViewController().openAll((SystemRequirement) element));
-
-					// Draw cell
-					editor = new TreeEditor(item.getParent());
-					editor.grabHorizontal = true;
-					editor.grabVertical = true;
-					editor.setEditor(btnViewItem, item, cell.getColumnIndex());
-
-					openEditors.put(item, editor);
-				}
-				// set cell background
-				cell.setBackground(getBackground(element));
-				cell.setForeground(getForeground(element));
-			}
-		});
+		openColumn.setLabelProvider(new SystemRequirementActionColumnLabelProvider());
+		actionSupport.addAction(openColumn, IconTheme.ICON_NAME_OPEN, ConstantTheme.COLOR_NAME_PRIMARY_LIGHT,
+				SystemRequirement.class::isInstance, element -> getViewController().openAll((SystemRequirement) element));
 		treeViewerLayout
 				.addColumnData(new ColumnPixelData(PartsResourceConstants.DECISIONVIEW_ACTIONCOLUMN_WIDTH, true));
 		columnProperties.add(RscTools.getString(RscConst.MSG_BTN_VIEW));
@@ -483,108 +409,28 @@ public class SystemRequirementView extends ACredibilitySubView<SystemRequirement
 		// Tree - Column - Action View
 		TreeViewerColumn viewColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 		viewColumn.getColumn().setText(RscTools.getString(RscConst.MSG_BTN_VIEW));
-		viewColumn.setLabelProvider(new SystemRequirementColumnLabelProvider() {
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object element = cell.getElement();
-
-				// View editor
-				TreeEditor editor = null;
-
-				if (!viewEditors.containsKey(item)) {
-
-					// Button
-					ButtonTheme btnViewItem = TableFactory
-							.createViewButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-					btnViewItem.addListener(SWT.Selection, event -> getViewController().viewElement(element));
-
-					// Draw cell
-					editor = new TreeEditor(item.getParent());
-					editor.grabHorizontal = true;
-					editor.grabVertical = true;
-					editor.setEditor(btnViewItem, item, cell.getColumnIndex());
-
-					viewEditors.put(item, editor);
-				}
-				// set cell background
-				cell.setBackground(getBackground(element));
-				cell.setForeground(getForeground(element));
-			}
-		});
+		viewColumn.setLabelProvider(new SystemRequirementActionColumnLabelProvider());
+		actionSupport.addAction(viewColumn, IconTheme.ICON_NAME_VIEW, ConstantTheme.COLOR_NAME_BLUE,
+				element -> getViewController().viewElement(element));
+		actionSupport.setKeyboardAction(viewColumn);
 		treeViewerLayout.addColumnData(new ColumnPixelData(PartsResourceConstants.TABLE_ACTIONCOLUMN_WIDTH, true));
 		columnProperties.add(RscTools.getString(RscConst.MSG_BTN_VIEW));
 
 		// Tree - Column - Action Edit
 		TreeViewerColumn editColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 		editColumn.getColumn().setText(RscTools.getString(RscConst.MSG_BTN_EDIT));
-		editColumn.setLabelProvider(new SystemRequirementColumnLabelProvider() {
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object element = cell.getElement();
-
-				// View editor
-				TreeEditor editor = null;
-
-				if (!editEditors.containsKey(item)) {
-
-					// Button
-					ButtonTheme btnEditItem = TableFactory
-							.createEditButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-					btnEditItem.addListener(SWT.Selection, event -> getViewController().updateElement(element));
-
-					// Draw cell
-					editor = new TreeEditor(item.getParent());
-					editor.grabHorizontal = true;
-					editor.grabVertical = true;
-					editor.setEditor(btnEditItem, item, cell.getColumnIndex());
-
-					editEditors.put(item, editor);
-				}
-				// set cell background
-				cell.setBackground(getBackground(element));
-				cell.setForeground(getForeground(element));
-			}
-		});
+		editColumn.setLabelProvider(new SystemRequirementActionColumnLabelProvider());
+		actionSupport.addAction(editColumn, IconTheme.ICON_NAME_EDIT, ConstantTheme.COLOR_NAME_GREEN,
+				element -> getViewController().updateElement(element));
 		treeViewerLayout.addColumnData(new ColumnPixelData(PartsResourceConstants.TABLE_ACTIONCOLUMN_WIDTH, true));
 		columnProperties.add(RscTools.getString(RscConst.MSG_BTN_EDIT));
 
 		// Tree - Column - Action delete
 		TreeViewerColumn actionDeleteColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 		actionDeleteColumn.getColumn().setText(RscTools.getString(RscConst.MSG_BTN_DELETE));
-		actionDeleteColumn.setLabelProvider(new SystemRequirementColumnLabelProvider() {
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object element = cell.getElement();
-
-				// Delete Editor
-				TreeEditor editor = null;
-
-				if (!deleteEditors.containsKey(item)) {
-
-					// Button
-					ButtonTheme btnDeleteItem = TableFactory
-							.createDeleteButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-					btnDeleteItem.addListener(SWT.Selection, event -> getViewController().deleteElement(element));
-
-					// Draw cell
-					editor = new TreeEditor(item.getParent());
-					editor.grabHorizontal = true;
-					editor.grabVertical = true;
-					editor.setEditor(btnDeleteItem, item, cell.getColumnIndex());
-
-					deleteEditors.put(item, editor);
-				}
-				// set cell background
-				cell.setBackground(getBackground(element));
-				cell.setForeground(getForeground(element));
-			}
-		});
+		actionDeleteColumn.setLabelProvider(new SystemRequirementActionColumnLabelProvider());
+		actionSupport.addAction(actionDeleteColumn, IconTheme.ICON_NAME_DELETE, ConstantTheme.COLOR_NAME_RED,
+				element -> getViewController().deleteElement(element));
 		treeViewerLayout.addColumnData(new ColumnPixelData(PartsResourceConstants.TABLE_ACTIONCOLUMN_WIDTH, true));
 		columnProperties.add(RscTools.getString(RscConst.MSG_BTN_DELETE));
 	}
@@ -596,19 +442,7 @@ public class SystemRequirementView extends ACredibilitySubView<SystemRequirement
 		// Get tree
 		Tree tree = treeViewer.getTree();
 
-		tree.addListener(SWT.MeasureItem, new Listener() {
-			private TreeItem previousItem = null;
-
-			@Override
-			public void handleEvent(Event event) {
-				event.height = PartsResourceConstants.TABLE_ROW_HEIGHT;
-				TreeItem item = (TreeItem) event.item;
-				if (item != null && !item.equals(previousItem)) {
-					previousItem = item;
-					refreshTableButtons(item);
-				}
-			}
-		});
+		tree.addListener(SWT.MeasureItem, event -> event.height = PartsResourceConstants.TABLE_ROW_HEIGHT);
 
 		// Tree - Listener - Double Click
 		tree.addListener(SWT.MouseDoubleClick, event -> {
@@ -666,13 +500,6 @@ public class SystemRequirementView extends ACredibilitySubView<SystemRequirement
 		}
 		treeViewer = null;
 
-		// Refresh
-		ViewTools.refreshTableEditors(openEditors);
-		ViewTools.refreshTableEditors(editEditors);
-		ViewTools.refreshTableEditors(viewEditors);
-		ViewTools.refreshTableEditors(deleteEditors);
-		ViewTools.refreshTableEditors(addEditors);
-
 		// render the main table
 		renderMainTable();
 
@@ -680,19 +507,6 @@ public class SystemRequirementView extends ACredibilitySubView<SystemRequirement
 		compositeTable.layout();
 	}
 
-	/**
-	 * Refresh the table buttons
-	 * 
-	 * @param item
-	 */
-	private void refreshTableButtons(TreeItem item) {
-		ViewTools.refreshTreeEditor(openEditors.get(item));
-		ViewTools.refreshTreeEditor(editEditors.get(item));
-		ViewTools.refreshTreeEditor(viewEditors.get(item));
-		ViewTools.refreshTreeEditor(deleteEditors.get(item));
-		ViewTools.refreshTreeEditor(addEditors.get(item));
-	}
-
 	/**
 	 * Get First Requirement Selected
 	 * 
@@ -727,6 +541,20 @@ public class SystemRequirementView extends ACredibilitySubView<SystemRequirement
 		}
 	}
 
+	/**
+	 * The SystemRequirement action column label provider: the action icon is
+	 * drawn by the action column support
+	 * 
+	 * @author Didier Verstraete
+	 *
+	 */
+	private class SystemRequirementActionColumnLabelProvider extends SystemRequirementColumnLabelProvider {
+		@Override
+		public String getText(Object element) {
+			return RscTools.empty();
+		}
+	}
+
 	/**
 	 * Get cell background color
 	 * 
@@ -18,10 +18,8 @@ import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TreeViewerColumn;
-import org.eclipse.jface.viewers.ViewerCell;
 import org.eclipse.jface.window.ToolTip;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.custom.TreeEditor;
 import org.eclipse.swt.dnd.DND;
 import org.eclipse.swt.dnd.DragSourceAdapter;
 import org.eclipse.swt.dnd.DragSourceEvent;
@@ -34,10 +32,8 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.layout.RowData;
 import org.eclipse.swt.layout.RowLayout;
 import org.eclipse.swt.widgets.Composite;
-import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Tree;
-import org.eclipse.swt.widgets.TreeItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,10 +44,10 @@ import gov.sandia.cf.parts.listeners.ViewerSelectionKeepBackgroundColor;
 import gov.sandia.cf.parts.theme.ButtonTheme;
 import gov.sandia.cf.parts.theme.ConstantTheme;
 import gov.sandia.cf.parts.theme.IconTheme;
-import gov.sandia.cf.parts.tools.ViewTools;
 import gov.sandia.cf.parts.ui.ACredibilitySubView;
 import gov.sandia.cf.parts.ui.MainViewManager;
 import gov.sandia.cf.parts.ui.uncertainty.editors.UncertaintyTreeContentProvider;
+import gov.sandia.cf.parts.viewer.ActionColumnSupport;
 import gov.sandia.cf.parts.viewer.TableFactory;
 import gov.sandia.cf.parts.viewer.TreeViewerID;
 import gov.sandia.cf.parts.viewer.editors.AutoResizeViewerLayout;
@@ -87,15 +83,6 @@ public class UncertaintyView extends ACredibilitySubView<UncertaintyViewControll
 	 */
 	private TreeViewerID treeViewer;
 
-	/**
-	 * Button list
-	 */
-	private Map<TreeItem, TreeEditor> addEditors;
-	private Map<TreeItem, TreeEditor> openEditors;
-	private Map<TreeItem, TreeEditor> viewEditors;
-	private Map<TreeItem, TreeEditor> editEditors;
-	private Map<TreeItem, TreeEditor> deleteEditors;
-
 	/**
 	 * The constructor.
 	 *
@@ -105,13 +92,6 @@ public class UncertaintyView extends ACredibilitySubView<UncertaintyViewControll
 	public UncertaintyView(UncertaintyViewController viewController, int style) {
 		super(viewController, viewController.getViewManager(), style);
 
-		// Make sure you dispose these buttons when viewer input changes
-		this.addEditors = new HashMap<>();
-		this.openEditors = new HashMap<>();
-		this.viewEditors = new HashMap<>();
-		this.editEditors = new HashMap<>();
-		this.deleteEditors = new HashMap<>();
-
 		// create the view
 		if (getViewController().getViewManager().getCache().getUncertaintySpecification() != null) {
 			renderPage();
@@ -341,7 +321,8 @@ public class UncertaintyView extends ACredibilitySubView<UncertaintyViewControll
 	private void renderMainTableInit() {
 		// Tree - Create
 		treeViewer = new TreeViewerID(compositeTable,
-				SWT.BORDER | SWT.V_SCROLL | SWT.H_SCROLL | SWT.FULL_SELECTION | SWT.MULTI);
+				SWT.VIRTUAL | SWT.BORDER | SWT.V_SCROLL | SWT.H_SCROLL | SWT.FULL_SELECTION | SWT.MULTI);
+		treeViewer.setUseHashlookup(true);
 		GridData gdViewer = new GridData(SWT.FILL, SWT.FILL, true, true, 1, 1);
 		treeViewer.getTree().setLayoutData(gdViewer);
 		treeViewer.getTree().setHeaderVisible(true);
@@ -390,82 +371,29 @@ public class UncertaintyView extends ACredibilitySubView<UncertaintyViewControll
 		Tree tree = treeViewer.getTree();
 		AutoResizeViewerLayout treeViewerLayout = (AutoResizeViewerLayout) tree.getLayout();
 
+		// Action icons drawn in the cells
+		ActionColumnSupport actionSupport = ActionColumnSupport.enableFor(treeViewer,
+				getViewController().getViewManager().getRscMgr());
+
 		// Tree - Column - Action Add
 		TreeViewerColumn addColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 		addColumn.getColumn().setText(RscTools.getString(RscConst.MSG_BTN_ADD));
-		addColumn.setLabelProvider(new UncertaintyColumnLabelProvider() {
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object element = cell.getElement();
-
-				// View editor
-				TreeEditor editor = null;
-
-				if (element instanceof Uncertainty && !addEditors.containsKey(item)) {
-
-					// Button
-					ButtonTheme btnAddItem = TableFactory
-							.createAddButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-					btnAddItem.addListener(SWT.Selection, event -> {
-						getViewController().addUncertainty((Uncertainty) element);
-						treeViewer.refresh(item);
-					});
-
-					// Draw cell
-					editor = new TreeEditor(item.getParent());
-					editor.grabHorizontal = true;
-					editor.grabVertical = true;
-					editor.setEditor(btnAddItem, item, cell.getColumnIndex());
-
-					addEditors.put(item, editor);
-				}
-
-				// set cell background
-				cell.setBackground(getBackground(element));
-				cell.setForeground(getForeground(element));
-			}
-		});
+		addColumn.setLabelProvider(new UncertaintyActionColumnLabelProvider());
+		actionSupport.addAction(addColumn, IconTheme.ICON_NAME_ADD, ConstantTheme.COLOR_NAME_GREEN,
+				Uncertainty.class::isInstance, element -> {
+					getViewController().addUncertainty((Uncertainty) element);
+					treeViewer.refresh(element);
+				});
 		treeViewerLayout.addColumnData(new ColumnPixelData(PartsResourceConstants.TABLE_ACTIONCOLUMN_WIDTH, true));
 		columnProperties.add(RscTools.getString(RscConst.MSG_BTN_ADD));
 
 		// Tree - Column - Action Open
 		TreeViewerColumn openColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 		openColumn.getColumn().setText(RscTools.getString(RscConst.MSG_BTN_OPEN));
-		openColumn.setLabelProvider(new UncertaintyColumnLabelProvider() {
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object element = cell.getElement();
-
-				// Open editor
-				TreeEditor editor = null;
-
-				// Button Open for Uncertainty
-				if (!openEditors.containsKey(item)) {
-
-					// Button
-					ButtonTheme btnViewItem = TableFactory
-							.createOpenButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-					btnViewItem.addListener(SWT.Selection,
-							event -> getViewController().openAllUncertaintyValues((Uncertainty) element));
-
-					// Draw cell
-					editor = new TreeEditor(item.getParent());
-					editor.grabHorizontal = true;
-					editor.grabVertical = true;
-					editor.setEditor(btnViewItem, item, cell.getColumnIndex());
-
-					openEditors.put(item, editor);
-				}
-
-				// set cell background
-				cell.setBackground(getBackground(element));
-				cell.setForeground(getForeground(element));
-			}
-		});
+		openColumn.setLabelProvider(new UncertaintyActionColumnLabelProvider());
+		actionSupport.addAction(openColumn, IconTheme.ICON_NAME_OPEN, ConstantTheme.COLOR_NAME_PRIMARY_LIGHT,
+				Uncertainty.class::isInstance,
+				element -> getViewController().openAllUncertaintyValues((Uncertainty) element));
 		treeViewerLayout.addColumnData(
 				new ColumnPixelData(PartsResourceConstants.PCMM_VIEW_TABLEEVIDENCE_ACTIONCOLUMN_WIDTH, true));
 		columnProperties.add(RscTools.getString(RscConst.MSG_BTN_VIEW));
@@ -473,39 +401,10 @@ public class UncertaintyView extends ACredibilitySubView<UncertaintyViewControll
 		// Tree - Column - Action View
 		TreeViewerColumn viewColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 		viewColumn.getColumn().setText(RscTools.getString(RscConst.MSG_BTN_VIEW));
-		viewColumn.setLabelProvider(new UncertaintyColumnLabelProvider() {
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object element = cell.getElement();
-
-				// View editor
-				TreeEditor editor = null;
-
-				if (!viewEditors.containsKey(item)) {
-
-					// Button
-					ButtonTheme btnViewItem = TableFactory
-							.createViewButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-
-					// View - Listener
-					btnViewItem.addListener(SWT.Selection, event -> getViewController().viewElement(element));
-
-					// Draw cell
-					editor = new TreeEditor(item.getParent());
-					editor.grabHorizontal = true;
-					editor.grabVertical = true;
-					editor.setEditor(btnViewItem, item, cell.getColumnIndex());
-
-					viewEditors.put(item, editor);
-				}
-
-				// set cell background
-				cell.setBackground(getBackground(element));
-				cell.setForeground(getForeground(element));
-			}
-		});
+		viewColumn.setLabelProvider(new UncertaintyActionColumnLabelProvider());
+		actionSupport.addAction(viewColumn, IconTheme.ICON_NAME_VIEW, ConstantTheme.COLOR_NAME_BLUE,
+				element -> getViewController().viewElement(element));
+		actionSupport.setKeyboardAction(viewColumn);
 		treeViewerLayout.addColumnData(
 				new ColumnPixelData(PartsResourceConstants.PCMM_VIEW_TABLEEVIDENCE_ACTIONCOLUMN_WIDTH, true));
 		columnProperties.add(RscTools.getString(RscConst.MSG_BTN_VIEW));
@@ -513,75 +412,19 @@ public class UncertaintyView extends ACredibilitySubView<UncertaintyViewControll
 		// Tree - Column - Action Edit
 		TreeViewerColumn editColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 		editColumn.getColumn().setText(RscTools.getString(RscConst.MSG_BTN_EDIT));
-		editColumn.setLabelProvider(new UncertaintyColumnLabelProvider() {
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object element = cell.getElement();
-
-				// View editor
-				TreeEditor editor = null;
-
-				if (!editEditors.containsKey(item)) {
-
-					// Button
-					ButtonTheme btnEditItem = TableFactory
-							.createEditButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-					btnEditItem.addListener(SWT.Selection, event -> getViewController().updateElement(element));
-
-					// Draw cell
-					editor = new TreeEditor(item.getParent());
-					editor.grabHorizontal = true;
-					editor.grabVertical = true;
-					editor.setEditor(btnEditItem, item, cell.getColumnIndex());
-
-					editEditors.put(item, editor);
-				}
-
-				// set cell background
-				cell.setBackground(getBackground(element));
-				cell.setForeground(getForeground(element));
-			}
-		});
+		editColumn.setLabelProvider(new UncertaintyActionColumnLabelProvider());
+		actionSupport.addAction(editColumn, IconTheme.ICON_NAME_EDIT, ConstantTheme.COLOR_NAME_GREEN,
+				element -> getViewController().updateElement(element));
 		treeViewerLayout.addColumnData(
 				new ColumnPixelData(PartsResourceConstants.PCMM_VIEW_TABLEEVIDENCE_ACTIONCOLUMN_WIDTH, true));
 		columnProperties.add(RscTools.getString(RscConst.MSG_BTN_EDIT));
 
-		// Tree - Column - Action delete
+		// Tree - Column - Action Delete
 		TreeViewerColumn actionDeleteColumn = new TreeViewerColumn(treeViewer, SWT.LEFT);
 		actionDeleteColumn.getColumn().setText(RscTools.getString(RscConst.MSG_BTN_DELETE));
-		actionDeleteColumn.setLabelProvider(new UncertaintyColumnLabelProvider() {
-			@Override
-			public void update(ViewerCell cell) {
-				// Get item
-				TreeItem item = (TreeItem) cell.getItem();
-				Object element = cell.getElement();
-
-				// Delete Editor
-				TreeEditor editor = null;
-
-				if (!deleteEditors.containsKey(item)) {
-
-					// Button
-					ButtonTheme btnDeleteItem = TableFactory
-							.createDeleteButtonColumnAction(getViewController().getViewManager().getRscMgr(), cell);
-					btnDeleteItem.addListener(SWT.Selection, event -> getViewController().deleteElement(element));
-
-					// Draw cell
-					editor = new TreeEditor(item.getParent());
-					editor.grabHorizontal = true;
-					editor.grabVertical = true;
-					editor.setEditor(btnDeleteItem, item, cell.getColumnIndex());
-
-					deleteEditors.put(item, editor);
-				}
-
-				// set cell background
-				cell.setBackground(getBackground(element));
-				cell.setForeground(getForeground(element));
-			}
-		});
+		actionDeleteColumn.setLabelProvider(new UncertaintyActionColumnLabelProvider());
+		actionSupport.addAction(actionDeleteColumn, IconTheme.ICON_NAME_DELETE, ConstantTheme.COLOR_NAME_RED,
+				element -> getViewController().deleteElement(element));
 		treeViewerLayout.addColumnData(
 				new ColumnPixelData(PartsResourceConstants.PCMM_VIEW_TABLEEVIDENCE_ACTIONCOLUMN_WIDTH, true));
 		columnProperties.add(RscTools.getString(RscConst.MSG_BTN_DELETE));
@@ -594,19 +437,7 @@ public class UncertaintyView extends ACredibilitySubView<UncertaintyViewControll
 		// Get tree
 		Tree tree = treeViewer.getTree();
 
-		tree.addListener(SWT.MeasureItem, new Listener() {
-			private TreeItem previousItem = null;
-
-			@Override
-			public void handleEvent(Event event) {
-				event.height = PartsResourceConstants.TABLE_ROW_HEIGHT;
-				TreeItem item = (TreeItem) event.item;
-				if (item != null && !item.equals(previousItem)) {
-					previousItem = item;
-					refreshTableButtons(item);
-				}
-			}
-		});
+		tree.addListener(SWT.MeasureItem, event -> event.height = PartsResourceConstants.TABLE_ROW_HEIGHT);
 
 		// Tree - Listener - Double Click
 		tree.addListener(SWT.MouseDoubleClick, event -> {
@@ -664,13 +495,6 @@ public class UncertaintyView extends ACredibilitySubView<UncertaintyViewControll
 		}
 		treeViewer = null;
 
-		// Refresh
-		ViewTools.refreshTableEditors(addEditors);
-		ViewTools.refreshTableEditors(openEditors);
-		ViewTools.refreshTableEditors(viewEditors);
-		ViewTools.refreshTableEditors(editEditors);
-		ViewTools.refreshTableEditors(deleteEditors);
-
 		// render the main table
 		renderMainTable();
 
@@ -678,19 +502,6 @@ public class UncertaintyView extends ACredibilitySubView<UncertaintyViewControll
 		compositeTable.layout();
 	}
 
-	/**
-	 * Refresh the table buttons
-	 * 
-	 * @param item
-	 */
-	private void refreshTableButtons(TreeItem item) {
-		ViewTools.refreshTreeEditor(addEditors.get(item));
-		ViewTools.refreshTreeEditor(openEditors.get(item));
-		ViewTools.refreshTreeEditor(viewEditors.get(item));
-		ViewTools.refreshTreeEditor(editEditors.get(item));
-		ViewTools.refreshTreeEditor(deleteEditors.get(item));
-	}
-
 	/**
 	 * Get First Uncertainty Selected
 	 * 
@@ -725,6 +536,20 @@ public class UncertaintyView extends ACredibilitySubView<UncertaintyViewControll
 		}
 	}
 
+	/**
+	 * The Uncertainty action column label provider: the action icon is drawn by
+	 * the action column support
+	 * 
+	 * @author Didier Verstraete
+	 *
+	 */
+	private class UncertaintyActionColumnLabelProvider extends UncertaintyColumnLabelProvider {
+		@Override
+		public String getText(Object element) {
+			return RscTools.empty();
+		}
+	}
+
 	/**
 	 * Get cell background color
 	 * 
@@ -0,0 +1,396 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.parts.viewer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.eclipse.jface.resource.ResourceManager;
+import org.eclipse.jface.viewers.ColumnViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.jface.viewers.TreeViewerColumn;
+import org.eclipse.jface.viewers.ViewerCell;
+import org.eclipse.jface.viewers.ViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
+
+import gov.sandia.cf.parts.constants.PartsResourceConstants;
+import gov.sandia.cf.parts.theme.ConstantTheme;
+import gov.sandia.cf.parts.theme.IconTheme;
+
+/**
+ * This viewer support draws the action icons (open, view, edit, delete...)
+ * directly in the cells of the action columns and runs the action when the
+ * icon is clicked: the mouse must be pressed and released on the same icon of
+ * the same cell. The keyboard action, if set, runs with the selected row
+ * element when Enter is pressed. Contrary to the TreeEditor and ButtonTheme per row, no
+ * native widget is created by row: the rows of a SWT.VIRTUAL tree or table are
+ * painted on demand and the number of rows does not impact the OS handles.
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class ActionColumnSupport implements Listener {
+
+	/**
+	 * The viewer
+	 */
+	private final ColumnViewer viewer;
+
+	/**
+	 * The resource manager used to manage the resources (fonts, colors, images,
+	 * cursors...)
+	 */
+	private final ResourceManager rscMgr;
+
+	/**
+	 * The actions by column widget
+	 */
+	private final Map<Widget, ColumnAction> actions;
+
+	/**
+	 * The column widget of the action run with the Enter key
+	 */
+	private Widget keyboardColumn;
+
+	/**
+	 * The action whose icon has been pressed, or null
+	 */
+	private ColumnAction pressedAction;
+
+	/**
+	 * The row element of the pressed icon
+	 */
+	private Object pressedElement;
+
+	/**
+	 * Is the hand cursor displayed
+	 */
+	private boolean handCursor = false;
+
+	/**
+	 * Creates a new action column support for @param viewer
+	 *
+	 * @param viewer the tree or table viewer
+	 * @param rscMgr the resource manager used to manage the resources (fonts,
+	 *               colors, images, cursors...)
+	 * @return the action column support
+	 */
+	public static ActionColumnSupport enableFor(ColumnViewer viewer, ResourceManager rscMgr) {
+		return new ActionColumnSupport(viewer, rscMgr);
+	}
+
+	/**
+	 * The constructor
+	 *
+	 * @param viewer the tree or table viewer
+	 * @param rscMgr the resource manager
+	 */
+	private ActionColumnSupport(ColumnViewer viewer, ResourceManager rscMgr) {
+		this.viewer = viewer;
+		this.rscMgr = rscMgr;
+		this.actions = new HashMap<>();
+
+		Control control = viewer.getControl();
+		control.addListener(SWT.PaintItem, this);
+		control.addListener(SWT.MouseDown, this);
+		control.addListener(SWT.MouseUp, this);
+		control.addListener(SWT.MouseMove, this);
+		control.addListener(SWT.MouseExit, this);
+		control.addListener(SWT.KeyDown, this);
+		control.addListener(SWT.Dispose, event -> actions.clear());
+	}
+
+	/**
+	 * Add an action on the column
+	 *
+	 * @param column    the tree or table viewer column
+	 * @param iconName  the icon name (see IconTheme)
+	 * @param colorName the icon color name (see ConstantTheme)
+	 * @param action    the action to run with the row element
+	 */
+	public void addAction(ViewerColumn column, String iconName, String colorName, Consumer<Object> action) {
+		addAction(column, iconName, colorName, element -> true, action);
+	}
+
+	/**
+	 * Add an action on the column
+	 *
+	 * @param column    the tree or table viewer column
+	 * @param iconName  the icon name (see IconTheme)
+	 * @param colorName the icon color name (see ConstantTheme)
+	 * @param isVisible the predicate to display the action for the row element
+	 * @param action    the action to run with the row element
+	 */
+	public void addAction(ViewerColumn column, String iconName, String colorName, Predicate<Object> isVisible,
+			Consumer<Object> action) {
+
+		Widget columnWidget = getColumn(column);
+		if (columnWidget != null && action != null) {
+			Image icon = IconTheme.getIconImage(rscMgr, iconName, ConstantTheme.getColor(colorName),
+					PartsResourceConstants.TABLE_ACTION_ICON_SIZE);
+			actions.put(columnWidget, new ColumnAction(icon, isVisible, action));
+		}
+	}
+
+	/**
+	 * Set the action run with the selected row element when the Enter key is
+	 * pressed
+	 *
+	 * @param column the tree or table viewer column of the action
+	 */
+	public void setKeyboardAction(ViewerColumn column) {
+		keyboardColumn = getColumn(column);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void handleEvent(Event event) {
+		switch (event.type) {
+		case SWT.PaintItem:
+			paintAction(event);
+			break;
+		case SWT.MouseDown:
+			if (event.button == 1) {
+				pressAction(new Point(event.x, event.y));
+			}
+			break;
+		case SWT.MouseUp:
+			if (event.button == 1) {
+				runAction(new Point(event.x, event.y));
+			}
+			break;
+		case SWT.KeyDown:
+			if (event.keyCode == SWT.CR || event.keyCode == SWT.KEYPAD_CR) {
+				runKeyboardAction();
+			}
+			break;
+		case SWT.MouseMove:
+			updateCursor(new Point(event.x, event.y));
+			break;
+		case SWT.MouseExit:
+			setHandCursor(false);
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Draw the action icon of the painted cell
+	 *
+	 * @param event the paint event
+	 */
+	private void paintAction(Event event) {
+		ColumnAction action = actions.get(getColumn(event.index));
+		if (action == null || action.icon == null || !action.isVisible(event.item.getData())) {
+			return;
+		}
+
+		Rectangle iconBounds = getIconBounds(getCellBounds(event.item, event.index), action.icon);
+		if (iconBounds != null) {
+			event.gc.drawImage(action.icon, iconBounds.x, iconBounds.y);
+		}
+	}
+
+	/**
+	 * Keep the action of the icon pressed at the point
+	 *
+	 * @param point the pressed point
+	 */
+	private void pressAction(Point point) {
+		ViewerCell cell = viewer.getCell(point);
+		pressedAction = getAction(cell, point);
+		pressedElement = pressedAction != null ? cell.getElement() : null;
+	}
+
+	/**
+	 * Run the action of the icon at the point if it is the pressed icon of the
+	 * same cell
+	 *
+	 * @param point the released point
+	 */
+	private void runAction(Point point) {
+		ColumnAction pressed = pressedAction;
+		Object element = pressedElement;
+		pressedAction = null;
+		pressedElement = null;
+
+		ViewerCell cell = viewer.getCell(point);
+		ColumnAction action = getAction(cell, point);
+		if (action != null && action == pressed && cell.getElement() == element) {
+			action.action.accept(element);
+		}
+	}
+
+	/**
+	 * Run the keyboard action with the selected row element
+	 */
+	private void runKeyboardAction() {
+		ColumnAction action = keyboardColumn != null ? actions.get(keyboardColumn) : null;
+		if (action == null) {
+			return;
+		}
+
+		Object element = viewer.getStructuredSelection().getFirstElement();
+		if (action.isVisible(element)) {
+			action.action.accept(element);
+		}
+	}
+
+	/**
+	 * @param cell  the cell at the point
+	 * @param point the point
+	 * @return the visible action whose icon contains the point, otherwise null
+	 */
+	private ColumnAction getAction(ViewerCell cell, Point point) {
+		if (cell == null || actions.isEmpty()) {
+			return null;
+		}
+
+		ColumnAction action = actions.get(getColumn(cell.getColumnIndex()));
+		if (action == null || action.icon == null || !action.isVisible(cell.getElement())) {
+			return null;
+		}
+
+		Rectangle iconBounds = getIconBounds(cell.getBounds(), action.icon);
+		return iconBounds != null && iconBounds.contains(point) ? action : null;
+	}
+
+	/**
+	 * Display the hand cursor if the point is on an action icon
+	 *
+	 * @param point the mouse position
+	 */
+	private void updateCursor(Point point) {
+		setHandCursor(getAction(viewer.getCell(point), point) != null);
+	}
+
+	/**
+	 * Set the hand cursor when hovering an action icon
+	 *
+	 * @param hand display the hand cursor if true, otherwise the default one
+	 */
+	private void setHandCursor(boolean hand) {
+		Control control = viewer.getControl();
+		if (hand != handCursor && control != null && !control.isDisposed()) {
+			handCursor = hand;
+			control.setCursor(hand ? control.getDisplay().getSystemCursor(SWT.CURSOR_HAND) : null);
+		}
+	}
+
+	/**
+	 * @param column the tree or table viewer column
+	 * @return the column widget of the viewer column
+	 */
+	private static Widget getColumn(ViewerColumn column) {
+		if (column instanceof TreeViewerColumn) {
+			return ((TreeViewerColumn) column).getColumn();
+		} else if (column instanceof TableViewerColumn) {
+			return ((TableViewerColumn) column).getColumn();
+		}
+		return null;
+	}
+
+	/**
+	 * @param index the column index
+	 * @return the column widget at the index
+	 */
+	private Widget getColumn(int index) {
+		Control control = viewer.getControl();
+		if (control instanceof Tree && index >= 0 && index < ((Tree) control).getColumnCount()) {
+			return ((Tree) control).getColumn(index);
+		} else if (control instanceof Table && index >= 0 && index < ((Table) control).getColumnCount()) {
+			return ((Table) control).getColumn(index);
+		}
+		return null;
+	}
+
+	/**
+	 * @param item  the tree or table item
+	 * @param index the column index
+	 * @return the cell bounds
+	 */
+	private static Rectangle getCellBounds(Widget item, int index) {
+		if (item instanceof TreeItem) {
+			return ((TreeItem) item).getBounds(index);
+		} else if (item instanceof TableItem) {
+			return ((TableItem) item).getBounds(index);
+		}
+		return null;
+	}
+
+	/**
+	 * @param cellBounds the cell bounds
+	 * @param icon       the icon
+	 * @return the bounds of the icon centered in the cell
+	 */
+	private static Rectangle getIconBounds(Rectangle cellBounds, Image icon) {
+		if (cellBounds == null) {
+			return null;
+		}
+		Rectangle imageBounds = icon.getBounds();
+		return new Rectangle(cellBounds.x + (cellBounds.width - imageBounds.width) / 2,
+				cellBounds.y + (cellBounds.height - imageBounds.height) / 2, imageBounds.width, imageBounds.height);
+	}
+
+	/**
+	 * The action of a column
+	 *
+	 * @author Didier Verstraete
+	 *
+	 */
+	private static class ColumnAction {
+
+		/**
+		 * The icon
+		 */
+		private final Image icon;
+
+		/**
+		 * The visibility predicate
+		 */
+		private final Predicate<Object> isVisible;
+
+		/**
+		 * The action
+		 */
+		private final Consumer<Object> action;
+
+		/**
+		 * The constructor
+		 *
+		 * @param icon      the icon
+		 * @param isVisible the visibility predicate
+		 * @param action    the action
+		 */
+		private ColumnAction(Image icon, Predicate<Object> isVisible, Consumer<Object> action) {
+			this.icon = icon;
+			this.isVisible = isVisible;
+			this.action = action;
+		}
+
+		/**
+		 * @param element the row element
+		 * @return true if the action is displayed for the element
+		 */
+		private boolean isVisible(Object element) {
+			return element != null && (isVisible == null || isVisible.test(element));
+		}
+	}
+}
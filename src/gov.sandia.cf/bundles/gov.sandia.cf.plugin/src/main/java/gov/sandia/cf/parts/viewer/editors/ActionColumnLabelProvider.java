@@ -0,0 +1,26 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.parts.viewer.editors;
+
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+
+import gov.sandia.cf.tools.RscTools;
+
+/**
+ * Action column label provider: the cell has no text, the action icon is drawn
+ * by the ActionColumnSupport.
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class ActionColumnLabelProvider extends ColumnLabelProvider {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getText(Object element) {
+		return RscTools.empty();
+	}
+}
@@ -22,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import gov.sandia.cf.application.pcmm.IPCMMApplication;
+import gov.sandia.cf.application.pcmm.IPCMMProgressApp;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.PCMMElement;
 import gov.sandia.cf.model.dto.configuration.PCMMSpecification;
@@ -141,8 +142,8 @@ public class PCMMProgressBarPart extends Composite {
 				try {
 					maxProgress = viewManager.getAppManager().getService(IPCMMApplication.class)
 							.computeMaxProgress(configuration);
-					currentProgress = viewManager.getAppManager().getService(IPCMMApplication.class)
-							.computeCurrentProgressByElement(element, viewManager.getSelectedTag(), configuration);
+					currentProgress = viewManager.getAppManager().getService(IPCMMProgressApp.class)
+							.computeProgressByElement(element, viewManager.getSelectedTag(), configuration);
 				} catch (CredibilityException e) {
 					logger.error(RscTools.getString(RscConst.ERR_HOMEVIEW_PCMM_PROGRESS_ERROR), e);
 					MessageDialog.openError(getShell(), RscTools.getString(RscConst.MSG_PCMMHOME_DIALOG_TITLE),
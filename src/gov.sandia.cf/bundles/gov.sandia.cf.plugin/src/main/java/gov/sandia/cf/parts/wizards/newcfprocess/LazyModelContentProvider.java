@@ -0,0 +1,116 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.parts.wizards.newcfprocess;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.jface.viewers.ILazyContentProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.sandia.cf.model.Model;
+import gov.sandia.cf.model.dto.ModelPageDto;
+import gov.sandia.cf.web.WebClientRuntimeException;
+import gov.sandia.cf.web.services.global.IModelWebClient;
+
+/**
+ * The lazy content provider of the model table: the models are loaded page by
+ * page from the server when their rows are displayed. The table must be
+ * created with the SWT.VIRTUAL style.
+ *
+ * @author Didier Verstraete
+ */
+public class LazyModelContentProvider implements ILazyContentProvider {
+
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(LazyModelContentProvider.class);
+
+	/** The page size. */
+	static final int PAGE_SIZE = 50;
+
+	/** The model web client supplier. */
+	private final Supplier<IModelWebClient> modelWebClient;
+
+	/** The loaded pages by page number. */
+	private final Map<Integer, List<Model>> pages;
+
+	/** The table viewer. */
+	private TableViewer viewer;
+
+	/**
+	 * Instantiates a new lazy model content provider.
+	 *
+	 * @param modelWebClient the model web client supplier
+	 */
+	public LazyModelContentProvider(Supplier<IModelWebClient> modelWebClient) {
+		this.modelWebClient = modelWebClient;
+		this.pages = new HashMap<>();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		this.viewer = (TableViewer) viewer;
+		pages.clear();
+	}
+
+	/**
+	 * Clear the loaded pages and load the first one.
+	 *
+	 * @return the total number of models
+	 */
+	public int reload() {
+		pages.clear();
+		ModelPageDto firstPage = loadPage(0);
+		return firstPage != null ? (int) Math.min(firstPage.getTotalElements(), Integer.MAX_VALUE) : 0;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void updateElement(int index) {
+
+		if (viewer == null || index < 0) {
+			return;
+		}
+
+		int pageNumber = index / PAGE_SIZE;
+		if (!pages.containsKey(pageNumber)) {
+			loadPage(pageNumber);
+		}
+
+		List<Model> page = pages.get(pageNumber);
+		int indexInPage = index % PAGE_SIZE;
+		if (page != null && indexInPage < page.size()) {
+			viewer.replace(page.get(indexInPage), index);
+		}
+	}
+
+	/**
+	 * Load the page and keep it.
+	 *
+	 * @param pageNumber the page number
+	 * @return the page loaded, or null if the server can not be reached
+	 */
+	private ModelPageDto loadPage(int pageNumber) {
+
+		ModelPageDto page = null;
+		List<Model> models = new ArrayList<>();
+		try {
+			page = modelWebClient.get().page(pageNumber, PAGE_SIZE, models);
+		} catch (WebClientRuntimeException e) {
+			logger.error("The model page {} can not be loaded: {}", pageNumber, e.getMessage(), e); //$NON-NLS-1$
+		}
+		pages.put(pageNumber, models);
+
+		return page;
+	}
+}
@@ -30,7 +30,6 @@ import gov.sandia.cf.parts.listeners.ViewerSelectionKeepBackgroundColor;
 import gov.sandia.cf.parts.theme.ConstantTheme;
 import gov.sandia.cf.parts.theme.IconTheme;
 import gov.sandia.cf.parts.viewer.TableViewerHideSelection;
-import gov.sandia.cf.parts.viewer.editors.GenericTableListContentProvider;
 import gov.sandia.cf.parts.widgets.FormFactory;
 import gov.sandia.cf.tools.RscConst;
 import gov.sandia.cf.tools.RscTools;
@@ -54,6 +53,9 @@ public class NewCFProcessWebProjectExistingSetupPage extends WizardPage
 	/** The table project selector. */
 	private TableViewerHideSelection tableProjectSelector;
 
+	/** The model content provider, loading the models page by page. */
+	private LazyModelContentProvider modelContentProvider;
+
 	/**
 	 * The constructor
 	 * 
@@ -85,7 +87,7 @@ public class NewCFProcessWebProjectExistingSetupPage extends WizardPage
 
 		// project selector table
 		tableProjectSelector = new TableViewerHideSelection(container,
-				SWT.BORDER | SWT.V_SCROLL | SWT.H_SCROLL | SWT.FULL_SELECTION, true, false);
+				SWT.BORDER | SWT.V_SCROLL | SWT.H_SCROLL | SWT.FULL_SELECTION | SWT.VIRTUAL, true, false);
 
 		GridData gdTable = new GridData(SWT.FILL, SWT.FILL, true, true, 1, 1);
 		tableProjectSelector.getTable().setLayoutData(gdTable);
@@ -127,7 +129,11 @@ public class NewCFProcessWebProjectExistingSetupPage extends WizardPage
 
 		// Tree editors, modifiers, providers
 		tableProjectSelector.setColumnProperties(columnProperties.stream().toArray(String[]::new));
-		tableProjectSelector.setContentProvider(new GenericTableListContentProvider());
+		// the web client is configured by the previous pages
+		modelContentProvider = new LazyModelContentProvider(
+				() -> this.parent.getWebClientManager().getService(IModelWebClient.class));
+		tableProjectSelector.setContentProvider(modelContentProvider);
+		tableProjectSelector.setUseHashlookup(true);
 
 		// set row height
 		tableProjectSelector.getTable().addListener(SWT.MeasureItem, new Listener() {
@@ -168,18 +174,16 @@ public class NewCFProcessWebProjectExistingSetupPage extends WizardPage
 	 */
 	public void reload() {
 
-		List<Model> models = new ArrayList<>();
+		// the input is not used by the lazy content provider
+		tableProjectSelector.setInput(modelContentProvider);
 
+		// load the first model page, the next ones are loaded when displayed
+		int modelCount = 0;
 		if (isCurrentPage()) {
-
-			// load model list
-			List<Model> list = parent.getWebClientManager().getService(IModelWebClient.class).list();
-			if (list != null) {
-				models.addAll(list);
-			}
+			modelCount = modelContentProvider.reload();
 		}
 
-		tableProjectSelector.setInput(models);
+		tableProjectSelector.setItemCount(modelCount);
 
 		// refresh the viewer
 		tableProjectSelector.refresh();
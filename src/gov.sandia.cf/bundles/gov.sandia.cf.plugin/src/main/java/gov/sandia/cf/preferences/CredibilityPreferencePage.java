@@ -7,6 +7,7 @@ import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.ComboFieldEditor;
 import org.eclipse.jface.preference.FileFieldEditor;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPreferencePage;
 import org.eclipse.ui.preferences.ScopedPreferenceStore;
@@ -66,6 +67,12 @@ public class CredibilityPreferencePage extends org.eclipse.jface.preference.Fiel
 						OpenLinkBrowserOption.INTERNAL_BROWSER, OpenLinkBrowserOption.ECLIPSE_PREFERENCE),
 				getFieldEditorParent()));
 
+		// add autosave interval
+		IntegerFieldEditor autosaveField = new IntegerFieldEditor(PrefTools.GLOBAL_AUTOSAVE_INTERVAL_KEY,
+				RscTools.getString(RscConst.PREFS_GLOBAL_AUTOSAVE_INTERVAL), getFieldEditorParent());
+		autosaveField.setValidRange(0, PrefTools.GLOBAL_AUTOSAVE_INTERVAL_MAX);
+		addField(autosaveField);
+
 	}
 
 	/**
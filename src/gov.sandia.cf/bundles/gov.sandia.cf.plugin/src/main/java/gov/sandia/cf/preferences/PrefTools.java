@@ -77,6 +77,8 @@ public class PrefTools {
 	public static final String GLOBAL_ARG_SETENV_SCRIPT_PATH_KEY = "global_arg_setenv_path"; //$NON-NLS-1$
 	/** DEFAULT BROWSER FOR LINKS preference key */
 	public static final String GLOBAL_OPEN_LINK_BROWSER_OPTION_KEY = "global_open_link_browser_option_key"; //$NON-NLS-1$
+	/** AUTOSAVE INTERVAL IN MINUTES preference key */
+	public static final String GLOBAL_AUTOSAVE_INTERVAL_KEY = "global_autosave_interval_key"; //$NON-NLS-1$
 	/** The Constant WEB_SERVER_URL. */
 	public static final String WEB_SERVER_URL = "web_server_url_key"; //$NON-NLS-1$
 
@@ -129,6 +131,11 @@ public class PrefTools {
 	/** EXPORT DATA FILE LAST PATH preference key */
 	public static final String CONF_EXPORT_DATA_FILE_LAST_PATH_KEY = "conf_export_data_file_last_path"; //$NON-NLS-1$
 
+	/**
+	 * Autosave interval max value in minutes
+	 */
+	public static final int GLOBAL_AUTOSAVE_INTERVAL_MAX = 24 * 60;
+
 	/**
 	 * Default Global Python Executable Path default value
 	 */
@@ -171,6 +178,9 @@ public class PrefTools {
 		// Open Link Browser Option
 		setPreferenceDefault(GLOBAL_OPEN_LINK_BROWSER_OPTION_KEY, OpenLinkBrowserOption.EXTERNAL_BROWSER.name());
 
+		// autosave disabled
+		setPreferenceDefault(GLOBAL_AUTOSAVE_INTERVAL_KEY, String.valueOf(0));
+
 		// Developer options
 		// inline word documents
 		setPreferenceDefaultBoolean(DEVOPTS_REPORT_INLINEWORD_KEY, false);
@@ -207,6 +217,19 @@ public class PrefTools {
 		return getPreference(GLOBAL_ARG_SETENV_SCRIPT_PATH_KEY);
 	}
 
+	/**
+	 * @return the autosave interval in minutes, 0 if the autosave is disabled
+	 */
+	public static int getGlobalAutosaveInterval() {
+		try {
+			return Math.min(GLOBAL_AUTOSAVE_INTERVAL_MAX,
+					Math.max(0, Integer.parseInt(getPreference(GLOBAL_AUTOSAVE_INTERVAL_KEY).trim())));
+		} catch (NumberFormatException e) {
+			logger.warn("Invalid autosave interval, autosave disabled: {}", e.getMessage()); //$NON-NLS-1$
+			return 0;
+		}
+	}
+
 	/**
 	 * @param prefKey the preference key
 	 * @return the preference associated to the key as a string
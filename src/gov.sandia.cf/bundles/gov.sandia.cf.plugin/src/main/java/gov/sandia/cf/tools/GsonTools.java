@@ -3,16 +3,23 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.tools;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * Gson reading, writing tool class
@@ -26,6 +33,13 @@ public class GsonTools {
 	 */
 	private static final Logger logger = LoggerFactory.getLogger(GsonTools.class);
 
+	/**
+	 * The shared Gson instance. Gson is immutable and thread-safe once created:
+	 * the type adapters resolved by reflection are cached and reused by all the
+	 * calls instead of being resolved again by a new instance each time.
+	 */
+	private static final Gson GSON = new Gson();
+
 	/**
 	 * Private constructor to not allow instantiation.
 	 */
@@ -43,7 +57,7 @@ public class GsonTools {
 
 		if (value != null) {
 			try {
-				data = new Gson().fromJson(value, classToReturn);
+				data = GSON.fromJson(value, classToReturn);
 			} catch (JsonSyntaxException ex) {
 				logger.warn(ex.getMessage());
 			}
@@ -52,6 +66,70 @@ public class GsonTools {
 		return data;
 	}
 
+	/**
+	 * Parse the value read from the reader as it is read, without materializing
+	 * the whole content as a String.
+	 * 
+	 * @param <M>           the class
+	 * @param reader        the reader of the value to parse
+	 * @param classToReturn the class to fill and return
+	 * @return the class searched in the value in Gson, or null if the content is
+	 *         empty or not valid
+	 */
+	public static <M> M getFromGson(Reader reader, Class<M> classToReturn) {
+		M data = null;
+
+		if (reader != null) {
+			try {
+				data = GSON.fromJson(reader, classToReturn);
+			} catch (JsonSyntaxException | JsonIOException ex) {
+				logger.warn(ex.getMessage());
+			}
+		}
+
+		return data;
+	}
+
+	/**
+	 * Parse the JSON array read from the reader element by element: each element
+	 * is given to the consumer as soon as it is parsed, and the array is never
+	 * held in memory as a whole.
+	 * 
+	 * @param <M>           the class
+	 * @param reader        the reader of the JSON array
+	 * @param classToReturn the class of the elements
+	 * @param consumer      the consumer of the parsed elements
+	 * @return the number of elements parsed
+	 */
+	public static <M> int readList(Reader reader, Class<M> classToReturn, Consumer<M> consumer) {
+		int count = 0;
+
+		if (reader == null || consumer == null) {
+			return count;
+		}
+
+		try {
+			JsonReader jsonReader = GSON.newJsonReader(reader);
+			if (jsonReader.peek() != JsonToken.BEGIN_ARRAY) {
+				logger.warn("The content is not a JSON array: {}", jsonReader.peek()); //$NON-NLS-1$
+				return count;
+			}
+			jsonReader.beginArray();
+			while (jsonReader.hasNext()) {
+				consumer.accept(GSON.fromJson(jsonReader, classToReturn));
+				count++;
+			}
+			jsonReader.endArray();
+		} catch (EOFException ex) {
+			// empty content
+			logger.debug("The content is empty: {}", ex.getMessage()); //$NON-NLS-1$
+		} catch (JsonSyntaxException | JsonIOException | IOException ex) {
+			logger.warn(ex.getMessage());
+		}
+
+		return count;
+	}
+
 	/**
 	 * Gets the list from gson.
 	 *
@@ -67,7 +145,7 @@ public class GsonTools {
 			try {
 				Type listType = new TypeToken<ArrayList<M>>() {
 				}.getType();
-				data = new Gson().fromJson(value, listType);
+				data = GSON.fromJson(value, listType);
 			} catch (JsonSyntaxException ex) {
 				logger.warn(ex.getMessage());
 			}
@@ -83,6 +161,6 @@ public class GsonTools {
 	 */
 	public static <M> String toGson(M classToReturn) {
 		// Encode JSON
-		return new Gson().toJson(classToReturn);
+		return GSON.toJson(classToReturn);
 	}
 }
@@ -0,0 +1,87 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.tools;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * A process output buffer keeping the last lines up to a number of characters.
+ * The first lines are dropped when the limit is reached, the end of the output
+ * being the most useful to understand an execution.
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class OutputRingBuffer implements Consumer<String> {
+
+	/** The max number of characters kept. */
+	private final int limit;
+
+	/** The lines kept. */
+	private final Deque<String> lines;
+
+	/** The number of characters kept. */
+	private int size;
+
+	/** The number of lines dropped. */
+	private long droppedLines;
+
+	/**
+	 * Instantiates a new output ring buffer.
+	 *
+	 * @param limit the max number of characters kept
+	 */
+	public OutputRingBuffer(int limit) {
+		this.limit = Math.max(1, limit);
+		this.lines = new ArrayDeque<>();
+		this.size = 0;
+		this.droppedLines = 0;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public synchronized void accept(String line) {
+		if (line == null) {
+			return;
+		}
+
+		// a line longer than the limit is truncated
+		String toKeep = line.length() > limit ? line.substring(line.length() - limit) : line;
+		lines.addLast(toKeep);
+		size += toKeep.length();
+
+		while (size > limit && !lines.isEmpty()) {
+			size -= lines.removeFirst().length();
+			droppedLines++;
+		}
+	}
+
+	/**
+	 * @return the number of lines dropped
+	 */
+	public synchronized long getDroppedLines() {
+		return droppedLines;
+	}
+
+	/**
+	 * Append the lines kept to the builder, after a truncation message if lines
+	 * have been dropped.
+	 *
+	 * @param builder the string builder
+	 */
+	public synchronized void appendTo(StringBuilder builder) {
+		if (builder == null) {
+			return;
+		}
+		if (droppedLines > 0) {
+			builder.append("[CF] ").append(droppedLines).append(" lines truncated...") //$NON-NLS-1$ //$NON-NLS-2$
+					.append(RscTools.CARRIAGE_RETURN);
+		}
+		for (String line : lines) {
+			builder.append(line).append(RscTools.CARRIAGE_RETURN);
+		}
+	}
+}
@@ -0,0 +1,197 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.tools;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The process execution service. The process output streams are read by a
+ * shared and bounded pool of daemon threads, one reader per stream dispatching
+ * each line to several consumers (log buffer, progress monitor, console...). If
+ * more processes are running than the pool can read, the last readers wait for
+ * a free thread.
+ *
+ * The process is destroyed when the progress monitor is cancelled or when the
+ * timeout is reached.
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class ProcessExecutor {
+
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(ProcessExecutor.class);
+
+	/** No timeout. */
+	public static final long NO_TIMEOUT = 0L;
+
+	/** The return code of a cancelled or timed out process. */
+	public static final int INTERRUPTED_CODE = 130;
+
+	/** The reader thread name. */
+	private static final String THREAD_NAME = "CF Process Reader"; //$NON-NLS-1$
+
+	/** The max number of reader threads. */
+	private static final int MAX_READERS = 8;
+
+	/** The reader thread keep alive time in seconds. */
+	private static final long READER_KEEP_ALIVE = 60L;
+
+	/** The process state polling interval in milliseconds. */
+	private static final long POLL_INTERVAL = 200L;
+
+	/** The max time to wait for the readers after the process end in milliseconds. */
+	private static final long READER_END_TIMEOUT = 5000L;
+
+	/** The shared instance. */
+	private static final ProcessExecutor INSTANCE = new ProcessExecutor();
+
+	/** The reader pool. */
+	private final ThreadPoolExecutor readers;
+
+	/**
+	 * Instantiates a new process executor.
+	 */
+	private ProcessExecutor() {
+		readers = new ThreadPoolExecutor(MAX_READERS, MAX_READERS, READER_KEEP_ALIVE, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, THREAD_NAME);
+					thread.setDaemon(true);
+					return thread;
+				});
+		readers.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * @return the shared process executor
+	 */
+	public static ProcessExecutor getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Start the process and wait for its end. Both output streams are read in the
+	 * reader pool while the current thread checks the cancellation and the
+	 * timeout.
+	 *
+	 * @param builder         the process builder
+	 * @param outConsumers    the standard output line consumers
+	 * @param errConsumers    the error output line consumers
+	 * @param timeout         the timeout in milliseconds, or {@link #NO_TIMEOUT}
+	 * @param progressMonitor the progress monitor to cancel the process (can be
+	 *                        null)
+	 * @return the process return code, or {@link #INTERRUPTED_CODE} if the
+	 *         process has been cancelled
+	 * @throws IOException          if the process can not be started or read
+	 * @throws InterruptedException if the current thread is interrupted
+	 * @throws TimeoutException     if the timeout is reached
+	 */
+	public int execute(ProcessBuilder builder, List<Consumer<String>> outConsumers,
+			List<Consumer<String>> errConsumers, long timeout, IProgressMonitor progressMonitor)
+			throws IOException, InterruptedException, TimeoutException {
+
+		Process process = builder.start();
+		long deadline = timeout > NO_TIMEOUT ? System.currentTimeMillis() + timeout : Long.MAX_VALUE;
+
+		Future<?> outReader = readers.submit(() -> read(process.getInputStream(), outConsumers));
+		Future<?> errReader = readers.submit(() -> read(process.getErrorStream(), errConsumers));
+
+		try {
+			while (!process.waitFor(POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+				if (progressMonitor != null && progressMonitor.isCanceled()) {
+					logger.info("Process {} cancelled", builder.command()); //$NON-NLS-1$
+					destroy(process);
+					awaitReaders(outReader, errReader);
+					return INTERRUPTED_CODE;
+				}
+				if (System.currentTimeMillis() > deadline) {
+					destroy(process);
+					awaitReaders(outReader, errReader);
+					throw new TimeoutException(
+							RscTools.getString(RscConst.EX_RUNTIME_PROCESS_TIMEOUT, builder.command(), timeout));
+				}
+			}
+		} catch (InterruptedException e) {
+			destroy(process);
+			outReader.cancel(true);
+			errReader.cancel(true);
+			throw e;
+		}
+
+		awaitReaders(outReader, errReader);
+
+		return process.exitValue();
+	}
+
+	/**
+	 * Read the stream line by line and dispatch each line to the consumers.
+	 *
+	 * @param inputStream the input stream
+	 * @param consumers   the consumers
+	 */
+	private static void read(InputStream inputStream, List<Consumer<String>> consumers) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				for (Consumer<String> consumer : consumers) {
+					consumer.accept(line);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Wait for the readers end. The streams are closed with the process, unless a
+	 * child process still holds them.
+	 *
+	 * @param readerFutures the reader futures
+	 * @throws IOException          if a stream can not be read
+	 * @throws InterruptedException if the current thread is interrupted
+	 */
+	private static void awaitReaders(Future<?>... readerFutures) throws IOException, InterruptedException {
+		for (Future<?> readerFuture : readerFutures) {
+			try {
+				readerFuture.get(READER_END_TIMEOUT, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				logger.warn("The process output is still opened, stop reading it", e); //$NON-NLS-1$
+				readerFuture.cancel(true);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof UncheckedIOException) {
+					throw ((UncheckedIOException) e.getCause()).getCause();
+				}
+				throw new IOException(e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Destroy the process and its children.
+	 *
+	 * @param process the process
+	 */
+	private static void destroy(Process process) {
+		process.descendants().forEach(ProcessHandle::destroyForcibly);
+		process.destroyForcibly();
+	}
+}
@@ -367,6 +367,7 @@ public class RscConst {
 	public static final String EX_PIRT_GETBGCOLOR_CONFNULL = "ex.pirt.get_bg_color.configuration_null"; //$NON-NLS-1$
 	public static final String EX_PIRT_TAG_QOINULL = "ex.pirt.tag.qoi_null"; //$NON-NLS-1$
 	public static final String EX_PIRT_TAG_MODELNULL = "ex.pirt.tag.model_null"; //$NON-NLS-1$
+	public static final String EX_PIRT_TAG_CANCELLED = "ex.pirt.tag.cancelled"; //$NON-NLS-1$
 	public static final String EX_PIRT_GETQOIBYID_IDNULL = "ex.pirt.get_qoi_by_id.id_null"; //$NON-NLS-1$
 	public static final String EX_PIRT_ADDQOI_QOINULL = "ex.pirt.add_qoi.qoi_null"; //$NON-NLS-1$
 	public static final String EX_PIRT_ADDQOI_USERNULL = "ex.pirt.add_qoi.creation_user_null"; //$NON-NLS-1$
@@ -746,6 +747,7 @@ public class RscConst {
 	public static final String MSG_EDITOR_SAVE_BEGINTASK = "msg.editor.save.begin_task"; //$NON-NLS-1$
 	public static final String MSG_EDITOR_SAVE_COPYTASK = "msg.editor.save.copy_task"; //$NON-NLS-1$
 	public static final String MSG_EDITOR_SAVE_ZIPTASK = "msg.editor.save.zip_task"; //$NON-NLS-1$
+	public static final String MSG_EDITOR_SAVE_SNAPSHOTTASK = "msg.editor.save.snapshot_task"; //$NON-NLS-1$
 	public static final String MSG_EDITOR_SAVE_REMOVEOLDTASK = "msg.editor.save.remove_old_task"; //$NON-NLS-1$
 	public static final String MSG_EDITOR_DELETE_TMPFOLDER = "msg.editor.delete.tmp_folder"; //$NON-NLS-1$
 	public static final String MSG_CONNECTED = "msg.connected"; //$NON-NLS-1$
@@ -1127,6 +1129,7 @@ public class RscConst {
 	public static final String MSG_QOIHOMEVIEW_TAGCONFIRM_TITLE = "msg.qoi_home_view.tag_confirm.title"; //$NON-NLS-1$
 	public static final String MSG_QOIHOMEVIEW_TAGCONFIRM_QUESTION = "msg.qoi_home_view.tag_confirm.question"; //$NON-NLS-1$
 	public static final String MSG_QOIHOMEVIEW_TAGCONFIRM_SUCCESS = "msg.qoi_home_view.tag_confirm.success"; //$NON-NLS-1$
+	public static final String MSG_QOIHOMEVIEW_TAG_PROGRESS = "msg.qoi_home_view.tag.progress"; //$NON-NLS-1$
 	public static final String ERR_QOIHOMEVIEW_TITLE = "err.qoi_home_view.title"; //$NON-NLS-1$
 	public static final String ERR_QOIHOMEVIEW_UPDATING_HEADER = "err.qoi_home_view.updating.header"; //$NON-NLS-1$
 	public static final String ERR_QOIHOMEVIEW_EXECUTING_QUERY = "err.qoi_home_view.executing_query"; //$NON-NLS-1$
@@ -1169,6 +1172,7 @@ public class RscConst {
 	public static final String PREFS_GLOBAL_ARG_EXECUTABLE = "prefs.global.arg_executable"; //$NON-NLS-1$
 	public static final String PREFS_GLOBAL_ARG_SETENV = "prefs.global.arg_setenv"; //$NON-NLS-1$
 	public static final String PREFS_GLOBAL_OPEN_LINK_BROWSER_OPTION = "prefs.global.open_link_browser_option_key"; //$NON-NLS-1$
+	public static final String PREFS_GLOBAL_AUTOSAVE_INTERVAL = "prefs.global.autosave_interval"; //$NON-NLS-1$
 
 	/* Developer Options Preference Page */
 	public static final String PREFS_DEVOPTS_DESCRIPTION = "prefs.devopts.description"; //$NON-NLS-1$
@@ -1376,6 +1380,7 @@ public class RscConst {
 	/* Intended Purpose View */
 	public static final String ERR_INTENDEDPURPOSE_LOCK = "err.intended_purpose.lock"; //$NON-NLS-1$
 	public static final String ERR_INTENDEDPURPOSE_UNLOCK = "err.intended_purpose.unlock"; //$NON-NLS-1$
+	public static final String ERR_INTENDEDPURPOSE_LOCK_LOST = "err.intended_purpose.lock_lost"; //$NON-NLS-1$
 
 	/* Uncertainty View */
 	public static final String MSG_UNCERTAINTY_TITLE = "msg.uncertainty.title"; //$NON-NLS-1$
@@ -1565,6 +1570,8 @@ public class RscConst {
 	public static final String ERR_REPORTVIEW_GENERATE_REPORT_ARGPARAM_CUSTOMENDINGFILE_NOTFILE = "err.reportview.generate_report.custom_ending_file.not_file"; //$NON-NLS-1$
 
 	public static final String EX_ARG_COMMAND_EXCEPTION = "ex.arg.command.exception"; //$NON-NLS-1$
+	public static final String EX_RUNTIME_PROCESS_TIMEOUT = "ex.runtime.process.timeout"; //$NON-NLS-1$
+	public static final String EX_RUNTIME_PROCESS_CANCELLED = "ex.runtime.process.cancelled"; //$NON-NLS-1$
 
 	public static final String EX_CONFREPORT_COMMAND_NULL = "ex.confreport.command.null"; //$NON-NLS-1$
 	public static final String EX_CONFREPORT_OPTIONS_NULL = "ex.confreport.options.null"; //$NON-NLS-1$
@@ -6,10 +6,10 @@ package gov.sandia.cf.tools;
 import java.io.File;
 import java.io.IOException;
 import java.text.MessageFormat;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.slf4j.Logger;
@@ -51,6 +51,9 @@ public class RuntimeTools {
 	/** The Constant SCRIPT_EXTENSION_WINDOWS. */
 	public static final String SCRIPT_EXTENSION_WINDOWS = ".bat"; //$NON-NLS-1$
 
+	/** The max number of characters kept for each process output. */
+	public static final int OUTPUT_LIMIT = 4 * 1024 * 1024;
+
 	/**
 	 * Private constructor to not allow instantiation.
 	 */
@@ -70,12 +73,51 @@ public class RuntimeTools {
 	 */
 	public static int execute(StringBuilder errorLog, StringBuilder infoLog, String cmdExec, boolean withEnvFile,
 			IProgressMonitor progressMonitor) throws CredibilityException {
+		return execute(errorLog, infoLog, cmdExec, withEnvFile, ProcessExecutor.NO_TIMEOUT, progressMonitor);
+	}
+
+	/**
+	 * Execute the commands in the current thread, and stop it after the timeout.
+	 *
+	 * @param errorLog        the error log string builder
+	 * @param infoLog         the info log string builder
+	 * @param cmdExec         the commands to execute
+	 * @param withEnvFile     execute with environment file
+	 * @param timeout         the timeout in milliseconds, or
+	 *                        {@link ProcessExecutor#NO_TIMEOUT}
+	 * @param progressMonitor the progress monitor
+	 * @return the return code of the process
+	 * @throws CredibilityException if an error occurs during CF variable parsing
+	 */
+	public static int execute(StringBuilder errorLog, StringBuilder infoLog, String cmdExec, boolean withEnvFile,
+			long timeout, IProgressMonitor progressMonitor) throws CredibilityException {
+		return execute(errorLog, infoLog, cmdExec, withEnvFile, timeout, null, progressMonitor);
+	}
+
+	/**
+	 * Execute the commands in the current thread, and stop it after the timeout.
+	 * Each output line is also streamed to the console while the process runs.
+	 *
+	 * @param errorLog        the error log string builder
+	 * @param infoLog         the info log string builder
+	 * @param cmdExec         the commands to execute
+	 * @param withEnvFile     execute with environment file
+	 * @param timeout         the timeout in milliseconds, or
+	 *                        {@link ProcessExecutor#NO_TIMEOUT}
+	 * @param console         the console line consumer, called from the reader
+	 *                        threads (can be null)
+	 * @param progressMonitor the progress monitor
+	 * @return the return code of the process
+	 * @throws CredibilityException if an error occurs during CF variable parsing
+	 */
+	public static int execute(StringBuilder errorLog, StringBuilder infoLog, String cmdExec, boolean withEnvFile,
+			long timeout, Consumer<String> console, IProgressMonitor progressMonitor) throws CredibilityException {
 
 		if (cmdExec == null || cmdExec.isEmpty()) {
 			return OK_CODE;
 		}
 
-		return execute(errorLog, infoLog, getBuilder(cmdExec, withEnvFile), progressMonitor);
+		return execute(errorLog, infoLog, getBuilder(cmdExec, withEnvFile), timeout, console, progressMonitor);
 	}
 
 	/**
@@ -90,6 +132,45 @@ public class RuntimeTools {
 	 */
 	public static int execute(StringBuilder errorLog, StringBuilder infoLog, ProcessBuilder builder,
 			IProgressMonitor progressMonitor) throws CredibilityException {
+		return execute(errorLog, infoLog, builder, ProcessExecutor.NO_TIMEOUT, progressMonitor);
+	}
+
+	/**
+	 * Execute the commands in the current thread, and stop it after the timeout or
+	 * when the progress monitor is cancelled.
+	 *
+	 * @param errorLog        the error log string builder
+	 * @param infoLog         the info log string builder
+	 * @param builder         the builder to execute
+	 * @param timeout         the timeout in milliseconds, or
+	 *                        {@link ProcessExecutor#NO_TIMEOUT}
+	 * @param progressMonitor the progress monitor
+	 * @return the return code of the process
+	 * @throws CredibilityException if an error occurs during CF variable parsing
+	 */
+	public static int execute(StringBuilder errorLog, StringBuilder infoLog, ProcessBuilder builder, long timeout,
+			IProgressMonitor progressMonitor) throws CredibilityException {
+		return execute(errorLog, infoLog, builder, timeout, null, progressMonitor);
+	}
+
+	/**
+	 * Execute the commands in the current thread, and stop it after the timeout or
+	 * when the progress monitor is cancelled. Each output line is also streamed to
+	 * the console while the process runs.
+	 *
+	 * @param errorLog        the error log string builder
+	 * @param infoLog         the info log string builder
+	 * @param builder         the builder to execute
+	 * @param timeout         the timeout in milliseconds, or
+	 *                        {@link ProcessExecutor#NO_TIMEOUT}
+	 * @param console         the console line consumer, called from the reader
+	 *                        threads (can be null)
+	 * @param progressMonitor the progress monitor
+	 * @return the return code of the process
+	 * @throws CredibilityException if an error occurs during CF variable parsing
+	 */
+	public static int execute(StringBuilder errorLog, StringBuilder infoLog, ProcessBuilder builder, long timeout,
+			Consumer<String> console, IProgressMonitor progressMonitor) throws CredibilityException {
 
 		if (builder == null || builder.command() == null) {
 			return OK_CODE;
@@ -99,11 +180,7 @@ public class RuntimeTools {
 
 		beforeProcess(builder);
 
-		AtomicInteger returnCodeRef = new AtomicInteger(OK_CODE);
-
-		process(errorLog, infoLog, builder, returnCodeRef, progressMonitor);
-
-		int returnCode = returnCodeRef.get();
+		int returnCode = process(errorLog, infoLog, builder, timeout, console, progressMonitor);
 
 		logInfoAfter(infoLog, returnCode, builder);
 
@@ -148,49 +225,70 @@ public class RuntimeTools {
 	}
 
 	/**
-	 * Process.
+	 * Process. The output is kept in bounded buffers and appended to the logs at
+	 * the end, the output lines are displayed in the progress monitor and streamed
+	 * to the console meanwhile.
 	 *
 	 * @param errorLog        the error log
 	 * @param infoLog         the info log
 	 * @param builder         the builder
-	 * @param returnCodeRef   the return code ref
+	 * @param timeout         the timeout in milliseconds
+	 * @param console         the console line consumer (can be null)
 	 * @param progressMonitor the progress monitor
+	 * @return the return code
 	 */
-	private static void process(StringBuilder errorLog, StringBuilder infoLog, ProcessBuilder builder,
-			AtomicInteger returnCodeRef, IProgressMonitor progressMonitor) {
+	private static int process(StringBuilder errorLog, StringBuilder infoLog, ProcessBuilder builder, long timeout,
+			Consumer<String> console, IProgressMonitor progressMonitor) {
+
+		OutputRingBuffer infoBuffer = new OutputRingBuffer(OUTPUT_LIMIT);
+		OutputRingBuffer errorBuffer = new OutputRingBuffer(OUTPUT_LIMIT);
+
+		List<Consumer<String>> infoConsumers = new ArrayList<>();
+		infoConsumers.add(infoBuffer);
+		List<Consumer<String>> errorConsumers = new ArrayList<>();
+		errorConsumers.add(errorBuffer);
+		if (progressMonitor != null) {
+			infoConsumers.add(progressMonitor::subTask);
+			errorConsumers.add(progressMonitor::subTask);
+		}
+		if (console != null) {
+			infoConsumers.add(console);
+			errorConsumers.add(console);
+		}
+		if (logger.isTraceEnabled()) {
+			infoConsumers.add(logger::trace);
+			errorConsumers.add(logger::trace);
+		}
+
+		int returnCode = ERROR_CODE;
+		String failure = null;
 		try {
-			Process process = builder.start();
-
-			// log info
-			StreamGobbler streamGobblerInfo = new StreamGobbler(process.getInputStream(),
-					t -> infoLog.append(t).append(RscTools.CARRIAGE_RETURN));
-			StreamGobbler streamGobblerInfoProgress = new StreamGobbler(process.getInputStream(),
-					progressMonitor::subTask);
-
-			Future<?> futureInfo = Executors.newSingleThreadExecutor().submit(streamGobblerInfo,
-					streamGobblerInfoProgress);
-			// log error
-			StreamGobbler streamGobblerError = new StreamGobbler(process.getErrorStream(),
-					t -> errorLog.append(t).append(RscTools.CARRIAGE_RETURN));
-			StreamGobbler streamGobblerErrorProgress = new StreamGobbler(process.getErrorStream(),
-					progressMonitor::subTask);
-			Future<?> futureError = Executors.newSingleThreadExecutor().submit(streamGobblerError,
-					streamGobblerErrorProgress);
-
-			// get logs
-			futureInfo.get();
-			futureError.get();
-
-			returnCodeRef.set(process.waitFor());
-
-			assert returnCodeRef.get() == 0;
-
-		} catch (IOException | InterruptedException | ExecutionException e) {
-			logger.error(e.getMessage());
-			errorLog.append(RscTools.CARRIAGE_RETURN).append(e.getMessage());
+			returnCode = ProcessExecutor.getInstance().execute(builder, infoConsumers, errorConsumers, timeout,
+					progressMonitor);
+			if (returnCode == ProcessExecutor.INTERRUPTED_CODE && progressMonitor != null
+					&& progressMonitor.isCanceled()) {
+				failure = RscTools.getString(RscConst.EX_RUNTIME_PROCESS_CANCELLED, builder.command());
+			}
+		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
-			assert returnCodeRef.get() == 0;
+			failure = e.getMessage();
+		} catch (IOException | TimeoutException e) {
+			returnCode = ProcessExecutor.INTERRUPTED_CODE;
+			failure = e.getMessage();
+		}
+
+		if (infoLog != null) {
+			infoBuffer.appendTo(infoLog);
 		}
+		if (errorLog != null) {
+			errorBuffer.appendTo(errorLog);
+			if (failure != null) {
+				logger.error(failure);
+				errorLog.append(RscTools.CARRIAGE_RETURN).append(failure);
+			}
+		}
+
+		return returnCode;
 	}
 
 	/**
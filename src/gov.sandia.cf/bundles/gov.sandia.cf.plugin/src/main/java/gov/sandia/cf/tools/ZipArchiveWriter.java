@@ -0,0 +1,821 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The zip archive writer replaces a zip file with the content of files and
+ * directories.
+ *
+ * The entries are compressed in parallel and written in order in a temporary
+ * file, then the temporary file replaces the target file with an atomic move.
+ * If the target file is already a zip, its entries with the same name, size and
+ * checksum than the source file are copied without compressing them again. The
+ * files with an already compressed format are stored without compression.
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class ZipArchiveWriter {
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(ZipArchiveWriter.class);
+
+	/** The extensions of the already compressed files stored by default. */
+	public static final Set<String> DEFAULT_STORED_EXTENSIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+			"zip", "cf", "jar", "gz", "7z", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			"png", "jpg", "jpeg", "gif", "mp4", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			"pdf", "docx", "xlsx", "pptx"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	/** The zip writer thread name. */
+	private static final String THREAD_NAME = "CF Zip Writer"; //$NON-NLS-1$
+
+	/** The temporary file prefix. */
+	private static final String TMP_PREFIX = "cf-zip-"; //$NON-NLS-1$
+
+	/** The temporary file suffix. */
+	private static final String TMP_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+	/** The read and write buffer size. */
+	static final int BUFFER_SIZE = 64 * 1024;
+
+	/** The max size of a file compressed in memory, the bigger ones use a temporary file. */
+	static final long MEMORY_ENTRY_MAX_SIZE = 1024L * 1024L;
+
+	/** The max number of entries or bytes without zip64 extensions. */
+	private static final long ZIP_MAX_ENTRIES = 0xFFFFL;
+	private static final long ZIP_MAX_SIZE = 0xFFFFFFFFL;
+
+	/** The max size of the files to zip without zip64 extensions, with room for the headers. */
+	private static final long ZIP_MAX_FILES_SIZE = 0xF0000000L;
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int END_HEADER_SIGNATURE = 0x06054b50;
+	private static final int LOCAL_HEADER_SIZE = 30;
+	private static final int CENTRAL_HEADER_SIZE = 46;
+	private static final int END_HEADER_SIZE = 22;
+	private static final int END_HEADER_MAX_COMMENT = 0xFFFF;
+	private static final int VERSION = 20;
+	private static final int FLAG_UTF8 = 0x0800;
+	private static final int ATTRIBUTE_DIRECTORY = 0x10;
+
+	/** The offset of the crc in the local header. */
+	private static final int LOCAL_HEADER_CRC_OFFSET = 14;
+
+	private final Set<String> storedExtensions;
+
+	private final int parallelism;
+
+	/**
+	 * Instantiates a new zip archive writer with the default stored extensions and
+	 * one thread by processor, up to 4.
+	 */
+	public ZipArchiveWriter() {
+		this(DEFAULT_STORED_EXTENSIONS, Math.min(4, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * Instantiates a new zip archive writer.
+	 *
+	 * @param storedExtensions the extensions of the files stored without
+	 *                         compression
+	 * @param parallelism      the number of compression threads
+	 */
+	public ZipArchiveWriter(Set<String> storedExtensions, int parallelism) {
+		this.storedExtensions = storedExtensions != null ? storedExtensions : Collections.emptySet();
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	/**
+	 * Replace the target file with a zip of the sources.
+	 *
+	 * @param sources    the files and directories to zip, by entry name in the
+	 *                   zip root, in order
+	 * @param targetFile the target zip file
+	 * @throws IOException if an error occured while zipping
+	 */
+	public void write(Map<String, File> sources, File targetFile) throws IOException {
+
+		List<SourceEntry> entries = new ArrayList<>();
+		long totalSize = 0;
+		for (Map.Entry<String, File> source : sources.entrySet()) {
+			totalSize += listEntries(source.getKey(), source.getValue(), entries);
+		}
+
+		File tmpFile = File.createTempFile(TMP_PREFIX, TMP_SUFFIX, targetFile.getAbsoluteFile().getParentFile());
+		try {
+			if (entries.size() >= ZIP_MAX_ENTRIES || totalSize >= ZIP_MAX_FILES_SIZE) {
+				logger.debug("Zip {} entries ({} bytes) with zip64 extensions", entries.size(), totalSize); //$NON-NLS-1$
+				writeZip64(entries, tmpFile);
+			} else {
+				writeIncremental(entries, targetFile, tmpFile);
+			}
+			replace(tmpFile, targetFile);
+		} finally {
+			Files.deleteIfExists(tmpFile.toPath());
+		}
+	}
+
+	/**
+	 * List the entries of a file or directory.
+	 *
+	 * @param name    the entry name
+	 * @param file    the file or directory
+	 * @param entries the entry list to fill
+	 * @return the size of the files listed
+	 */
+	private static long listEntries(String name, File file, List<SourceEntry> entries) {
+		if (file == null || !file.exists()) {
+			return 0;
+		}
+
+		if (!file.isDirectory()) {
+			entries.add(new SourceEntry(name, file, false));
+			return file.length();
+		}
+
+		long size = 0;
+		String directoryName = name + ZipTools.DIRECTORY_SUFFIX;
+		entries.add(new SourceEntry(directoryName, file, true));
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				size += listEntries(directoryName + child.getName(), child, entries);
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Write the entries, compressed in parallel, reusing the unchanged entries of
+	 * the previous archive.
+	 *
+	 * @param entries  the entries
+	 * @param previous the previous archive
+	 * @param tmpFile  the file to write
+	 * @throws IOException if an error occured while zipping
+	 */
+	private void writeIncremental(List<SourceEntry> entries, File previous, File tmpFile) throws IOException {
+
+		Map<String, ArchivedEntry> archived = readArchive(previous);
+		int reused = 0;
+
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		});
+		Deque<Future<PreparedEntry>> window = new ArrayDeque<>();
+
+		try (FileChannel out = FileChannel.open(tmpFile.toPath(), StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+				FileChannel previousIn = openPrevious(previous, !archived.isEmpty())) {
+
+			ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+			int next = 0;
+			while (next < entries.size() || !window.isEmpty()) {
+
+				// keep a bounded number of entries prepared ahead of the writer
+				while (next < entries.size() && window.size() < parallelism * 4) {
+					SourceEntry entry = entries.get(next++);
+					ArchivedEntry archivedEntry = archived.get(entry.name);
+					window.add(executor.submit(() -> prepare(entry, archivedEntry)));
+				}
+
+				PreparedEntry prepared = get(window.poll());
+				try {
+					long offset = out.position();
+					writeEntry(prepared, previousIn, out);
+					centralDirectory.write(centralHeader(prepared, offset).array());
+					if (prepared.archived != null) {
+						reused++;
+					}
+				} finally {
+					prepared.delete();
+				}
+			}
+
+			writeEnd(entries.size(), centralDirectory.toByteArray(), out);
+			out.force(true);
+
+		} finally {
+			executor.shutdownNow();
+			for (Future<PreparedEntry> future : window) {
+				discard(future);
+			}
+		}
+
+		logger.debug("Zip {} entries, {} unchanged entries reused", entries.size(), reused); //$NON-NLS-1$
+	}
+
+	/**
+	 * Prepare an entry: reuse the archived entry if the file did not change,
+	 * compress the file otherwise.
+	 *
+	 * @param entry    the entry
+	 * @param archived the archived entry with the same name, or null
+	 * @return the prepared entry
+	 * @throws IOException if an error occured while reading the file
+	 */
+	private PreparedEntry prepare(SourceEntry entry, ArchivedEntry archived) throws IOException {
+
+		PreparedEntry prepared = new PreparedEntry(entry);
+		prepared.lastModified = entry.file.lastModified();
+		if (entry.directory) {
+			return prepared;
+		}
+
+		// the stored files are copied while writing
+		if (isStored(entry.name)) {
+			prepared.method = ZipEntry.STORED;
+			return prepared;
+		}
+
+		prepared.method = ZipEntry.DEFLATED;
+		long size = entry.file.length();
+
+		// reuse the unchanged entry
+		if (archived != null && archived.method == ZipEntry.DEFLATED && archived.size == size
+				&& archived.crc == checksum(entry.file)) {
+			prepared.archived = archived;
+			prepared.crc = archived.crc;
+			prepared.size = archived.size;
+			prepared.compressedSize = archived.compressedSize;
+			return prepared;
+		}
+
+		// compress
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		try {
+			if (size <= MEMORY_ENTRY_MAX_SIZE) {
+				prepared.data = new ByteArrayOutputStream((int) Math.max(32, size / 2));
+				compress(prepared, deflater, prepared.data);
+			} else {
+				prepared.tmpFile = File.createTempFile(TMP_PREFIX, TMP_SUFFIX);
+				try (OutputStream tmpOut = new FileOutputStream(prepared.tmpFile)) {
+					compress(prepared, deflater, tmpOut);
+				}
+			}
+		} catch (IOException e) {
+			prepared.delete();
+			throw e;
+		} finally {
+			deflater.end();
+		}
+
+		// the writer stopped, the entry will not be written
+		if (Thread.currentThread().isInterrupted()) {
+			prepared.delete();
+			throw new InterruptedIOException();
+		}
+
+		return prepared;
+	}
+
+	/**
+	 * Compress the entry file and compute its checksum and sizes.
+	 *
+	 * @param prepared   the prepared entry
+	 * @param deflater   the deflater
+	 * @param compressed the compressed data output
+	 * @throws IOException if an error occured while reading the file or writing
+	 *                     the compressed data
+	 */
+	private static void compress(PreparedEntry prepared, Deflater deflater, OutputStream compressed)
+			throws IOException {
+		CRC32 crc = new CRC32();
+		try (CheckedInputStream in = new CheckedInputStream(new FileInputStream(prepared.entry.file), crc);
+				CountingOutputStream counter = new CountingOutputStream(compressed);
+				DeflaterOutputStream deflaterOut = new DeflaterOutputStream(counter, deflater, BUFFER_SIZE)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int length;
+			while ((length = in.read(buffer)) >= 0) {
+				deflaterOut.write(buffer, 0, length);
+				prepared.size += length;
+			}
+			deflaterOut.finish();
+			prepared.compressedSize = counter.count;
+		}
+		prepared.crc = crc.getValue();
+	}
+
+	/**
+	 * @param previous the previous archive
+	 * @param reused   true if some entries of the previous archive are reused
+	 * @return the previous archive channel, or null if no entry is reused
+	 * @throws IOException if an error occured while opening the archive
+	 */
+	private static FileChannel openPrevious(File previous, boolean reused) throws IOException {
+		return reused ? FileChannel.open(previous.toPath(), StandardOpenOption.READ) : null;
+	}
+
+	/**
+	 * Write the local header and the data of an entry.
+	 *
+	 * @param prepared   the prepared entry
+	 * @param previousIn the previous archive, or null
+	 * @param out        the archive to write
+	 * @throws IOException if an error occured while writing
+	 */
+	private static void writeEntry(PreparedEntry prepared, FileChannel previousIn, FileChannel out)
+			throws IOException {
+
+		long offset = out.position();
+		writeFully(localHeader(prepared), out);
+
+		if (prepared.entry.directory) {
+			return;
+		}
+
+		if (prepared.archived != null) {
+			transfer(previousIn, prepared.archived.dataOffset, prepared.compressedSize, out);
+		} else if (prepared.data != null) {
+			writeFully(ByteBuffer.wrap(prepared.data.toByteArray()), out);
+		} else if (prepared.tmpFile != null) {
+			try (FileChannel in = FileChannel.open(prepared.tmpFile.toPath(), StandardOpenOption.READ)) {
+				transfer(in, 0, prepared.compressedSize, out);
+			}
+		} else {
+			// stored file: the checksum and size are computed while copying, then the local
+			// header is updated
+			CRC32 crc = new CRC32();
+			try (InputStream in = new CheckedInputStream(new FileInputStream(prepared.entry.file), crc)) {
+				byte[] buffer = new byte[BUFFER_SIZE];
+				int length;
+				while ((length = in.read(buffer)) >= 0) {
+					writeFully(ByteBuffer.wrap(buffer, 0, length), out);
+					prepared.size += length;
+				}
+			}
+			prepared.crc = crc.getValue();
+			prepared.compressedSize = prepared.size;
+
+			long end = out.position();
+			ByteBuffer sizes = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+			sizes.putInt((int) prepared.crc).putInt((int) prepared.compressedSize).putInt((int) prepared.size);
+			sizes.flip();
+			out.position(offset + LOCAL_HEADER_CRC_OFFSET);
+			writeFully(sizes, out);
+			out.position(end);
+		}
+	}
+
+	/**
+	 * Write the end of central directory record.
+	 *
+	 * @param count            the number of entries
+	 * @param centralDirectory the central directory
+	 * @param out              the archive to write
+	 * @throws IOException if an error occured while writing
+	 */
+	private static void writeEnd(int count, byte[] centralDirectory, FileChannel out) throws IOException {
+		long offset = out.position();
+		writeFully(ByteBuffer.wrap(centralDirectory), out);
+
+		ByteBuffer end = ByteBuffer.allocate(END_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		end.putInt(END_HEADER_SIGNATURE);
+		end.putShort((short) 0);
+		end.putShort((short) 0);
+		end.putShort((short) count);
+		end.putShort((short) count);
+		end.putInt(centralDirectory.length);
+		end.putInt((int) offset);
+		end.putShort((short) 0);
+		end.flip();
+		writeFully(end, out);
+	}
+
+	/**
+	 * Write the entries with the zip output stream, for the archives needing zip64
+	 * extensions.
+	 *
+	 * @param entries the entries
+	 * @param tmpFile the file to write
+	 * @throws IOException if an error occured while zipping
+	 */
+	private static void writeZip64(List<SourceEntry> entries, File tmpFile) throws IOException {
+		try (OutputStream fileOut = Files.newOutputStream(tmpFile.toPath(), StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING); ZipOutputStream zipOut = new ZipOutputStream(fileOut)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			for (SourceEntry entry : entries) {
+				zipOut.putNextEntry(new ZipEntry(entry.name));
+				if (!entry.directory) {
+					try (InputStream in = new FileInputStream(entry.file)) {
+						int length;
+						while ((length = in.read(buffer)) >= 0) {
+							zipOut.write(buffer, 0, length);
+						}
+					}
+				}
+				zipOut.closeEntry();
+			}
+		}
+	}
+
+	/**
+	 * Replace the target file with the temporary file, atomically if the file
+	 * system supports it.
+	 *
+	 * @param tmpFile    the temporary file
+	 * @param targetFile the target file
+	 * @throws IOException if the move failed
+	 */
+	private static void replace(File tmpFile, File targetFile) throws IOException {
+		try {
+			Files.move(tmpFile.toPath(), targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			logger.debug("Atomic move not supported: {}", e.getMessage()); //$NON-NLS-1$
+			Files.move(tmpFile.toPath(), targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Read the central directory of a previous archive.
+	 *
+	 * @param file the previous archive
+	 * @return the archived entries by name, empty if the file is not a readable
+	 *         zip without zip64 extensions
+	 */
+	static Map<String, ArchivedEntry> readArchive(File file) {
+		Map<String, ArchivedEntry> archived = new HashMap<>();
+		if (file == null || !file.isFile()) {
+			return archived;
+		}
+
+		try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+
+			// find the end of central directory record, followed by an optional comment
+			long fileSize = in.size();
+			int tailSize = (int) Math.min(fileSize, END_HEADER_SIZE + END_HEADER_MAX_COMMENT);
+			ByteBuffer tail = read(in, fileSize - tailSize, tailSize);
+			int endOffset = -1;
+			for (int i = tailSize - END_HEADER_SIZE; i >= 0 && endOffset < 0; i--) {
+				if (tail.getInt(i) == END_HEADER_SIGNATURE) {
+					endOffset = i;
+				}
+			}
+			if (endOffset < 0) {
+				return archived;
+			}
+
+			int count = Short.toUnsignedInt(tail.getShort(endOffset + 10));
+			long directorySize = Integer.toUnsignedLong(tail.getInt(endOffset + 12));
+			long directoryOffset = Integer.toUnsignedLong(tail.getInt(endOffset + 16));
+			if (count == ZIP_MAX_ENTRIES || directoryOffset == ZIP_MAX_SIZE
+					|| directoryOffset + directorySize > fileSize) {
+				return archived;
+			}
+
+			ByteBuffer directory = read(in, directoryOffset, (int) directorySize);
+			int position = 0;
+			for (int i = 0; i < count; i++) {
+				if (directory.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+					archived.clear();
+					return archived;
+				}
+				ArchivedEntry entry = new ArchivedEntry();
+				entry.method = Short.toUnsignedInt(directory.getShort(position + 10));
+				entry.crc = Integer.toUnsignedLong(directory.getInt(position + 16));
+				entry.compressedSize = Integer.toUnsignedLong(directory.getInt(position + 20));
+				entry.size = Integer.toUnsignedLong(directory.getInt(position + 24));
+				int nameLength = Short.toUnsignedInt(directory.getShort(position + 28));
+				int extraLength = Short.toUnsignedInt(directory.getShort(position + 30));
+				int commentLength = Short.toUnsignedInt(directory.getShort(position + 32));
+				long localOffset = Integer.toUnsignedLong(directory.getInt(position + 42));
+				byte[] name = new byte[nameLength];
+				directory.position(position + CENTRAL_HEADER_SIZE);
+				directory.get(name);
+
+				// the data follows the local header, which has its own extra field
+				ByteBuffer local = read(in, localOffset, LOCAL_HEADER_SIZE);
+				if (local.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+					archived.clear();
+					return archived;
+				}
+				entry.dataOffset = localOffset + LOCAL_HEADER_SIZE + Short.toUnsignedInt(local.getShort(26))
+						+ Short.toUnsignedInt(local.getShort(28));
+
+				archived.put(new String(name, StandardCharsets.UTF_8), entry);
+				position += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+			}
+
+		} catch (IOException | RuntimeException e) {
+			logger.debug("The previous archive {} can not be reused: {}", file, e.getMessage()); //$NON-NLS-1$
+			archived.clear();
+		}
+
+		return archived;
+	}
+
+	/**
+	 * @param prepared the prepared entry
+	 * @return the local header
+	 */
+	private static ByteBuffer localHeader(PreparedEntry prepared) {
+		byte[] name = prepared.entry.name.getBytes(StandardCharsets.UTF_8);
+		long dosTime = toDosTime(prepared.lastModified);
+
+		ByteBuffer header = ByteBuffer.allocate(LOCAL_HEADER_SIZE + name.length).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(LOCAL_HEADER_SIGNATURE);
+		header.putShort((short) VERSION);
+		header.putShort((short) FLAG_UTF8);
+		header.putShort((short) prepared.method);
+		header.putShort((short) dosTime);
+		header.putShort((short) (dosTime >>> 16));
+		header.putInt((int) prepared.crc);
+		header.putInt((int) prepared.compressedSize);
+		header.putInt((int) prepared.size);
+		header.putShort((short) name.length);
+		header.putShort((short) 0);
+		header.put(name);
+		header.flip();
+		return header;
+	}
+
+	/**
+	 * @param prepared the written entry
+	 * @param offset   the local header offset
+	 * @return the central directory header
+	 */
+	private static ByteBuffer centralHeader(PreparedEntry prepared, long offset) {
+		byte[] name = prepared.entry.name.getBytes(StandardCharsets.UTF_8);
+		long dosTime = toDosTime(prepared.lastModified);
+
+		ByteBuffer header = ByteBuffer.allocate(CENTRAL_HEADER_SIZE + name.length).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(CENTRAL_HEADER_SIGNATURE);
+		header.putShort((short) VERSION);
+		header.putShort((short) VERSION);
+		header.putShort((short) FLAG_UTF8);
+		header.putShort((short) prepared.method);
+		header.putShort((short) dosTime);
+		header.putShort((short) (dosTime >>> 16));
+		header.putInt((int) prepared.crc);
+		header.putInt((int) prepared.compressedSize);
+		header.putInt((int) prepared.size);
+		header.putShort((short) name.length);
+		header.putShort((short) 0);
+		header.putShort((short) 0);
+		header.putShort((short) 0);
+		header.putShort((short) 0);
+		header.putInt(prepared.entry.directory ? ATTRIBUTE_DIRECTORY : 0);
+		header.putInt((int) offset);
+		header.put(name);
+		return header;
+	}
+
+	/**
+	 * @param millis the time in milliseconds
+	 * @return the MS-DOS date and time
+	 */
+	private static long toDosTime(long millis) {
+		LocalDateTime date = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis > 0 ? millis : 0),
+				ZoneId.systemDefault());
+		if (date.getYear() < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		return ((long) (date.getYear() - 1980) << 25) | (date.getMonthValue() << 21) | (date.getDayOfMonth() << 16)
+				| (date.getHour() << 11) | (date.getMinute() << 5) | (date.getSecond() >> 1);
+	}
+
+	/**
+	 * @param name the entry name
+	 * @return true if the entry is stored without compression
+	 */
+	private boolean isStored(String name) {
+		int dot = name.lastIndexOf('.');
+		return dot >= 0 && storedExtensions.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * @param file the file
+	 * @return the CRC-32 checksum of the file
+	 * @throws IOException if an error occured while reading the file
+	 */
+	private static long checksum(File file) throws IOException {
+		CRC32 crc = new CRC32();
+		try (InputStream in = new CheckedInputStream(new FileInputStream(file), crc)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (in.read(buffer) >= 0) {
+				// the checksum is computed while reading
+			}
+		}
+		return crc.getValue();
+	}
+
+	/**
+	 * @param in       the channel
+	 * @param position the position
+	 * @param size     the size
+	 * @return the bytes read, in little endian order
+	 * @throws IOException if the channel ends before
+	 */
+	private static ByteBuffer read(FileChannel in, long position, int size) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			if (in.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("Unexpected end of file"); //$NON-NLS-1$
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * @param buffer the buffer to write
+	 * @param out    the channel
+	 * @throws IOException if an error occured while writing
+	 */
+	private static void writeFully(ByteBuffer buffer, FileChannel out) throws IOException {
+		while (buffer.hasRemaining()) {
+			out.write(buffer);
+		}
+	}
+
+	/**
+	 * @param in       the channel to read
+	 * @param position the position to read from
+	 * @param size     the number of bytes to transfer
+	 * @param out      the channel to write
+	 * @throws IOException if an error occured while transferring
+	 */
+	private static void transfer(FileChannel in, long position, long size, FileChannel out) throws IOException {
+		long transferred = 0;
+		while (transferred < size) {
+			long count = in.transferTo(position + transferred, size - transferred, out);
+			if (count <= 0) {
+				throw new IOException("Unexpected end of file"); //$NON-NLS-1$
+			}
+			transferred += count;
+		}
+	}
+
+	/**
+	 * @param future the future prepared entry
+	 * @return the prepared entry
+	 * @throws IOException if the preparation failed
+	 */
+	private static PreparedEntry get(Future<PreparedEntry> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+
+	/**
+	 * Delete the temporary data of an entry not written.
+	 *
+	 * @param future the future prepared entry
+	 */
+	private static void discard(Future<PreparedEntry> future) {
+		if (!future.cancel(true) && future.isDone()) {
+			try {
+				future.get().delete();
+			} catch (InterruptedException e) {
+				logger.debug("Zip entry not discarded: {}", e.getMessage()); //$NON-NLS-1$
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				logger.debug("Zip entry not written: {}", e.getMessage()); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * A file or directory to zip.
+	 */
+	private static class SourceEntry {
+		private final String name;
+		private final File file;
+		private final boolean directory;
+
+		SourceEntry(String name, File file, boolean directory) {
+			this.name = name;
+			this.file = file;
+			this.directory = directory;
+		}
+	}
+
+	/**
+	 * An entry of the previous archive.
+	 */
+	static class ArchivedEntry {
+		int method;
+		long crc;
+		long compressedSize;
+		long size;
+		long dataOffset;
+	}
+
+	/**
+	 * An entry ready to be written.
+	 */
+	private static class PreparedEntry {
+		private final SourceEntry entry;
+		private int method = ZipEntry.STORED;
+		private long lastModified;
+		private long crc;
+		private long size;
+		private long compressedSize;
+		private ArchivedEntry archived;
+		private ByteArrayOutputStream data;
+		private File tmpFile;
+
+		PreparedEntry(SourceEntry entry) {
+			this.entry = entry;
+		}
+
+		void delete() {
+			data = null;
+			if (tmpFile != null) {
+				try {
+					Files.deleteIfExists(tmpFile.toPath());
+				} catch (IOException e) {
+					logger.warn("Impossible to delete the temporary file {}", tmpFile, e); //$NON-NLS-1$
+				}
+				tmpFile = null;
+			}
+		}
+	}
+
+	/**
+	 * An output stream counting the bytes written.
+	 */
+	private static class CountingOutputStream extends OutputStream {
+		private final OutputStream out;
+		private long count;
+
+		CountingOutputStream(OutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+
+		@Override
+		public void close() throws IOException {
+			out.close();
+		}
+	}
+}
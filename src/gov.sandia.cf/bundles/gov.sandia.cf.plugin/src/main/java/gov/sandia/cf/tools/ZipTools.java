@@ -3,6 +3,8 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.tools;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -11,6 +13,7 @@ import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -156,16 +159,34 @@ public class ZipTools {
 			Files.createFile(finalZipFile.toPath());
 		}
 
-		// create stream
-		FileOutputStream fos = new FileOutputStream(finalZipFile);
-		ZipOutputStream zipOut = new ZipOutputStream(fos);
+		// create stream and zip
+		try (ZipOutputStream zipOut = new ZipOutputStream(
+				new BufferedOutputStream(new FileOutputStream(finalZipFile), ZipArchiveWriter.BUFFER_SIZE))) {
+			zipFile(listSourceFile, RscTools.empty(), zipOut);
+		}
+	}
+
+	/**
+	 * Replace the target zip file with the sources: the unchanged entries of the
+	 * existing target file are reused, the other ones are compressed in parallel,
+	 * and the new zip replaces the target file atomically.
+	 *
+	 * @param sources    the files and directories to zip, by entry name in the
+	 *                   zip root, in order
+	 * @param targetFile the final zip file
+	 * @throws IOException          if an error occured while zipping
+	 * @throws CredibilityException if a parameter is null
+	 * @see ZipArchiveWriter
+	 */
+	public static void zipIncremental(Map<String, File> sources, File targetFile)
+			throws IOException, CredibilityException {
+		if (sources == null || targetFile == null) {
+			throw new CredibilityException(RscTools.getString(RscConst.EX_FILETOOLS_EMPTYNULL));
+		}
 
-		// zip
-		zipFile(listSourceFile, RscTools.empty(), zipOut);
+		logger.debug("Zipping {} into {}", sources.keySet(), targetFile); //$NON-NLS-1$
 
-		// close stream
-		zipOut.close();
-		fos.close();
+		new ZipArchiveWriter().write(sources, targetFile);
 	}
 
 	/**
@@ -200,7 +221,7 @@ public class ZipTools {
 				try (FileInputStream fis = new FileInputStream(fileToZip)) {
 					ZipEntry zipEntry = new ZipEntry(filePrefix + fileToZip.getName());
 					zipOut.putNextEntry(zipEntry);
-					byte[] bytes = new byte[1024];
+					byte[] bytes = new byte[ZipArchiveWriter.BUFFER_SIZE];
 					int length;
 					while ((length = fis.read(bytes)) >= 0) {
 						zipOut.write(bytes, 0, length);
@@ -243,9 +264,10 @@ public class ZipTools {
 	public static void unzip(File fileZip, File destinationDir) throws IOException, CredibilityException {
 
 		// create a new stream for the zip entries
-		byte[] buffer = new byte[1024];
+		byte[] buffer = new byte[ZipArchiveWriter.BUFFER_SIZE];
 
-		try (ZipInputStream zis = new ZipInputStream(new FileInputStream(fileZip))) {
+		try (ZipInputStream zis = new ZipInputStream(
+				new BufferedInputStream(new FileInputStream(fileZip), ZipArchiveWriter.BUFFER_SIZE))) {
 			ZipEntry zipEntry = zis.getNextEntry();
 
 			// iterate on zip entries
@@ -22,6 +22,21 @@ public interface IWebEventListener {
 	 */
 	void handle(WebEvent e);
 
+	/**
+	 * Handle the entity change event.
+	 *
+	 * @param change the entity change
+	 */
+	void handleEntityChange(WebEntityChange change);
+
+	/**
+	 * Handle the resync event: some events have been lost and the data must be
+	 * reloaded. The default implementation is doing nothing.
+	 */
+	default void handleResync() {
+		// do nothing by default
+	}
+
 	/**
 	 * Handle the web event error.
 	 *
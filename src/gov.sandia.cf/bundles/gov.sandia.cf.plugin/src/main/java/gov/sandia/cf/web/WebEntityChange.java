@@ -0,0 +1,103 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.web;
+
+import com.google.gson.JsonElement;
+
+import gov.sandia.cf.tools.GsonTools;
+
+/**
+ * The Class WebEntityChange. A typed entity change event sent by the server to
+ * patch the local data without reloading it.
+ * 
+ * @author Didier Verstraete
+ */
+public class WebEntityChange {
+
+	/** The Constant ACTION_UPDATED. */
+	public static final String ACTION_UPDATED = "updated"; //$NON-NLS-1$
+
+	/** The Constant ACTION_DELETED. */
+	public static final String ACTION_DELETED = "deleted"; //$NON-NLS-1$
+
+	private String entity;
+	private String action;
+	private JsonElement value;
+
+	/**
+	 * Gets the entity.
+	 *
+	 * @return the entity
+	 */
+	public String getEntity() {
+		return entity;
+	}
+
+	/**
+	 * Sets the entity.
+	 *
+	 * @param entity the new entity
+	 */
+	public void setEntity(String entity) {
+		this.entity = entity;
+	}
+
+	/**
+	 * Gets the action.
+	 *
+	 * @return the action
+	 */
+	public String getAction() {
+		return action;
+	}
+
+	/**
+	 * Sets the action.
+	 *
+	 * @param action the new action
+	 */
+	public void setAction(String action) {
+		this.action = action;
+	}
+
+	/**
+	 * Gets the value.
+	 *
+	 * @return the value
+	 */
+	public JsonElement getValue() {
+		return value;
+	}
+
+	/**
+	 * Sets the value.
+	 *
+	 * @param value the new value
+	 */
+	public void setValue(JsonElement value) {
+		this.value = value;
+	}
+
+	/**
+	 * Gets the value.
+	 *
+	 * @param <M>           the value type
+	 * @param classToReturn the value class
+	 * @return the value converted to the class in parameter
+	 */
+	public <M> M getValue(Class<M> classToReturn) {
+		return value != null ? GsonTools.getFromGson(value.toString(), classToReturn) : null;
+	}
+
+	/**
+	 * Checks if is.
+	 *
+	 * @param entityName the entity name
+	 * @param actionName the action name
+	 * @return true, if the change concerns this entity and action
+	 */
+	public boolean is(String entityName, String actionName) {
+		return entityName != null && entityName.equals(entity) && actionName != null && actionName.equals(action);
+	}
+}
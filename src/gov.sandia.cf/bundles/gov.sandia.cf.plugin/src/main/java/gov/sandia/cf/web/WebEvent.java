@@ -10,9 +10,12 @@ package gov.sandia.cf.web;
  */
 public class WebEvent {
 
-	/** The id. */
+	/** The event name. */
 	public String id;
 
+	/** The event id, sent back to the server to resume the stream. */
+	public String eventId;
+
 	/** The data. */
 	public Object data;
 }
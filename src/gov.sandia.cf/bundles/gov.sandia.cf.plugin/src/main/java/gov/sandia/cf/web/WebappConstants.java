@@ -22,4 +22,19 @@ public class WebappConstants {
 	
 	/** The Constant CF_WEB_CONST_MESSAGE. */
 	public static final String CF_WEB_CONST_MESSAGE = "message"; //$NON-NLS-1$
+
+	/** The Constant CF_WEB_CONST_DATA_MODEL. */
+	public static final String CF_WEB_CONST_DATA_MODEL = "model"; //$NON-NLS-1$
+
+	/** The Constant CF_WEB_CONST_EVENT_CONNECTED. */
+	public static final String CF_WEB_CONST_EVENT_CONNECTED = "connected"; //$NON-NLS-1$
+
+	/** The Constant CF_WEB_CONST_EVENT_RESYNC. */
+	public static final String CF_WEB_CONST_EVENT_RESYNC = "resync"; //$NON-NLS-1$
+
+	/** The Constant CF_WEB_CONST_EVENT_ENTITY_CHANGE. */
+	public static final String CF_WEB_CONST_EVENT_ENTITY_CHANGE = "entityChange"; //$NON-NLS-1$
+
+	/** The Constant CF_WEB_CONST_HEADER_LAST_EVENT_ID. */
+	public static final String CF_WEB_CONST_HEADER_LAST_EVENT_ID = "Last-Event-ID"; //$NON-NLS-1$
 }
@@ -3,9 +3,10 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.web.message;
 
+import java.time.Duration;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.core.runtime.Assert;
 import org.slf4j.Logger;
@@ -16,16 +17,25 @@ import org.springframework.web.reactive.function.client.WebClientRequestExceptio
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import gov.sandia.cf.model.Model;
+import gov.sandia.cf.tools.GsonTools;
 import gov.sandia.cf.web.IWebEventListener;
 import gov.sandia.cf.web.WebClientException;
 import gov.sandia.cf.web.WebClientRuntimeException;
+import gov.sandia.cf.web.WebEntityChange;
 import gov.sandia.cf.web.WebEvent;
+import gov.sandia.cf.web.WebappConstants;
 import gov.sandia.cf.web.services.IWebClientManager;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
 
 /**
  * The Class MessageManager.
  *
+ * The event stream is reopened with an exponential backoff when it is closed or
+ * fails. The last event id received is sent back to the server on reconnection
+ * to get the missed events.
+ *
  * @author Didier Verstraete
  */
 public class MessageManager implements IMessageManager {
@@ -35,16 +45,28 @@ public class MessageManager implements IMessageManager {
 	 */
 	private static final Logger logger = LoggerFactory.getLogger(MessageManager.class);
 
+	/** The min delay before reopening the event stream. */
+	public static final Duration RECONNECT_MIN_BACKOFF = Duration.ofSeconds(1);
+
+	/** The max delay before reopening the event stream. */
+	public static final Duration RECONNECT_MAX_BACKOFF = Duration.ofMinutes(1);
+
 	/** The list listener. */
 	private List<IWebEventListener> listListener;
 
 	/**
 	 * Defines the state of the loader
 	 */
-	private boolean isStarted = false;
+	private volatile boolean isStarted = false;
 
 	/** The server member id. */
-	private String serverMemberId;
+	private volatile String serverMemberId;
+
+	/** The last event id received. */
+	private volatile String lastEventId;
+
+	/** The event stream subscription. */
+	private Disposable subscription;
 
 	private IWebClientManager webClientManager;
 
@@ -57,7 +79,7 @@ public class MessageManager implements IMessageManager {
 		Assert.isNotNull(webClientManager);
 		Assert.isTrue(webClientManager.isStarted());
 		this.webClientManager = webClientManager;
-		this.listListener = new ArrayList<>();
+		this.listListener = new CopyOnWriteArrayList<>();
 	}
 
 	/**
@@ -70,12 +92,13 @@ public class MessageManager implements IMessageManager {
 		try {
 			// get connection
 			serverMemberId = connect();
+			lastEventId = null;
+
+			isStarted = true;
 
 			// listen messages
 			listen();
 
-			isStarted = true;
-
 		} catch (WebClientException e) {
 			logger.error("An error occurs during connection: {}", e.getMessage()); //$NON-NLS-1$
 			throw new WebClientRuntimeException(e);
@@ -105,35 +128,94 @@ public class MessageManager implements IMessageManager {
 	private void listen() throws WebClientException {
 		try {
 
-			ParameterizedTypeReference<ServerSentEvent<String>> type = new ParameterizedTypeReference<ServerSentEvent<String>>() {
-			};
-
-			Flux<ServerSentEvent<String>> eventStream = webClientManager.getWebClient().get()
-					.uri(MessageRoute.get(serverMemberId)).retrieve().bodyToFlux(type).retry();
+			// reopen the stream when completed by the server, and with backoff on error
+			Flux<ServerSentEvent<String>> eventStream = Flux.defer(this::openEventStream)
+					.repeatWhen(completed -> completed.takeWhile(c -> isStarted).delayElements(RECONNECT_MIN_BACKOFF))
+					.retryWhen(Retry.backoff(Long.MAX_VALUE, RECONNECT_MIN_BACKOFF).maxBackoff(RECONNECT_MAX_BACKOFF)
+							.transientErrors(true).filter(e -> isStarted).doBeforeRetry(signal -> logger
+									.warn("Event stream lost, reconnecting: {}", signal.failure().getMessage()))); //$NON-NLS-1$
 
-			eventStream.subscribe(content -> {
-				logger.debug("Time: {} - event: name[{}], id [{}], content[{}] ", LocalTime.now(), content.event(), //$NON-NLS-1$
-						content.id(), content.data());
-				WebEvent event = new WebEvent();
-				event.id = content.id();
-				event.data = content.data();
-				listListener.forEach(listener -> listener.handle(event));
-			}, error -> {
+			subscription = eventStream.subscribe(this::handleEvent, error -> {
 				logger.error("Error receiving SSE: {}", error.getMessage()); //$NON-NLS-1$
 				listListener.forEach(listener -> listener.handleError(error));
-			}, () -> {
-				if (isStarted) {
-					// TODO try to reopen connection if closed
-				} else {
-					logger.info("Connection completed."); //$NON-NLS-1$
-				}
-			});
+			}, () -> logger.info("Connection completed.")); //$NON-NLS-1$
 
 		} catch (WebClientResponseException | WebClientRequestException e) {
 			throw new WebClientException(e);
 		}
 	}
 
+	/**
+	 * Open the event stream, resuming after the last event id received.
+	 *
+	 * @return the event stream
+	 */
+	private Flux<ServerSentEvent<String>> openEventStream() {
+		ParameterizedTypeReference<ServerSentEvent<String>> type = new ParameterizedTypeReference<ServerSentEvent<String>>() {
+		};
+
+		String resumeFrom = lastEventId;
+		logger.debug("Open event stream after event {}", resumeFrom); //$NON-NLS-1$
+
+		return webClientManager.getWebClient().get().uri(MessageRoute.get(serverMemberId)).headers(headers -> {
+			if (resumeFrom != null) {
+				headers.set(WebappConstants.CF_WEB_CONST_HEADER_LAST_EVENT_ID, resumeFrom);
+			}
+		}).retrieve().bodyToFlux(type).onErrorResume(WebClientResponseException.NotFound.class, e -> rejoin());
+	}
+
+	/**
+	 * Get a new member id when the server does not know the member anymore (not
+	 * reconnected in time or server restarted), then open the event stream. The
+	 * subscriptions are lost: the listeners are asked to resync.
+	 *
+	 * @return the event stream
+	 */
+	private Flux<ServerSentEvent<String>> rejoin() {
+		logger.warn("Member {} unknown by the server, connecting again", serverMemberId); //$NON-NLS-1$
+
+		return webClientManager.getWebClient().get().uri(MessageRoute.connect()).retrieve().bodyToMono(String.class)
+				.flatMapMany(memberId -> {
+					serverMemberId = memberId;
+					lastEventId = null;
+					listListener.forEach(IWebEventListener::handleResync);
+					return openEventStream();
+				});
+	}
+
+	/**
+	 * Handle a received event.
+	 *
+	 * @param content the event
+	 */
+	private void handleEvent(ServerSentEvent<String> content) {
+		logger.debug("Time: {} - event: name[{}], id [{}], content[{}] ", LocalTime.now(), content.event(), //$NON-NLS-1$
+				content.id(), content.data());
+
+		if (content.id() != null) {
+			lastEventId = content.id();
+		}
+
+		if (WebappConstants.CF_WEB_CONST_EVENT_CONNECTED.equals(content.event())) {
+			return;
+		}
+
+		if (WebappConstants.CF_WEB_CONST_EVENT_RESYNC.equals(content.event())) {
+			listListener.forEach(IWebEventListener::handleResync);
+		} else if (WebappConstants.CF_WEB_CONST_EVENT_ENTITY_CHANGE.equals(content.event())) {
+			WebEntityChange change = GsonTools.getFromGson(content.data(), WebEntityChange.class);
+			if (change != null) {
+				listListener.forEach(listener -> listener.handleEntityChange(change));
+			}
+		} else {
+			WebEvent event = new WebEvent();
+			event.id = content.event();
+			event.eventId = content.id();
+			event.data = content.data();
+			listListener.forEach(listener -> listener.handle(event));
+		}
+	}
+
 	@Override
 	public void addListener(IWebEventListener listener) {
 		listListener.add(listener);
@@ -147,6 +229,14 @@ public class MessageManager implements IMessageManager {
 	@Override
 	public void stop() {
 
+		isStarted = false;
+
+		// stop listening
+		if (subscription != null) {
+			subscription.dispose();
+			subscription = null;
+		}
+
 		// stop connection with server
 		try {
 			disconnect();
@@ -155,8 +245,8 @@ public class MessageManager implements IMessageManager {
 		}
 
 		serverMemberId = null;
+		lastEventId = null;
 
-		isStarted = false;
 		logger.debug("application loader stopped"); //$NON-NLS-1$
 	}
 
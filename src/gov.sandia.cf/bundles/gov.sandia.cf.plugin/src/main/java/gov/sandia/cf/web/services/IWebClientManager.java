@@ -43,4 +43,24 @@ public interface IWebClientManager extends IManager {
 	 */
 	WebClient getWebClient();
 
+	/**
+	 * Gets the client-side response cache of the conditional GET requests.
+	 *
+	 * @return the response cache
+	 */
+	WebResponseCache getResponseCache();
+
+	/**
+	 * Send a conditional GET request: the ETag of the cached response is sent in
+	 * the If-None-Match header, and the cached response is returned without
+	 * download and parsing if the server answers 304 Not Modified. The web client
+	 * exceptions are thrown as for the other requests.
+	 *
+	 * @param <T>  the response type
+	 * @param uri  the request URI
+	 * @param type the response class
+	 * @return the parsed response
+	 */
+	<T> T getConditional(String uri, Class<T> type);
+
 }
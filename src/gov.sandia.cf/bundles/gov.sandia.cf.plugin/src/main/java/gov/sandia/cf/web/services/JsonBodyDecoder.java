@@ -0,0 +1,138 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.web.services;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import gov.sandia.cf.tools.GsonTools;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The streaming JSON decoder of the web client responses. The response body is
+ * parsed while it is received: the data buffers are written into a bounded pipe
+ * read by the Gson reader of the calling thread, instead of being joined and
+ * converted into a String before parsing.
+ * 
+ * The calling thread is blocked until the body is parsed, and must not be a
+ * reactor non-blocking thread.
+ *
+ * @author Didier Verstraete
+ */
+public class JsonBodyDecoder {
+
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(JsonBodyDecoder.class);
+
+	/** The pipe size in bytes. */
+	static final int PIPE_SIZE = 64 * 1024;
+
+	/** The number of data buffers prefetched from the response. */
+	static final int PREFETCH = 4;
+
+	/**
+	 * Private constructor to not allow instantiation.
+	 */
+	private JsonBodyDecoder() {
+	}
+
+	/**
+	 * Parse the response body.
+	 *
+	 * @param <T>  the class
+	 * @param body the response body
+	 * @param type the class to fill and return
+	 * @return the parsed body, or null if the body is empty or not valid
+	 */
+	public static <T> T decode(Flux<DataBuffer> body, Class<T> type) {
+		return read(body, reader -> GsonTools.getFromGson(reader, type));
+	}
+
+	/**
+	 * Parse the JSON array of the response body element by element: each element
+	 * is given to the consumer as soon as it is received and parsed.
+	 *
+	 * @param <T>      the class
+	 * @param body     the response body
+	 * @param type     the class of the elements
+	 * @param consumer the consumer of the parsed elements
+	 * @return the number of elements parsed
+	 */
+	public static <T> int decodeList(Flux<DataBuffer> body, Class<T> type, Consumer<T> consumer) {
+		Integer count = read(body, reader -> GsonTools.readList(reader, type, consumer));
+		return count != null ? count : 0;
+	}
+
+	/**
+	 * Write the response body into a pipe and parse it from the pipe. The data
+	 * buffers are written from a worker thread to not block the response thread
+	 * when the pipe is full, and released once written.
+	 *
+	 * @param <R>    the result type
+	 * @param body   the response body
+	 * @param parser the parser of the body reader
+	 * @return the parsed result
+	 * @throws RuntimeException the response error, if any
+	 */
+	private static <R> R read(Flux<DataBuffer> body, Function<Reader, R> parser) {
+
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		PipedInputStream in = new PipedInputStream(PIPE_SIZE);
+		Disposable writing;
+		try {
+			PipedOutputStream out = new PipedOutputStream(in);
+			writing = DataBufferUtils.write(body.publishOn(Schedulers.boundedElastic(), PREFETCH), out)
+					.doFinally(signal -> close(out)).subscribe(DataBufferUtils.releaseConsumer(), error::set);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		R result;
+		Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+		try {
+			result = parser.apply(reader);
+		} finally {
+			// stop writing before closing the pipe if the body has not been fully read
+			writing.dispose();
+			close(reader);
+		}
+
+		if (error.get() != null) {
+			throw Exceptions.propagate(error.get());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Close the stream quietly.
+	 *
+	 * @param closeable the stream to close
+	 */
+	private static void close(AutoCloseable closeable) {
+		try {
+			closeable.close();
+		} catch (Exception e) {
+			logger.debug("The stream can not be closed: {}", e.getMessage()); //$NON-NLS-1$
+		}
+	}
+}
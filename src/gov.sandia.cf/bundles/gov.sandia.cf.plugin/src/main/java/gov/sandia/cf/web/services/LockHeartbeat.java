@@ -0,0 +1,183 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.web.services;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.sandia.cf.exceptions.CredibilityException;
+
+/**
+ * Renews a server lock periodically in a background thread while it is held.
+ * The server locks expire if they are not renewed, so the lock of a crashed
+ * client does not block the other clients for long. A failed renewal is retried
+ * with an exponential backoff until the lock expiration. Then the lock is lost:
+ * the heartbeat stops and the lost callback is called.
+ *
+ * @author Didier Verstraete
+ */
+public class LockHeartbeat {
+
+	/**
+	 * the logger
+	 */
+	private static final Logger logger = LoggerFactory.getLogger(LockHeartbeat.class);
+
+	/** The default delay between two renewals, shorter than the server lock expiration delay. */
+	public static final Duration DEFAULT_PERIOD = Duration.ofMinutes(2);
+
+	/** The default server lock expiration delay. */
+	public static final Duration DEFAULT_EXPIRATION = Duration.ofMinutes(10);
+
+	/** The default delay before the first retry of a failed renewal. */
+	public static final Duration DEFAULT_RETRY_DELAY = Duration.ofSeconds(5);
+
+	/** The heartbeat thread name. */
+	private static final String THREAD_NAME = "CF Lock Heartbeat"; //$NON-NLS-1$
+
+	private final ScheduledExecutorService scheduler;
+	private final ILockRenewal renewal;
+	private final Duration period;
+	private final Duration expiration;
+	private final Duration retryDelay;
+	private final Consumer<Exception> onLost;
+
+	/** The time of the last renewal, in nanoseconds. */
+	private long lastRenewal;
+
+	/** The number of failed renewals since the last one. */
+	private int failureCount;
+
+	/**
+	 * The lock renewal.
+	 */
+	@FunctionalInterface
+	public interface ILockRenewal {
+
+		/**
+		 * Renew the lock.
+		 *
+		 * @throws CredibilityException if the lock can not be renewed
+		 */
+		void renew() throws CredibilityException;
+	}
+
+	/**
+	 * Instantiates and starts a new lock heartbeat with the default delays.
+	 *
+	 * @param renewal the lock renewal
+	 * @param onLost  called in the heartbeat thread with the last error when the
+	 *                lock is lost
+	 */
+	public LockHeartbeat(ILockRenewal renewal, Consumer<Exception> onLost) {
+		this(renewal, DEFAULT_PERIOD, DEFAULT_EXPIRATION, DEFAULT_RETRY_DELAY, onLost);
+	}
+
+	/**
+	 * Instantiates and starts a new lock heartbeat. The lock is considered just
+	 * acquired or renewed.
+	 *
+	 * @param renewal    the lock renewal
+	 * @param period     the delay between two renewals
+	 * @param expiration the lock expiration delay after the last renewal
+	 * @param retryDelay the delay before the first retry of a failed renewal,
+	 *                   doubled at each retry up to the period
+	 * @param onLost     called in the heartbeat thread with the last error when
+	 *                   the lock is lost
+	 */
+	public LockHeartbeat(ILockRenewal renewal, Duration period, Duration expiration, Duration retryDelay,
+			Consumer<Exception> onLost) {
+		Assert.isNotNull(renewal);
+		Assert.isNotNull(period);
+		Assert.isNotNull(expiration);
+		Assert.isNotNull(retryDelay);
+
+		this.renewal = renewal;
+		this.period = period;
+		this.expiration = expiration;
+		this.retryDelay = retryDelay;
+		this.onLost = onLost;
+		this.lastRenewal = System.nanoTime();
+		this.failureCount = 0;
+
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		});
+		schedule(period);
+	}
+
+	/**
+	 * Schedule the next renewal.
+	 *
+	 * @param delay the delay
+	 */
+	private void schedule(Duration delay) {
+		try {
+			scheduler.schedule(this::renew, delay.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			logger.debug("Lock heartbeat stopped"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Renew the lock, in the heartbeat thread.
+	 */
+	private void renew() {
+		try {
+			renewal.renew();
+			logger.debug("Lock renewed"); //$NON-NLS-1$
+			lastRenewal = System.nanoTime();
+			failureCount = 0;
+			schedule(period);
+		} catch (CredibilityException | RuntimeException e) {
+			failureCount++;
+
+			Duration remaining = expiration.minusNanos(System.nanoTime() - lastRenewal);
+			if (remaining.isNegative() || remaining.isZero()) {
+				logger.warn("Lock lost, impossible to renew it: {}", e.getMessage()); //$NON-NLS-1$
+				stop();
+				if (onLost != null) {
+					onLost.accept(e);
+				}
+				return;
+			}
+
+			Duration delay = getRetryDelay(retryDelay, period, failureCount);
+			logger.warn("Impossible to renew the lock, retry in {} ms: {}", delay.toMillis(), e.getMessage()); //$NON-NLS-1$
+			schedule(delay.compareTo(remaining) < 0 ? delay : remaining);
+		}
+	}
+
+	/**
+	 * Gets the delay before retrying a failed renewal: the retry delay, doubled
+	 * after each failure, up to the period.
+	 *
+	 * @param retryDelay   the delay before the first retry
+	 * @param period       the max delay
+	 * @param failureCount the number of consecutive failures
+	 * @return the delay
+	 */
+	static Duration getRetryDelay(Duration retryDelay, Duration period, int failureCount) {
+		int shift = Math.min(Math.max(failureCount - 1, 0), 30);
+		Duration delay = retryDelay.multipliedBy(1L << shift);
+		return delay.compareTo(period) < 0 ? delay : period;
+	}
+
+	/**
+	 * Stop the heartbeat.
+	 */
+	public void stop() {
+		scheduler.shutdownNow();
+	}
+}
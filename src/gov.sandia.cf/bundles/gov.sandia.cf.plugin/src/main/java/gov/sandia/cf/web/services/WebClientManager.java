@@ -15,6 +15,8 @@ import javax.validation.Validator;
 import org.hsqldb.cmdline.SqlToolError;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import gov.sandia.cf.application.ApplicationManager;
@@ -29,6 +31,9 @@ import gov.sandia.cf.exceptions.CredibilityServiceRuntimeException;
 import gov.sandia.cf.exceptions.CredibilityServiceRuntimeException.CredibilityServiceRuntimeMessage;
 import gov.sandia.cf.web.WebClientRuntimeException;
 import gov.sandia.cf.web.WebClientRuntimeException.WebClientRuntimeMessage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Load the web client layer classes.
@@ -64,6 +69,9 @@ public class WebClientManager implements IApplicationManager, IWebClientManager
 	/** The web server base URI. */
 	private String baseURI;
 
+	/** The response cache of the conditional GET requests. */
+	private final WebResponseCache responseCache = new WebResponseCache();
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -188,6 +196,9 @@ public class WebClientManager implements IApplicationManager, IWebClientManager
 	public void setBaseURI(String baseURI) {
 		this.baseURI = baseURI;
 
+		// the cached responses come from the previous server
+		responseCache.clear();
+
 		// reload web client
 		if (webClient == null) {
 			webClient = WebClient.create(getBaseURI());
@@ -209,6 +220,45 @@ public class WebClientManager implements IApplicationManager, IWebClientManager
 		return webClient;
 	}
 
+	@Override
+	public WebResponseCache getResponseCache() {
+		return responseCache;
+	}
+
+	@Override
+	public <T> T getConditional(String uri, Class<T> type) {
+
+		WebResponseCache.Entry cached = responseCache.get(uri);
+
+		return getWebClient().get().uri(uri).headers(headers -> {
+			if (cached != null) {
+				headers.setIfNoneMatch(cached.getETag());
+			}
+		}).exchangeToMono(response -> {
+
+			// not modified: reuse the cached response
+			if (response.statusCode() == HttpStatus.NOT_MODIFIED && cached != null
+					&& type.isInstance(cached.getValue())) {
+				logger.debug("Not modified: {}", uri); //$NON-NLS-1$
+				return response.releaseBody().thenReturn(type.cast(cached.getValue()));
+			}
+
+			if (response.statusCode().isError()) {
+				responseCache.remove(uri);
+				return response.createException().flatMap(Mono::error);
+			}
+
+			// the body is parsed while received from a worker thread
+			String eTag = response.headers().asHttpHeaders().getETag();
+			Flux<DataBuffer> body = response.bodyToFlux(DataBuffer.class);
+			return Mono.fromCallable(() -> {
+				T value = JsonBodyDecoder.decode(body, type);
+				responseCache.put(uri, eTag, value);
+				return value;
+			}).subscribeOn(Schedulers.boundedElastic());
+		}).block();
+	}
+
 	@Override
 	public boolean isStarted() {
 		return isStarted;
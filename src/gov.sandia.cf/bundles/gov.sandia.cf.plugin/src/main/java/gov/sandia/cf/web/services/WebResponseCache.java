@@ -0,0 +1,103 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.web.services;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The client-side response cache of the conditional GET requests: the last
+ * parsed response of each URI and its ETag. The ETag is sent back to the
+ * server in the If-None-Match header, and the cached response is reused if
+ * the server answers 304 Not Modified.
+ *
+ * @author Didier Verstraete
+ */
+public class WebResponseCache {
+
+	/** The cached responses by URI. */
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * @param uri the request URI
+	 * @return the cached response, or null
+	 */
+	public Entry get(String uri) {
+		return uri != null ? entries.get(uri) : null;
+	}
+
+	/**
+	 * Cache the response.
+	 *
+	 * @param uri   the request URI
+	 * @param eTag  the response ETag
+	 * @param value the parsed response
+	 */
+	public void put(String uri, String eTag, Object value) {
+		if (uri != null && eTag != null && value != null) {
+			entries.put(uri, new Entry(eTag, value));
+		}
+	}
+
+	/**
+	 * Remove the cached response.
+	 *
+	 * @param uri the request URI
+	 */
+	public void remove(String uri) {
+		if (uri != null) {
+			entries.remove(uri);
+		}
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * @param entityVersion the entity version
+	 * @return the ETag sent by the server for this entity version, or null
+	 */
+	public static String eTag(Long entityVersion) {
+		return entityVersion != null ? "\"" + entityVersion + "\"" : null; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * A cached response.
+	 */
+	public static class Entry {
+
+		/** The ETag. */
+		private final String eTag;
+
+		/** The parsed response. */
+		private final Object value;
+
+		/**
+		 * @param eTag  the ETag
+		 * @param value the parsed response
+		 */
+		Entry(String eTag, Object value) {
+			this.eTag = eTag;
+			this.value = value;
+		}
+
+		/**
+		 * @return the ETag
+		 */
+		public String getETag() {
+			return eTag;
+		}
+
+		/**
+		 * @return the parsed response
+		 */
+		public Object getValue() {
+			return value;
+		}
+	}
+}
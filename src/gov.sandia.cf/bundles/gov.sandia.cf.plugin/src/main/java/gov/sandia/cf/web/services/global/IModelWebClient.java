@@ -8,6 +8,7 @@ import java.util.List;
 import gov.sandia.cf.application.Service;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.Model;
+import gov.sandia.cf.model.dto.ModelPageDto;
 import gov.sandia.cf.web.services.IWebClient;
 
 /**
@@ -27,6 +28,17 @@ public interface IModelWebClient extends IWebClient {
 	 */
 	Model loadModel(Integer modelId) throws CredibilityException;
 
+	/**
+	 * Refresh the model: if the model has already been loaded, the model and its
+	 * intended purpose are synchronized with one request returning only the
+	 * entities changed since the cached versions. Otherwise the model is loaded.
+	 *
+	 * @param modelId the model id
+	 * @return the model
+	 * @throws CredibilityException the credibility exception
+	 */
+	Model refreshModel(Integer modelId) throws CredibilityException;
+
 	/**
 	 * List the existing models.
 	 *
@@ -34,6 +46,17 @@ public interface IModelWebClient extends IWebClient {
 	 */
 	List<Model> list();
 
+	/**
+	 * List one page of the existing models, sorted by application. Only the
+	 * fields displayed are loaded.
+	 *
+	 * @param page   the page number (starting from 0)
+	 * @param size   the page size
+	 * @param models the list receiving the models of the page
+	 * @return the model page
+	 */
+	ModelPageDto page(int page, int size, List<Model> models);
+
 	/**
 	 * Creates the model.
 	 *
@@ -19,9 +19,14 @@ public class ModelRoute {
 	private static final String WS_REST_CF_MODEL = "/model"; //$NON-NLS-1$
 	private static final String WS_REST_CF_MODEL_GET = "/get"; //$NON-NLS-1$
 	private static final String WS_REST_CF_MODEL_LIST = "/list"; //$NON-NLS-1$
+	private static final String WS_REST_CF_MODEL_PAGE = "/page"; //$NON-NLS-1$
+	private static final String WS_REST_CF_PAGE_PARAMS = "?page={page}&size={size}" //$NON-NLS-1$
+			+ "&sort={sort}&fields={fields}"; //$NON-NLS-1$
 	private static final String WS_REST_CF_MODEL_NEW = "/new"; //$NON-NLS-1$
 	private static final String WS_REST_CF_MODEL_EDIT = "/edit"; //$NON-NLS-1$
 	private static final String WS_REST_CF_MODEL_DELETE = "/delete"; //$NON-NLS-1$
+	private static final String WS_REST_CF_MODEL_CHANGES = "/changes" //$NON-NLS-1$
+			+ "?modelVersion={modelVersion}&purposeVersion={purposeVersion}"; //$NON-NLS-1$
 
 	private ModelRoute() {
 		// Do not implement
@@ -59,6 +64,16 @@ public class ModelRoute {
 		return CFRoute.apiRoot() + WS_REST_CF_MODEL + "/" + WS_REST_CF_MODEL_LIST; //$NON-NLS-1$
 	}
 
+	/**
+	 * Gets the relative uri template for page method. The template variables are
+	 * page, size, sort (property,direction) and fields (comma separated).
+	 *
+	 * @return the page route
+	 */
+	public static String page() {
+		return CFRoute.apiRoot() + WS_REST_CF_MODEL + WS_REST_CF_MODEL_PAGE + WS_REST_CF_PAGE_PARAMS;
+	}
+
 	/**
 	 * Gets the relative uri for new method.
 	 *
@@ -78,6 +93,17 @@ public class ModelRoute {
 		return rootUri(model) + WS_REST_CF_MODEL_EDIT;
 	}
 
+	/**
+	 * Gets the relative uri template for changes method. The template variables
+	 * are the model and intended purpose versions known by the client.
+	 *
+	 * @param model the model
+	 * @return the changes route
+	 */
+	public static String changes(Model model) {
+		return rootUri(model) + WS_REST_CF_MODEL_CHANGES;
+	}
+
 	/**
 	 * Gets the relative uri for delete method.
 	 *
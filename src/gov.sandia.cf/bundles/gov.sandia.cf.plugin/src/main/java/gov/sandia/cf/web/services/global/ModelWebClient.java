@@ -3,26 +3,33 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.web.services.global;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.Model;
+import gov.sandia.cf.model.dto.IntendedPurposeDto;
+import gov.sandia.cf.model.dto.ModelChangesDto;
 import gov.sandia.cf.model.dto.ModelDto;
+import gov.sandia.cf.model.dto.ModelPageDto;
 import gov.sandia.cf.tools.GsonTools;
 import gov.sandia.cf.tools.RscConst;
 import gov.sandia.cf.tools.RscTools;
 import gov.sandia.cf.web.WebClientRuntimeException;
 import gov.sandia.cf.web.services.AWebClient;
+import gov.sandia.cf.web.services.JsonBodyDecoder;
 import gov.sandia.cf.web.services.WebClientManager;
+import gov.sandia.cf.web.services.WebResponseCache;
+import gov.sandia.cf.web.services.intendedpurpose.IntendedPurposeRoute;
 
 /**
  * The Class ModelWebClient.
@@ -35,6 +42,12 @@ public class ModelWebClient extends AWebClient implements IModelWebClient {
 	 */
 	private static final Logger logger = LoggerFactory.getLogger(ModelWebClient.class);
 
+	/** The model page sort. */
+	private static final String PAGE_SORT = "application,asc"; //$NON-NLS-1$
+
+	/** The model page fields: the fields mapped to the application model. */
+	private static final String PAGE_FIELDS = "id,application,contact"; //$NON-NLS-1$
+
 	/**
 	 * GlobalApplication constructor
 	 */
@@ -61,14 +74,62 @@ public class ModelWebClient extends AWebClient implements IModelWebClient {
 		}
 
 		try {
-			return ModelMapper.toApp(GsonTools.getFromGson(getWebClientMgr().getWebClient().get()
-					.uri(ModelRoute.get(ModelFactory.get(modelId))).retrieve().bodyToMono(String.class).block(),
-					ModelDto.class));
+			return toApp(
+					getWebClientMgr().getConditional(ModelRoute.get(ModelFactory.get(modelId)), ModelDto.class));
 		} catch (WebClientResponseException | WebClientRequestException e) {
 			throw new WebClientRuntimeException(e);
 		}
 	}
 
+	@Override
+	public Model refreshModel(Integer modelId) throws CredibilityException {
+
+		logger.debug("refresh model {}", modelId); //$NON-NLS-1$
+
+		if (modelId == null) {
+			throw new CredibilityException(RscTools.getString(RscConst.EX_MODELWEBCLIENT_LOAD_MODEL_NULL));
+		}
+
+		Model model = ModelFactory.get(modelId);
+		String modelUri = ModelRoute.get(model);
+		String purposeUri = IntendedPurposeRoute.get(model);
+		WebResponseCache cache = getWebClientMgr().getResponseCache();
+
+		// nothing to synchronize
+		WebResponseCache.Entry cachedModel = cache.get(modelUri);
+		if (cachedModel == null || !(cachedModel.getValue() instanceof ModelDto)) {
+			return loadModel(modelId);
+		}
+
+		Long modelVersion = ((ModelDto) cachedModel.getValue()).getEntityVersion();
+		WebResponseCache.Entry cachedPurpose = cache.get(purposeUri);
+		Long purposeVersion = cachedPurpose != null && cachedPurpose.getValue() instanceof IntendedPurposeDto
+				? ((IntendedPurposeDto) cachedPurpose.getValue()).getEntityVersion()
+				: null;
+
+		try {
+			// the server answers 304 Not Modified without content if nothing changed
+			ModelChangesDto changes = JsonBodyDecoder.decode(getWebClientMgr().getWebClient().get()
+					.uri(ModelRoute.changes(model), modelVersion, purposeVersion).retrieve()
+					.bodyToFlux(DataBuffer.class), ModelChangesDto.class);
+
+			if (changes != null && changes.getModel() != null) {
+				cache.put(modelUri, WebResponseCache.eTag(changes.getModel().getEntityVersion()), changes.getModel());
+			}
+			if (changes != null && changes.getIntendedPurpose() != null) {
+				cache.put(purposeUri, WebResponseCache.eTag(changes.getIntendedPurpose().getEntityVersion()),
+						changes.getIntendedPurpose());
+			}
+		} catch (WebClientResponseException | WebClientRequestException e) {
+			cache.remove(modelUri);
+			cache.remove(purposeUri);
+			throw new WebClientRuntimeException(e);
+		}
+
+		WebResponseCache.Entry current = cache.get(modelUri);
+		return current != null ? toApp((ModelDto) current.getValue()) : loadModel(modelId);
+	}
+
 	@Override
 	public Model create(Model model) throws CredibilityException {
 
@@ -79,13 +140,13 @@ public class ModelWebClient extends AWebClient implements IModelWebClient {
 		logger.debug("Create model {}", model); //$NON-NLS-1$
 
 		Map<String, Object> map = new HashMap<>();
-		map.put(ModelRouteParam.model(), ModelMapper.toWeb(model));
+		map.put(ModelRouteParam.model(), toWeb(model));
 		String bodyContent = GsonTools.toGson(map);
 
 		try {
-			return ModelMapper.toApp(GsonTools.getFromGson(getWebClientMgr().getWebClient().post()
+			return toApp(JsonBodyDecoder.decode(getWebClientMgr().getWebClient().post()
 					.uri(ModelRoute.create()).contentType(MediaType.APPLICATION_JSON).bodyValue(bodyContent).retrieve()
-					.bodyToMono(String.class).block(), ModelDto.class));
+					.bodyToFlux(DataBuffer.class), ModelDto.class));
 		} catch (WebClientResponseException | WebClientRequestException e) {
 			throw new WebClientRuntimeException(e);
 		}
@@ -94,8 +155,26 @@ public class ModelWebClient extends AWebClient implements IModelWebClient {
 	@Override
 	public List<Model> list() {
 		try {
-			return Arrays.asList(GsonTools.getFromGson(getWebClientMgr().getWebClient().get().uri(ModelRoute.list())
-					.retrieve().bodyToMono(String.class).block(), Model[].class));
+			// the models are mapped while the list is received
+			List<Model> models = new ArrayList<>();
+			JsonBodyDecoder.decodeList(getWebClientMgr().getWebClient().get().uri(ModelRoute.list()).retrieve()
+					.bodyToFlux(DataBuffer.class), ModelDto.class, dto -> models.add(toApp(dto)));
+			return models;
+		} catch (WebClientResponseException | WebClientRequestException e) {
+			throw new WebClientRuntimeException(e);
+		}
+	}
+
+	@Override
+	public ModelPageDto page(int page, int size, List<Model> models) {
+		try {
+			ModelPageDto modelPage = JsonBodyDecoder.decode(getWebClientMgr().getWebClient().get()
+					.uri(ModelRoute.page(), page, size, PAGE_SORT, PAGE_FIELDS).retrieve()
+					.bodyToFlux(DataBuffer.class), ModelPageDto.class);
+			if (modelPage != null && modelPage.getContent() != null) {
+				modelPage.getContent().forEach(dto -> models.add(toApp(dto)));
+			}
+			return modelPage;
 		} catch (WebClientResponseException | WebClientRequestException e) {
 			throw new WebClientRuntimeException(e);
 		}
@@ -121,4 +200,26 @@ public class ModelWebClient extends AWebClient implements IModelWebClient {
 		}
 
 	}
+
+	/**
+	 * Map the model dto to the application model.
+	 *
+	 * @param dto the model dto
+	 * @return the model
+	 */
+	@SuppressWarnings("deprecation")
+	private static Model toApp(ModelDto dto) {
+		return ModelMapper.toApp(dto);
+	}
+
+	/**
+	 * Map the application model to the model dto.
+	 *
+	 * @param model the model
+	 * @return the model dto
+	 */
+	@SuppressWarnings("deprecation")
+	private static ModelDto toWeb(Model model) {
+		return ModelMapper.toWeb(model);
+	}
 }
@@ -0,0 +1,56 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.web.services.global;
+
+import java.util.List;
+import java.util.function.Function;
+
+import gov.sandia.cf.application.AApplication;
+import gov.sandia.cf.application.ApplicationManager;
+import gov.sandia.cf.application.global.IReorderApp;
+import gov.sandia.cf.dao.ICRUDRepository;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.IEntity;
+import gov.sandia.cf.model.ISortableByIdEntity;
+
+/**
+ * Manage the reordering of the entities sorted by generated id
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class ReorderApp extends AApplication implements IReorderApp {
+
+	/**
+	 * The constructor
+	 */
+	public ReorderApp() {
+		super();
+	}
+
+	/**
+	 * The constructor
+	 *
+	 * @param appMgr the application manager
+	 */
+	public ReorderApp(ApplicationManager appMgr) {
+		super(appMgr);
+	}
+
+	@Override
+	public <E extends IEntity<E, Integer> & ISortableByIdEntity> List<E> reorderTree(
+			Class<? extends ICRUDRepository<E, Integer>> repositoryClass, List<E> orderedList,
+			String parentGeneratedId, int level, Function<E, List<E>> children) throws CredibilityException {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	@Override
+	public <E extends IEntity<E, Integer> & ISortableByIdEntity> List<E> reorderNumbered(
+			Class<? extends ICRUDRepository<E, Integer>> repositoryClass, List<E> orderedList)
+			throws CredibilityException {
+		// TODO Auto-generated method stub
+		return null;
+	}
+}
@@ -6,6 +6,8 @@ package gov.sandia.cf.web.services.imports;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 import gov.sandia.cf.application.AApplication;
 import gov.sandia.cf.application.ApplicationManager;
@@ -50,6 +52,13 @@ public class ImportApplication extends AApplication implements IImportApplicatio
 		return null;
 	}
 
+	@Override
+	public <M extends IImportable<M>> void analyzeImport(Stream<M> newImportables, List<M> existingImportableList,
+			BiConsumer<ImportActionType, M> consumer) {
+		// TODO Auto-generated method stub
+
+	}
+
 	@Override
 	public <M extends IImportable<M>> List<?> getChangesToAdd(List<M> newImportableList,
 			List<M> existingImportableList) {
@@ -36,6 +36,15 @@ public interface IIntendedPurposeWebClient extends IWebClient {
 	 */
 	void unlock(Model model, String token) throws CredibilityException;
 
+	/**
+	 * Renew the lock before it expires.
+	 *
+	 * @param model the model
+	 * @param token the token
+	 * @throws CredibilityException the credibility exception
+	 */
+	void renewLock(Model model, String token) throws CredibilityException;
+
 	/**
 	 * Gets the lock info.
 	 *
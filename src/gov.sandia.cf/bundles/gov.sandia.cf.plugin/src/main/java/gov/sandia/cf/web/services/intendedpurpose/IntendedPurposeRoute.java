@@ -17,6 +17,7 @@ public class IntendedPurposeRoute {
 	private static final String WS_REST_CF_INTENDEDPURPOSE_GET = "/get"; //$NON-NLS-1$
 	private static final String WS_REST_CF_INTENDEDPURPOSE_LOCK = "/lock"; //$NON-NLS-1$
 	private static final String WS_REST_CF_INTENDEDPURPOSE_LOCK_INFO = "/lock/info"; //$NON-NLS-1$
+	private static final String WS_REST_CF_INTENDEDPURPOSE_LOCK_RENEW = "/lock/renew"; //$NON-NLS-1$
 	private static final String WS_REST_CF_INTENDEDPURPOSE_UNLOCK = "/unlock"; //$NON-NLS-1$
 	private static final String WS_REST_CF_INTENDEDPURPOSE_EDIT = "/edit"; //$NON-NLS-1$
 	private static final String WS_REST_CF_INTENDEDPURPOSE_SUBSCRIBE = "/subscribe"; //$NON-NLS-1$
@@ -76,6 +77,16 @@ public class IntendedPurposeRoute {
 		return rootUri(model) + WS_REST_CF_INTENDEDPURPOSE_UNLOCK;
 	}
 
+	/**
+	 * Gets the relative uri for renewLock method.
+	 *
+	 * @param model the model
+	 * @return the renewLock route
+	 */
+	public static String renewLock(Model model) {
+		return rootUri(model) + WS_REST_CF_INTENDEDPURPOSE_LOCK_RENEW;
+	}
+
 	/**
 	 * Gets the relative uri for lockInfo method.
 	 *
@@ -66,8 +66,7 @@ public class IntendedPurposeWebClient implements IIntendedPurposeApp, IIntendedP
 	public IntendedPurpose get(Model model) throws CredibilityException {
 		try {
 			return IntendedPurposeMapper.toApp(
-					GsonTools.getFromGson(getWebClientMgr().getWebClient().get().uri(IntendedPurposeRoute.get(model))
-							.retrieve().bodyToMono(String.class).block(), IntendedPurposeDto.class));
+					getWebClientMgr().getConditional(IntendedPurposeRoute.get(model), IntendedPurposeDto.class));
 		} catch (WebClientRequestException e) {
 			throw new WebClientRuntimeException(e);
 		} catch (WebClientResponseException e) {
@@ -136,6 +135,25 @@ public class IntendedPurposeWebClient implements IIntendedPurposeApp, IIntendedP
 		}
 	}
 
+	/** {@inheritDoc} */
+	@Override
+	public void renewLock(Model model, String token) throws CredibilityException {
+
+		Map<String, Object> map = new HashMap<>();
+		map.put(IntendedPurposeRouteParam.lockToken(), token);
+		String bodyContent = GsonTools.toGson(map);
+
+		try {
+			getWebClientMgr().getWebClient().put().uri(IntendedPurposeRoute.renewLock(model))
+					.contentType(MediaType.APPLICATION_JSON).bodyValue(bodyContent).retrieve().bodyToMono(String.class)
+					.block();
+		} catch (WebClientRequestException e) {
+			throw new WebClientRuntimeException(e);
+		} catch (WebClientResponseException e) {
+			throw new CredibilityException(e);
+		}
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public String getLockInfo(Model model) throws CredibilityException {
@@ -106,4 +106,19 @@ public class PCMMAggregateApp extends AApplication implements IPCMMAggregateApp
 		// TODO Auto-generated method stub
 		return null;
 	}
+
+	@Override
+	public void addToAggregation(PCMMAssessment assessment) {
+		// TODO Auto-generated method stub
+	}
+
+	@Override
+	public void removeFromAggregation(PCMMAssessment assessment) {
+		// TODO Auto-generated method stub
+	}
+
+	@Override
+	public void clearAggregationCache() {
+		// TODO Auto-generated method stub
+	}
 }
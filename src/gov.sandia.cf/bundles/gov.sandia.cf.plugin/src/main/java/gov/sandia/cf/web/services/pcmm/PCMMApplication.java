@@ -106,6 +106,12 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 		return null;
 	}
 
+	@Override
+	public List<PCMMElement> addAllElements(List<PCMMElement> elements) throws CredibilityException {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
 	@Override
 	public PCMMElement updateElement(PCMMElement element) throws CredibilityException {
 		// TODO Auto-generated method stub
@@ -154,6 +160,13 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 		return null;
 	}
 
+	@Override
+	public List<PCMMLevelDescriptor> addAllLevelDescriptors(List<PCMMLevelDescriptor> levelDescriptors)
+			throws CredibilityException {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
 	@Override
 	public PCMMLevelDescriptor updateLevelDescriptor(PCMMLevelDescriptor levelDescriptor) throws CredibilityException {
 		// TODO Auto-generated method stub
@@ -178,6 +191,12 @@ public class PCMMApplication extends AApplication implements IPCMMApplication {
 		return null;
 	}
 
+	@Override
+	public List<PCMMSubelement> addAllSubelements(List<PCMMSubelement> subelements) throws CredibilityException {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
 	@Override
 	public PCMMSubelement updateSubelement(PCMMSubelement subelement) throws CredibilityException {
 		// TODO Auto-generated method stub
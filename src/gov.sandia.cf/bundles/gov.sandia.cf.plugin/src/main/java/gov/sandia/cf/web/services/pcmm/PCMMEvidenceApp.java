@@ -149,6 +149,12 @@ public class PCMMEvidenceApp extends AApplication implements IPCMMEvidenceApp {
 		return false;
 	}
 
+	@Override
+	public void evidenceFileChanged(String path) {
+		// TODO Auto-generated method stub
+
+	}
+
 	@Override
 	public void reorderEvidence(PCMMEvidence toMove, int newIndex, User user) throws CredibilityException {
 		// TODO Auto-generated method stub
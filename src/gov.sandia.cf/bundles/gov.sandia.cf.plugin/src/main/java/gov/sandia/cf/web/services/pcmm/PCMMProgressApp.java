@@ -0,0 +1,55 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.web.services.pcmm;
+
+import gov.sandia.cf.application.AApplication;
+import gov.sandia.cf.application.ApplicationManager;
+import gov.sandia.cf.application.pcmm.IPCMMProgressApp;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.Model;
+import gov.sandia.cf.model.PCMMElement;
+import gov.sandia.cf.model.Tag;
+import gov.sandia.cf.model.dto.configuration.PCMMSpecification;
+
+/**
+ * Manage PCMM Progress methods
+ *
+ * @author Didier Verstraete
+ *
+ */
+public class PCMMProgressApp extends AApplication implements IPCMMProgressApp {
+	/**
+	 * The constructor
+	 */
+	public PCMMProgressApp() {
+		super();
+	}
+
+	/**
+	 * The constructor
+	 *
+	 * @param appMgr the application manager
+	 */
+	public PCMMProgressApp(ApplicationManager appMgr) {
+		super(appMgr);
+	}
+
+	@Override
+	public int computeCurrentProgress(Model model, PCMMSpecification configuration) throws CredibilityException {
+		// TODO Auto-generated method stub
+		return 0;
+	}
+
+	@Override
+	public int computeProgressByElement(PCMMElement element, Tag selectedTag, PCMMSpecification configuration)
+			throws CredibilityException {
+		// TODO Auto-generated method stub
+		return 0;
+	}
+
+	@Override
+	public void invalidate() {
+		// TODO Auto-generated method stub
+	}
+}
@@ -5,6 +5,8 @@ package gov.sandia.cf.web.services.pirt;
 
 import java.util.List;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+
 import gov.sandia.cf.application.AApplication;
 import gov.sandia.cf.application.ApplicationManager;
 import gov.sandia.cf.application.pirt.IPIRTApplication;
@@ -75,6 +77,13 @@ public class PIRTApplication extends AApplication implements IPIRTApplication {
 		return null;
 	}
 
+	@Override
+	public QuantityOfInterest tagQoI(QuantityOfInterest qoi, String tagDescription, User currentUser,
+			IProgressMonitor progressMonitor) throws CredibilityException {
+		// TODO to implement
+		return null;
+	}
+
 	@Override
 	public QuantityOfInterest duplicateQoI(QuantityOfInterest qoi, QuantityOfInterest duplicatedQoi, User user)
 			throws CredibilityException {
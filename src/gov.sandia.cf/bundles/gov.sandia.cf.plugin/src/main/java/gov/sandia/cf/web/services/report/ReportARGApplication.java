@@ -75,6 +75,13 @@ public class ReportARGApplication extends AApplication implements IReportARGAppl
 		return null;
 	}
 
+	@Override
+	public void generateStructureFile(File structureFile, Map<ExportOptions, Object> options)
+			throws CredibilityException, IOException {
+		// TODO to implement
+
+	}
+
 	@Override
 	public String getSectionTypeByGenericLevel(Integer level) {
 		// TODO to implement
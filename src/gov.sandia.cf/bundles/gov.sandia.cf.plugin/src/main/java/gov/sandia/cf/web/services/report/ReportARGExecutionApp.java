@@ -3,6 +3,8 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.web.services.report;
 
+import java.util.function.Consumer;
+
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -76,6 +78,13 @@ public class ReportARGExecutionApp extends AApplication implements IReportARGExe
 
 	}
 
+	@Override
+	public void generateReportARG(ARGParameters argParameters, StringBuilder errorLog, StringBuilder infoLog,
+			Consumer<String> console, IProgressMonitor monitor) throws CredibilityException {
+		// TODO to implement
+
+	}
+
 	@Override
 	public boolean isEnabled() {
 		// TODO implement
@@ -32,4 +32,11 @@ public interface IPingManager extends IManager {
 	 * @return true, if is connected
 	 */
 	boolean isConnected();
+
+	/**
+	 * Gets the ping latency histogram.
+	 *
+	 * @return the latency histogram
+	 */
+	LatencyHistogram getLatencyHistogram();
 }
@@ -3,6 +3,8 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.web.services.status;
 
+import java.time.Duration;
+
 import gov.sandia.cf.application.Service;
 import gov.sandia.cf.web.services.IWebClient;
 
@@ -20,4 +22,12 @@ public interface IStatusService extends IWebClient {
 	 * @return true, if successful
 	 */
 	boolean ping();
+
+	/**
+	 * Ping with a timeout.
+	 *
+	 * @param timeout the max time to wait for the server response
+	 * @return true, if successful before the timeout
+	 */
+	boolean ping(Duration timeout);
 }
@@ -0,0 +1,140 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.web.services.status;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe latency histogram with fixed buckets in milliseconds.
+ *
+ * @author Didier Verstraete
+ */
+public class LatencyHistogram {
+
+	/**
+	 * The bucket upper bounds in milliseconds. The last bucket has no upper bound.
+	 */
+	private static final long[] BUCKET_BOUNDS_MS = { 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+
+	/** The bucket counts. */
+	private final AtomicLongArray buckets;
+
+	/** The success count. */
+	private final LongAdder count;
+
+	/** The failure count. */
+	private final LongAdder failureCount;
+
+	/** The total latency. */
+	private final LongAdder totalMillis;
+
+	/** The max latency. */
+	private final AtomicLong maxMillis;
+
+	/**
+	 * Instantiates a new latency histogram.
+	 */
+	public LatencyHistogram() {
+		this.buckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+		this.count = new LongAdder();
+		this.failureCount = new LongAdder();
+		this.totalMillis = new LongAdder();
+		this.maxMillis = new AtomicLong();
+	}
+
+	/**
+	 * Record a latency.
+	 *
+	 * @param latencyMillis the latency in milliseconds
+	 */
+	public void record(long latencyMillis) {
+		long latency = Math.max(0, latencyMillis);
+		buckets.incrementAndGet(getBucketIndex(latency));
+		count.increment();
+		totalMillis.add(latency);
+		maxMillis.accumulateAndGet(latency, Math::max);
+	}
+
+	/**
+	 * Record a failure.
+	 */
+	public void recordFailure() {
+		failureCount.increment();
+	}
+
+	/**
+	 * @param latencyMillis the latency in milliseconds
+	 * @return the index of the bucket containing the latency
+	 */
+	private static int getBucketIndex(long latencyMillis) {
+		for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+			if (latencyMillis <= BUCKET_BOUNDS_MS[i]) {
+				return i;
+			}
+		}
+		return BUCKET_BOUNDS_MS.length;
+	}
+
+	/**
+	 * @return the number of recorded latencies
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return the number of recorded failures
+	 */
+	public long getFailureCount() {
+		return failureCount.sum();
+	}
+
+	/**
+	 * @return the max latency in milliseconds
+	 */
+	public long getMaxMillis() {
+		return maxMillis.get();
+	}
+
+	/**
+	 * @return the mean latency in milliseconds
+	 */
+	public long getMeanMillis() {
+		long nb = getCount();
+		return nb > 0 ? totalMillis.sum() / nb : 0;
+	}
+
+	/**
+	 * Gets the percentile latency. The value is the upper bound of the bucket
+	 * containing the percentile, or the max latency for the last bucket.
+	 *
+	 * @param percentile the percentile between 0 and 100
+	 * @return the percentile latency in milliseconds
+	 */
+	public long getPercentileMillis(double percentile) {
+		long nb = getCount();
+		if (nb == 0) {
+			return 0;
+		}
+
+		long rank = (long) Math.ceil(nb * Math.min(Math.max(percentile, 0), 100) / 100d);
+		long cumulated = 0;
+		for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+			cumulated += buckets.get(i);
+			if (cumulated >= rank) {
+				return Math.min(BUCKET_BOUNDS_MS[i], getMaxMillis());
+			}
+		}
+		return getMaxMillis();
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram [count=" + getCount() + ", failures=" + getFailureCount() + ", mean=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ getMeanMillis() + "ms, p50=" + getPercentileMillis(50) + "ms, p95=" + getPercentileMillis(95) //$NON-NLS-1$ //$NON-NLS-2$
+				+ "ms, max=" + getMaxMillis() + "ms]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -3,10 +3,16 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.web.services.status;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.widgets.Display;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,7 +20,12 @@ import org.slf4j.LoggerFactory;
 import gov.sandia.cf.web.services.IWebClientManager;
 
 /**
- * The Class MessageManager.
+ * The ping manager checks the connection with the web server.
+ *
+ * The server is pinged by a background thread, so a slow server does not
+ * freeze the UI. While the server is unreachable, the delay between two pings
+ * grows exponentially up to the max backoff. The listeners are notified in the
+ * UI thread.
  *
  * @author Didier Verstraete
  */
@@ -25,94 +36,219 @@ public class PingManager implements IPingManager {
 	 */
 	private static final Logger logger = LoggerFactory.getLogger(PingManager.class);
 
+	/** The default delay between two pings. */
+	public static final Duration DEFAULT_PERIOD = Duration.ofSeconds(10);
+
+	/** The default ping timeout. */
+	public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+	/** The default max delay between two pings while disconnected. */
+	public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(2);
+
+	/** The ping thread name. */
+	private static final String THREAD_NAME = "CF Ping Manager"; //$NON-NLS-1$
+
 	/** The list listener. */
 	private List<IConnectionStatusListener> listListener;
 
 	/**
 	 * Defines the state of the loader
 	 */
-	private boolean isStarted = false;
+	private volatile boolean isStarted = false;
 
 	private IWebClientManager webClientManager;
 
-	private int defaultTimerMilliSeconds = 10000;
+	private Duration period;
+
+	private Duration timeout;
+
+	private Duration maxBackoff;
 
-	private Runnable runnable;
+	private ScheduledExecutorService scheduler;
 
-	private boolean isConnected;
+	private volatile boolean isConnected;
+
+	/** The number of consecutive failed pings, only used by the ping thread once started. */
+	private int failureCount;
+
+	private LatencyHistogram latencyHistogram;
 
 	private Display display;
 
 	/**
-	 * Instantiates a new message manager.
+	 * Instantiates a new ping manager with the default delays.
 	 *
 	 * @param webClientManager the web client manager
 	 * @param display          the display
 	 */
 	public PingManager(IWebClientManager webClientManager, Display display) {
+		this(webClientManager, display, DEFAULT_PERIOD, DEFAULT_TIMEOUT, DEFAULT_MAX_BACKOFF);
+	}
+
+	/**
+	 * Instantiates a new ping manager.
+	 *
+	 * @param webClientManager the web client manager
+	 * @param display          the display
+	 * @param period           the delay between two pings
+	 * @param timeout          the ping timeout
+	 * @param maxBackoff       the max delay between two pings while disconnected
+	 */
+	public PingManager(IWebClientManager webClientManager, Display display, Duration period, Duration timeout,
+			Duration maxBackoff) {
 		Assert.isNotNull(webClientManager);
 		Assert.isTrue(webClientManager.isStarted());
 		Assert.isNotNull(display);
 		Assert.isTrue(!display.isDisposed());
+		Assert.isNotNull(period);
+		Assert.isNotNull(timeout);
+		Assert.isNotNull(maxBackoff);
 		this.webClientManager = webClientManager;
-		this.listListener = new ArrayList<>();
-		this.runnable = getPingTask();
+		this.listListener = new CopyOnWriteArrayList<>();
 		this.display = display;
+		this.period = period;
+		this.timeout = timeout;
+		this.maxBackoff = maxBackoff.compareTo(period) < 0 ? period : maxBackoff;
+		this.latencyHistogram = new LatencyHistogram();
 		this.isConnected = false;
 	}
 
 	/**
 	 * {@inheritDoc}
+	 *
+	 * The manager is started once the server has been reached by the
+	 * authentication, so it starts connected. All the pings, the first one
+	 * included, are done in background.
 	 */
 	@Override
-	public void start() {
+	public synchronized void start() {
+		if (isStarted) {
+			return;
+		}
+
 		logger.debug("Ping service started"); //$NON-NLS-1$
 
 		isStarted = true;
+		isConnected = true;
 
-		runnable.run();
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		});
+		schedulePing(Duration.ZERO);
 	}
 
 	/**
-	 * Gets the ping task.
+	 * Plan the next ping execution.
+	 */
+	private void scheduleNextPing() {
+		schedulePing(getBackoffDelay(period, maxBackoff, failureCount));
+	}
+
+	/**
+	 * Plan a ping execution.
 	 *
-	 * @return the ping task
+	 * @param delay the delay before the ping
 	 */
-	private Runnable getPingTask() {
-		return new Runnable() {
-
-			public void run() {
-				if (!webClientManager.getService(IStatusService.class).ping()) {
-					if (isConnected) {
-						isConnected = false;
-						listListener.forEach(listener -> {
-							if (listener != null) {
-								listener.connectionLost();
-							}
-						});
-					}
-				} else {
-					if (!isConnected) {
-						isConnected = true;
-						listListener.forEach(listener -> {
-							if (listener != null) {
-								listener.connectionGained();
-							}
-						});
-					}
-				}
+	private synchronized void schedulePing(Duration delay) {
+		if (isStarted && scheduler != null) {
+			try {
+				scheduler.schedule(this::pingTask, delay.toMillis(), TimeUnit.MILLISECONDS);
+			} catch (RejectedExecutionException e) {
+				logger.debug("Ping service is stopping: {}", e.getMessage()); //$NON-NLS-1$
+			}
+		}
+	}
 
-				if (display == null || display.isDisposed()) {
-					logger.error("Impossible to continue Ping Manager because the Display is null or disposed."); //$NON-NLS-1$
-					stop();
-				}
+	/**
+	 * @param period       the delay between two pings while connected
+	 * @param maxBackoff   the max delay between two pings
+	 * @param failureCount the number of consecutive failed pings
+	 * @return the delay before the next ping: the period while connected, then
+	 *         doubled for each consecutive failed ping up to the max backoff.
+	 */
+	static Duration getBackoffDelay(Duration period, Duration maxBackoff, int failureCount) {
+		if (failureCount <= 1) {
+			return period;
+		}
+		int shift = Math.min(failureCount - 1, 30);
+		long delay = period.toMillis() << shift;
+		return delay <= 0 || delay > maxBackoff.toMillis() ? maxBackoff : Duration.ofMillis(delay);
+	}
 
-				if (isStarted) { // plan a new execution
-					display.timerExec(defaultTimerMilliSeconds, this);
-					logger.debug("Ping server"); //$NON-NLS-1$
-				}
+	/**
+	 * The ping task executed by the ping thread.
+	 */
+	private void pingTask() {
+		try {
+			if (display == null || display.isDisposed()) {
+				logger.error("Impossible to continue Ping Manager because the Display is null or disposed."); //$NON-NLS-1$
+				stop();
+				return;
 			}
-		};
+
+			boolean connected = ping();
+			if (connected != isConnected) {
+				isConnected = connected;
+				notifyListeners(connected);
+			}
+		} catch (RuntimeException e) {
+			if (isStarted) {
+				logger.error("Ping failed: {}", e.getMessage(), e); //$NON-NLS-1$
+			}
+		} finally {
+			scheduleNextPing();
+		}
+	}
+
+	/**
+	 * Ping the server and record the latency.
+	 *
+	 * @return true if connected
+	 */
+	private boolean ping() {
+		long start = System.nanoTime();
+		boolean connected = webClientManager.getService(IStatusService.class).ping(timeout);
+
+		if (connected) {
+			failureCount = 0;
+			latencyHistogram.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		} else {
+			failureCount++;
+			latencyHistogram.recordFailure();
+		}
+
+		logger.debug("Ping server: connected {}, {}", connected, latencyHistogram); //$NON-NLS-1$
+		return connected;
+	}
+
+	/**
+	 * Notify the listeners in the UI thread.
+	 *
+	 * @param connected the new connection status
+	 */
+	private void notifyListeners(boolean connected) {
+		try {
+			display.asyncExec(() -> {
+				if (!isStarted) {
+					return;
+				}
+				listListener.forEach(listener -> {
+					if (listener != null) {
+						if (connected) {
+							listener.connectionGained();
+						} else {
+							listener.connectionLost();
+						}
+					}
+				});
+			});
+		} catch (SWTException e) {
+			logger.error("Impossible to notify the connection status because the Display is disposed: {}", //$NON-NLS-1$
+					e.getMessage());
+			stop();
+		}
 	}
 
 	@Override
@@ -126,9 +262,13 @@ public class PingManager implements IPingManager {
 	}
 
 	@Override
-	public void stop() {
+	public synchronized void stop() {
 		isStarted = false;
-		logger.debug("application loader stopped"); //$NON-NLS-1$
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+		logger.debug("Ping service stopped"); //$NON-NLS-1$
 	}
 
 	@Override
@@ -140,4 +280,9 @@ public class PingManager implements IPingManager {
 	public boolean isConnected() {
 		return isConnected;
 	}
+
+	@Override
+	public LatencyHistogram getLatencyHistogram() {
+		return latencyHistogram;
+	}
 }
@@ -3,6 +3,8 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.web.services.status;
 
+import java.time.Duration;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -25,6 +27,11 @@ public class StatusWebClient extends AWebClient implements IStatusService {
 	 */
 	private static final Logger logger = LoggerFactory.getLogger(StatusWebClient.class);
 
+	/**
+	 * The default ping timeout
+	 */
+	public static final Duration DEFAULT_PING_TIMEOUT = Duration.ofSeconds(10);
+
 	/**
 	 * Instantiates a new web authentication service.
 	 */
@@ -43,6 +50,12 @@ public class StatusWebClient extends AWebClient implements IStatusService {
 	/** {@inheritDoc} */
 	@Override
 	public boolean ping() {
+		return ping(DEFAULT_PING_TIMEOUT);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean ping(Duration timeout) {
 		logger.debug("Ping {}", getWebClientMgr().getBaseURI()); //$NON-NLS-1$
 		try {
 			String returnCode = getWebClientMgr().getWebClient().get().uri(StatusRoute.ping()).retrieve()
@@ -52,12 +65,15 @@ public class StatusWebClient extends AWebClient implements IStatusService {
 						throw new WebClientResponseException(0, null, null, null, null);
 					}).doOnError(throwable -> {
 						throw new WebClientResponseException(0, null, null, null, null);
-					}).block();
+					}).block(timeout);
 
 			logger.debug("Ping {} response {}", getWebClientMgr().getBaseURI(), returnCode); //$NON-NLS-1$
 			return StatusRouteParam.isSuccessPingResponse(returnCode);
 		} catch (WebClientResponseException | WebClientRequestException e) {
 			return false;
+		} catch (IllegalStateException e) {
+			logger.debug("Ping {} timeout after {}", getWebClientMgr().getBaseURI(), timeout); //$NON-NLS-1$
+			return false;
 		}
 	}
 
@@ -0,0 +1,104 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.rules.TemporaryFolder;
+
+import gov.sandia.cf.application.report.ARGDiscoveryCache;
+import gov.sandia.cf.model.ARGParameters;
+import gov.sandia.cf.model.dto.arg.ARGType;
+
+/**
+ * JUnit class to test the ARGDiscoveryCache
+ *
+ * @author Didier Verstraete
+ *
+ */
+class ARGDiscoveryCacheTest {
+
+	/**
+	 * temporary folder to store files
+	 */
+	@Rule
+	public static final TemporaryFolder TEMP_FOLDER = new TemporaryFolder();
+
+	@BeforeAll
+	static void initializeAll() throws IOException {
+		TEMP_FOLDER.create();
+	}
+
+	@AfterAll
+	static void cleanAll() {
+		TEMP_FOLDER.delete();
+	}
+
+	@Test
+	void test_getVersion_CachedUntilExecutableChanged() throws IOException {
+
+		File executable = TEMP_FOLDER.newFile();
+		ARGParameters argParameters = new ARGParameters();
+		argParameters.setArgExecPath(executable.getAbsolutePath());
+
+		ARGDiscoveryCache cache = new ARGDiscoveryCache();
+		assertNull(cache.getVersion(argParameters));
+
+		cache.putVersion(argParameters, "1.0.0"); //$NON-NLS-1$
+		assertEquals("1.0.0", cache.getVersion(argParameters)); //$NON-NLS-1$
+
+		// a new installation is discovered again
+		assertTrue(executable.setLastModified(executable.lastModified() - 10000));
+		assertNull(cache.getVersion(argParameters));
+	}
+
+	@Test
+	void test_getTypes_KeyedByPreScript() throws IOException {
+
+		File executable = TEMP_FOLDER.newFile();
+		ARGParameters argParameters = new ARGParameters();
+		argParameters.setArgExecPath(executable.getAbsolutePath());
+
+		ARGType argTypes = new ARGType();
+		argTypes.setBackendTypes(Arrays.asList("Word", "LaTeX")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ARGDiscoveryCache cache = new ARGDiscoveryCache();
+		cache.putTypes(argParameters, argTypes);
+		assertSame(argTypes, cache.getTypes(argParameters));
+
+		// another environment
+		ARGParameters withPreScript = new ARGParameters();
+		withPreScript.setArgExecPath(executable.getAbsolutePath());
+		withPreScript.setArgPreScript(TEMP_FOLDER.newFile().getAbsolutePath());
+		assertNull(cache.getTypes(withPreScript));
+
+		cache.clear();
+		assertNull(cache.getTypes(argParameters));
+	}
+
+	@Test
+	void test_put_EmptyResultsNotCached() throws IOException {
+
+		ARGParameters argParameters = new ARGParameters();
+		argParameters.setArgExecPath(TEMP_FOLDER.newFile().getAbsolutePath());
+
+		ARGDiscoveryCache cache = new ARGDiscoveryCache();
+		cache.putTypes(argParameters, new ARGType());
+		cache.putVersion(argParameters, ""); //$NON-NLS-1$
+
+		assertNull(cache.getTypes(argParameters));
+		assertNull(cache.getVersion(argParameters));
+	}
+}
@@ -15,6 +15,7 @@ import java.lang.reflect.Modifier;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -94,6 +95,45 @@ class ImportApplicationTest extends AbstractTestApplication {
 		assertFalse(getImportApp().sameListContent(newColors, conf.getColors()));
 	}
 
+	@Test
+	void test_analyzeImport_working() {
+
+		// existing and new parameters
+		List<UncertaintyParam> existing = Arrays.asList(newUncertaintyParam("A", "Text"), //$NON-NLS-1$ //$NON-NLS-2$
+				newUncertaintyParam("B", "Text"), newUncertaintyParam("C", "Text")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		List<UncertaintyParam> newParams = Arrays.asList(newUncertaintyParam("A", "Text"), //$NON-NLS-1$ //$NON-NLS-2$
+				newUncertaintyParam("B", "Float"), newUncertaintyParam("D", "Text")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+		// analyze
+		Map<ImportActionType, List<?>> analysis = getImportApp().analyzeImport(newParams, existing);
+		assertEquals(Arrays.asList(newParams.get(2)), analysis.get(ImportActionType.TO_ADD));
+		assertEquals(Arrays.asList(newParams.get(1)), analysis.get(ImportActionType.TO_UPDATE));
+		assertEquals(Arrays.asList(existing.get(0)), analysis.get(ImportActionType.NO_CHANGES));
+		assertEquals(Arrays.asList(existing.get(2)), analysis.get(ImportActionType.TO_DELETE));
+
+		// analyze stream
+		Map<ImportActionType, List<UncertaintyParam>> streamAnalysis = new EnumMap<>(ImportActionType.class);
+		getImportApp().analyzeImport(newParams.stream(), existing,
+				(action, param) -> streamAnalysis.computeIfAbsent(action, k -> new ArrayList<>()).add(param));
+		for (ImportActionType action : ImportActionType.values()) {
+			assertEquals(analysis.get(action), streamAnalysis.get(action));
+		}
+
+		// changes to add
+		assertEquals(Arrays.asList(newParams.get(2)), getImportApp().getChangesToAdd(newParams, existing));
+
+		// empty lists
+		assertEquals(newParams, getImportApp().analyzeImport(newParams, null).get(ImportActionType.TO_ADD));
+		assertEquals(existing, getImportApp().analyzeImport(null, existing).get(ImportActionType.TO_DELETE));
+	}
+
+	private UncertaintyParam newUncertaintyParam(String name, String type) {
+		UncertaintyParam param = new UncertaintyParam();
+		param.setName(name);
+		param.setType(type);
+		return param;
+	}
+
 	@Test
 	void test_getImportableName() {
 		// search a class name for each importable class
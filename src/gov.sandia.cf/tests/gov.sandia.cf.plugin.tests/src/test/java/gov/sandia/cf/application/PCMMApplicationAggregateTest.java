@@ -6,6 +6,7 @@ package gov.sandia.cf.application;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
@@ -613,4 +614,163 @@ class PCMMApplicationAggregateTest extends AbstractTestApplication {
 			assertEquals(Integer.valueOf(EXPECTED_CODE), agg.getLevel().getCode());
 		});
 	}
+
+	@Test
+	void testAggregateLevelValueSeveralSubelements() {
+
+		// create model
+		Model createdModel = TestEntityFactory.getNewModel(getDaoManager());
+		assertNotNull(createdModel);
+
+		// create defaultUser and role
+		User defaultUser = TestEntityFactory.getNewUser(getDaoManager());
+		assertNotNull(defaultUser);
+		Role role = TestEntityFactory.getNewRole(getDaoManager());
+		assertNotNull(role);
+
+		// create two elements with one sub-element and its own assessment each
+		PCMMElement element1 = TestEntityFactory.getNewPCMMElement(getDaoManager(), createdModel);
+		PCMMSubelement subelement1 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element1);
+		PCMMLevel level1 = TestEntityFactory.getNewPCMMLevel(getDaoManager(), subelement1, 1);
+		assertNotNull(TestEntityFactory.getNewPCMMAssessment(getDaoManager(), role, defaultUser, subelement1, level1));
+
+		PCMMElement element2 = TestEntityFactory.getNewPCMMElement(getDaoManager(), createdModel);
+		PCMMSubelement subelement2 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element2);
+		PCMMLevel level2 = TestEntityFactory.getNewPCMMLevel(getDaoManager(), subelement2, 2);
+		assertNotNull(TestEntityFactory.getNewPCMMAssessment(getDaoManager(), role, defaultUser, subelement2, level2));
+
+		// the assessments are aggregated by sub-element
+		Map<PCMMSubelement, PCMMAggregation<PCMMSubelement>> aggregatedSubelementsMap = null;
+		try {
+			List<PCMMElement> elements = getPCMMApp().getElementList(createdModel);
+			aggregatedSubelementsMap = getPCMMAggregateApp().aggregateAssessments(pcmmConfiguration, elements, null);
+		} catch (CredibilityException e) {
+			fail("Test Aggregate Level Value: " + e.getMessage());//$NON-NLS-1$
+		}
+		assertNotNull(aggregatedSubelementsMap);
+		assertEquals(2, aggregatedSubelementsMap.size());
+		assertEquals(Integer.valueOf(1), aggregatedSubelementsMap.get(subelement1).getLevel().getCode());
+		assertEquals(Integer.valueOf(2), aggregatedSubelementsMap.get(subelement2).getLevel().getCode());
+	}
+
+	@Test
+	void testAggregateUpdatedOnAssessmentChange() {
+
+		// create model, user and role
+		Model createdModel = TestEntityFactory.getNewModel(getDaoManager());
+		User defaultUser = TestEntityFactory.getNewUser(getDaoManager());
+		Role role = TestEntityFactory.getNewRole(getDaoManager());
+
+		// create one element with two sub-elements, the first one assessed
+		PCMMElement element = TestEntityFactory.getNewPCMMElement(getDaoManager(), createdModel);
+		PCMMSubelement subelement1 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element);
+		PCMMLevel level1 = TestEntityFactory.getNewPCMMLevel(getDaoManager(), subelement1, 1);
+		assertNotNull(TestEntityFactory.getNewPCMMAssessment(getDaoManager(), role, defaultUser, subelement1, level1));
+		PCMMSubelement subelement2 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element);
+		PCMMLevel level0 = TestEntityFactory.getNewPCMMLevel(getDaoManager(), subelement2, 0);
+		PCMMLevel level2 = TestEntityFactory.getNewPCMMLevel(getDaoManager(), subelement2, 2);
+
+		Map<EntityFilter, Object> filters = new HashMap<>();
+		filters.put(PCMMAssessment.Filter.TAG, null);
+
+		try {
+			List<PCMMElement> elements = getPCMMApp().getElementList(createdModel);
+
+			// load the aggregation
+			assertFalse(getPCMMAggregateApp().isCompleteAggregation(createdModel, null));
+			assertEquals(Integer.valueOf(1), getPCMMAggregateApp()
+					.aggregateSubelements(pcmmConfiguration, elements, filters).get(element).getLevel().getCode());
+
+			// add
+			PCMMAssessment assessment = new PCMMAssessment();
+			assessment.setRoleCreation(role);
+			assessment.setUserCreation(defaultUser);
+			assessment.setSubelement(subelement2);
+			assessment.setLevel(level2);
+			assessment = getPCMMAssessmentApp().addAssessment(assessment);
+			assertTrue(getPCMMAggregateApp().isCompleteAggregation(createdModel, null));
+			assertEquals(Integer.valueOf(2), getPCMMAggregateApp()
+					.aggregateAssessments(pcmmConfiguration, elements, filters).get(subelement2).getLevel().getCode());
+			assertEquals(Integer.valueOf(2), getPCMMAggregateApp()
+					.aggregateSubelements(pcmmConfiguration, elements, filters).get(element).getLevel().getCode());
+
+			// update
+			assessment.setLevel(level0);
+			assessment = getPCMMAssessmentApp().updateAssessment(assessment, defaultUser, role);
+			assertEquals(Integer.valueOf(0), getPCMMAggregateApp()
+					.aggregateAssessments(pcmmConfiguration, elements, filters).get(subelement2).getLevel().getCode());
+			assertEquals(Integer.valueOf(1), getPCMMAggregateApp()
+					.aggregateSubelements(pcmmConfiguration, elements, filters).get(element).getLevel().getCode());
+
+			// delete
+			getPCMMAssessmentApp().deleteAssessment(assessment);
+			assertFalse(getPCMMAggregateApp().isCompleteAggregation(createdModel, null));
+			assertNull(getPCMMAggregateApp().aggregateAssessments(pcmmConfiguration, elements, filters)
+					.get(subelement2).getLevel());
+			assertEquals(Integer.valueOf(1), getPCMMAggregateApp()
+					.aggregateSubelements(pcmmConfiguration, elements, filters).get(element).getLevel().getCode());
+
+		} catch (CredibilityException e) {
+			fail("Test Aggregate Updated: " + e.getMessage());//$NON-NLS-1$
+		}
+	}
+
+	@Test
+	void testAggregateUpdatedOnSubelementMoved() {
+
+		// create model, user and role
+		Model createdModel = TestEntityFactory.getNewModel(getDaoManager());
+		User defaultUser = TestEntityFactory.getNewUser(getDaoManager());
+		Role role = TestEntityFactory.getNewRole(getDaoManager());
+
+		// create two elements, the first sub-element assessed
+		PCMMElement element1 = TestEntityFactory.getNewPCMMElement(getDaoManager(), createdModel);
+		PCMMSubelement subelement1 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element1);
+		PCMMLevel level1 = TestEntityFactory.getNewPCMMLevel(getDaoManager(), subelement1, 1);
+		assertNotNull(TestEntityFactory.getNewPCMMAssessment(getDaoManager(), role, defaultUser, subelement1, level1));
+		PCMMElement element2 = TestEntityFactory.getNewPCMMElement(getDaoManager(), createdModel);
+		PCMMSubelement subelement2 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element2);
+		PCMMLevel level2 = TestEntityFactory.getNewPCMMLevel(getDaoManager(), subelement2, 2);
+
+		Map<EntityFilter, Object> filters = new HashMap<>();
+		filters.put(PCMMAssessment.Filter.TAG, null);
+
+		try {
+			getDaoManager().getRepository(IModelRepository.class).refresh(createdModel);
+			getDaoManager().getRepository(IPCMMElementRepository.class).refresh(element1);
+			getDaoManager().getRepository(IPCMMElementRepository.class).refresh(element2);
+			List<PCMMElement> elements = getPCMMApp().getElementList(createdModel);
+
+			// load the aggregation
+			assertFalse(getPCMMAggregateApp().isCompleteAggregation(createdModel, null));
+			Map<PCMMElement, PCMMAggregation<PCMMElement>> aggregation = getPCMMAggregateApp()
+					.aggregateSubelements(pcmmConfiguration, elements, filters);
+			assertEquals(Integer.valueOf(1), aggregation.get(element1).getLevel().getCode());
+			assertNull(aggregation.get(element2).getLevel());
+
+			// move the assessed sub-element to the second element
+			subelement1.setElement(element2);
+			subelement1 = getPCMMApp().updateSubelement(subelement1);
+			getDaoManager().getRepository(IPCMMElementRepository.class).refresh(element1);
+			getDaoManager().getRepository(IPCMMElementRepository.class).refresh(element2);
+			elements = getPCMMApp().getElementList(createdModel);
+
+			assertFalse(getPCMMAggregateApp().isCompleteAggregation(createdModel, null));
+			aggregation = getPCMMAggregateApp().aggregateSubelements(pcmmConfiguration, elements, filters);
+			assertNull(aggregation.get(element1));
+			assertEquals(Integer.valueOf(1), aggregation.get(element2).getLevel().getCode());
+
+			// assess the other sub-element of the second element
+			PCMMAssessment assessment = new PCMMAssessment();
+			assessment.setRoleCreation(role);
+			assessment.setUserCreation(defaultUser);
+			assessment.setSubelement(subelement2);
+			assessment.setLevel(level2);
+			assertNotNull(getPCMMAssessmentApp().addAssessment(assessment));
+			assertTrue(getPCMMAggregateApp().isCompleteAggregation(createdModel, null));
+
+		} catch (CredibilityException e) {
+			fail("Test Aggregate Moved: " + e.getMessage());//$NON-NLS-1$
+		}
+	}
 }
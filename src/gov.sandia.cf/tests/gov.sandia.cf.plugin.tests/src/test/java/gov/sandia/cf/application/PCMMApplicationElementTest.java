@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -116,6 +117,48 @@ class PCMMApplicationElementTest extends AbstractTestApplication {
 		}
 	}
 
+	@Test
+	void testAddAllElements_Working() throws CredibilityException {
+		// Initialize
+		IPCMMApplication app = getAppManager().getService(IPCMMApplication.class);
+		Model createdModel = TestEntityFactory.getNewModel(getDaoManager());
+
+		PCMMElement element1 = new PCMMElement();
+		element1.setAbbreviation("A1"); //$NON-NLS-1$
+		element1.setName("My_Element_1"); //$NON-NLS-1$
+		element1.setModel(createdModel);
+		PCMMElement element2 = new PCMMElement();
+		element2.setAbbreviation("A2"); //$NON-NLS-1$
+		element2.setName("My_Element_2"); //$NON-NLS-1$
+		element2.setModel(createdModel);
+
+		// Save
+		List<PCMMElement> added = app.addAllElements(Arrays.asList(element1, element2));
+
+		// Validate
+		assertEquals(2, added.size());
+		assertNotNull(element1.getId());
+		assertNotNull(element2.getId());
+		assertEquals(2, app.getElementList(createdModel).size());
+	}
+
+	@Test
+	void testAddAllElements_Errors() {
+		try {
+			getAppManager().getService(IPCMMApplication.class).addAllElements(null);
+			fail("Can create PCMMElement list with null"); //$NON-NLS-1$
+		} catch (CredibilityException e) {
+			assertEquals(RscTools.getString(RscConst.EX_PCMM_ADDELT_ELTNULL), e.getMessage());
+		}
+		try {
+			getAppManager().getService(IPCMMApplication.class)
+					.addAllElements(Arrays.asList(new PCMMElement(), null));
+			fail("Can create PCMMElement with null"); //$NON-NLS-1$
+		} catch (CredibilityException e) {
+			assertEquals(RscTools.getString(RscConst.EX_PCMM_ADDELT_ELTNULL), e.getMessage());
+		}
+	}
+
 	@Test
 	void testGetElementList_Errors() {
 		try {
@@ -131,11 +131,12 @@ class PCMMApplicationEvidenceTest extends AbstractTestApplication {
 		assertNotNull(evidenceByTag);
 		assertEquals("evidenceByTag list size: " + evidenceByTag.size(), 1, evidenceByTag.size()); //$NON-NLS-1$
 
-		// Check evidence found
+		// Check evidence found: the current evidence is shared with the tag
 		PCMMEvidence foundEvidence = evidenceByTag.get(0);
 		assertNotNull(foundEvidence);
-		assertEquals(createdTag, foundEvidence.getTag());
-		assertNotEquals(addedEvidence.getId(), foundEvidence.getId());
+		assertNull(foundEvidence.getTag());
+		assertEquals(addedEvidence.getId(), foundEvidence.getId());
+		assertTrue(foundEvidence.isInTag(createdTag));
 		assertEquals("My_Evidence", foundEvidence.getName()); //$NON-NLS-1$
 		assertEquals("My_Description", foundEvidence.getDescription()); //$NON-NLS-1$
 		assertEquals(newFile.getFullPath().toPortableString(), foundEvidence.getPath()); // $NON-NLS-1$
@@ -155,6 +156,15 @@ class PCMMApplicationEvidenceTest extends AbstractTestApplication {
 		assertEquals(addedEvidence.getName(), updatedEvidence.getName());
 		assertNotNull(updatedEvidence);
 
+		// Check the evidence has been copied into the tag before the update
+		evidenceByTag = getPCMMEvidenceApp().getEvidenceByTag(createdTag);
+		assertEquals("evidenceByTag list size: " + evidenceByTag.size(), 1, evidenceByTag.size()); //$NON-NLS-1$
+		PCMMEvidence copiedEvidence = evidenceByTag.get(0);
+		assertEquals(createdTag, copiedEvidence.getTag());
+		assertNotEquals(addedEvidence.getId(), copiedEvidence.getId());
+		assertEquals("My_Evidence", copiedEvidence.getName()); //$NON-NLS-1$
+		assertFalse(updatedEvidence.isInTag(createdTag));
+
 		// ******************************
 		// Get all evidences
 		// ******************************
@@ -807,6 +817,33 @@ class PCMMApplicationEvidenceTest extends AbstractTestApplication {
 		file.getProject().delete(true, new NullProgressMonitor());
 	}
 
+	@Test
+	void test_findEvidenceWarningNotification_DuplicatedURL_UpdatedOnDelete() throws CredibilityException {
+
+		// evidence 1 and 2: same url for two elements - 1 warning each
+		Model model = TestEntityFactory.getNewModel(getDaoManager());
+		PCMMElement elt1 = TestEntityFactory.getNewPCMMElement(getDaoManager(), model);
+		PCMMElement elt2 = TestEntityFactory.getNewPCMMElement(getDaoManager(), model);
+		TestEntityFactory.getNewPCMMEvidence(getDaoManager(), null, null, elt1, "http://sandia.gov"); //$NON-NLS-1$
+
+		PCMMEvidence evidence = new PCMMEvidence();
+		evidence.setName("My_Evidence"); //$NON-NLS-1$
+		evidence.setURL("http://sandia.gov"); //$NON-NLS-1$
+		evidence.setUserCreation(TestEntityFactory.getNewUser(getDaoManager()));
+		evidence.setRoleCreation(TestEntityFactory.getNewRole(getDaoManager()));
+		evidence.setElement(elt2);
+		PCMMEvidence duplicated = getPCMMEvidenceApp().addEvidence(evidence);
+
+		// test
+		assertEquals(2, getPCMMEvidenceApp().findEvidenceWarningNotification());
+		assertEquals(0, getPCMMEvidenceApp().findEvidenceErrorNotification());
+
+		// the counts are updated after a delete
+		getPCMMEvidenceApp().deleteEvidence(duplicated);
+		assertEquals(0, getPCMMEvidenceApp().findEvidenceWarningNotification());
+		assertEquals(0, getPCMMEvidenceApp().findEvidenceErrorNotification());
+	}
+
 	/* ************** getEvidenceNotifications ************* */
 
 	@Test
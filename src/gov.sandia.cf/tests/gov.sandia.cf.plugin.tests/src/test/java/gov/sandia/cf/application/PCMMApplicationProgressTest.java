@@ -300,8 +300,8 @@ class PCMMApplicationProgressTest extends AbstractTestApplication {
 
 		// List PCMMEvidence : 2 Evidence
 		List<PCMMEvidence> listEvidence = new ArrayList<>();
-		listEvidence.add(mock(PCMMEvidence.class));
-		listEvidence.add(mock(PCMMEvidence.class));
+		listEvidence.add(new PCMMEvidence());
+		listEvidence.add(new PCMMEvidence());
 
 		// List PCMMSubelement : only for 1 PCMMSubelement
 		List<PCMMSubelement> listSub = new ArrayList<>();
@@ -326,8 +326,8 @@ class PCMMApplicationProgressTest extends AbstractTestApplication {
 
 		// List PCMMEvidence : 2 Evidence
 		List<PCMMEvidence> listEvidence = new ArrayList<>();
-		listEvidence.add(mock(PCMMEvidence.class));
-		listEvidence.add(mock(PCMMEvidence.class));
+		listEvidence.add(new PCMMEvidence());
+		listEvidence.add(new PCMMEvidence());
 
 		PCMMElement element = mock(PCMMElement.class);
 		when(element.getEvidenceList()).thenReturn(listEvidence);
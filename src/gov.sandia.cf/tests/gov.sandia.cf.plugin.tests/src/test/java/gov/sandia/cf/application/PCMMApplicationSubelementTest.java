@@ -8,6 +8,9 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -107,6 +110,41 @@ class PCMMApplicationSubelementTest extends AbstractTestApplication {
 		}
 	}
 
+	@Test
+	void testAddAllSubelements_Working() throws CredibilityException {
+
+		// create model and element
+		Model createdModel = TestEntityFactory.getNewModel(getDaoManager());
+		PCMMElement createdElement = TestEntityFactory.getNewPCMMElement(getDaoManager(), createdModel);
+
+		PCMMSubelement subelement1 = new PCMMSubelement();
+		subelement1.setCode("My_Code_1"); //$NON-NLS-1$
+		subelement1.setName("My_Subelement_1"); //$NON-NLS-1$
+		subelement1.setElement(createdElement);
+		PCMMSubelement subelement2 = new PCMMSubelement();
+		subelement2.setCode("My_Code_2"); //$NON-NLS-1$
+		subelement2.setName("My_Subelement_2"); //$NON-NLS-1$
+		subelement2.setElement(createdElement);
+
+		// Save
+		List<PCMMSubelement> added = getPCMMApp().addAllSubelements(Arrays.asList(subelement1, subelement2));
+
+		// Validate
+		assertEquals(2, added.size());
+		assertNotNull(getPCMMApp().getSubelementById(subelement1.getId()));
+		assertNotNull(getPCMMApp().getSubelementById(subelement2.getId()));
+	}
+
+	@Test
+	void testAddAllSubelements_Errors() {
+		try {
+			getPCMMApp().addAllSubelements(Arrays.asList(new PCMMSubelement(), null));
+			fail("Can create PCMMSubelement with null"); //$NON-NLS-1$
+		} catch (CredibilityException e) {
+			assertEquals(RscTools.getString(RscConst.EX_PCMM_ADDSUBELT_SUBELTNULL), e.getMessage());
+		}
+	}
+
 	@Test
 	void testGetSubelementById_Errors() {
 		try {
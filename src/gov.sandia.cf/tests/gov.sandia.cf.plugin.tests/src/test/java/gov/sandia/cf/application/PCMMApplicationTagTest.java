@@ -9,6 +9,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import java.util.Date;
 import java.util.HashMap;
@@ -19,6 +25,8 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import gov.sandia.cf.application.pcmm.IPCMMPlanningApplication;
+import gov.sandia.cf.application.pcmm.PCMMApplication;
 import gov.sandia.cf.application.report.IReportARGExecutionApp;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.ARGParameters;
@@ -264,6 +272,10 @@ class PCMMApplicationTagTest extends AbstractTestApplication {
 		assertNotNull(assessmentByTag1);
 		assertTrue(assessmentByTag1.isEmpty());
 
+		// the current evidence and assessments shared with the tag are not deleted
+		assertNotNull(getPCMMEvidenceApp().getEvidenceById(evidence.getId()));
+		assertNotNull(getPCMMAssessmentApp().getAssessmentById(newPCMMAssessment.getId()));
+
 		filters = new HashMap<>();
 		filters.put(GenericValueTaggable.Filter.TAG, createdTag);
 
@@ -283,6 +295,32 @@ class PCMMApplicationTagTest extends AbstractTestApplication {
 		assertNull(getAppManager().getService(IReportARGExecutionApp.class).getARGParameters().getPcmmTagSelected());
 	}
 
+	@Test
+	void testTagCurrent_PlanningCopyFailed() throws CredibilityException {
+
+		// create user
+		User defaultUser = TestEntityFactory.getNewUser(getDaoManager());
+
+		// the planning copy fails
+		IPCMMPlanningApplication planningApp = mock(IPCMMPlanningApplication.class);
+		doThrow(new CredibilityException("Planning copy failed")).when(planningApp).tagCurrent(any()); //$NON-NLS-1$
+		ApplicationManager appManager = spy(getAppManager());
+		doReturn(planningApp).when(appManager).getService(IPCMMPlanningApplication.class);
+
+		Tag tag = new Tag();
+		tag.setName("My_Tag"); //$NON-NLS-1$
+		tag.setUserCreation(defaultUser);
+		int tagCount = getPCMMApp().getTags().size();
+
+		CredibilityException e = assertThrows(CredibilityException.class,
+				() -> new PCMMApplication(appManager).tagCurrent(tag));
+		assertEquals("Planning copy failed", e.getMessage()); //$NON-NLS-1$
+
+		// the tag is deleted with its partial copies
+		verify(planningApp).deleteTagged(tag);
+		assertEquals(tagCount, getPCMMApp().getTags().size());
+	}
+
 	@Test
 	void testTagCurrent_ErrorUserNull() {
 		CredibilityException e = assertThrows(CredibilityException.class, () -> {
@@ -27,6 +27,7 @@ import gov.sandia.cf.dao.IPCMMPlanningSelectValueRepository;
 import gov.sandia.cf.dao.IPCMMPlanningTableItemRepository;
 import gov.sandia.cf.dao.IPCMMPlanningTableValueRepository;
 import gov.sandia.cf.dao.IPCMMPlanningValueRepository;
+import gov.sandia.cf.dao.ITagRepository;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.GenericParameter;
 import gov.sandia.cf.model.GenericParameterSelectValue;
@@ -711,6 +712,30 @@ class PCMMPlanningAppPlanningParamTest extends AbstractTestApplication {
 		assertTrue(allSelectValues.isEmpty());
 	}
 
+	@Test
+	void test_deletePlanningParameter_CopyOnWriteTag() throws CredibilityException {
+
+		// construct data
+		PCMMPlanningParam param = TestEntityFactory.getNewPCMMPlanningParam(getDaoManager(), null);
+		PCMMPlanningValue value = TestEntityFactory.getNewPCMMPlanningValue(getDaoManager(), param, null, null, null);
+		PCMMPlanningTableItem item = TestEntityFactory.getNewPCMMPlanningTableItem(getDaoManager(), param, null, null,
+				null);
+		TestEntityFactory.getNewPCMMPlanningTableValue(getDaoManager(), param, item, null);
+
+		// the copy-on-write tag shares the active value and item
+		Tag tag = TestEntityFactory.getNewTag(getDaoManager(), null);
+		tag.setVersionNumber(value.getTagVersion());
+		getDaoManager().getRepository(ITagRepository.class).update(tag);
+
+		// test
+		getPCMMPlanningApp().deletePlanningParameter(param);
+
+		assertTrue(getDaoManager().getRepository(IPCMMPlanningParamRepository.class).findAll().isEmpty());
+		assertTrue(getDaoManager().getRepository(IPCMMPlanningValueRepository.class).findAll().isEmpty());
+		assertTrue(getDaoManager().getRepository(IPCMMPlanningTableItemRepository.class).findAll().isEmpty());
+		assertTrue(getDaoManager().getRepository(IPCMMPlanningTableValueRepository.class).findAll().isEmpty());
+	}
+
 	@Test
 	void test_deletePlanningParameter_Null() throws CredibilityException {
 
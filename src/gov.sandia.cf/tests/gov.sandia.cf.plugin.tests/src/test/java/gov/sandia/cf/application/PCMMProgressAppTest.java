@@ -0,0 +1,267 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.sandia.cf.application.pcmm.IPCMMProgressApp;
+import gov.sandia.cf.application.pcmm.PCMMApplication;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.Model;
+import gov.sandia.cf.model.PCMMAssessment;
+import gov.sandia.cf.model.PCMMElement;
+import gov.sandia.cf.model.PCMMEvidence;
+import gov.sandia.cf.model.PCMMLevel;
+import gov.sandia.cf.model.PCMMMode;
+import gov.sandia.cf.model.PCMMSubelement;
+import gov.sandia.cf.model.Role;
+import gov.sandia.cf.model.Tag;
+import gov.sandia.cf.model.User;
+import gov.sandia.cf.model.dto.configuration.PCMMSpecification;
+import gov.sandia.cf.tests.TestEntityFactory;
+import gov.sandia.cf.tools.RscConst;
+import gov.sandia.cf.tools.RscTools;
+
+/**
+ * @author Didier Verstraete
+ *
+ *         JUnit test class for the PCMM Progress Application Controller
+ */
+class PCMMProgressAppTest extends AbstractTestApplication {
+
+	/**
+	 * the logger
+	 */
+	public static Logger logger = LoggerFactory.getLogger(PCMMProgressAppTest.class);
+
+	/**
+	 * @param mode the PCMM mode
+	 * @return a specification with the evidence progress only
+	 */
+	private PCMMSpecification getEvidenceSpecification(PCMMMode mode) {
+		return getSpecification(mode, true, false);
+	}
+
+	/**
+	 * @param mode     the PCMM mode
+	 * @param evidence the evidence progress enabled
+	 * @param assess   the assessment progress enabled
+	 * @return a specification without the planning progress
+	 */
+	private PCMMSpecification getSpecification(PCMMMode mode, boolean evidence, boolean assess) {
+		PCMMSpecification configuration = mock(PCMMSpecification.class);
+		when(configuration.getMode()).thenReturn(mode);
+		when(configuration.isPcmmPlanningEnabled()).thenReturn(false);
+		when(configuration.isPcmmEvidenceEnabled()).thenReturn(evidence);
+		when(configuration.isPcmmAssessEnabled()).thenReturn(assess);
+		return configuration;
+	}
+
+	/**
+	 * @param role       the creation role
+	 * @param user       the creation user
+	 * @param subelement the subelement
+	 * @return a new url evidence of the subelement, not persisted
+	 */
+	private PCMMEvidence newEvidence(Role role, User user, PCMMSubelement subelement) {
+		PCMMEvidence evidence = new PCMMEvidence();
+		evidence.setRoleCreation(role);
+		evidence.setUserCreation(user);
+		evidence.setSubelement(subelement);
+		evidence.setURL("http://progress.com/" + subelement.getId()); //$NON-NLS-1$
+		return evidence;
+	}
+
+	@Test
+	void test_computeProgressByElement_ModeDefault() throws CredibilityException {
+
+		// create data
+		Model model = TestEntityFactory.getNewModel(getDaoManager());
+		PCMMElement element = TestEntityFactory.getNewPCMMElement(getDaoManager(), model);
+		PCMMSubelement subelement1 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element);
+		PCMMSubelement subelement2 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element);
+		User user = TestEntityFactory.getNewUser(getDaoManager());
+		Role role = TestEntityFactory.getNewRole(getDaoManager());
+		TestEntityFactory.getNewPCMMEvidence(getDaoManager(), role, user, subelement1);
+		TestEntityFactory.getNewPCMMEvidence(getDaoManager(), role, user, subelement1);
+
+		// one subelement over two has evidence
+		PCMMSpecification configuration = getEvidenceSpecification(PCMMMode.DEFAULT);
+		IPCMMProgressApp progressApp = getAppManager().getService(IPCMMProgressApp.class);
+		progressApp.invalidate();
+		assertEquals(Math.round(PCMMApplication.PCMM_PROGRESS_EVIDENCE_DEFAULT_WEIGHT / 2F),
+				progressApp.computeProgressByElement(element, null, configuration));
+		assertEquals(Math.round(PCMMApplication.PCMM_PROGRESS_EVIDENCE_DEFAULT_WEIGHT / 2F),
+				progressApp.computeCurrentProgress(model, configuration));
+
+		// the progress is counted again after the invalidation only
+		TestEntityFactory.getNewPCMMEvidence(getDaoManager(), role, user, subelement2);
+		assertEquals(Math.round(PCMMApplication.PCMM_PROGRESS_EVIDENCE_DEFAULT_WEIGHT / 2F),
+				progressApp.computeProgressByElement(element, null, configuration));
+		progressApp.invalidate();
+		assertEquals(PCMMApplication.PCMM_PROGRESS_EVIDENCE_DEFAULT_WEIGHT,
+				progressApp.computeProgressByElement(element, null, configuration));
+	}
+
+	@Test
+	void test_computeProgressByElement_ModeSimplified() throws CredibilityException {
+
+		// create data
+		Model model = TestEntityFactory.getNewModel(getDaoManager());
+		PCMMElement element = TestEntityFactory.getNewPCMMElement(getDaoManager(), model);
+		PCMMElement elementNoEvidence = TestEntityFactory.getNewPCMMElement(getDaoManager(), model);
+		User user = TestEntityFactory.getNewUser(getDaoManager());
+		Role role = TestEntityFactory.getNewRole(getDaoManager());
+		TestEntityFactory.getNewPCMMEvidence(getDaoManager(), role, user, element);
+		TestEntityFactory.getNewPCMMEvidence(getDaoManager(), role, user, element);
+
+		PCMMSpecification configuration = getEvidenceSpecification(PCMMMode.SIMPLIFIED);
+		IPCMMProgressApp progressApp = getAppManager().getService(IPCMMProgressApp.class);
+		progressApp.invalidate();
+		assertEquals(PCMMApplication.PCMM_PROGRESS_EVIDENCE_DEFAULT_WEIGHT,
+				progressApp.computeProgressByElement(element, null, configuration));
+		assertEquals(0, progressApp.computeProgressByElement(elementNoEvidence, null, configuration));
+	}
+
+	@Test
+	void test_computeProgressByElement_Tagged() throws CredibilityException {
+
+		// create data
+		Model model = TestEntityFactory.getNewModel(getDaoManager());
+		PCMMElement element = TestEntityFactory.getNewPCMMElement(getDaoManager(), model);
+		PCMMSubelement subelement1 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element);
+		PCMMSubelement subelement2 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element);
+		User user = TestEntityFactory.getNewUser(getDaoManager());
+		Role role = TestEntityFactory.getNewRole(getDaoManager());
+		PCMMEvidence evidence = TestEntityFactory.getNewPCMMEvidence(getDaoManager(), role, user, subelement1);
+
+		// tag
+		Tag tag = new Tag();
+		tag.setName("My_Tag"); //$NON-NLS-1$
+		tag.setDateTag(new Date());
+		tag.setUserCreation(user);
+		tag = getPCMMApp().tagCurrent(tag);
+
+		PCMMSpecification configuration = getEvidenceSpecification(PCMMMode.DEFAULT);
+		IPCMMProgressApp progressApp = getAppManager().getService(IPCMMProgressApp.class);
+		progressApp.invalidate();
+		int half = Math.round(PCMMApplication.PCMM_PROGRESS_EVIDENCE_DEFAULT_WEIGHT / 2F);
+		assertEquals(half, progressApp.computeProgressByElement(element, tag, configuration));
+		assertEquals(half, progressApp.computeProgressByElement(element, null, configuration));
+
+		// the current evidence changes, the tag progress does not
+		getPCMMEvidenceApp().addEvidence(newEvidence(role, user, subelement2));
+		assertEquals(half, progressApp.computeProgressByElement(element, tag, configuration));
+		assertEquals(PCMMApplication.PCMM_PROGRESS_EVIDENCE_DEFAULT_WEIGHT,
+				progressApp.computeProgressByElement(element, null, configuration));
+
+		getPCMMEvidenceApp().deleteEvidence(evidence);
+		assertEquals(half, progressApp.computeProgressByElement(element, tag, configuration));
+		assertEquals(half, progressApp.computeProgressByElement(element, null, configuration));
+	}
+
+	@Test
+	void test_computeProgressByElement_Assessment() throws CredibilityException {
+
+		// create data
+		Model model = TestEntityFactory.getNewModel(getDaoManager());
+		PCMMElement element = TestEntityFactory.getNewPCMMElement(getDaoManager(), model);
+		PCMMSubelement subelement1 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element);
+		PCMMSubelement subelement2 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element);
+		User user = TestEntityFactory.getNewUser(getDaoManager());
+		Role role = TestEntityFactory.getNewRole(getDaoManager());
+		PCMMLevel level = TestEntityFactory.getNewPCMMLevel(getDaoManager(), subelement1, 1);
+		TestEntityFactory.getNewPCMMAssessment(getDaoManager(), role, user, subelement1, level);
+		TestEntityFactory.getNewPCMMAssessment(getDaoManager(), role, user, subelement1, level);
+
+		// one subelement over two is assessed, the evidence is not counted
+		PCMMSpecification configuration = getSpecification(PCMMMode.DEFAULT, false, true);
+		IPCMMProgressApp progressApp = getAppManager().getService(IPCMMProgressApp.class);
+		progressApp.invalidate();
+		assertEquals(Math.round(PCMMApplication.PCMM_PROGRESS_ASSESS_DEFAULT_WEIGHT / 2F),
+				progressApp.computeProgressByElement(element, null, configuration));
+
+		// all the subelements are assessed
+		TestEntityFactory.getNewPCMMEvidence(getDaoManager(), role, user, subelement2);
+		TestEntityFactory.getNewPCMMAssessment(getDaoManager(), role, user, subelement2, level);
+		progressApp.invalidate();
+		assertEquals(PCMMApplication.PCMM_PROGRESS_ASSESS_DEFAULT_WEIGHT,
+				progressApp.computeProgressByElement(element, null, configuration));
+
+		// the evidence and assessment progress are summed
+		assertEquals(
+				PCMMApplication.PCMM_PROGRESS_ASSESS_DEFAULT_WEIGHT
+						+ Math.round(PCMMApplication.PCMM_PROGRESS_EVIDENCE_DEFAULT_WEIGHT / 2F),
+				progressApp.computeProgressByElement(element, null, getSpecification(PCMMMode.DEFAULT, true, true)));
+	}
+
+	@Test
+	void test_computeProgressByElement_InvalidatedByServices() throws CredibilityException {
+
+		// create data
+		Model model = TestEntityFactory.getNewModel(getDaoManager());
+		PCMMElement element = TestEntityFactory.getNewPCMMElement(getDaoManager(), model);
+		PCMMSubelement subelement1 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element);
+		PCMMSubelement subelement2 = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), element);
+		User user = TestEntityFactory.getNewUser(getDaoManager());
+		Role role = TestEntityFactory.getNewRole(getDaoManager());
+		PCMMLevel level = TestEntityFactory.getNewPCMMLevel(getDaoManager(), subelement1, 1);
+
+		// the application manager is shared by the tests: start from an empty cache
+		PCMMSpecification configuration = getSpecification(PCMMMode.DEFAULT, true, true);
+		IPCMMProgressApp progressApp = getAppManager().getService(IPCMMProgressApp.class);
+		progressApp.invalidate();
+		assertEquals(0, progressApp.computeProgressByElement(element, null, configuration));
+
+		// the services clear the cached progress
+		PCMMEvidence evidence = getPCMMEvidenceApp().addEvidence(newEvidence(role, user, subelement1));
+		int evidenceHalf = Math.round(PCMMApplication.PCMM_PROGRESS_EVIDENCE_DEFAULT_WEIGHT / 2F);
+		assertEquals(evidenceHalf, progressApp.computeProgressByElement(element, null, configuration));
+
+		PCMMAssessment assessment = new PCMMAssessment();
+		assessment.setRoleCreation(role);
+		assessment.setUserCreation(user);
+		assessment.setSubelement(subelement2);
+		assessment.setLevel(level);
+		assessment = getPCMMAssessmentApp().addAssessment(assessment);
+		int assessHalf = Math.round(PCMMApplication.PCMM_PROGRESS_ASSESS_DEFAULT_WEIGHT / 2F);
+		assertEquals(evidenceHalf + assessHalf, progressApp.computeProgressByElement(element, null, configuration));
+
+		getPCMMEvidenceApp().deleteEvidence(evidence);
+		assertEquals(assessHalf, progressApp.computeProgressByElement(element, null, configuration));
+
+		getPCMMAssessmentApp().deleteAssessment(assessment);
+		assertEquals(0, progressApp.computeProgressByElement(element, null, configuration));
+	}
+
+	@Test
+	void test_computeProgressByElement_ElementNull() {
+		PCMMSpecification configuration = getEvidenceSpecification(PCMMMode.DEFAULT);
+		CredibilityException e = assertThrows(CredibilityException.class, () -> getAppManager()
+				.getService(IPCMMProgressApp.class).computeProgressByElement(null, null, configuration));
+		assertEquals(RscTools.getString(RscConst.EX_PCMM_PROGRESS_COMPUTE_ELTNULL), e.getMessage());
+	}
+
+	@Test
+	void test_computeProgressByElement_ConfigurationNull() {
+		PCMMElement element = new PCMMElement();
+		CredibilityException e = assertThrows(CredibilityException.class,
+				() -> getAppManager().getService(IPCMMProgressApp.class).computeProgressByElement(element, null, null));
+		assertEquals(RscTools.getString(RscConst.EX_PCMM_PROGRESS_COMPUTE_CONFNULL), e.getMessage());
+	}
+
+	@Test
+	void test_computeCurrentProgress_ConfigurationNull() throws CredibilityException {
+		assertEquals(0, getAppManager().getService(IPCMMProgressApp.class).computeCurrentProgress(new Model(), null));
+	}
+}
@@ -10,18 +10,24 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.validation.ConstraintViolationException;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import gov.sandia.cf.application.global.IUserApplication;
 import gov.sandia.cf.application.pirt.IPIRTApplication;
 import gov.sandia.cf.dao.IARGParametersQoIOptionRepository;
 import gov.sandia.cf.dao.IPhenomenonGroupRepository;
@@ -903,6 +909,137 @@ class PIRTApplicationQoiTest extends AbstractTestApplication {
 		}
 	}
 
+	@Test
+	void testTagQoI_WholeTreeWithProgress() {
+
+		// construct data
+		User newUser = TestEntityFactory.getNewUser(getDaoManager());
+		QuantityOfInterest newQoI = TestEntityFactory.getNewQoI(getDaoManager(), null);
+		newQoI.setUserCreation(newUser);
+		try {
+			getDaoManager().getRepository(IQuantityOfInterestRepository.class).update(newQoI);
+		} catch (CredibilityException e) {
+			fail(e.getMessage());
+		}
+		TestEntityFactory.getNewQoIHeader(getDaoManager(), newQoI, newUser);
+		TestEntityFactory.getNewQoIHeader(getDaoManager(), newQoI, newUser);
+		PhenomenonGroup newPhenomenonGroup = TestEntityFactory.getNewPhenomenonGroup(getDaoManager(), newQoI);
+		Phenomenon newPhenomenon = TestEntityFactory.getNewPhenomenon(getDaoManager(), newPhenomenonGroup);
+		TestEntityFactory.getNewPhenomenon(getDaoManager(), newPhenomenonGroup);
+		TestEntityFactory.getNewCriterion(getDaoManager(), newPhenomenon);
+
+		getDaoManager().getRepository(IPhenomenonRepository.class).refresh(newPhenomenon);
+		getDaoManager().getRepository(IPhenomenonGroupRepository.class).refresh(newPhenomenonGroup);
+		getDaoManager().getRepository(IQuantityOfInterestRepository.class).refresh(newQoI);
+
+		// qoi + 2 headers + 1 group + 2 phenomena + 1 criterion
+		int[] worked = { 0 };
+		IProgressMonitor monitor = new NullProgressMonitor() {
+			@Override
+			public void worked(int work) {
+				worked[0] += work;
+			}
+		};
+
+		// test
+		try {
+			QuantityOfInterest taggedQoI = getPIRTApp().tagQoI(newQoI, "My_Tag", newUser, monitor); //$NON-NLS-1$
+
+			assertNotNull(taggedQoI);
+			assertNotNull(taggedQoI.getId());
+			assertNotNull(taggedQoI.getTagDate());
+			assertEquals(newQoI, taggedQoI.getParent());
+			assertEquals(newQoI.getQoiHeaderList().size(), taggedQoI.getQoiHeaderList().size());
+			assertEquals(1, taggedQoI.getPhenomenonGroupList().size());
+			PhenomenonGroup taggedGroup = taggedQoI.getPhenomenonGroupList().get(0);
+			assertNotEquals(newPhenomenonGroup.getId(), taggedGroup.getId());
+			assertEquals(2, taggedGroup.getPhenomenonList().size());
+			assertEquals(7, worked[0]);
+
+		} catch (CredibilityException e) {
+			fail(e.getMessage());
+		}
+	}
+
+	@Test
+	void testTagQoI_Cancelled() {
+
+		// construct data
+		User newUser = TestEntityFactory.getNewUser(getDaoManager());
+		QuantityOfInterest newQoI = TestEntityFactory.getNewQoI(getDaoManager(), null);
+		newQoI.setUserCreation(newUser);
+		try {
+			getDaoManager().getRepository(IQuantityOfInterestRepository.class).update(newQoI);
+		} catch (CredibilityException e) {
+			fail(e.getMessage());
+		}
+		PhenomenonGroup newPhenomenonGroup = TestEntityFactory.getNewPhenomenonGroup(getDaoManager(), newQoI);
+		TestEntityFactory.getNewPhenomenon(getDaoManager(), newPhenomenonGroup);
+
+		getDaoManager().getRepository(IPhenomenonGroupRepository.class).refresh(newPhenomenonGroup);
+		getDaoManager().getRepository(IQuantityOfInterestRepository.class).refresh(newQoI);
+
+		int qoiCount = getDaoManager().getRepository(IQuantityOfInterestRepository.class).findAll().size();
+
+		IProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+
+		// test
+		CredibilityException e = assertThrows(CredibilityException.class,
+				() -> getPIRTApp().tagQoI(newQoI, "My_Tag", newUser, monitor)); //$NON-NLS-1$
+		assertEquals(RscTools.getString(RscConst.EX_PIRT_TAG_CANCELLED), e.getMessage());
+
+		// nothing has been tagged
+		assertEquals(qoiCount, getDaoManager().getRepository(IQuantityOfInterestRepository.class).findAll().size());
+	}
+
+	@Test
+	void testTagQoI_ThreadEntityManager() throws Exception {
+
+		// construct data
+		User newUser = TestEntityFactory.getNewUser(getDaoManager());
+		QuantityOfInterest newQoI = TestEntityFactory.getNewQoI(getDaoManager(), null);
+		newQoI.setUserCreation(newUser);
+		getDaoManager().getRepository(IQuantityOfInterestRepository.class).update(newQoI);
+		PhenomenonGroup newPhenomenonGroup = TestEntityFactory.getNewPhenomenonGroup(getDaoManager(), newQoI);
+		Phenomenon newPhenomenon = TestEntityFactory.getNewPhenomenon(getDaoManager(), newPhenomenonGroup);
+		TestEntityFactory.getNewPhenomenon(getDaoManager(), newPhenomenonGroup);
+		TestEntityFactory.getNewCriterion(getDaoManager(), newPhenomenon);
+
+		getDaoManager().getRepository(IPhenomenonRepository.class).refresh(newPhenomenon);
+		getDaoManager().getRepository(IPhenomenonGroupRepository.class).refresh(newPhenomenonGroup);
+		getDaoManager().getRepository(IQuantityOfInterestRepository.class).refresh(newQoI);
+
+		// tag in a worker thread with its own entity manager
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Integer taggedId;
+		try {
+			taggedId = executor.submit(() -> {
+				getDaoManager().getDbManager().openThreadEntityManager();
+				try {
+					QuantityOfInterest qoi = getPIRTApp().getQoIById(newQoI.getId());
+					User user = getAppManager().getService(IUserApplication.class).getUserById(newUser.getId());
+					return getPIRTApp().tagQoI(qoi, "My_Tag", user, new NullProgressMonitor()).getId(); //$NON-NLS-1$
+				} finally {
+					getDaoManager().getDbManager().closeThreadEntityManager();
+				}
+			}).get();
+		} finally {
+			executor.shutdown();
+		}
+
+		// the shared entity manager reads the tagged tree
+		assertFalse(getDaoManager().getEntityManager().getTransaction().isActive());
+		getPIRTApp().refresh(newQoI);
+		QuantityOfInterest taggedQoI = getPIRTApp().getQoIById(taggedId);
+		assertNotNull(taggedQoI);
+		assertEquals(newQoI, taggedQoI.getParent());
+		assertEquals(newUser, taggedQoI.getTagUserCreation());
+		assertEquals(1, taggedQoI.getPhenomenonGroupList().size());
+		assertEquals(2, taggedQoI.getPhenomenonGroupList().get(0).getPhenomenonList().size());
+		assertTrue(newQoI.getChildren().contains(taggedQoI));
+	}
+
 	/* ************ duplicateQoI ************* */
 
 	@Test
@@ -0,0 +1,98 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.sandia.cf.application.global.IReorderApp;
+import gov.sandia.cf.dao.IPCMMEvidenceRepository;
+import gov.sandia.cf.dao.IUncertaintyRepository;
+import gov.sandia.cf.exceptions.CredibilityException;
+import gov.sandia.cf.model.Model;
+import gov.sandia.cf.model.PCMMEvidence;
+import gov.sandia.cf.model.PCMMSubelement;
+import gov.sandia.cf.model.Uncertainty;
+import gov.sandia.cf.model.User;
+import gov.sandia.cf.tests.TestEntityFactory;
+
+/**
+ * @author Didier Verstraete
+ *
+ *         JUnit test class for the Reorder Application Controller
+ */
+class ReorderAppTest extends AbstractTestApplication {
+
+	/**
+	 * the logger
+	 */
+	public static Logger logger = LoggerFactory.getLogger(ReorderAppTest.class);
+
+	@Test
+	void test_reorderTree_Uncertainty() throws CredibilityException {
+
+		// create data
+		Model model = TestEntityFactory.getNewModel(getDaoManager());
+		User user = TestEntityFactory.getNewUser(getDaoManager());
+		Uncertainty group1 = TestEntityFactory.getNewUncertainty(getDaoManager(), model, null, user);
+		Uncertainty group2 = TestEntityFactory.getNewUncertainty(getDaoManager(), model, null, user);
+		Uncertainty child1 = TestEntityFactory.getNewUncertainty(getDaoManager(), model, group1, user);
+		Uncertainty child2 = TestEntityFactory.getNewUncertainty(getDaoManager(), model, group1, user);
+		child1.setGeneratedId("Z1"); //$NON-NLS-1$
+		child2.setGeneratedId("Z2"); //$NON-NLS-1$
+		getDaoManager().getRepository(IUncertaintyRepository.class).updateAll(Arrays.asList(child1, child2));
+		getDaoManager().getRepository(IUncertaintyRepository.class).refresh(group1);
+
+		// the groups and the children are updated
+		List<Uncertainty> updated = getAppManager().getService(IReorderApp.class).reorderTree(
+				IUncertaintyRepository.class, Arrays.asList(group2, group1), null, 0, Uncertainty::getChildren);
+		assertEquals(4, updated.size());
+
+		getDaoManager().getRepository(IUncertaintyRepository.class).refresh(group1);
+		assertEquals("A", group2.getGeneratedId()); //$NON-NLS-1$
+		assertEquals("B", group1.getGeneratedId()); //$NON-NLS-1$
+		assertEquals("B1", getDaoManager().getRepository(IUncertaintyRepository.class).findById(child1.getId()) //$NON-NLS-1$
+				.getGeneratedId());
+		assertEquals("B2", getDaoManager().getRepository(IUncertaintyRepository.class).findById(child2.getId()) //$NON-NLS-1$
+				.getGeneratedId());
+
+		// nothing to update in the same order
+		updated = getAppManager().getService(IReorderApp.class).reorderTree(IUncertaintyRepository.class,
+				Arrays.asList(group2, group1), null, 0, Uncertainty::getChildren);
+		assertTrue(updated.isEmpty());
+	}
+
+	@Test
+	void test_reorderNumbered_Evidence() throws CredibilityException {
+
+		// create data
+		PCMMSubelement subelement = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), null);
+		PCMMEvidence evidence1 = TestEntityFactory.getNewPCMMEvidence(getDaoManager(), null, null, subelement);
+		PCMMEvidence evidence2 = TestEntityFactory.getNewPCMMEvidence(getDaoManager(), null, null, subelement);
+
+		// only the evidence with a new generated id is updated
+		List<PCMMEvidence> updated = getAppManager().getService(IReorderApp.class)
+				.reorderNumbered(IPCMMEvidenceRepository.class, Arrays.asList(evidence2, evidence1));
+		assertEquals("1", getDaoManager().getRepository(IPCMMEvidenceRepository.class).findById(evidence2.getId()) //$NON-NLS-1$
+				.getGeneratedId());
+		assertEquals("2", getDaoManager().getRepository(IPCMMEvidenceRepository.class).findById(evidence1.getId()) //$NON-NLS-1$
+				.getGeneratedId());
+		assertEquals(2, updated.size());
+
+		updated = getAppManager().getService(IReorderApp.class).reorderNumbered(IPCMMEvidenceRepository.class,
+				Arrays.asList(evidence1, evidence2));
+		assertEquals(2, updated.size());
+
+		updated = getAppManager().getService(IReorderApp.class).reorderNumbered(IPCMMEvidenceRepository.class,
+				Arrays.asList(evidence1, evidence2));
+		assertTrue(updated.isEmpty());
+	}
+}
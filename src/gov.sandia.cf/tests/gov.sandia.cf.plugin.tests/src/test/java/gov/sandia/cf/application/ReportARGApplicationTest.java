@@ -18,10 +18,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -45,6 +49,7 @@ import gov.sandia.cf.constants.arg.ARGVersion;
 import gov.sandia.cf.constants.arg.YmlARGParameterSchema;
 import gov.sandia.cf.constants.arg.YmlARGStructure;
 import gov.sandia.cf.constants.configuration.ExportOptions;
+import gov.sandia.cf.dao.IDBManager;
 import gov.sandia.cf.dao.ISystemRequirementValueRepository;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.ARGParameters;
@@ -218,6 +223,133 @@ class ReportARGApplicationTest extends AbstractTestApplication {
 						&& e.get(YmlARGStructure.ARG_STRUCTURE_TITLE_KEY).equals("Conclusion")));//$NON-NLS-1$
 	}
 
+	@Test
+	void test_copyReportStructureContentIntoFile_NonPrintableChars() throws IOException, CredibilityException {
+		// Initialize
+		File testTempFolder = getTestTempFolder();
+		Path structureFile = Files.createFile(Paths.get(testTempFolder.getPath(), "structure.yml")); //$NON-NLS-1$
+
+		// generate content with non-printable characters
+		Map<String, Object> content = getAppManager().getService(IReportARGApplication.class)
+				.generateStructure(new HashMap<>());
+		List<Map<String, Object>> chapters = new ArrayList<>();
+		chapters.add(getAppManager().getService(IReportARGApplication.class)
+				.generateParagraph("My\u0007Paragraph")); //$NON-NLS-1$
+		content.put(YmlARGStructure.ARG_STRUCTURE_CHAPTERS_KEY, chapters);
+
+		// copy content into structure file
+		getAppManager().getService(IReportARGApplication.class)
+				.copyReportStructureContentIntoFile(structureFile.toFile(), content);
+
+		// assertions
+		Map<?, ?> ymlContent = null;
+		try (FileReader fileReader = new FileReader(structureFile.toFile())) {
+			ymlContent = new Yaml().load(fileReader);
+		}
+		assertNotNull(ymlContent);
+		List<?> list = (List<?>) ymlContent.get(YmlARGStructure.ARG_STRUCTURE_CHAPTERS_KEY);
+		assertEquals(1, list.size());
+		assertEquals("MyParagraph", //$NON-NLS-1$
+				((Map<?, ?>) list.get(0)).get(YmlARGStructure.ARG_STRUCTURE_STRING_KEY));
+	}
+
+	@Test
+	void test_generateStructureFile_working_full_options()
+			throws IOException, CredibilityException, URISyntaxException {
+		// Initialize
+		File testTempFolder = getTestTempFolder();
+		Path structureFile = Files.createFile(Paths.get(testTempFolder.getPath(), "structure.yml")); //$NON-NLS-1$
+
+		// Create options
+		Map<ExportOptions, Object> options = new HashMap<>();
+		options.put(ExportOptions.PCMM_INCLUDE, true);
+		options.put(ExportOptions.PIRT_INCLUDE, true);
+		options.put(ExportOptions.PLANNING_INCLUDE, true);
+		options.put(ExportOptions.CUSTOM_ENDING_INCLUDE, true);
+		options.put(ExportOptions.PCMM_TAG, null);
+		options.put(ExportOptions.MODEL, TestEntityFactory.getNewModel(getDaoManager()));
+		options.put(ExportOptions.PIRT_QOI_LIST, new HashMap<QuantityOfInterest, Map<ExportOptions, Object>>());
+		ARGParameters argParameters = ARGParametersFactory.getDefaultParameters(null);
+		argParameters.setCustomEndingEnabled(true);
+		File toAppendFile = new File(WorkspaceTools.getStaticFilePath("report/arg/structureToAppend.yml")); //$NON-NLS-1$
+		argParameters.setCustomEndingFilePath(toAppendFile.getPath());
+		options.put(ExportOptions.ARG_PARAMETERS, argParameters);
+
+		// Generate content into structure file
+		getAppManager().getService(IReportARGApplication.class).generateStructureFile(structureFile.toFile(),
+				options);
+
+		// the file content is the same as the generated structure
+		Map<?, ?> ymlContent = null;
+		try (FileReader fileReader = new FileReader(structureFile.toFile())) {
+			ymlContent = new Yaml().load(fileReader);
+		}
+		Map<String, Object> expected = getAppManager().getService(IReportARGApplication.class)
+				.generateStructure(options);
+		assertNotNull(ymlContent);
+		assertEquals(ARGVersion.ARG_VERSION, ymlContent.get(YmlARGStructure.ARG_STRUCTURE_VERSION_KEY));
+		assertEquals(new Yaml().load(new Yaml().dump(expected.get(YmlARGStructure.ARG_STRUCTURE_CHAPTERS_KEY))),
+				ymlContent.get(YmlARGStructure.ARG_STRUCTURE_CHAPTERS_KEY));
+	}
+
+	@Test
+	void test_generateStructure_ChaptersOrder() throws IOException, CredibilityException, URISyntaxException {
+		// Create options
+		Map<ExportOptions, Object> options = new HashMap<>();
+		options.put(ExportOptions.PCMM_TAG, null);
+		options.put(ExportOptions.MODEL, TestEntityFactory.getNewModel(getDaoManager()));
+		options.put(ExportOptions.PIRT_QOI_LIST, new HashMap<QuantityOfInterest, Map<ExportOptions, Object>>());
+		ARGParameters argParameters = ARGParametersFactory.getDefaultParameters(null);
+		argParameters.setCustomEndingEnabled(true);
+		File toAppendFile = new File(WorkspaceTools.getStaticFilePath("report/arg/structureToAppend.yml")); //$NON-NLS-1$
+		argParameters.setCustomEndingFilePath(toAppendFile.getPath());
+		options.put(ExportOptions.ARG_PARAMETERS, argParameters);
+
+		// Generate each feature alone
+		List<Object> expected = new ArrayList<>();
+		for (ExportOptions include : Arrays.asList(ExportOptions.PLANNING_INCLUDE, ExportOptions.PIRT_INCLUDE,
+				ExportOptions.PCMM_INCLUDE, ExportOptions.CUSTOM_ENDING_INCLUDE)) {
+			Map<ExportOptions, Object> featureOptions = new HashMap<>(options);
+			featureOptions.put(include, true);
+			expected.addAll((List<?>) getAppManager().getService(IReportARGApplication.class)
+					.generateStructure(featureOptions).get(YmlARGStructure.ARG_STRUCTURE_CHAPTERS_KEY));
+		}
+
+		// Generate the features in parallel
+		options.put(ExportOptions.PLANNING_INCLUDE, true);
+		options.put(ExportOptions.PIRT_INCLUDE, true);
+		options.put(ExportOptions.PCMM_INCLUDE, true);
+		options.put(ExportOptions.CUSTOM_ENDING_INCLUDE, true);
+		Map<String, Object> structure = getAppManager().getService(IReportARGApplication.class)
+				.generateStructure(options);
+
+		// the chapters are in the report order
+		assertFalse(expected.isEmpty());
+		List<?> expectedChapters = new Yaml().load(new Yaml().dump(expected));
+		List<?> chapters = new Yaml().load(new Yaml().dump(structure.get(YmlARGStructure.ARG_STRUCTURE_CHAPTERS_KEY)));
+		assertEquals(expectedChapters, chapters);
+	}
+
+	@Test
+	void test_generateStructureFile_Empty() throws IOException, CredibilityException {
+		// Initialize
+		File testTempFolder = getTestTempFolder();
+		Path structureFile = Files.createFile(Paths.get(testTempFolder.getPath(), "structure.yml")); //$NON-NLS-1$
+
+		// Generate content into structure file
+		getAppManager().getService(IReportARGApplication.class).generateStructureFile(structureFile.toFile(),
+				new HashMap<>());
+
+		// assertions
+		Map<?, ?> ymlContent = null;
+		try (FileReader fileReader = new FileReader(structureFile.toFile())) {
+			ymlContent = new Yaml().load(fileReader);
+		}
+		assertNotNull(ymlContent);
+		assertEquals(ARGVersion.ARG_VERSION, ymlContent.get(YmlARGStructure.ARG_STRUCTURE_VERSION_KEY));
+		assertTrue(((List<?>) ymlContent.get(YmlARGStructure.ARG_STRUCTURE_CHAPTERS_KEY)).isEmpty());
+	}
+
 	@Test
 	void test_generateStructure_Null() throws IOException, CredibilityException {
 		// Initialize
@@ -452,6 +584,46 @@ class ReportARGApplicationTest extends AbstractTestApplication {
 		assertEquals(4, parentSections.size()); // blank hyperlink should not be displayed
 	}
 
+	@Test
+	void test_generateSystemRequirementLine_WorkerThreadEntityManager() throws Exception {
+
+		// Data
+		Model model = TestEntityFactory.getNewModel(getDaoManager());
+		User user = TestEntityFactory.getNewUser(getDaoManager());
+		SystemRequirement sysRequirement = TestEntityFactory.getNewSystemRequirement(getDaoManager(), model, null,
+				user);
+		SystemRequirementParam parameterReq = TestEntityFactory.getNewSystemRequirementParam(getDaoManager(), model,
+				null);
+		parameterReq.setType(FormFieldType.SYSTEM_REQUIREMENT.getType());
+		SystemRequirementValue valueRequirement = TestEntityFactory.getNewSystemRequirementValue(getDaoManager(),
+				sysRequirement, parameterReq, user);
+		valueRequirement.setValue(sysRequirement.getId().toString());
+
+		// Test - read the requirement on a worker thread as the report generation job
+		ReportARGApplication reportArgApplication = new ReportARGApplication(getAppManager());
+		IDBManager dbManager = getDaoManager().getDbManager();
+		ExecutorService worker = Executors.newSingleThreadExecutor();
+		try {
+			Future<String> line = worker.submit(() -> {
+				dbManager.openThreadEntityManager();
+				try {
+					assertTrue(dbManager.hasThreadEntityManager());
+					return reportArgApplication.generateSystemRequirementLine(valueRequirement);
+				} finally {
+					dbManager.closeThreadEntityManager();
+				}
+			});
+
+			// Validate
+			assertEquals(reportArgApplication.generateLabelValue(parameterReq.getName(), sysRequirement.getStatement()),
+					line.get());
+			assertFalse(worker.submit(dbManager::hasThreadEntityManager).get());
+			assertFalse(dbManager.hasThreadEntityManager());
+		} finally {
+			worker.shutdownNow();
+		}
+	}
+
 	@Test
 	void test_generateGenericValues_Working_URL() throws CredibilityException {
 
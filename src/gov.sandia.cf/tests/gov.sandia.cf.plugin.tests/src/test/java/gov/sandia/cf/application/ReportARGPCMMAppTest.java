@@ -393,6 +393,41 @@ class ReportARGPCMMAppTest extends AbstractTestApplication {
 								.get(YmlARGStructure.ARG_STRUCTURE_HYPERLINK_PATH_KEY));
 	}
 
+	@Test
+	void test_generateStructurePCMM_Include_evidence_Elements_order() throws CredibilityException {
+
+		// construct database: more elements than generator threads
+		Model model = TestEntityFactory.getNewModel(getDaoManager());
+		List<PCMMElement> elements = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			PCMMElement newPCMMElement = TestEntityFactory.getNewPCMMElement(getDaoManager(), model);
+			newPCMMElement.setName("ELEMENT_" + i); //$NON-NLS-1$
+			elements.add(newPCMMElement);
+		}
+
+		// construct options
+		Map<ExportOptions, Object> options = new HashMap<>();
+		options.put(ExportOptions.PCMM_EVIDENCE_INCLUDE, true);
+		options.put(ExportOptions.PCMM_ELEMENTS, elements);
+		options.put(ExportOptions.PCMM_EVIDENCE_LIST, new HashMap<PCMMElement, List<PCMMEvidence>>());
+		options.put(ExportOptions.ARG_PARAMETERS,
+				getAppManager().getService(IReportARGExecutionApp.class).addDefaultARGParameters(null));
+		options.put(ExportOptions.PCMM_MODE, PCMMMode.SIMPLIFIED);
+		List<Map<String, Object>> chapters = new ArrayList<>();
+
+		// test
+		getAppManager().getService(IReportARGPCMMApp.class).generateStructurePCMM(chapters, options);
+
+		// validate: the element sections are in the elements order
+		assertEquals(1, chapters.size());
+		List<?> sections = (List<?>) chapters.get(0).get(YmlARGStructure.ARG_STRUCTURE_SECTIONS_KEY);
+		assertEquals(elements.size(), sections.size());
+		for (int i = 0; i < elements.size(); i++) {
+			assertEquals("ELEMENT_" + i + " (ABBREV)", //$NON-NLS-1$ //$NON-NLS-2$
+					((Map<?, ?>) sections.get(i)).get(YmlARGStructure.ARG_STRUCTURE_TITLE_KEY));
+		}
+	}
+
 	@Test
 	void test_generateStructurePCMM_Include_assessment_Empty() throws CredibilityException {
 
@@ -5,13 +5,21 @@ package gov.sandia.cf.dao;
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 
 import org.junit.jupiter.api.Test;
 
 import gov.sandia.cf.dao.CredibilityDaoRuntimeException.CredibilityDaoRuntimeMessage;
+import gov.sandia.cf.dao.hsqldb.HSQLDBDaoManager;
 import gov.sandia.cf.dao.impl.CriterionRepository;
+import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.exceptions.CredibilityServiceRuntimeException;
 import gov.sandia.cf.exceptions.CredibilityServiceRuntimeException.CredibilityServiceRuntimeMessage;
+import gov.sandia.cf.tools.FileTools;
 
 /**
  * Abstract DAO JUnit test class
@@ -86,4 +94,18 @@ class DaoManagerTest extends AbstractTestDao {
 		}
 	}
 
+	@Test
+	void test_backup() throws CredibilityException, IOException {
+		File backupFolder = Files.createTempDirectory("backup").toFile(); //$NON-NLS-1$
+		try {
+			getDaoManager().getDbManager().backup(backupFolder);
+
+			// the database files are copied and the database is still opened
+			File script = new File(backupFolder, HSQLDBDaoManager.DB_HSQLDB_DEFAULT_NAME + ".script"); //$NON-NLS-1$
+			assertTrue(script.exists());
+			assertNotNull(getDaoManager().getRepository(ICriterionRepository.class).findAll());
+		} finally {
+			FileTools.deleteDirectoryRecursively(backupFolder);
+		}
+	}
 }
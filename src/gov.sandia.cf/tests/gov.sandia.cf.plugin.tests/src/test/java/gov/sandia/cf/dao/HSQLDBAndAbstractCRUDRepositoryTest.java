@@ -4,11 +4,19 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 package gov.sandia.cf.dao;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
@@ -20,6 +28,8 @@ import org.slf4j.LoggerFactory;
 import gov.sandia.cf.dao.impl.ModelRepository;
 import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.Model;
+import gov.sandia.cf.model.query.EntityFilter;
+import gov.sandia.cf.model.query.NullParameter;
 
 /**
  * JUnit tests to check the abstract DAO and hsqldb connection and querying
@@ -117,4 +127,187 @@ class HSQLDBAndAbstractCRUDRepositoryTest extends AbstractTestDao {
 
 	}
 
+	@Test
+	void testThreadEntityManager() throws Exception {
+
+		// create
+		Model modelToCreate = new Model();
+		modelToCreate.setVersion("Version"); //$NON-NLS-1$
+		modelToCreate.setVersionOrigin("VersionOrigin"); //$NON-NLS-1$
+		modelToCreate.setApplication("Application"); //$NON-NLS-1$
+		modelToCreate.setContact("Test"); //$NON-NLS-1$
+		getRepository().create(modelToCreate);
+
+		IDBManager dbManager = getDaoManager().getDbManager();
+		assertFalse(dbManager.hasThreadEntityManager());
+
+		// read concurrently with thread entity managers
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<Boolean>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < 8; i++) {
+				futures.add(executor.submit(() -> {
+					dbManager.openThreadEntityManager();
+					try {
+						boolean hasOwn = dbManager.hasThreadEntityManager();
+						List<Model> models = getRepository().findAll();
+						return hasOwn && models.size() == 1 && !getRepository().getEntityManager().contains(modelToCreate);
+					} finally {
+						dbManager.closeThreadEntityManager();
+					}
+				}));
+			}
+			for (Future<Boolean> future : futures) {
+				assertTrue(future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		// nested opening
+		dbManager.openThreadEntityManager();
+		dbManager.openThreadEntityManager();
+		dbManager.closeThreadEntityManager();
+		assertTrue(dbManager.hasThreadEntityManager());
+		dbManager.closeThreadEntityManager();
+		assertFalse(dbManager.hasThreadEntityManager());
+
+		// the shared entity manager is used again
+		assertTrue(getRepository().getEntityManager().contains(modelToCreate));
+
+		// delete
+		getRepository().delete(modelToCreate);
+	}
+
+	@Test
+	void testBatchCRUD() throws CredibilityException {
+
+		// create all
+		List<Model> modelsToCreate = new ArrayList<>();
+		for (int i = 0; i < AbstractCRUDRepository.BATCH_FLUSH_SIZE + 5; i++) {
+			Model model = new Model();
+			model.setVersion("Version"); //$NON-NLS-1$
+			model.setVersionOrigin("VersionOrigin"); //$NON-NLS-1$
+			model.setApplication("Application" + i); //$NON-NLS-1$
+			model.setContact("Test"); //$NON-NLS-1$
+			modelsToCreate.add(model);
+		}
+		List<Model> created = getRepository().createAll(modelsToCreate);
+		assertEquals(modelsToCreate.size(), created.size());
+		created.forEach(model -> assertNotNull(model.getId()));
+		assertEquals(modelsToCreate.size(), getRepository().findAll().size());
+
+		// update all
+		created.forEach(model -> model.setContact("Updated")); //$NON-NLS-1$
+		List<Model> updated = getRepository().updateAll(created);
+		assertEquals(created.size(), updated.size());
+		getRepository().findAll().forEach(model -> assertEquals("Updated", model.getContact())); //$NON-NLS-1$
+
+		// delete all
+		getRepository().deleteAll(updated);
+		assertTrue(getRepository().findAll().isEmpty());
+
+		// empty lists
+		assertTrue(getRepository().createAll(new ArrayList<>()).isEmpty());
+		assertTrue(getRepository().updateAll(null).isEmpty());
+		getRepository().deleteAll(null);
+	}
+
+	@Test
+	void testFindByQueryPlanCache() throws CredibilityException {
+
+		ModelRepository repository = getRepository();
+
+		// create
+		Model model1 = new Model();
+		model1.setVersion("Version"); //$NON-NLS-1$
+		model1.setApplication("Application1"); //$NON-NLS-1$
+		model1.setContact("Contact"); //$NON-NLS-1$
+		model1 = repository.create(model1);
+		Model model2 = new Model();
+		model2.setVersion("Version"); //$NON-NLS-1$
+		model2.setApplication("Application2"); //$NON-NLS-1$
+		model2 = repository.create(model2);
+
+		// first query: the plan is built
+		Map<EntityFilter, Object> filters = new HashMap<>();
+		filters.put(Model.Filter.APPLICATION, "Application1"); //$NON-NLS-1$
+		List<Model> found = repository.findBy(filters);
+		assertEquals(1, found.size());
+		assertEquals(model1, found.get(0));
+		assertEquals(0, repository.getQueryPlanCache().getHitCount());
+		assertEquals(1, repository.getQueryPlanCache().getMissCount());
+
+		// same plan with another value: the plan is reused
+		filters.put(Model.Filter.APPLICATION, "Application2"); //$NON-NLS-1$
+		found = repository.findBy(filters);
+		assertEquals(1, found.size());
+		assertEquals(model2, found.get(0));
+		assertEquals(1, repository.getQueryPlanCache().getHitCount());
+		assertEquals(1, repository.getQueryPlanCache().getMissCount());
+
+		// null value: another plan
+		filters.put(Model.Filter.CONTACT, NullParameter.NULL);
+		found = repository.findBy(filters);
+		assertEquals(1, found.size());
+		assertEquals(model2, found.get(0));
+		assertEquals(2, repository.getQueryPlanCache().getMissCount());
+
+		// order on several fields
+		Map<EntityFilter, String> order = new LinkedHashMap<>();
+		order.put(Model.Filter.CONTACT, "DESC"); //$NON-NLS-1$
+		order.put(Model.Filter.APPLICATION, null);
+		found = repository.findBy(null, order);
+		assertEquals(2, found.size());
+		found = repository.findBy(new HashMap<>(), order);
+		assertEquals(2, found.size());
+		assertEquals(3, repository.getQueryPlanCache().size());
+		assertEquals(2, repository.getQueryPlanCache().getHitCount());
+
+		// the plans are registered in the entity manager factory: another repository
+		// reuses the named query without building the query again
+		ModelRepository otherRepository = getRepository();
+		assertEquals(2, otherRepository.findBy(null, order).size());
+		assertEquals(1, otherRepository.getQueryPlanCache().getHitCount());
+		assertEquals(0, otherRepository.getQueryPlanCache().getMissCount());
+
+		// a new plan is registered for the other repositories
+		assertEquals(2, otherRepository.findBy(null).size());
+		assertEquals(1, otherRepository.getQueryPlanCache().getMissCount());
+		assertEquals(2, repository.findBy(new HashMap<>()).size());
+		assertEquals(3, repository.getQueryPlanCache().getHitCount());
+		assertEquals(3, repository.getQueryPlanCache().getMissCount());
+
+		// clear
+		repository.delete(model1);
+		repository.delete(model2);
+	}
+
+	@Test
+	void testFindByQueryPlanCache_InTransaction() {
+
+		ModelRepository repository = getRepository();
+		EntityManager entityManager = getDaoManager().getEntityManager();
+
+		entityManager.getTransaction().begin();
+
+		Model model = new Model();
+		model.setVersion("Version"); //$NON-NLS-1$
+		model.setApplication("Application"); //$NON-NLS-1$
+		entityManager.persist(model);
+
+		// a new plan built in the transaction does not mark it as rollback only
+		Map<EntityFilter, Object> filters = new HashMap<>();
+		filters.put(Model.Filter.APPLICATION, "Application"); //$NON-NLS-1$
+		assertEquals(1, repository.findBy(filters).size());
+		assertEquals(1, repository.getQueryPlanCache().getMissCount());
+		assertEquals(1, getRepository().findBy(filters).size());
+		assertFalse(entityManager.getTransaction().getRollbackOnly());
+
+		entityManager.getTransaction().commit();
+		assertEquals(1, repository.findAll().size());
+
+		// clear
+		repository.delete(model);
+	}
 }
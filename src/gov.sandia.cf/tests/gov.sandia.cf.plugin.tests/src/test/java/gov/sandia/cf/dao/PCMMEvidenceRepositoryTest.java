@@ -211,6 +211,65 @@ class PCMMEvidenceRepositoryTest extends AbstractTestRepository<PCMMEvidence, In
 		}
 	}
 
+	@Test
+	void testFindByTagCopyOnWrite() throws CredibilityException {
+
+		// create user
+		User defaultUser = TestEntityFactory.getNewUser(getDaoManager());
+		assertNotNull(defaultUser);
+
+		// create role
+		Role defaultRole = TestEntityFactory.getNewRole(getDaoManager());
+		assertNotNull(defaultRole);
+
+		// create current evidence
+		PCMMEvidence evidence = new PCMMEvidence();
+		evidence.setDateCreation(new Date());
+		evidence.setName("Name"); //$NON-NLS-1$
+		evidence.setFilePath("/Paht/fff"); //$NON-NLS-1$
+		evidence.setRoleCreation(defaultRole);
+		evidence.setUserCreation(defaultUser);
+		PCMMEvidence addedEvidence = getRepository().create(evidence);
+		assertNotNull(addedEvidence.getTagVersion());
+
+		// create copy-on-write tag
+		Tag tag = new Tag();
+		tag.setName("My_Tag"); //$NON-NLS-1$
+		tag.setDateTag(new Date());
+		tag.setUserCreation(defaultUser);
+		tag.setVersionNumber(addedEvidence.getTagVersion());
+		Tag createdTag = getDaoManager().getRepository(ITagRepository.class).create(tag);
+
+		// the current evidence is shared with the tag
+		List<PCMMEvidence> foundList = getRepository().findByTag(createdTag);
+		assertTrue(foundList.contains(addedEvidence));
+		assertTrue(getRepository().findCopiesByTag(createdTag).isEmpty());
+
+		// the update copies the evidence into the tag
+		addedEvidence.setName("Name_Updated"); //$NON-NLS-1$
+		PCMMEvidence updatedEvidence = getRepository().update(addedEvidence);
+		assertEquals(createdTag.getVersionNumber() + 1, (int) updatedEvidence.getTagVersion());
+
+		List<PCMMEvidence> copies = getRepository().findCopiesByTag(createdTag);
+		assertEquals(1, copies.size());
+		assertEquals("Name", copies.get(0).getName()); //$NON-NLS-1$
+		assertEquals(createdTag, copies.get(0).getTag());
+
+		foundList = getRepository().findByTag(createdTag);
+		assertFalse(foundList.contains(updatedEvidence));
+		assertTrue(foundList.contains(copies.get(0)));
+
+		// the second update does not copy again
+		updatedEvidence.setName("Name_Updated_Twice"); //$NON-NLS-1$
+		updatedEvidence = getRepository().update(updatedEvidence);
+		assertEquals(1, getRepository().findCopiesByTag(createdTag).size());
+
+		// Clear
+		getRepository().deleteAll(copies);
+		getRepository().delete(updatedEvidence);
+		getDaoManager().getRepository(ITagRepository.class).delete(createdTag);
+	}
+
 	@Test
 	void testFindByTagTagNull() {
 
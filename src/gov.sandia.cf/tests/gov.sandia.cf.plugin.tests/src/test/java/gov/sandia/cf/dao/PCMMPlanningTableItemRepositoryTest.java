@@ -4,6 +4,7 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 package gov.sandia.cf.dao;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -15,10 +16,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import gov.sandia.cf.dao.impl.PCMMPlanningTableItemRepository;
+import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.Model;
 import gov.sandia.cf.model.PCMMElement;
 import gov.sandia.cf.model.PCMMPlanningParam;
 import gov.sandia.cf.model.PCMMPlanningTableItem;
+import gov.sandia.cf.model.PCMMPlanningTableValue;
 import gov.sandia.cf.model.PCMMSubelement;
 import gov.sandia.cf.model.Tag;
 import gov.sandia.cf.tests.TestEntityFactory;
@@ -130,6 +133,55 @@ class PCMMPlanningTableItemRepositoryTest
 		assertEquals(2, findByElementInSubelement.size());
 	}
 
+	@Test
+	void testfindByElementInSubelement_CopyOnWrite() throws CredibilityException {
+
+		// construct data
+		Model newModel = TestEntityFactory.getNewModel(getDaoManager());
+		PCMMElement newPCMMElement = TestEntityFactory.getNewPCMMElement(getDaoManager(), newModel);
+		PCMMSubelement newPCMMSubelement = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), newPCMMElement);
+		PCMMPlanningParam newPCMMPlanningParam = TestEntityFactory.getNewPCMMPlanningParam(getDaoManager(), newModel);
+		PCMMPlanningTableItem item = TestEntityFactory.getNewPCMMPlanningTableItem(getDaoManager(),
+				newPCMMPlanningParam, newPCMMSubelement, null, null);
+		PCMMPlanningTableValue value1 = TestEntityFactory.getNewPCMMPlanningTableValue(getDaoManager(),
+				newPCMMPlanningParam, item, null);
+		TestEntityFactory.getNewPCMMPlanningTableValue(getDaoManager(), newPCMMPlanningParam, item, null);
+		getRepository().refresh(item);
+		assertNotNull(item.getTagVersion());
+
+		// create copy-on-write tag
+		Tag tag = new Tag();
+		tag.setName("My_Tag"); //$NON-NLS-1$
+		tag.setDateTag(new Date());
+		tag.setUserCreation(item.getUserCreation());
+		tag.setVersionNumber(item.getTagVersion());
+		Tag createdTag = getDaoManager().getRepository(ITagRepository.class).create(tag);
+
+		// the current item is shared with the tag
+		List<PCMMPlanningTableItem> foundList = getRepository().findByElementInSubelement(newPCMMElement, createdTag);
+		assertEquals(1, foundList.size());
+		assertEquals(item, foundList.get(0));
+
+		// the update of a value copies the item and its values into the tag
+		value1.setValue("Updated"); //$NON-NLS-1$
+		getDaoManager().getRepository(IPCMMPlanningTableValueRepository.class).update(value1);
+		assertEquals(createdTag.getVersionNumber() + 1, (int) item.getTagVersion());
+
+		foundList = getRepository().findByElementInSubelement(newPCMMElement, createdTag);
+		assertEquals(1, foundList.size());
+		PCMMPlanningTableItem copy = foundList.get(0);
+		assertFalse(item.equals(copy));
+		assertEquals(createdTag, copy.getTag());
+		assertEquals(2, copy.getValueList().size());
+		assertTrue(copy.getValueList().stream().allMatch(v -> "Question answer".equals(v.getValue()))); //$NON-NLS-1$
+		assertEquals(item, getRepository().findByElementInSubelement(newPCMMElement, null).get(0));
+
+		// the second update does not copy again
+		value1.setValue("Updated_Twice"); //$NON-NLS-1$
+		getDaoManager().getRepository(IPCMMPlanningTableValueRepository.class).update(value1);
+		assertEquals(1, getRepository().findByElementInSubelement(newPCMMElement, createdTag).size());
+	}
+
 	@Test
 	void testfindByElementInSubelement_ElementNull() {
 
@@ -4,6 +4,7 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 package gov.sandia.cf.dao;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -15,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import gov.sandia.cf.dao.impl.PCMMPlanningValueRepository;
+import gov.sandia.cf.exceptions.CredibilityException;
 import gov.sandia.cf.model.Model;
 import gov.sandia.cf.model.PCMMElement;
 import gov.sandia.cf.model.PCMMPlanningParam;
@@ -127,6 +129,53 @@ class PCMMPlanningValueRepositoryTest
 		assertEquals(2, findByElementInSubelement.size());
 	}
 
+	@Test
+	void testfindByElementInSubelement_CopyOnWrite() throws CredibilityException {
+
+		// construct data
+		Model newModel = TestEntityFactory.getNewModel(getDaoManager());
+		PCMMElement newPCMMElement = TestEntityFactory.getNewPCMMElement(getDaoManager(), newModel);
+		PCMMSubelement newPCMMSubelement = TestEntityFactory.getNewPCMMSubelement(getDaoManager(), newPCMMElement);
+		PCMMPlanningParam newPCMMPlanningParam = TestEntityFactory.getNewPCMMPlanningParam(getDaoManager(), newModel);
+		PCMMPlanningValue value = TestEntityFactory.getNewPCMMPlanningValue(getDaoManager(), newPCMMPlanningParam,
+				newPCMMSubelement, null, null);
+		assertNotNull(value.getTagVersion());
+
+		// create copy-on-write tag
+		Tag tag = new Tag();
+		tag.setName("My_Tag"); //$NON-NLS-1$
+		tag.setDateTag(new Date());
+		tag.setUserCreation(value.getUserCreation());
+		tag.setVersionNumber(value.getTagVersion());
+		Tag createdTag = getDaoManager().getRepository(ITagRepository.class).create(tag);
+
+		// the current value is shared with the tag
+		List<PCMMPlanningValue> foundList = getRepository().findByElementInSubelement(newPCMMElement, createdTag);
+		assertEquals(1, foundList.size());
+		assertEquals(value, foundList.get(0));
+
+		// the update copies the value into the tag
+		value.setValue("Updated"); //$NON-NLS-1$
+		PCMMPlanningValue updatedValue = getRepository().update(value);
+		assertEquals(createdTag.getVersionNumber() + 1, (int) updatedValue.getTagVersion());
+
+		foundList = getRepository().findByElementInSubelement(newPCMMElement, createdTag);
+		assertEquals(1, foundList.size());
+		assertFalse(foundList.contains(updatedValue));
+		assertEquals(createdTag, foundList.get(0).getTag());
+		assertEquals("Question answer", foundList.get(0).getValue()); //$NON-NLS-1$
+
+		// the second update does not copy again
+		updatedValue.setValue("Updated_Twice"); //$NON-NLS-1$
+		updatedValue = getRepository().update(updatedValue);
+		assertEquals(1, getRepository().findByElementInSubelement(newPCMMElement, createdTag).size());
+
+		// the deletion of the current value keeps the tagged copy
+		getRepository().delete(updatedValue);
+		assertTrue(getRepository().findByElementInSubelement(newPCMMElement, null).isEmpty());
+		assertEquals(1, getRepository().findByElementInSubelement(newPCMMElement, createdTag).size());
+	}
+
 	@Test
 	void testfindByElementInSubelement_ElementNull() {
 
@@ -245,7 +245,7 @@ class CFTmpFolderManagerTest {
 		Files.createFile(credibilityLogFile.toPath());
 
 		// save to zip
-		cfTmpMgr.saveToZip();
+		cfTmpMgr.saveToZip(cfTmpMgr.getCurrentDatabaseFolder());
 
 		File inputFile = WorkspaceTools.toFile(newFile);
 		assertTrue(inputFile.exists());
@@ -299,7 +299,7 @@ class CFTmpFolderManagerTest {
 		Files.createFile(credibilityLogFile.toPath());
 
 		// save to zip
-		cfTmpMgr.saveToZip();
+		cfTmpMgr.saveToZip(cfTmpMgr.getCurrentDatabaseFolder());
 
 		File inputFile = WorkspaceTools.toFile(newFile);
 		assertTrue(inputFile.exists());
@@ -0,0 +1,47 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class OutputRingBufferTest.
+ *
+ * @author Didier Verstraete
+ */
+class OutputRingBufferTest {
+
+	@Test
+	void test_accept_UnderLimit() {
+		OutputRingBuffer buffer = new OutputRingBuffer(100);
+		buffer.accept("line1"); //$NON-NLS-1$
+		buffer.accept("line2"); //$NON-NLS-1$
+
+		StringBuilder builder = new StringBuilder();
+		buffer.appendTo(builder);
+
+		assertEquals(0, buffer.getDroppedLines());
+		assertEquals("line1" + RscTools.CARRIAGE_RETURN + "line2" + RscTools.CARRIAGE_RETURN, //$NON-NLS-1$ //$NON-NLS-2$
+				builder.toString());
+	}
+
+	@Test
+	void test_accept_OverLimitKeepLastLines() {
+		OutputRingBuffer buffer = new OutputRingBuffer(10);
+		for (int i = 0; i < 10; i++) {
+			buffer.accept("line" + i); //$NON-NLS-1$
+		}
+
+		StringBuilder builder = new StringBuilder();
+		buffer.appendTo(builder);
+
+		assertEquals(8, buffer.getDroppedLines());
+		assertTrue(builder.toString().startsWith("[CF] 8 lines truncated...")); //$NON-NLS-1$
+		assertTrue(builder.toString().endsWith("line8" + RscTools.CARRIAGE_RETURN + "line9" //$NON-NLS-1$ //$NON-NLS-2$
+				+ RscTools.CARRIAGE_RETURN));
+	}
+}
@@ -3,13 +3,14 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.tools;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -25,39 +26,82 @@ import gov.sandia.cf.exceptions.CredibilityException;
 class RuntimeToolsTest {
 
 	@Test
-	void test_processBuilder_execSync() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+	void test_execSync()
+			throws IOException, InterruptedException, ExecutionException, TimeoutException, CredibilityException {
 		ProcessBuilder builder = new ProcessBuilder();
 		if (SystemTools.isWindows()) {
 			builder.command("cmd.exe", "/c", "dir"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		} else {
 			builder.command("sh", "-c", "ls"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		}
-		Process process = builder.start();
-		StringBuilder strBuilder = new StringBuilder();
-		StreamGobbler streamGobbler = new StreamGobbler(process.getInputStream(), strBuilder::append);
-		Future<?> future = Executors.newSingleThreadExecutor().submit(streamGobbler);
-		int exitCode = process.waitFor();
-		assert exitCode == 0;
-		future.get(10, TimeUnit.SECONDS);
-
-		assertTrue(strBuilder.length() > 0);
+		StringBuilder infoLog = new StringBuilder();
+		StringBuilder errorLog = new StringBuilder();
+
+		RuntimeTools.execute(errorLog, infoLog, builder, new NullProgressMonitor());
+
+		assertTrue(infoLog.length() > 0);
+		assertTrue(errorLog.length() <= 0);
 	}
 
 	@Test
-	void test_execSync()
-			throws IOException, InterruptedException, ExecutionException, TimeoutException, CredibilityException {
+	void test_execSync_Console() throws CredibilityException {
 		ProcessBuilder builder = new ProcessBuilder();
 		if (SystemTools.isWindows()) {
-			builder.command("cmd.exe", "/c", "dir"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			builder.command("cmd.exe", "/c", "echo out& echo err 1>&2"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		} else {
-			builder.command("sh", "-c", "ls"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			builder.command("sh", "-c", "echo out; echo err 1>&2"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		}
 		StringBuilder infoLog = new StringBuilder();
 		StringBuilder errorLog = new StringBuilder();
+		List<String> console = Collections.synchronizedList(new ArrayList<>());
 
-		RuntimeTools.execute(errorLog, infoLog, builder, new NullProgressMonitor());
+		int returnCode = RuntimeTools.execute(errorLog, infoLog, builder, ProcessExecutor.NO_TIMEOUT, console::add,
+				new NullProgressMonitor());
 
-		assertTrue(infoLog.length() > 0);
-		assertTrue(errorLog.length() <= 0);
+		assertEquals(RuntimeTools.OK_CODE, returnCode);
+		assertEquals(2, console.size());
+		assertTrue(console.stream().anyMatch(line -> line.trim().equals("out"))); //$NON-NLS-1$
+		assertTrue(console.stream().anyMatch(line -> line.trim().equals("err"))); //$NON-NLS-1$
+		assertTrue(errorLog.toString().contains("err")); //$NON-NLS-1$
+	}
+
+	@Test
+	void test_execSync_Timeout() throws CredibilityException {
+		ProcessBuilder builder = getSleepBuilder();
+		StringBuilder infoLog = new StringBuilder();
+		StringBuilder errorLog = new StringBuilder();
+
+		long start = System.currentTimeMillis();
+		int returnCode = RuntimeTools.execute(errorLog, infoLog, builder, 500, new NullProgressMonitor());
+
+		assertEquals(ProcessExecutor.INTERRUPTED_CODE, returnCode);
+		assertTrue(System.currentTimeMillis() - start < 10000);
+		assertTrue(errorLog.length() > 0);
+	}
+
+	@Test
+	void test_execSync_Cancelled() throws CredibilityException {
+		ProcessBuilder builder = getSleepBuilder();
+		StringBuilder infoLog = new StringBuilder();
+		StringBuilder errorLog = new StringBuilder();
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+
+		long start = System.currentTimeMillis();
+		int returnCode = RuntimeTools.execute(errorLog, infoLog, builder, monitor);
+
+		assertEquals(ProcessExecutor.INTERRUPTED_CODE, returnCode);
+		assertTrue(System.currentTimeMillis() - start < 10000);
+		assertTrue(errorLog.length() > 0);
+	}
+
+	private static ProcessBuilder getSleepBuilder() {
+		ProcessBuilder builder = new ProcessBuilder();
+		if (SystemTools.isWindows()) {
+			builder.command("cmd.exe", "/c", "ping -n 30 127.0.0.1"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		} else {
+			builder.command("sh", "-c", "sleep 30"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		return builder;
 	}
 }
@@ -0,0 +1,201 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.tools;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.rules.TemporaryFolder;
+
+import gov.sandia.cf.exceptions.CredibilityException;
+
+/**
+ * The Class ZipArchiveWriterTest.
+ *
+ * @author Didier Verstraete
+ */
+class ZipArchiveWriterTest {
+
+	/**
+	 * temporary folder to store files
+	 */
+	@Rule
+	public static final TemporaryFolder TEMP_FOLDER = new TemporaryFolder();
+
+	private static final String TEXT_FILE = "text.txt"; //$NON-NLS-1$
+	private static final String IMAGE_FILE = "image.png"; //$NON-NLS-1$
+	private static final String DATA_DIR = "data"; //$NON-NLS-1$
+	private static final String SCRIPT_FILE = "cf.script"; //$NON-NLS-1$
+	private static final String CF_FILE = "test.cf"; //$NON-NLS-1$
+
+	private File folder;
+
+	@BeforeAll
+	static void initializeAll() throws IOException {
+		TEMP_FOLDER.create();
+	}
+
+	@AfterAll
+	static void cleanAll() {
+		TEMP_FOLDER.delete();
+	}
+
+	@BeforeEach
+	void initialize() throws IOException {
+		folder = TEMP_FOLDER.newFolder();
+	}
+
+	@Test
+	void testWrite_ContentAndMethods() throws IOException {
+
+		File text = write(new File(folder, TEXT_FILE), repeat("text content ", 1000)); //$NON-NLS-1$
+		File image = write(new File(folder, IMAGE_FILE), "not really a png"); //$NON-NLS-1$
+		File dataFolder = new File(folder, "data123"); //$NON-NLS-1$
+		assertTrue(dataFolder.mkdir());
+		write(new File(dataFolder, SCRIPT_FILE), repeat("INSERT INTO TABLE VALUES(1);\n", 500)); //$NON-NLS-1$
+
+		Map<String, File> sources = new LinkedHashMap<>();
+		sources.put(TEXT_FILE, text);
+		sources.put(IMAGE_FILE, image);
+		sources.put(DATA_DIR, dataFolder);
+		File cfFile = new File(folder, CF_FILE);
+		new ZipArchiveWriter().write(sources, cfFile);
+
+		try (ZipFile zip = new ZipFile(cfFile)) {
+			assertEquals(4, zip.size());
+			assertEquals(ZipEntry.DEFLATED, zip.getEntry(TEXT_FILE).getMethod());
+			assertEquals(ZipEntry.STORED, zip.getEntry(IMAGE_FILE).getMethod());
+			assertTrue(zip.getEntry(DATA_DIR + ZipTools.DIRECTORY_SUFFIX).isDirectory());
+			assertArrayEquals(Files.readAllBytes(text.toPath()), read(zip, TEXT_FILE));
+			assertArrayEquals(Files.readAllBytes(image.toPath()), read(zip, IMAGE_FILE));
+			assertArrayEquals(Files.readAllBytes(new File(dataFolder, SCRIPT_FILE).toPath()),
+					read(zip, DATA_DIR + ZipTools.DIRECTORY_SUFFIX + SCRIPT_FILE));
+		}
+
+		// no temporary file left
+		assertEquals(4, folder.list().length);
+	}
+
+	@Test
+	void testWrite_UnchangedEntriesReused() throws IOException {
+
+		File text = write(new File(folder, TEXT_FILE), repeat("unchanged ", 2000)); //$NON-NLS-1$
+		File script = write(new File(folder, SCRIPT_FILE), repeat("changed ", 2000)); //$NON-NLS-1$
+
+		// previous archive without compression level
+		File cfFile = new File(folder, CF_FILE);
+		try (ZipOutputStream zipOut = new ZipOutputStream(new FileOutputStream(cfFile))) {
+			zipOut.setLevel(Deflater.NO_COMPRESSION);
+			for (File file : new File[] { text, script }) {
+				zipOut.putNextEntry(new ZipEntry(file.getName()));
+				zipOut.write(Files.readAllBytes(file.toPath()));
+				zipOut.closeEntry();
+			}
+		}
+		long previousTextSize;
+		try (ZipFile zip = new ZipFile(cfFile)) {
+			previousTextSize = zip.getEntry(TEXT_FILE).getCompressedSize();
+		}
+
+		// change one file
+		write(script, repeat("changed again ", 2000)); //$NON-NLS-1$
+
+		Map<String, File> sources = new LinkedHashMap<>();
+		sources.put(TEXT_FILE, text);
+		sources.put(SCRIPT_FILE, script);
+		new ZipArchiveWriter().write(sources, cfFile);
+
+		try (ZipFile zip = new ZipFile(cfFile)) {
+			// the unchanged entry is copied, the changed one is compressed again
+			assertEquals(previousTextSize, zip.getEntry(TEXT_FILE).getCompressedSize());
+			assertNotEquals(zip.getEntry(SCRIPT_FILE).getSize(), zip.getEntry(SCRIPT_FILE).getCompressedSize());
+			assertArrayEquals(Files.readAllBytes(text.toPath()), read(zip, TEXT_FILE));
+			assertArrayEquals(Files.readAllBytes(script.toPath()), read(zip, SCRIPT_FILE));
+		}
+	}
+
+	@Test
+	void testWrite_ReplaceFileNotZip() throws IOException {
+
+		File text = write(new File(folder, TEXT_FILE), "content"); //$NON-NLS-1$
+		File cfFile = write(new File(folder, CF_FILE), "not a zip"); //$NON-NLS-1$
+
+		Map<String, File> sources = new LinkedHashMap<>();
+		sources.put(TEXT_FILE, text);
+		new ZipArchiveWriter().write(sources, cfFile);
+
+		try (ZipFile zip = new ZipFile(cfFile)) {
+			assertNotNull(zip.getEntry(TEXT_FILE));
+			assertArrayEquals(Files.readAllBytes(text.toPath()), read(zip, TEXT_FILE));
+		}
+	}
+
+	@Test
+	void testWrite_Unzip() throws IOException, CredibilityException {
+
+		File text = write(new File(folder, TEXT_FILE), repeat("content ", 100)); //$NON-NLS-1$
+		File image = write(new File(folder, IMAGE_FILE), "stored content"); //$NON-NLS-1$
+		File dataFolder = new File(folder, "data123"); //$NON-NLS-1$
+		assertTrue(dataFolder.mkdir());
+		File script = write(new File(dataFolder, SCRIPT_FILE), repeat("script ", 100)); //$NON-NLS-1$
+
+		Map<String, File> sources = new LinkedHashMap<>();
+		sources.put(TEXT_FILE, text);
+		sources.put(IMAGE_FILE, image);
+		sources.put(DATA_DIR, dataFolder);
+		File cfFile = new File(folder, CF_FILE);
+		new ZipArchiveWriter().write(sources, cfFile);
+
+		File unzipFolder = new File(folder, "unzip"); //$NON-NLS-1$
+		assertTrue(unzipFolder.mkdir());
+		ZipTools.unzip(cfFile, unzipFolder);
+
+		assertArrayEquals(Files.readAllBytes(text.toPath()),
+				Files.readAllBytes(new File(unzipFolder, TEXT_FILE).toPath()));
+		assertArrayEquals(Files.readAllBytes(image.toPath()),
+				Files.readAllBytes(new File(unzipFolder, IMAGE_FILE).toPath()));
+		assertArrayEquals(Files.readAllBytes(script.toPath()),
+				Files.readAllBytes(new File(new File(unzipFolder, DATA_DIR), SCRIPT_FILE).toPath()));
+	}
+
+	private static File write(File file, String content) throws IOException {
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private static String repeat(String value, int count) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			builder.append(value);
+		}
+		return builder.toString();
+	}
+
+	private static byte[] read(ZipFile zip, String name) throws IOException {
+		try (InputStream in = zip.getInputStream(zip.getEntry(name))) {
+			return in.readAllBytes();
+		}
+	}
+}
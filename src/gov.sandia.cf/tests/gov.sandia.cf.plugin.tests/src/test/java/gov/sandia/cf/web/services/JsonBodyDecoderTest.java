@@ -0,0 +1,83 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.web.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import gov.sandia.cf.model.dto.ModelDto;
+import gov.sandia.cf.tools.GsonTools;
+import reactor.core.publisher.Flux;
+
+/**
+ * The Class JsonBodyDecoderTest.
+ *
+ * @author Didier Verstraete
+ */
+class JsonBodyDecoderTest {
+
+	/**
+	 * @param chunks the body chunks
+	 * @return the body received as data buffers
+	 */
+	private static Flux<DataBuffer> body(String... chunks) {
+		return Flux.fromArray(chunks)
+				.map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	void test_decode_SplitBody() {
+		ModelDto dto = JsonBodyDecoder.decode(
+				body("{\"id\":1,\"appli", "cation\":\"App\",\"contact\":\"Me\",\"unknown\":{\"a\":[1]},", //$NON-NLS-1$ //$NON-NLS-2$
+						"\"entityVersion\":4}"), //$NON-NLS-1$
+				ModelDto.class);
+
+		assertEquals(Integer.valueOf(1), dto.getId());
+		assertEquals("App", dto.getApplication()); //$NON-NLS-1$
+		assertEquals("Me", dto.getContact()); //$NON-NLS-1$
+		assertEquals(Long.valueOf(4), dto.getEntityVersion());
+	}
+
+	@Test
+	void test_decode_EmptyBody() {
+		assertNull(JsonBodyDecoder.decode(Flux.empty(), ModelDto.class));
+	}
+
+	@Test
+	void test_decodeList_ElementByElement() {
+		List<ModelDto> models = new ArrayList<>();
+		int count = JsonBodyDecoder.decodeList(body("[{\"id\":1,\"application\":\"A\"},{\"id\":2,", //$NON-NLS-1$
+				"\"application\":null}]"), ModelDto.class, models::add); //$NON-NLS-1$
+
+		assertEquals(2, count);
+		assertEquals(2, models.size());
+		assertEquals("A", models.get(0).getApplication()); //$NON-NLS-1$
+		assertEquals(Integer.valueOf(2), models.get(1).getId());
+		assertNull(models.get(1).getApplication());
+	}
+
+	@Test
+	void test_decode_ResponseError() {
+		Flux<DataBuffer> body = body("{\"id\":").concatWith(Flux.error(new IllegalStateException("error"))); //$NON-NLS-1$ //$NON-NLS-2$
+		assertThrows(IllegalStateException.class, () -> JsonBodyDecoder.decode(body, ModelDto.class));
+	}
+
+	@Test
+	void test_modelDtoAdapter_NullFieldsNotWritten() {
+		ModelDto dto = new ModelDto();
+		dto.setId(3);
+		dto.setApplication("App"); //$NON-NLS-1$
+
+		assertEquals("{\"id\":3,\"application\":\"App\"}", GsonTools.toGson(dto)); //$NON-NLS-1$
+	}
+}
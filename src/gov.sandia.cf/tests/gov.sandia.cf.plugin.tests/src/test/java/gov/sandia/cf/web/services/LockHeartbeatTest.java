@@ -0,0 +1,115 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.web.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import gov.sandia.cf.exceptions.CredibilityException;
+
+/**
+ * The Class LockHeartbeatTest.
+ *
+ * @author Didier Verstraete
+ */
+class LockHeartbeatTest {
+
+	private static final Duration PERIOD = Duration.ofMillis(20);
+
+	private static final Duration EXPIRATION = Duration.ofMillis(200);
+
+	private static final Duration RETRY_DELAY = Duration.ofMillis(5);
+
+	@Test
+	void test_renew_periodically() throws InterruptedException {
+		CountDownLatch renewals = new CountDownLatch(3);
+		CompletableFuture<Exception> lost = new CompletableFuture<>();
+
+		LockHeartbeat heartbeat = new LockHeartbeat(renewals::countDown, PERIOD, EXPIRATION, RETRY_DELAY,
+				lost::complete);
+		try {
+			assertTrue(renewals.await(5, TimeUnit.SECONDS));
+			assertFalse(lost.isDone());
+		} finally {
+			heartbeat.stop();
+		}
+	}
+
+	@Test
+	void test_renew_retryAfterFailure() throws InterruptedException {
+		AtomicInteger attempts = new AtomicInteger();
+		CountDownLatch renewals = new CountDownLatch(2);
+		CompletableFuture<Exception> lost = new CompletableFuture<>();
+
+		// the first two attempts fail, the lock is renewed before its expiration
+		LockHeartbeat heartbeat = new LockHeartbeat(() -> {
+			if (attempts.incrementAndGet() <= 2) {
+				throw new CredibilityException("Server unavailable"); //$NON-NLS-1$
+			}
+			renewals.countDown();
+		}, PERIOD, EXPIRATION, RETRY_DELAY, lost::complete);
+		try {
+			assertTrue(renewals.await(5, TimeUnit.SECONDS));
+			assertFalse(lost.isDone());
+			assertTrue(attempts.get() >= 4);
+		} finally {
+			heartbeat.stop();
+		}
+	}
+
+	@Test
+	void test_renew_lostAfterExpiration() throws InterruptedException, ExecutionException, TimeoutException {
+		AtomicInteger attempts = new AtomicInteger();
+		CompletableFuture<Exception> lost = new CompletableFuture<>();
+
+		long start = System.nanoTime();
+		new LockHeartbeat(() -> {
+			attempts.incrementAndGet();
+			throw new CredibilityException("Server unavailable"); //$NON-NLS-1$
+		}, PERIOD, EXPIRATION, RETRY_DELAY, lost::complete);
+
+		Exception error = lost.get(5, TimeUnit.SECONDS);
+		assertNotNull(error);
+		assertEquals("Server unavailable", error.getMessage()); //$NON-NLS-1$
+		assertTrue(System.nanoTime() - start >= EXPIRATION.toNanos());
+		assertTrue(attempts.get() > 1);
+
+		// stopped: no more attempt
+		int count = attempts.get();
+		Thread.sleep(PERIOD.multipliedBy(3).toMillis());
+		assertEquals(count, attempts.get());
+	}
+
+	@Test
+	void test_stop() throws InterruptedException {
+		AtomicInteger attempts = new AtomicInteger();
+
+		LockHeartbeat heartbeat = new LockHeartbeat(attempts::incrementAndGet, PERIOD, EXPIRATION, RETRY_DELAY,
+				null);
+		heartbeat.stop();
+
+		Thread.sleep(PERIOD.multipliedBy(3).toMillis());
+		assertEquals(0, attempts.get());
+	}
+
+	@Test
+	void test_getRetryDelay() {
+		assertEquals(RETRY_DELAY, LockHeartbeat.getRetryDelay(RETRY_DELAY, PERIOD, 1));
+		assertEquals(Duration.ofMillis(10), LockHeartbeat.getRetryDelay(RETRY_DELAY, PERIOD, 2));
+		assertEquals(PERIOD, LockHeartbeat.getRetryDelay(RETRY_DELAY, PERIOD, 3));
+		assertEquals(PERIOD, LockHeartbeat.getRetryDelay(RETRY_DELAY, PERIOD, Integer.MAX_VALUE));
+	}
+}
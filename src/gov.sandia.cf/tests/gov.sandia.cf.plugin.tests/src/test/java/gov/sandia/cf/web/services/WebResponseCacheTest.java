@@ -0,0 +1,54 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.web.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import gov.sandia.cf.model.dto.ModelDto;
+
+/**
+ * The Class WebResponseCacheTest.
+ *
+ * @author Didier Verstraete
+ */
+class WebResponseCacheTest {
+
+	@Test
+	void test_putAndGet() {
+		WebResponseCache cache = new WebResponseCache();
+		ModelDto dto = new ModelDto();
+		dto.setEntityVersion(3L);
+
+		cache.put("/api/model/1/get", WebResponseCache.eTag(dto.getEntityVersion()), dto); //$NON-NLS-1$
+
+		WebResponseCache.Entry entry = cache.get("/api/model/1/get"); //$NON-NLS-1$
+		assertEquals("\"3\"", entry.getETag()); //$NON-NLS-1$
+		assertSame(dto, entry.getValue());
+		assertNull(cache.get("/api/model/2/get")); //$NON-NLS-1$
+	}
+
+	@Test
+	void test_putWithoutETag() {
+		WebResponseCache cache = new WebResponseCache();
+		cache.put("/api/model/1/get", WebResponseCache.eTag(null), new ModelDto()); //$NON-NLS-1$
+		assertNull(cache.get("/api/model/1/get")); //$NON-NLS-1$
+	}
+
+	@Test
+	void test_removeAndClear() {
+		WebResponseCache cache = new WebResponseCache();
+		cache.put("/api/model/1/get", "\"1\"", new ModelDto()); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("/api/model/2/get", "\"1\"", new ModelDto()); //$NON-NLS-1$ //$NON-NLS-2$
+
+		cache.remove("/api/model/1/get"); //$NON-NLS-1$
+		assertNull(cache.get("/api/model/1/get")); //$NON-NLS-1$
+
+		cache.clear();
+		assertNull(cache.get("/api/model/2/get")); //$NON-NLS-1$
+	}
+}
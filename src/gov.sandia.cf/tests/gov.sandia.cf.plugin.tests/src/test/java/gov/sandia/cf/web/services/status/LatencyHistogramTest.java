@@ -0,0 +1,41 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.web.services.status;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class LatencyHistogramTest.
+ *
+ * @author Didier Verstraete
+ */
+class LatencyHistogramTest {
+
+	@Test
+	void test_empty() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMeanMillis());
+		assertEquals(0, histogram.getPercentileMillis(50));
+	}
+
+	@Test
+	void test_record() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 0; i < 9; i++) {
+			histogram.record(20);
+		}
+		histogram.record(3000);
+		histogram.recordFailure();
+
+		assertEquals(10, histogram.getCount());
+		assertEquals(1, histogram.getFailureCount());
+		assertEquals(318, histogram.getMeanMillis());
+		assertEquals(3000, histogram.getMaxMillis());
+		assertEquals(25, histogram.getPercentileMillis(50));
+		assertEquals(3000, histogram.getPercentileMillis(100));
+	}
+}
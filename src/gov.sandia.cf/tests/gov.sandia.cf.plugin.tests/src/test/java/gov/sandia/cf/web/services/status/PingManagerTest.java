@@ -0,0 +1,42 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.web.services.status;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class PingManagerTest.
+ *
+ * @author Didier Verstraete
+ */
+class PingManagerTest {
+
+	private static final Duration PERIOD = Duration.ofSeconds(10);
+
+	private static final Duration MAX_BACKOFF = Duration.ofMinutes(2);
+
+	@Test
+	void test_getBackoffDelay_connected() {
+		assertEquals(PERIOD, PingManager.getBackoffDelay(PERIOD, MAX_BACKOFF, 0));
+		assertEquals(PERIOD, PingManager.getBackoffDelay(PERIOD, MAX_BACKOFF, 1));
+	}
+
+	@Test
+	void test_getBackoffDelay_exponential() {
+		assertEquals(Duration.ofSeconds(20), PingManager.getBackoffDelay(PERIOD, MAX_BACKOFF, 2));
+		assertEquals(Duration.ofSeconds(40), PingManager.getBackoffDelay(PERIOD, MAX_BACKOFF, 3));
+		assertEquals(Duration.ofSeconds(80), PingManager.getBackoffDelay(PERIOD, MAX_BACKOFF, 4));
+	}
+
+	@Test
+	void test_getBackoffDelay_maxBackoff() {
+		assertEquals(MAX_BACKOFF, PingManager.getBackoffDelay(PERIOD, MAX_BACKOFF, 5));
+		assertEquals(MAX_BACKOFF, PingManager.getBackoffDelay(PERIOD, MAX_BACKOFF, 64));
+		assertEquals(MAX_BACKOFF, PingManager.getBackoffDelay(PERIOD, MAX_BACKOFF, Integer.MAX_VALUE));
+	}
+}
@@ -17,10 +17,26 @@ public class ApiConstants {
 	public static final String LOCK_LOCKINFO_VAR = "lockinfo"; //$NON-NLS-1$
 	public static final String LOCK_TOKEN_VAR = "token"; //$NON-NLS-1$
 
+	/**
+	 * Message API
+	 */
+	public static final String MESSAGE_LAST_EVENT_ID_HEADER = "Last-Event-ID"; //$NON-NLS-1$
+	public static final String MESSAGE_ENTITY_CHANGE_EVENT = "entityChange"; //$NON-NLS-1$
+	public static final String MESSAGE_ENTITY_CHANGE_UPDATED = "updated"; //$NON-NLS-1$
+	public static final String MESSAGE_ENTITY_CHANGE_DELETED = "deleted"; //$NON-NLS-1$
+
+	/**
+	 * Page API
+	 */
+	public static final String PAGE_FIELDS_VAR = "fields"; //$NON-NLS-1$
+	public static final int PAGE_DEFAULT_SIZE = 50;
+
 	/**
 	 * Model API
 	 */
 	public static final String MODEL_MODEL_VAR = "model"; //$NON-NLS-1$
+	public static final String MODEL_CHANGES_MODEL_VERSION_VAR = "modelVersion"; //$NON-NLS-1$
+	public static final String MODEL_CHANGES_PURPOSE_VERSION_VAR = "purposeVersion"; //$NON-NLS-1$
 
 	/**
 	 * Intended Purpose
@@ -9,12 +9,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +24,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import gov.sandia.cf.webapp.exception.LockException;
 import gov.sandia.cf.webapp.mapper.IntendedPurposeMapper;
 import gov.sandia.cf.webapp.model.dto.IntendedPurposeDto;
+import gov.sandia.cf.webapp.model.entity.IntendedPurpose;
+import gov.sandia.cf.webapp.model.stub.EntityChange;
 import gov.sandia.cf.webapp.model.stub.EntityLockInfo;
 import gov.sandia.cf.webapp.service.IIntendedPurposeService;
 import gov.sandia.cf.webapp.service.SseNotificationService;
@@ -50,8 +54,15 @@ public class IntendedPurposeApiController {
 	private ObjectMapper mapToDtoMapper;
 
 	@GetMapping(value = "/get")
-	public IntendedPurposeDto get(@PathVariable("modelId") Long modelId) {
-		return intendedPurposeMapper.toDto(intendedPurposeService.get(modelId));
+	public ResponseEntity<IntendedPurposeDto> get(@PathVariable("modelId") Long modelId, WebRequest request) {
+		IntendedPurpose intendedPurpose = intendedPurposeService.get(modelId);
+
+		// the intended purpose is not sent if the client has the current version
+		String eTag = String.valueOf(intendedPurpose.getEntityVersion());
+		if (request.checkNotModified(eTag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(eTag).body(intendedPurposeMapper.toDto(intendedPurpose));
 	}
 
 	@PutMapping(value = "/edit")
@@ -63,8 +74,10 @@ public class IntendedPurposeApiController {
 							map.get(ApiConstants.PURPOSE_INTENDEDPURPOSE_VAR), IntendedPurposeDto.class)));
 
 			// send notifications to this model listeners
-			notificationService.sendToModel(modelId, ApiConstants.PURPOSE_INTENDEDPURPOSE_VAR,
-					intendedPurposeMapper.toDto(intendedPurposeService.get(modelId)));
+			notificationService.sendToModel(modelId, ApiConstants.MESSAGE_ENTITY_CHANGE_EVENT,
+					new EntityChange(ApiConstants.PURPOSE_INTENDEDPURPOSE_VAR,
+							ApiConstants.MESSAGE_ENTITY_CHANGE_UPDATED,
+							intendedPurposeMapper.toDto(intendedPurposeService.get(modelId))));
 			notificationService.sendToModel(modelId, ApiConstants.LOCK_LOCKINFO_VAR, "");
 
 		} catch (LockException e) {
@@ -86,6 +99,15 @@ public class IntendedPurposeApiController {
 		return token;
 	}
 
+	@PutMapping(value = "/lock/renew")
+	public void renewLock(@PathVariable("modelId") Long modelId, @RequestBody Map<String, Object> map) {
+		try {
+			intendedPurposeService.renewLock(modelId, (String) map.get(ApiConstants.LOCK_TOKEN_VAR));
+		} catch (LockException e) {
+			throw new ResponseStatusException(HttpStatus.FORBIDDEN, e.getMessage(), e);
+		}
+	}
+
 	@GetMapping(value = "/lock/info")
 	public EntityLockInfo getLockInfo(@PathVariable("modelId") Long modelId) {
 		return intendedPurposeService.getLockInfo(modelId);
@@ -0,0 +1,62 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.controller.api;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import gov.sandia.cf.webapp.mapper.FieldProjection;
+import gov.sandia.cf.webapp.mapper.IntendedPurposeMapper;
+import gov.sandia.cf.webapp.model.dto.IntendedPurposeDto;
+import gov.sandia.cf.webapp.model.dto.PageDto;
+import gov.sandia.cf.webapp.model.entity.IntendedPurpose;
+import gov.sandia.cf.webapp.service.IIntendedPurposeService;
+
+/**
+ * The Class IntendedPurposeListApiController: the intended purposes of all
+ * the models, by page.
+ * 
+ * @author Didier Verstraete
+ */
+@RestController
+@RequestMapping("api/purpose")
+public class IntendedPurposeListApiController {
+
+	@Autowired
+	private IIntendedPurposeService intendedPurposeService;
+
+	@Autowired
+	private IntendedPurposeMapper intendedPurposeMapper;
+
+	@Autowired
+	private ObjectMapper mapToDtoMapper;
+
+	@GetMapping(value = "/page")
+	public PageDto<?> page(
+			@PageableDefault(size = ApiConstants.PAGE_DEFAULT_SIZE, sort = "id", direction = Sort.Direction.ASC)
+			Pageable pageable,
+			@RequestParam(value = ApiConstants.PAGE_FIELDS_VAR, required = false) Set<String> fields) {
+		try {
+			FieldProjection projection = FieldProjection.of(mapToDtoMapper, IntendedPurposeDto.class, fields);
+			Page<IntendedPurpose> page = intendedPurposeService.page(pageable);
+			return PageDto.of(page, projection.project(intendedPurposeMapper.toDto(page.getContent())));
+		} catch (PropertyReferenceException | IllegalArgumentException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+		}
+	}
+}
@@ -6,13 +6,17 @@ package gov.sandia.cf.webapp.controller.api;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import gov.sandia.cf.webapp.model.stub.SseMetrics;
 import gov.sandia.cf.webapp.service.SseNotificationService;
 
 /**
@@ -38,11 +42,16 @@ public class MessageApiController {
 	}
 
 	@GetMapping(path = "/get/{memberId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-	public SseEmitter getConnection(@PathVariable("memberId") String memberId) {
-		logger.debug("Get connection");
+	public SseEmitter getConnection(@PathVariable("memberId") String memberId,
+			@RequestHeader(value = ApiConstants.MESSAGE_LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+		logger.debug("Get connection, last event id {}", lastEventId);
 
-		// return sse emitter
-		return notificationService.get(memberId);
+		// return sse emitter, replaying the missed events on reconnection
+		SseEmitter emitter = notificationService.connect(memberId, lastEventId);
+		if (emitter == null) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown member " + memberId);
+		}
+		return emitter;
 	}
 
 	@GetMapping(path = "/subscribe/{memberId}/model/{modelId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
@@ -58,4 +67,9 @@ public class MessageApiController {
 		logger.debug("{} disconnected", memberId);
 		notificationService.remove(memberId);
 	}
+
+	@GetMapping(path = "/metrics")
+	public SseMetrics getMetrics() {
+		return notificationService.getMetrics();
+	}
 }
@@ -5,11 +5,19 @@ package gov.sandia.cf.webapp.controller.api;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,16 +25,26 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import gov.sandia.cf.webapp.exception.LockException;
+import gov.sandia.cf.webapp.mapper.FieldProjection;
+import gov.sandia.cf.webapp.mapper.IntendedPurposeMapper;
 import gov.sandia.cf.webapp.mapper.ModelMapper;
+import gov.sandia.cf.webapp.model.dto.ModelChangesDto;
 import gov.sandia.cf.webapp.model.dto.ModelDto;
+import gov.sandia.cf.webapp.model.dto.PageDto;
+import gov.sandia.cf.webapp.model.entity.IntendedPurpose;
 import gov.sandia.cf.webapp.model.entity.Model;
+import gov.sandia.cf.webapp.model.stub.EntityChange;
+import gov.sandia.cf.webapp.service.IIntendedPurposeService;
 import gov.sandia.cf.webapp.service.IModelService;
+import gov.sandia.cf.webapp.service.SseNotificationService;
 
 /**
  * The Class ModelApiController.
@@ -39,18 +57,58 @@ public class ModelApiController {
 
 	Logger logger = LoggerFactory.getLogger(ModelApiController.class);
 
+	@Autowired
+	private SseNotificationService notificationService;
+
 	@Autowired
 	private IModelService modelService;
 
 	@Autowired
 	private ModelMapper modelMapper;
 
+	@Autowired
+	private IIntendedPurposeService intendedPurposeService;
+
+	@Autowired
+	private IntendedPurposeMapper intendedPurposeMapper;
+
 	@Autowired
 	private ObjectMapper mapToDtoMapper;
 
 	@GetMapping(value = "/{modelId}/get")
-	public ModelDto get(@PathVariable("modelId") Long modelId) {
-		return modelMapper.toDto(modelService.get(modelId));
+	public ResponseEntity<ModelDto> get(@PathVariable("modelId") Long modelId, WebRequest request) {
+		Model model = modelService.get(modelId);
+
+		// the model is not sent if the client has the current version
+		String eTag = String.valueOf(model.getEntityVersion());
+		if (request.checkNotModified(eTag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(eTag).body(modelMapper.toDto(model));
+	}
+
+	@GetMapping(value = "/{modelId}/changes")
+	public ResponseEntity<ModelChangesDto> changes(@PathVariable("modelId") Long modelId,
+			@RequestParam(value = ApiConstants.MODEL_CHANGES_MODEL_VERSION_VAR, required = false) Long modelVersion,
+			@RequestParam(value = ApiConstants.MODEL_CHANGES_PURPOSE_VERSION_VAR, required = false)
+			Long purposeVersion) {
+
+		ModelChangesDto changes = new ModelChangesDto();
+
+		Model model = modelService.get(modelId);
+		if (!Objects.equals(modelVersion, model.getEntityVersion())) {
+			changes.setModel(modelMapper.toDto(model));
+		}
+
+		IntendedPurpose intendedPurpose = intendedPurposeService.get(modelId);
+		if (!Objects.equals(purposeVersion, intendedPurpose.getEntityVersion())) {
+			changes.setIntendedPurpose(intendedPurposeMapper.toDto(intendedPurpose));
+		}
+
+		if (changes.getModel() == null && changes.getIntendedPurpose() == null) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+		}
+		return ResponseEntity.ok(changes);
 	}
 
 	@GetMapping(value = "/list")
@@ -58,6 +116,20 @@ public class ModelApiController {
 		return modelMapper.toDto(modelService.list());
 	}
 
+	@GetMapping(value = "/page")
+	public PageDto<?> page(
+			@PageableDefault(size = ApiConstants.PAGE_DEFAULT_SIZE, sort = "id", direction = Sort.Direction.ASC)
+			Pageable pageable,
+			@RequestParam(value = ApiConstants.PAGE_FIELDS_VAR, required = false) Set<String> fields) {
+		try {
+			FieldProjection projection = FieldProjection.of(mapToDtoMapper, ModelDto.class, fields);
+			Page<Model> page = modelService.page(pageable);
+			return PageDto.of(page, projection.project(modelMapper.toDto(page.getContent())));
+		} catch (PropertyReferenceException | IllegalArgumentException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+		}
+	}
+
 	@PostMapping(value = "/new")
 	public ModelDto create(@RequestBody Map<String, Object> map) {
 		Model model = modelService.create(modelMapper
@@ -71,6 +143,11 @@ public class ModelApiController {
 		try {
 			modelService.save(modelId, (String) map.get(ApiConstants.LOCK_TOKEN_VAR), modelMapper
 					.toEntity(mapToDtoMapper.convertValue(map.get(ApiConstants.MODEL_MODEL_VAR), ModelDto.class)));
+
+			// send notification to this model listeners
+			notificationService.sendToModel(modelId, ApiConstants.MESSAGE_ENTITY_CHANGE_EVENT,
+					new EntityChange(ApiConstants.MODEL_MODEL_VAR, ApiConstants.MESSAGE_ENTITY_CHANGE_UPDATED,
+							modelMapper.toDto(modelService.get(modelId))));
 		} catch (LockException e) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, e.getMessage(), e);
 		} catch (Exception e) {
@@ -81,6 +158,10 @@ public class ModelApiController {
 	@DeleteMapping(value = "/{modelId}/delete")
 	public void delete(@PathVariable("modelId") Long modelId) {
 		modelService.delete(modelId);
+
+		// send notification to this model listeners
+		notificationService.sendToModel(modelId, ApiConstants.MESSAGE_ENTITY_CHANGE_EVENT, new EntityChange(
+				ApiConstants.MODEL_MODEL_VAR, ApiConstants.MESSAGE_ENTITY_CHANGE_DELETED, modelId));
 	}
 
 }
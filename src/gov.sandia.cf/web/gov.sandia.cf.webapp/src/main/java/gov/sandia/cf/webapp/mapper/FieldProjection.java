@@ -0,0 +1,92 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.mapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+/**
+ * The field projection of the list endpoints: only the requested dto fields
+ * are sent. The fields are checked before the page is loaded, and only the
+ * requested fields of the dtos are converted.
+ *
+ * @author Didier Verstraete
+ */
+public class FieldProjection {
+
+	/** The object mapper. */
+	private final ObjectMapper mapper;
+
+	/** The requested properties by name, in the dto order (empty for all). */
+	private final Map<String, AnnotatedMember> properties;
+
+	/**
+	 * Instantiates a new field projection.
+	 *
+	 * @param mapper     the object mapper
+	 * @param properties the requested properties
+	 */
+	private FieldProjection(ObjectMapper mapper, Map<String, AnnotatedMember> properties) {
+		this.mapper = mapper;
+		this.properties = properties;
+	}
+
+	/**
+	 * Resolve the requested fields of the dto.
+	 *
+	 * @param mapper  the object mapper
+	 * @param dtoType the dto class
+	 * @param fields  the requested fields. If empty, the dtos are sent whole.
+	 * @return the field projection
+	 * @throws IllegalArgumentException if a field does not exist in the dto
+	 */
+	public static FieldProjection of(ObjectMapper mapper, Class<?> dtoType, Set<String> fields) {
+
+		if (fields == null || fields.isEmpty()) {
+			return new FieldProjection(mapper, Map.of());
+		}
+
+		List<BeanPropertyDefinition> definitions = mapper.getSerializationConfig()
+				.introspect(mapper.constructType(dtoType)).findProperties();
+		Set<String> names = definitions.stream().map(BeanPropertyDefinition::getName).collect(Collectors.toSet());
+		if (!names.containsAll(fields)) {
+			throw new IllegalArgumentException(
+					"Unknown fields " + fields + " for " + dtoType.getSimpleName() + ", expected " + names);
+		}
+
+		Map<String, AnnotatedMember> properties = new LinkedHashMap<>();
+		definitions.stream().filter(definition -> fields.contains(definition.getName()))
+				.forEach(definition -> properties.put(definition.getName(), definition.getAccessor()));
+		return new FieldProjection(mapper, properties);
+	}
+
+	/**
+	 * Keep only the requested fields of the dtos.
+	 *
+	 * @param dtos the dtos
+	 * @return the projected dtos, or the dtos if all the fields are requested
+	 */
+	public List<?> project(List<?> dtos) {
+
+		if (properties.isEmpty()) {
+			return dtos;
+		}
+
+		return dtos.stream().map(dto -> {
+			Map<String, Object> projected = new LinkedHashMap<>();
+			properties.forEach((name, accessor) -> {
+				Object value = accessor.getValue(dto);
+				projected.put(name, value != null ? mapper.convertValue(value, Object.class) : null);
+			});
+			return projected;
+		}).collect(Collectors.toList());
+	}
+}
@@ -3,6 +3,8 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.webapp.mapper;
 
+import java.util.List;
+
 import org.mapstruct.Mapper;
 
 import gov.sandia.cf.webapp.model.dto.IntendedPurposeDto;
@@ -31,4 +33,12 @@ public interface IntendedPurposeMapper {
 	 * @return the intended purpose dto
 	 */
 	IntendedPurposeDto toDto(IntendedPurpose entity);
+
+	/**
+	 * To dto.
+	 *
+	 * @param entity the entity
+	 * @return the list
+	 */
+	List<IntendedPurposeDto> toDto(List<IntendedPurpose> entity);
 }
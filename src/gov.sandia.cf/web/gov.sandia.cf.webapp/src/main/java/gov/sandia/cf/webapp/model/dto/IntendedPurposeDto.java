@@ -25,4 +25,5 @@ public class IntendedPurposeDto {
 	private UserDto userUpdate;
 	private LocalDateTime dateCreation;
 	private LocalDateTime dateUpdate;
+	private Long entityVersion;
 }
\ No newline at end of file
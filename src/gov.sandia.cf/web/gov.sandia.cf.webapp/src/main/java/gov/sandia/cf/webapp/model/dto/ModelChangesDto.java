@@ -0,0 +1,20 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The model changes dto: the model entities updated since the versions known
+ * by the client. An entity not updated is null.
+ * 
+ * @author Didier Verstraete
+ */
+@Data
+@NoArgsConstructor
+public class ModelChangesDto {
+	private ModelDto model;
+	private IntendedPurposeDto intendedPurpose;
+}
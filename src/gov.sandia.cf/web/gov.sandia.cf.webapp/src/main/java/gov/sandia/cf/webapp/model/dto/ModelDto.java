@@ -19,5 +19,6 @@ public class ModelDto {
 	private String contact;
 	private String versionOrigin;
 	private String version;
+	private Long entityVersion;
 
 }
\ No newline at end of file
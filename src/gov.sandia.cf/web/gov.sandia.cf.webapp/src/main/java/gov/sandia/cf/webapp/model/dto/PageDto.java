@@ -0,0 +1,46 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.model.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The page dto: one page of a list endpoint and the total size of the list.
+ *
+ * @param <T> the content type
+ * 
+ * @author Didier Verstraete
+ */
+@Data
+@NoArgsConstructor
+public class PageDto<T> {
+	private List<T> content;
+	private int page;
+	private int size;
+	private long totalElements;
+	private int totalPages;
+
+	/**
+	 * Create the page dto.
+	 *
+	 * @param <T>     the content type
+	 * @param page    the entity page
+	 * @param content the page content converted
+	 * @return the page dto
+	 */
+	public static <T> PageDto<T> of(Page<?> page, List<T> content) {
+		PageDto<T> dto = new PageDto<>();
+		dto.setContent(content);
+		dto.setPage(page.getNumber());
+		dto.setSize(page.getSize());
+		dto.setTotalElements(page.getTotalElements());
+		dto.setTotalPages(page.getTotalPages());
+		return dto;
+	}
+}
@@ -0,0 +1,74 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.model.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The EntityLockRecord entity class linked to table ENTITY_LOCK. An entity can
+ * only have one lock, the unique constraint makes the lock atomic between
+ * several server instances.
+ * 
+ * @author Didier Verstraete
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "ENTITY_LOCK", uniqueConstraints = @UniqueConstraint(columnNames = { "ENTITY_CLASS",
+		"ENTITY_ID" }), indexes = @Index(columnList = "DATE_EXPIRATION"))
+public class EntityLockRecord {
+
+	/**
+	 * The id field linked to ID column
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "ID")
+	private Long id;
+
+	/**
+	 * The entityClass field linked to ENTITY_CLASS column
+	 */
+	@Column(name = "ENTITY_CLASS", nullable = false)
+	private String entityClass;
+
+	/**
+	 * The entityId field linked to ENTITY_ID column
+	 */
+	@Column(name = "ENTITY_ID", nullable = false)
+	private Long entityId;
+
+	/**
+	 * The token field linked to TOKEN column
+	 */
+	@Column(name = "TOKEN", nullable = false)
+	private String token;
+
+	/**
+	 * The information field linked to INFORMATION column
+	 */
+	@Column(name = "INFORMATION", length = 1000)
+	private String information;
+
+	/**
+	 * The dateExpiration field linked to DATE_EXPIRATION column
+	 */
+	@Column(name = "DATE_EXPIRATION", nullable = false)
+	private LocalDateTime dateExpiration;
+
+}
@@ -11,6 +11,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -76,4 +77,12 @@ public class IntendedPurpose {
 	@Column(name = "DATE_UPDATE")
 	private LocalDateTime dateUpdate;
 
+	/**
+	 * The entityVersion field linked to ENTITY_VERSION column: incremented on
+	 * each update, used as ETag and for the delta synchronization
+	 */
+	@Version
+	@Column(name = "ENTITY_VERSION", nullable = false, columnDefinition = "bigint default 0")
+	private Long entityVersion;
+
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -60,6 +61,14 @@ public class Model {
 //	@NotBlank(message = RscConst.EX_MODEL_VERSION_BLANK)
 	private String version;
 
+	/**
+	 * The entityVersion field linked to ENTITY_VERSION column: incremented on
+	 * each update, used as ETag and for the delta synchronization
+	 */
+	@Version
+	@Column(name = "ENTITY_VERSION", nullable = false, columnDefinition = "bigint default 0")
+	private Long entityVersion;
+
 	/**
 	 * The confFileList field linked to model column
 	 */
@@ -0,0 +1,12 @@
+package gov.sandia.cf.webapp.model.stub;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class EntityChange {
+	private String entity;
+	private String action;
+	private Object value;
+}
@@ -16,7 +16,7 @@ public class EntityLock {
 	private Long id;
 	private String information;
 
-	public static final Long EXPIRATION_DELAY_SECONDS = 7200L;
+	public static final Long EXPIRATION_DELAY_SECONDS = 600L;
 
 	public EntityLock(String token, Class<?> entityClass, Long id) {
 		this(token, entityClass, id, "");
@@ -0,0 +1,13 @@
+package gov.sandia.cf.webapp.model.stub;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SseEvent {
+	private Long modelId;
+	private long sequence;
+	private String name;
+	private Object data;
+}
@@ -0,0 +1,18 @@
+package gov.sandia.cf.webapp.model.stub;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class SseMetrics {
+	private int connectedMembers;
+	private int queueDepth;
+	private int activeSendTasks;
+	private long sentEvents;
+	private long coalescedEvents;
+	private long droppedEvents;
+	private long failedSends;
+	private long meanSendLatencyMicros;
+	private long maxSendLatencyMicros;
+}
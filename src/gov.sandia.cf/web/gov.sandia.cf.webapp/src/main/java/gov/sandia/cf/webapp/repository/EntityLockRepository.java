@@ -0,0 +1,55 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import gov.sandia.cf.webapp.model.entity.EntityLockRecord;
+
+/**
+ * The Interface EntityLockRepository.
+ * 
+ * @author Didier Verstraete
+ */
+@Repository
+public interface EntityLockRepository extends JpaRepository<EntityLockRecord, Long> {
+
+	@Query("SELECT l FROM EntityLockRecord l WHERE l.entityClass = :entityClass AND l.entityId = :entityId")
+	EntityLockRecord findByEntity(@Param("entityClass") String entityClass, @Param("entityId") Long entityId);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM EntityLockRecord l WHERE l.entityClass = :entityClass AND l.entityId = :entityId"
+			+ " AND l.token = :token")
+	int deleteByToken(@Param("entityClass") String entityClass, @Param("entityId") Long entityId,
+			@Param("token") String token);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM EntityLockRecord l WHERE l.entityClass = :entityClass AND l.entityId = :entityId"
+			+ " AND l.dateExpiration < :date")
+	int deleteExpired(@Param("entityClass") String entityClass, @Param("entityId") Long entityId,
+			@Param("date") LocalDateTime date);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM EntityLockRecord l WHERE l.dateExpiration < :date")
+	int deleteAllExpired(@Param("date") LocalDateTime date);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE EntityLockRecord l SET l.dateExpiration = :dateExpiration WHERE l.entityClass = :entityClass"
+			+ " AND l.entityId = :entityId AND l.token = :token AND l.dateExpiration >= :date")
+	int renew(@Param("entityClass") String entityClass, @Param("entityId") Long entityId,
+			@Param("token") String token, @Param("date") LocalDateTime date,
+			@Param("dateExpiration") LocalDateTime dateExpiration);
+
+}
@@ -1,5 +1,7 @@
 package gov.sandia.cf.webapp.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,4 +17,15 @@ public interface IntendedPurposeRepository extends JpaRepository<IntendedPurpose
 	@Query("SELECT i FROM IntendedPurpose i WHERE i.model.id = :modelId")
 	IntendedPurpose findByModelId(@Param("modelId") Long modelId);
 
+	/**
+	 * Find a page of intended purposes with their model and users fetched in the
+	 * same query.
+	 *
+	 * @param pageable the page request
+	 * @return the intended purpose page
+	 */
+	@Query(value = "SELECT i FROM IntendedPurpose i LEFT JOIN FETCH i.model LEFT JOIN FETCH i.userCreation"
+			+ " LEFT JOIN FETCH i.userUpdate", countQuery = "SELECT COUNT(i) FROM IntendedPurpose i")
+	Page<IntendedPurpose> findAllWithModel(Pageable pageable);
+
 }
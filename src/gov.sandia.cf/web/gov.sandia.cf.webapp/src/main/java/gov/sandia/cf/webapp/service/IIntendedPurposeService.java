@@ -3,6 +3,9 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.webapp.service;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import gov.sandia.cf.webapp.model.entity.IntendedPurpose;
 import gov.sandia.cf.webapp.model.stub.EntityLockInfo;
 
@@ -21,6 +24,14 @@ public interface IIntendedPurposeService {
 	 */
 	IntendedPurpose get(Long modelId);
 
+	/**
+	 * Gets a page of the intended purposes.
+	 *
+	 * @param pageable the page request
+	 * @return the intended purpose page
+	 */
+	Page<IntendedPurpose> page(Pageable pageable);
+
 	/**
 	 * Save.
 	 *
@@ -55,4 +66,6 @@ public interface IIntendedPurposeService {
 	 */
 	void unlock(Long modelId, String token);
 
+	void renewLock(Long modelId, String token);
+
 }
@@ -23,6 +23,8 @@ public interface ILockService {
 
 	void unlock(EntityLock lock);
 
+	void renew(String token, Class<?> entityClass, Long id);
+
 	boolean isLocked(Class<?> entityClass, Long id);
 
 	boolean isWritable(String token, Class<?> entityClass, Long id);
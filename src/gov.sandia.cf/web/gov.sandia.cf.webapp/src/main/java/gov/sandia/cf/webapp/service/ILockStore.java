@@ -0,0 +1,77 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.service;
+
+import java.time.LocalDateTime;
+
+import gov.sandia.cf.webapp.model.stub.EntityLock;
+
+/**
+ * The Interface ILockStore. Stores the entity locks, one lock at most by
+ * entity. An expired lock is considered as absent.
+ * 
+ * The store is selected with the property {@value #STORE_PROPERTY}:
+ * {@value #STORE_MEMORY} (default, single server instance) or
+ * {@value #STORE_JDBC} (database table shared by several server instances).
+ * 
+ * @author Didier Verstraete
+ */
+public interface ILockStore {
+
+	/** The store property. */
+	String STORE_PROPERTY = "cf.lock.store"; //$NON-NLS-1$
+
+	/** The in-memory store. */
+	String STORE_MEMORY = "memory"; //$NON-NLS-1$
+
+	/** The database store. */
+	String STORE_JDBC = "jdbc"; //$NON-NLS-1$
+
+	/**
+	 * Atomically store the lock if the entity is not already locked.
+	 *
+	 * @param lock the lock
+	 * @return the current lock of the entity if it is already locked, null if the
+	 *         lock has been stored
+	 */
+	EntityLock putIfAbsent(EntityLock lock);
+
+	/**
+	 * Gets the entity lock.
+	 *
+	 * @param entityClass the entity class
+	 * @param id          the entity id
+	 * @return the entity lock, or null if not locked
+	 */
+	EntityLock get(Class<?> entityClass, Long id);
+
+	/**
+	 * Removes the entity lock if the token matches.
+	 *
+	 * @param entityClass the entity class
+	 * @param id          the entity id
+	 * @param token       the lock token
+	 * @return true, if removed
+	 */
+	boolean remove(Class<?> entityClass, Long id, String token);
+
+	/**
+	 * Set a new expiration date to the entity lock if the token matches.
+	 *
+	 * @param entityClass    the entity class
+	 * @param id             the entity id
+	 * @param token          the lock token
+	 * @param dateExpiration the new expiration date
+	 * @return true, if renewed
+	 */
+	boolean renew(Class<?> entityClass, Long id, String token, LocalDateTime dateExpiration);
+
+	/**
+	 * Removes the locks expired at the date.
+	 *
+	 * @param date the date
+	 * @return the number of removed locks
+	 */
+	int removeExpired(LocalDateTime date);
+}
@@ -5,6 +5,9 @@ package gov.sandia.cf.webapp.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import gov.sandia.cf.webapp.model.entity.Model;
 
 /**
@@ -46,6 +49,14 @@ public interface IModelService {
 	 */
 	List<Model> list();
 
+	/**
+	 * Gets a page of the models.
+	 *
+	 * @param pageable the page request
+	 * @return the model page
+	 */
+	Page<Model> page(Pageable pageable);
+
 	/**
 	 * Delete.
 	 *
@@ -0,0 +1,139 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import gov.sandia.cf.webapp.model.stub.EntityLock;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The in-memory lock store, for a single server instance.
+ * 
+ * The expiration dates are kept in a time-ordered queue, so the expired locks
+ * are removed without scanning all the locks. A renewal adds a new expiration
+ * to the queue, the outdated ones are ignored.
+ * 
+ * @author Didier Verstraete
+ */
+@Component
+@ConditionalOnProperty(name = ILockStore.STORE_PROPERTY, havingValue = ILockStore.STORE_MEMORY, matchIfMissing = true)
+public class InMemoryLockStore implements ILockStore {
+
+	private final Map<List<Object>, EntityLock> lockMap = new ConcurrentHashMap<>();
+
+	private final PriorityBlockingQueue<Expiration> expirationQueue = new PriorityBlockingQueue<>(16,
+			Comparator.comparing(Expiration::getDate));
+
+	@Override
+	public EntityLock putIfAbsent(EntityLock lock) {
+		List<Object> key = getKey(lock.getEntityClass(), lock.getId());
+		LocalDateTime now = LocalDateTime.now();
+
+		EntityLock current = lockMap.compute(key,
+				(k, existing) -> existing != null && !isExpired(existing, now) ? existing : lock);
+		if (current != lock) {
+			return current;
+		}
+
+		expirationQueue.add(new Expiration(key, lock.getToken(), lock.getDateExpiration()));
+		return null;
+	}
+
+	@Override
+	public EntityLock get(Class<?> entityClass, Long id) {
+		List<Object> key = getKey(entityClass, id);
+		EntityLock lock = lockMap.get(key);
+		if (lock != null && isExpired(lock, LocalDateTime.now())) {
+			lockMap.remove(key, lock);
+			return null;
+		}
+		return lock;
+	}
+
+	@Override
+	public boolean remove(Class<?> entityClass, Long id, String token) {
+		EntityLock lock = get(entityClass, id);
+		return lock != null && lock.getToken().equals(token) && lockMap.remove(getKey(entityClass, id), lock);
+	}
+
+	@Override
+	public boolean renew(Class<?> entityClass, Long id, String token, LocalDateTime dateExpiration) {
+		List<Object> key = getKey(entityClass, id);
+		LocalDateTime now = LocalDateTime.now();
+
+		AtomicBoolean renewed = new AtomicBoolean();
+		lockMap.computeIfPresent(key, (k, existing) -> {
+			if (!isExpired(existing, now) && existing.getToken().equals(token)) {
+				existing.setDateExpiration(dateExpiration);
+				renewed.set(true);
+			}
+			return existing;
+		});
+		if (!renewed.get()) {
+			return false;
+		}
+
+		expirationQueue.add(new Expiration(key, token, dateExpiration));
+		return true;
+	}
+
+	@Override
+	public int removeExpired(LocalDateTime date) {
+		int removed = 0;
+		Expiration expiration = expirationQueue.peek();
+		while (expiration != null && date.isAfter(expiration.getDate())) {
+			expirationQueue.poll();
+
+			EntityLock lock = lockMap.get(expiration.getKey());
+			if (lock != null && lock.getToken().equals(expiration.getToken()) && isExpired(lock, date)
+					&& lockMap.remove(expiration.getKey(), lock)) {
+				removed++;
+			}
+
+			expiration = expirationQueue.peek();
+		}
+		return removed;
+	}
+
+	/**
+	 * @param lock the lock
+	 * @param date the date
+	 * @return true if the lock is expired at the date
+	 */
+	private static boolean isExpired(EntityLock lock, LocalDateTime date) {
+		return lock.getDateExpiration() != null && date.isAfter(lock.getDateExpiration());
+	}
+
+	/**
+	 * @param entityClass the entity class
+	 * @param id          the entity id
+	 * @return the lock key
+	 */
+	private static List<Object> getKey(Class<?> entityClass, Long id) {
+		return Arrays.asList(entityClass.getName(), id);
+	}
+
+	/**
+	 * An expiration date of a lock.
+	 */
+	@Getter
+	@AllArgsConstructor
+	private static class Expiration {
+		private final List<Object> key;
+		private final String token;
+		private final LocalDateTime date;
+	}
+}
@@ -6,6 +6,8 @@ package gov.sandia.cf.webapp.service;
 import java.time.LocalDateTime;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import gov.sandia.cf.webapp.exception.CredibilityException;
@@ -40,6 +42,11 @@ public class IntendedPurposeService implements IIntendedPurposeService {
 		return intendedPurpose;
 	}
 
+	@Override
+	public Page<IntendedPurpose> page(Pageable pageable) {
+		return intendedPurposeRepository.findAllWithModel(pageable);
+	}
+
 	@Override
 	public void save(Long modelId, String token, IntendedPurpose intendedPurpose) {
 
@@ -84,4 +91,10 @@ public class IntendedPurposeService implements IIntendedPurposeService {
 		IntendedPurpose foundIntendedPurpose = get(modelId);
 		lockService.unlock(token, foundIntendedPurpose.getClass(), foundIntendedPurpose.getId());
 	}
+
+	@Override
+	public void renewLock(Long modelId, String token) {
+		IntendedPurpose foundIntendedPurpose = get(modelId);
+		lockService.renew(token, foundIntendedPurpose.getClass(), foundIntendedPurpose.getId());
+	}
 }
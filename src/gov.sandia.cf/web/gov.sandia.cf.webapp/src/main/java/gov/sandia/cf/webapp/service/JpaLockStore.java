@@ -0,0 +1,127 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import gov.sandia.cf.webapp.model.entity.EntityLockRecord;
+import gov.sandia.cf.webapp.model.stub.EntityLock;
+import gov.sandia.cf.webapp.repository.EntityLockRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The database lock store, shared by several server instances. The lock
+ * atomicity relies on the unique constraint of the ENTITY_LOCK table.
+ *
+ * @author Didier Verstraete
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = ILockStore.STORE_PROPERTY, havingValue = ILockStore.STORE_JDBC)
+public class JpaLockStore implements ILockStore {
+
+	/** The max number of insert attempts when the current lock disappears. */
+	private static final int MAX_ATTEMPTS = 3;
+
+	@Autowired
+	private EntityLockRepository entityLockRepository;
+
+	private final TransactionTemplate insertTransaction;
+
+	/**
+	 * Instantiates a new database lock store.
+	 *
+	 * @param transactionManager the transaction manager
+	 */
+	@Autowired
+	public JpaLockStore(PlatformTransactionManager transactionManager) {
+		// the insert is done in its own transaction to not mark the caller one as
+		// rollback only when the entity is already locked
+		insertTransaction = new TransactionTemplate(transactionManager);
+		insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	@Override
+	public EntityLock putIfAbsent(EntityLock lock) {
+		String entityClass = lock.getEntityClass().getName();
+
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+
+			// an expired lock is absent
+			entityLockRepository.deleteExpired(entityClass, lock.getId(), LocalDateTime.now());
+
+			try {
+				insertTransaction.executeWithoutResult(status -> entityLockRepository.saveAndFlush(toRecord(lock)));
+				return null;
+			} catch (DataIntegrityViolationException e) {
+				EntityLock current = get(lock.getEntityClass(), lock.getId());
+				if (current != null) {
+					return current;
+				}
+				log.debug("The lock of {} {} has been released, retry", entityClass, lock.getId());
+			}
+		}
+
+		return get(lock.getEntityClass(), lock.getId());
+	}
+
+	@Override
+	public EntityLock get(Class<?> entityClass, Long id) {
+		EntityLockRecord lockRecord = entityLockRepository.findByEntity(entityClass.getName(), id);
+		if (lockRecord == null || LocalDateTime.now().isAfter(lockRecord.getDateExpiration())) {
+			return null;
+		}
+		return toLock(lockRecord);
+	}
+
+	@Override
+	public boolean remove(Class<?> entityClass, Long id, String token) {
+		return entityLockRepository.deleteByToken(entityClass.getName(), id, token) > 0;
+	}
+
+	@Override
+	public boolean renew(Class<?> entityClass, Long id, String token, LocalDateTime dateExpiration) {
+		return entityLockRepository.renew(entityClass.getName(), id, token, LocalDateTime.now(), dateExpiration) > 0;
+	}
+
+	@Override
+	public int removeExpired(LocalDateTime date) {
+		return entityLockRepository.deleteAllExpired(date);
+	}
+
+	/**
+	 * @param lock the lock
+	 * @return the lock record
+	 */
+	private static EntityLockRecord toRecord(EntityLock lock) {
+		EntityLockRecord lockRecord = new EntityLockRecord();
+		lockRecord.setEntityClass(lock.getEntityClass().getName());
+		lockRecord.setEntityId(lock.getId());
+		lockRecord.setToken(lock.getToken());
+		lockRecord.setInformation(lock.getInformation());
+		lockRecord.setDateExpiration(lock.getDateExpiration());
+		return lockRecord;
+	}
+
+	/**
+	 * @param lockRecord the lock record
+	 * @return the lock
+	 */
+	private static EntityLock toLock(EntityLockRecord lockRecord) {
+		Class<?> entityClass = ClassUtils.resolveClassName(lockRecord.getEntityClass(), null);
+		EntityLock lock = new EntityLock(lockRecord.getToken(), entityClass, lockRecord.getEntityId(),
+				lockRecord.getInformation());
+		lock.setDateExpiration(lockRecord.getDateExpiration());
+		return lock;
+	}
+}
@@ -1,12 +1,7 @@
 package gov.sandia.cf.webapp.service;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -25,14 +20,8 @@ public class LockService implements ILockService {
 	@Autowired
 	private EntityLockInfoMapper entityLockInfoMapper;
 
-//	@PersistenceContext
-//	private EntityManager entityManager;
-
-	private Map<Class<?>, Map<Long, EntityLock>> lockMap;
-
-	public LockService() {
-		lockMap = new ConcurrentHashMap<>();
-	}
+	@Autowired
+	private ILockStore lockStore;
 
 	@Override
 	public String lock(Class<?> entityClass, Long id, String information) {
@@ -48,19 +37,10 @@ public class LockService implements ILockService {
 
 		UUID token = UUID.randomUUID();
 		String tokenKey = token.toString();
-		if (!lockMap.containsKey(entityClass)) {
-			lockMap.put(entityClass, new ConcurrentHashMap<>());
-		} 
-		
-		if (!lockMap.get(entityClass).containsKey(id)) {
-			lockMap.get(entityClass).put(id, new EntityLock(tokenKey, entityClass, id, information));
-		} else {
+		if (lockStore.putIfAbsent(new EntityLock(tokenKey, entityClass, id, information)) != null) {
 			throw new LockException("The entity is already locked.");
 		}
 
-		// To enable entity lock:
-		// entityManager.lock(entity, LockModeType.PESSIMISTIC_READ, properties);
-
 		return tokenKey;
 	}
 
@@ -72,6 +52,27 @@ public class LockService implements ILockService {
 	@Override
 	public void unlock(String token, Class<?> entityClass, Long id) {
 
+		checkParameters(token, entityClass, id);
+
+		if (lockStore.remove(entityClass, id, token)) {
+			log.debug("Unlocking entity with token: " + token);
+		} else {
+			throw new LockException("Bad token/entity-id identifier. The entity is still locked");
+		}
+	}
+
+	@Override
+	public void renew(String token, Class<?> entityClass, Long id) {
+
+		checkParameters(token, entityClass, id);
+
+		if (!lockStore.renew(entityClass, id, token,
+				LocalDateTime.now().plusSeconds(EntityLock.EXPIRATION_DELAY_SECONDS))) {
+			throw new LockException("Bad token/entity-id identifier or expired lock. The lock can not be renewed");
+		}
+	}
+
+	private void checkParameters(String token, Class<?> entityClass, Long id) {
 		if (token == null) {
 			throw new LockException("The entity can not be unlocked with a null token");
 		}
@@ -83,14 +84,6 @@ public class LockService implements ILockService {
 		if (id == null) {
 			throw new LockException("The entity can not be unlocked for an entity with id null");
 		}
-
-		if (lockMap.containsKey(entityClass) && lockMap.get(entityClass).containsKey(id)
-				&& token.equals(lockMap.get(entityClass).get(id).getToken())) {
-			log.debug("Unlocking entity with token: " + token);
-			lockMap.get(entityClass).remove(id);
-		} else {
-			throw new LockException("Bad token/entity-id identifier. The entity is still locked");
-		}
 	}
 
 	@Override
@@ -115,38 +108,29 @@ public class LockService implements ILockService {
 
 	@Override
 	public boolean isLocked(Class<?> entityClass, Long id) {
-		return lockMap.containsKey(entityClass) && lockMap.get(entityClass).containsKey(id)
-				&& lockMap.get(entityClass).get(id) != null;
+		return entityClass != null && id != null && lockStore.get(entityClass, id) != null;
 	}
 
 	@Override
 	public boolean isWritable(String token, Class<?> entityClass, Long id) {
-		return lockMap.containsKey(entityClass) && lockMap.get(entityClass).containsKey(id) && token != null
-				&& token.equals(lockMap.get(entityClass).get(id).getToken());
+		if (token == null || entityClass == null || id == null) {
+			return false;
+		}
+		EntityLock lock = lockStore.get(entityClass, id);
+		return lock != null && token.equals(lock.getToken());
 	}
 
 	@Override
 	public EntityLockInfo getLockInfo(Class<?> entityClass, Long id) {
-		return lockMap.containsKey(entityClass) && lockMap.get(entityClass).containsKey(id)
-				? entityLockInfoMapper.toInfo(lockMap.get(entityClass).get(id))
-				: null;
+		EntityLock lock = entityClass != null && id != null ? lockStore.get(entityClass, id) : null;
+		return lock != null ? entityLockInfoMapper.toInfo(lock) : null;
 	}
 
 	@Scheduled(fixedDelay = 60000)
 	public void unlockMechanism() {
-		LocalDateTime currentDate = LocalDateTime.now();
-		for (Entry<Class<?>, Map<Long, EntityLock>> entryMapLock : lockMap.entrySet()) {
-			if (entryMapLock != null && entryMapLock.getValue() != null) {
-				Map<Long, EntityLock> mapLock = entryMapLock.getValue();
-				List<Long> toDelete = new ArrayList<>();
-				for (Entry<Long, EntityLock> lockEntry : mapLock.entrySet()) {
-					if (lockEntry != null && lockEntry.getValue() != null
-							&& currentDate.isAfter(lockEntry.getValue().getDateExpiration())) {
-						toDelete.add(lockEntry.getKey());
-					}
-				}
-				toDelete.forEach(mapLock::remove);
-			}
+		int removed = lockStore.removeExpired(LocalDateTime.now());
+		if (removed > 0) {
+			log.debug("{} expired locks removed", removed);
 		}
 	}
 
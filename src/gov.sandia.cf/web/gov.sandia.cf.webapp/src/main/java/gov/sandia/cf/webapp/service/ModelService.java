@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import gov.sandia.cf.webapp.exception.CredibilityException;
@@ -50,6 +52,11 @@ public class ModelService implements IModelService {
 		return modelRepository.findAll();
 	}
 
+	@Override
+	public Page<Model> page(Pageable pageable) {
+		return modelRepository.findAll(pageable);
+	}
+
 	@Override
 	public Model create(Model model) {
 
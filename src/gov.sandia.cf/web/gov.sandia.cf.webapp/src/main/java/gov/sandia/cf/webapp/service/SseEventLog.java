@@ -0,0 +1,71 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import gov.sandia.cf.webapp.model.stub.SseEvent;
+
+/**
+ * The bounded replay log of the events sent to a model. When the log is full,
+ * the oldest event is dropped.
+ *
+ * @author Didier Verstraete
+ */
+public class SseEventLog {
+
+	private final int capacity;
+	private final Deque<SseEvent> events;
+
+	/** The sequence of the last dropped event. */
+	private long lastDroppedSequence;
+
+	/**
+	 * Instantiates a new event log.
+	 *
+	 * @param capacity the max number of events kept
+	 */
+	public SseEventLog(int capacity) {
+		this.capacity = Math.max(1, capacity);
+		this.events = new ArrayDeque<>(this.capacity);
+		this.lastDroppedSequence = 0;
+	}
+
+	/**
+	 * Append an event. The events must be appended in sequence order.
+	 *
+	 * @param event the event
+	 */
+	public synchronized void append(SseEvent event) {
+		if (events.size() >= capacity) {
+			lastDroppedSequence = events.removeFirst().getSequence();
+		}
+		events.addLast(event);
+	}
+
+	/**
+	 * Gets the events after a sequence.
+	 *
+	 * @param sequence the last sequence received
+	 * @return the events with a greater sequence, in sequence order, or empty if
+	 *         some of them have been dropped
+	 */
+	public synchronized Optional<List<SseEvent>> since(long sequence) {
+		if (sequence < lastDroppedSequence) {
+			return Optional.empty();
+		}
+
+		List<SseEvent> list = new ArrayList<>();
+		for (SseEvent event : events) {
+			if (event.getSequence() > sequence) {
+				list.add(event);
+			}
+		}
+		return Optional.of(list);
+	}
+}
@@ -0,0 +1,210 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import gov.sandia.cf.webapp.model.stub.EntityChange;
+import gov.sandia.cf.webapp.model.stub.SseEvent;
+
+/**
+ * The outgoing events of a member, sent in order by one task at a time.
+ *
+ * The pending model events with the same name (and entity for the entity
+ * changes) are coalesced: only the last one is sent. When the pending queue is
+ * full, the pending events are dropped and the member emitter is closed, so the
+ * member reconnects and gets the missed events from the replay log.
+ *
+ * All the methods must be called with the channel lock held.
+ *
+ * @author Didier Verstraete
+ */
+class SseMemberChannel {
+
+	private final String memberId;
+	private final int capacity;
+
+	private SseEmitter emitter;
+
+	/** The time without emitter since, in nanoseconds. */
+	private long detachedSince;
+
+	/** The pending events by coalescing key, in sending order. */
+	private final LinkedHashMap<Object, SseEvent> pending;
+
+	/** The last sequence queued by model, to skip the events already replayed. */
+	private final Map<Long, Long> lastSequenceByModel;
+
+	private boolean scheduled;
+
+	/**
+	 * Instantiates a new member channel.
+	 *
+	 * @param memberId the member id
+	 * @param capacity the max number of pending events
+	 */
+	SseMemberChannel(String memberId, int capacity) {
+		this.memberId = memberId;
+		this.capacity = Math.max(1, capacity);
+		this.pending = new LinkedHashMap<>();
+		this.lastSequenceByModel = new HashMap<>();
+		this.scheduled = false;
+		this.detachedSince = System.nanoTime();
+	}
+
+	/**
+	 * @return the member id
+	 */
+	String getMemberId() {
+		return memberId;
+	}
+
+	/**
+	 * @return the current emitter
+	 */
+	SseEmitter getEmitter() {
+		return emitter;
+	}
+
+	/**
+	 * Replace the emitter. The pending events are dropped: they are replayed to
+	 * the new emitter from the replay log.
+	 *
+	 * @param emitter the new emitter
+	 * @return the number of dropped events
+	 */
+	int reset(SseEmitter emitter) {
+		if (emitter == null && this.emitter != null) {
+			this.detachedSince = System.nanoTime();
+		}
+		this.emitter = emitter;
+		this.lastSequenceByModel.clear();
+		return clear();
+	}
+
+	/**
+	 * @param now         the current time in nanoseconds
+	 * @param gracePeriod the reconnection grace period in nanoseconds
+	 * @return true if the member has no emitter for longer than the grace period
+	 */
+	boolean isExpired(long now, long gracePeriod) {
+		return emitter == null && now - detachedSince >= gracePeriod;
+	}
+
+	/**
+	 * Queue an event.
+	 *
+	 * @param event the event
+	 * @return the result
+	 */
+	QueueResult offer(SseEvent event) {
+		if (event.getModelId() != null) {
+			Long lastSequence = lastSequenceByModel.get(event.getModelId());
+			if (lastSequence != null && event.getSequence() <= lastSequence) {
+				return QueueResult.SKIPPED;
+			}
+			lastSequenceByModel.put(event.getModelId(), event.getSequence());
+		}
+
+		Object key = getCoalescingKey(event);
+		boolean coalesced = pending.remove(key) != null;
+		if (!coalesced && pending.size() >= capacity) {
+			return QueueResult.FULL;
+		}
+		pending.put(key, event);
+		return coalesced ? QueueResult.COALESCED : QueueResult.QUEUED;
+	}
+
+	/**
+	 * Queue the replayed events, in sequence order.
+	 *
+	 * @param events the events
+	 * @return the number of events queued
+	 */
+	int offerAll(List<SseEvent> events) {
+		int queued = 0;
+		for (SseEvent event : events) {
+			QueueResult result = offer(event);
+			if (result == QueueResult.FULL) {
+				break;
+			}
+			if (result != QueueResult.SKIPPED) {
+				queued++;
+			}
+		}
+		return queued;
+	}
+
+	/**
+	 * @return the next event to send, or null if there is no pending event
+	 */
+	SseEvent poll() {
+		Iterator<SseEvent> iterator = pending.values().iterator();
+		if (!iterator.hasNext()) {
+			return null;
+		}
+		SseEvent event = iterator.next();
+		iterator.remove();
+		return event;
+	}
+
+	/**
+	 * Drop the pending events.
+	 *
+	 * @return the number of dropped events
+	 */
+	int clear() {
+		int size = pending.size();
+		pending.clear();
+		return size;
+	}
+
+	/**
+	 * @return the number of pending events
+	 */
+	int size() {
+		return pending.size();
+	}
+
+	/**
+	 * @return true if a sending task is scheduled
+	 */
+	boolean isScheduled() {
+		return scheduled;
+	}
+
+	/**
+	 * @param scheduled the sending task state
+	 */
+	void setScheduled(boolean scheduled) {
+		this.scheduled = scheduled;
+	}
+
+	/**
+	 * @param event the event
+	 * @return the coalescing key: the model, name and entity for the model events,
+	 *         a unique key otherwise
+	 */
+	private static Object getCoalescingKey(SseEvent event) {
+		if (event.getModelId() == null) {
+			return new Object();
+		}
+		Object entity = event.getData() instanceof EntityChange ? ((EntityChange) event.getData()).getEntity() : null;
+		return Arrays.asList(event.getModelId(), event.getName(), entity);
+	}
+
+	/**
+	 * The queue result.
+	 */
+	enum QueueResult {
+		QUEUED, COALESCED, SKIPPED, FULL
+	}
+}
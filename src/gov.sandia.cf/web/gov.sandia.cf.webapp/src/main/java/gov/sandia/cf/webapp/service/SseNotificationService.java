@@ -3,33 +3,170 @@ See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/m
 *************************************************************************************************************/
 package gov.sandia.cf.webapp.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import gov.sandia.cf.webapp.model.stub.SseEvent;
+import gov.sandia.cf.webapp.model.stub.SseMetrics;
 
 /**
  * The Class SseNotificationService.
- * 
+ *
+ * The events sent to a model are numbered and kept in a bounded replay log, so
+ * a member reconnecting with the last event id received gets the missed events.
+ * If some of them are not available anymore, the member receives a resync event
+ * and has to reload its data.
+ *
+ * The subscriptions and the replay log of a model are removed with its last
+ * subscriber, and only the connected members can subscribe. A member without
+ * emitter for longer than the reconnection grace period is removed.
+ *
+ * The events are queued by member and sent by a bounded pool of threads, so a
+ * slow member does not delay the others. See {@link SseMemberChannel} for the
+ * coalescing and overflow rules.
+ *
  * @author Didier Verstraete
  */
 @Service
 public class SseNotificationService {
 
-	private Map<String, SseEmitter> userEmitterMap = new ConcurrentHashMap<>();
+	Logger logger = LoggerFactory.getLogger(SseNotificationService.class);
+
+	/** The event sent to a new connection, carrying the current event id. */
+	public static final String EVENT_CONNECTED = "connected"; //$NON-NLS-1$
+
+	/** The event sent when the missed events can not be replayed. */
+	public static final String EVENT_RESYNC = "resync"; //$NON-NLS-1$
+
+	/** The max number of events kept by model for replay. */
+	public static final int EVENT_LOG_CAPACITY = 256;
+
+	/** The max number of events waiting to be sent to a member. */
+	public static final int MEMBER_QUEUE_CAPACITY = 128;
+
+	/** The number of sending threads. */
+	public static final int SEND_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	/** The max number of members waiting for a sending thread. */
+	public static final int SEND_QUEUE_CAPACITY = 1024;
+
+	/** The max number of events sent to a member before yielding the thread. */
+	private static final int SEND_BATCH_SIZE = 32;
+
+	/** The delay for a member to reconnect before being removed. */
+	public static final Duration RECONNECT_GRACE_PERIOD = Duration.ofMinutes(2);
+
+	/** The min delay between two removals of the expired members. */
+	private static final Duration MIN_CLEANUP_PERIOD = Duration.ofSeconds(1);
+
+	/** The number of locks ordering the model events. */
+	private static final int MODEL_LOCK_STRIPES = 64;
+
+	private static final long NO_SEQUENCE = -1;
+
+	private static final String EVENT_ID_SEPARATOR = ":"; //$NON-NLS-1$
+
+	/**
+	 * The event id prefix, different at each server start to detect the event ids
+	 * of a previous server instance.
+	 */
+	private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final Object[] modelLocks;
+	private final ThreadPoolExecutor sendExecutor;
+	private final ScheduledExecutorService cleanupExecutor;
+	private final long reconnectGracePeriod;
+
+	private Map<String, SseMemberChannel> memberChannelMap = new ConcurrentHashMap<>();
 	private Map<Long, Set<String>> modelEmitterMap = new ConcurrentHashMap<>();
+	private Map<String, Set<Long>> memberModelMap = new ConcurrentHashMap<>();
+	private Map<Long, SseEventLog> modelEventLogMap = new ConcurrentHashMap<>();
+
+	private final LongAdder sentEvents = new LongAdder();
+	private final LongAdder coalescedEvents = new LongAdder();
+	private final LongAdder droppedEvents = new LongAdder();
+	private final LongAdder failedSends = new LongAdder();
+	private final LongAdder sendLatencyNanos = new LongAdder();
+	private final AtomicLong maxSendLatencyNanos = new AtomicLong();
+
+	/**
+	 * Instantiates the service.
+	 */
+	public SseNotificationService() {
+		this(RECONNECT_GRACE_PERIOD);
+	}
+
+	/**
+	 * Instantiates the service.
+	 *
+	 * @param reconnectGracePeriod the delay for a member to reconnect before being
+	 *                             removed
+	 */
+	SseNotificationService(Duration reconnectGracePeriod) {
+		this.reconnectGracePeriod = reconnectGracePeriod.toNanos();
+
+		modelLocks = new Object[MODEL_LOCK_STRIPES];
+		for (int i = 0; i < modelLocks.length; i++) {
+			modelLocks[i] = new Object();
+		}
+
+		AtomicInteger threadCount = new AtomicInteger();
+		sendExecutor = new ThreadPoolExecutor(SEND_THREADS, SEND_THREADS, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(SEND_QUEUE_CAPACITY), runnable -> {
+					Thread thread = new Thread(runnable, "sse-sender-" + threadCount.incrementAndGet()); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				});
+		sendExecutor.allowCoreThreadTimeOut(true);
+
+		long cleanupPeriod = Math.max(MIN_CLEANUP_PERIOD.toMillis(), reconnectGracePeriod.toMillis());
+		cleanupExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "sse-cleanup"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		cleanupExecutor.scheduleWithFixedDelay(this::removeExpiredMembers, cleanupPeriod, cleanupPeriod,
+				TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stop the sending and cleanup threads.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		cleanupExecutor.shutdownNow();
+		sendExecutor.shutdownNow();
+	}
 
 	/**
 	 * Adds the connection.
 	 *
-	 * @param memberId the member id
 	 * @return the member id
 	 */
 	public String add() {
@@ -38,24 +175,69 @@ public class SseNotificationService {
 		final String localMemberId = UUID.randomUUID().toString();
 
 		// create connection
-		SseEmitter emitter = new SseEmitter();
+		SseMemberChannel channel = new SseMemberChannel(localMemberId, MEMBER_QUEUE_CAPACITY);
+		synchronized (channel) {
+			createEmitter(channel);
+		}
+		memberChannelMap.put(localMemberId, channel);
+
+		return localMemberId;
+	}
+
+	/**
+	 * Creates the member emitter, replacing the previous one. The channel lock
+	 * must be held.
+	 *
+	 * @param channel the member channel
+	 * @return the sse emitter
+	 */
+	private SseEmitter createEmitter(SseMemberChannel channel) {
+
+		// create connection
+		SseEmitter emitter = newEmitter();
 
 		// add
-		userEmitterMap.put(localMemberId, emitter);
+		SseEmitter previous = channel.getEmitter();
+		channel.reset(emitter);
+		if (previous != null) {
+			previous.complete();
+		}
 
-		// listeners
-		emitter.onCompletion(() -> {
-			userEmitterMap.remove(localMemberId);
-		});
+		// listeners: only detach this emitter, not the one of a reconnection
+		emitter.onCompletion(() -> detach(channel, emitter));
 		emitter.onTimeout(() -> {
 			emitter.complete();
-			userEmitterMap.remove(localMemberId);
+			detach(channel, emitter);
 		});
 		emitter.onError(e -> {
 			emitter.complete();
-			userEmitterMap.remove(localMemberId);
+			detach(channel, emitter);
 		});
-		return localMemberId;
+		return emitter;
+	}
+
+	/**
+	 * Instantiates a member emitter.
+	 *
+	 * @return the sse emitter
+	 */
+	SseEmitter newEmitter() {
+		return new SseEmitter();
+	}
+
+	/**
+	 * Detach a closed emitter from its member channel. The pending events are
+	 * dropped, the member gets them back from the replay log on reconnection.
+	 *
+	 * @param channel the member channel
+	 * @param emitter the emitter
+	 */
+	private void detach(SseMemberChannel channel, SseEmitter emitter) {
+		synchronized (channel) {
+			if (channel.getEmitter() == emitter) {
+				channel.reset(null);
+			}
+		}
 	}
 
 	/**
@@ -65,71 +247,213 @@ public class SseNotificationService {
 	 * @return the sse emitter
 	 */
 	public SseEmitter get(String memberId) {
-		return userEmitterMap.get(memberId);
+		SseMemberChannel channel = memberChannelMap.get(memberId);
+		if (channel == null) {
+			return null;
+		}
+		synchronized (channel) {
+			return channel.getEmitter();
+		}
 	}
 
 	/**
-	 * Adds the connection.
+	 * Gets the member event stream. The first call after {@link #add()} returns
+	 * the member emitter. Otherwise, a new emitter is created and the events after
+	 * the last event id are replayed, or a resync event is sent if they are not
+	 * available anymore.
+	 *
+	 * @param memberId    the member id
+	 * @param lastEventId the last event id received by the member (optional)
+	 * @return the sse emitter, or null if the member is unknown or has been
+	 *         removed
+	 */
+	public SseEmitter connect(String memberId, String lastEventId) {
+		if (!StringUtils.hasText(memberId)) {
+			return null;
+		}
+
+		SseMemberChannel channel = memberChannelMap.get(memberId);
+		if (channel == null) {
+			return null;
+		}
+
+		synchronized (channel) {
+			// removed meanwhile
+			if (memberChannelMap.get(memberId) != channel) {
+				return null;
+			}
+
+			SseEmitter emitter = channel.getEmitter();
+			if (emitter != null && !StringUtils.hasText(lastEventId)) {
+				enqueue(channel, new SseEvent(null, sequence.get(), EVENT_CONNECTED, ""));
+				return emitter;
+			}
+
+			// reconnection
+			emitter = createEmitter(channel);
+
+			Optional<List<SseEvent>> missed = getMissedEvents(memberId, lastEventId);
+			if (!missed.isPresent()) {
+				logger.debug("Events after {} not available for {}, resync", lastEventId, memberId); //$NON-NLS-1$
+				enqueue(channel, new SseEvent(null, sequence.get(), EVENT_RESYNC, ""));
+			} else if (missed.get().isEmpty()) {
+				enqueue(channel, new SseEvent(null, sequence.get(), EVENT_CONNECTED, ""));
+			} else {
+				logger.debug("Replay {} events after {} to {}", missed.get().size(), lastEventId, memberId); //$NON-NLS-1$
+				channel.offerAll(missed.get());
+				schedule(channel);
+			}
+
+			return emitter;
+		}
+	}
+
+	/**
+	 * Gets the events of the member models after the last event id.
+	 *
+	 * @param memberId    the member id
+	 * @param lastEventId the last event id
+	 * @return the missed events in sequence order, or empty if some of them are
+	 *         not available
+	 */
+	private Optional<List<SseEvent>> getMissedEvents(String memberId, String lastEventId) {
+
+		long lastSequence = toSequence(lastEventId);
+		if (lastSequence < 0) {
+			return Optional.empty();
+		}
+
+		List<SseEvent> missed = new ArrayList<>();
+		Set<Long> modelIds = memberModelMap.get(memberId);
+		if (modelIds != null) {
+			for (Long modelId : modelIds) {
+				SseEventLog eventLog = modelEventLogMap.get(modelId);
+				if (eventLog != null) {
+					Optional<List<SseEvent>> events = eventLog.since(lastSequence);
+					if (!events.isPresent()) {
+						return Optional.empty();
+					}
+					missed.addAll(events.get());
+				}
+			}
+		}
+
+		missed.sort(Comparator.comparingLong(SseEvent::getSequence));
+		return Optional.of(missed);
+	}
+
+	/**
+	 * Removes the connection.
 	 *
 	 * @param memberId the member id
-	 * @return the sse emitter
 	 */
 	public void remove(String memberId) {
-		if (!StringUtils.hasText(memberId) || userEmitterMap.get(memberId) == null) {
+		if (!StringUtils.hasText(memberId)) {
 			return;
 		}
 
-		// get
-		SseEmitter sseEmitter = userEmitterMap.get(memberId);
+		// remove
+		SseMemberChannel channel = memberChannelMap.remove(memberId);
 
 		// complete connection
-		sseEmitter.complete();
+		if (channel != null) {
+			SseEmitter sseEmitter;
+			synchronized (channel) {
+				sseEmitter = channel.getEmitter();
+				channel.reset(null);
+			}
+			if (sseEmitter != null) {
+				sseEmitter.complete();
+			}
+		}
 
-		// remove
-		userEmitterMap.remove(memberId);
-		modelEmitterMap.forEach((modelId, ids) -> {
-			if (ids != null) {
-				ids.remove(memberId);
+		removeSubscriptions(memberId);
+	}
+
+	/**
+	 * Removes the members without emitter for longer than the reconnection grace
+	 * period, with their subscriptions.
+	 */
+	void removeExpiredMembers() {
+		long now = System.nanoTime();
+		memberChannelMap.forEach((memberId, channel) -> {
+			boolean removed;
+			synchronized (channel) {
+				removed = channel.isExpired(now, reconnectGracePeriod) && memberChannelMap.remove(memberId, channel);
+			}
+			if (removed) {
+				logger.debug("Member {} not reconnected, removed", memberId); //$NON-NLS-1$
+				removeSubscriptions(memberId);
 			}
 		});
 	}
 
 	/**
-	 * Subscribe to model.
+	 * Removes the member subscriptions.
+	 *
+	 * @param memberId the member id
+	 */
+	private void removeSubscriptions(String memberId) {
+		Set<Long> modelIds = memberModelMap.remove(memberId);
+		if (modelIds != null) {
+			modelIds.forEach(modelId -> unsubscribeFromModel(modelId, memberId));
+		}
+	}
+
+	/**
+	 * Subscribe to model. The unknown members are ignored.
 	 *
 	 * @param modelId  the model id
 	 * @param memberId the member id
 	 */
 	public void subscribeToModel(Long modelId, String memberId) {
-		if (modelId == null) {
+		if (modelId == null || !StringUtils.hasText(memberId) || !memberChannelMap.containsKey(memberId)) {
 			return;
 		}
 
-		Set<String> ids = modelEmitterMap.get(modelId);
-		if (ids == null) {
-			ids = new HashSet<>();
-			modelEmitterMap.put(modelId, ids);
+		synchronized (getModelLock(modelId)) {
+			modelEmitterMap.computeIfAbsent(modelId, k -> ConcurrentHashMap.newKeySet()).add(memberId);
+			modelEventLogMap.computeIfAbsent(modelId, k -> new SseEventLog(EVENT_LOG_CAPACITY));
+		}
+		memberModelMap.computeIfAbsent(memberId, k -> ConcurrentHashMap.newKeySet()).add(modelId);
+
+		// the member has been removed meanwhile
+		if (!memberChannelMap.containsKey(memberId)) {
+			memberModelMap.remove(memberId);
+			unsubscribeFromModel(modelId, memberId);
+		}
+	}
+
+	/**
+	 * Unsubscribe from model. The model subscriptions and replay log are removed
+	 * with its last subscriber.
+	 *
+	 * @param modelId  the model id
+	 * @param memberId the member id
+	 */
+	private void unsubscribeFromModel(Long modelId, String memberId) {
+		synchronized (getModelLock(modelId)) {
+			Set<String> ids = modelEmitterMap.computeIfPresent(modelId, (k, v) -> {
+				v.remove(memberId);
+				return v.isEmpty() ? null : v;
+			});
+			if (ids == null) {
+				modelEventLogMap.remove(modelId);
+			}
 		}
-		
-		ids.add(memberId);
 	}
 
 	/**
 	 * Send.
 	 *
 	 * @param memberId the member id
-	 * @param id       the id
+	 * @param id       the event name
 	 * @param obj      the obj
 	 */
 	public void send(String memberId, String id, Object obj) {
-		SseEmitter emitter = userEmitterMap.get(memberId);
-		if (emitter != null) {
-			try {
-				userEmitterMap.get(memberId).send(SseEmitter.event().id(id).data(obj));
-			} catch (Exception e) {
-				emitter.completeWithError(e);
-				userEmitterMap.remove(memberId);
-			}
+		SseMemberChannel channel = memberChannelMap.get(memberId);
+		if (channel != null) {
+			enqueue(channel, new SseEvent(null, NO_SEQUENCE, id, obj));
 		}
 	}
 
@@ -137,45 +461,240 @@ public class SseNotificationService {
 	 * Send.
 	 *
 	 * @param memberIdList the member id list
-	 * @param id           the id
+	 * @param id           the event name
 	 * @param obj          the obj
 	 */
 	public void send(List<String> memberIdList, String id, Object obj) {
-		List<String> failedEmitters = new ArrayList<>();
-		userEmitterMap.entrySet().stream().filter(entry -> memberIdList.contains(entry.getKey())).forEach(entry -> {
-			if (entry != null && entry.getValue() != null) {
-				try {
-					entry.getValue().send(SseEmitter.event().id(id).data(obj));
-				} catch (Exception e) {
-					entry.getValue().completeWithError(e);
-					failedEmitters.add(entry.getKey());
-				}
-			}
-		});
-		userEmitterMap.keySet().removeAll(failedEmitters);
+		memberIdList.forEach(memberId -> send(memberId, id, obj));
 	}
 
 	/**
-	 * Send to model.
+	 * Send to model. The event is numbered and added to the model replay log. The
+	 * events of a model without subscriber are not kept.
 	 *
 	 * @param modelId the model id
-	 * @param id      the id
+	 * @param id      the event name
 	 * @param obj     the obj
 	 */
 	public void sendToModel(Long modelId, String id, Object obj) {
-		Set<String> ids = modelEmitterMap.get(modelId);
-		if (ids != null && !ids.isEmpty()) {
-			send(new ArrayList<>(ids), id, obj);
+		if (modelId == null) {
+			return;
+		}
+
+		// number, log and queue under the model lock to keep the model events order
+		synchronized (getModelLock(modelId)) {
+			SseEventLog eventLog = modelEventLogMap.get(modelId);
+			if (eventLog == null) {
+				return;
+			}
+
+			SseEvent event = new SseEvent(modelId, sequence.incrementAndGet(), id, obj);
+			eventLog.append(event);
+
+			Set<String> ids = modelEmitterMap.get(modelId);
+			if (ids != null) {
+				ids.forEach(memberId -> {
+					SseMemberChannel channel = memberChannelMap.get(memberId);
+					if (channel != null) {
+						enqueue(channel, event);
+					}
+				});
+			}
 		}
 	}
 
 	/**
 	 * Send global.
 	 *
-	 * @param id  the id
+	 * @param id  the event name
 	 * @param obj the obj
 	 */
 	public void sendGlobal(String id, Object obj) {
-		send(new ArrayList<>(userEmitterMap.keySet()), id, obj);
+		send(new ArrayList<>(memberChannelMap.keySet()), id, obj);
+	}
+
+	/**
+	 * Queue an event for a member and schedule the sending. A member without
+	 * emitter is skipped: it gets the model events from the replay log on
+	 * reconnection.
+	 *
+	 * @param channel the member channel
+	 * @param event   the event
+	 */
+	private void enqueue(SseMemberChannel channel, SseEvent event) {
+		synchronized (channel) {
+			if (channel.getEmitter() == null) {
+				return;
+			}
+
+			switch (channel.offer(event)) {
+			case COALESCED:
+				coalescedEvents.increment();
+				break;
+			case FULL:
+				logger.debug("Too many events waiting for {}, closing the connection", channel.getMemberId()); //$NON-NLS-1$
+				droppedEvents.increment();
+				close(channel);
+				return;
+			default:
+				break;
+			}
+
+			schedule(channel);
+		}
+	}
+
+	/**
+	 * Schedule the sending of the member pending events if needed. The channel lock
+	 * must be held.
+	 *
+	 * @param channel the member channel
+	 */
+	private void schedule(SseMemberChannel channel) {
+		if (channel.isScheduled() || channel.size() == 0) {
+			return;
+		}
+
+		channel.setScheduled(true);
+		try {
+			sendExecutor.execute(() -> drain(channel));
+		} catch (RejectedExecutionException e) {
+			logger.debug("Sending queue full, closing the connection of {}", channel.getMemberId()); //$NON-NLS-1$
+			channel.setScheduled(false);
+			close(channel);
+		}
+	}
+
+	/**
+	 * Drop the member pending events and close its emitter. The member reconnects
+	 * and gets the missed events from the replay log. The channel lock must be
+	 * held.
+	 *
+	 * @param channel the member channel
+	 */
+	private void close(SseMemberChannel channel) {
+		SseEmitter emitter = channel.getEmitter();
+		droppedEvents.add(channel.reset(null));
+		if (emitter != null) {
+			emitter.complete();
+		}
+	}
+
+	/**
+	 * Send the member pending events, in the sending thread.
+	 *
+	 * @param channel the member channel
+	 */
+	private void drain(SseMemberChannel channel) {
+		for (int i = 0; i < SEND_BATCH_SIZE; i++) {
+			SseEvent event;
+			SseEmitter emitter;
+			synchronized (channel) {
+				emitter = channel.getEmitter();
+				event = emitter != null ? channel.poll() : null;
+				if (event == null) {
+					channel.setScheduled(false);
+					return;
+				}
+			}
+
+			long start = System.nanoTime();
+			try {
+				emitter.send(toEventBuilder(event));
+				long latency = System.nanoTime() - start;
+				sentEvents.increment();
+				sendLatencyNanos.add(latency);
+				maxSendLatencyNanos.accumulateAndGet(latency, Math::max);
+			} catch (Exception e) {
+				failedSends.increment();
+				emitter.completeWithError(e);
+				detach(channel, emitter);
+			}
+		}
+
+		// let the other members use the thread
+		synchronized (channel) {
+			channel.setScheduled(false);
+			schedule(channel);
+		}
+	}
+
+	/**
+	 * @param modelId the model id
+	 * @return the lock ordering the model events and subscriptions
+	 */
+	private Object getModelLock(Long modelId) {
+		return modelLocks[Math.floorMod(modelId.hashCode(), modelLocks.length)];
+	}
+
+	/**
+	 * Gets the sending metrics.
+	 *
+	 * @return the metrics
+	 */
+	public SseMetrics getMetrics() {
+		SseMetrics metrics = new SseMetrics();
+
+		int connected = 0;
+		int queueDepth = 0;
+		for (SseMemberChannel channel : memberChannelMap.values()) {
+			synchronized (channel) {
+				if (channel.getEmitter() != null) {
+					connected++;
+				}
+				queueDepth += channel.size();
+			}
+		}
+
+		long sent = sentEvents.sum();
+		metrics.setConnectedMembers(connected);
+		metrics.setQueueDepth(queueDepth);
+		metrics.setActiveSendTasks(sendExecutor.getActiveCount() + sendExecutor.getQueue().size());
+		metrics.setSentEvents(sent);
+		metrics.setCoalescedEvents(coalescedEvents.sum());
+		metrics.setDroppedEvents(droppedEvents.sum());
+		metrics.setFailedSends(failedSends.sum());
+		metrics.setMeanSendLatencyMicros(sent > 0 ? TimeUnit.NANOSECONDS.toMicros(sendLatencyNanos.sum() / sent) : 0);
+		metrics.setMaxSendLatencyMicros(TimeUnit.NANOSECONDS.toMicros(maxSendLatencyNanos.get()));
+		return metrics;
+	}
+
+	/**
+	 * @param event the event
+	 * @return the sse event builder
+	 */
+	private SseEventBuilder toEventBuilder(SseEvent event) {
+		SseEventBuilder builder = SseEmitter.event().name(event.getName());
+		if (event.getSequence() != NO_SEQUENCE) {
+			builder.id(toEventId(event.getSequence()));
+		}
+		if (event.getData() != null) {
+			builder.data(event.getData());
+		}
+		return builder;
+	}
+
+	/**
+	 * @param seq the sequence
+	 * @return the event id
+	 */
+	private String toEventId(long seq) {
+		return epoch + EVENT_ID_SEPARATOR + seq;
+	}
+
+	/**
+	 * @param eventId the event id
+	 * @return the event sequence, or -1 if the event id does not come from this
+	 *         server instance
+	 */
+	private long toSequence(String eventId) {
+		if (!StringUtils.hasText(eventId) || !eventId.startsWith(epoch + EVENT_ID_SEPARATOR)) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(eventId.substring(epoch.length() + EVENT_ID_SEPARATOR.length()));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
 	}
 }
@@ -0,0 +1,111 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.controller.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.web.servlet.MockMvc;
+
+import gov.sandia.cf.webapp.mapper.IntendedPurposeMapperImpl;
+import gov.sandia.cf.webapp.model.entity.IntendedPurpose;
+import gov.sandia.cf.webapp.model.entity.Model;
+import gov.sandia.cf.webapp.model.entity.User;
+import gov.sandia.cf.webapp.service.IIntendedPurposeService;
+
+/**
+ * The IntendedPurposeListApiController test class.
+ *
+ * @author Didier Verstraete
+ */
+@WebMvcTest(IntendedPurposeListApiController.class)
+@Import(IntendedPurposeMapperImpl.class)
+class IntendedPurposeListApiControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockBean
+	private IIntendedPurposeService intendedPurposeService;
+
+	@Test
+	void testPage() throws Exception {
+		PageRequest request = PageRequest.of(2, 1);
+		when(intendedPurposeService.page(any()))
+				.thenReturn(new PageImpl<>(List.of(newIntendedPurpose(3L)), request, 4));
+
+		mockMvc.perform(get("/api/purpose/page?page=2&size=1")) //$NON-NLS-1$
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$.page").value(2)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.size").value(1)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.totalElements").value(4)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.totalPages").value(4)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.content[0].id").value(3)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.content[0].description").value("Purpose 3")) //$NON-NLS-1$ //$NON-NLS-2$
+				.andExpect(jsonPath("$.content[0].model.application").value("App 3")) //$NON-NLS-1$ //$NON-NLS-2$
+				.andExpect(jsonPath("$.content[0].userCreation.userID").value("user3")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+		verify(intendedPurposeService).page(pageable.capture());
+		assertEquals(2, pageable.getValue().getPageNumber());
+		assertEquals(1, pageable.getValue().getPageSize());
+	}
+
+	@Test
+	void testPage_Fields() throws Exception {
+		when(intendedPurposeService.page(any())).thenReturn(new PageImpl<>(List.of(newIntendedPurpose(1L))));
+
+		mockMvc.perform(get("/api/purpose/page?fields=id,model")) //$NON-NLS-1$
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$.content[0].id").value(1)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.content[0].model.id").value(1)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.content[0].model.application").value("App 1")) //$NON-NLS-1$ //$NON-NLS-2$
+				.andExpect(jsonPath("$.content[0].description").doesNotExist()) //$NON-NLS-1$
+				.andExpect(jsonPath("$.content[0].userCreation").doesNotExist()); //$NON-NLS-1$
+	}
+
+	@Test
+	void testPage_UnknownField() throws Exception {
+		mockMvc.perform(get("/api/purpose/page?fields=unknown")) //$NON-NLS-1$
+				.andExpect(status().isBadRequest());
+
+		// the page is not loaded
+		verify(intendedPurposeService, never()).page(any());
+	}
+
+	private static IntendedPurpose newIntendedPurpose(Long id) {
+		Model model = new Model();
+		model.setId(id);
+		model.setApplication("App " + id); //$NON-NLS-1$
+
+		User user = new User();
+		user.setId(id);
+		user.setUserID("user" + id); //$NON-NLS-1$
+
+		IntendedPurpose intendedPurpose = new IntendedPurpose();
+		intendedPurpose.setId(id);
+		intendedPurpose.setDescription("Purpose " + id); //$NON-NLS-1$
+		intendedPurpose.setModel(model);
+		intendedPurpose.setUserCreation(user);
+		intendedPurpose.setEntityVersion(0L);
+		return intendedPurpose;
+	}
+}
@@ -0,0 +1,204 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.controller.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import gov.sandia.cf.webapp.mapper.IntendedPurposeMapperImpl;
+import gov.sandia.cf.webapp.mapper.ModelMapperImpl;
+import gov.sandia.cf.webapp.model.entity.IntendedPurpose;
+import gov.sandia.cf.webapp.model.entity.Model;
+import gov.sandia.cf.webapp.service.IIntendedPurposeService;
+import gov.sandia.cf.webapp.service.IModelService;
+import gov.sandia.cf.webapp.service.SseNotificationService;
+
+/**
+ * The ModelApiController test class.
+ *
+ * @author Didier Verstraete
+ */
+@WebMvcTest(ModelApiController.class)
+@Import({ ModelMapperImpl.class, IntendedPurposeMapperImpl.class })
+class ModelApiControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockBean
+	private SseNotificationService notificationService;
+
+	@MockBean
+	private IModelService modelService;
+
+	@MockBean
+	private IIntendedPurposeService intendedPurposeService;
+
+	@Test
+	void testPage() throws Exception {
+		PageRequest request = PageRequest.of(1, 2, Sort.by("application")); //$NON-NLS-1$
+		when(modelService.page(any())).thenReturn(new PageImpl<>(newModels(3, 4), request, 5));
+
+		mockMvc.perform(get("/api/model/page?page=1&size=2&sort=application")) //$NON-NLS-1$
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$.page").value(1)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.size").value(2)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.totalElements").value(5)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.totalPages").value(3)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.content.length()").value(2)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.content[0].id").value(3)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.content[0].application").value("App 3")) //$NON-NLS-1$ //$NON-NLS-2$
+				.andExpect(jsonPath("$.content[0].contact").value("Contact 3")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+		verify(modelService).page(pageable.capture());
+		assertEquals(request, pageable.getValue());
+	}
+
+	@Test
+	void testPage_DefaultPageable() throws Exception {
+		when(modelService.page(any())).thenReturn(new PageImpl<>(List.of()));
+
+		mockMvc.perform(get("/api/model/page")).andExpect(status().isOk()); //$NON-NLS-1$
+
+		ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+		verify(modelService).page(pageable.capture());
+		assertEquals(PageRequest.of(0, ApiConstants.PAGE_DEFAULT_SIZE, Sort.Direction.ASC, "id"), //$NON-NLS-1$
+				pageable.getValue());
+	}
+
+	@Test
+	void testPage_Fields() throws Exception {
+		when(modelService.page(any())).thenReturn(new PageImpl<>(newModels(1, 2)));
+
+		mockMvc.perform(get("/api/model/page?fields=id,application")) //$NON-NLS-1$
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$.content[1].id").value(2)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.content[1].application").value("App 2")) //$NON-NLS-1$ //$NON-NLS-2$
+				.andExpect(jsonPath("$.content[1].contact").doesNotExist()) //$NON-NLS-1$
+				.andExpect(jsonPath("$.content[1].entityVersion").doesNotExist()); //$NON-NLS-1$
+	}
+
+	@Test
+	void testPage_UnknownField() throws Exception {
+		mockMvc.perform(get("/api/model/page?fields=id,unknown")) //$NON-NLS-1$
+				.andExpect(status().isBadRequest());
+
+		// the page is not loaded
+		verify(modelService, never()).page(any());
+	}
+
+	@Test
+	void testGet_ETag() throws Exception {
+		when(modelService.get(1L)).thenReturn(newModels(1, 1).get(0));
+
+		mockMvc.perform(get("/api/model/1/get")) //$NON-NLS-1$
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.ETAG, "\"0\"")) //$NON-NLS-1$
+				.andExpect(jsonPath("$.application").value("App 1")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	void testGet_IfNoneMatch_NotModified() throws Exception {
+		when(modelService.get(1L)).thenReturn(newModels(1, 1).get(0));
+
+		mockMvc.perform(get("/api/model/1/get").header(HttpHeaders.IF_NONE_MATCH, "\"0\"")) //$NON-NLS-1$ //$NON-NLS-2$
+				.andExpect(status().isNotModified()) //
+				.andExpect(content().string("")); //$NON-NLS-1$
+	}
+
+	@Test
+	void testGet_IfNoneMatch_Modified() throws Exception {
+		Model model = newModels(1, 1).get(0);
+		model.setEntityVersion(1L);
+		when(modelService.get(1L)).thenReturn(model);
+
+		mockMvc.perform(get("/api/model/1/get").header(HttpHeaders.IF_NONE_MATCH, "\"0\"")) //$NON-NLS-1$ //$NON-NLS-2$
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.ETAG, "\"1\"")) //$NON-NLS-1$
+				.andExpect(jsonPath("$.entityVersion").value(1)); //$NON-NLS-1$
+	}
+
+	@Test
+	void testChanges_NotModified() throws Exception {
+		when(modelService.get(1L)).thenReturn(newModels(1, 1).get(0));
+		when(intendedPurposeService.get(1L)).thenReturn(newIntendedPurpose(2L));
+
+		mockMvc.perform(get("/api/model/1/changes") //$NON-NLS-1$
+				.param(ApiConstants.MODEL_CHANGES_MODEL_VERSION_VAR, "0") //$NON-NLS-1$
+				.param(ApiConstants.MODEL_CHANGES_PURPOSE_VERSION_VAR, "2")) //$NON-NLS-1$
+				.andExpect(status().isNotModified()) //
+				.andExpect(content().string("")); //$NON-NLS-1$
+	}
+
+	@Test
+	void testChanges_ModelChanged() throws Exception {
+		when(modelService.get(1L)).thenReturn(newModels(1, 1).get(0));
+		when(intendedPurposeService.get(1L)).thenReturn(newIntendedPurpose(2L));
+
+		mockMvc.perform(get("/api/model/1/changes") //$NON-NLS-1$
+				.param(ApiConstants.MODEL_CHANGES_MODEL_VERSION_VAR, "5") //$NON-NLS-1$
+				.param(ApiConstants.MODEL_CHANGES_PURPOSE_VERSION_VAR, "2")) //$NON-NLS-1$
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$.model.entityVersion").value(0)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.intendedPurpose").doesNotExist()); //$NON-NLS-1$
+	}
+
+	@Test
+	void testChanges_NoClientVersion() throws Exception {
+		when(modelService.get(1L)).thenReturn(newModels(1, 1).get(0));
+		when(intendedPurposeService.get(1L)).thenReturn(newIntendedPurpose(2L));
+
+		// a client without cache receives everything
+		mockMvc.perform(get("/api/model/1/changes")) //$NON-NLS-1$
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$.model.entityVersion").value(0)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.intendedPurpose.entityVersion").value(2)) //$NON-NLS-1$
+				.andExpect(jsonPath("$.intendedPurpose.description").value("Purpose")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static IntendedPurpose newIntendedPurpose(Long entityVersion) {
+		IntendedPurpose intendedPurpose = new IntendedPurpose();
+		intendedPurpose.setId(1L);
+		intendedPurpose.setDescription("Purpose"); //$NON-NLS-1$
+		intendedPurpose.setEntityVersion(entityVersion);
+		return intendedPurpose;
+	}
+
+	static List<Model> newModels(long first, long last) {
+		return LongStream.rangeClosed(first, last).mapToObj(id -> {
+			Model model = new Model();
+			model.setId(id);
+			model.setApplication("App " + id); //$NON-NLS-1$
+			model.setContact("Contact " + id); //$NON-NLS-1$
+			model.setEntityVersion(0L);
+			return model;
+		}).collect(Collectors.toList());
+	}
+}
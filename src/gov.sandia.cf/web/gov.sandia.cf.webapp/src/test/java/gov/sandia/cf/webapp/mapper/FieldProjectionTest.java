@@ -0,0 +1,78 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import gov.sandia.cf.webapp.model.dto.IntendedPurposeDto;
+import gov.sandia.cf.webapp.model.dto.ModelDto;
+
+/**
+ * The FieldProjection test class.
+ *
+ * @author Didier Verstraete
+ */
+class FieldProjectionTest {
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	@Test
+	void testProject_NoFields() {
+		List<ModelDto> dtos = List.of(newModel(1, "app")); //$NON-NLS-1$
+
+		assertSame(dtos, FieldProjection.of(mapper, ModelDto.class, null).project(dtos));
+		assertSame(dtos, FieldProjection.of(mapper, ModelDto.class, Set.of()).project(dtos));
+	}
+
+	@Test
+	void testProject_RequestedFields() {
+		List<?> projected = FieldProjection.of(mapper, ModelDto.class, Set.of("application", "id")) //$NON-NLS-1$ //$NON-NLS-2$
+				.project(List.of(newModel(1, "app1"), newModel(2, "app2"))); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// only the requested fields, in the dto order
+		assertEquals(List.of(Map.of("id", 1, "application", "app1"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				Map.of("id", 2, "application", "app2")), projected); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(List.of("id", "application"), //$NON-NLS-1$ //$NON-NLS-2$
+				List.copyOf(((Map<?, ?>) projected.get(0)).keySet()));
+	}
+
+	@Test
+	void testProject_NestedField() {
+		IntendedPurposeDto dto = new IntendedPurposeDto();
+		dto.setId(3L);
+		dto.setDescription("description"); //$NON-NLS-1$
+		dto.setModel(newModel(1, "app")); //$NON-NLS-1$
+
+		List<?> projected = FieldProjection.of(mapper, IntendedPurposeDto.class, Set.of("model")) //$NON-NLS-1$
+				.project(List.of(dto));
+
+		Map<?, ?> model = (Map<?, ?>) ((Map<?, ?>) projected.get(0)).get("model"); //$NON-NLS-1$
+		assertEquals(1, ((Map<?, ?>) projected.get(0)).size());
+		assertEquals(1, model.get("id")); //$NON-NLS-1$
+		assertEquals("app", model.get("application")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	void testOf_UnknownField() {
+		Set<String> fields = Set.of("id", "unknown"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertThrows(IllegalArgumentException.class, () -> FieldProjection.of(mapper, ModelDto.class, fields));
+	}
+
+	private static ModelDto newModel(Integer id, String application) {
+		ModelDto dto = new ModelDto();
+		dto.setId(id);
+		dto.setApplication(application);
+		return dto;
+	}
+}
@@ -0,0 +1,157 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gov.sandia.cf.webapp.model.entity.Model;
+import gov.sandia.cf.webapp.model.stub.EntityLock;
+
+/**
+ * The InMemoryLockStore test class.
+ *
+ * @author Didier Verstraete
+ */
+class InMemoryLockStoreTest {
+
+	private static final int THREADS = 8;
+
+	private InMemoryLockStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new InMemoryLockStore();
+	}
+
+	@Test
+	void testPutIfAbsent_ConcurrentSameEntity() throws InterruptedException, ExecutionException {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<EntityLock>> results = new ArrayList<>();
+		List<EntityLock> locks = new ArrayList<>();
+		try {
+			for (int i = 0; i < THREADS; i++) {
+				EntityLock lock = new EntityLock("token" + i, Model.class, 1L); //$NON-NLS-1$
+				locks.add(lock);
+				results.add(executor.submit(() -> {
+					start.await();
+					return store.putIfAbsent(lock);
+				}));
+			}
+			start.countDown();
+
+			// exactly one lock is stored, the others get it
+			EntityLock winner = null;
+			for (int i = 0; i < THREADS; i++) {
+				if (results.get(i).get() == null) {
+					assertNull(winner);
+					winner = locks.get(i);
+				}
+			}
+			assertNotNull(winner);
+			for (Future<EntityLock> result : results) {
+				assertTrue(result.get() == null || result.get() == winner);
+			}
+			assertEquals(winner.getToken(), store.get(Model.class, 1L).getToken());
+		} finally {
+			executor.shutdownNow();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void testPutIfAbsent_ExpiredLockReplaced() {
+		EntityLock expired = newLock("expired", 1L, LocalDateTime.now().minusSeconds(1)); //$NON-NLS-1$
+		assertNull(store.putIfAbsent(expired));
+		assertNull(store.get(Model.class, 1L));
+
+		EntityLock lock = new EntityLock("token", Model.class, 1L); //$NON-NLS-1$
+		assertNull(store.putIfAbsent(lock));
+		assertEquals("token", store.get(Model.class, 1L).getToken()); //$NON-NLS-1$
+	}
+
+	@Test
+	void testRemoveExpired_ExpirationOrder() {
+		LocalDateTime now = LocalDateTime.now();
+		assertNull(store.putIfAbsent(newLock("token3", 3L, now.plusSeconds(30)))); //$NON-NLS-1$
+		assertNull(store.putIfAbsent(newLock("token1", 1L, now.plusSeconds(10)))); //$NON-NLS-1$
+		assertNull(store.putIfAbsent(newLock("token2", 2L, now.plusSeconds(20)))); //$NON-NLS-1$
+
+		// the locks are removed by expiration date, not by insertion order
+		assertEquals(0, store.removeExpired(now.plusSeconds(5)));
+		assertEquals(1, store.removeExpired(now.plusSeconds(15)));
+		assertNull(store.get(Model.class, 1L));
+		assertNotNull(store.get(Model.class, 2L));
+		assertNotNull(store.get(Model.class, 3L));
+
+		assertEquals(1, store.removeExpired(now.plusSeconds(25)));
+		assertNull(store.get(Model.class, 2L));
+		assertNotNull(store.get(Model.class, 3L));
+
+		assertEquals(1, store.removeExpired(now.plusSeconds(35)));
+		assertNull(store.get(Model.class, 3L));
+	}
+
+	@Test
+	void testRemoveExpired_ReleasedLock() {
+		LocalDateTime now = LocalDateTime.now();
+		assertNull(store.putIfAbsent(newLock("token", 1L, now.plusSeconds(10)))); //$NON-NLS-1$
+		assertTrue(store.remove(Model.class, 1L, "token")); //$NON-NLS-1$
+
+		// a new lock of the entity is not removed with the previous expiration
+		assertNull(store.putIfAbsent(newLock("other", 1L, now.plusSeconds(30)))); //$NON-NLS-1$
+		assertEquals(0, store.removeExpired(now.plusSeconds(20)));
+		assertEquals("other", store.get(Model.class, 1L).getToken()); //$NON-NLS-1$
+	}
+
+	@Test
+	void testRenew_PushesExpiration() {
+		LocalDateTime now = LocalDateTime.now();
+		assertNull(store.putIfAbsent(newLock("token", 1L, now.plusSeconds(10)))); //$NON-NLS-1$
+
+		assertTrue(store.renew(Model.class, 1L, "token", now.plusSeconds(30))); //$NON-NLS-1$
+		assertEquals(now.plusSeconds(30), store.get(Model.class, 1L).getDateExpiration());
+
+		// the outdated expiration is ignored
+		assertEquals(0, store.removeExpired(now.plusSeconds(20)));
+		assertNotNull(store.get(Model.class, 1L));
+		assertEquals(1, store.removeExpired(now.plusSeconds(40)));
+		assertNull(store.get(Model.class, 1L));
+	}
+
+	@Test
+	void testRenew_BadTokenOrExpired() {
+		LocalDateTime now = LocalDateTime.now();
+		assertNull(store.putIfAbsent(newLock("token", 1L, now.plusSeconds(10)))); //$NON-NLS-1$
+		assertNull(store.putIfAbsent(newLock("expired", 2L, now.minusSeconds(1)))); //$NON-NLS-1$
+
+		assertFalse(store.renew(Model.class, 1L, "other", now.plusSeconds(30))); //$NON-NLS-1$
+		assertEquals(now.plusSeconds(10), store.get(Model.class, 1L).getDateExpiration());
+		assertFalse(store.renew(Model.class, 2L, "expired", now.plusSeconds(30))); //$NON-NLS-1$
+		assertFalse(store.renew(Model.class, 3L, "token", now.plusSeconds(30))); //$NON-NLS-1$
+	}
+
+	private static EntityLock newLock(String token, Long id, LocalDateTime dateExpiration) {
+		EntityLock lock = new EntityLock(token, Model.class, id);
+		lock.setDateExpiration(dateExpiration);
+		return lock;
+	}
+}
@@ -0,0 +1,202 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import gov.sandia.cf.webapp.model.entity.EntityLockRecord;
+import gov.sandia.cf.webapp.model.entity.Model;
+import gov.sandia.cf.webapp.model.stub.EntityLock;
+import gov.sandia.cf.webapp.repository.EntityLockRepository;
+
+/**
+ * The JpaLockStore test class. The ENTITY_LOCK table is replaced by a map
+ * with the same unique constraint on the entity.
+ *
+ * @author Didier Verstraete
+ */
+class JpaLockStoreTest {
+
+	private static final int THREADS = 8;
+
+	private Map<List<Object>, EntityLockRecord> table;
+	private JpaLockStore store;
+
+	@BeforeEach
+	void setUp() {
+		table = new ConcurrentHashMap<>();
+		store = new JpaLockStore(mock(PlatformTransactionManager.class));
+		ReflectionTestUtils.setField(store, "entityLockRepository", newRepository()); //$NON-NLS-1$
+	}
+
+	private EntityLockRepository newRepository() {
+		EntityLockRepository repository = mock(EntityLockRepository.class);
+
+		when(repository.saveAndFlush(any())).thenAnswer(invocation -> {
+			EntityLockRecord lockRecord = invocation.getArgument(0);
+			if (table.putIfAbsent(getKey(lockRecord.getEntityClass(), lockRecord.getEntityId()),
+					lockRecord) != null) {
+				throw new DataIntegrityViolationException("Duplicate entity lock"); //$NON-NLS-1$
+			}
+			return lockRecord;
+		});
+		when(repository.findByEntity(anyString(), anyLong()))
+				.thenAnswer(invocation -> table.get(getKey(invocation.getArgument(0), invocation.getArgument(1))));
+		when(repository.deleteByToken(anyString(), anyLong(), anyString())).thenAnswer(invocation -> {
+			List<Object> key = getKey(invocation.getArgument(0), invocation.getArgument(1));
+			EntityLockRecord lockRecord = table.get(key);
+			return lockRecord != null && lockRecord.getToken().equals(invocation.getArgument(2))
+					&& table.remove(key, lockRecord) ? 1 : 0;
+		});
+		when(repository.deleteExpired(anyString(), anyLong(), any())).thenAnswer(invocation -> {
+			List<Object> key = getKey(invocation.getArgument(0), invocation.getArgument(1));
+			EntityLockRecord lockRecord = table.get(key);
+			return lockRecord != null && lockRecord.getDateExpiration().isBefore(invocation.getArgument(2))
+					&& table.remove(key, lockRecord) ? 1 : 0;
+		});
+		when(repository.deleteAllExpired(any())).thenAnswer(invocation -> {
+			LocalDateTime date = invocation.getArgument(0);
+			List<EntityLockRecord> expired = table.values().stream()
+					.filter(lockRecord -> lockRecord.getDateExpiration().isBefore(date)).collect(Collectors.toList());
+			table.values().removeAll(expired);
+			return expired.size();
+		});
+		when(repository.renew(anyString(), anyLong(), anyString(), any(), any())).thenAnswer(invocation -> {
+			EntityLockRecord lockRecord = table.get(getKey(invocation.getArgument(0), invocation.getArgument(1)));
+			LocalDateTime date = invocation.getArgument(3);
+			if (lockRecord == null || !lockRecord.getToken().equals(invocation.getArgument(2))
+					|| lockRecord.getDateExpiration().isBefore(date)) {
+				return 0;
+			}
+			lockRecord.setDateExpiration(invocation.getArgument(4));
+			return 1;
+		});
+
+		return repository;
+	}
+
+	@Test
+	void testPutIfAbsent_ConcurrentSameEntity() throws InterruptedException, ExecutionException {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<EntityLock>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < THREADS; i++) {
+				EntityLock lock = new EntityLock("token" + i, Model.class, 1L); //$NON-NLS-1$
+				results.add(executor.submit(() -> {
+					start.await();
+					return store.putIfAbsent(lock);
+				}));
+			}
+			start.countDown();
+
+			// exactly one lock is stored, the others get it
+			int stored = 0;
+			for (Future<EntityLock> result : results) {
+				if (result.get() == null) {
+					stored++;
+				}
+			}
+			assertEquals(1, stored);
+			EntityLock winner = store.get(Model.class, 1L);
+			assertNotNull(winner);
+			for (Future<EntityLock> result : results) {
+				assertTrue(result.get() == null || winner.getToken().equals(result.get().getToken()));
+			}
+		} finally {
+			executor.shutdownNow();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void testPutIfAbsent_ExpiredLockReplaced() {
+		assertNull(store.putIfAbsent(newLock("expired", 1L, LocalDateTime.now().minusSeconds(1)))); //$NON-NLS-1$
+		assertNull(store.get(Model.class, 1L));
+
+		assertNull(store.putIfAbsent(new EntityLock("token", Model.class, 1L))); //$NON-NLS-1$
+		assertEquals("token", store.get(Model.class, 1L).getToken()); //$NON-NLS-1$
+	}
+
+	@Test
+	void testRemoveExpired_ExpirationOrder() {
+		LocalDateTime now = LocalDateTime.now();
+		assertNull(store.putIfAbsent(newLock("token3", 3L, now.plusSeconds(30)))); //$NON-NLS-1$
+		assertNull(store.putIfAbsent(newLock("token1", 1L, now.plusSeconds(10)))); //$NON-NLS-1$
+		assertNull(store.putIfAbsent(newLock("token2", 2L, now.plusSeconds(20)))); //$NON-NLS-1$
+
+		assertEquals(0, store.removeExpired(now.plusSeconds(5)));
+		assertEquals(1, store.removeExpired(now.plusSeconds(15)));
+		assertNull(store.get(Model.class, 1L));
+		assertNotNull(store.get(Model.class, 2L));
+		assertNotNull(store.get(Model.class, 3L));
+
+		assertEquals(1, store.removeExpired(now.plusSeconds(25)));
+		assertNull(store.get(Model.class, 2L));
+		assertNotNull(store.get(Model.class, 3L));
+	}
+
+	@Test
+	void testRenew_PushesExpiration() {
+		LocalDateTime now = LocalDateTime.now();
+		assertNull(store.putIfAbsent(newLock("token", 1L, now.plusSeconds(10)))); //$NON-NLS-1$
+
+		assertTrue(store.renew(Model.class, 1L, "token", now.plusSeconds(30))); //$NON-NLS-1$
+		assertEquals(now.plusSeconds(30), store.get(Model.class, 1L).getDateExpiration());
+		assertEquals(0, store.removeExpired(now.plusSeconds(20)));
+		assertNotNull(store.get(Model.class, 1L));
+
+		assertFalse(store.renew(Model.class, 1L, "other", now.plusSeconds(60))); //$NON-NLS-1$
+		assertEquals(now.plusSeconds(30), store.get(Model.class, 1L).getDateExpiration());
+	}
+
+	@Test
+	void testRemove_Token() {
+		assertNull(store.putIfAbsent(new EntityLock("token", Model.class, 1L))); //$NON-NLS-1$
+
+		assertFalse(store.remove(Model.class, 1L, "other")); //$NON-NLS-1$
+		assertNotNull(store.get(Model.class, 1L));
+		assertTrue(store.remove(Model.class, 1L, "token")); //$NON-NLS-1$
+		assertNull(store.get(Model.class, 1L));
+	}
+
+	private static List<Object> getKey(String entityClass, Long id) {
+		return Arrays.asList(entityClass, id);
+	}
+
+	private static EntityLock newLock(String token, Long id, LocalDateTime dateExpiration) {
+		EntityLock lock = new EntityLock(token, Model.class, id);
+		lock.setDateExpiration(dateExpiration);
+		return lock;
+	}
+}
@@ -0,0 +1,133 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import gov.sandia.cf.webapp.exception.LockException;
+import gov.sandia.cf.webapp.model.entity.Model;
+import gov.sandia.cf.webapp.model.stub.EntityLock;
+
+/**
+ * The LockService test class, with the in-memory lock store.
+ *
+ * @author Didier Verstraete
+ */
+class LockServiceTest {
+
+	private static final int THREADS = 8;
+
+	private InMemoryLockStore store;
+	private LockService service;
+
+	@BeforeEach
+	void setUp() {
+		store = new InMemoryLockStore();
+		service = new LockService();
+		ReflectionTestUtils.setField(service, "lockStore", store); //$NON-NLS-1$
+	}
+
+	@Test
+	void testLock_ConcurrentSameEntity() throws InterruptedException, ExecutionException {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<String>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < THREADS; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					try {
+						return service.lock(Model.class, 1L);
+					} catch (LockException e) {
+						return null;
+					}
+				}));
+			}
+			start.countDown();
+
+			// exactly one caller gets the lock
+			List<String> tokens = new ArrayList<>();
+			for (Future<String> result : results) {
+				if (result.get() != null) {
+					tokens.add(result.get());
+				}
+			}
+			assertEquals(1, tokens.size());
+			assertTrue(service.isWritable(tokens.get(0), Model.class, 1L));
+		} finally {
+			executor.shutdownNow();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void testLock_AlreadyLocked() {
+		String token = service.lock(Model.class, 1L);
+		assertThrows(LockException.class, () -> service.lock(Model.class, 1L));
+
+		// another entity can be locked
+		assertNotNull(service.lock(Model.class, 2L));
+
+		service.unlock(token, Model.class, 1L);
+		assertFalse(service.isLocked(Model.class, 1L));
+		assertNotNull(service.lock(Model.class, 1L));
+	}
+
+	@Test
+	void testUnlockMechanism_ExpiredLockRemoved() {
+		LocalDateTime now = LocalDateTime.now();
+		EntityLock expired = new EntityLock("expired", Model.class, 1L); //$NON-NLS-1$
+		expired.setDateExpiration(now.minusSeconds(1));
+		store.putIfAbsent(expired);
+		String token = service.lock(Model.class, 2L);
+
+		service.unlockMechanism();
+
+		assertFalse(service.isLocked(Model.class, 1L));
+		assertTrue(service.isWritable(token, Model.class, 2L));
+		assertNotNull(service.lock(Model.class, 1L));
+	}
+
+	@Test
+	void testRenew_PushesExpiration() {
+		LocalDateTime now = LocalDateTime.now();
+		EntityLock lock = new EntityLock("token", Model.class, 1L); //$NON-NLS-1$
+		lock.setDateExpiration(now.plusSeconds(10));
+		store.putIfAbsent(lock);
+
+		service.renew("token", Model.class, 1L); //$NON-NLS-1$
+
+		// the lock outlives its first expiration
+		assertTrue(store.get(Model.class, 1L).getDateExpiration()
+				.isAfter(now.plusSeconds(EntityLock.EXPIRATION_DELAY_SECONDS - 1)));
+		assertEquals(0, store.removeExpired(now.plusSeconds(20)));
+		assertTrue(service.isWritable("token", Model.class, 1L)); //$NON-NLS-1$
+	}
+
+	@Test
+	void testRenew_BadToken() {
+		service.lock(Model.class, 1L);
+
+		assertThrows(LockException.class, () -> service.renew("other", Model.class, 1L)); //$NON-NLS-1$
+		assertThrows(LockException.class, () -> service.renew(null, Model.class, 1L));
+	}
+}
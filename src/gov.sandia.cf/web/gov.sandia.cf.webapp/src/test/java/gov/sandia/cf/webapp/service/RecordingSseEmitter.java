@@ -0,0 +1,84 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.service;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * A sse emitter recording the sent events, without servlet response. The
+ * completion callback is called on {@link #complete()}, as the servlet
+ * container does.
+ *
+ * @author Didier Verstraete
+ */
+class RecordingSseEmitter extends SseEmitter {
+
+	private final BlockingQueue<String[]> events = new LinkedBlockingQueue<>();
+	private Runnable completionCallback;
+	private boolean completed;
+
+	@Override
+	public void send(SseEventBuilder builder) throws IOException {
+		String id = null;
+		String name = null;
+		for (DataWithMediaType data : builder.build()) {
+			for (String line : data.getData().toString().split("\n")) { //$NON-NLS-1$
+				if (line.startsWith("id:")) { //$NON-NLS-1$
+					id = line.substring(3);
+				} else if (line.startsWith("event:")) { //$NON-NLS-1$
+					name = line.substring(6);
+				}
+			}
+		}
+		events.add(new String[] { id, name });
+	}
+
+	@Override
+	public synchronized void onCompletion(Runnable callback) {
+		this.completionCallback = callback;
+	}
+
+	@Override
+	public synchronized void complete() {
+		if (!completed) {
+			completed = true;
+			if (completionCallback != null) {
+				completionCallback.run();
+			}
+		}
+	}
+
+	/**
+	 * @return true if the emitter is completed
+	 */
+	synchronized boolean isCompleted() {
+		return completed;
+	}
+
+	/**
+	 * Wait for the next sent event.
+	 *
+	 * @return the event id and name, or null after 5 seconds
+	 * @throws InterruptedException if interrupted
+	 */
+	String[] next() throws InterruptedException {
+		return events.poll(5, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Wait for the next sent event name.
+	 *
+	 * @return the event name, or null after 5 seconds
+	 * @throws InterruptedException if interrupted
+	 */
+	String nextName() throws InterruptedException {
+		String[] event = next();
+		return event != null ? event[1] : null;
+	}
+}
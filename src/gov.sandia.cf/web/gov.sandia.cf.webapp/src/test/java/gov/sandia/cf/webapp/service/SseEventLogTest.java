@@ -0,0 +1,62 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import gov.sandia.cf.webapp.model.stub.SseEvent;
+
+/**
+ * The SseEventLog test class.
+ *
+ * @author Didier Verstraete
+ */
+class SseEventLogTest {
+
+	@Test
+	void testSince_Empty() {
+		SseEventLog log = new SseEventLog(3);
+
+		Optional<List<SseEvent>> events = log.since(0);
+		assertTrue(events.isPresent());
+		assertTrue(events.get().isEmpty());
+	}
+
+	@Test
+	void testSince_EventsAfterSequence() {
+		SseEventLog log = new SseEventLog(3);
+		log.append(new SseEvent(1L, 1, "a", null)); //$NON-NLS-1$
+		log.append(new SseEvent(1L, 2, "b", null)); //$NON-NLS-1$
+		log.append(new SseEvent(1L, 3, "c", null)); //$NON-NLS-1$
+
+		assertEquals(List.of(2L, 3L), sequences(log.since(1)));
+		assertEquals(List.of(), sequences(log.since(3)));
+	}
+
+	@Test
+	void testSince_DroppedEvents() {
+		SseEventLog log = new SseEventLog(2);
+		log.append(new SseEvent(1L, 1, "a", null)); //$NON-NLS-1$
+		log.append(new SseEvent(1L, 2, "b", null)); //$NON-NLS-1$
+		log.append(new SseEvent(1L, 3, "c", null)); //$NON-NLS-1$
+
+		// the event 1 has been dropped
+		assertFalse(log.since(0).isPresent());
+		assertEquals(List.of(2L, 3L), sequences(log.since(1)));
+		assertEquals(List.of(3L), sequences(log.since(2)));
+	}
+
+	private static List<Long> sequences(Optional<List<SseEvent>> events) {
+		assertTrue(events.isPresent());
+		return events.get().stream().map(SseEvent::getSequence).collect(Collectors.toList());
+	}
+}
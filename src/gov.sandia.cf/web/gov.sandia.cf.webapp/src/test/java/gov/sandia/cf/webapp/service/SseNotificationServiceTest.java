@@ -0,0 +1,196 @@
+/*************************************************************************************************************
+See LICENSE file at <a href="https://gitlab.com/CredibilityFramework/cf/-/blob/master/LICENSE">CF LICENSE</a>}
+*************************************************************************************************************/
+package gov.sandia.cf.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * The SseNotificationService test class.
+ *
+ * @author Didier Verstraete
+ */
+class SseNotificationServiceTest {
+
+	private static final Long MODEL_ID = 1L;
+
+	private List<RecordingSseEmitter> emitters;
+	private SseNotificationService service;
+
+	@BeforeEach
+	void setUp() {
+		emitters = new ArrayList<>();
+		service = newService(SseNotificationService.RECONNECT_GRACE_PERIOD);
+	}
+
+	private SseNotificationService newService(Duration reconnectGracePeriod) {
+		return new SseNotificationService(reconnectGracePeriod) {
+			@Override
+			SseEmitter newEmitter() {
+				RecordingSseEmitter emitter = new RecordingSseEmitter();
+				emitters.add(emitter);
+				return emitter;
+			}
+		};
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void testConnect_ReplayAfterReconnect() throws InterruptedException {
+		String memberId = service.add();
+		service.subscribeToModel(MODEL_ID, memberId);
+
+		service.sendToModel(MODEL_ID, "a", null); //$NON-NLS-1$
+		String[] first = emitters.get(0).next();
+		assertEquals("a", first[1]); //$NON-NLS-1$
+
+		// the connection is lost, the events are sent meanwhile
+		emitters.get(0).complete();
+		service.sendToModel(MODEL_ID, "b", null); //$NON-NLS-1$
+		service.sendToModel(MODEL_ID, "c", null); //$NON-NLS-1$
+
+		SseEmitter emitter = service.connect(memberId, first[0]);
+		assertEquals(emitters.get(1), emitter);
+		assertEquals("b", emitters.get(1).nextName()); //$NON-NLS-1$
+		assertEquals("c", emitters.get(1).nextName()); //$NON-NLS-1$
+	}
+
+	@Test
+	void testConnect_ResyncWhenEventsDropped() throws InterruptedException {
+		String memberId = service.add();
+		service.subscribeToModel(MODEL_ID, memberId);
+
+		service.sendToModel(MODEL_ID, "first", null); //$NON-NLS-1$
+		String[] first = emitters.get(0).next();
+		emitters.get(0).complete();
+
+		for (int i = 0; i < SseNotificationService.EVENT_LOG_CAPACITY + 1; i++) {
+			service.sendToModel(MODEL_ID, "event" + i, null); //$NON-NLS-1$
+		}
+
+		service.connect(memberId, first[0]);
+		assertEquals(SseNotificationService.EVENT_RESYNC, emitters.get(1).nextName());
+	}
+
+	@Test
+	void testConnect_ResyncWithUnknownEventId() throws InterruptedException {
+		String memberId = service.add();
+
+		service.connect(memberId, "previous-server:12"); //$NON-NLS-1$
+		assertEquals(SseNotificationService.EVENT_RESYNC, emitters.get(1).nextName());
+	}
+
+	@Test
+	void testSendToModel_LogRemovedWithLastSubscriber() throws InterruptedException {
+		String memberId = service.add();
+		service.subscribeToModel(MODEL_ID, memberId);
+		service.sendToModel(MODEL_ID, "a", null); //$NON-NLS-1$
+		String[] first = emitters.get(0).next();
+
+		// the event sent without subscriber is not kept
+		service.remove(memberId);
+		service.sendToModel(MODEL_ID, "b", null); //$NON-NLS-1$
+
+		String otherId = service.add();
+		service.subscribeToModel(MODEL_ID, otherId);
+		service.connect(otherId, first[0]);
+		assertEquals(SseNotificationService.EVENT_CONNECTED, emitters.get(2).nextName());
+	}
+
+	@Test
+	void testSubscribeToModel_UnknownMember() throws InterruptedException {
+		String memberId = service.add();
+		service.connect(memberId, null);
+		String[] connected = emitters.get(0).next();
+		assertNotNull(connected[0]);
+
+		// the unknown member subscription is ignored: the event is not kept
+		service.subscribeToModel(MODEL_ID, "unknown"); //$NON-NLS-1$
+		service.sendToModel(MODEL_ID, "a", null); //$NON-NLS-1$
+
+		service.subscribeToModel(MODEL_ID, memberId);
+		service.connect(memberId, connected[0]);
+		assertEquals(SseNotificationService.EVENT_CONNECTED, emitters.get(1).nextName());
+	}
+
+	@Test
+	void testConnect_UnknownMember() {
+		assertNull(service.connect("unknown", null)); //$NON-NLS-1$
+		assertNull(service.connect(null, null));
+		assertTrue(emitters.isEmpty());
+	}
+
+	@Test
+	void testConnect_RemovedMember() {
+		String memberId = service.add();
+		service.remove(memberId);
+
+		assertTrue(emitters.get(0).isCompleted());
+		assertNull(service.connect(memberId, null));
+	}
+
+	@Test
+	void testRemoveExpiredMembers_WithinGracePeriod() throws InterruptedException {
+		String memberId = service.add();
+		service.subscribeToModel(MODEL_ID, memberId);
+		service.sendToModel(MODEL_ID, "a", null); //$NON-NLS-1$
+		String[] first = emitters.get(0).next();
+		emitters.get(0).complete();
+
+		service.removeExpiredMembers();
+
+		service.sendToModel(MODEL_ID, "b", null); //$NON-NLS-1$
+		assertNotNull(service.connect(memberId, first[0]));
+		assertEquals("b", emitters.get(1).nextName()); //$NON-NLS-1$
+	}
+
+	@Test
+	void testRemoveExpiredMembers_Connected() {
+		service.shutdown();
+		service = newService(Duration.ZERO);
+
+		String memberId = service.add();
+		service.removeExpiredMembers();
+
+		assertEquals(emitters.get(0), service.connect(memberId, null));
+		assertEquals(1, service.getMetrics().getConnectedMembers());
+	}
+
+	@Test
+	void testRemoveExpiredMembers_AfterGracePeriod() throws InterruptedException {
+		service.shutdown();
+		service = newService(Duration.ZERO);
+
+		String memberId = service.add();
+		service.subscribeToModel(MODEL_ID, memberId);
+		service.sendToModel(MODEL_ID, "a", null); //$NON-NLS-1$
+		String[] first = emitters.get(0).next();
+		emitters.get(0).complete();
+
+		service.removeExpiredMembers();
+		assertNull(service.connect(memberId, first[0]));
+
+		// the subscriptions have been removed with the member: the event is not kept
+		service.sendToModel(MODEL_ID, "b", null); //$NON-NLS-1$
+		String otherId = service.add();
+		service.subscribeToModel(MODEL_ID, otherId);
+		service.connect(otherId, first[0]);
+		assertEquals(SseNotificationService.EVENT_CONNECTED, emitters.get(2).nextName());
+	}
+}